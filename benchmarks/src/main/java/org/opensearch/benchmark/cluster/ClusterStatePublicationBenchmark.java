@@ -0,0 +1,113 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.benchmark.cluster;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.Diff;
+import org.opensearch.cluster.coordination.CompressedStreamUtils;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the work done by the cluster manager to publish a cluster state in which a single index of a large cluster
+ * changed: computing the diff against the previous state, and serializing and compressing it as sent to the followers.
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@SuppressWarnings("unused") // invoked by benchmarking framework
+public class ClusterStatePublicationBenchmark {
+
+    @Param({ "20000" })
+    public int numIndices;
+
+    @Param({ "mapping", "settings" })
+    public String update;
+
+    private ClusterState previousState;
+    private ClusterState newState;
+
+    @Setup
+    public void setUp() throws IOException {
+        Metadata.Builder metadata = Metadata.builder();
+        for (int i = 0; i < numIndices; i++) {
+            metadata.put(indexMetadata("index_" + i, mapping(10)).build(), false);
+        }
+        previousState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY)).metadata(metadata).build();
+
+        IndexMetadata updatedIndex = previousState.metadata().index("index_0");
+        IndexMetadata.Builder updatedIndexBuilder = IndexMetadata.builder(updatedIndex).version(updatedIndex.getVersion() + 1);
+        if ("mapping".equals(update)) {
+            updatedIndexBuilder.putMapping(mapping(11)).mappingVersion(updatedIndex.getMappingVersion() + 1);
+        } else {
+            updatedIndexBuilder.settings(Settings.builder().put(updatedIndex.getSettings()).put("index.refresh_interval", "30s"))
+                .settingsVersion(updatedIndex.getSettingsVersion() + 1);
+        }
+        newState = ClusterState.builder(previousState)
+            .incrementVersion()
+            .metadata(Metadata.builder(previousState.metadata()).put(updatedIndexBuilder))
+            .build();
+    }
+
+    @Benchmark
+    public BytesReference publishDiff() throws IOException {
+        Diff<ClusterState> diff = newState.diff(previousState);
+        return CompressedStreamUtils.createCompressedStream(Version.CURRENT, stream -> {
+            stream.writeBoolean(false);
+            diff.writeTo(stream);
+        });
+    }
+
+    private static IndexMetadata.Builder indexMetadata(String name, String mapping) throws IOException {
+        return IndexMetadata.builder(name)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, name)
+                    .put("index.refresh_interval", "1s")
+                    .put("index.analysis.analyzer.default.type", "standard")
+            )
+            .numberOfShards(1)
+            .numberOfReplicas(1)
+            .putMapping(mapping);
+    }
+
+    private static String mapping(int numFields) {
+        StringBuilder mapping = new StringBuilder("{\"properties\":{");
+        for (int i = 0; i < numFields; i++) {
+            if (i > 0) {
+                mapping.append(',');
+            }
+            mapping.append(String.format(Locale.ROOT, "\"field_%d\":{\"type\":\"keyword\"}", i));
+        }
+        return mapping.append("}}").toString();
+    }
+}
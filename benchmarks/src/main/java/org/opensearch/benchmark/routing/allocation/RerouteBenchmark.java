@@ -50,6 +50,10 @@ public class RerouteBenchmark {
         // indices| nodes
         "    10000|  500|", })
     public String indicesNodes = "1|1";
+
+    @Param({ "false", "true" })
+    public boolean incrementalBalance;
+
     public int numIndices;
     public int numNodes;
     public int numShards = 10;
@@ -57,6 +61,8 @@ public class RerouteBenchmark {
 
     private AllocationService allocationService;
     private ClusterState initialClusterState;
+    private AllocationService balancedAllocationService;
+    private ClusterState balancedClusterState;
 
     @Setup
     public void setUp() throws Exception {
@@ -87,19 +93,51 @@ public class RerouteBenchmark {
             .routingTable(routingTable)
             .nodes(setUpClusterNodes(numNodes))
             .build();
+
+        balancedAllocationService = createAllocationService();
+        ClusterState clusterState = allocateAll(balancedAllocationService, initialClusterState);
+        while (clusterState.getRoutingNodes().shardsWithState(INITIALIZING).isEmpty() == false) {
+            clusterState = startInitializingShardsAndReroute(balancedAllocationService, clusterState);
+        }
+        IndexMetadata newIndex = IndexMetadata.builder("test_new")
+            .settings(Settings.builder().put("index.version.created", Version.CURRENT))
+            .numberOfShards(numShards)
+            .numberOfReplicas(numReplicas)
+            .build();
+        balancedClusterState = ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).put(newIndex, false))
+            .routingTable(RoutingTable.builder(clusterState.routingTable()).addAsNew(newIndex).build())
+            .build();
     }
 
     @Benchmark
     public ClusterState measureShardAllocationEmptyCluster() throws Exception {
-        ClusterState clusterState = initialClusterState;
-        allocationService = Allocators.createAllocationService(
+        allocationService = createAllocationService();
+        return allocateAll(allocationService, initialClusterState);
+    }
+
+    /**
+     * Measures the reroute that follows the creation of an index in an allocated cluster, where the balancer reuses what
+     * it learnt in earlier reroutes if incremental balancing is enabled.
+     */
+    @Benchmark
+    public ClusterState measureRerouteAfterIndexCreation() throws Exception {
+        return balancedAllocationService.reroute(balancedClusterState, "index created");
+    }
+
+    private AllocationService createAllocationService() {
+        return Allocators.createAllocationService(
             Settings.builder()
                 .put("cluster.routing.allocation.awareness.attributes", "zone")
                 .put("cluster.routing.allocation.load_awareness.provisioned_capacity", numNodes)
                 .put("cluster.routing.allocation.load_awareness.skew_factor", "50")
                 .put("cluster.routing.allocation.node_concurrent_recoveries", "2")
+                .put("cluster.routing.allocation.balanced_shards_allocator.incremental_balance.enabled", incrementalBalance)
                 .build()
         );
+    }
+
+    private static ClusterState allocateAll(AllocationService allocationService, ClusterState clusterState) {
         clusterState = allocationService.reroute(clusterState, "reroute");
         while (clusterState.getRoutingNodes().hasUnassignedShards()) {
             clusterState = startInitializingShardsAndReroute(allocationService, clusterState);
@@ -12,9 +12,12 @@ import org.apache.lucene.store.IndexInput;
 import org.opensearch.index.store.remote.filecache.CachedIndexInput;
 import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.filecache.FileCacheFactory;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
@@ -30,11 +33,14 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Simple benchmark test of {@link FileCache}. It uses a uniform random distribution
  * of keys, which is very simple but unlikely to be representative of any real life
- * workload.
+ * workload. The {@link #scanAndHotSet} benchmark mixes reads of a hot set of files with
+ * a scan over files that are read only once, and reports the hit count of the hot set
+ * for each eviction policy.
  */
 @Warmup(iterations = 1)
 @Measurement(iterations = 1)
@@ -67,6 +73,27 @@ public class FileCacheBenchmark {
         parameters.fileCache.remove(randomKeyInCache(parameters));
     }
 
+    @Benchmark
+    public void scanAndHotSet(MixedWorkloadParameters parameters, HotSetCounters counters, Blackhole blackhole) {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        final Path key;
+        if (random.nextInt(100) < parameters.scanPercentage) {
+            key = Paths.get("scan-" + parameters.scanCounter.incrementAndGet());
+            blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+        } else {
+            key = Paths.get("hot-" + random.nextInt(parameters.hotSetSize));
+            final CachedIndexInput indexInput = parameters.fileCache.get(key);
+            if (indexInput == null) {
+                counters.hotSetMisses++;
+                blackhole.consume(parameters.fileCache.put(key, INDEX_INPUT));
+            } else {
+                counters.hotSetHits++;
+                blackhole.consume(indexInput);
+            }
+        }
+        parameters.fileCache.decRef(key);
+    }
+
     private static Path randomKeyInCache(CacheParameters parameters) {
         int i = ThreadLocalRandom.current().nextInt(parameters.maximumNumberOfEntries);
         return Paths.get(Integer.toString(i));
@@ -101,6 +128,53 @@ public class FileCacheBenchmark {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class MixedWorkloadParameters {
+        @Param({ "65536" })
+        int maximumNumberOfEntries;
+
+        @Param({ "lru", "slru" })
+        String evictionPolicy;
+
+        /** share of the reads that go to files that are read only once */
+        @Param({ "10", "50", "90" })
+        int scanPercentage;
+
+        /** the hot set takes up half of the cache */
+        int hotSetSize;
+
+        final AtomicLong scanCounter = new AtomicLong();
+
+        FileCache fileCache;
+
+        @Setup
+        public void setup() {
+            hotSetSize = maximumNumberOfEntries / 2;
+            fileCache = FileCacheFactory.createConcurrentFileCache(
+                (long) maximumNumberOfEntries * INDEX_INPUT.length(),
+                EvictionPolicy.fromString(evictionPolicy)
+            );
+            for (int i = 0; i < hotSetSize; i++) {
+                final Path key = Paths.get("hot-" + i);
+                fileCache.put(key, INDEX_INPUT);
+                fileCache.decRef(key);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HotSetCounters {
+        public long hotSetHits;
+        public long hotSetMisses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hotSetHits = 0;
+            hotSetMisses = 0;
+        }
+    }
+
     /**
      * Stubbed out IndexInput that does nothing but report a fixed size
      */
@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+
+/**
+ * Compares collecting sum, min and max of a doc values column value by value with buffering the values of the
+ * matching documents into blocks and aggregating each block with a {@link DoubleBlockKernel}.
+ */
+@Fork(value = 3)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 3, time = 1)
+@BenchmarkMode(Mode.Throughput)
+public class DoubleBlockKernelBenchmark {
+    private static final int BLOCK_SIZE = 256;
+
+    @Benchmark
+    public void perValue(Blackhole bh, Options opts) {
+        double sum = 0, compensation = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        for (int doc : opts.docs) {
+            double value = opts.values[doc];
+            // same Kahan summation as CompensatedSum
+            if (Double.isFinite(value) == false) {
+                sum += value;
+            } else if (Double.isFinite(sum)) {
+                double corrected = value - compensation;
+                double newSum = sum + corrected;
+                compensation = (newSum - sum) - corrected;
+                sum = newSum;
+            }
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        bh.consume(sum);
+        bh.consume(min);
+        bh.consume(max);
+    }
+
+    @Benchmark
+    public void block(Blackhole bh, Options opts) {
+        DoubleBlockKernel kernel = opts.kernel;
+        double[] buffer = opts.buffer;
+        double sum = 0;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        int length = 0;
+        for (int doc : opts.docs) {
+            buffer[length++] = opts.values[doc];
+            if (length == BLOCK_SIZE) {
+                sum += kernel.sum(buffer, length);
+                min = Math.min(min, kernel.min(buffer, length));
+                max = Math.max(max, kernel.max(buffer, length));
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            sum += kernel.sum(buffer, length);
+            min = Math.min(min, kernel.min(buffer, length));
+            max = Math.max(max, kernel.max(buffer, length));
+        }
+        bh.consume(sum);
+        bh.consume(min);
+        bh.consume(max);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Options {
+        @Param({ "1000000" })
+        public Integer numDocs;
+
+        @Param({ "match_all", "filtered" })
+        public String filter;
+
+        @Param({ "scalar", "vectorized" })
+        public String type;
+
+        public double[] values;
+        public int[] docs;
+        public double[] buffer;
+        public DoubleBlockKernel kernel;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(numDocs);
+            values = new double[numDocs];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = random.nextDouble() * 1000;
+            }
+
+            switch (filter) {
+                case "match_all":
+                    docs = new int[numDocs];
+                    for (int i = 0; i < docs.length; i++) {
+                        docs[i] = i;
+                    }
+                    break;
+                case "filtered": // roughly 10% of the documents match
+                    docs = random.ints(0, numDocs).limit(numDocs / 10).sorted().toArray();
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid filter: " + filter);
+            }
+
+            switch (type) {
+                case "scalar":
+                    kernel = ScalarDoubleBlockKernel.INSTANCE;
+                    break;
+                case "vectorized":
+                    kernel = VectorizedDoubleBlockKernel.INSTANCE;
+                    break;
+                default:
+                    throw new IllegalArgumentException("invalid type: " + type);
+            }
+            buffer = new double[BLOCK_SIZE];
+        }
+    }
+}
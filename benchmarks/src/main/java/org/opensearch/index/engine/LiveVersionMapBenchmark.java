@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.index.mapper.Uid;
+import org.opensearch.index.translog.Translog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for the indexing path through {@link LiveVersionMap}: acquire the uid lock, look up the current version
+ * and record the new one, with a refresh every {@code opsPerRefresh} operations. Compares the default map, which
+ * allocates a lock and several objects per document, to the packed one.
+ *
+ * Run with, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'LiveVersionMapBenchmark -p packed=false,true -t 8 -prof gc'
+ * </pre>
+ */
+@Fork(value = 1, jvmArgsAppend = { "-Xms2g", "-Xmx2g" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+@State(Scope.Benchmark)
+public class LiveVersionMapBenchmark {
+
+    @Param({ "false", "true" })
+    private boolean packed;
+
+    /** Number of distinct ids that get updated, smaller values mean more updates of documents already in the map. */
+    @Param({ "100000", "10000000" })
+    private int numIds;
+
+    @Param({ "50000" })
+    private int opsPerRefresh;
+
+    private LiveVersionMap versionMap;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        versionMap = new LiveVersionMap(packed);
+        versionMap.enforceSafeAccess();
+    }
+
+    /**
+     * Per thread id generator, so that threads don't contend on the random source.
+     */
+    @State(Scope.Thread)
+    public static class Ids {
+        private final Random random = new Random();
+
+        BytesRef next(int numIds) {
+            return Uid.encodeId(Integer.toString(random.nextInt(numIds)));
+        }
+    }
+
+    @Benchmark
+    public void indexOrUpdate(Ids ids, Blackhole bh) throws IOException {
+        final BytesRef uid = ids.next(numIds);
+        final long seq = seqNo.incrementAndGet();
+        try (Releasable ignored = versionMap.acquireLock(uid)) {
+            final VersionValue current = versionMap.getUnderLock(uid);
+            bh.consume(current);
+            final long version = current == null ? 1 : current.version + 1;
+            versionMap.putIndexUnderLock(uid, new IndexVersionValue(new Translog.Location(1, seq * 128, 128), version, seq, 1));
+        }
+        if (seq % opsPerRefresh == 0) {
+            synchronized (this) {
+                versionMap.beforeRefresh();
+                versionMap.afterRefresh(true);
+            }
+        }
+    }
+}
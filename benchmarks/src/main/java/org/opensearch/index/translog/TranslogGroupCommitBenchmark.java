@@ -0,0 +1,173 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.translog;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.util.IOUtils;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.concurrent.AsyncIOProcessor;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.node.Node;
+import org.opensearch.threadpool.ThreadPool;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Benchmark for writes with {@code index.translog.durability=request}: every operation is appended to a
+ * {@link TranslogWriter} and the writing thread waits until it has been fsynced. Compares the default mode, where one of
+ * the waiting writers is hijacked to run the fsync for everybody, to group commit, where a flusher on the translog sync
+ * thread pool runs it.
+ *
+ * Run with 8 to 64 concurrent writers, for example:
+ * <pre>
+ * ./gradlew -p benchmarks run --args 'TranslogGroupCommitBenchmark -t 32'
+ * </pre>
+ */
+@Fork(value = 1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@State(Scope.Benchmark)
+public class TranslogGroupCommitBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(TranslogGroupCommitBenchmark.class);
+
+    @Param({ "false", "true" })
+    private boolean groupCommit;
+
+    @Param({ "512" })
+    private int operationSizeBytes;
+
+    private Path translogDir;
+    private ThreadPool threadPool;
+    private TranslogWriter writer;
+    private AsyncIOProcessor<Translog.Location> processor;
+    private BytesArray operation;
+    private final AtomicLong seqNo = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void setup() throws IOException {
+        translogDir = Files.createTempDirectory("translog-group-commit-benchmark");
+        threadPool = new ThreadPool(Settings.builder().put(Node.NODE_NAME_SETTING.getKey(), "benchmark").build());
+        operation = new BytesArray(new byte[operationSizeBytes]);
+        final ShardId shardId = new ShardId("index", "_na_", 0);
+        Checkpoint.write(
+            FileChannel::open,
+            translogDir.resolve(Translog.CHECKPOINT_FILE_NAME),
+            Checkpoint.emptyTranslogCheckpoint(0, 1, SequenceNumbers.NO_OPS_PERFORMED, 1),
+            StandardOpenOption.WRITE,
+            StandardOpenOption.CREATE_NEW
+        );
+        writer = TranslogWriter.create(
+            shardId,
+            UUID.randomUUID().toString(),
+            1,
+            translogDir.resolve(Translog.getFilename(1)),
+            FileChannel::open,
+            new ByteSizeValue(1, ByteSizeUnit.MB),
+            1,
+            SequenceNumbers.NO_OPS_PERFORMED,
+            () -> SequenceNumbers.NO_OPS_PERFORMED,
+            () -> 1L,
+            1,
+            new TragicExceptionHolder(),
+            persistedSeqNo -> {},
+            BigArrays.NON_RECYCLING_INSTANCE,
+            false
+        );
+        processor = groupCommit ? newGroupCommitProcessor() : newProcessor();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        IOUtils.close(writer);
+        IOUtils.rm(translogDir);
+    }
+
+    @Benchmark
+    public void addAndSync() throws Exception {
+        final Translog.Location location = writer.add(operation, seqNo.getAndIncrement());
+        final CompletableFuture<Void> synced = new CompletableFuture<>();
+        processor.put(location, e -> {
+            if (e == null) {
+                synced.complete(null);
+            } else {
+                synced.completeExceptionally(e);
+            }
+        });
+        synced.get();
+    }
+
+    private void syncUpTo(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+        long maxOffset = 0;
+        for (Tuple<Translog.Location, Consumer<Exception>> candidate : candidates) {
+            maxOffset = Math.max(maxOffset, candidate.v1().translogLocation + candidate.v1().size);
+        }
+        writer.syncUpTo(maxOffset);
+    }
+
+    private AsyncIOProcessor<Translog.Location> newProcessor() {
+        return new AsyncIOProcessor<>(logger, 1024, threadPool.getThreadContext()) {
+            @Override
+            protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+                syncUpTo(candidates);
+            }
+        };
+    }
+
+    private AsyncIOProcessor<Translog.Location> newGroupCommitProcessor() {
+        return new BufferedAsyncIOProcessor<>(logger, 102400, threadPool.getThreadContext(), threadPool, () -> TimeValue.ZERO) {
+            @Override
+            protected void write(List<Tuple<Translog.Location, Consumer<Exception>>> candidates) throws IOException {
+                syncUpTo(candidates);
+            }
+
+            @Override
+            protected String getBufferProcessThreadPoolName() {
+                return ThreadPool.Names.TRANSLOG_SYNC;
+            }
+        };
+    }
+}
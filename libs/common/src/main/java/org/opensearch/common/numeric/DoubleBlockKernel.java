@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Aggregates a block of double values at once.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public interface DoubleBlockKernel {
+    /**
+     * Returns the compensated sum of the first {@code length} values. If the sum is infinite or NaN the result
+     * matches the one of naively adding up the values.
+     * @param values the block of values
+     * @param length the number of values to read from the block
+     * @return the sum, or {@code 0} if {@code length} is {@code 0}
+     */
+    double sum(double[] values, int length);
+
+    /**
+     * Returns the minimum of the first {@code length} values, following the semantics of {@link Math#min(double, double)}.
+     * @param values the block of values
+     * @param length the number of values to read from the block
+     * @return the minimum, or {@link Double#POSITIVE_INFINITY} if {@code length} is {@code 0}
+     */
+    double min(double[] values, int length);
+
+    /**
+     * Returns the maximum of the first {@code length} values, following the semantics of {@link Math#max(double, double)}.
+     * @param values the block of values
+     * @param length the number of values to read from the block
+     * @return the maximum, or {@link Double#NEGATIVE_INFINITY} if {@code length} is {@code 0}
+     */
+    double max(double[] values, int length);
+}
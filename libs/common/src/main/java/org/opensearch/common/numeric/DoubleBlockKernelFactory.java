@@ -0,0 +1,69 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Factory class to return the fastest available implementation of {@link DoubleBlockKernel}.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+public final class DoubleBlockKernelFactory {
+    /**
+     * Indicates whether the vectorized (SIMD) kernel is to be used.
+     * It is true when either:
+     * 1. The feature flag is set to "forced", or
+     * 2. The platform has a minimum of 4 double vector lanes and the feature flag is set to "true".
+     */
+    private static final boolean USE_VECTORIZED_KERNEL;
+
+    /**
+     * This class is initialized only when:
+     *  - JDK-20+
+     *  - jdk.incubator.vector.DoubleVector is available (--add-modules=jdk.incubator.vector is passed)
+     */
+    private static final class VectorCheck {
+        final static int SPECIES_PREFERRED = jdk.incubator.vector.DoubleVector.SPECIES_PREFERRED.length();
+    }
+
+    static {
+        String simdAggregationFeatureFlag = System.getProperty("opensearch.experimental.feature.simd.aggregation.enabled");
+        boolean useVectorizedKernel = false;
+
+        try {
+            final Class<?> incubator = Class.forName("jdk.incubator.vector.DoubleVector");
+
+            useVectorizedKernel = "forced".equalsIgnoreCase(simdAggregationFeatureFlag)
+                || (VectorCheck.SPECIES_PREFERRED >= 4 && "true".equalsIgnoreCase(simdAggregationFeatureFlag));
+
+        } catch (final ClassNotFoundException ex) {
+            /* do not use the vectorized kernel */
+        }
+
+        USE_VECTORIZED_KERNEL = useVectorizedKernel;
+    }
+
+    private DoubleBlockKernelFactory() {}
+
+    /**
+     * Returns {@code true} if {@link #create()} returns a vectorized kernel.
+     */
+    public static boolean isVectorized() {
+        return USE_VECTORIZED_KERNEL;
+    }
+
+    /**
+     * Returns the fastest available implementation of {@link DoubleBlockKernel}.
+     */
+    public static DoubleBlockKernel create() {
+        return USE_VECTORIZED_KERNEL ? VectorizedDoubleBlockKernel.INSTANCE : ScalarDoubleBlockKernel.INSTANCE;
+    }
+}
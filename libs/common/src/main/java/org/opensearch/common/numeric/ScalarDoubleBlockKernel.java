@@ -0,0 +1,56 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.opensearch.common.annotation.InternalApi;
+
+/**
+ * Aggregates blocks of double values with plain loops.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+class ScalarDoubleBlockKernel implements DoubleBlockKernel {
+    static final ScalarDoubleBlockKernel INSTANCE = new ScalarDoubleBlockKernel();
+
+    private ScalarDoubleBlockKernel() {}
+
+    @Override
+    public double sum(double[] values, int length) {
+        double plain = 0;
+        double sum = 0;
+        double compensation = 0;
+        for (int i = 0; i < length; i++) {
+            plain += values[i];
+            double corrected = values[i] - compensation;
+            double updated = sum + corrected;
+            compensation = (updated - sum) - corrected;
+            sum = updated;
+        }
+        return Double.isFinite(plain) ? sum : plain;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        double max = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < length; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+}
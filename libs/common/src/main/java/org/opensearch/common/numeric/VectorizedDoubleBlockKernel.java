@@ -0,0 +1,102 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.opensearch.common.annotation.InternalApi;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Aggregates blocks of double values with SIMD instructions. Every lane keeps its own compensated sum, and the lanes
+ * are combined with a scalar compensated sum at the end of the block.
+ *
+ * @opensearch.internal
+ */
+@InternalApi
+class VectorizedDoubleBlockKernel implements DoubleBlockKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    static final VectorizedDoubleBlockKernel INSTANCE = new VectorizedDoubleBlockKernel();
+
+    private VectorizedDoubleBlockKernel() {}
+
+    @Override
+    public double sum(double[] values, int length) {
+        final int bound = SPECIES.loopBound(length);
+        DoubleVector plain = DoubleVector.zero(SPECIES);
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        DoubleVector compensation = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            DoubleVector value = DoubleVector.fromArray(SPECIES, values, i);
+            plain = plain.add(value);
+            DoubleVector corrected = value.sub(compensation);
+            DoubleVector updated = sum.add(corrected);
+            compensation = updated.sub(sum).sub(corrected);
+            sum = updated;
+        }
+
+        double plainTotal = plain.reduceLanes(VectorOperators.ADD);
+        for (int j = i; j < length; j++) {
+            plainTotal += values[j];
+        }
+        if (Double.isFinite(plainTotal) == false) {
+            return plainTotal;
+        }
+
+        double total = 0;
+        double totalCompensation = 0;
+        for (int lane = 0; lane < LANES; lane++) {
+            double corrected = sum.lane(lane) - compensation.lane(lane) - totalCompensation;
+            double updated = total + corrected;
+            totalCompensation = (updated - total) - corrected;
+            total = updated;
+        }
+        for (; i < length; i++) {
+            double corrected = values[i] - totalCompensation;
+            double updated = total + corrected;
+            totalCompensation = (updated - total) - corrected;
+            total = updated;
+        }
+        return total;
+    }
+
+    @Override
+    public double min(double[] values, int length) {
+        final int bound = SPECIES.loopBound(length);
+        DoubleVector min = DoubleVector.broadcast(SPECIES, Double.POSITIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            min = min.lanewise(VectorOperators.MIN, DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double result = min.reduceLanes(VectorOperators.MIN);
+        for (; i < length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public double max(double[] values, int length) {
+        final int bound = SPECIES.loopBound(length);
+        DoubleVector max = DoubleVector.broadcast(SPECIES, Double.NEGATIVE_INFINITY);
+        int i = 0;
+        for (; i < bound; i += LANES) {
+            max = max.lanewise(VectorOperators.MAX, DoubleVector.fromArray(SPECIES, values, i));
+        }
+        double result = max.reduceLanes(VectorOperators.MAX);
+        for (; i < length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.numeric;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class DoubleBlockKernelTests extends OpenSearchTestCase {
+
+    public void testFactory() {
+        DoubleBlockKernel kernel = DoubleBlockKernelFactory.create();
+
+        boolean vectorized = "forced".equalsIgnoreCase(System.getProperty("opensearch.experimental.feature.simd.aggregation.enabled"));
+        assertEquals(vectorized, DoubleBlockKernelFactory.isVectorized());
+        assertEquals(vectorized ? "VectorizedDoubleBlockKernel" : "ScalarDoubleBlockKernel", kernel.getClass().getSimpleName());
+    }
+
+    public void testEmptyBlock() {
+        for (DoubleBlockKernel kernel : kernels()) {
+            double[] values = new double[randomIntBetween(0, 16)];
+            assertEquals(0d, kernel.sum(values, 0), 0d);
+            assertEquals(Double.POSITIVE_INFINITY, kernel.min(values, 0), 0d);
+            assertEquals(Double.NEGATIVE_INFINITY, kernel.max(values, 0), 0d);
+        }
+    }
+
+    public void testRandomBlocks() {
+        for (int iteration = 0; iteration < 100; iteration++) {
+            int length = randomIntBetween(1, 1024);
+            double[] values = new double[length + randomIntBetween(0, 8)];
+            double expectedMin = Double.POSITIVE_INFINITY;
+            double expectedMax = Double.NEGATIVE_INFINITY;
+            double expectedSum = 0;
+            for (int i = 0; i < values.length; i++) {
+                values[i] = randomDoubleBetween(-1_000_000, 1_000_000, true);
+                if (i < length) {
+                    expectedMin = Math.min(expectedMin, values[i]);
+                    expectedMax = Math.max(expectedMax, values[i]);
+                    expectedSum += values[i];
+                }
+            }
+            for (DoubleBlockKernel kernel : kernels()) {
+                assertEquals(expectedMin, kernel.min(values, length), 0d);
+                assertEquals(expectedMax, kernel.max(values, length), 0d);
+                assertEquals(expectedSum, kernel.sum(values, length), 1e-2);
+            }
+        }
+    }
+
+    public void testCompensatedSum() {
+        // 1 followed by many values that are too small to change a naive sum of 1
+        double[] values = new double[1001];
+        values[0] = 1;
+        for (int i = 1; i < values.length; i++) {
+            values[i] = Math.ulp(1d) / 4;
+        }
+        for (DoubleBlockKernel kernel : kernels()) {
+            assertEquals(1 + 1000 * (Math.ulp(1d) / 4), kernel.sum(values, values.length), Math.ulp(1d));
+        }
+    }
+
+    public void testNonFiniteValues() {
+        for (DoubleBlockKernel kernel : kernels()) {
+            double[] values = new double[] { 1, 2, 3, Double.POSITIVE_INFINITY, 5, 6, 7, 8, 9 };
+            assertEquals(Double.POSITIVE_INFINITY, kernel.sum(values, values.length), 0d);
+            assertEquals(Double.POSITIVE_INFINITY, kernel.max(values, values.length), 0d);
+            assertEquals(1d, kernel.min(values, values.length), 0d);
+
+            values[0] = Double.NEGATIVE_INFINITY;
+            assertTrue(Double.isNaN(kernel.sum(values, values.length)));
+
+            values[5] = Double.NaN;
+            assertTrue(Double.isNaN(kernel.min(values, values.length)));
+            assertTrue(Double.isNaN(kernel.max(values, values.length)));
+        }
+    }
+
+    private static DoubleBlockKernel[] kernels() {
+        return new DoubleBlockKernel[] { ScalarDoubleBlockKernel.INSTANCE, DoubleBlockKernelFactory.create() };
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.apache.lucene.util.ArrayUtil;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Native memory carved into fixed size blocks. Memory is allocated lazily as direct byte buffers of up to {@link #SLAB_SIZE}
+ * bytes and never returned until the arena is closed: released blocks go on a free list and are reused by later
+ * allocations, so that the cache does not churn through direct buffers, whose memory is only freed by the garbage
+ * collector. An entry is stored in as many blocks as it needs, which do not need to be contiguous, so freed memory can be
+ * reused by entries of any size.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class BlockArena {
+
+    static final int SLAB_SIZE = 1 << 20;
+
+    private final int blockSize;
+    private final int blocksPerSlab;
+    private final int maxBlocks;
+    private ByteBuffer[] slabs;
+    // number of blocks handed out from slabs at least once, all blocks beyond that are untouched
+    private int carvedBlocks;
+    private int[] freeBlocks = new int[16];
+    private int freeCount;
+
+    BlockArena(long capacityInBytes, int blockSize) {
+        if (blockSize <= 0 || blockSize > SLAB_SIZE) {
+            throw new IllegalArgumentException("block size must be in (0, " + SLAB_SIZE + "] but was [" + blockSize + "]");
+        }
+        this.blockSize = blockSize;
+        this.blocksPerSlab = SLAB_SIZE / blockSize;
+        this.maxBlocks = (int) Math.max(1, Math.min(capacityInBytes / blockSize, Integer.MAX_VALUE - blocksPerSlab));
+        this.slabs = new ByteBuffer[(maxBlocks + blocksPerSlab - 1) / blocksPerSlab];
+    }
+
+    int blockSize() {
+        return blockSize;
+    }
+
+    int maxBlocks() {
+        return maxBlocks;
+    }
+
+    int availableBlocks() {
+        return freeCount + (maxBlocks - carvedBlocks);
+    }
+
+    /**
+     * Returns the number of blocks needed to store the given number of bytes.
+     */
+    int blocksFor(long bytes) {
+        return (int) Math.min(Integer.MAX_VALUE, (bytes + blockSize - 1) / blockSize);
+    }
+
+    long allocatedBytes() {
+        long bytes = 0;
+        for (ByteBuffer slab : slabs) {
+            if (slab != null) {
+                bytes += slab.capacity();
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Allocates the given number of blocks, the caller must have made sure that enough blocks are {@link #availableBlocks()}.
+     */
+    int[] allocate(int count) {
+        assert count <= availableBlocks() : count + " > " + availableBlocks();
+        final int[] blocks = new int[count];
+        for (int i = 0; i < count; i++) {
+            if (freeCount > 0) {
+                blocks[i] = freeBlocks[--freeCount];
+            } else {
+                final int block = carvedBlocks++;
+                final int slab = block / blocksPerSlab;
+                if (slabs[slab] == null) {
+                    // the last slab is cut short so that the arena never exceeds its capacity
+                    final int slabBlocks = Math.min(blocksPerSlab, maxBlocks - slab * blocksPerSlab);
+                    slabs[slab] = ByteBuffer.allocateDirect(slabBlocks * blockSize);
+                }
+                blocks[i] = block;
+            }
+        }
+        return blocks;
+    }
+
+    void release(int[] blocks) {
+        freeBlocks = ArrayUtil.grow(freeBlocks, freeCount + blocks.length);
+        System.arraycopy(blocks, 0, freeBlocks, freeCount, blocks.length);
+        freeCount += blocks.length;
+    }
+
+    /**
+     * Writes the concatenation of {@code first} and {@code second} into the given blocks.
+     */
+    void write(int[] blocks, byte[] first, byte[] second) {
+        int position = 0;
+        position = write(blocks, position, first);
+        write(blocks, position, second);
+    }
+
+    private int write(int[] blocks, int position, byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            final int block = blocks[position / blockSize];
+            final int inBlock = position % blockSize;
+            final int length = Math.min(blockSize - inBlock, bytes.length - offset);
+            slabs[block / blocksPerSlab].put((block % blocksPerSlab) * blockSize + inBlock, bytes, offset, length);
+            offset += length;
+            position += length;
+        }
+        return position;
+    }
+
+    /**
+     * Reads {@code length} bytes starting at {@code position} of the data stored in the given blocks.
+     */
+    byte[] read(int[] blocks, int position, int length) {
+        final byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            final int block = blocks[position / blockSize];
+            final int inBlock = position % blockSize;
+            final int chunk = Math.min(blockSize - inBlock, length - offset);
+            slabs[block / blocksPerSlab].get((block % blocksPerSlab) * blockSize + inBlock, bytes, offset, chunk);
+            offset += chunk;
+            position += chunk;
+        }
+        return bytes;
+    }
+
+    /**
+     * Marks all blocks as free, keeping the slabs around for reuse.
+     */
+    void clear() {
+        freeCount = 0;
+        carvedBlocks = 0;
+    }
+
+    /**
+     * Drops all slabs, their memory is freed once they are garbage collected.
+     */
+    void close() {
+        clear();
+        slabs = new ByteBuffer[slabs.length];
+    }
+}
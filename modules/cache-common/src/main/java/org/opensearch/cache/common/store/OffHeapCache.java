@@ -0,0 +1,753 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.apache.lucene.util.StringHelper;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.FrequencySketch;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.ICacheKeySerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.CacheStatsHolder;
+import org.opensearch.common.cache.stats.DefaultCacheStatsHolder;
+import org.opensearch.common.cache.stats.ImmutableCacheStatsHolder;
+import org.opensearch.common.cache.stats.NoopCacheStatsHolder;
+import org.opensearch.common.cache.store.builders.ICacheBuilder;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToLongBiFunction;
+
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.ADMISSION_ENABLED_KEY;
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.BLOCK_SIZE_KEY;
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY;
+import static org.opensearch.cache.common.store.OffHeapCacheSettings.SEGMENTS_KEY;
+
+/**
+ * A cache that keeps its keys and values serialized in native memory, so that large amounts of cached data neither add to
+ * the heap nor to garbage collection work, and without the file system round trips of a disk tier. It can be used on its
+ * own or as the lower tier of a TieredSpilloverCache, in place of a disk cache.
+ * <p>
+ * Entries are spread over independently locked segments by the hash of their serialized key. Each segment stores its
+ * entries in a {@link BlockArena} and only keeps a small record per entry on heap. Eviction is segmented LRU: new entries
+ * start on a probationary list and move to a protected list, which holds up to {@link #PROTECTED_RATIO} of the blocks, once
+ * they are hit again, so that a burst of one-off entries can't flush out the entries that are actually reused. Optionally, a
+ * TinyLFU {@link FrequencySketch} also guards admission: an entry that needs others to be evicted is only let in if it has
+ * been requested more often than all of them, otherwise it is reported as evicted right away.
+ * <p>
+ * Expire after access is not supported.
+ *
+ * @param <K> Type of key.
+ * @param <V> Type of value.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class OffHeapCache<K, V> implements ICache<K, V> {
+
+    /**
+     * Share of a segment's blocks that may be used by entries that were hit at least once since they were put.
+     */
+    static final double PROTECTED_RATIO = 0.8;
+
+    private final Segment[] segments;
+    private final ICacheKeySerializer<K> keySerializer;
+    private final Serializer<V, byte[]> valueSerializer;
+    private final RemovalListener<ICacheKey<K>, V> removalListener;
+    private final ToLongBiFunction<ICacheKey<K>, V> weigher;
+    private final CacheStatsHolder cacheStatsHolder;
+    private final long maximumWeight;
+
+    /**
+     * Used in computeIfAbsent to make sure a given key is only loaded once at a time.
+     */
+    private final Map<ICacheKey<K>, CompletableFuture<V>> pendingLoads = new ConcurrentHashMap<>();
+
+    OffHeapCache(Builder<K, V> builder) {
+        this.keySerializer = new ICacheKeySerializer<>(Objects.requireNonNull(builder.keySerializer, "Key serializer can't be null"));
+        this.valueSerializer = Objects.requireNonNull(builder.valueSerializer, "Value serializer can't be null");
+        this.removalListener = Objects.requireNonNull(builder.getRemovalListener(), "Removal listener can't be null");
+        this.weigher = Objects.requireNonNull(builder.getWeigher(), "Weigher can't be null");
+        List<String> dimensionNames = Objects.requireNonNull(builder.dimensionNames, "Dimension names can't be null");
+        if (builder.getStatsTrackingEnabled()) {
+            this.cacheStatsHolder = new DefaultCacheStatsHolder(dimensionNames, OffHeapCacheFactory.NAME);
+        } else {
+            this.cacheStatsHolder = NoopCacheStatsHolder.getInstance();
+        }
+        this.maximumWeight = builder.getMaxWeightInBytes();
+        final int segmentCount = Math.max(1, builder.getNumberOfSegments());
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(new BlockArena(maximumWeight / segmentCount, builder.blockSize), builder.admissionEnabled);
+        }
+    }
+
+    // pkg-private for testing
+    long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // pkg-private for testing
+    long allocatedBytes() {
+        long bytes = 0;
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                bytes += segment.arena.allocatedBytes();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return bytes;
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private static int hash(byte[] serializedKey) {
+        return StringHelper.murmurhash3_x86_32(serializedKey, 0, serializedKey.length, 0);
+    }
+
+    @Override
+    public V get(ICacheKey<K> key) {
+        final V value = getWithoutStats(key);
+        if (value != null) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V getWithoutStats(ICacheKey<K> key) {
+        if (key == null) {
+            throw new IllegalArgumentException("Key passed to off-heap cache was null.");
+        }
+        final byte[] serializedKey = keySerializer.serialize(key);
+        final int hash = hash(serializedKey);
+        final byte[] serializedValue = segmentFor(hash).get(hash, serializedKey);
+        return serializedValue == null ? null : valueSerializer.deserialize(serializedValue);
+    }
+
+    @Override
+    public void put(ICacheKey<K> key, V value) {
+        final byte[] serializedKey = keySerializer.serialize(key);
+        final byte[] serializedValue = valueSerializer.serialize(value);
+        final int hash = hash(serializedKey);
+        final List<Removal> removals = new ArrayList<>();
+        final boolean admitted = segmentFor(hash).put(hash, serializedKey, serializedValue, removals);
+        if (admitted) {
+            cacheStatsHolder.incrementItems(key.dimensions);
+            cacheStatsHolder.incrementSizeInBytes(key.dimensions, weigher.applyAsLong(key, value));
+        }
+        notifyRemovals(removals);
+        if (admitted == false) {
+            // the entry never made it into the cache, which to the caller is the same as being evicted right away
+            removalListener.onRemoval(new RemovalNotification<>(key, value, RemovalReason.CAPACITY));
+            cacheStatsHolder.incrementEvictions(key.dimensions);
+        }
+    }
+
+    @Override
+    public V computeIfAbsent(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        V value = getWithoutStats(key);
+        if (value == null) {
+            value = compute(key, loader);
+        }
+        if (loader.isLoaded() == false) {
+            cacheStatsHolder.incrementHits(key.dimensions);
+        } else {
+            cacheStatsHolder.incrementMisses(key.dimensions);
+        }
+        return value;
+    }
+
+    private V compute(ICacheKey<K> key, LoadAwareCacheLoader<ICacheKey<K>, V> loader) throws Exception {
+        final CompletableFuture<V> future = new CompletableFuture<>();
+        final CompletableFuture<V> existing = pendingLoads.putIfAbsent(key, future);
+        if (existing != null) {
+            // another thread is loading this key, share its result
+            return existing.get();
+        }
+        try {
+            final V value = loader.load(key);
+            if (value == null) {
+                throw new NullPointerException("loader returned a null value");
+            }
+            put(key, value);
+            future.complete(value);
+            return value;
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+            throw new ExecutionException(e);
+        } finally {
+            pendingLoads.remove(key, future);
+        }
+    }
+
+    @Override
+    public void invalidate(ICacheKey<K> key) {
+        if (key.getDropStatsForDimensions()) {
+            cacheStatsHolder.removeDimensions(key.dimensions);
+        }
+        if (key.key != null) {
+            final byte[] serializedKey = keySerializer.serialize(key);
+            final int hash = hash(serializedKey);
+            final Removal removal = segmentFor(hash).remove(hash, serializedKey);
+            if (removal != null) {
+                notifyRemovals(List.of(removal));
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        final List<Removal> removals = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.clear(removals, true);
+        }
+        notifyRemovals(removals);
+        cacheStatsHolder.reset();
+    }
+
+    /**
+     * Returns a point-in-time copy of the keys in the cache. The copy is unmodifiable, use {@link #invalidate(ICacheKey)} to
+     * remove entries.
+     */
+    @Override
+    public Iterable<ICacheKey<K>> keys() {
+        final List<byte[]> serializedKeys = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.collectKeys(serializedKeys);
+        }
+        final List<ICacheKey<K>> keys = new ArrayList<>(serializedKeys.size());
+        for (byte[] serializedKey : serializedKeys) {
+            keys.add(keySerializer.deserialize(serializedKey));
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public long count() {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.size();
+        }
+        return count;
+    }
+
+    @Override
+    public void refresh() {
+        // nothing to do, entries don't expire
+    }
+
+    /**
+     * Drops all entries without notifying the removal listener and releases the native memory.
+     */
+    @Override
+    public void close() {
+        for (Segment segment : segments) {
+            segment.close();
+        }
+    }
+
+    @Override
+    public ImmutableCacheStatsHolder stats(String[] levels) {
+        return cacheStatsHolder.getImmutableCacheStatsHolder(levels);
+    }
+
+    private void notifyRemovals(List<Removal> removals) {
+        for (Removal removal : removals) {
+            final ICacheKey<K> key = keySerializer.deserialize(removal.key);
+            final V value = valueSerializer.deserialize(removal.value);
+            removalListener.onRemoval(new RemovalNotification<>(key, value, removal.reason));
+            cacheStatsHolder.decrementItems(key.dimensions);
+            cacheStatsHolder.decrementSizeInBytes(key.dimensions, weigher.applyAsLong(key, value));
+            if (removal.reason == RemovalReason.CAPACITY) {
+                cacheStatsHolder.incrementEvictions(key.dimensions);
+            }
+        }
+    }
+
+    /**
+     * An entry that left the cache, copied out of native memory so that the removal listener can be notified once the
+     * segment lock is released.
+     */
+    private static final class Removal {
+        final byte[] key;
+        final byte[] value;
+        final RemovalReason reason;
+
+        Removal(byte[] key, byte[] value, RemovalReason reason) {
+            this.key = key;
+            this.value = value;
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * The on-heap record of an entry, which is linked both into its hash bucket and into one of the two LRU lists.
+     */
+    private static final class Entry {
+        final int hash;
+        final int keyLength;
+        final int valueLength;
+        final int[] blocks;
+        Entry nextInBucket;
+        Entry prev;
+        Entry next;
+        boolean isProtected;
+
+        Entry(int hash, int keyLength, int valueLength, int[] blocks) {
+            this.hash = hash;
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.blocks = blocks;
+        }
+    }
+
+    /**
+     * A part of the cache with its own lock, arena, hash table and LRU lists.
+     */
+    private static final class Segment {
+        private static final int INITIAL_TABLE_SIZE = 16;
+
+        final ReentrantLock lock = new ReentrantLock();
+        final BlockArena arena;
+        private final FrequencySketch sketch;
+        private final long maxProtectedBlocks;
+        // sentinels of the circular probationary and protected LRU lists, most recently used first
+        private final Entry probation = newSentinel();
+        private final Entry protectedEntries = newSentinel();
+        private long protectedBlocks;
+        private Entry[] table = new Entry[INITIAL_TABLE_SIZE];
+        private int size;
+
+        Segment(BlockArena arena, boolean admissionEnabled) {
+            this.arena = arena;
+            // assume entries take four blocks on average to size the sketch
+            this.sketch = admissionEnabled ? new FrequencySketch(Math.max(1, arena.maxBlocks() / 4)) : null;
+            this.maxProtectedBlocks = (long) (arena.maxBlocks() * PROTECTED_RATIO);
+        }
+
+        private static Entry newSentinel() {
+            final Entry sentinel = new Entry(0, 0, 0, null);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        int size() {
+            lock.lock();
+            try {
+                return size;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] get(int hash, byte[] serializedKey) {
+            lock.lock();
+            try {
+                if (sketch != null) {
+                    sketch.increment(hash);
+                }
+                final Entry entry = find(hash, serializedKey);
+                if (entry == null) {
+                    return null;
+                }
+                onHit(entry);
+                return arena.read(entry.blocks, entry.keyLength, entry.valueLength);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Puts the entry, evicting others if needed. Returns {@code false} if the entry was not admitted, because it is larger
+         * than the segment or less popular than the entries it would have to evict. A previous value of the key is removed either
+         * way, as {@link RemovalReason#REPLACED} if the entry was admitted and as {@link RemovalReason#INVALIDATED} otherwise.
+         */
+        boolean put(int hash, byte[] serializedKey, byte[] serializedValue, List<Removal> removals) {
+            final int needed = arena.blocksFor((long) serializedKey.length + serializedValue.length);
+            lock.lock();
+            try {
+                if (sketch != null) {
+                    sketch.increment(hash);
+                }
+                final Entry existing = find(hash, serializedKey);
+                final int replaced = existing == null ? -1 : removals.size();
+                if (existing != null) {
+                    removals.add(unlink(existing, RemovalReason.REPLACED));
+                }
+                if (needed > arena.maxBlocks() || makeRoom(hash, needed, removals) == false) {
+                    if (replaced >= 0) {
+                        // the stale value is dropped all the same, but no new value takes its place
+                        final Removal removal = removals.get(replaced);
+                        removals.set(replaced, new Removal(removal.key, removal.value, RemovalReason.INVALIDATED));
+                    }
+                    return false;
+                }
+                final Entry entry = new Entry(hash, serializedKey.length, serializedValue.length, arena.allocate(needed));
+                arena.write(entry.blocks, serializedKey, serializedValue);
+                link(entry);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Removal remove(int hash, byte[] serializedKey) {
+            lock.lock();
+            try {
+                final Entry entry = find(hash, serializedKey);
+                return entry == null ? null : unlink(entry, RemovalReason.INVALIDATED);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void clear(List<Removal> removals, boolean notify) {
+            lock.lock();
+            try {
+                if (notify) {
+                    for (Entry sentinel : List.of(probation, protectedEntries)) {
+                        for (Entry e = sentinel.next; e != sentinel; e = e.next) {
+                            removals.add(copy(e, RemovalReason.INVALIDATED));
+                        }
+                    }
+                }
+                table = new Entry[INITIAL_TABLE_SIZE];
+                size = 0;
+                protectedBlocks = 0;
+                probation.prev = probation.next = probation;
+                protectedEntries.prev = protectedEntries.next = protectedEntries;
+                arena.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void close() {
+            lock.lock();
+            try {
+                clear(Collections.emptyList(), false);
+                arena.close();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collectKeys(List<byte[]> keys) {
+            lock.lock();
+            try {
+                for (Entry bucket : table) {
+                    for (Entry e = bucket; e != null; e = e.nextInBucket) {
+                        keys.add(arena.read(e.blocks, 0, e.keyLength));
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Evicts entries until the given number of blocks is available. If admission is enabled, nothing is evicted and
+         * {@code false} is returned unless the candidate is more popular than every entry that would have to go.
+         */
+        private boolean makeRoom(int hash, int needed, List<Removal> removals) {
+            if (arena.availableBlocks() >= needed) {
+                return true;
+            }
+            if (sketch != null) {
+                final int candidateFrequency = sketch.frequency(hash);
+                long freed = arena.availableBlocks();
+                for (Entry victim = nextVictim(null); freed < needed; victim = nextVictim(victim)) {
+                    if (sketch.frequency(victim.hash) >= candidateFrequency) {
+                        return false;
+                    }
+                    freed += victim.blocks.length;
+                }
+            }
+            while (arena.availableBlocks() < needed) {
+                removals.add(unlink(nextVictim(null), RemovalReason.CAPACITY));
+            }
+            return true;
+        }
+
+        /**
+         * Returns the entry that is evicted after the given one, or the first entry to evict if {@code previous} is null:
+         * probationary entries from least to most recently used, then protected ones.
+         */
+        private Entry nextVictim(Entry previous) {
+            if (previous == null) {
+                return probation.prev != probation ? probation.prev : protectedEntries.prev;
+            }
+            if (previous.prev != probation && previous.prev != protectedEntries) {
+                return previous.prev;
+            }
+            assert previous.prev == probation : "ran out of entries to evict";
+            return protectedEntries.prev;
+        }
+
+        private void onHit(Entry entry) {
+            removeFromList(entry);
+            if (entry.isProtected == false) {
+                entry.isProtected = true;
+                protectedBlocks += entry.blocks.length;
+            }
+            addFirst(protectedEntries, entry);
+            // demote the least recently used protected entries back to probation so that they can be evicted again
+            while (protectedBlocks > maxProtectedBlocks && protectedEntries.prev != entry) {
+                final Entry demoted = protectedEntries.prev;
+                removeFromList(demoted);
+                demoted.isProtected = false;
+                protectedBlocks -= demoted.blocks.length;
+                addFirst(probation, demoted);
+            }
+        }
+
+        private Entry find(int hash, byte[] serializedKey) {
+            for (Entry e = table[hash & (table.length - 1)]; e != null; e = e.nextInBucket) {
+                if (e.hash == hash
+                    && e.keyLength == serializedKey.length
+                    && Arrays.equals(arena.read(e.blocks, 0, e.keyLength), serializedKey)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        private void link(Entry entry) {
+            if (size >= table.length - (table.length >>> 2)) {
+                resize();
+            }
+            final int bucket = entry.hash & (table.length - 1);
+            entry.nextInBucket = table[bucket];
+            table[bucket] = entry;
+            addFirst(probation, entry);
+            size++;
+        }
+
+        private Removal unlink(Entry entry, RemovalReason reason) {
+            final Removal removal = copy(entry, reason);
+            final int bucket = entry.hash & (table.length - 1);
+            if (table[bucket] == entry) {
+                table[bucket] = entry.nextInBucket;
+            } else {
+                Entry e = table[bucket];
+                while (e.nextInBucket != entry) {
+                    e = e.nextInBucket;
+                }
+                e.nextInBucket = entry.nextInBucket;
+            }
+            removeFromList(entry);
+            if (entry.isProtected) {
+                protectedBlocks -= entry.blocks.length;
+            }
+            arena.release(entry.blocks);
+            size--;
+            return removal;
+        }
+
+        private Removal copy(Entry entry, RemovalReason reason) {
+            return new Removal(
+                arena.read(entry.blocks, 0, entry.keyLength),
+                arena.read(entry.blocks, entry.keyLength, entry.valueLength),
+                reason
+            );
+        }
+
+        private void resize() {
+            final Entry[] oldTable = table;
+            table = new Entry[oldTable.length << 1];
+            for (Entry bucket : oldTable) {
+                Entry e = bucket;
+                while (e != null) {
+                    final Entry next = e.nextInBucket;
+                    final int index = e.hash & (table.length - 1);
+                    e.nextInBucket = table[index];
+                    table[index] = e;
+                    e = next;
+                }
+            }
+        }
+
+        private static void addFirst(Entry sentinel, Entry entry) {
+            entry.prev = sentinel;
+            entry.next = sentinel.next;
+            sentinel.next.prev = entry;
+            sentinel.next = entry;
+        }
+
+        private static void removeFromList(Entry entry) {
+            entry.prev.next = entry.next;
+            entry.next.prev = entry.prev;
+            entry.prev = null;
+            entry.next = null;
+        }
+    }
+
+    /**
+     * Factory to create off-heap caches.
+     */
+    public static class OffHeapCacheFactory implements ICache.Factory {
+
+        /**
+         * Off-heap cache name.
+         */
+        public static final String NAME = "opensearch_offheap";
+
+        /**
+         * Default constructor.
+         */
+        public OffHeapCacheFactory() {}
+
+        @Override
+        @SuppressWarnings({ "unchecked" }) // Required to ensure the serializers output byte[]
+        public <K, V> ICache<K, V> create(CacheConfig<K, V> config, CacheType cacheType, Map<String, Factory> cacheFactories) {
+            Map<String, Setting<?>> settingList = OffHeapCacheSettings.getSettingListForCacheType(cacheType);
+            Settings settings = config.getSettings();
+
+            Serializer<K, byte[]> keySerializer;
+            try {
+                keySerializer = (Serializer<K, byte[]>) config.getKeySerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OffHeapCache requires a key serializer of type Serializer<K, byte[]>");
+            }
+            Serializer<V, byte[]> valueSerializer;
+            try {
+                valueSerializer = (Serializer<V, byte[]>) config.getValueSerializer();
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException("OffHeapCache requires a value serializer of type Serializer<V, byte[]>");
+            }
+
+            Builder<K, V> builder = new Builder<K, V>().setKeySerializer(keySerializer)
+                .setValueSerializer(valueSerializer)
+                .setDimensionNames(config.getDimensionNames())
+                .setBlockSize((int) ((ByteSizeValue) settingList.get(BLOCK_SIZE_KEY).get(settings)).getBytes())
+                .setAdmissionEnabled((Boolean) settingList.get(ADMISSION_ENABLED_KEY).get(settings));
+            builder.setStatsTrackingEnabled(config.getStatsTrackingEnabled())
+                .setWeigher(config.getWeigher())
+                .setRemovalListener(config.getRemovalListener())
+                .setSettings(settings);
+
+            // Use the cache config values if present, they are passed down from the TieredSpilloverCache.
+            if (config.getMaxSizeInBytes() > 0) {
+                builder.setMaximumWeightInBytes(config.getMaxSizeInBytes());
+            } else {
+                builder.setMaximumWeightInBytes(((ByteSizeValue) settingList.get(MAXIMUM_SIZE_IN_BYTES_KEY).get(settings)).getBytes());
+            }
+            if (config.getSegmentCount() > 0) {
+                builder.setNumberOfSegments(config.getSegmentCount());
+            } else {
+                builder.setNumberOfSegments((Integer) settingList.get(SEGMENTS_KEY).get(settings));
+            }
+            return builder.build();
+        }
+
+        @Override
+        public String getCacheName() {
+            return NAME;
+        }
+    }
+
+    /**
+     * Builder object to build an off-heap cache.
+     * @param <K> Type of key
+     * @param <V> Type of value
+     */
+    public static class Builder<K, V> extends ICacheBuilder<K, V> {
+
+        private List<String> dimensionNames;
+        private Serializer<K, byte[]> keySerializer;
+        private Serializer<V, byte[]> valueSerializer;
+        private int blockSize = 1024;
+        private boolean admissionEnabled = true;
+
+        /**
+         * Default constructor. Added to fix javadocs.
+         */
+        public Builder() {}
+
+        /**
+         * Sets the dimension names used for stats.
+         * @param dimensionNames dimension names
+         * @return builder
+         */
+        public Builder<K, V> setDimensionNames(List<String> dimensionNames) {
+            this.dimensionNames = dimensionNames;
+            return this;
+        }
+
+        /**
+         * Sets the key serializer.
+         * @param keySerializer key serializer
+         * @return builder
+         */
+        public Builder<K, V> setKeySerializer(Serializer<K, byte[]> keySerializer) {
+            this.keySerializer = keySerializer;
+            return this;
+        }
+
+        /**
+         * Sets the value serializer.
+         * @param valueSerializer value serializer
+         * @return builder
+         */
+        public Builder<K, V> setValueSerializer(Serializer<V, byte[]> valueSerializer) {
+            this.valueSerializer = valueSerializer;
+            return this;
+        }
+
+        /**
+         * Sets the size of the blocks entries are stored in.
+         * @param blockSize block size in bytes
+         * @return builder
+         */
+        public Builder<K, V> setBlockSize(int blockSize) {
+            this.blockSize = blockSize;
+            return this;
+        }
+
+        /**
+         * Sets whether TinyLFU admission is enabled.
+         * @param admissionEnabled whether admission is enabled
+         * @return builder
+         */
+        public Builder<K, V> setAdmissionEnabled(boolean admissionEnabled) {
+            this.admissionEnabled = admissionEnabled;
+            return this;
+        }
+
+        @Override
+        public OffHeapCache<K, V> build() {
+            return new OffHeapCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.settings.Setting;
+import org.opensearch.core.common.unit.ByteSizeUnit;
+import org.opensearch.core.common.unit.ByteSizeValue;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.common.settings.Setting.Property.NodeScope;
+
+/**
+ * Settings related to the off-heap cache.
+ */
+public class OffHeapCacheSettings {
+
+    /**
+     * Maximum number of bytes of native memory the cache may use for serialized keys and values. Memory is reserved
+     * lazily, one slab at a time, and counts against {@code -XX:MaxDirectMemorySize}. If this cache is used as a tier in
+     * a TieredSpilloverCache, this setting is ignored.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> MAXIMUM_SIZE_IN_BYTES_SETTING = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".size",
+        (key) -> Setting.byteSizeSetting(key, new ByteSizeValue(1, ByteSizeUnit.GB), NodeScope)
+    );
+
+    /**
+     * Size of the blocks that entries are stored in. Each entry takes up a whole number of blocks, so smaller blocks waste
+     * less memory on small entries, at the expense of more bookkeeping for large ones.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.block_size
+     */
+    public static final Setting.AffixSetting<ByteSizeValue> BLOCK_SIZE_SETTING = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".block_size",
+        (key) -> Setting.byteSizeSetting(
+            key,
+            new ByteSizeValue(1, ByteSizeUnit.KB),
+            new ByteSizeValue(64, ByteSizeUnit.BYTES),
+            new ByteSizeValue(64, ByteSizeUnit.KB),
+            NodeScope
+        )
+    );
+
+    /**
+     * Number of independently locked segments of the cache. If this cache is used as a tier in a TieredSpilloverCache,
+     * this setting is ignored and each tiered cache segment gets its own off-heap cache.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.segments
+     */
+    public static final Setting.AffixSetting<Integer> SEGMENTS_SETTING = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".segments",
+        (key) -> Setting.intSetting(key, 16, 1, 256, NodeScope)
+    );
+
+    /**
+     * Whether a new entry that needs other entries to be evicted is only admitted if it has been requested more often
+     * recently than the entries it would evict (TinyLFU). Rejected entries are reported to the removal listener as if they
+     * had been evicted right away.
+     *
+     * Setting pattern: {cache_type}.opensearch_offheap.admission.enabled
+     */
+    public static final Setting.AffixSetting<Boolean> ADMISSION_ENABLED_SETTING = Setting.suffixKeySetting(
+        OffHeapCache.OffHeapCacheFactory.NAME + ".admission.enabled",
+        (key) -> Setting.boolSetting(key, true, NodeScope)
+    );
+
+    /**
+     * Key for maximum size setting.
+     */
+    public static final String MAXIMUM_SIZE_IN_BYTES_KEY = "maximum_size_in_bytes";
+
+    /**
+     * Key for block size setting.
+     */
+    public static final String BLOCK_SIZE_KEY = "block_size";
+
+    /**
+     * Key for segments setting.
+     */
+    public static final String SEGMENTS_KEY = "segments";
+
+    /**
+     * Key for admission setting.
+     */
+    public static final String ADMISSION_ENABLED_KEY = "admission_enabled";
+
+    private static final Map<String, Setting.AffixSetting<?>> KEY_SETTING_MAP = Map.of(
+        MAXIMUM_SIZE_IN_BYTES_KEY,
+        MAXIMUM_SIZE_IN_BYTES_SETTING,
+        BLOCK_SIZE_KEY,
+        BLOCK_SIZE_SETTING,
+        SEGMENTS_KEY,
+        SEGMENTS_SETTING,
+        ADMISSION_ENABLED_KEY,
+        ADMISSION_ENABLED_SETTING
+    );
+
+    /**
+     * Map of cache type to its concrete settings.
+     */
+    public static final Map<CacheType, Map<String, Setting<?>>> CACHE_TYPE_MAP = getCacheTypeMap();
+
+    private static Map<CacheType, Map<String, Setting<?>>> getCacheTypeMap() {
+        Map<CacheType, Map<String, Setting<?>>> cacheTypeMap = new HashMap<>();
+        for (CacheType cacheType : CacheType.values()) {
+            Map<String, Setting<?>> settingMap = new HashMap<>();
+            for (Map.Entry<String, Setting.AffixSetting<?>> entry : KEY_SETTING_MAP.entrySet()) {
+                settingMap.put(entry.getKey(), entry.getValue().getConcreteSettingForNamespace(cacheType.getSettingPrefix()));
+            }
+            cacheTypeMap.put(cacheType, settingMap);
+        }
+        return cacheTypeMap;
+    }
+
+    /**
+     * Fetches setting list for a combination of cache type and store name.
+     * @param cacheType cache type
+     * @return settings
+     */
+    public static Map<String, Setting<?>> getSettingListForCacheType(CacheType cacheType) {
+        Map<String, Setting<?>> cacheTypeSettings = CACHE_TYPE_MAP.get(cacheType);
+        if (cacheTypeSettings == null) {
+            throw new IllegalArgumentException(
+                "No settings exist for cache store name: "
+                    + OffHeapCache.OffHeapCacheFactory.NAME
+                    + " associated with cache type: "
+                    + cacheType
+            );
+        }
+        return cacheTypeSettings;
+    }
+
+    /**
+     * Default constructor. Added to fix javadocs.
+     */
+    public OffHeapCacheSettings() {}
+}
@@ -0,0 +1,405 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cache.common.store;
+
+import org.opensearch.common.cache.CacheType;
+import org.opensearch.common.cache.ICache;
+import org.opensearch.common.cache.ICacheKey;
+import org.opensearch.common.cache.LoadAwareCacheLoader;
+import org.opensearch.common.cache.RemovalListener;
+import org.opensearch.common.cache.RemovalNotification;
+import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.common.cache.serializer.ICacheKeySerializer;
+import org.opensearch.common.cache.serializer.Serializer;
+import org.opensearch.common.cache.stats.ImmutableCacheStats;
+import org.opensearch.common.cache.store.config.CacheConfig;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongBiFunction;
+
+public class OffHeapCacheTests extends OpenSearchTestCase {
+
+    private static final int BLOCK_SIZE = 64;
+    private static final List<String> DIMENSION_NAMES = List.of("shardId");
+
+    public void testBasicGetAndPut() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(1024 * 1024, randomIntBetween(1, 8), randomBoolean(), listener)) {
+            int numEntries = randomIntBetween(10, 200);
+            Map<String, String> entries = new HashMap<>();
+            for (int i = 0; i < numEntries; i++) {
+                String value = randomAlphaOfLengthBetween(0, 3 * BLOCK_SIZE);
+                entries.put("key" + i, value);
+                cache.put(getICacheKey("key" + i), value);
+            }
+            assertEquals(numEntries, cache.count());
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                assertEquals(entry.getValue(), cache.get(getICacheKey(entry.getKey())));
+            }
+            assertNull(cache.get(getICacheKey("missing")));
+
+            Set<String> keys = new HashSet<>();
+            for (ICacheKey<String> key : cache.keys()) {
+                assertEquals(getMockDimensions(), key.dimensions);
+                keys.add(key.key);
+            }
+            assertEquals(entries.keySet(), keys);
+
+            ImmutableCacheStats stats = cache.stats().getTotalStats();
+            assertEquals(numEntries, stats.getHits());
+            assertEquals(1, stats.getMisses());
+            assertEquals(numEntries, stats.getItems());
+            long expectedSize = 0;
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                expectedSize += getWeigher().applyAsLong(getICacheKey(entry.getKey()), entry.getValue());
+            }
+            assertEquals(expectedSize, stats.getSizeInBytes());
+            assertTrue(listener.notifications.isEmpty());
+        }
+    }
+
+    public void testReplaceAndInvalidate() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(1024 * 1024, 1, randomBoolean(), listener)) {
+            cache.put(getICacheKey("key"), "value1");
+            cache.put(getICacheKey("key"), "value2");
+            assertEquals(1, cache.count());
+            assertEquals("value2", cache.get(getICacheKey("key")));
+            assertEquals(1, listener.notifications.size());
+            assertEquals(RemovalReason.REPLACED, listener.notifications.get(0).getRemovalReason());
+            assertEquals("value1", listener.notifications.get(0).getValue());
+
+            cache.invalidate(getICacheKey("key"));
+            assertEquals(0, cache.count());
+            assertNull(cache.get(getICacheKey("key")));
+            assertEquals(2, listener.notifications.size());
+            assertEquals(RemovalReason.INVALIDATED, listener.notifications.get(1).getRemovalReason());
+            assertEquals(0, cache.stats().getTotalStats().getItems());
+            assertEquals(0, cache.stats().getTotalStats().getSizeInBytes());
+
+            // the blocks of removed entries are reused, so the arena doesn't grow
+            long allocated = cache.allocatedBytes();
+            for (int i = 0; i < 100; i++) {
+                cache.put(getICacheKey("key"), randomAlphaOfLength(BLOCK_SIZE));
+                cache.invalidate(getICacheKey("key"));
+            }
+            assertEquals(allocated, cache.allocatedBytes());
+        }
+    }
+
+    public void testInvalidateAll() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(1024 * 1024, randomIntBetween(1, 8), randomBoolean(), listener)) {
+            int numEntries = randomIntBetween(1, 100);
+            for (int i = 0; i < numEntries; i++) {
+                cache.put(getICacheKey("key" + i), "value" + i);
+            }
+            cache.invalidateAll();
+            assertEquals(0, cache.count());
+            assertEquals(numEntries, listener.notifications.size());
+            for (RemovalNotification<ICacheKey<String>, String> notification : listener.notifications) {
+                assertEquals(RemovalReason.INVALIDATED, notification.getRemovalReason());
+            }
+            assertEquals(new ImmutableCacheStats(0, 0, 0, 0, 0), cache.stats().getTotalStats());
+        }
+    }
+
+    public void testEvictionsStayWithinCapacity() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxBlocks = 100;
+        try (OffHeapCache<String, String> cache = buildCache(maxBlocks * BLOCK_SIZE, 1, false, listener)) {
+            int numEntries = randomIntBetween(200, 1000);
+            for (int i = 0; i < numEntries; i++) {
+                cache.put(getICacheKey("key" + i), randomAlphaOfLengthBetween(1, 3 * BLOCK_SIZE));
+                assertTrue(cache.allocatedBytes() <= maxBlocks * BLOCK_SIZE);
+            }
+            assertTrue(cache.count() < numEntries);
+            assertEquals(numEntries - cache.count(), listener.notifications.size());
+            for (RemovalNotification<ICacheKey<String>, String> notification : listener.notifications) {
+                assertEquals(RemovalReason.CAPACITY, notification.getRemovalReason());
+            }
+            ImmutableCacheStats stats = cache.stats().getTotalStats();
+            assertEquals(listener.notifications.size(), stats.getEvictions());
+            assertEquals(cache.count(), stats.getItems());
+            // the most recent entry is always admitted when admission is disabled
+            assertNotNull(cache.get(getICacheKey("key" + (numEntries - 1))));
+        }
+    }
+
+    public void testEntryLargerThanSegmentIsRejected() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(10 * BLOCK_SIZE, 1, randomBoolean(), listener)) {
+            cache.put(getICacheKey("small"), "value");
+            cache.put(getICacheKey("large"), randomAlphaOfLength(10 * BLOCK_SIZE));
+            assertNull(cache.get(getICacheKey("large")));
+            assertEquals("value", cache.get(getICacheKey("small")));
+            assertEquals(1, listener.notifications.size());
+            assertEquals(RemovalReason.CAPACITY, listener.notifications.get(0).getRemovalReason());
+            assertEquals("large", listener.notifications.get(0).getKey().key);
+            assertEquals(1, cache.stats().getTotalStats().getEvictions());
+            assertEquals(1, cache.stats().getTotalStats().getItems());
+        }
+    }
+
+    public void testRejectedOverwriteInvalidatesPreviousValue() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(10 * BLOCK_SIZE, 1, randomBoolean(), listener)) {
+            cache.put(getICacheKey("key"), "value");
+            cache.put(getICacheKey("key"), randomAlphaOfLength(10 * BLOCK_SIZE));
+            assertNull(cache.get(getICacheKey("key")));
+            assertEquals(0, cache.count());
+            assertEquals(2, listener.notifications.size());
+            assertEquals(RemovalReason.INVALIDATED, listener.notifications.get(0).getRemovalReason());
+            assertEquals("value", listener.notifications.get(0).getValue());
+            assertEquals(RemovalReason.CAPACITY, listener.notifications.get(1).getRemovalReason());
+            assertEquals(0, cache.stats().getTotalStats().getItems());
+            assertEquals(0, cache.stats().getTotalStats().getSizeInBytes());
+            assertEquals(1, cache.stats().getTotalStats().getEvictions());
+        }
+    }
+
+    public void testScanDoesNotEvictReusedEntries() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        int maxBlocks = 100;
+        try (OffHeapCache<String, String> cache = buildCache(maxBlocks * BLOCK_SIZE, 1, false, listener)) {
+            // entries that are hit once move to the protected segment, which holds up to 80% of the blocks
+            int numHot = randomIntBetween(1, (int) (maxBlocks * OffHeapCache.PROTECTED_RATIO));
+            for (int i = 0; i < numHot; i++) {
+                cache.put(getICacheKey("hot" + i), "value");
+                assertEquals("value", cache.get(getICacheKey("hot" + i)));
+            }
+            for (int i = 0; i < 10 * maxBlocks; i++) {
+                cache.put(getICacheKey("cold" + i), "value");
+            }
+            for (int i = 0; i < numHot; i++) {
+                assertEquals("value", cache.get(getICacheKey("hot" + i)));
+            }
+        }
+    }
+
+    public void testAdmissionRejectsLessFrequentEntries() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        String value = randomAlphaOfLength(7 * BLOCK_SIZE);
+        int blocksPerEntry = blocksFor(getICacheKey("key100"), value);
+        int numEntries = 50;
+        try (OffHeapCache<String, String> cache = buildCache((long) numEntries * blocksPerEntry * BLOCK_SIZE, 1, true, listener)) {
+            for (int i = 0; i < numEntries; i++) {
+                cache.put(getICacheKey("key" + (100 + i)), value);
+            }
+            for (int i = 0; i < numEntries; i++) {
+                for (int j = 0; j < 3; j++) {
+                    assertEquals(value, cache.get(getICacheKey("key" + (100 + i))));
+                }
+            }
+            assertEquals(numEntries, cache.count());
+            assertTrue(listener.notifications.isEmpty());
+
+            // a key that was never requested before is less popular than any entry it could replace
+            cache.put(getICacheKey("new100"), value);
+            assertEquals(numEntries, cache.count());
+            assertEquals(1, listener.notifications.size());
+            assertEquals("new100", listener.notifications.get(0).getKey().key);
+            assertEquals(RemovalReason.CAPACITY, listener.notifications.get(0).getRemovalReason());
+            assertEquals(1, cache.stats().getTotalStats().getEvictions());
+            assertEquals(numEntries, cache.stats().getTotalStats().getItems());
+
+            // once it is requested often enough, it gets in
+            for (int i = 0; i < 10; i++) {
+                assertNull(cache.get(getICacheKey("new100")));
+            }
+            cache.put(getICacheKey("new100"), value);
+            assertEquals(value, cache.get(getICacheKey("new100")));
+            assertEquals(2, listener.notifications.size());
+            assertEquals(RemovalReason.CAPACITY, listener.notifications.get(1).getRemovalReason());
+            assertNotEquals("new100", listener.notifications.get(1).getKey().key);
+        }
+    }
+
+    public void testComputeIfAbsentConcurrently() throws Exception {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(1024 * 1024, randomIntBetween(1, 8), randomBoolean(), listener)) {
+            int numThreads = randomIntBetween(2, 10);
+            AtomicInteger loads = new AtomicInteger();
+            Phaser phaser = new Phaser(numThreads + 1);
+            CountDownLatch countDownLatch = new CountDownLatch(numThreads);
+            List<String> results = new CopyOnWriteArrayList<>();
+            ICacheKey<String> key = getICacheKey("key");
+            for (int i = 0; i < numThreads; i++) {
+                new Thread(() -> {
+                    LoadAwareCacheLoader<ICacheKey<String>, String> loader = new LoadAwareCacheLoader<>() {
+                        boolean isLoaded;
+
+                        @Override
+                        public boolean isLoaded() {
+                            return isLoaded;
+                        }
+
+                        @Override
+                        public String load(ICacheKey<String> key) {
+                            isLoaded = true;
+                            loads.incrementAndGet();
+                            return "value";
+                        }
+                    };
+                    try {
+                        phaser.arriveAndAwaitAdvance();
+                        results.add(cache.computeIfAbsent(key, loader));
+                    } catch (Exception e) {
+                        throw new AssertionError(e);
+                    } finally {
+                        countDownLatch.countDown();
+                    }
+                }).start();
+            }
+            phaser.arriveAndAwaitAdvance();
+            countDownLatch.await();
+            assertEquals(numThreads, results.size());
+            for (String result : results) {
+                assertEquals("value", result);
+            }
+            assertEquals(1, cache.count());
+            ImmutableCacheStats stats = cache.stats().getTotalStats();
+            assertEquals(numThreads, stats.getHits() + stats.getMisses());
+            assertEquals(loads.get(), stats.getMisses());
+        }
+    }
+
+    public void testComputeIfAbsentWithLoaderException() {
+        MockRemovalListener<String, String> listener = new MockRemovalListener<>();
+        try (OffHeapCache<String, String> cache = buildCache(1024 * 1024, 1, randomBoolean(), listener)) {
+            LoadAwareCacheLoader<ICacheKey<String>, String> loader = new LoadAwareCacheLoader<>() {
+                @Override
+                public boolean isLoaded() {
+                    return false;
+                }
+
+                @Override
+                public String load(ICacheKey<String> key) {
+                    throw new IllegalStateException("load failed");
+                }
+            };
+            Exception e = expectThrows(Exception.class, () -> cache.computeIfAbsent(getICacheKey("key"), loader));
+            assertTrue(e.getCause() instanceof IllegalStateException);
+            assertEquals(0, cache.count());
+        }
+    }
+
+    public void testFactoryUsesSettings() throws IOException {
+        CacheType cacheType = CacheType.INDICES_REQUEST_CACHE;
+        Settings settings = Settings.builder()
+            .put(
+                OffHeapCacheSettings.getSettingListForCacheType(cacheType).get(OffHeapCacheSettings.MAXIMUM_SIZE_IN_BYTES_KEY).getKey(),
+                "100kb"
+            )
+            .put(OffHeapCacheSettings.getSettingListForCacheType(cacheType).get(OffHeapCacheSettings.SEGMENTS_KEY).getKey(), 4)
+            .put(OffHeapCacheSettings.getSettingListForCacheType(cacheType).get(OffHeapCacheSettings.BLOCK_SIZE_KEY).getKey(), "128b")
+            .build();
+        ICache<String, String> cache = new OffHeapCache.OffHeapCacheFactory().create(
+            new CacheConfig.Builder<String, String>().setKeyType(String.class)
+                .setValueType(String.class)
+                .setKeySerializer(new StringSerializer())
+                .setValueSerializer(new StringSerializer())
+                .setDimensionNames(DIMENSION_NAMES)
+                .setWeigher(getWeigher())
+                .setRemovalListener(new MockRemovalListener<>())
+                .setSettings(settings)
+                .build(),
+            cacheType,
+            Map.of()
+        );
+        try {
+            assertEquals(100 * 1024, ((OffHeapCache<String, String>) cache).getMaximumWeight());
+            cache.put(getICacheKey("key"), "value");
+            assertEquals("value", cache.get(getICacheKey("key")));
+        } finally {
+            cache.close();
+        }
+    }
+
+    private OffHeapCache<String, String> buildCache(
+        long maximumWeight,
+        int segments,
+        boolean admissionEnabled,
+        RemovalListener<ICacheKey<String>, String> listener
+    ) {
+        OffHeapCache.Builder<String, String> builder = new OffHeapCache.Builder<String, String>().setKeySerializer(new StringSerializer())
+            .setValueSerializer(new StringSerializer())
+            .setDimensionNames(DIMENSION_NAMES)
+            .setBlockSize(BLOCK_SIZE)
+            .setAdmissionEnabled(admissionEnabled);
+        builder.setMaximumWeightInBytes(maximumWeight)
+            .setNumberOfSegments(segments)
+            .setWeigher(getWeigher())
+            .setRemovalListener(listener)
+            .setStatsTrackingEnabled(true);
+        return builder.build();
+    }
+
+    private static int blocksFor(ICacheKey<String> key, String value) {
+        StringSerializer serializer = new StringSerializer();
+        int bytes = new ICacheKeySerializer<>(serializer).serialize(key).length + serializer.serialize(value).length;
+        return (bytes + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private static ToLongBiFunction<ICacheKey<String>, String> getWeigher() {
+        return (key, value) -> key.key.length() + value.length();
+    }
+
+    private static List<String> getMockDimensions() {
+        return List.of("0");
+    }
+
+    private static ICacheKey<String> getICacheKey(String key) {
+        return new ICacheKey<>(key, getMockDimensions());
+    }
+
+    static class MockRemovalListener<K, V> implements RemovalListener<ICacheKey<K>, V> {
+        final List<RemovalNotification<ICacheKey<K>, V>> notifications = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onRemoval(RemovalNotification<ICacheKey<K>, V> notification) {
+            notifications.add(notification);
+        }
+    }
+
+    // Duplicated here from EhcacheDiskCacheTests.java, we can't add a dependency on that plugin
+    static class StringSerializer implements Serializer<String, byte[]> {
+        private final Charset charset = StandardCharsets.UTF_8;
+
+        @Override
+        public byte[] serialize(String object) {
+            return object.getBytes(charset);
+        }
+
+        @Override
+        public String deserialize(byte[] bytes) {
+            if (bytes == null) {
+                return null;
+            }
+            return new String(bytes, charset);
+        }
+
+        public boolean equals(String object, byte[] bytes) {
+            return object.equals(deserialize(bytes));
+        }
+    }
+}
@@ -23,6 +23,7 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Locale;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -30,7 +31,9 @@ import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 import reactor.test.scheduler.VirtualTimeScheduler;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.collection.IsEmptyCollection.empty;
 
 public class ReactorNetty4StreamingIT extends OpenSearchRestTestCase {
@@ -440,4 +443,41 @@ public class ReactorNetty4StreamingIT extends OpenSearchRestTestCase {
         assertThat(streamingResponse.getStatusLine().getStatusCode(), equalTo(200));
         assertThat(streamingResponse.getWarnings(), empty());
     }
+
+    public void testStreamingSearchWithQueryBody() throws IOException {
+        final StringBuilder bulk = new StringBuilder();
+        for (int id = 0; id < 10; id++) {
+            bulk.append(String.format(Locale.ROOT, """
+                { "index": { "_index": "test-streaming", "_id": "%d" } }
+                { "value": %d }
+                """, id, id));
+        }
+        final Request bulkRequest = new Request("POST", "/_bulk");
+        bulkRequest.addParameter("refresh", "true");
+        bulkRequest.setJsonEntity(bulk.toString());
+        assertThat(client().performRequest(bulkRequest).getStatusLine().getStatusCode(), equalTo(200));
+
+        // the body only arrives through the stream, so the query has to be read from it
+        final StreamingRequest<ByteBuffer> streamingRequest = new StreamingRequest<>(
+            "POST",
+            "/test-streaming/_search/stream",
+            Flux.just("""
+                { "query": { "range": { "value": { "gte": 6 } } }, "sort": [ { "value": "asc" } ] }
+                """).map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)))
+        );
+        streamingRequest.addParameter("chunk_size", "2");
+
+        final StreamingResponse<ByteBuffer> streamingResponse = client().streamRequest(streamingRequest);
+        final String body = Flux.from(streamingResponse.getBody())
+            .map(b -> new String(b.array(), StandardCharsets.UTF_8))
+            .collect(Collectors.joining())
+            .block(Duration.ofSeconds(30));
+
+        assertThat(streamingResponse.getStatusLine().getStatusCode(), equalTo(200));
+        for (int id = 0; id < 10; id++) {
+            assertThat(body.contains("\"_id\":\"" + id + "\""), equalTo(id >= 6));
+        }
+        assertThat(body.indexOf("\"_id\":\"6\""), lessThan(body.indexOf("\"_id\":\"9\"")));
+        assertThat(body, containsString("\"total\":4"));
+    }
 }
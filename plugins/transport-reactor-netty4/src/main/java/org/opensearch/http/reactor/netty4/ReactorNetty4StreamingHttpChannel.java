@@ -129,7 +129,13 @@ class ReactorNetty4StreamingHttpChannel implements StreamingHttpChannel {
 
     @Override
     public void subscribe(Subscriber<? super HttpChunk> subscriber) {
-        receiver.subscribe(subscriber);
+        if (lastChunkReceived) {
+            // the request has been consumed already, late subscribers (like the one waiting to send the response) must
+            // not wait for content that is never going to arrive
+            Flux.<HttpChunk>empty().subscribe(subscriber);
+        } else {
+            receiver.subscribe(subscriber);
+        }
     }
 
     @Override
@@ -29,6 +29,9 @@ class ReactorNetty4StreamingResponseProducer implements StreamingHttpContentSend
     // realistically we should only see a single final (last content) response being deferred. The BUFFERED_QUEUE_SIZE
     // check takes care of potential overflows.
     private final Queue<DelayedHttpContent> queue = new ConcurrentLinkedQueue<>();
+    // Listeners of the content that was emitted while the downstream had no outstanding demand, they are notified
+    // once the downstream (and so the underlying connection) is ready to accept more content.
+    private final Queue<ActionListener<Void>> pendingListeners = new ConcurrentLinkedQueue<>();
 
     // Holds the {@code HttpContent} for deferred delivery
     private record DelayedHttpContent(HttpContent content, ActionListener<Void> listener, boolean isLast) {
@@ -39,6 +42,8 @@ class ReactorNetty4StreamingResponseProducer implements StreamingHttpContentSend
     }
 
     private void register(FluxSink<HttpContent> emitter) {
+        emitter.onRequest(n -> notifyPendingListeners());
+        emitter.onCancel(() -> failPendingListeners(new IllegalStateException("The response stream was cancelled")));
         this.emitter = emitter;
     }
 
@@ -60,13 +65,39 @@ class ReactorNetty4StreamingResponseProducer implements StreamingHttpContentSend
 
         try {
             emitter.next(content);
-            listener.onResponse(null);
             if (isLast) {
+                listener.onResponse(null);
                 emitter.complete();
+                return;
             }
         } catch (final Exception ex) {
             emitter.error(ex);
             listener.onFailure(ex);
+            return;
+        }
+
+        if (emitter.requestedFromDownstream() > 0) {
+            listener.onResponse(null);
+        } else {
+            pendingListeners.offer(listener);
+            // the downstream may have requested more content in the meantime
+            if (emitter.requestedFromDownstream() > 0) {
+                notifyPendingListeners();
+            }
+        }
+    }
+
+    private void notifyPendingListeners() {
+        ActionListener<Void> listener;
+        while ((listener = pendingListeners.poll()) != null) {
+            listener.onResponse(null);
+        }
+    }
+
+    private void failPendingListeners(Exception ex) {
+        ActionListener<Void> listener;
+        while ((listener = pendingListeners.poll()) != null) {
+            listener.onFailure(ex);
         }
     }
 
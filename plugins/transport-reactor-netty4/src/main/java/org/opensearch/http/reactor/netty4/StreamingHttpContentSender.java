@@ -19,7 +19,7 @@ interface StreamingHttpContentSender {
     /**
      * Sends the next {@link HttpContent} over the wire
      * @param content next {@link HttpContent}
-     * @param listener action listener
+     * @param listener action listener, notified once the sender is ready to accept the next content
      * @param isLast {@code true} if this is the last chunk, {@code false} otherwise
      */
     void send(HttpContent content, ActionListener<Void> listener, boolean isLast);
@@ -0,0 +1,36 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.opensearch.action.ActionType;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+/**
+ * Action type for computing index-level field domains from the segments of every primary shard of write-blocked indices.
+ *
+ * The action only computes domains; publishing them in cluster state is left to the caller.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class ComputeIndexFieldDomainsAction extends ActionType<ComputeIndexFieldDomainsResponse> {
+    /**
+     * Singleton action instance.
+     */
+    public static final ComputeIndexFieldDomainsAction INSTANCE = new ComputeIndexFieldDomainsAction();
+
+    /**
+     * Transport action name.
+     */
+    public static final String NAME = "indices:admin/field_domains/compute";
+
+    private ComputeIndexFieldDomainsAction() {
+        super(NAME, ComputeIndexFieldDomainsResponse::new);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.support.broadcast.BroadcastRequest;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request for computing field domains of the requested fields from the primary shards of the target indices.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class ComputeIndexFieldDomainsRequest extends BroadcastRequest<ComputeIndexFieldDomainsRequest> {
+    private List<String> fields = List.of();
+
+    /**
+     * Creates a request for the supplied indices.
+     */
+    public ComputeIndexFieldDomainsRequest(String... indices) {
+        super(indices);
+    }
+
+    /**
+     * Deserializes the request from transport.
+     */
+    public ComputeIndexFieldDomainsRequest(StreamInput in) throws IOException {
+        super(in);
+        fields = List.copyOf(in.readStringList());
+    }
+
+    /**
+     * Returns the fields to compute domains for.
+     */
+    public List<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Sets the fields to compute domains for.
+     */
+    public ComputeIndexFieldDomainsRequest fields(List<String> fields) {
+        this.fields = List.copyOf(Objects.requireNonNull(fields, "fields must not be null"));
+        return this;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = super.validate();
+        if (fields.isEmpty()) {
+            validationException = addValidationError("at least one field is required", validationException);
+        }
+        return validationException;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeStringCollection(fields);
+    }
+}
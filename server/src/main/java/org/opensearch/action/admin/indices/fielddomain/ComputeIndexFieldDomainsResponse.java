@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.opensearch.action.support.broadcast.BroadcastResponse;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.fielddomain.FieldDomain;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response holding the field domains merged across all primary shards.
+ *
+ * Field domains are only returned when the domains of every shard were computed successfully; a partial result could
+ * describe only part of the index and must not be published.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class ComputeIndexFieldDomainsResponse extends BroadcastResponse {
+    private final List<FieldDomain> fieldDomains;
+
+    /**
+     * Deserializes the response from transport.
+     */
+    public ComputeIndexFieldDomainsResponse(StreamInput in) throws IOException {
+        super(in);
+        int size = in.readVInt();
+        List<FieldDomain> fieldDomains = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            fieldDomains.add(ShardFieldDomains.readFieldDomain(in));
+        }
+        this.fieldDomains = List.copyOf(fieldDomains);
+    }
+
+    ComputeIndexFieldDomainsResponse(
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<DefaultShardOperationFailedException> shardFailures,
+        List<FieldDomain> fieldDomains
+    ) {
+        super(totalShards, successfulShards, failedShards, shardFailures);
+        this.fieldDomains = List.copyOf(fieldDomains);
+    }
+
+    /**
+     * Field domains merged across all shards, or an empty list when any shard failed.
+     */
+    public List<FieldDomain> getFieldDomains() {
+        return fieldDomains;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVInt(fieldDomains.size());
+        for (FieldDomain fieldDomain : fieldDomains) {
+            ShardFieldDomains.writeFieldDomain(out, fieldDomain);
+        }
+    }
+
+    @Override
+    protected void addCustomXContentFields(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject("field_domains");
+        for (FieldDomain fieldDomain : fieldDomains) {
+            builder.field(fieldDomain.field(), fieldDomain.type());
+        }
+        builder.endObject();
+    }
+}
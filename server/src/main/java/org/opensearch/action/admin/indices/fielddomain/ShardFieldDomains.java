@@ -0,0 +1,313 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.PointValues;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.Lucene;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.index.fielddomain.DateRangeFieldDomain;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.index.fielddomain.KeywordTermsFieldDomain;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+import static org.opensearch.index.fielddomain.IndexFieldDomainMetadata.AUTO_SOURCE;
+
+/**
+ * Field domains computed from the segments of one shard.
+ *
+ * Domains are computed from index structures only: point values give the bounds of date and integral numeric fields,
+ * and the terms dictionary gives the values of keyword fields. A field that has no indexed values in the shard is
+ * reported as empty, while a field whose values cannot be summarized is omitted, so merging the results of all shards
+ * of an index only produces a domain when every shard could describe its values.
+ */
+public final class ShardFieldDomains implements Writeable {
+    private static final Set<NumberFieldMapper.NumberType> INTEGRAL_TYPES = EnumSet.of(
+        NumberFieldMapper.NumberType.BYTE,
+        NumberFieldMapper.NumberType.SHORT,
+        NumberFieldMapper.NumberType.INTEGER,
+        NumberFieldMapper.NumberType.LONG,
+        NumberFieldMapper.NumberType.UNSIGNED_LONG
+    );
+
+    private final Map<String, FieldDomain> domains;
+    private final Set<String> emptyFields;
+
+    ShardFieldDomains(Map<String, FieldDomain> domains, Set<String> emptyFields) {
+        this.domains = Map.copyOf(domains);
+        this.emptyFields = Set.copyOf(emptyFields);
+    }
+
+    /**
+     * Deserializes shard field domains from transport.
+     */
+    public ShardFieldDomains(StreamInput in) throws IOException {
+        int size = in.readVInt();
+        Map<String, FieldDomain> domains = new HashMap<>(size);
+        for (int i = 0; i < size; i++) {
+            FieldDomain domain = readFieldDomain(in);
+            domains.put(domain.field(), domain);
+        }
+        this.domains = Map.copyOf(domains);
+        this.emptyFields = Set.copyOf(in.readStringList());
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeVInt(domains.size());
+        for (FieldDomain domain : domains.values()) {
+            writeFieldDomain(out, domain);
+        }
+        out.writeStringCollection(emptyFields);
+    }
+
+    /**
+     * Domains keyed by field name for fields with indexed values in the shard.
+     */
+    public Map<String, FieldDomain> domains() {
+        return domains;
+    }
+
+    /**
+     * Fields without indexed values in the shard.
+     */
+    public Set<String> emptyFields() {
+        return emptyFields;
+    }
+
+    /**
+     * Computes field domains for the supplied fields from a point-in-time view of the shard.
+     *
+     * Only indexed date fields, indexed integral numeric fields, and indexed keyword fields without a normalizer are
+     * supported. Other field types, and keyword fields with more than {@link KeywordTermsFieldDomain#MAX_BLOOM_VALUES}
+     * values, are omitted from the result.
+     *
+     * @param reader reader over the shard's segments
+     * @param fieldTypeLookup resolves a field name to its mapped field type, or {@code null} when it is unmapped
+     * @param fields fields to compute domains for
+     */
+    public static ShardFieldDomains collect(
+        IndexReader reader,
+        Function<String, MappedFieldType> fieldTypeLookup,
+        Collection<String> fields
+    ) throws IOException {
+        Map<String, FieldDomain> domains = new HashMap<>();
+        Set<String> emptyFields = new HashSet<>();
+        for (String field : fields) {
+            MappedFieldType fieldType = fieldTypeLookup.apply(field);
+            if (fieldType == null) {
+                // Unmapped fields have no values in any document of the index.
+                emptyFields.add(field);
+                continue;
+            }
+            if (fieldType.isSearchable() == false) {
+                continue;
+            }
+
+            if (fieldType instanceof DateFieldMapper.DateFieldType dateFieldType) {
+                collectDateRange(reader, field, dateFieldType, domains, emptyFields);
+            } else if (isIntegral(fieldType)) {
+                collectNumericRange(reader, field, (NumberFieldMapper.NumberFieldType) fieldType, domains, emptyFields);
+            } else if (isKeywordWithoutNormalizer(fieldType)) {
+                collectKeywordTerms(reader, field, fieldType, domains, emptyFields);
+            }
+        }
+        return new ShardFieldDomains(domains, emptyFields);
+    }
+
+    /**
+     * Merges the field domains of all shards of an index.
+     *
+     * A domain is produced for a field only when every shard either has a domain for it or has no values for it, and at
+     * least one shard has a domain.
+     */
+    public static List<FieldDomain> merge(Collection<String> fields, List<ShardFieldDomains> shards) {
+        List<FieldDomain> merged = new ArrayList<>();
+        for (String field : fields) {
+            FieldDomain mergedDomain = null;
+            boolean complete = true;
+            for (ShardFieldDomains shard : shards) {
+                FieldDomain domain = shard.domains.get(field);
+                if (domain == null) {
+                    if (shard.emptyFields.contains(field) == false) {
+                        complete = false;
+                        break;
+                    }
+                    continue;
+                }
+                mergedDomain = mergedDomain == null ? domain : mergeDomains(mergedDomain, domain);
+                if (mergedDomain == null) {
+                    complete = false;
+                    break;
+                }
+            }
+            if (complete && mergedDomain != null) {
+                merged.add(mergedDomain);
+            }
+        }
+        return merged;
+    }
+
+    static void writeFieldDomain(StreamOutput out, FieldDomain domain) throws IOException {
+        out.writeString(domain.field());
+        out.writeMap(IndexFieldDomainMetadata.getInstance().toCustomData(domain), StreamOutput::writeString, StreamOutput::writeString);
+    }
+
+    static FieldDomain readFieldDomain(StreamInput in) throws IOException {
+        String field = in.readString();
+        Map<String, String> customData = in.readMap(StreamInput::readString, StreamInput::readString);
+        return IndexFieldDomainMetadata.getInstance()
+            .fromCustomData(customData, field)
+            .orElseThrow(() -> new IllegalStateException("invalid field domain for field [" + field + "]"));
+    }
+
+    private static boolean isIntegral(MappedFieldType fieldType) {
+        return fieldType instanceof NumberFieldMapper.NumberFieldType numberFieldType
+            && INTEGRAL_TYPES.contains(numberFieldType.numberType());
+    }
+
+    private static boolean isKeywordWithoutNormalizer(MappedFieldType fieldType) {
+        // Subclasses and normalizers may index values that differ from the values used at query time.
+        return fieldType.getClass() == KeywordFieldMapper.KeywordFieldType.class
+            && fieldType.getTextSearchInfo().getSearchAnalyzer() == Lucene.KEYWORD_ANALYZER;
+    }
+
+    private static void collectDateRange(
+        IndexReader reader,
+        String field,
+        DateFieldMapper.DateFieldType fieldType,
+        Map<String, FieldDomain> domains,
+        Set<String> emptyFields
+    ) throws IOException {
+        byte[] min = PointValues.getMinPackedValue(reader, fieldType.name());
+        byte[] max = PointValues.getMaxPackedValue(reader, fieldType.name());
+        if (min == null || max == null) {
+            emptyFields.add(field);
+            return;
+        }
+        domains.put(
+            field,
+            new DateRangeFieldDomain(
+                field,
+                Long.toString(LongPoint.decodeDimension(min, 0)),
+                Long.toString(LongPoint.decodeDimension(max, 0)),
+                true,
+                AUTO_SOURCE,
+                fieldType.dateTimeFormatter().pattern(),
+                fieldType.resolution().name().toLowerCase(Locale.ROOT)
+            )
+        );
+    }
+
+    private static void collectNumericRange(
+        IndexReader reader,
+        String field,
+        NumberFieldMapper.NumberFieldType fieldType,
+        Map<String, FieldDomain> domains,
+        Set<String> emptyFields
+    ) throws IOException {
+        byte[] min = PointValues.getMinPackedValue(reader, fieldType.name());
+        byte[] max = PointValues.getMaxPackedValue(reader, fieldType.name());
+        if (min == null || max == null) {
+            emptyFields.add(field);
+            return;
+        }
+        domains.put(
+            field,
+            new NumericRangeFieldDomain(
+                field,
+                fieldType.parsePoint(min).toString(),
+                fieldType.parsePoint(max).toString(),
+                true,
+                AUTO_SOURCE
+            )
+        );
+    }
+
+    private static void collectKeywordTerms(
+        IndexReader reader,
+        String field,
+        MappedFieldType fieldType,
+        Map<String, FieldDomain> domains,
+        Set<String> emptyFields
+    ) throws IOException {
+        TreeSet<BytesRef> values = new TreeSet<>();
+        for (LeafReaderContext leaf : reader.leaves()) {
+            Terms terms = leaf.reader().terms(fieldType.name());
+            if (terms == null) {
+                continue;
+            }
+            if (terms.size() > KeywordTermsFieldDomain.MAX_BLOOM_VALUES) {
+                return;
+            }
+            TermsEnum termsEnum = terms.iterator();
+            for (BytesRef term = termsEnum.next(); term != null; term = termsEnum.next()) {
+                values.add(BytesRef.deepCopyOf(term));
+                if (values.size() > KeywordTermsFieldDomain.MAX_BLOOM_VALUES) {
+                    return;
+                }
+            }
+        }
+        if (values.isEmpty()) {
+            emptyFields.add(field);
+            return;
+        }
+        KeywordTermsFieldDomain.of(field, values, true, AUTO_SOURCE).ifPresent(domain -> domains.put(field, domain));
+    }
+
+    private static FieldDomain mergeDomains(FieldDomain left, FieldDomain right) {
+        if (left instanceof NumericRangeFieldDomain numericLeft && right instanceof NumericRangeFieldDomain numericRight) {
+            return numericLeft.merge(numericRight);
+        }
+        if (left instanceof KeywordTermsFieldDomain keywordLeft && right instanceof KeywordTermsFieldDomain keywordRight) {
+            return keywordLeft.merge(keywordRight).orElse(null);
+        }
+        if (left instanceof DateRangeFieldDomain dateLeft
+            && right instanceof DateRangeFieldDomain dateRight
+            && Objects.equals(dateLeft.format(), dateRight.format())
+            && Objects.equals(dateLeft.resolution(), dateRight.resolution())) {
+            return new DateRangeFieldDomain(
+                dateLeft.field(),
+                Long.toString(Math.min(Long.parseLong(dateLeft.min()), Long.parseLong(dateRight.min()))),
+                Long.toString(Math.max(Long.parseLong(dateLeft.max()), Long.parseLong(dateRight.max()))),
+                dateLeft.finalized() && dateRight.finalized(),
+                Objects.equals(dateLeft.source(), dateRight.source()) ? dateLeft.source() : null,
+                dateLeft.format(),
+                dateLeft.resolution()
+            );
+        }
+        return null;
+    }
+}
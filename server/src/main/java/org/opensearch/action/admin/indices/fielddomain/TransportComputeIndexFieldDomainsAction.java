@@ -0,0 +1,174 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.action.support.broadcast.node.TransportBroadcastByNodeAction;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.block.ClusterBlockException;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardsIterator;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.action.support.DefaultShardOperationFailedException;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Transport action computing field domains on every primary shard of the target indices.
+ *
+ * Each shard first drains in-flight write operations by acquiring all primary operation permits and then checks that its
+ * local cluster state has the {@code index.blocks.write} block, so no write can change the shard after the domains are
+ * computed. Shards of indices without the block fail, and so does the whole computation.
+ */
+public class TransportComputeIndexFieldDomainsAction extends TransportBroadcastByNodeAction<
+    ComputeIndexFieldDomainsRequest,
+    ComputeIndexFieldDomainsResponse,
+    ShardFieldDomains> {
+    private static final Logger logger = LogManager.getLogger(TransportComputeIndexFieldDomainsAction.class);
+    private static final TimeValue PERMITS_ACQUIRE_TIMEOUT = TimeValue.timeValueSeconds(30);
+
+    private final ClusterService clusterService;
+    private final IndicesService indicesService;
+    private final ThreadPool threadPool;
+
+    @Inject
+    public TransportComputeIndexFieldDomainsAction(
+        ClusterService clusterService,
+        TransportService transportService,
+        IndicesService indicesService,
+        ActionFilters actionFilters,
+        IndexNameExpressionResolver indexNameExpressionResolver
+    ) {
+        super(
+            ComputeIndexFieldDomainsAction.NAME,
+            clusterService,
+            transportService,
+            actionFilters,
+            indexNameExpressionResolver,
+            ComputeIndexFieldDomainsRequest::new,
+            ThreadPool.Names.MANAGEMENT
+        );
+        this.clusterService = clusterService;
+        this.indicesService = indicesService;
+        this.threadPool = transportService.getThreadPool();
+    }
+
+    /**
+     * Field domains are computed on primaries only, which hold every document of their shard.
+     */
+    @Override
+    protected ShardsIterator shards(ClusterState clusterState, ComputeIndexFieldDomainsRequest request, String[] concreteIndices) {
+        return clusterState.routingTable().allShardsSatisfyingPredicate(concreteIndices, ShardRouting::primary);
+    }
+
+    @Override
+    protected ClusterBlockException checkGlobalBlock(ClusterState state, ComputeIndexFieldDomainsRequest request) {
+        return state.blocks().globalBlockedException(ClusterBlockLevel.METADATA_READ);
+    }
+
+    @Override
+    protected ClusterBlockException checkRequestBlock(
+        ClusterState state,
+        ComputeIndexFieldDomainsRequest request,
+        String[] concreteIndices
+    ) {
+        return state.blocks().indicesBlockedException(ClusterBlockLevel.METADATA_READ, concreteIndices);
+    }
+
+    @Override
+    protected ShardFieldDomains readShardResult(StreamInput in) throws IOException {
+        return new ShardFieldDomains(in);
+    }
+
+    @Override
+    protected ComputeIndexFieldDomainsResponse newResponse(
+        ComputeIndexFieldDomainsRequest request,
+        int totalShards,
+        int successfulShards,
+        int failedShards,
+        List<ShardFieldDomains> results,
+        List<DefaultShardOperationFailedException> shardFailures,
+        ClusterState clusterState
+    ) {
+        List<FieldDomain> fieldDomains = failedShards == 0 && successfulShards == totalShards
+            ? ShardFieldDomains.merge(request.fields(), results)
+            : List.of();
+        return new ComputeIndexFieldDomainsResponse(totalShards, successfulShards, failedShards, shardFailures, fieldDomains);
+    }
+
+    @Override
+    protected ComputeIndexFieldDomainsRequest readRequestFrom(StreamInput in) throws IOException {
+        return new ComputeIndexFieldDomainsRequest(in);
+    }
+
+    @Override
+    protected boolean isAsyncShardOperation() {
+        return true;
+    }
+
+    /**
+     * Sync fallback, never called because {@link #isAsyncShardOperation()} returns true.
+     */
+    @Override
+    protected ShardFieldDomains shardOperation(ComputeIndexFieldDomainsRequest request, ShardRouting shardRouting) {
+        throw new UnsupportedOperationException("TransportComputeIndexFieldDomainsAction only supports shardOperationAsync");
+    }
+
+    @Override
+    protected void shardOperationAsync(
+        ComputeIndexFieldDomainsRequest request,
+        ShardRouting shardRouting,
+        ActionListener<ShardFieldDomains> listener
+    ) {
+        IndexShard indexShard = indicesService.indexServiceSafe(shardRouting.shardId().getIndex()).getShard(shardRouting.shardId().id());
+        // Permits may be granted on the thread that completes the last in-flight operation, so fork before reading segments.
+        indexShard.acquireAllPrimaryOperationsPermits(
+            new ThreadedActionListener<>(logger, threadPool, ThreadPool.Names.MANAGEMENT, ActionListener.wrap(permits -> {
+                final ShardFieldDomains result;
+                try (Releasable ignored = permits) {
+                    result = computeShardFieldDomains(request, indexShard);
+                }
+                listener.onResponse(result);
+            }, listener::onFailure), false),
+            PERMITS_ACQUIRE_TIMEOUT
+        );
+    }
+
+    private ShardFieldDomains computeShardFieldDomains(ComputeIndexFieldDomainsRequest request, IndexShard indexShard)
+        throws IOException {
+        String indexName = indexShard.shardId().getIndexName();
+        if (clusterService.state().blocks().hasIndexBlock(indexName, IndexMetadata.INDEX_WRITE_BLOCK) == false) {
+            throw new IllegalStateException(
+                "cannot compute field domains for shard " + indexShard.shardId() + " of index without the write block"
+            );
+        }
+        indexShard.refresh("compute-field-domains");
+        try (Engine.Searcher searcher = indexShard.acquireSearcher("compute-field-domains")) {
+            return ShardFieldDomains.collect(searcher.getIndexReader(), indexShard.mapperService()::fieldType, request.fields());
+        }
+    }
+}
@@ -40,6 +40,7 @@ import org.opensearch.action.support.replication.ReplicationResponse;
 import org.opensearch.action.support.replication.TransportWriteAction;
 import org.opensearch.core.index.AppendOnlyIndexOperationRetryException;
 import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
 import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.translog.Translog;
 
@@ -92,6 +93,8 @@ class BulkPrimaryExecutionContext {
     private BulkItemResponse executionResult;
     private int retryCounter;
     private final BulkItemResponse[] primaryResponses;
+    private Engine.Index[] preparedIndexOperations;
+    private DocumentMapper preparedWithMapper;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
         this.request = request;
@@ -108,7 +111,7 @@ class BulkPrimaryExecutionContext {
         return startIndex;
     }
 
-    private static boolean isAborted(BulkItemResponse response) {
+    static boolean isAborted(BulkItemResponse response) {
         return response != null && response.isFailed() && response.getFailure().isAborted();
     }
 
@@ -194,6 +197,33 @@ class BulkPrimaryExecutionContext {
         return primary;
     }
 
+    /**
+     * sets the index operations that were parsed upfront, indexed by item position, together with the mapper they were parsed
+     * with. They are only used as long as this mapper is still the current one.
+     */
+    public void setPreparedIndexOperations(Engine.Index[] operations, DocumentMapper mapper) {
+        assert operations.length == request.items().length;
+        preparedIndexOperations = operations;
+        preparedWithMapper = mapper;
+    }
+
+    /**
+     * returns the index operation that was parsed upfront for the current item and clears it, or {@code null} if there is none
+     * or if the mapping changed since it was parsed
+     */
+    public Engine.Index takePreparedIndexOperation() {
+        assert assertInvariants(ItemProcessingState.TRANSLATED);
+        if (preparedIndexOperations == null) {
+            return null;
+        }
+        final Engine.Index operation = preparedIndexOperations[currentIndex];
+        preparedIndexOperations[currentIndex] = null;
+        if (operation == null || primary.mapperService().documentMapper() != preparedWithMapper) {
+            return null;
+        }
+        return operation;
+    }
+
     /**
      * sets the request that should actually be executed on the primary. This can be different from the request
      * received from the user (specifically, an update request is translated to an indexing or delete request).
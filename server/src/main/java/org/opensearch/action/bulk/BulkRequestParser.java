@@ -32,6 +32,9 @@
 
 package org.opensearch.action.bulk;
 
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.BytesRefBuilder;
+import org.apache.lucene.util.BytesRefIterator;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
@@ -83,6 +86,12 @@ public final class BulkRequestParser {
 
     private static final Set<String> VALID_ACTIONS = Set.of("create", "delete", "index", "update");
 
+    /**
+     * Action lines up to this length that are not backed by a single array, e.g. because the body is made of pooled network
+     * buffers, are copied into a scratch array that is reused across lines and parsed from there.
+     */
+    static final int MAX_SCRATCH_ACTION_LINE_LENGTH = 4096;
+
     private static int findNextMarker(byte marker, int from, BytesReference data) {
         final int res = data.indexOf(marker, from);
         if (res != -1) {
@@ -140,6 +149,7 @@ public final class BulkRequestParser {
         // deduplicate duplicate strings parsed for these parameters. While it does not prevent instantiating the duplicate strings, it
         // reduces their lifetime to the lifetime of this parse call instead of the lifetime of the full bulk request.
         final Map<String, String> stringDeduplicator = new HashMap<>();
+        final BytesRefBuilder actionLineScratch = new BytesRefBuilder();
         while (true) {
             int nextMarker = findNextMarker(marker, from, data);
             if (nextMarker == -1) {
@@ -148,7 +158,7 @@ public final class BulkRequestParser {
             line++;
 
             // now parse the action
-            try (XContentParser parser = createParser(data, xContent, from, nextMarker)) {
+            try (XContentParser parser = createActionLineParser(data, xContent, from, nextMarker, actionLineScratch)) {
                 // move pointers
                 from = nextMarker + 1;
 
@@ -408,6 +418,37 @@ public final class BulkRequestParser {
         }
     }
 
+    /**
+     * Creates a parser for an action line. The source lines that follow are only ever sliced, but action lines are parsed for every
+     * item, so rather than wrapping each line that spans buffers that aren't plain arrays into a stream we copy it into a reused
+     * scratch array. The parser is closed before the next line is read, so the scratch array can be overwritten then.
+     */
+    private static XContentParser createActionLineParser(
+        BytesReference data,
+        XContent xContent,
+        int from,
+        int nextMarker,
+        BytesRefBuilder scratch
+    ) throws IOException {
+        final int length = nextMarker - from;
+        if (data instanceof BytesArray || length > MAX_SCRATCH_ACTION_LINE_LENGTH) {
+            return createParser(data, xContent, from, nextMarker);
+        }
+        final BytesReference slice = data.slice(from, length);
+        if (slice instanceof BytesArray) {
+            return parseBytesArray(xContent, (BytesArray) slice, 0, length);
+        }
+        scratch.clear();
+        final BytesRefIterator iterator = slice.iterator();
+        BytesRef page;
+        while ((page = iterator.next()) != null) {
+            scratch.append(page);
+        }
+        assert scratch.length() == length : scratch.length() + " != " + length;
+        // EMPTY is safe here because we never call namedObject
+        return xContent.createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, scratch.bytes(), 0, length);
+    }
+
     private static XContentParser parseBytesArray(XContent xContent, BytesArray array, int from, int nextMarker) throws IOException {
         final int offset = array.offset();
         // EMPTY is safe here because we never call namedObject
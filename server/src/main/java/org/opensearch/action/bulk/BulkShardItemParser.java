@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.bulk;
+
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.engine.Engine;
+import org.opensearch.index.mapper.DocumentMapper;
+import org.opensearch.index.shard.IndexShard;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Parses the index items of a shard bulk request before they are executed, so that parsing is done in one tight loop and,
+ * optionally, by several threads at once. Helper threads are borrowed from the executor of the bulk request and claim items
+ * from a shared cursor, so the calling thread never waits for a helper that has not started yet: it parses whatever is left
+ * itself and only waits for the items that helpers are already working on.
+ *
+ * @opensearch.internal
+ */
+final class BulkShardItemParser {
+
+    private final BulkItemRequest[] items;
+    private final IndexShard primary;
+    private final Engine.Index[] operations;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private int activeHelpers;
+
+    private BulkShardItemParser(BulkItemRequest[] items, IndexShard primary) {
+        this.items = items;
+        this.primary = primary;
+        this.operations = new Engine.Index[items.length];
+    }
+
+    /**
+     * Parses the index and create items of the given request with up to {@code threads} threads and hands the resulting
+     * operations to the context that executes the request. Does nothing if the index has no mapping yet, as every document
+     * would require a mapping update anyway.
+     */
+    static void parse(
+        BulkShardRequest request,
+        BulkPrimaryExecutionContext context,
+        int threads,
+        Executor executor,
+        ThreadContext threadContext
+    ) {
+        final IndexShard primary = context.getPrimary();
+        final DocumentMapper mapper = primary.mapperService().documentMapper();
+        if (mapper == null) {
+            return;
+        }
+        final BulkItemRequest[] items = request.items();
+        final BulkShardItemParser parser = new BulkShardItemParser(items, primary);
+        final int helpers = Math.min(threads, items.length) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(threadContext.preserveContext(parser::help));
+            } catch (RejectedExecutionException e) {
+                // the write pool is busy, the calling thread parses the remaining items on its own
+                break;
+            }
+        }
+        parser.parseRemaining();
+        parser.awaitHelpers();
+        context.setPreparedIndexOperations(parser.operations, mapper);
+    }
+
+    private void help() {
+        synchronized (this) {
+            activeHelpers++;
+        }
+        try {
+            parseRemaining();
+        } finally {
+            synchronized (this) {
+                activeHelpers--;
+                notifyAll();
+            }
+        }
+    }
+
+    private void parseRemaining() {
+        for (int i = cursor.getAndIncrement(); i < items.length; i = cursor.getAndIncrement()) {
+            operations[i] = parse(items[i]);
+        }
+    }
+
+    private Engine.Index parse(BulkItemRequest item) {
+        if (item == null) {
+            return null;
+        }
+        final DocWriteRequest<?> request = item.request();
+        if (request.opType() != DocWriteRequest.OpType.INDEX && request.opType() != DocWriteRequest.OpType.CREATE) {
+            return null;
+        }
+        if (BulkPrimaryExecutionContext.isAborted(item.primaryResponse())) {
+            return null;
+        }
+        final IndexRequest indexRequest = (IndexRequest) request;
+        return primary.prepareIndexOperationOnPrimary(
+            indexRequest.version(),
+            indexRequest.versionType(),
+            TransportShardBulkAction.sourceToParse(indexRequest),
+            indexRequest.ifSeqNo(),
+            indexRequest.ifPrimaryTerm(),
+            indexRequest.getAutoGeneratedTimestamp(),
+            indexRequest.isRetry()
+        );
+    }
+
+    /**
+     * Waits for the helpers that claimed items to finish them. Once the cursor is exhausted, helpers that start late claim
+     * nothing, so this only ever waits for threads that are actively parsing.
+     */
+    private synchronized void awaitHelpers() {
+        boolean interrupted = false;
+        while (activeHelpers > 0) {
+            try {
+                wait();
+            } catch (InterruptedException e) {
+                // the operations array must not be handed out while a helper may still write to it
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
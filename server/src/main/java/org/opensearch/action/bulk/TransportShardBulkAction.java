@@ -85,6 +85,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.core.tasks.TaskId;
 import org.opensearch.core.xcontent.MediaType;
 import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.index.IndexSettings;
 import org.opensearch.index.IndexingPressureService;
 import org.opensearch.index.SegmentReplicationPressureService;
 import org.opensearch.index.engine.Engine;
@@ -443,7 +444,16 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             public void onTimeout(TimeValue timeout) {
                 mappingUpdateListener.onFailure(new MapperException("timed out while waiting for a dynamic mapping update"));
             }
-        }), listener, threadPool, executor(primary));
+        }), listener, threadPool, executor(primary), batchedParsingThreads(primary));
+    }
+
+    /**
+     * Returns the number of threads that parse the items of a bulk request on the given primary upfront, or {@code 0} if items
+     * are parsed one by one as they are executed.
+     */
+    private static int batchedParsingThreads(IndexShard primary) {
+        final IndexSettings indexSettings = primary.indexSettings();
+        return indexSettings.isBulkBatchedParsingEnabled() ? indexSettings.getBulkBatchedParsingThreads() : 0;
     }
 
     @Override
@@ -469,6 +479,36 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
         ThreadPool threadPool,
         String executorName
+    ) {
+        performOnPrimary(
+            request,
+            primary,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            waitForMappingUpdate,
+            listener,
+            threadPool,
+            executorName,
+            0
+        );
+    }
+
+    /**
+     * Executes the items of the given request on the primary. If {@code batchedParsingThreads} is positive, all index items are
+     * parsed upfront by up to that many threads before the first item is executed.
+     */
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        Consumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        ThreadPool threadPool,
+        String executorName,
+        int batchedParsingThreads
     ) {
         new ActionRunnable<PrimaryResult<BulkShardRequest, BulkShardResponse>>(listener) {
 
@@ -476,9 +516,16 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
 
             private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
 
+            private boolean parsed = batchedParsingThreads <= 0;
+
             @Override
             protected void doRun() throws Exception {
                 long startTime = System.nanoTime();
+                if (parsed == false) {
+                    // only on the first run, runs that resume after a mapping update re-parse stale items one by one
+                    parsed = true;
+                    BulkShardItemParser.parse(request, context, batchedParsingThreads, executor, threadPool.getThreadContext());
+                }
                 while (context.hasMoreOperationsToExecute()) {
                     if (executeBulkItemRequest(
                         context,
@@ -660,22 +707,21 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             );
         } else {
             final IndexRequest request = context.getRequestToExecute();
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                new SourceToParse(
-                    request.index(),
-                    request.id(),
-                    request.source(),
-                    request.getContentType(),
-                    request.routing(),
-                    request.extraFieldValues()
-                ),
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
-            );
+            // updates are translated into new index requests, which have not been parsed upfront
+            final Engine.Index prepared = updateResult == null ? context.takePreparedIndexOperation() : null;
+            if (prepared != null) {
+                result = primary.applyPreparedIndexOperationOnPrimary(prepared);
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse(request),
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            }
         }
         if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
 
@@ -725,6 +771,17 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         return true;
     }
 
+    static SourceToParse sourceToParse(IndexRequest request) {
+        return new SourceToParse(
+            request.index(),
+            request.id(),
+            request.source(),
+            request.getContentType(),
+            request.routing(),
+            request.extraFieldValues()
+        );
+    }
+
     private static Engine.Result exceptionToResult(Exception e, IndexShard primary, boolean isDelete, long version) {
         return isDelete ? primary.getFailedDeleteResult(e, version) : primary.getFailedIndexResult(e, version);
     }
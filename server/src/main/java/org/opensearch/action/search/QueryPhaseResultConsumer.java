@@ -68,6 +68,11 @@ import java.util.function.Consumer;
  * in the {@link CircuitBreaker#REQUEST} circuit breaker. Before any partial or final reduce, the memory
  * needed to reduce the aggregations is estimated and a {@link CircuitBreakingException} is handled if it
  * exceeds the maximum memory allowed in this breaker.
+ * <p>
+ * By default partial reduces run one at a time, each folding a batch of shard results into the result of the previous
+ * reduce. When more than one concurrent reduce is allowed, batches are reduced independently and concurrently, and
+ * their results are combined as a tree once enough of them are available. Parallel reduces are only used when no
+ * {@link SearchProgressListener} observes partial reduces, because each of them only covers a subset of the shards.
  *
  * @opensearch.internal
  */
@@ -89,6 +94,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
     final PendingReduces pendingReduces;
     private final Consumer<Exception> cancelTaskOnFailure;
     private final BooleanSupplier isTaskCancelled;
+    private final int maxConcurrentReduces;
+    private final SearchRequestContext searchRequestContext;
 
     public QueryPhaseResultConsumer(
         SearchRequest request,
@@ -127,8 +134,46 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int expectedResultSize,
         Consumer<Exception> cancelTaskOnFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        this(
+            request,
+            executor,
+            circuitBreaker,
+            controller,
+            progressListener,
+            namedWriteableRegistry,
+            expectedResultSize,
+            cancelTaskOnFailure,
+            isTaskCancelled,
+            1,
+            null
+        );
+    }
+
+    /**
+     * Creates a {@link QueryPhaseResultConsumer} that incrementally reduces aggregation results
+     * as shard results are consumed, running up to {@code maxConcurrentReduces} partial reduces at a time.
+     *
+     * @param maxConcurrentReduces maximum number of partial reduces running concurrently; {@code 1} reduces serially
+     * @param searchRequestContext context notified of reduce timings, may be {@code null}
+     */
+    public QueryPhaseResultConsumer(
+        SearchRequest request,
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchPhaseController controller,
+        SearchProgressListener progressListener,
+        NamedWriteableRegistry namedWriteableRegistry,
+        int expectedResultSize,
+        Consumer<Exception> cancelTaskOnFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentReduces,
+        SearchRequestContext searchRequestContext
     ) {
         super(expectedResultSize);
+        if (maxConcurrentReduces < 1) {
+            throw new IllegalArgumentException("maxConcurrentReduces must be at least 1 but was [" + maxConcurrentReduces + "]");
+        }
         this.executor = executor;
         this.circuitBreaker = circuitBreaker;
         this.controller = controller;
@@ -145,6 +190,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         int batchReduceSize = getBatchReduceSize(request.getBatchedReduceSize(), expectedResultSize);
         this.pendingReduces = new PendingReduces(batchReduceSize, request.resolveTrackTotalHitsUpTo());
         this.isTaskCancelled = isTaskCancelled;
+        // partial reduces of disjoint batches cannot be reported as progress, see the class documentation
+        this.maxConcurrentReduces = progressListener == SearchProgressListener.NOOP ? maxConcurrentReduces : 1;
+        this.searchRequestContext = searchRequestContext;
+    }
+
+    boolean isParallelReduce() {
+        return maxConcurrentReduces > 1;
     }
 
     int getBatchReduceSize(int requestBatchedReduceSize, int minBatchReduceSize) {
@@ -184,16 +236,22 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             // Add an estimate of the final reduce size
             breakerSize = pendingReduces.addEstimateAndMaybeBreak(pendingReduces.estimateRamBytesUsedForReduce(breakerSize));
         }
-        SearchPhaseController.ReducedQueryPhase reducePhase = controller.reducedQueryPhase(
-            results.asList(),
-            aggsList,
-            topDocsList,
-            topDocsStats,
-            pendingReduces.numReducePhases,
-            false,
-            aggReduceContextBuilder,
-            performFinalReduce
-        );
+        final long startNanos = onReduceStart();
+        final SearchPhaseController.ReducedQueryPhase reducePhase;
+        try {
+            reducePhase = controller.reducedQueryPhase(
+                results.asList(),
+                aggsList,
+                topDocsList,
+                topDocsStats,
+                pendingReduces.numReducePhases,
+                false,
+                aggReduceContextBuilder,
+                performFinalReduce
+            );
+        } finally {
+            onReduceEnd(startNanos);
+        }
         if (hasAggs && reducePhase.aggregations != null) {
             // Update the circuit breaker to replace the estimation with the serialized size of the newly reduced result
             long finalSize = reducePhase.aggregations.getSerializedSize() - breakerSize;
@@ -227,9 +285,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         // ensure consistent ordering
         Arrays.sort(toConsume, Comparator.comparingInt(QuerySearchResult::getShardIndex));
 
-        for (QuerySearchResult result : toConsume) {
-            topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
-        }
+        pendingReduces.addTopDocsStats(toConsume);
 
         final TopDocs newTopDocs;
         if (hasTopDocs) {
@@ -273,13 +329,63 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             SearchShardTarget target = result.getSearchShardTarget();
             processedShards.add(new SearchShard(target.getClusterAlias(), target.getShardId()));
         }
-        progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        if (isParallelReduce() == false) {
+            progressListener.notifyPartialReduce(processedShards, topDocsStats.getTotalHits(), newAggs, numReducePhases);
+        }
         // we leave the results un-serialized because serializing is slow but we compute the serialized
         // size as an estimate of the memory used by the newly reduced aggregations.
         long serializedSize = hasAggs ? newAggs.getSerializedSize() : 0;
         return new ReduceResult(processedShards, newTopDocs, newAggs, hasAggs ? serializedSize : 0);
     }
 
+    /**
+     * Combines the results of independent partial reduces into a single partial result.
+     */
+    private ReduceResult combineReduceResults(List<ReduceResult> toCombine) {
+        checkCancellation();
+        if (pendingReduces.hasFailure()) {
+            return null;
+        }
+        final TopDocs newTopDocs;
+        if (hasTopDocs) {
+            List<TopDocs> topDocsList = new ArrayList<>(toCombine.size());
+            for (ReduceResult reduceResult : toCombine) {
+                topDocsList.add(reduceResult.reducedTopDocs);
+            }
+            newTopDocs = SearchPhaseController.mergeTopDocs(topDocsList, topNSize, 0);
+        } else {
+            newTopDocs = null;
+        }
+        final InternalAggregations newAggs;
+        if (hasAggs) {
+            List<InternalAggregations> aggsList = new ArrayList<>(toCombine.size());
+            for (ReduceResult reduceResult : toCombine) {
+                aggsList.add(reduceResult.reducedAggs);
+            }
+            newAggs = InternalAggregations.topLevelReduce(aggsList, aggReduceContextBuilder.forPartialReduction());
+        } else {
+            newAggs = null;
+        }
+        List<SearchShard> processedShards = new ArrayList<>();
+        for (ReduceResult reduceResult : toCombine) {
+            processedShards.addAll(reduceResult.processedShards);
+        }
+        return new ReduceResult(processedShards, newTopDocs, newAggs, hasAggs ? newAggs.getSerializedSize() : 0);
+    }
+
+    private long onReduceStart() {
+        if (searchRequestContext != null) {
+            searchRequestContext.getSearchRequestOperationsListener().onReduceStart(searchRequestContext);
+        }
+        return System.nanoTime();
+    }
+
+    private void onReduceEnd(long startNanos) {
+        if (searchRequestContext != null) {
+            searchRequestContext.getSearchRequestOperationsListener().onReduceEnd(searchRequestContext, System.nanoTime() - startNanos);
+        }
+    }
+
     private void checkCancellation() {
         if (isTaskCancelled.getAsBoolean()) {
             pendingReduces.onFailure(new TaskCancelledException("request has been terminated"));
@@ -295,7 +401,7 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
      * triggering partial reduce operations when the threshold is reached.
      * <ul>
      * <li>Handles circuit breaker memory accounting</li>
-     * <li>Coordinates reduce task execution to be one at a time</li>
+     * <li>Coordinates reduce task execution, one at a time or up to the allowed number of concurrent reduces</li>
      * <li>Provides thread-safe failure handling with cleanup</li>
      * </ul>
      *
@@ -312,11 +418,15 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         private volatile long maxAggsCurrentBufferSize = 0;
 
         private final ArrayDeque<ReduceTask> queue = new ArrayDeque<>();
-        private final AtomicReference<ReduceTask> runningTask = new AtomicReference<>(); // ensure only one task is running
+        // running tasks, never more than maxConcurrentReduces
+        private final List<ReduceTask> runningTasks = new ArrayList<>();
         private final AtomicReference<Exception> failure = new AtomicReference<>();
 
         private final SearchPhaseController.TopDocsStats topDocsStats;
+        // the result of the last partial reduce when reducing serially
         private volatile ReduceResult reduceResult;
+        // results of independent partial reduces that are not combined yet when reducing in parallel
+        private final List<ReduceResult> reduceResults = new ArrayList<>();
         private volatile boolean hasPartialReduce;
         private volatile int numReducePhases;
 
@@ -341,8 +451,18 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return failure.get() != null;
         }
 
-        private boolean hasPendingReduceTask() {
-            return queue.isEmpty() == false || runningTask.get() != null;
+        private synchronized boolean hasPendingReduceTask() {
+            return queue.isEmpty() == false || runningTasks.isEmpty() == false;
+        }
+
+        private synchronized void addTopDocsStats(QuerySearchResult[] toConsume) {
+            for (QuerySearchResult result : toConsume) {
+                topDocsStats.add(result.topDocs(), result.searchTimedOut(), result.terminatedEarly());
+            }
+        }
+
+        private synchronized int nextReducePhase() {
+            return ++numReducePhases;
         }
 
         private void sortBuffer() {
@@ -430,8 +550,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                     return true;
                 }
             }
-            // Process non-empty results
-            int size = buffer.size() + (hasPartialReduce ? 1 : 0);
+            // Process non-empty results; serial partial reduces fold the previous partial result into the next batch
+            int size = buffer.size() + (hasPartialReduce && isParallelReduce() == false ? 1 : 0);
             if (size >= batchReduceSize) {
                 hasPartialReduce = true;
                 // the callback must wait for the new reduce task to complete to maintain proper result processing order
@@ -455,16 +575,20 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 if (hasFailure()) {
                     return;
                 }
-                if (queue.isEmpty() || runningTask.get() != null) {
+                if (queue.isEmpty() || runningTasks.size() >= maxConcurrentReduces) {
                     return;
                 }
                 task = queue.poll();
-                runningTask.compareAndSet(null, task);
+                runningTasks.add(task);
             }
 
             executor.execute(new AbstractRunnable() {
                 @Override
                 protected void doRun() {
+                    if (isParallelReduce()) {
+                        reduceInParallel(task);
+                        return;
+                    }
                     final ReduceResult thisReduceResult = reduceResult;
                     long estimatedTotalSize = (thisReduceResult != null ? thisReduceResult.estimatedSize : 0) + task.aggsBufferSize;
                     final ReduceResult newReduceResult;
@@ -477,8 +601,13 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                         long estimateRamBytesUsedForReduce = estimateRamBytesUsedForReduce(estimatedTotalSize);
                         addEstimateAndMaybeBreak(estimateRamBytesUsedForReduce);
                         estimatedTotalSize += estimateRamBytesUsedForReduce;
-                        ++numReducePhases;
-                        newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, numReducePhases);
+                        final int reducePhase = nextReducePhase();
+                        final long startNanos = onReduceStart();
+                        try {
+                            newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, thisReduceResult, reducePhase);
+                        } finally {
+                            onReduceEnd(startNanos);
+                        }
                     } catch (Exception t) {
                         PendingReduces.this.onFailure(t);
                         return;
@@ -493,13 +622,79 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             });
         }
 
+        /**
+         * Reduces the batch of a task independently of other batches, then combines the available partial results as
+         * long as there are enough of them. The task callback is only notified once the combining is done, so all
+         * partial reduces are complete when the last callback runs.
+         */
+        private void reduceInParallel(ReduceTask task) {
+            final QuerySearchResult[] toConsume = task.consumeBuffer();
+            if (toConsume == null) {
+                onAfterReduce(task, null, 0);
+                return;
+            }
+            long estimatedSize = task.aggsBufferSize;
+            long estimate = estimateRamBytesUsedForReduce(estimatedSize);
+            addEstimateAndMaybeBreak(estimate);
+            estimatedSize += estimate;
+            long startNanos = onReduceStart();
+            ReduceResult newReduceResult;
+            try {
+                newReduceResult = partialReduce(toConsume, task.emptyResults, topDocsStats, null, nextReducePhase());
+            } finally {
+                onReduceEnd(startNanos);
+            }
+            // combining needs at least two results to make progress even when batches are made of a single result
+            final int minResultsToCombine = Math.max(2, batchReduceSize);
+            while (newReduceResult != null) {
+                final List<ReduceResult> toCombine;
+                synchronized (this) {
+                    if (hasFailure()) {
+                        return;
+                    }
+                    if (hasAggs) {
+                        addWithoutBreaking(newReduceResult.estimatedSize - estimatedSize);
+                    }
+                    reduceResults.add(newReduceResult);
+                    if (reduceResults.size() < minResultsToCombine) {
+                        break;
+                    }
+                    toCombine = new ArrayList<>(reduceResults);
+                    reduceResults.clear();
+                }
+                estimatedSize = 0;
+                for (ReduceResult result : toCombine) {
+                    estimatedSize += result.estimatedSize;
+                }
+                estimate = estimateRamBytesUsedForReduce(estimatedSize);
+                addEstimateAndMaybeBreak(estimate);
+                estimatedSize += estimate;
+                nextReducePhase();
+                startNanos = onReduceStart();
+                try {
+                    newReduceResult = combineReduceResults(toCombine);
+                } finally {
+                    onReduceEnd(startNanos);
+                }
+            }
+            onAfterReduce(task, null, 0);
+        }
+
         private void onAfterReduce(ReduceTask task, ReduceResult newResult, long estimatedSize) {
-            if (newResult != null) {
+            if (isParallelReduce()) {
+                // results were already accounted and published by reduceInParallel
+                synchronized (this) {
+                    if (hasFailure()) {
+                        return;
+                    }
+                    runningTasks.remove(task);
+                }
+            } else if (newResult != null) {
                 synchronized (this) {
                     if (hasFailure()) {
                         return;
                     }
-                    runningTask.compareAndSet(task, null);
+                    runningTasks.remove(task);
                     reduceResult = newResult;
                     if (hasAggs) {
                         // Update the circuit breaker to remove the size of the source aggregations
@@ -533,15 +728,12 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
         }
 
         private synchronized void clearReduceTaskQueue() {
-            ReduceTask task = runningTask.get();
-            runningTask.compareAndSet(task, null);
-            List<ReduceTask> toCancels = new ArrayList<>();
-            if (task != null) {
-                toCancels.add(task);
-            }
+            List<ReduceTask> toCancels = new ArrayList<>(runningTasks);
+            runningTasks.clear();
             toCancels.addAll(queue);
             queue.clear();
             reduceResult = null;
+            reduceResults.clear();
             for (ReduceTask toCancel : toCancels) {
                 toCancel.cancel();
             }
@@ -559,8 +751,8 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
                 return Collections.emptyList();
             }
             List<TopDocs> topDocsList = new ArrayList<>();
-            if (reduceResult != null) {
-                topDocsList.add(reduceResult.reducedTopDocs);
+            for (ReduceResult result : partialResults()) {
+                topDocsList.add(result.reducedTopDocs);
             }
             for (QuerySearchResult result : buffer) {
                 TopDocsAndMaxScore topDocs = result.consumeTopDocs();
@@ -570,13 +762,20 @@ public class QueryPhaseResultConsumer extends ArraySearchPhaseResults<SearchPhas
             return topDocsList;
         }
 
+        private synchronized List<ReduceResult> partialResults() {
+            if (isParallelReduce()) {
+                return reduceResults;
+            }
+            return reduceResult == null ? Collections.emptyList() : Collections.singletonList(reduceResult);
+        }
+
         private synchronized List<InternalAggregations> consumeAggs() {
             if (hasAggs == false) {
                 return Collections.emptyList();
             }
             List<InternalAggregations> aggsList = new ArrayList<>();
-            if (reduceResult != null) {
-                aggsList.add(reduceResult.reducedAggs);
+            for (ReduceResult result : partialResults()) {
+                aggsList.add(result.reducedAggs);
             }
             for (QuerySearchResult result : buffer) {
                 aggsList.add(result.consumeAggs().expand());
@@ -794,6 +794,34 @@ public final class SearchPhaseController {
         int numShards,
         Consumer<Exception> onPartialMergeFailure,
         BooleanSupplier isTaskCancelled
+    ) {
+        return newSearchPhaseResults(
+            executor,
+            circuitBreaker,
+            listener,
+            request,
+            numShards,
+            onPartialMergeFailure,
+            isTaskCancelled,
+            1,
+            null
+        );
+    }
+
+    /**
+     * Returns a new {@link QueryPhaseResultConsumer} instance that reduces search responses incrementally, running up to
+     * {@code maxConcurrentReduces} partial reduces concurrently.
+     */
+    QueryPhaseResultConsumer newSearchPhaseResults(
+        Executor executor,
+        CircuitBreaker circuitBreaker,
+        SearchProgressListener listener,
+        SearchRequest request,
+        int numShards,
+        Consumer<Exception> onPartialMergeFailure,
+        BooleanSupplier isTaskCancelled,
+        int maxConcurrentReduces,
+        SearchRequestContext searchRequestContext
     ) {
         return new QueryPhaseResultConsumer(
             request,
@@ -804,7 +832,9 @@ public final class SearchPhaseController {
             namedWriteableRegistry,
             numShards,
             onPartialMergeFailure,
-            isTaskCancelled
+            isTaskCancelled,
+            maxConcurrentReduces,
+            searchRequestContext
         );
     }
 
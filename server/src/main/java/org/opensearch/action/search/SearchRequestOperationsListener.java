@@ -53,6 +53,18 @@ public abstract class SearchRequestOperationsListener {
 
     protected void onRequestFailure(SearchPhaseContext context, SearchRequestContext searchRequestContext) {}
 
+    /**
+     * Called when the coordinator starts a partial or final reduce of shard query results.
+     */
+    protected void onReduceStart(SearchRequestContext searchRequestContext) {}
+
+    /**
+     * Called when a partial or final reduce started with {@link #onReduceStart} completes or fails.
+     *
+     * @param tookInNanos time spent in the reduce
+     */
+    protected void onReduceEnd(SearchRequestContext searchRequestContext, long tookInNanos) {}
+
     protected boolean isEnabled(SearchRequest searchRequest) {
         return isEnabled();
     }
@@ -146,6 +158,28 @@ public abstract class SearchRequestOperationsListener {
             }
         }
 
+        @Override
+        protected void onReduceStart(SearchRequestContext searchRequestContext) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onReduceStart(searchRequestContext);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onReduceStart listener [{}] failed", listener), e);
+                }
+            }
+        }
+
+        @Override
+        protected void onReduceEnd(SearchRequestContext searchRequestContext, long tookInNanos) {
+            for (SearchRequestOperationsListener listener : listeners) {
+                try {
+                    listener.onReduceEnd(searchRequestContext, tookInNanos);
+                } catch (Exception e) {
+                    logger.warn(() -> new ParameterizedMessage("onReduceEnd listener [{}] failed", listener), e);
+                }
+            }
+        }
+
         public List<SearchRequestOperationsListener> getListeners() {
             return listeners;
         }
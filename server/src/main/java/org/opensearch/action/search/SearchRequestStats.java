@@ -28,6 +28,7 @@ import java.util.concurrent.TimeUnit;
 public final class SearchRequestStats extends SearchRequestOperationsListener {
     Map<SearchPhaseName, StatsHolder> phaseStatsMap = new EnumMap<>(SearchPhaseName.class);
     StatsHolder tookStatsHolder;
+    StatsHolder reduceStatsHolder;
 
     public static final String SEARCH_REQUEST_STATS_ENABLED_KEY = "search.request_stats_enabled";
     public static final Setting<Boolean> SEARCH_REQUEST_STATS_ENABLED = Setting.boolSetting(
@@ -42,6 +43,7 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         this.setEnabled(clusterSettings.get(SEARCH_REQUEST_STATS_ENABLED));
         clusterSettings.addSettingsUpdateConsumer(SEARCH_REQUEST_STATS_ENABLED, this::setEnabled);
         tookStatsHolder = new StatsHolder();
+        reduceStatsHolder = new StatsHolder();
         for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
             phaseStatsMap.put(searchPhaseName, new StatsHolder());
         }
@@ -71,6 +73,28 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         return tookStatsHolder.timing.sum();
     }
 
+    /**
+     * Number of partial and final reduces of shard query results currently running on this coordinator.
+     */
+    public long getReduceCurrent() {
+        return reduceStatsHolder.current.count();
+    }
+
+    /**
+     * Number of completed partial and final reduces of shard query results.
+     */
+    public long getReduceTotal() {
+        return reduceStatsHolder.total.count();
+    }
+
+    /**
+     * Total time in milliseconds spent reducing shard query results. Parallel reduces are summed, so this may exceed
+     * the wall-clock time of the reduce phase.
+     */
+    public long getReduceMetric() {
+        return reduceStatsHolder.timing.sum();
+    }
+
     @Override
     protected void onPhaseStart(SearchPhaseContext context) {
         context.getCurrentPhase().getSearchPhaseNameOptional().ifPresent(name -> phaseStatsMap.get(name).current.inc());
@@ -108,6 +132,18 @@ public final class SearchRequestStats extends SearchRequestOperationsListener {
         tookStatsHolder.current.dec();
     }
 
+    @Override
+    protected void onReduceStart(SearchRequestContext searchRequestContext) {
+        reduceStatsHolder.current.inc();
+    }
+
+    @Override
+    protected void onReduceEnd(SearchRequestContext searchRequestContext, long tookInNanos) {
+        reduceStatsHolder.current.dec();
+        reduceStatsHolder.total.inc();
+        reduceStatsHolder.timing.inc(TimeUnit.NANOSECONDS.toMillis(tookInNanos));
+    }
+
     /**
      * Holder of statistics values
      *
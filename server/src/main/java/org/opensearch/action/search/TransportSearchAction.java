@@ -173,6 +173,21 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
         Setting.Property.NodeScope
     );
 
+    /**
+     * Maximum number of partial reduces of shard query results that the coordinator runs concurrently for one search
+     * request. With the default of {@code 1} batches are reduced one after the other; higher values reduce batches in
+     * parallel and combine their results as a tree, trading coordinator CPU for lower reduce latency. The effective value
+     * is also capped at the size of the search thread pool, which runs the reduces.
+     */
+    public static final Setting<Integer> SEARCH_MAX_CONCURRENT_REDUCES_SETTING = Setting.intSetting(
+        "search.reduce.max_concurrent_reduces",
+        1,
+        1,
+        64,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     final NodeClient client;
     private final ThreadPool threadPool;
     final ClusterService clusterService;
@@ -194,6 +209,8 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
 
     private final SearchIndexPruningService searchIndexPruningService;
 
+    private volatile int maxConcurrentReduces;
+
     @Inject
     public TransportSearchAction(
         NodeClient client,
@@ -240,6 +257,25 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
             clusterService.getClusterSettings(),
             new ClusterStateFieldDomainProvider()
         );
+        this.maxConcurrentReduces = clusterService.getClusterSettings().get(SEARCH_MAX_CONCURRENT_REDUCES_SETTING);
+        clusterService.getClusterSettings()
+            .addSettingsUpdateConsumer(SEARCH_MAX_CONCURRENT_REDUCES_SETTING, this::setMaxConcurrentReduces);
+    }
+
+    private void setMaxConcurrentReduces(int maxConcurrentReduces) {
+        this.maxConcurrentReduces = maxConcurrentReduces;
+    }
+
+    /**
+     * Returns the number of partial reduces a search request may run concurrently, which is never more than the number of
+     * threads of the search thread pool that runs them.
+     */
+    int maxConcurrentReduces() {
+        final ThreadPool.Info searchPoolInfo = threadPool.info(ThreadPool.Names.SEARCH);
+        if (searchPoolInfo == null || searchPoolInfo.getMax() <= 0) {
+            return maxConcurrentReduces;
+        }
+        return Math.min(maxConcurrentReduces, searchPoolInfo.getMax());
     }
 
     private Map<String, AliasFilter> buildPerIndexAliasFilter(
@@ -1400,7 +1436,9 @@ public class TransportSearchAction extends HandledTransportAction<SearchRequest,
                 searchRequest,
                 shardIterators.size(),
                 exc -> cancelTask(task, exc),
-                task::isCancelled
+                task::isCancelled,
+                maxConcurrentReduces(),
+                searchRequestContext
             );
             AbstractSearchAsyncAction<? extends SearchPhaseResult> searchAsyncAction;
             switch (searchRequest.searchType()) {
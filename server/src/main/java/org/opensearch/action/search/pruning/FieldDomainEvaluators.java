@@ -20,7 +20,9 @@ import java.util.Objects;
  */
 public final class FieldDomainEvaluators {
 
-    private static final FieldDomainEvaluators DEFAULT = new FieldDomainEvaluators(List.of(new DateRangeFieldDomainEvaluator()));
+    private static final FieldDomainEvaluators DEFAULT = new FieldDomainEvaluators(
+        List.of(new DateRangeFieldDomainEvaluator(), new NumericRangeFieldDomainEvaluator(), new KeywordTermsFieldDomainEvaluator())
+    );
 
     private final List<FieldDomainEvaluator> evaluators;
 
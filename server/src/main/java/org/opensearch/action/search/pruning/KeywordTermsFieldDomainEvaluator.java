@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.lucene.BytesRefs;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.KeywordTermsFieldDomain;
+
+/**
+ * Evaluates keyword terms index metadata against generic terms and range query constraints.
+ *
+ * Query values are converted to terms the same way keyword fields without a normalizer convert them. Terms constraints
+ * are evaluated against both exact and Bloom filter domains, while range constraints can only be evaluated against
+ * exact domains. Unsupported domains and unsupported constraints return {@code true} so pruning remains conservative.
+ */
+public final class KeywordTermsFieldDomainEvaluator implements FieldDomainEvaluator {
+    /**
+     * Returns {@code false} only when the finalized index metadata proves that no indexed value satisfies the constraint.
+     */
+    @Override
+    public boolean canMatch(FieldDomain domain, QueryConstraint constraint, FieldDomainEvaluationContext context) {
+        if (!(domain instanceof KeywordTermsFieldDomain keywordDomain) || keywordDomain.finalized() == false) {
+            return true;
+        }
+
+        if (constraint instanceof TermsQueryConstraint termsConstraint) {
+            for (Object value : termsConstraint.values()) {
+                if (value == null || keywordDomain.mightContain(BytesRefs.toBytesRef(value))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (constraint instanceof RangeQueryConstraint rangeConstraint) {
+            if (keywordDomain.isExact() == false) {
+                return true;
+            }
+            // Formats, time zones and relations change how range bounds are interpreted.
+            if (rangeConstraint.format() != null || rangeConstraint.timeZone() != null || rangeConstraint.relation() != null) {
+                return true;
+            }
+            BytesRef lower = rangeConstraint.hasLowerBound() ? BytesRefs.toBytesRef(rangeConstraint.lowerValue()) : null;
+            BytesRef upper = rangeConstraint.hasUpperBound() ? BytesRefs.toBytesRef(rangeConstraint.upperValue()) : null;
+            for (BytesRef value : keywordDomain.values()) {
+                if (lower != null) {
+                    int compared = value.compareTo(lower);
+                    if (compared < 0 || (compared == 0 && rangeConstraint.includeLower() == false)) {
+                        continue;
+                    }
+                }
+                if (upper != null) {
+                    int compared = value.compareTo(upper);
+                    if (compared > 0 || (compared == 0 && rangeConstraint.includeUpper() == false)) {
+                        continue;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+        return true;
+    }
+}
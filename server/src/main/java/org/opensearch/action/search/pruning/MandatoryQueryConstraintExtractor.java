@@ -12,6 +12,8 @@ import org.apache.lucene.search.BooleanClause;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilderVisitor;
 import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import java.util.ArrayList;
@@ -50,11 +52,16 @@ public final class MandatoryQueryConstraintExtractor implements QueryConstraintE
 
         @Override
         public void accept(QueryBuilder queryBuilder) {
+            QueryConstraint constraint = null;
             if (queryBuilder instanceof RangeQueryBuilder) {
-                RangeQueryConstraint constraint = buildRangeConstraint((RangeQueryBuilder) queryBuilder, pruningFields);
-                if (constraint != null) {
-                    constraints.add(constraint);
-                }
+                constraint = buildRangeConstraint((RangeQueryBuilder) queryBuilder, pruningFields);
+            } else if (queryBuilder instanceof TermQueryBuilder) {
+                constraint = buildTermConstraint((TermQueryBuilder) queryBuilder, pruningFields);
+            } else if (queryBuilder instanceof TermsQueryBuilder) {
+                constraint = buildTermsConstraint((TermsQueryBuilder) queryBuilder, pruningFields);
+            }
+            if (constraint != null) {
+                constraints.add(constraint);
             }
         }
 
@@ -95,4 +102,37 @@ public final class MandatoryQueryConstraintExtractor implements QueryConstraintE
             range.relation()
         );
     }
+
+    private static TermsQueryConstraint buildTermConstraint(TermQueryBuilder term, Set<String> pruningFields) {
+        String field = term.fieldName();
+        if (field == null || pruningFields.contains(field) == false) {
+            return null;
+        }
+
+        // Case-insensitive term queries match values that differ from the query value.
+        if (term.caseInsensitive() || term.value() == null) {
+            return null;
+        }
+
+        return new TermsQueryConstraint(field, List.of(term.value()));
+    }
+
+    private static TermsQueryConstraint buildTermsConstraint(TermsQueryBuilder terms, Set<String> pruningFields) {
+        String field = terms.fieldName();
+        if (field == null || pruningFields.contains(field) == false) {
+            return null;
+        }
+
+        // Lookup values are only known after rewriting, and bitmap values are encoded rather than listed.
+        if (terms.termsLookup() != null || terms.valueType() != TermsQueryBuilder.ValueType.DEFAULT) {
+            return null;
+        }
+
+        List<Object> values = terms.values();
+        if (values == null || values.isEmpty() || values.contains(null)) {
+            return null;
+        }
+
+        return new TermsQueryConstraint(field, values);
+    }
 }
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+
+import java.math.BigDecimal;
+
+/**
+ * Evaluates integral numeric range index bounds against generic range and terms query constraints.
+ *
+ * Query values are compared as {@link BigDecimal}s, so a fractional query bound is compared against the integral index
+ * bounds exactly. Unsupported domains, unsupported constraints, and values that are not plain decimal numbers all
+ * return {@code true} so pruning remains conservative.
+ */
+public final class NumericRangeFieldDomainEvaluator implements FieldDomainEvaluator {
+    /**
+     * Returns {@code false} only when no query value or range can intersect the finalized index numeric range.
+     */
+    @Override
+    public boolean canMatch(FieldDomain domain, QueryConstraint constraint, FieldDomainEvaluationContext context) {
+        if (!(domain instanceof NumericRangeFieldDomain numericDomain) || numericDomain.finalized() == false) {
+            return true;
+        }
+
+        if (constraint instanceof TermsQueryConstraint termsConstraint) {
+            for (Object value : termsConstraint.values()) {
+                BigDecimal parsed = toBigDecimal(value);
+                if (parsed == null || contains(numericDomain, parsed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        if (constraint instanceof RangeQueryConstraint rangeConstraint) {
+            // Formats, time zones and relations change how numeric range bounds are interpreted.
+            if (rangeConstraint.format() != null || rangeConstraint.timeZone() != null || rangeConstraint.relation() != null) {
+                return true;
+            }
+            if (rangeConstraint.hasLowerBound()) {
+                BigDecimal lower = toBigDecimal(rangeConstraint.lowerValue());
+                if (lower == null) {
+                    return true;
+                }
+                int compared = lower.compareTo(numericDomain.maxValue());
+                if (compared > 0 || (compared == 0 && rangeConstraint.includeLower() == false)) {
+                    return false;
+                }
+            }
+            if (rangeConstraint.hasUpperBound()) {
+                BigDecimal upper = toBigDecimal(rangeConstraint.upperValue());
+                if (upper == null) {
+                    return true;
+                }
+                int compared = upper.compareTo(numericDomain.minValue());
+                if (compared < 0 || (compared == 0 && rangeConstraint.includeUpper() == false)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean contains(NumericRangeFieldDomain domain, BigDecimal value) {
+        return value.compareTo(domain.minValue()) >= 0 && value.compareTo(domain.maxValue()) <= 0;
+    }
+
+    private static BigDecimal toBigDecimal(Object value) {
+        String text;
+        if (value instanceof Number || value instanceof String) {
+            text = value.toString();
+        } else if (value instanceof BytesRef bytesRef) {
+            text = bytesRef.utf8ToString();
+        } else {
+            return null;
+        }
+        try {
+            return new BigDecimal(text);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
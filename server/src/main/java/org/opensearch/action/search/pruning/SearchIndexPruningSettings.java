@@ -44,10 +44,22 @@ public final class SearchIndexPruningSettings {
         NodeScope
     );
 
+    /**
+     * Enables automatic computation of field domains for the pruning fields of indices with the {@code index.blocks.write}
+     * block. The cluster-manager node computes the domains from the segments of every primary shard and publishes them
+     * in cluster state; they are dropped once the block is removed.
+     */
+    public static final Setting<Boolean> AUTO_FIELD_DOMAINS_ENABLED = Setting.boolSetting(
+        "search.index_pruning.auto_field_domains.enabled",
+        true,
+        Dynamic,
+        NodeScope
+    );
+
     /**
      * Returns all pruning settings for registration with cluster settings.
      */
     public static List<Setting<?>> getSettings() {
-        return List.of(ENABLED, MIN_SHARDS, FIELDS);
+        return List.of(ENABLED, MIN_SHARDS, FIELDS, AUTO_FIELD_DOMAINS_ENABLED);
     }
 }
@@ -0,0 +1,53 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Generic query constraint extracted from a mandatory term or terms query.
+ *
+ * A matching document must contain at least one of the values. Values are kept as supplied by the query builder;
+ * type-specific conversion is handled by field-domain evaluators.
+ */
+public final class TermsQueryConstraint implements QueryConstraint {
+    private final String field;
+    private final List<Object> values;
+
+    /**
+     * Creates a terms query constraint.
+     *
+     * @param field constrained field name
+     * @param values query values; a matching document contains at least one of them
+     */
+    public TermsQueryConstraint(String field, List<?> values) {
+        this.field = Objects.requireNonNull(field, "field must not be null");
+        if (field.isEmpty()) {
+            throw new IllegalArgumentException("field must not be empty");
+        }
+        Objects.requireNonNull(values, "values must not be null");
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("terms constraint must have at least one value");
+        }
+        this.values = List.copyOf(values);
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Query values as supplied by the query builder.
+     */
+    public List<Object> values() {
+        return values;
+    }
+}
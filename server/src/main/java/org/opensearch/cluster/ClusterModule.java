@@ -38,6 +38,7 @@ import org.opensearch.cluster.action.shard.ShardStateAction;
 import org.opensearch.cluster.decommission.DecommissionAttributeMetadata;
 import org.opensearch.cluster.deployment.DeploymentAllocationDecider;
 import org.opensearch.cluster.deployment.DeploymentMetadata;
+import org.opensearch.cluster.metadata.AutoFieldDomainService;
 import org.opensearch.cluster.metadata.ComponentTemplateMetadata;
 import org.opensearch.cluster.metadata.ComposableIndexTemplateMetadata;
 import org.opensearch.cluster.metadata.DataStreamMetadata;
@@ -479,6 +480,7 @@ public class ClusterModule extends AbstractModule {
         bind(MetadataMappingService.class).asEagerSingleton();
         bind(MetadataIndexAliasesService.class).asEagerSingleton();
         bind(MetadataIndexFieldDomainService.class).asEagerSingleton();
+        bind(AutoFieldDomainService.class).asEagerSingleton();
         bind(MetadataUpdateSettingsService.class).asEagerSingleton();
         bind(MetadataIndexTemplateService.class).asEagerSingleton();
         bind(IndexNameExpressionResolver.class).toInstance(indexNameExpressionResolver);
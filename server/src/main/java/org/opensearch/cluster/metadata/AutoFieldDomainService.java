@@ -0,0 +1,247 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.admin.indices.fielddomain.ComputeIndexFieldDomainsAction;
+import org.opensearch.action.admin.indices.fielddomain.ComputeIndexFieldDomainsRequest;
+import org.opensearch.action.search.pruning.SearchIndexPruningSettings;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.block.ClusterBlockLevel;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.gateway.GatewayService;
+import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.client.Client;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Maintains automatically computed field domains for indices with the {@code index.blocks.write} block.
+ *
+ * The elected cluster-manager node computes field domains for the configured pruning fields once an index is write
+ * blocked and all of its primaries are active, and publishes them through {@link MetadataIndexFieldDomainService}.
+ * The domains are removed again once the block is lifted. Fields with field domains published by other producers are
+ * left untouched. At most {@link #MAX_CONCURRENT_COMPUTATIONS} indices are computed at a time, so that blocking many
+ * indices at once does not fan out a broadcast to every primary of all of them; the others are picked up as the running
+ * computations complete.
+ *
+ * @opensearch.internal
+ */
+public class AutoFieldDomainService implements ClusterStateListener {
+    private static final Logger logger = LogManager.getLogger(AutoFieldDomainService.class);
+
+    static final int MAX_ATTEMPTS = 3;
+    static final int MAX_CONCURRENT_COMPUTATIONS = 2;
+    static final TimeValue RETRY_DELAY = TimeValue.timeValueSeconds(30);
+
+    private final ClusterService clusterService;
+    private final ThreadPool threadPool;
+    private final Client client;
+    private final MetadataIndexFieldDomainService fieldDomainService;
+
+    // Computations in flight and finished attempts, keyed by index UUID and settings version. A successful computation
+    // counts as all attempts so indices without any computable domain are not recomputed on every cluster state update.
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Map<String, Integer> attempts = new ConcurrentHashMap<>();
+    private final Semaphore computePermits = new Semaphore(MAX_CONCURRENT_COMPUTATIONS);
+    // Whether an index was skipped because all permits were taken, and needs to be picked up once a permit is released
+    private final AtomicBoolean throttled = new AtomicBoolean();
+
+    private volatile boolean pruningEnabled;
+    private volatile boolean autoFieldDomainsEnabled;
+    private volatile List<String> fields;
+
+    @Inject
+    public AutoFieldDomainService(
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        Client client,
+        MetadataIndexFieldDomainService fieldDomainService
+    ) {
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.client = client;
+        this.fieldDomainService = fieldDomainService;
+        this.pruningEnabled = SearchIndexPruningSettings.ENABLED.get(clusterService.getSettings());
+        this.autoFieldDomainsEnabled = SearchIndexPruningSettings.AUTO_FIELD_DOMAINS_ENABLED.get(clusterService.getSettings());
+        this.fields = SearchIndexPruningSettings.FIELDS.get(clusterService.getSettings());
+        if (DiscoveryNode.isClusterManagerNode(clusterService.getSettings())) {
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(SearchIndexPruningSettings.ENABLED, this::setPruningEnabled);
+            clusterService.getClusterSettings()
+                .addSettingsUpdateConsumer(SearchIndexPruningSettings.AUTO_FIELD_DOMAINS_ENABLED, this::setAutoFieldDomainsEnabled);
+            clusterService.getClusterSettings().addSettingsUpdateConsumer(SearchIndexPruningSettings.FIELDS, this::setFields);
+            clusterService.addListener(this);
+        }
+    }
+
+    private void setPruningEnabled(boolean pruningEnabled) {
+        this.pruningEnabled = pruningEnabled;
+    }
+
+    private void setAutoFieldDomainsEnabled(boolean autoFieldDomainsEnabled) {
+        this.autoFieldDomainsEnabled = autoFieldDomainsEnabled;
+    }
+
+    private void setFields(List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.metadataChanged() == false && event.routingTableChanged() == false) {
+            return;
+        }
+        if (event.localNodeClusterManager() == false) {
+            inFlight.clear();
+            attempts.clear();
+            return;
+        }
+        maintain(event.state());
+    }
+
+    private void maintain(ClusterState state) {
+        if (state.nodes().isLocalNodeElectedClusterManager() == false
+            || state.blocks().hasGlobalBlock(GatewayService.STATE_NOT_RECOVERED_BLOCK)) {
+            return;
+        }
+
+        IndexFieldDomainMetadata fieldDomainMetadata = IndexFieldDomainMetadata.getInstance();
+        List<Index> stale = new ArrayList<>();
+        Set<String> currentKeys = new HashSet<>();
+        for (IndexMetadata indexMetadata : state.metadata()) {
+            if (IndexFieldDomainMetadata.isWriteBlocked(indexMetadata) == false) {
+                if (fieldDomainMetadata.hasAutoFieldDomains(indexMetadata)) {
+                    stale.add(indexMetadata.getIndex());
+                }
+                continue;
+            }
+            currentKeys.add(key(indexMetadata));
+            if (pruningEnabled && autoFieldDomainsEnabled) {
+                maybeCompute(state, indexMetadata);
+            }
+        }
+        attempts.keySet().retainAll(currentKeys);
+        if (stale.isEmpty() == false) {
+            fieldDomainService.removeAutoFieldDomains(
+                stale,
+                ActionListener.wrap(
+                    r -> {},
+                    e -> logger.debug(() -> new ParameterizedMessage("failed to remove automatic field domains of {}", stale), e)
+                )
+            );
+        }
+    }
+
+    private void maybeCompute(ClusterState state, IndexMetadata indexMetadata) {
+        Index index = indexMetadata.getIndex();
+        if (indexMetadata.getState() != IndexMetadata.State.OPEN
+            || state.blocks().indexBlocked(ClusterBlockLevel.METADATA_WRITE, index.getName())
+            || IndexFieldDomainMetadata.getInstance().hasCurrentAutoFieldDomains(indexMetadata)) {
+            return;
+        }
+        IndexRoutingTable indexRoutingTable = state.routingTable().index(index);
+        if (indexRoutingTable == null || indexRoutingTable.allPrimaryShardsActive() == false) {
+            return;
+        }
+        Set<String> externalFields = IndexFieldDomainMetadata.getInstance().fieldsWithExternalDomains(indexMetadata);
+        List<String> candidates = new ArrayList<>();
+        for (String field : fields) {
+            if (externalFields.contains(field) == false) {
+                candidates.add(field);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        long settingsVersion = indexMetadata.getSettingsVersion();
+        String key = key(indexMetadata);
+        if (attempts.getOrDefault(key, 0) >= MAX_ATTEMPTS || inFlight.contains(key)) {
+            return;
+        }
+        if (tryAcquirePermit() == false) {
+            return;
+        }
+        if (inFlight.add(key) == false) {
+            computePermits.release();
+            return;
+        }
+        threadPool.generic().execute(() -> compute(index, settingsVersion, candidates, key));
+    }
+
+    private void compute(Index index, long settingsVersion, List<String> candidates, String key) {
+        ActionListener<Void> done = ActionListener.wrap(r -> {
+            attempts.put(key, MAX_ATTEMPTS);
+            release(key);
+        }, e -> {
+            int attempt = attempts.merge(key, 1, Integer::sum);
+            release(key);
+            logger.debug(
+                () -> new ParameterizedMessage("failed to compute automatic field domains of {}, attempt [{}]", index, attempt),
+                e
+            );
+            if (attempt < MAX_ATTEMPTS) {
+                threadPool.schedule(() -> maintain(clusterService.state()), RETRY_DELAY, ThreadPool.Names.GENERIC);
+            }
+        });
+
+        client.execute(
+            ComputeIndexFieldDomainsAction.INSTANCE,
+            new ComputeIndexFieldDomainsRequest(index.getName()).fields(candidates),
+            ActionListener.wrap(response -> {
+                if (response.getFailedShards() > 0 || response.getSuccessfulShards() != response.getTotalShards()) {
+                    done.onFailure(new IllegalStateException("failed to compute field domains on all shards of " + index));
+                } else if (response.getFieldDomains().isEmpty()) {
+                    done.onResponse(null);
+                } else {
+                    fieldDomainService.putAutoFieldDomains(index, settingsVersion, response.getFieldDomains(), done);
+                }
+            }, done::onFailure)
+        );
+    }
+
+    private boolean tryAcquirePermit() {
+        if (computePermits.tryAcquire()) {
+            return true;
+        }
+        throttled.set(true);
+        // a computation may have completed in between without seeing the flag
+        return computePermits.tryAcquire();
+    }
+
+    private void release(String key) {
+        inFlight.remove(key);
+        computePermits.release();
+        if (throttled.compareAndSet(true, false)) {
+            threadPool.generic().execute(() -> maintain(clusterService.state()));
+        }
+    }
+
+    private static String key(IndexMetadata indexMetadata) {
+        return indexMetadata.getIndexUUID() + "/" + indexMetadata.getSettingsVersion();
+    }
+}
@@ -96,6 +96,7 @@ import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.opensearch.cluster.metadata.Metadata.CONTEXT_MODE_PARAM;
 import static org.opensearch.cluster.node.DiscoveryNodeFilters.IP_VALIDATOR;
@@ -936,6 +937,21 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         Setting.Property.Final
     );
 
+    /**
+     * Defines the maximum number of messages a processor thread drains from its internal queue at once in pull-based ingestion.
+     * Draining never waits for more messages to arrive, so it only takes more than one message when the processor falls
+     * behind the poller. The drained messages are still applied to the engine one at a time.
+     */
+    public static final String SETTING_INGESTION_SOURCE_MAX_DRAIN_SIZE = "index.ingestion_source.max_drain_size";
+    public static final Setting<Integer> INGESTION_SOURCE_MAX_DRAIN_SIZE_SETTING = Setting.intSetting(
+        SETTING_INGESTION_SOURCE_MAX_DRAIN_SIZE,
+        1,
+        1,
+        10000,
+        Property.IndexScope,
+        Setting.Property.Final
+    );
+
     /**
      * Defines the pointer-based lag update interval for pull-based ingestion.
      * This controls how frequently the lag between the latest available message and the last consumed message is calculated.
@@ -1362,6 +1378,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             final int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.get(settings);
             final int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.get(settings);
             final int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.get(settings);
+            final int maxDrainSize = INGESTION_SOURCE_MAX_DRAIN_SIZE_SETTING.get(settings);
             final boolean allActiveIngestionEnabled = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.get(settings);
             final TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.get(settings);
             final IngestionMessageMapper.MapperType mapperType = INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
@@ -1385,6 +1402,7 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
                 .setPollTimeout(pollTimeout)
                 .setNumProcessorThreads(numProcessorThreads)
                 .setBlockingQueueSize(blockingQueueSize)
+                .setMaxDrainSize(maxDrainSize)
                 .setAllActiveIngestion(allActiveIngestionEnabled)
                 .setPointerBasedLagUpdateInterval(pointerBasedLagUpdateInterval)
                 .setMapperType(mapperType)
@@ -1685,7 +1703,11 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
         private final long settingsVersion;
         private final long aliasesVersion;
         private final State state;
+        // the complete settings, only known on the node computing the diff, or when reading it from an older node
         private final Settings settings;
+        // the settings which were added or changed, and the keys of the settings which were removed
+        private final Settings upsertedSettings;
+        private final Set<String> deletedSettings;
         private final Diff<Map<String, MappingMetadata>> mappings;
         private final Diff<Map<String, AliasMetadata>> aliases;
         private final Diff<Map<String, DiffableStringMap>> customData;
@@ -1706,6 +1728,12 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             routingNumShards = after.routingNumShards;
             state = after.state;
             settings = after.settings;
+            upsertedSettings = after.settings.differenceFrom(before.settings);
+            Set<String> afterSettingsKeys = after.settings.keySet();
+            deletedSettings = before.settings.keySet()
+                .stream()
+                .filter(key -> afterSettingsKeys.contains(key) == false)
+                .collect(Collectors.toUnmodifiableSet());
             mappings = DiffableUtils.diff(before.mappings, after.mappings, DiffableUtils.getStringKeySerializer());
             aliases = DiffableUtils.diff(before.aliases, after.aliases, DiffableUtils.getStringKeySerializer());
             customData = DiffableUtils.diff(before.customData, after.customData, DiffableUtils.getStringKeySerializer());
@@ -1740,7 +1768,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             settingsVersion = in.readVLong();
             aliasesVersion = in.readVLong();
             state = State.fromId(in.readByte());
-            settings = Settings.readSettingsFromStream(in);
+            if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+                settings = null;
+                upsertedSettings = Settings.readSettingsFromStream(in);
+                deletedSettings = in.readSet(StreamInput::readString);
+            } else {
+                settings = Settings.readSettingsFromStream(in);
+                upsertedSettings = null;
+                deletedSettings = null;
+            }
             long[] primaryTerms = null;
             if (in.getVersion().before(Version.V_3_6_0)) {
                 primaryTerms = in.readVLongArray();
@@ -1789,7 +1825,15 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             out.writeVLong(settingsVersion);
             out.writeVLong(aliasesVersion);
             out.writeByte(state.id);
-            Settings.writeSettingsToStream(settings, out);
+            if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                Settings.writeSettingsToStream(upsertedSettings, out);
+                out.writeStringCollection(deletedSettings);
+            } else {
+                if (settings == null) {
+                    throw new IllegalStateException("cannot write the settings diff of index [" + index + "] to an older node");
+                }
+                Settings.writeSettingsToStream(settings, out);
+            }
             if (out.getVersion().before(Version.V_3_6_0)) {
                 int numShards = INDEX_NUMBER_OF_SHARDS_SETTING.get(settings);
                 long[] primaryTermsArray = new long[numShards];
@@ -1828,7 +1872,13 @@ public class IndexMetadata implements Diffable<IndexMetadata>, ToXContentFragmen
             builder.aliasesVersion(aliasesVersion);
             builder.setRoutingNumShards(routingNumShards);
             builder.state(state);
-            builder.settings(settings);
+            if (settings != null) {
+                builder.settings(settings);
+            } else {
+                Settings.Builder settingsBuilder = Settings.builder().put(part.settings).put(upsertedSettings);
+                deletedSettings.forEach(settingsBuilder::remove);
+                builder.settings(settingsBuilder);
+            }
             builder.primaryTermsMap(primaryTermsMap);
             builder.mappings.putAll(mappings.apply(part.mappings));
             builder.aliases.putAll(aliases.apply(part.aliases));
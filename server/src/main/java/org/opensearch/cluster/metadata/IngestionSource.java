@@ -24,6 +24,7 @@ import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_ALL
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_DECODER_TYPE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAPPER_TYPE_SETTING;
+import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_DRAIN_SIZE_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_MAX_POLL_SIZE;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING;
 import static org.opensearch.cluster.metadata.IndexMetadata.INGESTION_SOURCE_PARTITION_STRATEGY_SETTING;
@@ -45,6 +46,7 @@ public class IngestionSource {
     private final int pollTimeout;
     private int numProcessorThreads;
     private int blockingQueueSize;
+    private final int maxDrainSize;
     private final boolean allActiveIngestion;
     private final TimeValue pointerBasedLagUpdateInterval;
     private final IngestionMessageMapper.MapperType mapperType;
@@ -63,6 +65,7 @@ public class IngestionSource {
         int pollTimeout,
         int numProcessorThreads,
         int blockingQueueSize,
+        int maxDrainSize,
         boolean allActiveIngestion,
         TimeValue pointerBasedLagUpdateInterval,
         IngestionMessageMapper.MapperType mapperType,
@@ -80,6 +83,7 @@ public class IngestionSource {
         this.pollTimeout = pollTimeout;
         this.numProcessorThreads = numProcessorThreads;
         this.blockingQueueSize = blockingQueueSize;
+        this.maxDrainSize = maxDrainSize;
         this.allActiveIngestion = allActiveIngestion;
         this.pointerBasedLagUpdateInterval = pointerBasedLagUpdateInterval;
         this.mapperType = mapperType;
@@ -122,6 +126,10 @@ public class IngestionSource {
         return blockingQueueSize;
     }
 
+    public int getMaxDrainSize() {
+        return maxDrainSize;
+    }
+
     public boolean isAllActiveIngestionEnabled() {
         return allActiveIngestion;
     }
@@ -167,6 +175,7 @@ public class IngestionSource {
             && Objects.equals(pollTimeout, ingestionSource.pollTimeout)
             && Objects.equals(numProcessorThreads, ingestionSource.numProcessorThreads)
             && Objects.equals(blockingQueueSize, ingestionSource.blockingQueueSize)
+            && Objects.equals(maxDrainSize, ingestionSource.maxDrainSize)
             && Objects.equals(allActiveIngestion, ingestionSource.allActiveIngestion)
             && Objects.equals(pointerBasedLagUpdateInterval, ingestionSource.pointerBasedLagUpdateInterval)
             && Objects.equals(mapperType, ingestionSource.mapperType)
@@ -188,6 +197,7 @@ public class IngestionSource {
             pollTimeout,
             numProcessorThreads,
             blockingQueueSize,
+            maxDrainSize,
             allActiveIngestion,
             pointerBasedLagUpdateInterval,
             mapperType,
@@ -221,6 +231,8 @@ public class IngestionSource {
             + numProcessorThreads
             + ", blockingQueueSize="
             + blockingQueueSize
+            + ", maxDrainSize="
+            + maxDrainSize
             + ", allActiveIngestion="
             + allActiveIngestion
             + ", pointerBasedLagUpdateInterval="
@@ -345,6 +357,7 @@ public class IngestionSource {
         private int pollTimeout = INGESTION_SOURCE_POLL_TIMEOUT.getDefault(Settings.EMPTY);
         private int numProcessorThreads = INGESTION_SOURCE_NUM_PROCESSOR_THREADS_SETTING.getDefault(Settings.EMPTY);
         private int blockingQueueSize = INGESTION_SOURCE_INTERNAL_QUEUE_SIZE_SETTING.getDefault(Settings.EMPTY);
+        private int maxDrainSize = INGESTION_SOURCE_MAX_DRAIN_SIZE_SETTING.getDefault(Settings.EMPTY);
         private boolean allActiveIngestion = INGESTION_SOURCE_ALL_ACTIVE_INGESTION_SETTING.getDefault(Settings.EMPTY);
         private TimeValue pointerBasedLagUpdateInterval = INGESTION_SOURCE_POINTER_BASED_LAG_UPDATE_INTERVAL_SETTING.getDefault(
             Settings.EMPTY
@@ -369,6 +382,7 @@ public class IngestionSource {
             this.errorStrategy = ingestionSource.errorStrategy;
             this.params = ingestionSource.params;
             this.blockingQueueSize = ingestionSource.blockingQueueSize;
+            this.maxDrainSize = ingestionSource.maxDrainSize;
             this.allActiveIngestion = ingestionSource.allActiveIngestion;
             this.pointerBasedLagUpdateInterval = ingestionSource.pointerBasedLagUpdateInterval;
             this.mapperType = ingestionSource.mapperType;
@@ -422,6 +436,11 @@ public class IngestionSource {
             return this;
         }
 
+        public Builder setMaxDrainSize(int maxDrainSize) {
+            this.maxDrainSize = maxDrainSize;
+            return this;
+        }
+
         public Builder setAllActiveIngestion(boolean allActiveIngestion) {
             this.allActiveIngestion = allActiveIngestion;
             return this;
@@ -484,6 +503,7 @@ public class IngestionSource {
                 pollTimeout,
                 numProcessorThreads,
                 blockingQueueSize,
+                maxDrainSize,
                 allActiveIngestion,
                 pointerBasedLagUpdateInterval,
                 mapperType,
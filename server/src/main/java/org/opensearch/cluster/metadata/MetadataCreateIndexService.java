@@ -109,6 +109,7 @@ import org.opensearch.indices.InvalidIndexNameException;
 import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.SystemIndices;
+import org.opensearch.indices.pollingingest.StreamingXContentIngestionPayloadDecoder;
 import org.opensearch.indices.pollingingest.mappers.IngestionMessageMapper;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.node.remotestore.RemoteStoreNodeAttribute;
@@ -1247,6 +1248,33 @@ public class MetadataCreateIndexService {
             }
         }
 
+        // The streaming xcontent decoder was introduced in V_3_9_0 and keeps _source as raw bytes, which only the
+        // default mapper passes through unchanged.
+        if (StreamingXContentIngestionPayloadDecoder.NAME.equals(IndexMetadata.INGESTION_SOURCE_DECODER_TYPE_SETTING.get(settings))) {
+            Version minNodeVersion = state.nodes().getMinNodeVersion();
+            if (minNodeVersion.before(Version.V_3_9_0)) {
+                throw new IllegalArgumentException(
+                    "decoder_type ["
+                        + StreamingXContentIngestionPayloadDecoder.NAME
+                        + "] requires all nodes in the cluster to be on version ["
+                        + Version.V_3_9_0
+                        + "] or later, but the minimum node version is ["
+                        + minNodeVersion
+                        + "]"
+                );
+            }
+            IngestionMessageMapper.MapperType mapperType = IndexMetadata.INGESTION_SOURCE_MAPPER_TYPE_SETTING.get(settings);
+            if (mapperType != IngestionMessageMapper.MapperType.DEFAULT) {
+                throw new IllegalArgumentException(
+                    "decoder_type ["
+                        + StreamingXContentIngestionPayloadDecoder.NAME
+                        + "] requires mapper_type [default], but found ["
+                        + mapperType.getName()
+                        + "]"
+                );
+            }
+        }
+
         if (IndexMetadata.INGESTION_SOURCE_MAPPER_TYPE_SETTING.exists(settings) == false) {
             return;
         }
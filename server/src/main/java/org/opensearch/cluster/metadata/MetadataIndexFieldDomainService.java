@@ -11,15 +11,21 @@ package org.opensearch.cluster.metadata;
 import org.opensearch.action.admin.indices.fielddomain.PutIndexFieldDomainsClusterStateUpdateRequest;
 import org.opensearch.cluster.AckedClusterStateUpdateTask;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateUpdateTask;
 import org.opensearch.cluster.ack.ClusterStateUpdateResponse;
+import org.opensearch.cluster.block.ClusterBlockLevel;
 import org.opensearch.cluster.service.ClusterManagerTaskThrottler;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Priority;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.index.fielddomain.FieldDomain;
 import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
 import org.opensearch.threadpool.ThreadPool;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -31,6 +37,8 @@ import static org.opensearch.cluster.service.ClusterManagerTask.PUT_INDEX_FIELD_
  *
  * Field-domain metadata describes values that may exist for a field in one concrete index. Trusted producers use this
  * service to merge validated metadata into {@link IndexMetadata#getCustomData(String)} on the cluster-manager node.
+ * Automatically computed field domains, see {@link IndexFieldDomainMetadata#AUTO_SOURCE}, are published and removed
+ * through this service as well.
  */
 public class MetadataIndexFieldDomainService {
     private final ClusterService clusterService;
@@ -102,4 +110,108 @@ public class MetadataIndexFieldDomainService {
         Metadata.Builder metadata = Metadata.builder(currentState.metadata()).put(updatedIndexMetadata, true);
         return ClusterState.builder(currentState).metadata(metadata).build();
     }
+
+    /**
+     * Publishes automatically computed field domains for an index, replacing previously computed ones.
+     *
+     * The update is skipped when the index was deleted or recreated, or when its settings changed since the domains were
+     * computed, because the domains may no longer describe the index.
+     *
+     * @param index concrete index the domains were computed for
+     * @param settingsVersion settings version of the index when the computation started
+     * @param domains computed field domains
+     * @param listener notified once the cluster state update was processed
+     */
+    public void putAutoFieldDomains(Index index, long settingsVersion, List<FieldDomain> domains, ActionListener<Void> listener) {
+        clusterService.submitStateUpdateTask("put-auto-index-field-domains [" + index + "]", new ClusterStateUpdateTask(Priority.NORMAL) {
+            @Override
+            public ClusterState execute(ClusterState currentState) {
+                return applyAutoFieldDomains(currentState, index, settingsVersion, domains);
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                listener.onFailure(e);
+            }
+
+            @Override
+            public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                listener.onResponse(null);
+            }
+        });
+    }
+
+    /**
+     * Removes automatically computed field domains from indices that no longer have the write block.
+     *
+     * @param indices indices to remove automatically computed field domains from
+     * @param listener notified once the cluster state update was processed
+     */
+    public void removeAutoFieldDomains(Collection<Index> indices, ActionListener<Void> listener) {
+        clusterService.submitStateUpdateTask("remove-auto-index-field-domains " + indices, new ClusterStateUpdateTask(Priority.NORMAL) {
+            @Override
+            public ClusterState execute(ClusterState currentState) {
+                return removeAutoFieldDomains(currentState, indices);
+            }
+
+            @Override
+            public void onFailure(String source, Exception e) {
+                listener.onFailure(e);
+            }
+
+            @Override
+            public void clusterStateProcessed(String source, ClusterState oldState, ClusterState newState) {
+                listener.onResponse(null);
+            }
+        });
+    }
+
+    /**
+     * Applies automatically computed field domains to the supplied cluster state.
+     */
+    static ClusterState applyAutoFieldDomains(
+        ClusterState currentState,
+        Index index,
+        long settingsVersion,
+        Collection<? extends FieldDomain> domains
+    ) {
+        IndexMetadata currentIndexMetadata = currentState.metadata().index(index);
+        if (currentIndexMetadata == null
+            || currentIndexMetadata.getSettingsVersion() != settingsVersion
+            || IndexFieldDomainMetadata.isWriteBlocked(currentIndexMetadata) == false
+            || currentState.blocks().indexBlocked(ClusterBlockLevel.METADATA_WRITE, index.getName())) {
+            return currentState;
+        }
+
+        IndexMetadata updatedIndexMetadata = IndexFieldDomainMetadata.getInstance().putAutoFieldDomains(currentIndexMetadata, domains);
+        if (updatedIndexMetadata == currentIndexMetadata) {
+            return currentState;
+        }
+        Metadata.Builder metadata = Metadata.builder(currentState.metadata()).put(updatedIndexMetadata, true);
+        return ClusterState.builder(currentState).metadata(metadata).build();
+    }
+
+    /**
+     * Removes automatically computed field domains of indices without the write block from the supplied cluster state.
+     */
+    static ClusterState removeAutoFieldDomains(ClusterState currentState, Collection<Index> indices) {
+        Metadata.Builder metadata = null;
+        for (Index index : indices) {
+            IndexMetadata currentIndexMetadata = currentState.metadata().index(index);
+            if (currentIndexMetadata == null || IndexFieldDomainMetadata.isWriteBlocked(currentIndexMetadata)) {
+                continue;
+            }
+            IndexMetadata updatedIndexMetadata = IndexFieldDomainMetadata.getInstance().removeAutoFieldDomains(currentIndexMetadata);
+            if (updatedIndexMetadata != currentIndexMetadata) {
+                if (metadata == null) {
+                    metadata = Metadata.builder(currentState.metadata());
+                }
+                metadata.put(updatedIndexMetadata, true);
+            }
+        }
+        if (metadata == null) {
+            return currentState;
+        }
+        return ClusterState.builder(currentState).metadata(metadata).build();
+    }
 }
@@ -49,6 +49,7 @@ import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.snapshots.RestoreService.RestoreInProgressUpdater;
 import org.opensearch.snapshots.SnapshotShardSizeInfo;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -291,6 +292,13 @@ public class RoutingAllocation {
         indexMetadataUpdater.removeAllocationId(shardRouting);
     }
 
+    /**
+     * Returns the names of the indices whose shards were assigned, moved or unassigned during this allocation
+     */
+    public Set<String> changedIndices() {
+        return Collections.unmodifiableSet(nodesChangedObserver.changedIndices());
+    }
+
     /**
      * Returns observer to use for changes made to the routing nodes
      */
@@ -37,6 +37,9 @@ import org.opensearch.cluster.routing.RoutingNodes;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.UnassignedInfo;
 
+import java.util.HashSet;
+import java.util.Set;
+
 /**
  * Records if changes were made to {@link RoutingNodes} during an allocation round.
  *
@@ -44,6 +47,7 @@ import org.opensearch.cluster.routing.UnassignedInfo;
  */
 public class RoutingNodesChangedObserver implements RoutingChangesObserver {
     private boolean changed;
+    private final Set<String> changedIndices = new HashSet<>();
 
     /**
      * Returns whether changes were made
@@ -56,21 +60,21 @@ public class RoutingNodesChangedObserver implements RoutingChangesObserver {
     public void shardInitialized(ShardRouting unassignedShard, ShardRouting initializedShard) {
         assert unassignedShard.unassigned() : "expected unassigned shard " + unassignedShard;
         assert initializedShard.initializing() : "expected initializing shard " + initializedShard;
-        setChanged();
+        setChanged(initializedShard);
     }
 
     @Override
     public void shardStarted(ShardRouting initializingShard, ShardRouting startedShard) {
         assert initializingShard.initializing() : "expected initializing shard " + initializingShard;
         assert startedShard.started() : "expected started shard " + startedShard;
-        setChanged();
+        setChanged(startedShard);
     }
 
     @Override
     public void relocationStarted(ShardRouting startedShard, ShardRouting targetRelocatingShard) {
         assert startedShard.started() : "expected started shard " + startedShard;
         assert targetRelocatingShard.isRelocationTarget() : "expected relocation target shard " + targetRelocatingShard;
-        setChanged();
+        setChanged(startedShard);
     }
 
     @Override
@@ -82,26 +86,26 @@ public class RoutingNodesChangedObserver implements RoutingChangesObserver {
     @Override
     public void shardFailed(ShardRouting failedShard, UnassignedInfo unassignedInfo) {
         assert failedShard.assignedToNode() : "expected assigned shard " + failedShard;
-        setChanged();
+        setChanged(failedShard);
     }
 
     @Override
     public void relocationCompleted(ShardRouting removedRelocationSource) {
         assert removedRelocationSource.relocating() : "expected relocating shard " + removedRelocationSource;
-        setChanged();
+        setChanged(removedRelocationSource);
     }
 
     @Override
     public void relocationSourceRemoved(ShardRouting removedReplicaRelocationSource) {
         assert removedReplicaRelocationSource.primary() == false && removedReplicaRelocationSource.isRelocationTarget()
             : "expected replica relocation target shard " + removedReplicaRelocationSource;
-        setChanged();
+        setChanged(removedReplicaRelocationSource);
     }
 
     @Override
     public void replicaPromoted(ShardRouting replicaShard) {
         assert replicaShard.started() && replicaShard.primary() == false : "expected started replica shard " + replicaShard;
-        setChanged();
+        setChanged(replicaShard);
     }
 
     @Override
@@ -115,7 +119,14 @@ public class RoutingNodesChangedObserver implements RoutingChangesObserver {
                 + " new: "
                 + reinitializedReplica
                 + ")";
-        setChanged();
+        setChanged(reinitializedReplica);
+    }
+
+    /**
+     * Returns the names of the indices whose shards were assigned, moved or unassigned
+     */
+    public Set<String> changedIndices() {
+        return changedIndices;
     }
 
     /**
@@ -124,4 +135,12 @@ public class RoutingNodesChangedObserver implements RoutingChangesObserver {
     private void setChanged() {
         changed = true;
     }
+
+    /**
+     * Marks the allocation as changed by a change to where the given shard is placed.
+     */
+    private void setChanged(ShardRouting shard) {
+        setChanged();
+        changedIndices.add(shard.getIndexName());
+    }
 }
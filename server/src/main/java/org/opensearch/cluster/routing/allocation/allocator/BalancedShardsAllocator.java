@@ -59,6 +59,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -207,6 +208,40 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Remembers across reroutes which indices are balanced, so that a reroute only balances the indices whose shards moved
+     * since. Meant for clusters with so many indices that evaluating all of them on every reroute stalls the cluster manager.
+     */
+    public static final Setting<Boolean> INCREMENTAL_BALANCE_ENABLED_SETTING = Setting.boolSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.incremental_balance.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The time an incremental balancing round may take before the remaining indices are left to a follow-up reroute, or -1 for
+     * no limit.
+     */
+    public static final Setting<TimeValue> INCREMENTAL_BALANCE_TIME_BUDGET_SETTING = Setting.timeSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.incremental_balance.time_budget",
+        TimeValue.timeValueSeconds(5),
+        TimeValue.MINUS_ONE,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    /**
+     * The maximum time between two rounds that balance all indices while incremental balancing is enabled.
+     */
+    public static final Setting<TimeValue> INCREMENTAL_BALANCE_FULL_INTERVAL_SETTING = Setting.timeSetting(
+        "cluster.routing.allocation.balanced_shards_allocator.incremental_balance.full_balance_interval",
+        TimeValue.timeValueMinutes(10),
+        TimeValue.ZERO,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     /**
      * Adjusts the priority of the followup reroute task when current round times out. NORMAL is right for reasonable clusters,
      * but for a cluster in a messed up state which is starving NORMAL priority tasks, it might be necessary to raise this higher
@@ -248,6 +283,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
     private volatile boolean ignoreThrottleInRestore;
     private volatile TimeValue allocatorTimeout;
     private volatile Priority followUpRerouteTaskPriority;
+    private volatile TimeValue incrementalBalanceTimeBudget;
+    private volatile TimeValue incrementalBalanceFullInterval;
+    private volatile IncrementalBalanceState incrementalBalanceState;
     private long startTime;
     private RerouteService rerouteService;
 
@@ -269,6 +307,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         setShardMovementStrategy(SHARD_MOVEMENT_STRATEGY_SETTING.get(settings));
         setAllocatorTimeout(ALLOCATOR_TIMEOUT_SETTING.get(settings));
         setFollowUpRerouteTaskPriority(FOLLOW_UP_REROUTE_PRIORITY_SETTING.get(settings));
+        setIncrementalBalanceEnabled(INCREMENTAL_BALANCE_ENABLED_SETTING.get(settings));
+        setIncrementalBalanceTimeBudget(INCREMENTAL_BALANCE_TIME_BUDGET_SETTING.get(settings));
+        setIncrementalBalanceFullInterval(INCREMENTAL_BALANCE_FULL_INTERVAL_SETTING.get(settings));
         clusterSettings.addSettingsUpdateConsumer(PREFER_PRIMARY_SHARD_BALANCE, this::setPreferPrimaryShardBalance);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVE_PRIMARY_FIRST_SETTING, this::setMovePrimaryFirst);
         clusterSettings.addSettingsUpdateConsumer(SHARD_MOVEMENT_STRATEGY_SETTING, this::setShardMovementStrategy);
@@ -281,6 +322,9 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         clusterSettings.addSettingsUpdateConsumer(IGNORE_THROTTLE_FOR_REMOTE_RESTORE, this::setIgnoreThrottleInRestore);
         clusterSettings.addSettingsUpdateConsumer(ALLOCATOR_TIMEOUT_SETTING, this::setAllocatorTimeout);
         clusterSettings.addSettingsUpdateConsumer(FOLLOW_UP_REROUTE_PRIORITY_SETTING, this::setFollowUpRerouteTaskPriority);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_BALANCE_ENABLED_SETTING, this::setIncrementalBalanceEnabled);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_BALANCE_TIME_BUDGET_SETTING, this::setIncrementalBalanceTimeBudget);
+        clusterSettings.addSettingsUpdateConsumer(INCREMENTAL_BALANCE_FULL_INTERVAL_SETTING, this::setIncrementalBalanceFullInterval);
     }
 
     @Override
@@ -385,6 +429,19 @@ public class BalancedShardsAllocator implements ShardsAllocator {
         this.followUpRerouteTaskPriority = followUpRerouteTaskPriority;
     }
 
+    private void setIncrementalBalanceEnabled(boolean incrementalBalanceEnabled) {
+        // start from scratch when re-enabled, as the routing changes in between were not observed
+        this.incrementalBalanceState = incrementalBalanceEnabled ? new IncrementalBalanceState(System::nanoTime) : null;
+    }
+
+    private void setIncrementalBalanceTimeBudget(TimeValue incrementalBalanceTimeBudget) {
+        this.incrementalBalanceTimeBudget = incrementalBalanceTimeBudget;
+    }
+
+    private void setIncrementalBalanceFullInterval(TimeValue incrementalBalanceFullInterval) {
+        this.incrementalBalanceFullInterval = incrementalBalanceFullInterval;
+    }
+
     protected boolean allocatorTimedOut() {
         if (allocatorTimeout.equals(TimeValue.MINUS_ONE)) {
             if (logger.isTraceEnabled()) {
@@ -401,7 +458,17 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             failAllocationOfNewPrimaries(allocation);
             return;
         }
-        final ShardsBalancer localShardsBalancer = new LocalShardsBalancer(
+        final IncrementalBalanceState incrementalBalanceState = this.incrementalBalanceState;
+        if (incrementalBalanceState != null) {
+            incrementalBalanceState.startRound(
+                allocation.routingNodes(),
+                allocation.metadata(),
+                balancerConfig(),
+                incrementalBalanceTimeBudget.nanos(),
+                incrementalBalanceFullInterval.nanos()
+            );
+        }
+        final LocalShardsBalancer localShardsBalancer = new LocalShardsBalancer(
             logger,
             allocation,
             shardMovementStrategy,
@@ -410,13 +477,18 @@ public class BalancedShardsAllocator implements ShardsAllocator {
             preferPrimaryShardBalance,
             preferPrimaryShardRebalance,
             ignoreThrottleInRestore,
-            this::allocatorTimedOut
+            this::allocatorTimedOut,
+            incrementalBalanceState
         );
         this.startTime = System.nanoTime();
         localShardsBalancer.allocateUnassigned();
         localShardsBalancer.moveShards();
         localShardsBalancer.balance();
         scheduleRerouteIfAllocatorTimedOut();
+        if (incrementalBalanceState != null
+            && incrementalBalanceState.endRound(allocation.changedIndices(), localShardsBalancer.nodeShardSpread())) {
+            scheduleFollowUpReroute("reroute after incremental balancing spent its time budget");
+        }
 
         final ShardsBalancer remoteShardsBalancer = new RemoteShardsBalancer(logger, allocation);
         remoteShardsBalancer.allocateUnassigned();
@@ -485,15 +557,35 @@ public class BalancedShardsAllocator implements ShardsAllocator {
                 logger.info("RerouteService not set to schedule reroute after allocator time out");
                 return;
             }
-            rerouteService.reroute(
-                "reroute after balanced shards allocator timed out",
-                followUpRerouteTaskPriority,
-                ActionListener.wrap(
-                    r -> logger.trace("reroute after balanced shards allocator timed out completed"),
-                    e -> logger.debug("reroute after balanced shards allocator timed out failed", e)
-                )
-            );
+            scheduleFollowUpReroute("reroute after balanced shards allocator timed out");
+        }
+    }
+
+    private void scheduleFollowUpReroute(String reason) {
+        if (rerouteService == null) {
+            logger.debug("RerouteService not set to schedule [{}]", reason);
+            return;
         }
+        rerouteService.reroute(
+            reason,
+            followUpRerouteTaskPriority,
+            ActionListener.wrap(r -> logger.trace("{} completed", reason), e -> logger.debug(() -> reason + " failed", e))
+        );
+    }
+
+    /**
+     * Returns the configuration the balancer found indices balanced under, which the incremental balancing state compares
+     * across reroutes. The weight function is compared by identity as it is replaced whenever a balance factor changes.
+     */
+    private Object balancerConfig() {
+        return Arrays.asList(
+            weightFunction,
+            threshold,
+            preferPrimaryShardBalance,
+            preferPrimaryShardRebalance,
+            primaryConstraintThreshold,
+            shardMovementStrategy
+        );
     }
 
     /**
@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.common.settings.Settings;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers across reroutes which indices the {@link LocalShardsBalancer} found balanced, so that a reroute only
+ * re-evaluates the indices whose shards moved since, as reported by the routing changes of the allocation, plus indices
+ * it has not seen yet. Everything is forgotten and re-evaluated when an input that affects every index changes: the set
+ * of nodes, the balancer configuration, the cluster settings, or the spread of shard counts across nodes. A full
+ * re-evaluation also happens at least once per full balance interval, which catches decider changes this cannot see.
+ * <p>
+ * Only accessed from the cluster manager's allocation thread.
+ *
+ * @opensearch.internal
+ */
+final class IncrementalBalanceState {
+
+    /** The indices found balanced, by name */
+    private final Map<String, BalancedIndex> balancedIndices = new HashMap<>();
+    private final LongSupplier nanoTimeSupplier;
+
+    private Set<String> nodeIds = Set.of();
+    private Object config;
+    private Settings persistentSettings = Settings.EMPTY;
+    private Settings transientSettings = Settings.EMPTY;
+    private int nodeShardSpread = -1;
+    private long lastFullBalanceNanos;
+    private long deadlineNanos = Long.MAX_VALUE;
+    private boolean incomplete;
+
+    IncrementalBalanceState(LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.lastFullBalanceNanos = nanoTimeSupplier.getAsLong();
+    }
+
+    /**
+     * Starts a reroute, forgetting all balanced indices if an input that affects all of them changed.
+     *
+     * @param routingNodes        the routing nodes of the allocation
+     * @param metadata            the metadata of the allocation
+     * @param config              the balancer configuration, compared by {@link Object#equals}
+     * @param timeBudgetNanos     the time the reroute may spend balancing, or a negative value for no limit
+     * @param fullBalanceInterval the maximum time between two full re-evaluations, in nanoseconds
+     */
+    void startRound(RoutingNodes routingNodes, Metadata metadata, Object config, long timeBudgetNanos, long fullBalanceInterval) {
+        final long now = nanoTimeSupplier.getAsLong();
+        final Set<String> currentNodeIds = new HashSet<>();
+        for (RoutingNode routingNode : routingNodes) {
+            currentNodeIds.add(routingNode.nodeId());
+        }
+        if (currentNodeIds.equals(nodeIds) == false
+            || Objects.equals(config, this.config) == false
+            || metadata.persistentSettings().equals(persistentSettings) == false
+            || metadata.transientSettings().equals(transientSettings) == false
+            || now - lastFullBalanceNanos >= fullBalanceInterval) {
+            invalidate(now);
+        }
+        nodeIds = currentNodeIds;
+        this.config = config;
+        // forget deleted indices, an index re-created under the same name has a different uuid
+        balancedIndices.values().removeIf(index -> metadata.hasIndex(index.name()) == false);
+        persistentSettings = metadata.persistentSettings();
+        transientSettings = metadata.transientSettings();
+        deadlineNanos = timeBudgetNanos < 0 ? Long.MAX_VALUE : now + timeBudgetNanos;
+        incomplete = false;
+    }
+
+    /**
+     * Forgets all balanced indices if the shard counts of the nodes spread further apart than at the end of the previous
+     * reroute, as every index weight includes the shard count of the node.
+     */
+    void onNodeShardSpread(int spread) {
+        if (nodeShardSpread != -1 && spread > nodeShardSpread) {
+            invalidate(nanoTimeSupplier.getAsLong());
+        }
+    }
+
+    private void invalidate(long now) {
+        balancedIndices.clear();
+        lastFullBalanceNanos = now;
+    }
+
+    /**
+     * Returns whether the given index needs to be evaluated by the balancer in this reroute.
+     */
+    boolean needsBalancing(IndexMetadata indexMetadata, Set<String> changedIndices) {
+        final BalancedIndex balancedIndex = balancedIndices.get(indexMetadata.getIndex().getName());
+        return balancedIndex == null
+            || balancedIndex.uuid().equals(indexMetadata.getIndexUUID()) == false
+            || balancedIndex.settingsVersion() != indexMetadata.getSettingsVersion()
+            || changedIndices.contains(indexMetadata.getIndex().getName());
+    }
+
+    /**
+     * Records that the balancer could not improve the balance of the given index.
+     */
+    void markBalanced(IndexMetadata indexMetadata) {
+        final String name = indexMetadata.getIndex().getName();
+        balancedIndices.put(name, new BalancedIndex(name, indexMetadata.getIndexUUID(), indexMetadata.getSettingsVersion()));
+    }
+
+    /**
+     * Returns whether the time budget of the current reroute is spent, remembering that the reroute left work behind.
+     */
+    boolean budgetExhausted() {
+        if (nanoTimeSupplier.getAsLong() > deadlineNanos) {
+            incomplete = true;
+        }
+        return incomplete;
+    }
+
+    /**
+     * Ends a reroute, forgetting the indices whose shards the reroute assigned, moved or unassigned.
+     *
+     * @param changedIndices  the indices changed during the allocation
+     * @param nodeShardSpread the difference between the highest and the lowest shard count of a node
+     * @return whether the reroute ran out of time and left indices to a follow-up reroute
+     */
+    boolean endRound(Set<String> changedIndices, int nodeShardSpread) {
+        balancedIndices.keySet().removeAll(changedIndices);
+        this.nodeShardSpread = nodeShardSpread;
+        return incomplete;
+    }
+
+    /**
+     * Returns the number of indices currently known to be balanced.
+     */
+    int balancedIndexCount() {
+        return balancedIndices.size();
+    }
+
+    /**
+     * An index found balanced, with the settings version at the time, as settings such as allocation filters affect balance.
+     */
+    private record BalancedIndex(String name, String uuid, long settingsVersion) {}
+}
@@ -29,6 +29,7 @@ import org.opensearch.cluster.routing.allocation.RoutingAllocation;
 import org.opensearch.cluster.routing.allocation.decider.AllocationDeciders;
 import org.opensearch.cluster.routing.allocation.decider.Decision;
 import org.opensearch.cluster.routing.allocation.decider.DiskThresholdDecider;
+import org.opensearch.common.Nullable;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.FeatureFlags;
 import org.opensearch.gateway.PriorityComparator;
@@ -75,6 +76,8 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private final BalancedShardsAllocator.NodeSorter sorter;
     private final Set<RoutingNode> inEligibleTargetNode;
     private final Supplier<Boolean> timedOutFunc;
+    @Nullable
+    private final IncrementalBalanceState incrementalBalanceState;
     private int totalShardCount = 0;
 
     public LocalShardsBalancer(
@@ -87,6 +90,35 @@ public class LocalShardsBalancer extends ShardsBalancer {
         boolean preferPrimaryRebalance,
         boolean ignoreThrottleInRestore,
         Supplier<Boolean> timedOutFunc
+    ) {
+        this(
+            logger,
+            allocation,
+            shardMovementStrategy,
+            weight,
+            threshold,
+            preferPrimaryBalance,
+            preferPrimaryRebalance,
+            ignoreThrottleInRestore,
+            timedOutFunc,
+            null
+        );
+    }
+
+    /**
+     * Creates a balancer that only balances the indices the given state does not know to be balanced, if a state is given.
+     */
+    LocalShardsBalancer(
+        Logger logger,
+        RoutingAllocation allocation,
+        ShardMovementStrategy shardMovementStrategy,
+        BalancedShardsAllocator.WeightFunction weight,
+        float threshold,
+        boolean preferPrimaryBalance,
+        boolean preferPrimaryRebalance,
+        boolean ignoreThrottleInRestore,
+        Supplier<Boolean> timedOutFunc,
+        @Nullable IncrementalBalanceState incrementalBalanceState
     ) {
         this.logger = logger;
         this.allocation = allocation;
@@ -105,6 +137,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
         this.shardMovementStrategy = shardMovementStrategy;
         this.ignoreThrottleInRestore = ignoreThrottleInRestore;
         this.timedOutFunc = timedOutFunc;
+        this.incrementalBalanceState = incrementalBalanceState;
     }
 
     /**
@@ -349,6 +382,9 @@ public class LocalShardsBalancer extends ShardsBalancer {
         final AllocationDeciders deciders = allocation.deciders();
         final BalancedShardsAllocator.ModelNode[] modelNodes = sorter.modelNodes;
         final float[] weights = sorter.weights;
+        if (incrementalBalanceState != null) {
+            incrementalBalanceState.onNodeShardSpread(nodeShardSpread());
+        }
         for (String index : buildWeightOrderedIndices()) {
             // Terminate if the time allocated to the balanced shards allocator has elapsed
             if (timedOutFunc != null && timedOutFunc.get()) {
@@ -358,6 +394,10 @@ public class LocalShardsBalancer extends ShardsBalancer {
                 );
                 return;
             }
+            if (incrementalBalanceState != null && incrementalBalanceState.budgetExhausted()) {
+                logger.debug("incremental balancing spent its time budget, leaving the remaining indices to a follow-up reroute");
+                return;
+            }
             IndexMetadata indexMetadata = metadata.index(index);
 
             // find nodes that have a shard of this index or where shards of this index are allowed to be allocated to,
@@ -375,6 +415,7 @@ public class LocalShardsBalancer extends ShardsBalancer {
             }
 
             if (relevantNodes < 2) {
+                markBalanced(indexMetadata);
                 continue;
             }
 
@@ -479,7 +520,27 @@ public class LocalShardsBalancer extends ShardsBalancer {
                     break;
                 }
             }
+            markBalanced(indexMetadata);
+        }
+    }
+
+    private void markBalanced(IndexMetadata indexMetadata) {
+        if (incrementalBalanceState != null) {
+            incrementalBalanceState.markBalanced(indexMetadata);
+        }
+    }
+
+    /**
+     * Returns the difference between the highest and the lowest number of shards on a node.
+     */
+    int nodeShardSpread() {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (BalancedShardsAllocator.ModelNode node : nodes.values()) {
+            min = Math.min(min, node.numShards());
+            max = Math.max(max, node.numShards());
         }
+        return nodes.isEmpty() ? 0 : max - min;
     }
 
     /**
@@ -498,8 +559,11 @@ public class LocalShardsBalancer extends ShardsBalancer {
     private String[] buildWeightOrderedIndices() {
 
         final List<String> localIndices = new ArrayList<>();
+        final Set<String> changedIndices = incrementalBalanceState != null ? allocation.changedIndices() : Collections.emptySet();
         for (String index : allocation.routingTable().indicesRouting().keySet().toArray(new String[0])) {
-            if (RoutingPool.LOCAL_ONLY.equals(RoutingPool.getIndexPool(metadata.index(index)))) {
+            final IndexMetadata indexMetadata = metadata.index(index);
+            if (RoutingPool.LOCAL_ONLY.equals(RoutingPool.getIndexPool(indexMetadata))
+                && (incrementalBalanceState == null || incrementalBalanceState.needsBalancing(indexMetadata, changedIndices))) {
                 localIndices.add(index);
             }
         }
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+/**
+ * A probabilistic estimate of how often items have been seen recently, as used by TinyLFU cache admission policies: a
+ * candidate is only let into a full cache if it has been seen more often than the entry it would evict.
+ * <p>
+ * This is a count-min sketch with four 4-bit counters per item, packed sixteen to a {@code long}. Once the number of
+ * increments reaches ten times the expected number of items, all counters are halved, so that the estimate favours
+ * recent history. Frequencies are capped at 15.
+ * <p>
+ * This class is not thread-safe, callers are expected to guard it with the same lock as the cache structure it is
+ * used with.
+ *
+ * @opensearch.internal
+ */
+public final class FrequencySketch {
+
+    static final int MAX_FREQUENCY = 15;
+
+    private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L };
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * @param expectedItems the number of distinct items the cache is expected to hold
+     */
+    public FrequencySketch(long expectedItems) {
+        final int capacity = (int) Math.max(1, Math.min(expectedItems, 1 << 30));
+        final int tableLength = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new long[tableLength];
+        this.tableMask = tableLength - 1;
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the estimated number of times the item with the given hash has been seen, up to {@link #MAX_FREQUENCY}.
+     */
+    public int frequency(int hash) {
+        final int spread = spread(hash);
+        final int start = (spread & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            final int index = indexOf(spread, i);
+            final int count = (int) ((table[index] >>> ((start + i) << 2)) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Records an occurrence of the item with the given hash.
+     */
+    public void increment(int hash) {
+        final int spread = spread(hash);
+        final int start = (spread & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(spread, i), start + i);
+        }
+        if (added && ++additions == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+        final int offset = counter << 2;
+        final long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private int indexOf(int spread, int row) {
+        long hash = (spread + SEEDS[row]) * SEEDS[row];
+        hash += hash >>> 32;
+        return (int) hash & tableMask;
+    }
+
+    private static int spread(int hash) {
+        final int h = hash * 0x31848bab;
+        return h ^ (h >>> 14);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.metrics;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram metric with fixed buckets. Bucket {@code i} counts the values that are greater than the upper bound of the
+ * previous bucket and at most {@code upperBounds[i]}, the last bucket counts the values greater than all upper bounds.
+ *
+ * @opensearch.internal
+ */
+public class HistogramMetric implements Metric {
+
+    private final long[] upperBounds;
+    private final LongAdder[] counts;
+
+    public HistogramMetric(long... upperBounds) {
+        for (int i = 1; i < upperBounds.length; i++) {
+            if (upperBounds[i] <= upperBounds[i - 1]) {
+                throw new IllegalArgumentException("upper bounds must be strictly increasing but got " + Arrays.toString(upperBounds));
+            }
+        }
+        this.upperBounds = upperBounds.clone();
+        this.counts = new LongAdder[upperBounds.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    public void inc(long value) {
+        final int index = Arrays.binarySearch(upperBounds, value);
+        counts[index >= 0 ? index : -index - 1].increment();
+    }
+
+    /**
+     * Adds the counts of another histogram with the same upper bounds to this one.
+     */
+    public void inc(HistogramMetric other) {
+        if (Arrays.equals(upperBounds, other.upperBounds) == false) {
+            throw new IllegalArgumentException(
+                "cannot add histogram with upper bounds " + Arrays.toString(other.upperBounds) + " to " + Arrays.toString(upperBounds)
+            );
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i].add(other.counts[i].sum());
+        }
+    }
+
+    public long[] upperBounds() {
+        return upperBounds.clone();
+    }
+
+    /**
+     * Returns the count of every bucket, which is one more than the number of upper bounds.
+     */
+    public long[] counts() {
+        final long[] result = new long[counts.length];
+        for (int i = 0; i < counts.length; i++) {
+            result[i] = counts[i].sum();
+        }
+        return result;
+    }
+}
@@ -245,6 +245,21 @@ public final class Settings implements ToXContentFragment {
         );
     }
 
+    /**
+     * Returns a new settings object that contains the settings of the current one whose values are different from, or
+     * missing in, the given settings. Secure settings are not included.
+     */
+    public Settings differenceFrom(Settings other) {
+        return new Settings(
+            new FilteredMap(
+                this.settings,
+                key -> other.settings.containsKey(key) == false || Objects.equals(settings.get(key), other.settings.get(key)) == false,
+                null
+            ),
+            null
+        );
+    }
+
     /**
      * Returns the settings mapped to the given setting name.
      */
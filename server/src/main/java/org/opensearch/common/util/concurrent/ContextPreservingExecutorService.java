@@ -36,6 +36,9 @@ class ContextPreservingExecutorService extends AbstractExecutorService {
     public void execute(Runnable command) {
         final Runnable contextPreserving = threadContext.preserveContext(command);
         delegate.execute(() -> {
+            if (beforeTaskStarted() == false) {
+                return;
+            }
             try {
                 contextPreserving.run();
                 // Tasks submitted via submit()/invokeAll()/invokeAny() are RunnableFutures that capture any thrown
@@ -48,6 +51,15 @@ class ContextPreservingExecutorService extends AbstractExecutorService {
         });
     }
 
+    /**
+     * Invoked on the executing thread before a task runs. If this returns {@code true}, the task runs and
+     * {@link #onTaskFinished()} is invoked afterwards, so anything acquired here can be released there. If it returns
+     * {@code false}, the task is dropped and neither runs nor reaches {@link #onTaskFinished()}. Returns {@code true} by default.
+     */
+    protected boolean beforeTaskStarted() {
+        return true;
+    }
+
     /**
      * Invoked on the executing thread once a task has finished, whether it completed normally or threw. Rethrowing a
      * fatal {@link Error} happens before this, so it is called from a finally block. Does nothing by default.
@@ -277,11 +277,31 @@ public class OpenSearchExecutors {
         final String nodeName,
         final String namePrefix,
         final ThreadContext threadContext
+    ) {
+        return newVirtualThreadPerTaskExecutor(nodeName, namePrefix, -1, threadContext);
+    }
+
+    /**
+     * Returns a new executor that creates a new virtual thread for each task and runs at most {@code maxConcurrency}
+     * tasks at once. Tasks over the limit wait on their own virtual thread until a running task finishes.
+     *
+     * @param nodeName       the name of the node
+     * @param namePrefix     the name prefix for virtual threads
+     * @param maxConcurrency the maximum number of tasks that run at once, or a non-positive value for no limit
+     * @param threadContext  the thread context to preserve across task execution
+     * @return a new virtual-thread-per-task executor
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor(
+        final String nodeName,
+        final String namePrefix,
+        final int maxConcurrency,
+        final ThreadContext threadContext
     ) {
         assert nodeName != null && false == nodeName.isEmpty();
-        final ThreadFactory threadFactory = Thread.ofVirtual().name(threadName(nodeName, namePrefix) + "#", 0).factory();
+        final String threadNamePrefix = threadName(nodeName, namePrefix) + "#";
+        final ThreadFactory threadFactory = Thread.ofVirtual().name(threadNamePrefix, 0).factory();
         final ExecutorService delegate = Executors.newThreadPerTaskExecutor(threadFactory);
-        return new VirtualThreadPerTaskExecutorService(delegate, threadContext);
+        return new VirtualThreadPerTaskExecutorService(delegate, threadContext, threadNamePrefix, maxConcurrency);
     }
 
     /**
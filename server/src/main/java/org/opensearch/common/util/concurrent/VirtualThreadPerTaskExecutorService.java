@@ -8,12 +8,16 @@
 
 package org.opensearch.common.util.concurrent;
 
+import org.opensearch.common.Nullable;
+
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
  * An {@link ExecutorService} that runs each task on its own virtual thread, preserving the {@link ThreadContext} at
- * submission time.
+ * submission time. An optional concurrency limit bounds how many tasks run at once: tasks over the limit park their
+ * virtual thread until a running task finishes, which costs a small heap object rather than a platform thread.
  *
  * @opensearch.internal
  */
@@ -21,15 +25,38 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
 
     /**
      * Tasks submitted but not yet finished. A thread-per-task executor has no queue, so a submitted task is either
-     * running or about to be, making this both the in-flight task count and the live thread count.
+     * running, waiting for a permit, or about to be, making this both the submitted task count and the live thread count.
      */
     private final LongAdder active = new LongAdder();
 
+    /** Tasks that hold a permit and are running. Without a concurrency limit every started task is running. */
+    private final LongAdder running = new LongAdder();
+
     /** Tasks that have finished, whether normally or by throwing. */
     private final LongAdder completed = new LongAdder();
 
+    /** Times a virtual thread of this executor was reported as pinned to its carrier thread. */
+    private final LongAdder pinned = new LongAdder();
+
+    private final String threadNamePrefix;
+    private final int maxConcurrency;
+    @Nullable
+    private final Semaphore permits;
+
     VirtualThreadPerTaskExecutorService(ExecutorService delegate, ThreadContext threadContext) {
+        this(delegate, threadContext, null, -1);
+    }
+
+    VirtualThreadPerTaskExecutorService(
+        ExecutorService delegate,
+        ThreadContext threadContext,
+        @Nullable String threadNamePrefix,
+        int maxConcurrency
+    ) {
         super(delegate, threadContext);
+        this.threadNamePrefix = threadNamePrefix;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
     }
 
     @Override
@@ -47,14 +74,43 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
         }
     }
 
+    @Override
+    protected boolean beforeTaskStarted() {
+        if (permits != null) {
+            try {
+                // parks the virtual thread, not its carrier, so waiting tasks do not hold on to a platform thread
+                permits.acquire();
+            } catch (InterruptedException e) {
+                // shutdownNow() interrupted the task while it waited for a permit, so it is dropped like a queued task
+                active.decrement();
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        running.increment();
+        return true;
+    }
+
     @Override
     protected void onTaskFinished() {
+        running.decrement();
+        if (permits != null) {
+            permits.release();
+        }
         active.decrement();
         completed.increment();
     }
 
     /**
-     * Returns the number of tasks that have been submitted but have not yet finished.
+     * Records that one of the virtual threads of this executor was pinned to its carrier thread.
+     */
+    public void onPinned() {
+        pinned.increment();
+    }
+
+    /**
+     * Returns the number of tasks that have been submitted but have not yet finished, including those waiting for a
+     * permit. See {@link #getInFlightCount()} for the tasks that are actually running.
      */
     public int getActiveCount() {
         // Clamp to zero because LongAdder::sum isn't atomic when concurrent updates
@@ -64,10 +120,46 @@ public class VirtualThreadPerTaskExecutorService extends ContextPreservingExecut
         return (int) Math.max(0, active.sum());
     }
 
+    /**
+     * Returns the number of tasks that are running, which is at most {@link #getMaxConcurrency()} if a limit is set.
+     */
+    public int getInFlightCount() {
+        return (int) Math.max(0, running.sum());
+    }
+
+    /**
+     * Returns the number of submitted tasks that wait for a running task to finish before they can start.
+     */
+    public int getWaitingCount() {
+        return Math.max(0, getActiveCount() - getInFlightCount());
+    }
+
     /**
      * Returns the number of tasks that have finished executing.
      */
     public long getCompletedTaskCount() {
         return completed.sum();
     }
+
+    /**
+     * Returns the number of times a virtual thread of this executor was reported as pinned to its carrier thread.
+     */
+    public long getPinnedCount() {
+        return pinned.sum();
+    }
+
+    /**
+     * Returns the maximum number of tasks that run at once, or {@code -1} if the number is unbounded.
+     */
+    public int getMaxConcurrency() {
+        return permits == null ? -1 : maxConcurrency;
+    }
+
+    /**
+     * Returns the prefix of the names of the threads of this executor, or {@code null} if unknown.
+     */
+    @Nullable
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
 }
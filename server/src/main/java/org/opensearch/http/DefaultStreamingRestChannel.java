@@ -66,6 +66,11 @@ class DefaultStreamingRestChannel extends DefaultRestChannel implements Streamin
 
     @Override
     public void sendChunk(HttpChunk chunk) {
+        sendChunk(chunk, ActionListener.wrap(() -> {}));
+    }
+
+    @Override
+    public void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
         String opaque = null;
         boolean success = false;
         final List<Releasable> toClose = new ArrayList<>(3);
@@ -81,8 +86,7 @@ class DefaultStreamingRestChannel extends DefaultRestChannel implements Streamin
                 toClose.add((Releasable) bytesStreamOutput);
             }
 
-            ActionListener<Void> listener = ActionListener.wrap(() -> Releasables.close(toClose));
-            streamingHttpChannel.sendChunk(chunk, listener);
+            streamingHttpChannel.sendChunk(chunk, ActionListener.runBefore(listener, () -> Releasables.close(toClose)));
             success = true;
         } finally {
             if (success == false) {
@@ -107,6 +107,7 @@ import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.script.ScriptService;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.storage.directory.TieredDataFormatAwareStoreDirectoryFactory;
+import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.client.Client;
 
@@ -1294,6 +1295,19 @@ public final class IndexModule {
         Supplier<RepositoriesService> repositoriesService,
         ThreadPool threadPool,
         FileCache remoteStoreFileCache
+    ) {
+        return createBuiltInDirectoryFactories(repositoriesService, threadPool, remoteStoreFileCache, () -> null);
+    }
+
+    /**
+     * Creates the built-in directory factories. Searchable snapshot files read ahead as per the tiered storage prefetch
+     * settings, when the supplier returns any.
+     */
+    public static Map<String, IndexStorePlugin.DirectoryFactory> createBuiltInDirectoryFactories(
+        Supplier<RepositoriesService> repositoriesService,
+        ThreadPool threadPool,
+        FileCache remoteStoreFileCache,
+        Supplier<TieredStoragePrefetchSettings> prefetchSettingsSupplier
     ) {
         final Map<String, IndexStorePlugin.DirectoryFactory> factories = new HashMap<>();
         for (Type type : Type.values()) {
@@ -1308,7 +1322,7 @@ public final class IndexModule {
                 case REMOTE_SNAPSHOT:
                     factories.put(
                         type.getSettingsKey(),
-                        new RemoteSnapshotDirectoryFactory(repositoriesService, threadPool, remoteStoreFileCache)
+                        new RemoteSnapshotDirectoryFactory(repositoriesService, threadPool, remoteStoreFileCache, prefetchSettingsSupplier)
                     );
                     break;
                 default:
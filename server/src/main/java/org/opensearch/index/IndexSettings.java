@@ -176,6 +176,69 @@ public final class IndexSettings {
         Property.IndexScope
     );
 
+    /**
+     * If enabled, the translog fsyncs that write requests wait on are performed by a single flusher task on the translog sync
+     * thread pool, which coalesces all pending locations into one write and fsync, instead of on a write thread. Responses are
+     * still only sent once the operations are durable.
+     */
+    public static final Setting<Boolean> INDEX_TRANSLOG_GROUP_COMMIT_ENABLED_SETTING = Setting.boolSetting(
+        "index.translog.group_commit.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
+    /**
+     * How long the translog group commit flusher waits after its previous run before fsyncing again, allowing more
+     * operations to join a single fsync at the cost of request latency. Only applies if group commit is enabled.
+     */
+    public static final Setting<TimeValue> INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING = Setting.timeSetting(
+        "index.translog.group_commit.interval",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        TimeValue.timeValueSeconds(1),
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * If enabled, the primary parses all index items of a shard bulk request before executing any of them, instead of parsing
+     * each item right before it is executed. Items whose parsed document is still valid for the mapping at execution time
+     * are indexed without being parsed again.
+     */
+    public static final Setting<Boolean> INDEX_BULK_BATCHED_PARSING_ENABLED_SETTING = Setting.boolSetting(
+        "index.bulk.batched_parsing.enabled",
+        false,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The maximum number of threads, including the thread executing the shard bulk request, that parse its items when
+     * batched parsing is enabled. Additional threads are borrowed from the write thread pool only if it has capacity.
+     */
+    public static final Setting<Integer> INDEX_BULK_BATCHED_PARSING_THREADS_SETTING = Setting.intSetting(
+        "index.bulk.batched_parsing.threads",
+        1,
+        1,
+        32,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
+    /**
+     * The maximum number of replicas of a segment replication index that copy new segments directly from any one shard copy.
+     * With the default of {@code 0} every replica copies from the primary. Otherwise started replicas are arranged in a tree
+     * rooted at the primary in which each copy serves at most this many downstream replicas, {@code 1} forming a chain.
+     */
+    public static final Setting<Integer> INDEX_SEGMENT_REPLICATION_FANOUT_SETTING = Setting.intSetting(
+        "index.segment_replication.fanout",
+        0,
+        0,
+        Property.Dynamic,
+        Property.IndexScope
+    );
+
     public static final Setting<TimeValue> INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING = Setting.timeSetting(
         "index.segment_replication.publish_referenced_segments_interval",
         TimeValue.timeValueMinutes(10),
@@ -513,6 +576,17 @@ public final class IndexSettings {
         Property.Final
     );
 
+    /**
+     * Specifies if the engine should keep live document versions in striped primitive arrays guarded by lock stripes,
+     * instead of one version object and one lock per document id. This reduces allocations for update heavy workloads.
+     */
+    public static final Setting<Boolean> INDEX_PACKED_VERSION_MAP_ENABLED_SETTING = Setting.boolSetting(
+        "index.packed_version_map.enabled",
+        false,
+        Property.IndexScope,
+        Property.Final
+    );
+
     /**
      * Maximum number of indexing request retries in case LookupMapLockAcquisitionException is encountered for
      * context aware indexes.
@@ -960,6 +1034,11 @@ public final class IndexSettings {
     private volatile Translog.Durability durability;
     private final boolean translogReadForward;
     private volatile TimeValue syncInterval;
+    private final boolean translogGroupCommitEnabled;
+    private volatile TimeValue translogGroupCommitInterval;
+    private volatile boolean bulkBatchedParsingEnabled;
+    private volatile int bulkBatchedParsingThreads;
+    private volatile int segmentReplicationFanout;
     private volatile TimeValue publishReferencedSegmentsInterval;
     private volatile TimeValue refreshInterval;
     private volatile TimeValue periodicFlushInterval;
@@ -976,6 +1055,7 @@ public final class IndexSettings {
     private long gcDeletesInMillis = DEFAULT_GC_DELETES.millis();
     private final boolean softDeleteEnabled;
     private final boolean contextAwareEnabled;
+    private final boolean packedVersionMapEnabled;
     private int maxRetryOnLookupMapAcquisitionException;
     private volatile long softDeleteRetentionOperations;
 
@@ -1051,6 +1131,7 @@ public final class IndexSettings {
      * The minimum segment size for streaming aggregations.
      */
     private volatile int streamingAggregationMinSegmentSize;
+    private volatile int streamingAggregationTermsFlushBatchSize;
 
     /**
      * The max amount of time to wait for merges
@@ -1189,6 +1270,11 @@ public final class IndexSettings {
         this.translogReadForward = INDEX_TRANSLOG_READ_FORWARD_SETTING.get(settings);
         defaultFields = scopedSettings.get(DEFAULT_FIELD_SETTING);
         syncInterval = INDEX_TRANSLOG_SYNC_INTERVAL_SETTING.get(settings);
+        translogGroupCommitEnabled = scopedSettings.get(INDEX_TRANSLOG_GROUP_COMMIT_ENABLED_SETTING);
+        translogGroupCommitInterval = scopedSettings.get(INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING);
+        bulkBatchedParsingEnabled = scopedSettings.get(INDEX_BULK_BATCHED_PARSING_ENABLED_SETTING);
+        bulkBatchedParsingThreads = scopedSettings.get(INDEX_BULK_BATCHED_PARSING_THREADS_SETTING);
+        segmentReplicationFanout = scopedSettings.get(INDEX_SEGMENT_REPLICATION_FANOUT_SETTING);
         publishReferencedSegmentsInterval = INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING.get(settings);
         refreshInterval = scopedSettings.get(INDEX_REFRESH_INTERVAL_SETTING);
         periodicFlushInterval = scopedSettings.get(INDEX_PERIODIC_FLUSH_INTERVAL_SETTING);
@@ -1199,6 +1285,7 @@ public final class IndexSettings {
         gcDeletesInMillis = scopedSettings.get(INDEX_GC_DELETES_SETTING).getMillis();
         softDeleteEnabled = scopedSettings.get(INDEX_SOFT_DELETES_SETTING);
         contextAwareEnabled = scopedSettings.get(INDEX_CONTEXT_AWARE_ENABLED_SETTING);
+        packedVersionMapEnabled = scopedSettings.get(INDEX_PACKED_VERSION_MAP_ENABLED_SETTING);
         maxRetryOnLookupMapAcquisitionException = scopedSettings.get(INDEX_MAX_RETRY_ON_LOOKUP_MAP_LOCK_ACQUISITION_EXCEPTION);
         assert softDeleteEnabled || version.before(Version.V_2_0_0) : "soft deletes must be enabled in version " + version;
         softDeleteRetentionOperations = scopedSettings.get(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING);
@@ -1221,6 +1308,9 @@ public final class IndexSettings {
         maxNestedQueryDepth = scopedSettings.get(MAX_NESTED_QUERY_DEPTH_SETTING);
         maxRegexLength = scopedSettings.get(MAX_REGEX_LENGTH_SETTING);
         streamingAggregationMinSegmentSize = scopedSettings.get(FlushModeResolver.STREAMING_AGGREGATION_MIN_SEGMENT_SIZE_SETTING);
+        streamingAggregationTermsFlushBatchSize = scopedSettings.get(
+            FlushModeResolver.STREAMING_AGGREGATION_TERMS_FLUSH_BATCH_SIZE_SETTING
+        );
         this.tieredMergePolicyProvider = new TieredMergePolicyProvider(logger, this);
         this.logByteSizeMergePolicyProvider = new LogByteSizeMergePolicyProvider(logger, this);
         this.indexSortConfig = new IndexSortConfig(this);
@@ -1326,6 +1416,10 @@ public final class IndexSettings {
         );
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_DURABILITY_SETTING, this::setTranslogDurability);
         scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_SYNC_INTERVAL_SETTING, this::setTranslogSyncInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_TRANSLOG_GROUP_COMMIT_INTERVAL_SETTING, this::setTranslogGroupCommitInterval);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_BATCHED_PARSING_ENABLED_SETTING, this::setBulkBatchedParsingEnabled);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_BULK_BATCHED_PARSING_THREADS_SETTING, this::setBulkBatchedParsingThreads);
+        scopedSettings.addSettingsUpdateConsumer(INDEX_SEGMENT_REPLICATION_FANOUT_SETTING, this::setSegmentReplicationFanout);
         scopedSettings.addSettingsUpdateConsumer(
             INDEX_PUBLISH_REFERENCED_SEGMENTS_INTERVAL_SETTING,
             this::setPublishReferencedSegmentsInterval
@@ -1361,6 +1455,10 @@ public final class IndexSettings {
             FlushModeResolver.STREAMING_AGGREGATION_MIN_SEGMENT_SIZE_SETTING,
             this::setStreamingAggregationMinSegmentSize
         );
+        scopedSettings.addSettingsUpdateConsumer(
+            FlushModeResolver.STREAMING_AGGREGATION_TERMS_FLUSH_BATCH_SIZE_SETTING,
+            this::setStreamingAggregationTermsFlushBatchSize
+        );
         scopedSettings.addSettingsUpdateConsumer(DEFAULT_PIPELINE, this::setDefaultPipeline);
         scopedSettings.addSettingsUpdateConsumer(FINAL_PIPELINE, this::setRequiredPipeline);
         scopedSettings.addSettingsUpdateConsumer(INDEX_SOFT_DELETES_RETENTION_OPERATIONS_SETTING, this::setSoftDeleteRetentionOperations);
@@ -1752,6 +1850,58 @@ public final class IndexSettings {
         this.syncInterval = translogSyncInterval;
     }
 
+    /**
+     * Returns <code>true</code> if request durability fsyncs are coalesced by a dedicated flusher instead of the writing threads.
+     */
+    public boolean isTranslogGroupCommitEnabled() {
+        return translogGroupCommitEnabled;
+    }
+
+    /**
+     * Returns the minimum interval between two runs of the translog group commit flusher.
+     */
+    public TimeValue getTranslogGroupCommitInterval() {
+        return translogGroupCommitInterval;
+    }
+
+    private void setTranslogGroupCommitInterval(TimeValue translogGroupCommitInterval) {
+        this.translogGroupCommitInterval = translogGroupCommitInterval;
+    }
+
+    /**
+     * Returns <code>true</code> if the primary parses all index items of a shard bulk request before executing them.
+     */
+    public boolean isBulkBatchedParsingEnabled() {
+        return bulkBatchedParsingEnabled;
+    }
+
+    private void setBulkBatchedParsingEnabled(boolean bulkBatchedParsingEnabled) {
+        this.bulkBatchedParsingEnabled = bulkBatchedParsingEnabled;
+    }
+
+    /**
+     * Returns the maximum number of threads that parse the items of a shard bulk request when batched parsing is enabled.
+     */
+    public int getBulkBatchedParsingThreads() {
+        return bulkBatchedParsingThreads;
+    }
+
+    private void setBulkBatchedParsingThreads(int bulkBatchedParsingThreads) {
+        this.bulkBatchedParsingThreads = bulkBatchedParsingThreads;
+    }
+
+    /**
+     * Returns the maximum number of replicas that copy segments directly from any one shard copy, or {@code 0} if every replica
+     * copies from the primary.
+     */
+    public int getSegmentReplicationFanout() {
+        return segmentReplicationFanout;
+    }
+
+    private void setSegmentReplicationFanout(int segmentReplicationFanout) {
+        this.segmentReplicationFanout = segmentReplicationFanout;
+    }
+
     public TimeValue getPublishReferencedSegmentsInterval() {
         return publishReferencedSegmentsInterval;
     }
@@ -2140,6 +2290,17 @@ public final class IndexSettings {
         this.streamingAggregationMinSegmentSize = streamingAggregationMinSegmentSize;
     }
 
+    /**
+     * Returns the maximum number of buckets a streaming terms aggregation flushes per batch, or 0 to keep the per-segment topN.
+     */
+    public int getStreamingAggregationTermsFlushBatchSize() {
+        return streamingAggregationTermsFlushBatchSize;
+    }
+
+    private void setStreamingAggregationTermsFlushBatchSize(int streamingAggregationTermsFlushBatchSize) {
+        this.streamingAggregationTermsFlushBatchSize = streamingAggregationTermsFlushBatchSize;
+    }
+
     /**
      * Returns the index sort config that should be used for this index.
      */
@@ -2199,6 +2360,13 @@ public final class IndexSettings {
         return contextAwareEnabled && FeatureFlags.isEnabled(CONTEXT_AWARE_MIGRATION_EXPERIMENTAL_SETTING);
     }
 
+    /**
+     * Returns <code>true</code> if the engine keeps live versions in a packed, lock-striped version map.
+     */
+    public boolean isPackedVersionMapEnabled() {
+        return packedVersionMapEnabled;
+    }
+
     private void setMaxRetryOnLookupMapAcquisitionException(int maxRetryOnLookupMapAcquisitionException) {
         this.maxRetryOnLookupMapAcquisitionException = maxRetryOnLookupMapAcquisitionException;
     }
@@ -8,6 +8,7 @@
 
 package org.opensearch.index;
 
+import org.opensearch.Version;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.unit.TimeValue;
@@ -37,6 +38,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
     // doesn't include time taken by primary to upload data to remote store.
     private final long currentReplicationTimeMillis;
     private final long lastCompletedReplicationTimeMillis;
+    // Number of copy hops between the primary and this replica, more than 1 when replicas fan segments out to other replicas.
+    private final int replicationHops;
 
     @Nullable
     private SegmentReplicationState currentReplicationState;
@@ -48,6 +51,26 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         long currentReplicationTimeMillis,
         long currentReplicationLagMillis,
         long lastCompletedReplicationTime
+    ) {
+        this(
+            allocationId,
+            checkpointsBehindCount,
+            bytesBehindCount,
+            currentReplicationTimeMillis,
+            currentReplicationLagMillis,
+            lastCompletedReplicationTime,
+            1
+        );
+    }
+
+    public SegmentReplicationShardStats(
+        String allocationId,
+        long checkpointsBehindCount,
+        long bytesBehindCount,
+        long currentReplicationTimeMillis,
+        long currentReplicationLagMillis,
+        long lastCompletedReplicationTime,
+        int replicationHops
     ) {
         this.allocationId = allocationId;
         this.checkpointsBehindCount = checkpointsBehindCount;
@@ -55,6 +78,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = currentReplicationTimeMillis;
         this.currentReplicationLagMillis = currentReplicationLagMillis;
         this.lastCompletedReplicationTimeMillis = lastCompletedReplicationTime;
+        this.replicationHops = replicationHops;
     }
 
     public SegmentReplicationShardStats(StreamInput in) throws IOException {
@@ -64,6 +88,11 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         this.currentReplicationTimeMillis = in.readVLong();
         this.lastCompletedReplicationTimeMillis = in.readVLong();
         this.currentReplicationLagMillis = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            this.replicationHops = in.readVInt();
+        } else {
+            this.replicationHops = 1;
+        }
     }
 
     public String getAllocationId() {
@@ -99,6 +128,15 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         return lastCompletedReplicationTimeMillis;
     }
 
+    /**
+     * Number of copy hops between the primary and this replica: {@code 1} when the replica copies segments from the primary,
+     * more when it copies them from another replica.
+     * @return replicationHops
+     */
+    public int getReplicationHops() {
+        return replicationHops;
+    }
+
     public void setCurrentReplicationState(SegmentReplicationState currentReplicationState) {
         this.currentReplicationState = currentReplicationState;
     }
@@ -117,6 +155,7 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         builder.field("current_replication_time", new TimeValue(currentReplicationTimeMillis));
         builder.field("current_replication_lag", new TimeValue(currentReplicationLagMillis));
         builder.field("last_completed_replication_time", new TimeValue(lastCompletedReplicationTimeMillis));
+        builder.field("replication_hops", replicationHops);
         if (currentReplicationState != null) {
             builder.startObject();
             currentReplicationState.toXContent(builder, params);
@@ -134,6 +173,9 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
         out.writeVLong(currentReplicationTimeMillis);
         out.writeVLong(lastCompletedReplicationTimeMillis);
         out.writeVLong(currentReplicationLagMillis);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVInt(replicationHops);
+        }
     }
 
     @Override
@@ -151,6 +193,8 @@ public class SegmentReplicationShardStats implements Writeable, ToXContentFragme
             + currentReplicationTimeMillis
             + ", lastCompletedReplicationTimeMillis="
             + lastCompletedReplicationTimeMillis
+            + ", replicationHops="
+            + replicationHops
             + ", currentReplicationState="
             + currentReplicationState
             + '}';
@@ -33,6 +33,7 @@
 package org.opensearch.index.cache.query;
 
 import org.apache.lucene.search.DocIdSet;
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -57,6 +58,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
     private long missCount;
     private long cacheCount;
     private long cacheSize;
+    private long admissionRejectedCount;
 
     public QueryCacheStats() {}
 
@@ -71,6 +73,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         this.missCount = builder.missCount;
         this.cacheCount = builder.cacheCount;
         this.cacheSize = builder.cacheSize;
+        this.admissionRejectedCount = builder.admissionRejectedCount;
     }
 
     public QueryCacheStats(StreamInput in) throws IOException {
@@ -79,6 +82,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount = in.readLong();
         cacheCount = in.readLong();
         cacheSize = in.readLong();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            admissionRejectedCount = in.readVLong();
+        }
     }
 
     /**
@@ -103,6 +109,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         missCount += stats.missCount;
         cacheCount += stats.cacheCount;
         cacheSize += stats.cacheSize;
+        admissionRejectedCount += stats.admissionRejectedCount;
     }
 
     public long getMemorySizeInBytes() {
@@ -155,6 +162,14 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         return cacheCount - cacheSize;
     }
 
+    /**
+     * The number of times a query that the caching policy wanted to cache was turned away by the admission policy, because it
+     * was used less often than the query it would have evicted.
+     */
+    public long getAdmissionRejectedCount() {
+        return admissionRejectedCount;
+    }
+
     /**
      * Builder for the {@link QueryCacheStats} class.
      * Provides a fluent API for constructing a QueryCacheStats object.
@@ -165,6 +180,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         private long missCount = 0;
         private long cacheCount = 0;
         private long cacheSize = 0;
+        private long admissionRejectedCount = 0;
 
         public Builder() {}
 
@@ -193,6 +209,11 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder admissionRejectedCount(long count) {
+            this.admissionRejectedCount = count;
+            return this;
+        }
+
         /**
          * Creates a {@link QueryCacheStats} object from the builder's current state.
          * @return A new QueryCacheStats instance.
@@ -209,6 +230,9 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         out.writeLong(missCount);
         out.writeLong(cacheCount);
         out.writeLong(cacheSize);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeVLong(admissionRejectedCount);
+        }
     }
 
     @Override
@@ -221,6 +245,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         builder.field(Fields.CACHE_SIZE, getCacheSize());
         builder.field(Fields.CACHE_COUNT, getCacheCount());
         builder.field(Fields.EVICTIONS, getEvictions());
+        builder.field(Fields.ADMISSION_REJECTED_COUNT, getAdmissionRejectedCount());
         builder.endObject();
         return builder;
     }
@@ -240,6 +265,7 @@ public class QueryCacheStats implements Writeable, ToXContentFragment {
         static final String CACHE_SIZE = "cache_size";
         static final String CACHE_COUNT = "cache_count";
         static final String EVICTIONS = "evictions";
+        static final String ADMISSION_REJECTED_COUNT = "admission_rejected_count";
     }
 
 }
@@ -28,4 +28,14 @@ public class CompositeIndexConstants {
      */
     public static final String STAR_TREE_DOCS_COUNT = "starTreeDocsCount";
 
+    /**
+     * Represents the segment attribute holding the time taken, in milliseconds, to build the star-trees of a segment.
+     */
+    public static final String STAR_TREE_BUILD_TIME_MILLIS = "starTreeBuildTimeMillis";
+
+    /**
+     * Represents the segment attribute holding the number of bytes spilled to temporary files while building the star-trees of a segment.
+     */
+    public static final String STAR_TREE_SPILL_BYTES = "starTreeSpillBytes";
+
 }
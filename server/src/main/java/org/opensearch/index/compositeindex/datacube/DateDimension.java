@@ -18,12 +18,18 @@ import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.DateFieldMapper;
 
 import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneOffsetTransitionRule;
+import java.time.zone.ZoneRules;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -37,6 +43,23 @@ public class DateDimension implements Dimension {
     private final List<DateTimeUnitRounding> calendarIntervals;
     public static final String CALENDAR_INTERVALS = "calendar_intervals";
     public static final String DATE = "date";
+
+    /**
+     * Length of the calendar intervals that have a fixed length, by short name
+     */
+    private static final Map<String, Long> FIXED_INTERVAL_MILLIS = Map.of(
+        Rounding.DateTimeUnit.SECOND_OF_MINUTE.shortName(),
+        TimeUnit.SECONDS.toMillis(1),
+        Rounding.DateTimeUnit.MINUTES_OF_HOUR.shortName(),
+        TimeUnit.MINUTES.toMillis(1),
+        DataCubeDateTimeUnit.QUARTER_HOUR_OF_DAY.shortName(),
+        TimeUnit.MINUTES.toMillis(15),
+        DataCubeDateTimeUnit.HALF_HOUR_OF_DAY.shortName(),
+        TimeUnit.MINUTES.toMillis(30),
+        Rounding.DateTimeUnit.HOUR_OF_DAY.shortName(),
+        TimeUnit.HOURS.toMillis(1)
+    );
+
     private final String field;
     private final List<DateTimeUnitRounding> sortedCalendarIntervals;
     private final DateFieldMapper.Resolution resolution;
@@ -187,6 +210,71 @@ public class DateDimension implements Dimension {
         return closestValidInterval;
     }
 
+    /**
+     * Returns the closest valid calendar interval to be used for the search interval of a rounding in the given time zone
+     * and with the given offset, or null if there is none. The values of the dimension are rounded in UTC, so unless the
+     * rounding is in UTC without offset, only fixed length intervals whose buckets never straddle a bucket boundary of the
+     * rounding can be used: those that the offset and every UTC offset the time zone had since the epoch are multiples of.
+     */
+    public DateTimeUnitRounding findClosestValidInterval(DateTimeUnitRounding searchInterval, ZoneId timeZone, long offsetMillis) {
+        final ZoneRules rules = timeZone.getRules();
+        if (offsetMillis == 0 && rules.isFixedOffset() && rules.getOffset(Instant.EPOCH).getTotalSeconds() == 0) {
+            return findClosestValidInterval(searchInterval);
+        }
+        DateTimeUnitComparator comparator = new DateTimeUnitComparator();
+        DateTimeUnitRounding closestValidInterval = null;
+        for (DateTimeUnitRounding interval : sortedCalendarIntervals) {
+            if (comparator.compare(interval, searchInterval) > 0) {
+                break;
+            }
+            Long intervalMillis = FIXED_INTERVAL_MILLIS.get(interval.shortName());
+            if (intervalMillis != null && offsetMillis % intervalMillis == 0 && isAlignedWithTimeZone(intervalMillis, rules)) {
+                closestValidInterval = interval;
+            }
+        }
+        return closestValidInterval;
+    }
+
+    private static boolean isAlignedWithTimeZone(long intervalMillis, ZoneRules rules) {
+        if (TimeUnit.SECONDS.toMillis(rules.getOffset(Instant.EPOCH).getTotalSeconds()) % intervalMillis != 0) {
+            return false;
+        }
+        for (ZoneOffsetTransition transition : rules.getTransitions()) {
+            if (transition.getInstant().isAfter(Instant.EPOCH)
+                && TimeUnit.SECONDS.toMillis(transition.getOffsetAfter().getTotalSeconds()) % intervalMillis != 0) {
+                return false;
+            }
+        }
+        for (ZoneOffsetTransitionRule rule : rules.getTransitionRules()) {
+            if (TimeUnit.SECONDS.toMillis(rule.getOffsetBefore().getTotalSeconds()) % intervalMillis != 0
+                || TimeUnit.SECONDS.toMillis(rule.getOffsetAfter().getTotalSeconds()) % intervalMillis != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the coarsest calendar interval that all the given timestamps are aligned to, that is each of them is the
+     * start of a bucket of the interval, or null if there is none. {@link Long#MIN_VALUE} and {@link Long#MAX_VALUE}
+     * stand for unbounded and are aligned to every interval.
+     */
+    public DateTimeUnitRounding findCoarsestAlignedInterval(long... utcMillis) {
+        for (DateTimeUnitRounding interval : sortedCalendarIntervals.reversed()) {
+            boolean aligned = true;
+            for (long value : utcMillis) {
+                if (value != Long.MIN_VALUE && value != Long.MAX_VALUE && interval.roundFloor(value) != value) {
+                    aligned = false;
+                    break;
+                }
+            }
+            if (aligned) {
+                return interval;
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns a sorted list of dateTimeUnits based on the DateTimeUnitComparator
      */
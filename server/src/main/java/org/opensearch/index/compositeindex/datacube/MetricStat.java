@@ -25,7 +25,9 @@ public enum MetricStat {
     MIN("min", 2),
     MAX("max", 3),
     AVG("avg", 4, VALUE_COUNT, SUM),
-    DOC_COUNT("doc_count", true, 5);
+    DOC_COUNT("doc_count", true, 5),
+    CARDINALITY("cardinality", 6),
+    PERCENTILES("percentiles", 7);
 
     private final String typeName;
     private final MetricStat[] baseMetrics;
@@ -73,6 +75,14 @@ public enum MetricStat {
         return baseMetrics != null && baseMetrics.length > 0;
     }
 
+    /**
+     * Return true if this metric is stored as a mergeable sketch rather than as a single numeric value
+     * For example, CARDINALITY is stored as an HLL++ sketch and PERCENTILES as a t-digest
+     */
+    public boolean isSketch() {
+        return this == CARDINALITY || this == PERCENTILES;
+    }
+
     public static MetricStat fromTypeName(String typeName) {
         for (MetricStat metric : MetricStat.values()) {
             // prevent system fields to be entered as user input
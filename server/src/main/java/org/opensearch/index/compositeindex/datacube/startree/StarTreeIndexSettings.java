@@ -97,6 +97,22 @@ public class StarTreeIndexSettings {
         Setting.Property.Final
     );
 
+    /**
+     * This setting configures the number of partitions the documents of a segment are split into, to be sorted
+     * concurrently on the fork-join pool while building the star-tree on flush and merge. A value of 1 sorts the
+     * documents on the indexing thread.
+     *
+     * @opensearch.experimental
+     */
+    public static final Setting<Integer> STAR_TREE_BUILD_PARALLELISM_SETTING = Setting.intSetting(
+        "index.composite_index.star_tree.build.parallelism",
+        1,
+        1,
+        64,
+        Setting.Property.IndexScope,
+        Setting.Property.Final
+    );
+
     /**
      * Default intervals for date dimension as part of star tree fields
      */
@@ -0,0 +1,83 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.fielddata.IndexNumericFieldData;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.OnHeapHyperLogLogPlusPlus;
+
+import java.io.IOException;
+
+/**
+ * Cardinality value aggregator for star tree, which keeps an HLL++ sketch of the distinct values of the field.
+ * Values are hashed the same way as the cardinality aggregation hashes them, so that the sketches can be merged into
+ * the ones collected from the segment documents.
+ *
+ * @opensearch.experimental
+ */
+class CardinalityValueAggregator extends SketchValueAggregator<OnHeapHyperLogLogPlusPlus> {
+
+    private final boolean hashLongValues;
+
+    public CardinalityValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+        this.hashLongValues = isIntegral(fieldValueConverter);
+    }
+
+    /**
+     * The cardinality aggregation hashes the long values of integral fields, and the double values of all other fields.
+     */
+    private static boolean isIntegral(FieldValueConverter fieldValueConverter) {
+        final IndexNumericFieldData.NumericType numericType;
+        if (fieldValueConverter instanceof NumberFieldMapper.NumberFieldType numberFieldType) {
+            numericType = numberFieldType.numericType();
+        } else if (fieldValueConverter instanceof NumberFieldMapper.NumberType numberType) {
+            numericType = numberType.numericType();
+        } else {
+            return false;
+        }
+        return numericType.isFloatingPoint() == false && numericType != IndexNumericFieldData.NumericType.UNSIGNED_LONG;
+    }
+
+    @Override
+    protected OnHeapHyperLogLogPlusPlus newSketch() {
+        return new OnHeapHyperLogLogPlusPlus(CARDINALITY_PRECISION);
+    }
+
+    @Override
+    protected void addSegmentValue(OnHeapHyperLogLogPlusPlus sketch, long segmentDocValue) {
+        final long hash = hashLongValues
+            ? BitMixer.mix64(segmentDocValue)
+            : BitMixer.mix64(Double.doubleToLongBits(fieldValueConverter.toDoubleValue(segmentDocValue)));
+        sketch.collect(0, hash);
+    }
+
+    @Override
+    protected void merge(OnHeapHyperLogLogPlusPlus sketch, OnHeapHyperLogLogPlusPlus other) {
+        sketch.merge(other, 0);
+    }
+
+    @Override
+    protected OnHeapHyperLogLogPlusPlus copy(OnHeapHyperLogLogPlusPlus sketch) {
+        return sketch.copy();
+    }
+
+    @Override
+    protected void writeTo(OnHeapHyperLogLogPlusPlus sketch, BytesStreamOutput out) throws IOException {
+        sketch.writeTo(0, out);
+    }
+
+    @Override
+    protected OnHeapHyperLogLogPlusPlus readFrom(StreamInput in) throws IOException {
+        return OnHeapHyperLogLogPlusPlus.readFrom(in);
+    }
+}
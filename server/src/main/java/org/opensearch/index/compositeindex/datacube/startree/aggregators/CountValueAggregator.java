@@ -15,7 +15,7 @@ import org.opensearch.index.mapper.NumberFieldMapper;
  *
  * @opensearch.experimental
  */
-public class CountValueAggregator implements ValueAggregator<Long> {
+public class CountValueAggregator implements NumericValueAggregator<Long> {
 
     public static final long DEFAULT_INITIAL_VALUE = 1L;
     private static final FieldValueConverter VALUE_AGGREGATOR_TYPE = NumberFieldMapper.NumberType.LONG;
@@ -16,7 +16,7 @@ import org.opensearch.index.mapper.NumberFieldMapper;
  *
  * @opensearch.experimental
  */
-public class DocCountAggregator implements ValueAggregator<Long> {
+public class DocCountAggregator implements NumericValueAggregator<Long> {
 
     private static final FieldValueConverter VALUE_AGGREGATOR_TYPE = NumberFieldMapper.NumberType.LONG;
 
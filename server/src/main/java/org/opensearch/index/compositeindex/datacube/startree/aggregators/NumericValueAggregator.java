@@ -0,0 +1,23 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.index.mapper.FieldValueConverter;
+
+/**
+ * A value aggregator whose aggregated values are numbers, stored as sorted numeric doc values in the star-tree.
+ *
+ * @opensearch.experimental
+ */
+public interface NumericValueAggregator<A> extends ValueAggregator<A> {
+
+    /**
+     * Returns the data type of the aggregated value.
+     */
+    FieldValueConverter getAggregatedValueType();
+}
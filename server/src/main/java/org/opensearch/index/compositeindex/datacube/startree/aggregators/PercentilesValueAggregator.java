@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.TDigestSketch;
+
+import java.io.IOException;
+
+/**
+ * Percentiles value aggregator for star tree, which keeps a t-digest of the values of the field.
+ *
+ * @opensearch.experimental
+ */
+class PercentilesValueAggregator extends SketchValueAggregator<TDigestSketch> {
+
+    public PercentilesValueAggregator(FieldValueConverter fieldValueConverter) {
+        super(fieldValueConverter);
+    }
+
+    @Override
+    protected TDigestSketch newSketch() {
+        return new TDigestSketch(PERCENTILES_COMPRESSION);
+    }
+
+    @Override
+    protected void addSegmentValue(TDigestSketch sketch, long segmentDocValue) {
+        sketch.add(fieldValueConverter.toDoubleValue(segmentDocValue));
+    }
+
+    @Override
+    protected void merge(TDigestSketch sketch, TDigestSketch other) {
+        sketch.merge(other);
+    }
+
+    @Override
+    protected TDigestSketch copy(TDigestSketch sketch) {
+        return sketch.copy();
+    }
+
+    @Override
+    protected void writeTo(TDigestSketch sketch, BytesStreamOutput out) throws IOException {
+        sketch.writeTo(out);
+    }
+
+    @Override
+    protected TDigestSketch readFrom(StreamInput in) throws IOException {
+        return TDigestSketch.readFrom(in);
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+package org.opensearch.index.compositeindex.datacube.startree.aggregators;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.mapper.FieldValueConverter;
+import org.opensearch.search.aggregations.metrics.HyperLogLogPlusPlus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Base class for aggregators of sketch metrics, whose aggregated value is a mergeable sketch of all the segment values
+ * rather than a single number. Sketches are mutable, so aggregated values are copied before they are merged into.
+ * Sketches have no numeric representation and are stored as binary doc values in the star-tree.
+ *
+ * @opensearch.experimental
+ */
+public abstract class SketchValueAggregator<A> implements ValueAggregator<A> {
+
+    /**
+     * Precision of the HLL++ sketches of cardinality metrics, the default precision of the cardinality aggregation
+     */
+    public static final int CARDINALITY_PRECISION = HyperLogLogPlusPlus.DEFAULT_PRECISION;
+
+    /**
+     * Compression of the t-digests of percentiles metrics, the default compression of the percentiles aggregation
+     */
+    public static final double PERCENTILES_COMPRESSION = 100.0;
+
+    protected final FieldValueConverter fieldValueConverter;
+
+    protected SketchValueAggregator(FieldValueConverter fieldValueConverter) {
+        this.fieldValueConverter = fieldValueConverter;
+    }
+
+    @Override
+    public A getInitialAggregatedValueForSegmentDocValue(Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return getIdentityMetricValue();
+        }
+        A sketch = newSketch();
+        addSegmentValue(sketch, segmentDocValue);
+        return sketch;
+    }
+
+    @Override
+    public A mergeAggregatedValueAndSegmentValue(A value, Long segmentDocValue) {
+        if (segmentDocValue == null) {
+            return value;
+        }
+        if (value == null) {
+            value = newSketch();
+        }
+        addSegmentValue(value, segmentDocValue);
+        return value;
+    }
+
+    @Override
+    public A mergeAggregatedValues(A value, A aggregatedValue) {
+        if (value == null) {
+            return aggregatedValue;
+        } else if (aggregatedValue == null) {
+            return copy(value);
+        }
+        merge(aggregatedValue, value);
+        return aggregatedValue;
+    }
+
+    @Override
+    public A getInitialAggregatedValue(A value) {
+        if (value == null) {
+            return getIdentityMetricValue();
+        }
+        return copy(value);
+    }
+
+    @Override
+    public A toAggregatedValueType(Long rawValue) {
+        return getInitialAggregatedValueForSegmentDocValue(rawValue);
+    }
+
+    @Override
+    public A getIdentityMetricValue() {
+        // a missing sketch does not alter the result of merges, and is not stored in the star-tree
+        return null;
+    }
+
+    /**
+     * Serializes the given sketch to the bytes stored in the star-tree.
+     */
+    public BytesRef toBytesRef(A sketch) {
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            writeTo(sketch, out);
+            return out.bytes().toBytesRef();
+        } catch (IOException e) {
+            throw new UncheckedIOException("unable to serialize sketch", e);
+        }
+    }
+
+    /**
+     * Deserializes a sketch from the bytes stored in the star-tree.
+     */
+    public A fromBytesRef(BytesRef bytes) {
+        try (StreamInput in = new BytesArray(bytes.bytes, bytes.offset, bytes.length).streamInput()) {
+            return readFrom(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("unable to deserialize sketch", e);
+        }
+    }
+
+    /**
+     * Returns a new empty sketch.
+     */
+    protected abstract A newSketch();
+
+    /**
+     * Adds a segment doc value, in the Lucene long representation of the field, to the sketch.
+     */
+    protected abstract void addSegmentValue(A sketch, long segmentDocValue);
+
+    /**
+     * Merges the second sketch into the first one.
+     */
+    protected abstract void merge(A sketch, A other);
+
+    /**
+     * Returns a deep copy of the sketch.
+     */
+    protected abstract A copy(A sketch);
+
+    protected abstract void writeTo(A sketch, BytesStreamOutput out) throws IOException;
+
+    protected abstract A readFrom(StreamInput in) throws IOException;
+}
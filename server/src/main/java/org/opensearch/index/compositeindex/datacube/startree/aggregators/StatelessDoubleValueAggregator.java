@@ -16,7 +16,7 @@ import org.opensearch.index.mapper.NumberFieldMapper;
  *
  * @opensearch.experimental
  */
-abstract class StatelessDoubleValueAggregator implements ValueAggregator<Double> {
+abstract class StatelessDoubleValueAggregator implements NumericValueAggregator<Double> {
 
     protected final FieldValueConverter fieldValueConverter;
     protected final Double identityValue;
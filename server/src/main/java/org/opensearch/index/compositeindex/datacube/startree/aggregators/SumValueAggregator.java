@@ -22,7 +22,7 @@ import org.opensearch.search.aggregations.metrics.CompensatedSum;
  *
  * @opensearch.experimental
  */
-class SumValueAggregator implements ValueAggregator<CompensatedSum> {
+class SumValueAggregator implements NumericValueAggregator<CompensatedSum> {
 
     private final FieldValueConverter fieldValueConverter;
     private final CompensatedSumType compensatedSumConverter;
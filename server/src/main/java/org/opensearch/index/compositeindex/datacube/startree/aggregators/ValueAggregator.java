@@ -7,8 +7,6 @@
  */
 package org.opensearch.index.compositeindex.datacube.startree.aggregators;
 
-import org.opensearch.index.mapper.FieldValueConverter;
-
 /**
  * A value aggregator that pre-aggregates on the input values for a specific type of aggregation.
  *
@@ -16,11 +14,6 @@ import org.opensearch.index.mapper.FieldValueConverter;
  */
 public interface ValueAggregator<A> {
 
-    /**
-     * Returns the data type of the aggregated value.
-     */
-    FieldValueConverter getAggregatedValueType();
-
     /**
      * Returns the initial aggregated value.
      */
@@ -14,6 +14,8 @@ import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.store.RandomAccessInput;
 import org.apache.lucene.store.TrackingDirectoryWrapper;
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.NumericUtils;
 import org.opensearch.common.annotation.ExperimentalApi;
 import org.opensearch.index.compositeindex.datacube.Metric;
@@ -21,6 +23,9 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.NumericValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.CompensatedSumType;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentBitSetUtil;
 import org.opensearch.index.mapper.FieldValueConverter;
@@ -37,6 +42,9 @@ import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.LONG;
 
 /**
  * Abstract class for managing star tree file operations.
+ * <p>
+ * Documents are of a fixed size, unless the star-tree has sketch metrics: aggregated sketches are stored inline with
+ * their length, so the start offset of every document is tracked instead.
  *
  * @opensearch.experimental
  */
@@ -50,6 +58,13 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     protected final SegmentWriteState state;
     protected int docSizeInBytes = -1;
     protected final int numDimensions;
+    protected final boolean hasSketchMetrics;
+    // start offset of each document, across all the files written, only tracked when documents are of variable size
+    private long[] docOffsets = new long[0];
+    private int numDocsWritten;
+    private long numBytesWritten;
+    // bytes written to the temporary files, including the ones written while merging files
+    protected long numBytesSpilled;
 
     public AbstractDocumentsFileManager(
         SegmentWriteState state,
@@ -63,6 +78,8 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         this.state = state;
         numMetrics = metricAggregatorInfos.size();
         this.numDimensions = numDimensions;
+        this.hasSketchMetrics = metricAggregatorInfos.stream()
+            .anyMatch(metricAggregatorInfo -> metricAggregatorInfo.getValueAggregators() instanceof SketchValueAggregator<?>);
     }
 
     private void setDocSizeInBytes(int numBytes) {
@@ -72,24 +89,66 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         assert docSizeInBytes == numBytes;
     }
 
+    /**
+     * Records the size of the document written next
+     */
+    private void recordDocument(int numBytes) {
+        if (hasSketchMetrics == false) {
+            setDocSizeInBytes(numBytes);
+            return;
+        }
+        if (numDocsWritten == docOffsets.length) {
+            docOffsets = ArrayUtil.grow(docOffsets, numDocsWritten + 1);
+        }
+        docOffsets[numDocsWritten++] = numBytesWritten;
+        numBytesWritten += numBytes;
+    }
+
+    /**
+     * Returns the offset of the given document from the start of the first file written
+     */
+    protected long getDocumentOffset(int docId) {
+        if (hasSketchMetrics) {
+            return docOffsets[docId];
+        }
+        return (long) docId * docSizeInBytes;
+    }
+
     /**
      * Write the star tree document to a byte buffer
      */
     protected int writeStarTreeDocument(StarTreeDocument starTreeDocument, IndexOutput output, boolean isAggregatedDoc) throws IOException {
-        int numBytes = calculateDocumentSize(starTreeDocument, isAggregatedDoc);
+        BytesRef[] sketches = isAggregatedDoc && hasSketchMetrics ? serializeSketches(starTreeDocument) : null;
+        int numBytes = calculateDocumentSize(starTreeDocument, sketches);
         byte[] bytes = new byte[numBytes];
         ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.nativeOrder());
         writeDimensions(starTreeDocument, buffer);
         if (isAggregatedDoc == false) {
             writeFlushMetrics(starTreeDocument, buffer);
         } else {
-            writeMetrics(starTreeDocument, buffer, isAggregatedDoc);
+            writeMetrics(starTreeDocument, buffer, isAggregatedDoc, sketches);
         }
         output.writeBytes(bytes, bytes.length);
-        setDocSizeInBytes(numBytes);
+        recordDocument(numBytes);
+        numBytesSpilled += bytes.length;
         return bytes.length;
     }
 
+    /**
+     * Serializes the sketch metrics of the aggregated star tree document
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private BytesRef[] serializeSketches(StarTreeDocument starTreeDocument) {
+        BytesRef[] sketches = new BytesRef[starTreeDocument.metrics.length];
+        for (int i = 0; i < starTreeDocument.metrics.length; i++) {
+            if (metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator sketchAggregator
+                && starTreeDocument.metrics[i] != null) {
+                sketches[i] = sketchAggregator.toBytesRef(starTreeDocument.metrics[i]);
+            }
+        }
+        return sketches;
+    }
+
     /**
      * Write dimensions to the byte buffer
      */
@@ -113,9 +172,21 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Write star tree document metrics to the byte buffer
      */
-    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc) throws IOException {
+    protected void writeMetrics(StarTreeDocument starTreeDocument, ByteBuffer buffer, boolean isAggregatedDoc, BytesRef[] sketches)
+        throws IOException {
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator<?>) {
+                BytesRef sketch = sketches[i];
+                if (sketch == null) {
+                    buffer.putInt(0);
+                } else {
+                    buffer.putInt(sketch.length);
+                    buffer.put(sketch.bytes, sketch.offset, sketch.length);
+                }
+                continue;
+            }
+            FieldValueConverter aggregatedValueType = ((NumericValueAggregator<?>) valueAggregator).getAggregatedValueType();
             if (aggregatedValueType.equals(LONG)) {
                 buffer.putLong(starTreeDocument.metrics[i] == null ? 0L : (Long) starTreeDocument.metrics[i]);
             } else if (aggregatedValueType.equals(DOUBLE)) {
@@ -146,12 +217,17 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     /**
      * Calculate the size of the serialized StarTreeDocument
      */
-    private int calculateDocumentSize(StarTreeDocument starTreeDocument, boolean isAggregatedDoc) {
+    private int calculateDocumentSize(StarTreeDocument starTreeDocument, BytesRef[] sketches) {
         int size = starTreeDocument.dimensions.length * Long.BYTES;
         size += getLength(starTreeDocument.dimensions);
 
         for (int i = 0; i < starTreeDocument.metrics.length; i++) {
-            size += Long.BYTES;
+            if (sketches != null && metricAggregatorInfos.get(i).getValueAggregators() instanceof SketchValueAggregator<?>) {
+                // sketches are prefixed with their length
+                size += Integer.BYTES + (sketches[i] == null ? 0 : sketches[i].length);
+            } else {
+                size += Long.BYTES;
+            }
         }
         size += getLength(starTreeDocument.metrics);
 
@@ -182,7 +258,7 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         } else {
             offset = readMetrics(input, offset, numMetrics, metrics, isAggregatedDoc);
         }
-        assert (offset - initialOffset) == docSizeInBytes;
+        assert hasSketchMetrics || (offset - initialOffset) == docSizeInBytes;
         return new StarTreeDocument(dimensions, metrics);
     }
 
@@ -231,7 +307,18 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
     private long readMetrics(RandomAccessInput input, long offset, int numMetrics, Object[] metrics, boolean isAggregatedDoc)
         throws IOException {
         for (int i = 0; i < numMetrics; i++) {
-            FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator<?> sketchAggregator) {
+                int length = input.readInt(offset);
+                offset += Integer.BYTES;
+                byte[] bytes = new byte[length];
+                input.readBytes(offset, bytes, 0, length);
+                // empty sketches are null, as set by the bit set below
+                metrics[i] = length == 0 ? null : sketchAggregator.fromBytesRef(new BytesRef(bytes));
+                offset += length;
+                continue;
+            }
+            FieldValueConverter aggregatedValueType = ((NumericValueAggregator<?>) valueAggregator).getAggregatedValueType();
             if (aggregatedValueType.equals(LONG)) {
                 metrics[i] = input.readLong(offset);
                 offset += Long.BYTES;
@@ -259,6 +346,13 @@ public abstract class AbstractDocumentsFileManager implements Closeable {
         return offset;
     }
 
+    /**
+     * Returns the number of bytes written to the temporary files
+     */
+    public long getNumBytesSpilled() {
+        return numBytesSpilled;
+    }
+
     /**
      * Write star tree document to file
      */
@@ -11,6 +11,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.DocValuesConsumer;
 import org.apache.lucene.codecs.DocValuesProducer;
+import org.apache.lucene.index.BinaryDocValues;
+import org.apache.lucene.index.BinaryDocValuesWriterWrapper;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.DocValuesWriterWrapper;
@@ -26,6 +28,7 @@ import org.apache.lucene.index.TermsEnum;
 import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.ByteBlockPool;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.Counter;
 import org.apache.lucene.util.LongValues;
 import org.apache.lucene.util.NumericUtils;
@@ -36,7 +39,10 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeIndexSettings;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.NumericValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.aggregators.ValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.StarTreeWriter;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -89,6 +95,12 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
      * Default value for star node
      */
     public static final Long STAR_IN_DOC_VALUES_INDEX = null;
+
+    /**
+     * Minimum number of documents sorted by each concurrent partition
+     */
+    static final int MIN_DOCS_PER_SORT_PARTITION = 4096;
+
     protected final Set<Integer> skipStarNodeCreationForDimensions;
 
     protected final List<MetricAggregatorInfo> metricAggregatorInfos;
@@ -98,6 +110,8 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     protected int totalSegmentDocs;
     protected int numStarTreeNodes;
     protected final int maxLeafDocuments;
+    // number of partitions the documents are sorted in concurrently, 1 sorts the documents on the calling thread
+    protected final int buildParallelism;
     List<Dimension> dimensionsSplitOrder = new ArrayList<>();
     protected final InMemoryTreeNode rootNode = getNewNode();
     protected final StarTreeField starTreeField;
@@ -166,6 +180,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
         this.metricAggregatorInfos = generateMetricAggregatorInfos(mapperService);
         this.numMetrics = metricAggregatorInfos.size();
         this.maxLeafDocuments = starTreeFieldSpec.maxLeafDocs();
+        this.buildParallelism = mapperService.getIndexSettings() == null
+            ? 1
+            : StarTreeIndexSettings.STAR_TREE_BUILD_PARALLELISM_SETTING.get(mapperService.getIndexSettings().getSettings());
+    }
+
+    /**
+     * Returns the number of partitions to sort the given number of documents in, as per the build parallelism. Small sets of
+     * documents are not worth splitting, so each partition holds at least {@link #MIN_DOCS_PER_SORT_PARTITION} documents.
+     */
+    protected int getNumSortPartitions(int numDocs) {
+        return Math.max(1, Math.min(buildParallelism, numDocs / MIN_DOCS_PER_SORT_PARTITION));
     }
 
     /**
@@ -421,6 +446,7 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
     /**
      * Creates the star-tree docValues indices in disk
      */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     private void createSortedDocValuesIndices(DocValuesConsumer docValuesConsumer, AtomicInteger fieldNumberAcrossStarTrees)
         throws IOException {
         List<DocValuesWriterWrapper<?>> dimensionWriters = new ArrayList<>();
@@ -447,17 +473,23 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             }
         }
         for (int i = 0; i < metricAggregatorInfos.size(); i++) {
+            // sketches are stored as binary doc values
+            boolean isSketch = metricAggregatorInfos.get(i).getMetricStat().isSketch();
             final FieldInfo fi = getFieldInfo(
                 fullyQualifiedFieldNameForStarTreeMetricsDocValues(
                     starTreeField.getName(),
                     metricAggregatorInfos.get(i).getField(),
                     metricAggregatorInfos.get(i).getMetricStat().getTypeName()
                 ),
-                DocValuesType.SORTED_NUMERIC,
+                isSketch ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC,
                 fieldNumberAcrossStarTrees.getAndIncrement()
             );
             metricFieldInfoList[i] = fi;
-            metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            if (isSketch) {
+                metricWriters.add(new BinaryDocValuesWriterWrapper(fi, bytesUsed));
+            } else {
+                metricWriters.add(new SortedNumericDocValuesWriterWrapper(fi, bytesUsed));
+            }
         }
         for (int docId = 0; docId < numStarTreeDocs; docId++) {
             StarTreeDocument starTreeDocument = getStarTreeDocument(docId);
@@ -473,7 +505,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
 
             for (int i = 0; i < starTreeDocument.metrics.length; i++) {
                 try {
-                    FieldValueConverter aggregatedValueType = metricAggregatorInfos.get(i).getValueAggregators().getAggregatedValueType();
+                    ValueAggregator valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+                    if (valueAggregator instanceof SketchValueAggregator sketchAggregator) {
+                        if (starTreeDocument.metrics[i] != null) {
+                            ((BinaryDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
+                                docId,
+                                sketchAggregator.toBytesRef(starTreeDocument.metrics[i])
+                            );
+                        }
+                        continue;
+                    }
+                    FieldValueConverter aggregatedValueType = ((NumericValueAggregator<?>) valueAggregator).getAggregatedValueType();
                     if (aggregatedValueType.equals(LONG)) {
                         if (starTreeDocument.metrics[i] != null) {
                             ((SortedNumericDocValuesWriterWrapper) (metricWriters.get(i))).addValue(
@@ -559,6 +601,17 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
                     };
                     docValuesConsumer.addSortedSetField(fieldInfoList[i], docValuesProducer);
                     break;
+                case BINARY:
+                    docValuesProducer = new EmptyDocValuesProducer() {
+                        @Override
+                        public BinaryDocValues getBinary(FieldInfo field) {
+                            DocValuesWriterWrapper<BinaryDocValues> wrapper = (DocValuesWriterWrapper<
+                                BinaryDocValues>) docValuesWriters.get(writerIndex);
+                            return wrapper.getDocValues();
+                        }
+                    };
+                    docValuesConsumer.addBinaryField(fieldInfoList[i], docValuesProducer);
+                    break;
                 default:
                     throw new IllegalStateException("Unsupported doc values type");
             }
@@ -589,7 +642,13 @@ public abstract class BaseStarTreeBuilder implements StarTreeBuilder {
             // As part of merge, we traverse the star tree doc values
             // The type of data stored in metric fields is different from the
             // actual indexing field they're based on
-            metrics[i] = metricAggregatorInfos.get(i).getValueAggregators().toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            ValueAggregator<?> valueAggregator = metricAggregatorInfos.get(i).getValueAggregators();
+            if (valueAggregator instanceof SketchValueAggregator<?> sketchAggregator) {
+                BytesRef sketch = metricValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? null : sketchAggregator.fromBytesRef(sketch);
+            } else {
+                metrics[i] = valueAggregator.toAggregatedValueType(metricValuesIterator.value(currentDocId));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
@@ -183,6 +183,10 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         int[] docIds;
         this.isMerge = true;
         Map<String, OrdinalMap> ordinalMaps = getOrdinalMaps(starTreeValuesSubs);
+        // the aggregated documents of each segment are usually sorted already, in which case the segments are merged
+        // with a k-way merge rather than sorting all the documents again
+        int[] segmentStartDocIds = new int[starTreeValuesSubs.size() + 1];
+        boolean segmentDocsSorted = true;
         try {
             int seg = 0;
             for (StarTreeValues starTreeValues : starTreeValuesSubs) {
@@ -195,14 +199,26 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
                 for (Map.Entry<String, OrdinalMap> entry : ordinalMaps.entrySet()) {
                     longValuesMap.put(entry.getKey(), entry.getValue().getGlobalOrds(seg));
                 }
+                segmentStartDocIds[seg] = numDocs;
+                Long[] previousDimensions = null;
                 while (currentDocId < numSegmentDocs.get()) {
                     StarTreeDocument starTreeDocument = getStarTreeDocument(currentDocId, dimensionReaders, metricReaders, longValuesMap);
                     segmentDocumentFileManager.writeStarTreeDocument(starTreeDocument, true);
+                    if (segmentDocsSorted && previousDimensions != null) {
+                        segmentDocsSorted = StarTreeDocumentsSorter.compare(
+                            previousDimensions,
+                            starTreeDocument.dimensions,
+                            -1,
+                            dimensionComparators
+                        ) <= 0;
+                    }
+                    previousDimensions = starTreeDocument.dimensions;
                     numDocs++;
                     currentDocId++;
                 }
                 seg++;
             }
+            segmentStartDocIds[seg] = numDocs;
             docIds = new int[numDocs];
             for (int i = 0; i < numDocs; i++) {
                 docIds[i] = i;
@@ -216,33 +232,77 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
             return Collections.emptyIterator();
         }
 
+        if (segmentDocsSorted) {
+            logger.debug("Merging sorted star-tree documents of {} segments", starTreeValuesSubs.size());
+            int[] sortedDocIds;
+            try {
+                sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(
+                    docIds,
+                    segmentStartDocIds,
+                    -1,
+                    segmentDocumentFileManager.newDimensionsReader(),
+                    dimensionComparators
+                );
+            } catch (UncheckedIOException ex) {
+                IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+                throw ex.getCause();
+            } catch (IOException ex) {
+                IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+                throw ex;
+            }
+            return reduceDocuments(sortedDocIds, numDocs, true);
+        }
         return sortAndReduceDocuments(docIds, numDocs, true);
     }
 
     /**
      * Sorts and reduces the star tree documents based on the dimensions
      */
-    private Iterator<StarTreeDocument> sortAndReduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+    private Iterator<StarTreeDocument> sortAndReduceDocuments(int[] docIds, int numDocs, boolean isMerge) throws IOException {
+        if (docIds == null || docIds.length == 0) {
+            logger.debug("Sorted doc ids array is null");
+            return Collections.emptyIterator();
+        }
+        return reduceDocuments(sortDocuments(docIds, numDocs), numDocs, isMerge);
+    }
+
+    /**
+     * Sorts the star tree documents based on the dimensions. Large sets of documents are split into partitions as per
+     * the build parallelism, which are sorted concurrently and then merged.
+     */
+    private int[] sortDocuments(int[] docIds, int numDocs) throws IOException {
         try {
-            if (sortedDocIds == null || sortedDocIds.length == 0) {
-                logger.debug("Sorted doc ids array is null");
-                return Collections.emptyIterator();
-            }
-            try {
-                StarTreeDocumentsSorter.sort(sortedDocIds, -1, numDocs, index -> {
+            int numPartitions = getNumSortPartitions(numDocs);
+            if (numPartitions > 1) {
+                logger.debug("Sorting {} star-tree documents in {} partitions", numDocs, numPartitions);
+                return StarTreeDocumentsSorter.parallelSort(docIds, -1, numDocs, numPartitions, () -> {
                     try {
-                        return segmentDocumentFileManager.readDimensions(sortedDocIds[index]);
+                        return segmentDocumentFileManager.newDimensionsReader();
                     } catch (IOException e) {
                         throw new UncheckedIOException(e);
                     }
                 }, dimensionComparators);
-            } catch (UncheckedIOException ex) {
-                // Unwrap UncheckedIOException and throw as IOException
-                if (ex.getCause() != null) {
-                    throw ex.getCause();
-                }
-                throw ex;
             }
+            StarTreeDocumentsSorter.sort(docIds, -1, numDocs, index -> {
+                try {
+                    return segmentDocumentFileManager.readDimensions(docIds[index]);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, dimensionComparators);
+            return docIds;
+        } catch (UncheckedIOException ex) {
+            IOUtils.closeWhileHandlingException(segmentDocumentFileManager);
+            // Unwrap UncheckedIOException and throw as IOException
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Reduces the sorted star tree documents with the same dimensions
+     */
+    private Iterator<StarTreeDocument> reduceDocuments(int[] sortedDocIds, int numDocs, boolean isMerge) throws IOException {
+        try {
             final StarTreeDocument currentDocument = segmentDocumentFileManager.readStarTreeDocument(sortedDocIds[0], isMerge);
             // Create an iterator for aggregated documents
             return new Iterator<StarTreeDocument>() {
@@ -381,6 +441,11 @@ public class OffHeapStarTreeBuilder extends BaseStarTreeBuilder {
         };
     }
 
+    @Override
+    public long getNumBytesSpilled() {
+        return starTreeDocumentFileManager.getNumBytesSpilled() + segmentDocumentFileManager.getNumBytesSpilled();
+    }
+
     @Override
     public void close() throws IOException {
         IOUtils.closeWhileHandlingException(starTreeDocumentFileManager, segmentDocumentFileManager);
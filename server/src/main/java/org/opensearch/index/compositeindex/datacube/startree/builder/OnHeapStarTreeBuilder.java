@@ -17,11 +17,13 @@ import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDocValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeDocumentsSorter;
 import org.opensearch.index.mapper.MapperService;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -263,19 +265,25 @@ public class OnHeapStarTreeBuilder extends BaseStarTreeBuilder {
     }
 
     /**
-     * Sorts the star-tree documents from the given dimension id
+     * Sorts the star-tree documents from the given dimension id. Large sets of documents are sorted on the fork-join pool
+     * when the build parallelism allows it.
+     * <p>
+     * During merge, the documents of each segment are already sorted, and the merge sort picks up these runs.
      *
      * @param starTreeDocuments star-tree documents
      * @param dimensionId       id of the dimension
      */
     private void sortStarTreeDocumentsFromDimensionId(StarTreeDocument[] starTreeDocuments, int dimensionId) {
-        Arrays.sort(starTreeDocuments, (doc1, doc2) -> {
-            for (int i = dimensionId + 1; i < numDimensions; i++) {
-                if (!Objects.equals(doc1.dimensions[i], doc2.dimensions[i])) {
-                    return dimensionComparators.get(i).compare(doc1.dimensions[i], doc2.dimensions[i]);
-                }
-            }
-            return 0;
-        });
+        Comparator<StarTreeDocument> comparator = (doc1, doc2) -> StarTreeDocumentsSorter.compare(
+            doc1.dimensions,
+            doc2.dimensions,
+            dimensionId,
+            dimensionComparators
+        );
+        if (getNumSortPartitions(starTreeDocuments.length) > 1) {
+            Arrays.parallelSort(starTreeDocuments, comparator);
+        } else {
+            Arrays.sort(starTreeDocuments, comparator);
+        }
     }
 }
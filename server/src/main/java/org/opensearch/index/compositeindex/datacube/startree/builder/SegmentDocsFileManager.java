@@ -22,7 +22,9 @@ import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricA
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.IntFunction;
 
 /**
  * Class for managing segment documents file.
@@ -76,17 +78,35 @@ public class SegmentDocsFileManager extends AbstractDocumentsFileManager impleme
     @Override
     public StarTreeDocument readStarTreeDocument(int docId, boolean isAggregatedDoc) throws IOException {
         maybeInitializeSegmentInput();
-        return readStarTreeDocument(segmentRandomInput, (long) docId * docSizeInBytes, isAggregatedDoc);
+        return readStarTreeDocument(segmentRandomInput, getDocumentOffset(docId), isAggregatedDoc);
     }
 
     @Override
     public Long[] readDimensions(int docId) throws IOException {
         maybeInitializeSegmentInput();
         Long[] dims = new Long[numDimensions];
-        readDimensions(dims, segmentRandomInput, (long) docId * docSizeInBytes);
+        readDimensions(dims, segmentRandomInput, getDocumentOffset(docId));
         return dims;
     }
 
+    /**
+     * Returns a reader of the dimensions of the documents by doc id, which reads from its own clone of the segment documents file
+     * so that it can be used concurrently with other readers. A reader must only be used by a single thread.
+     */
+    public IntFunction<Long[]> newDimensionsReader() throws IOException {
+        maybeInitializeSegmentInput();
+        final RandomAccessInput randomInput = segmentDocsFileInput.clone().randomAccessSlice(0, segmentDocsFileInput.length());
+        return docId -> {
+            Long[] dims = new Long[numDimensions];
+            try {
+                readDimensions(dims, randomInput, getDocumentOffset(docId));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return dims;
+        };
+    }
+
     @Override
     public Long getDimensionValue(int docId, int dimensionId) throws IOException {
         Long[] dims = readDimensions(docId);
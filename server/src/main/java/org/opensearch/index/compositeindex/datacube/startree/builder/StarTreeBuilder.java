@@ -55,4 +55,11 @@ public interface StarTreeBuilder extends Closeable {
         AtomicInteger fieldNumberAcrossStarTrees,
         DocValuesConsumer starTreeDocValuesConsumer
     ) throws IOException;
+
+    /**
+     * Returns the number of bytes spilled to temporary files while building the star-tree
+     */
+    default long getNumBytesSpilled() {
+        return 0L;
+    }
 }
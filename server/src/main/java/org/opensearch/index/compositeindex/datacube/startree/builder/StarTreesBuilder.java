@@ -29,6 +29,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.opensearch.index.compositeindex.CompositeIndexConstants.STAR_TREE_BUILD_TIME_MILLIS;
+import static org.opensearch.index.compositeindex.CompositeIndexConstants.STAR_TREE_SPILL_BYTES;
+
 /**
  * Builder to construct star-trees based on multiple star-tree fields.
  *
@@ -90,12 +93,30 @@ public class StarTreesBuilder implements Closeable {
         logger.debug("Starting building {} star-trees with star-tree fields", numStarTrees);
 
         // Build all star-trees
+        long numBytesSpilled = 0L;
         for (StarTreeField starTreeField : starTreeFields) {
             try (StarTreeBuilder starTreeBuilder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService)) {
                 starTreeBuilder.build(fieldProducerMap, fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+                numBytesSpilled += starTreeBuilder.getNumBytesSpilled();
             }
         }
-        logger.debug("Took {} ms to build {} star-trees with star-tree fields", System.currentTimeMillis() - startTime, numStarTrees);
+        long buildTimeMillis = System.currentTimeMillis() - startTime;
+        recordBuildStats(buildTimeMillis, numBytesSpilled);
+        logger.debug(
+            "Took {} ms to build {} star-trees with star-tree fields, spilling {} bytes",
+            buildTimeMillis,
+            numStarTrees,
+            numBytesSpilled
+        );
+    }
+
+    /**
+     * Records the star-tree build time and the bytes spilled to temporary files as attributes of the segment being
+     * written, so that they are reported along with the other segment attributes.
+     */
+    private void recordBuildStats(long buildTimeMillis, long numBytesSpilled) {
+        state.segmentInfo.putAttribute(STAR_TREE_BUILD_TIME_MILLIS, Long.toString(buildTimeMillis));
+        state.segmentInfo.putAttribute(STAR_TREE_SPILL_BYTES, Long.toString(numBytesSpilled));
     }
 
     @Override
@@ -119,6 +140,7 @@ public class StarTreesBuilder implements Closeable {
     ) throws IOException {
         logger.debug("Starting merge of {} star-trees with star-tree fields", starTreeValuesSubsPerField.size());
         long startTime = System.currentTimeMillis();
+        long numBytesSpilled = 0L;
         for (Map.Entry<String, List<StarTreeValues>> entry : starTreeValuesSubsPerField.entrySet()) {
             List<StarTreeValues> starTreeValuesList = entry.getValue();
             if (starTreeValuesList.isEmpty()) {
@@ -128,12 +150,16 @@ public class StarTreesBuilder implements Closeable {
             StarTreeField starTreeField = starTreeValuesList.get(0).getStarTreeField();
             try (StarTreeBuilder builder = getStarTreeBuilder(metaOut, dataOut, starTreeField, state, mapperService)) {
                 builder.build(starTreeValuesList, fieldNumberAcrossStarTrees, starTreeDocValuesConsumer);
+                numBytesSpilled += builder.getNumBytesSpilled();
             }
         }
+        long buildTimeMillis = System.currentTimeMillis() - startTime;
+        recordBuildStats(buildTimeMillis, numBytesSpilled);
         logger.debug(
-            "Took {} ms to merge {} star-trees with star-tree fields",
-            System.currentTimeMillis() - startTime,
-            starTreeValuesSubsPerField.size()
+            "Took {} ms to merge {} star-trees with star-tree fields, spilling {} bytes",
+            buildTimeMillis,
+            starTreeValuesSubsPerField.size(),
+            numBytesSpilled
         );
     }
 
@@ -10,10 +10,14 @@ package org.opensearch.index.compositeindex.datacube.startree.utils;
 
 import org.apache.lucene.util.IntroSorter;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.RecursiveAction;
 import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 /**
  * Utility class for building star tree
@@ -28,6 +32,21 @@ public class StarTreeDocumentsSorter {
         final int numDocs,
         final IntFunction<Long[]> dimensionsReader,
         final List<Comparator<Long>> dimensionComparators
+    ) {
+        sort(sortedDocIds, dimensionId, 0, numDocs, dimensionsReader, dimensionComparators);
+    }
+
+    /**
+     * Sort the documents in the range [from, to) of the given array based on the dimension values using intro sorter.
+     * The dimensions reader is given the index of the document in the array.
+     */
+    public static void sort(
+        final int[] sortedDocIds,
+        final int dimensionId,
+        final int from,
+        final int to,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
     ) {
         new IntroSorter() {
             private Long[] dimensions;
@@ -46,14 +65,109 @@ public class StarTreeDocumentsSorter {
 
             @Override
             protected int comparePivot(int j) {
-                Long[] currentDimensions = dimensionsReader.apply(j);
-                for (int i = dimensionId + 1; i < dimensions.length; i++) {
-                    if (!Objects.equals(dimensions[i], currentDimensions[i])) {
-                        return dimensionComparators.get(i).compare(dimensions[i], currentDimensions[i]);
-                    }
+                return compare(dimensions, dimensionsReader.apply(j), dimensionId, dimensionComparators);
+            }
+        }.sort(from, to);
+    }
+
+    /**
+     * Sorts the documents by splitting them into the given number of partitions, which are sorted concurrently on the
+     * fork-join pool, and then merging the sorted partitions.
+     * <p>
+     * Each partition reads the dimension values through its own reader, as obtained from the supplier, so readers
+     * need not be thread-safe. Readers are given the document id. All the readers are obtained on the calling thread
+     * before any partition is sorted, so the supplier need not be thread-safe either.
+     * <p>
+     * The partitions run on the fork-join pool the calling thread belongs to, which is the common pool for flush and
+     * merge threads. The sort is CPU bound and only reads dimension values from a local temporary file, so it does not
+     * block the pool, and the number of partitions is bounded by the star-tree build parallelism.
+     *
+     * @return the sorted document ids
+     */
+    public static int[] parallelSort(
+        final int[] docIds,
+        final int dimensionId,
+        final int numDocs,
+        final int numPartitions,
+        final Supplier<IntFunction<Long[]>> dimensionsReaderSupplier,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        int[] runStarts = new int[numPartitions + 1];
+        for (int i = 0; i <= numPartitions; i++) {
+            runStarts[i] = (int) ((long) numDocs * i / numPartitions);
+        }
+        List<RecursiveAction> tasks = new ArrayList<>(numPartitions);
+        for (int i = 0; i < numPartitions; i++) {
+            final int from = runStarts[i];
+            final int to = runStarts[i + 1];
+            final IntFunction<Long[]> dimensionsReader = dimensionsReaderSupplier.get();
+            tasks.add(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    sort(docIds, dimensionId, from, to, index -> dimensionsReader.apply(docIds[index]), dimensionComparators);
                 }
-                return 0;
+            });
+        }
+        final IntFunction<Long[]> mergeDimensionsReader = dimensionsReaderSupplier.get();
+        RecursiveAction.invokeAll(tasks);
+        return mergeSortedRuns(docIds, runStarts, dimensionId, mergeDimensionsReader, dimensionComparators);
+    }
+
+    /**
+     * Merges the sorted runs of documents using a k-way merge. The run {@code i} spans the range
+     * [runStarts[i], runStarts[i + 1]) of the given array. The dimensions reader is given the document id.
+     *
+     * @return the sorted document ids
+     */
+    public static int[] mergeSortedRuns(
+        final int[] docIds,
+        final int[] runStarts,
+        final int dimensionId,
+        final IntFunction<Long[]> dimensionsReader,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        int numRuns = runStarts.length - 1;
+        int[] runPositions = new int[numRuns];
+        Long[][] runHeads = new Long[numRuns][];
+        // ties are broken by the run, so that the merge is stable
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Math.max(1, numRuns), (run1, run2) -> {
+            int cmp = compare(runHeads[run1], runHeads[run2], dimensionId, dimensionComparators);
+            return cmp != 0 ? cmp : Integer.compare(run1, run2);
+        });
+        for (int run = 0; run < numRuns; run++) {
+            runPositions[run] = runStarts[run];
+            if (runPositions[run] < runStarts[run + 1]) {
+                runHeads[run] = dimensionsReader.apply(docIds[runPositions[run]]);
+                queue.add(run);
+            }
+        }
+        int[] mergedDocIds = new int[runStarts[numRuns] - runStarts[0]];
+        int numMerged = 0;
+        while (queue.isEmpty() == false) {
+            int run = queue.poll();
+            mergedDocIds[numMerged++] = docIds[runPositions[run]++];
+            if (runPositions[run] < runStarts[run + 1]) {
+                runHeads[run] = dimensionsReader.apply(docIds[runPositions[run]]);
+                queue.add(run);
+            }
+        }
+        return mergedDocIds;
+    }
+
+    /**
+     * Compares the dimension values of two documents, starting from the dimension following the given dimension id.
+     */
+    public static int compare(
+        final Long[] dimensions1,
+        final Long[] dimensions2,
+        final int dimensionId,
+        final List<Comparator<Long>> dimensionComparators
+    ) {
+        for (int i = dimensionId + 1; i < dimensions1.length; i++) {
+            if (!Objects.equals(dimensions1[i], dimensions2[i])) {
+                return dimensionComparators.get(i).compare(dimensions1[i], dimensions2[i]);
             }
-        }.sort(0, numDocs);
+        }
+        return 0;
     }
 }
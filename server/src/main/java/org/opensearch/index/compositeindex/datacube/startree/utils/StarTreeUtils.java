@@ -76,7 +76,7 @@ public class StarTreeUtils {
         for (String fieldName : fields) {
             fieldInfoList[fieldNumber] = getFieldInfo(
                 fieldName,
-                // default is sortedNumeric since all metrics right now are sorted numeric
+                // default is sortedNumeric since all metrics but sketches are sorted numeric
                 dimDocValuesTypeMap.getOrDefault(fieldName, DocValuesType.SORTED_NUMERIC),
                 fieldNumber
             );
@@ -101,7 +101,8 @@ public class StarTreeUtils {
             true,
             IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS,
             docValuesType,
-            DocValuesSkipIndexType.RANGE,
+            // skip indexes are only supported on numeric and sorted doc values
+            docValuesType == DocValuesType.BINARY ? DocValuesSkipIndexType.NONE : DocValuesSkipIndexType.RANGE,
             -1,
             Collections.emptyMap(),
             0,
@@ -45,15 +45,29 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Maps _uid value to its version information.
+ * <p>
+ * By default every uid gets its own lock from a {@link KeyedLock} and versions are kept as objects in concurrent hash maps.
+ * In packed mode uids are instead locked through a fixed array of lock stripes and versions of index operations are kept
+ * in a {@link PackedVersionMap}, which avoids allocating and retaining several objects per indexed document.
  *
  * @opensearch.internal
  */
 final class LiveVersionMap implements ReferenceManager.RefreshListener, Accountable {
 
-    private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+    /**
+     * Number of lock stripes used in packed mode. Two uids sharing a stripe only serialize their own operations, the
+     * engine never holds the lock of one uid while blocking on another one.
+     */
+    static final int PACKED_LOCK_STRIPES = 256;
+    /** Number of independently synchronized tables backing each packed version lookup. */
+    static final int PACKED_MAP_STRIPES = 16;
+
+    private final boolean packed;
+    private final UidLocks uidLocks;
 
     /**
      * Looks up document version
@@ -67,8 +81,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          *  clear this RAM. */
         final AtomicLong ramBytesUsed = new AtomicLong();
 
-        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap());
+        private static final VersionLookup EMPTY = new VersionLookup(Collections.emptyMap(), false);
         private final Map<BytesRef, VersionValue> map;
+        private final boolean packed;
 
         // each version map has a notion of safe / unsafe which allows us to apply certain optimization in the auto-generated ID usecase
         // where we know that documents can't have any duplicates so we can skip the version map entirely. This reduces
@@ -86,8 +101,26 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         // the tombstone
         private final AtomicLong minDeleteTimestamp = new AtomicLong(Long.MAX_VALUE);
 
-        private VersionLookup(Map<BytesRef, VersionValue> map) {
+        private VersionLookup(Map<BytesRef, VersionValue> map, boolean packed) {
             this.map = map;
+            this.packed = packed;
+        }
+
+        static VersionLookup create(boolean packed, int expectedSize) {
+            if (packed) {
+                return new VersionLookup(new PackedVersionMap(PACKED_MAP_STRIPES, expectedSize), true);
+            }
+            return new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(expectedSize), false);
+        }
+
+        /**
+         * Bytes accounted for keeping the given uid and version in this lookup.
+         */
+        long ramBytesUsed(BytesRef uid, VersionValue value) {
+            if (packed) {
+                return PackedVersionMap.ramBytesUsed(uid);
+            }
+            return BASE_BYTES_PER_CHM_ENTRY + value.ramBytesUsed() + BASE_BYTES_PER_BYTESREF + uid.bytes.length;
         }
 
         VersionValue get(BytesRef key) {
@@ -149,8 +182,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             this.previousMapsNeededSafeAccess = previousMapsNeededSafeAccess;
         }
 
-        Maps() {
-            this(new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency()), VersionLookup.EMPTY, false);
+        Maps(boolean packed) {
+            this(VersionLookup.create(packed, 16), VersionLookup.EMPTY, false);
         }
 
         boolean isSafeAccessMode() {
@@ -168,11 +201,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
          * Builds a new map for the refresh transition this should be called in beforeRefresh()
          */
         Maps buildTransitionMap() {
-            return new Maps(
-                new VersionLookup(ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency(current.size())),
-                current,
-                shouldInheritSafeAccess()
-            );
+            return new Maps(VersionLookup.create(current.packed, current.size()), current, shouldInheritSafeAccess());
         }
 
         /**
@@ -183,10 +212,9 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
         }
 
         void put(BytesRef uid, VersionValue version) {
-            long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-            long ramAccounting = BASE_BYTES_PER_CHM_ENTRY + version.ramBytesUsed() + uidRAMBytesUsed;
+            long ramAccounting = current.ramBytesUsed(uid, version);
             VersionValue previousValue = current.put(uid, version);
-            ramAccounting += previousValue == null ? 0 : -(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed);
+            ramAccounting += previousValue == null ? 0 : -current.ramBytesUsed(uid, previousValue);
             adjustRam(ramAccounting);
         }
 
@@ -201,8 +229,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             VersionValue previousValue = current.remove(uid);
             current.updateMinDeletedTimestamp(deleted);
             if (previousValue != null) {
-                long uidRAMBytesUsed = BASE_BYTES_PER_BYTESREF + uid.bytes.length;
-                adjustRam(-(BASE_BYTES_PER_CHM_ENTRY + previousValue.ramBytesUsed() + uidRAMBytesUsed));
+                adjustRam(-current.ramBytesUsed(uid, previousValue));
             }
             if (old != VersionLookup.EMPTY) {
                 // we also need to remove it from the old map here to make sure we don't read this stale value while
@@ -219,10 +246,10 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     // All deletes also go here, and delete "tombstones" are retained after refresh:
     private final Map<BytesRef, DeleteVersionValue> tombstones = ConcurrentCollections.newConcurrentMapWithAggressiveConcurrency();
 
-    private volatile Maps maps = new Maps();
+    private volatile Maps maps;
     // we maintain a second map that only receives the updates that we skip on the actual map (unsafe ops)
     // this map is only maintained if assertions are enabled
-    private volatile Maps unsafeKeysMap = new Maps();
+    private volatile Maps unsafeKeysMap;
 
     /**
      * Bytes consumed for each BytesRef UID:
@@ -264,6 +291,24 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      */
     private final AtomicLong ramBytesUsedTombstones = new AtomicLong();
 
+    LiveVersionMap() {
+        this(false);
+    }
+
+    /**
+     * @param packed whether to use striped uid locks and a {@link PackedVersionMap} for the live index versions
+     */
+    LiveVersionMap(boolean packed) {
+        this.packed = packed;
+        this.uidLocks = packed ? new StripedUidLocks(PACKED_LOCK_STRIPES) : new KeyedUidLocks();
+        this.maps = new Maps(packed);
+        this.unsafeKeysMap = new Maps(packed);
+    }
+
+    boolean isPacked() {
+        return packed;
+    }
+
     @Override
     public void beforeRefresh() throws IOException {
         // Start sending all updates after this point to the new
@@ -421,7 +466,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
             // we won't collect the tombstone below since it must be newer than this one.
             if (canRemoveTombstone(maxTimestampToPrune, maxSeqNoToPrune, entry.getValue())) {
                 final BytesRef uid = entry.getKey();
-                try (Releasable lock = keyedLock.tryAcquire(uid)) {
+                try (Releasable lock = uidLocks.tryAcquire(uid)) {
                     // we use tryAcquire here since this is a best effort and we try to be least disruptive
                     // this method is also called under lock in the engine under certain situations such that this can lead to deadlocks
                     // if we do use a blocking acquire. see #28714
@@ -443,7 +488,7 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * Called when this index is closed.
      */
     synchronized void clear() {
-        maps = new Maps();
+        maps = new Maps(packed);
         tombstones.clear();
         // NOTE: we can't zero this here, because a refresh thread could be calling InternalEngine.pruneDeletedTombstones at the same time,
         // and this will lead to an assert trip. Presumably it's fine if our ramBytesUsedTombstones is non-zero after clear since the
@@ -479,7 +524,8 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
     }
 
     /**
-     * Returns the current internal versions as a point in time snapshot
+     * Returns the current internal versions. The returned map is the live map; in packed mode only its
+     * {@link Map#entrySet()} is a point in time copy.
      */
     Map<BytesRef, VersionValue> getAllCurrent() {
         return maps.current.map;
@@ -498,11 +544,101 @@ final class LiveVersionMap implements ReferenceManager.RefreshListener, Accounta
      * @see KeyedLock
      */
     Releasable acquireLock(BytesRef uid) {
-        return keyedLock.acquire(uid);
+        return uidLocks.acquire(uid);
     }
 
     boolean assertKeyedLockHeldByCurrentThread(BytesRef uid) {
-        assert keyedLock.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
+        assert uidLocks.isHeldByCurrentThread(uid) : "Thread [" + Thread.currentThread().getName() + "], uid [" + uid.utf8ToString() + "]";
         return true;
     }
+
+    /**
+     * Locks that serialize operations on the same uid
+     *
+     * @opensearch.internal
+     */
+    private interface UidLocks {
+        Releasable acquire(BytesRef uid);
+
+        /** Returns the lock if it could be acquired without blocking, <code>null</code> otherwise. */
+        Releasable tryAcquire(BytesRef uid);
+
+        boolean isHeldByCurrentThread(BytesRef uid);
+    }
+
+    /**
+     * One lock per uid, created on demand
+     *
+     * @opensearch.internal
+     */
+    private static final class KeyedUidLocks implements UidLocks {
+        private final KeyedLock<BytesRef> keyedLock = new KeyedLock<>();
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            return keyedLock.acquire(uid);
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            return keyedLock.tryAcquire(uid);
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            return keyedLock.isHeldByCurrentThread(uid);
+        }
+    }
+
+    /**
+     * A fixed number of locks shared by all uids that hash to the same stripe, so acquiring a lock doesn't allocate
+     *
+     * @opensearch.internal
+     */
+    private static final class StripedUidLocks implements UidLocks {
+        private final StripeLock[] stripes;
+
+        StripedUidLocks(int stripeCount) {
+            assert Integer.bitCount(stripeCount) == 1 : stripeCount;
+            stripes = new StripeLock[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new StripeLock();
+            }
+        }
+
+        private StripeLock stripe(BytesRef uid) {
+            return stripes[uid.hashCode() & (stripes.length - 1)];
+        }
+
+        @Override
+        public Releasable acquire(BytesRef uid) {
+            final StripeLock lock = stripe(uid);
+            lock.lock();
+            return lock;
+        }
+
+        @Override
+        public Releasable tryAcquire(BytesRef uid) {
+            final StripeLock lock = stripe(uid);
+            return lock.tryLock() ? lock : null;
+        }
+
+        @Override
+        public boolean isHeldByCurrentThread(BytesRef uid) {
+            return stripe(uid).isHeldByCurrentThread();
+        }
+    }
+
+    /**
+     * A reentrant lock that is released by closing it
+     *
+     * @opensearch.internal
+     */
+    @SuppressWarnings("serial")
+    private static final class StripeLock extends ReentrantLock implements Releasable {
+        @Override
+        public void close() {
+            unlock();
+        }
+    }
 }
@@ -0,0 +1,288 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.util.ArrayUtil;
+import org.apache.lucene.util.BytesRef;
+import org.apache.lucene.util.RamUsageEstimator;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.index.translog.Translog;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A uid to {@link IndexVersionValue} map that keeps its entries in striped, open-addressed primitive arrays instead of
+ * one {@link VersionValue} (and {@link Translog.Location}) object plus one hash map node per document. Values are
+ * re-materialized on lookup, so the objects created while indexing die young instead of being retained until the next
+ * refresh.
+ * <p>
+ * Each stripe is a linear-probing table guarded by its own monitor. Callers in {@link LiveVersionMap} already serialize
+ * operations per uid, so the monitors are practically uncontended; they are only there so that size and snapshot reads
+ * see a consistent stripe.
+ * <p>
+ * Only index operations are stored here, deletes are kept as tombstones by {@link LiveVersionMap}.
+ *
+ * @opensearch.internal
+ */
+final class PackedVersionMap extends AbstractMap<BytesRef, VersionValue> {
+
+    // version, seqNo, term, translog generation, translog offset
+    private static final int LONGS_PER_SLOT = 5;
+    // uid hash, translog size
+    private static final int INTS_PER_SLOT = 2;
+    private static final long NO_LOCATION = -1L;
+    private static final int MIN_STRIPE_CAPACITY = 16;
+
+    /**
+     * Bytes used per entry, excluding the uid bytes themselves: the slot in the primitive arrays at a load factor of
+     * 50%, plus the header of the retained uid array.
+     */
+    static final long BASE_BYTES_PER_ENTRY = 2 * (RamUsageEstimator.NUM_BYTES_OBJECT_REF + LONGS_PER_SLOT * Long.BYTES + INTS_PER_SLOT
+        * Integer.BYTES) + RamUsageEstimator.NUM_BYTES_ARRAY_HEADER;
+
+    private final Stripe[] stripes;
+
+    /**
+     * @param stripeCount  number of independently locked tables, must be a power of two
+     * @param expectedSize number of entries the map is expected to hold, used to size the stripes upfront
+     */
+    PackedVersionMap(int stripeCount, int expectedSize) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripe count must be a positive power of two but was [" + stripeCount + "]");
+        }
+        final int perStripe = Math.max(MIN_STRIPE_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize / stripeCount)) << 2);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    static long ramBytesUsed(BytesRef uid) {
+        return BASE_BYTES_PER_ENTRY + uid.length;
+    }
+
+    private Stripe stripe(int hash) {
+        return stripes[hash & (stripes.length - 1)];
+    }
+
+    @Override
+    public VersionValue get(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        return stripe(hash).get(uid, hash);
+    }
+
+    @Override
+    public VersionValue put(BytesRef uid, VersionValue value) {
+        if (value instanceof IndexVersionValue == false) {
+            throw new IllegalArgumentException("only index versions can be stored, got [" + value + "]");
+        }
+        final int hash = uid.hashCode();
+        return stripe(hash).put(uid, hash, value);
+    }
+
+    @Override
+    public VersionValue remove(Object key) {
+        if (key instanceof BytesRef == false) {
+            return null;
+        }
+        final BytesRef uid = (BytesRef) key;
+        final int hash = uid.hashCode();
+        return stripe(hash).remove(uid, hash);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Stripe stripe : stripes) {
+            if (stripe.size() > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a point in time copy of the entries. This materializes every value and is meant for tests and assertions only.
+     */
+    @Override
+    public Set<Entry<BytesRef, VersionValue>> entrySet() {
+        final Map<BytesRef, VersionValue> copy = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.copyTo(copy);
+        }
+        return copy.entrySet();
+    }
+
+    /**
+     * A single open-addressed table. Deletions use backward shifting so no tombstone slots are ever left behind.
+     */
+    private static final class Stripe {
+        private byte[][] keys;
+        private int[] ints;
+        private long[] longs;
+        private int mask;
+        private int size;
+
+        Stripe(int capacity) {
+            allocate(capacity);
+        }
+
+        private void allocate(int capacity) {
+            assert Integer.bitCount(capacity) == 1 : capacity;
+            keys = new byte[capacity][];
+            ints = new int[capacity * INTS_PER_SLOT];
+            longs = new long[capacity * LONGS_PER_SLOT];
+            mask = capacity - 1;
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized VersionValue get(BytesRef uid, int hash) {
+            final int slot = find(uid, hash);
+            return slot < 0 ? null : materialize(slot);
+        }
+
+        synchronized VersionValue put(BytesRef uid, int hash, VersionValue value) {
+            int slot = find(uid, hash);
+            final VersionValue previous;
+            if (slot >= 0) {
+                previous = materialize(slot);
+            } else {
+                previous = null;
+                if ((size + 1) << 1 > keys.length) {
+                    rehash(keys.length << 1);
+                }
+                slot = ~find(uid, hash);
+                keys[slot] = uid.offset == 0 && uid.length == uid.bytes.length
+                    ? uid.bytes
+                    : ArrayUtil.copyOfSubArray(uid.bytes, uid.offset, uid.offset + uid.length);
+                ints[slot * INTS_PER_SLOT] = hash;
+                size++;
+            }
+            write(slot, value);
+            return previous;
+        }
+
+        synchronized VersionValue remove(BytesRef uid, int hash) {
+            final int slot = find(uid, hash);
+            if (slot < 0) {
+                return null;
+            }
+            final VersionValue previous = materialize(slot);
+            shiftBackFrom(slot);
+            size--;
+            return previous;
+        }
+
+        synchronized void copyTo(Map<BytesRef, VersionValue> target) {
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] != null) {
+                    target.put(new BytesRef(keys[slot]), materialize(slot));
+                }
+            }
+        }
+
+        /**
+         * Returns the slot holding the given uid, or the bitwise complement of the free slot it would be inserted at.
+         */
+        private int find(BytesRef uid, int hash) {
+            int slot = BitMixer.mix32(hash) & mask;
+            while (true) {
+                final byte[] key = keys[slot];
+                if (key == null) {
+                    return ~slot;
+                }
+                if (ints[slot * INTS_PER_SLOT] == hash
+                    && Arrays.equals(key, 0, key.length, uid.bytes, uid.offset, uid.offset + uid.length)) {
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private void shiftBackFrom(int gap) {
+            int slot = gap;
+            while (true) {
+                slot = (slot + 1) & mask;
+                if (keys[slot] == null) {
+                    break;
+                }
+                final int ideal = BitMixer.mix32(ints[slot * INTS_PER_SLOT]) & mask;
+                // move the entry into the gap unless its ideal slot lies cyclically between the gap and its current slot
+                if (((slot - ideal) & mask) >= ((slot - gap) & mask)) {
+                    keys[gap] = keys[slot];
+                    System.arraycopy(ints, slot * INTS_PER_SLOT, ints, gap * INTS_PER_SLOT, INTS_PER_SLOT);
+                    System.arraycopy(longs, slot * LONGS_PER_SLOT, longs, gap * LONGS_PER_SLOT, LONGS_PER_SLOT);
+                    gap = slot;
+                }
+            }
+            keys[gap] = null;
+        }
+
+        private void rehash(int newCapacity) {
+            final byte[][] oldKeys = keys;
+            final int[] oldInts = ints;
+            final long[] oldLongs = longs;
+            allocate(newCapacity);
+            for (int from = 0; from < oldKeys.length; from++) {
+                if (oldKeys[from] != null) {
+                    int to = BitMixer.mix32(oldInts[from * INTS_PER_SLOT]) & mask;
+                    while (keys[to] != null) {
+                        to = (to + 1) & mask;
+                    }
+                    keys[to] = oldKeys[from];
+                    System.arraycopy(oldInts, from * INTS_PER_SLOT, ints, to * INTS_PER_SLOT, INTS_PER_SLOT);
+                    System.arraycopy(oldLongs, from * LONGS_PER_SLOT, longs, to * LONGS_PER_SLOT, LONGS_PER_SLOT);
+                }
+            }
+        }
+
+        private void write(int slot, VersionValue value) {
+            final int base = slot * LONGS_PER_SLOT;
+            longs[base] = value.version;
+            longs[base + 1] = value.seqNo;
+            longs[base + 2] = value.term;
+            final Translog.Location location = value.getLocation();
+            if (location == null) {
+                longs[base + 3] = NO_LOCATION;
+            } else {
+                assert location.generation != NO_LOCATION : location;
+                longs[base + 3] = location.generation;
+                longs[base + 4] = location.translogLocation;
+                ints[slot * INTS_PER_SLOT + 1] = location.size;
+            }
+        }
+
+        private VersionValue materialize(int slot) {
+            final int base = slot * LONGS_PER_SLOT;
+            final Translog.Location location = longs[base + 3] == NO_LOCATION
+                ? null
+                : new Translog.Location(longs[base + 3], longs[base + 4], ints[slot * INTS_PER_SLOT + 1]);
+            return new IndexVersionValue(location, longs[base], longs[base + 1], longs[base + 2]);
+        }
+    }
+}
@@ -38,6 +38,9 @@ public final class ClusterStateFieldDomainProvider implements FieldDomainProvide
 
     /**
      * Resolves domains from {@code index_field_domains} custom metadata for a concrete index.
+     *
+     * Automatically computed domains are only returned while they are trusted for the current index metadata, see
+     * {@link IndexFieldDomainMetadata#isTrusted(IndexMetadata, FieldDomain)}.
      */
     @Override
     public Optional<FieldDomain> getDomain(ClusterState clusterState, String indexName, String field) {
@@ -55,6 +58,6 @@ public final class ClusterStateFieldDomainProvider implements FieldDomainProvide
             return Optional.empty();
         }
 
-        return metadata.fromCustomData(custom, field);
+        return metadata.fromCustomData(custom, field).filter(domain -> metadata.isTrusted(indexMetadata, domain));
     }
 }
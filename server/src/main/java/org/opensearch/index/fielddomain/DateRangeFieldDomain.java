@@ -109,6 +109,7 @@ public final class DateRangeFieldDomain implements FieldDomain {
     /**
      * Optional identifier for the component that produced these bounds.
      */
+    @Override
     public String source() {
         return source;
     }
@@ -14,8 +14,8 @@ import org.opensearch.common.annotation.ExperimentalApi;
  * Index-level metadata describing the value domain of one field in one concrete index.
  *
  * A field domain is an index-side summary of values that documents in the index may contain for a field. For example,
- * a date field domain can describe the minimum and maximum timestamp values present in the index, while a future term
- * domain could describe a trusted set of known keyword values.
+ * a date field domain can describe the minimum and maximum timestamp values present in the index, while a keyword terms
+ * domain describes the set of keyword values indexed for a field.
  *
  * The metadata is intentionally generic. Different OpenSearch features may use it for different purposes, such as
  * routing decisions, request planning, or search optimizations. Implementations are type-specific, and consumers are
@@ -40,4 +40,11 @@ public interface FieldDomain {
      * Whether this domain is trusted as complete for consumers that require closed index-level value metadata.
      */
     boolean finalized();
+
+    /**
+     * Optional identifier for the component that produced this domain, or {@code null} when unknown.
+     */
+    default String source() {
+        return null;
+    }
 }
@@ -28,7 +28,11 @@ import java.util.Optional;
 public final class FieldDomainParserRegistry {
 
     private static final FieldDomainParserRegistry DEFAULT = new FieldDomainParserRegistry(
-        List.of(entry(DateRangeFieldDomain.class, new DateRangeFieldDomainParser()))
+        List.of(
+            entry(DateRangeFieldDomain.class, new DateRangeFieldDomainParser()),
+            entry(NumericRangeFieldDomain.class, new NumericRangeFieldDomainParser()),
+            entry(KeywordTermsFieldDomain.class, new KeywordTermsFieldDomainParser())
+        )
     );
 
     private final Map<String, Entry<? extends FieldDomain>> entries;
@@ -38,12 +38,19 @@ public final class IndexFieldDomainMetadata {
      */
     public static final String CUSTOM_KEY = "index_field_domains";
 
+    /**
+     * Source identifier of field domains computed automatically from the segments of a write-blocked index.
+     */
+    public static final String AUTO_SOURCE = "auto";
+
     static final int MAX_CUSTOM_DATA_BYTES = 16 * 1024; // 16 KiB
 
     private static final IndexFieldDomainMetadata INSTANCE = new IndexFieldDomainMetadata();
 
     private static final String FIELDS_PREFIX = "fields.";
     private static final String KEY_TYPE = "type";
+    private static final String KEY_SOURCE = "source";
+    private static final String KEY_AUTO_SETTINGS_VERSION = "auto.settings_version";
 
     private final FieldDomainParserRegistry parserRegistry;
 
@@ -220,6 +227,145 @@ public final class IndexFieldDomainMetadata {
         return putFieldDomains(metadata, validateAndParseCustomData(customData));
     }
 
+    /**
+     * Returns whether a parsed field domain may be trusted for the supplied index metadata.
+     *
+     * Domains produced by trusted external producers are always trusted. Automatically computed domains only describe
+     * the index while no documents can be written, so they are trusted only while the index has the
+     * {@code index.blocks.write} block and its settings have not changed since the domains were computed. Removing and
+     * re-adding the block always changes the settings version, which invalidates domains computed before.
+     */
+    public boolean isTrusted(IndexMetadata indexMetadata, FieldDomain domain) {
+        Objects.requireNonNull(indexMetadata, "indexMetadata must not be null");
+        Objects.requireNonNull(domain, "domain must not be null");
+        if (AUTO_SOURCE.equals(domain.source()) == false) {
+            return true;
+        }
+        return isWriteBlocked(indexMetadata) && hasCurrentAutoFieldDomains(indexMetadata);
+    }
+
+    /**
+     * Returns whether the index has the {@code index.blocks.write} block, under which field domains may be computed
+     * automatically.
+     */
+    public static boolean isWriteBlocked(IndexMetadata indexMetadata) {
+        return IndexMetadata.INDEX_BLOCKS_WRITE_SETTING.get(indexMetadata.getSettings());
+    }
+
+    /**
+     * Returns whether automatically computed field domains were published for the current settings version of the index.
+     */
+    public boolean hasCurrentAutoFieldDomains(IndexMetadata indexMetadata) {
+        Map<String, String> customData = indexMetadata.getCustomData(CUSTOM_KEY);
+        return customData != null
+            && Long.toString(indexMetadata.getSettingsVersion()).equals(customData.get(KEY_AUTO_SETTINGS_VERSION));
+    }
+
+    /**
+     * Returns the fields that have a field domain not computed automatically, for example one published by a trusted
+     * external producer. Automatic computation never replaces these domains.
+     */
+    public Set<String> fieldsWithExternalDomains(IndexMetadata indexMetadata) {
+        Map<String, String> customData = indexMetadata.getCustomData(CUSTOM_KEY);
+        if (customData == null || customData.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> fields = new HashSet<>();
+        for (String field : declaredFields(customData)) {
+            if (AUTO_SOURCE.equals(customData.get(fieldPrefix(field) + KEY_SOURCE)) == false) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    /**
+     * Returns updated index metadata whose automatically computed field domains are replaced by the supplied domains and
+     * marked as computed for the current settings version of the index.
+     *
+     * Fields with a domain that was not computed automatically are left untouched. Domains are added one at a time and
+     * a domain that would exceed the metadata size limit is skipped, so small domains of other fields are still kept.
+     */
+    public IndexMetadata putAutoFieldDomains(IndexMetadata metadata, Collection<? extends FieldDomain> domains) {
+        Objects.requireNonNull(metadata, "metadata must not be null");
+        Objects.requireNonNull(domains, "domains must not be null");
+
+        Map<String, String> existing = metadata.getCustomData(CUSTOM_KEY);
+        Map<String, String> updated = withoutAutoFieldDomains(existing);
+        Set<String> externalFields = fieldsWithExternalDomains(metadata);
+        updated.put(KEY_AUTO_SETTINGS_VERSION, Long.toString(metadata.getSettingsVersion()));
+        ensureCustomDataWithinLimit(updated);
+
+        for (FieldDomain domain : domains) {
+            Objects.requireNonNull(domain, "domain must not be null");
+            if (AUTO_SOURCE.equals(domain.source()) == false) {
+                throw new IllegalArgumentException("field domain for field [" + domain.field() + "] was not computed automatically");
+            }
+            if (externalFields.contains(domain.field())) {
+                continue;
+            }
+            Map<String, String> candidate = new HashMap<>(updated);
+            candidate.putAll(toCustomData(domain));
+            try {
+                ensureCustomDataWithinLimit(candidate);
+            } catch (IllegalArgumentException e) {
+                continue;
+            }
+            updated = candidate;
+        }
+
+        if (Objects.equals(existing, updated)) {
+            return metadata;
+        }
+        return IndexMetadata.builder(metadata).putCustom(CUSTOM_KEY, updated).build();
+    }
+
+    /**
+     * Returns updated index metadata without automatically computed field domains.
+     */
+    public IndexMetadata removeAutoFieldDomains(IndexMetadata metadata) {
+        Objects.requireNonNull(metadata, "metadata must not be null");
+
+        Map<String, String> existing = metadata.getCustomData(CUSTOM_KEY);
+        if (existing == null) {
+            return metadata;
+        }
+        Map<String, String> updated = withoutAutoFieldDomains(existing);
+        if (Objects.equals(existing, updated)) {
+            return metadata;
+        }
+        IndexMetadata.Builder builder = IndexMetadata.builder(metadata);
+        if (updated.isEmpty()) {
+            builder.removeCustom(CUSTOM_KEY);
+        } else {
+            builder.putCustom(CUSTOM_KEY, updated);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Returns whether the index metadata holds automatically computed field domains or their bookkeeping.
+     */
+    public boolean hasAutoFieldDomains(IndexMetadata metadata) {
+        Map<String, String> existing = metadata.getCustomData(CUSTOM_KEY);
+        return existing != null && existing.size() != withoutAutoFieldDomains(existing).size();
+    }
+
+    private Map<String, String> withoutAutoFieldDomains(Map<String, String> customData) {
+        if (customData == null) {
+            return new HashMap<>();
+        }
+        Map<String, String> updated = new HashMap<>(customData);
+        updated.remove(KEY_AUTO_SETTINGS_VERSION);
+        for (String field : declaredFields(customData)) {
+            String prefix = fieldPrefix(field);
+            if (AUTO_SOURCE.equals(customData.get(prefix + KEY_SOURCE))) {
+                removeKnownFieldKeys(updated, prefix);
+            }
+        }
+        return updated;
+    }
+
     private void removeKnownFieldKeys(Map<String, String> target, String prefix) {
         target.remove(prefix + KEY_TYPE);
         parserRegistry.removeFieldKeys(target, prefix);
@@ -0,0 +1,300 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.hash.MurmurHash3;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Field domain implementation for the set of values indexed for a keyword field.
+ *
+ * Small value sets are stored exactly, which lets consumers evaluate both term and range constraints. Larger value sets
+ * are stored as a fixed-size Bloom filter, which can only prove that a value is absent. Value sets with more than
+ * {@link #MAX_BLOOM_VALUES} values cannot be represented, so no domain is produced for them.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class KeywordTermsFieldDomain implements FieldDomain {
+    /**
+     * Metadata type for keyword terms field domains.
+     */
+    public static final String TYPE = "keyword_terms";
+
+    /**
+     * Maximum number of values stored exactly.
+     */
+    public static final int MAX_EXACT_VALUES = 128;
+
+    /**
+     * Maximum encoded size in bytes of an exactly stored value set.
+     */
+    public static final int MAX_EXACT_VALUES_BYTES = 2048;
+
+    /**
+     * Maximum number of values summarized by a Bloom filter, which keeps the false positive rate around two percent.
+     */
+    public static final int MAX_BLOOM_VALUES = 2048;
+
+    static final int BLOOM_NUM_BITS = 16384;
+    static final int BLOOM_NUM_HASHES = 5;
+
+    private final String field;
+    private final List<BytesRef> values;
+    private final long[] bloomBits;
+    private final int bloomNumHashes;
+    private final int valueCount;
+    private final boolean finalized;
+    private final String source;
+
+    private KeywordTermsFieldDomain(
+        String field,
+        List<BytesRef> values,
+        long[] bloomBits,
+        int bloomNumHashes,
+        int valueCount,
+        boolean finalized,
+        String source
+    ) {
+        Objects.requireNonNull(field, "field must not be null");
+        if (field.isEmpty()) {
+            throw new IllegalArgumentException("field must not be empty");
+        }
+        this.field = field;
+        this.values = values;
+        this.bloomBits = bloomBits;
+        this.bloomNumHashes = bloomNumHashes;
+        this.valueCount = valueCount;
+        this.finalized = finalized;
+        this.source = source;
+    }
+
+    /**
+     * Creates a domain that stores the supplied values exactly.
+     *
+     * @param field field name this domain describes
+     * @param values values indexed for the field
+     * @param finalized whether this domain is trusted as complete for consumers that require finalized metadata
+     * @param source optional producer identifier
+     */
+    public static KeywordTermsFieldDomain exact(String field, Collection<BytesRef> values, boolean finalized, String source) {
+        Objects.requireNonNull(values, "values must not be null");
+        List<BytesRef> sorted = List.copyOf(new TreeSet<>(values));
+        return new KeywordTermsFieldDomain(field, sorted, null, 0, sorted.size(), finalized, source);
+    }
+
+    /**
+     * Creates a domain backed by a Bloom filter.
+     *
+     * @param field field name this domain describes
+     * @param bloomBits Bloom filter bits; the number of bits must be a positive multiple of 64
+     * @param bloomNumHashes number of hash functions used to set bits for each value
+     * @param valueCount upper bound of the number of values summarized by the filter
+     * @param finalized whether this domain is trusted as complete for consumers that require finalized metadata
+     * @param source optional producer identifier
+     */
+    public static KeywordTermsFieldDomain bloom(
+        String field,
+        long[] bloomBits,
+        int bloomNumHashes,
+        int valueCount,
+        boolean finalized,
+        String source
+    ) {
+        Objects.requireNonNull(bloomBits, "bloomBits must not be null");
+        if (bloomBits.length == 0) {
+            throw new IllegalArgumentException("bloom filter must not be empty");
+        }
+        if (bloomNumHashes < 1 || bloomNumHashes > 16) {
+            throw new IllegalArgumentException("bloom filter hash count must be between 1 and 16");
+        }
+        if (valueCount < 0) {
+            throw new IllegalArgumentException("value count must not be negative");
+        }
+        return new KeywordTermsFieldDomain(field, null, bloomBits.clone(), bloomNumHashes, valueCount, finalized, source);
+    }
+
+    /**
+     * Creates the most precise domain that can represent the supplied values: an exact value set when it is small
+     * enough, otherwise a Bloom filter.
+     *
+     * @return the domain, or empty when there are more than {@link #MAX_BLOOM_VALUES} distinct values
+     */
+    public static Optional<KeywordTermsFieldDomain> of(String field, Collection<BytesRef> values, boolean finalized, String source) {
+        Objects.requireNonNull(values, "values must not be null");
+        TreeSet<BytesRef> distinct = new TreeSet<>(values);
+        if (fitsExact(distinct)) {
+            return Optional.of(exact(field, distinct, finalized, source));
+        }
+        if (distinct.size() > MAX_BLOOM_VALUES) {
+            return Optional.empty();
+        }
+        long[] bits = new long[BLOOM_NUM_BITS / Long.SIZE];
+        for (BytesRef value : distinct) {
+            addToBloom(bits, BLOOM_NUM_HASHES, value);
+        }
+        return Optional.of(new KeywordTermsFieldDomain(field, null, bits, BLOOM_NUM_HASHES, distinct.size(), finalized, source));
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Returns {@link #TYPE}.
+     */
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    @Override
+    public boolean finalized() {
+        return finalized;
+    }
+
+    /**
+     * Optional identifier for the component that produced this domain.
+     */
+    @Override
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Whether the value set is stored exactly rather than as a Bloom filter.
+     */
+    public boolean isExact() {
+        return values != null;
+    }
+
+    /**
+     * Sorted, distinct values of an exact domain.
+     *
+     * @throws IllegalStateException if this domain is backed by a Bloom filter
+     */
+    public List<BytesRef> values() {
+        if (values == null) {
+            throw new IllegalStateException("keyword terms field domain for [" + field + "] is not exact");
+        }
+        return values;
+    }
+
+    /**
+     * Number of distinct values for exact domains, or an upper bound of it for Bloom filter domains.
+     */
+    public int valueCount() {
+        return valueCount;
+    }
+
+    /**
+     * Returns {@code false} only when the value is definitely not indexed for the field.
+     */
+    public boolean mightContain(BytesRef value) {
+        Objects.requireNonNull(value, "value must not be null");
+        if (values != null) {
+            return Collections.binarySearch(values, value) >= 0;
+        }
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, new MurmurHash3.Hash128());
+        long combined = hash.h1;
+        for (int i = 0; i < bloomNumHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(combined, (long) bloomBits.length * Long.SIZE);
+            if ((bloomBits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+            combined += hash.h2;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a domain covering the values of both this domain and {@code other}.
+     *
+     * The merged domain is finalized only when both inputs are finalized, and keeps the source only when both inputs
+     * agree on it.
+     *
+     * @return the merged domain, or empty when the merged value set is too large or the Bloom filters are incompatible
+     */
+    public Optional<KeywordTermsFieldDomain> merge(KeywordTermsFieldDomain other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (field.equals(other.field) == false) {
+            throw new IllegalArgumentException("cannot merge field domains of fields [" + field + "] and [" + other.field + "]");
+        }
+        boolean mergedFinalized = finalized && other.finalized;
+        String mergedSource = Objects.equals(source, other.source) ? source : null;
+        if (isExact() && other.isExact()) {
+            List<BytesRef> union = new ArrayList<>(values);
+            union.addAll(other.values);
+            return of(field, union, mergedFinalized, mergedSource);
+        }
+
+        int mergedCount = valueCount + other.valueCount;
+        if (mergedCount > MAX_BLOOM_VALUES) {
+            return Optional.empty();
+        }
+        KeywordTermsFieldDomain bloom = isExact() ? other : this;
+        KeywordTermsFieldDomain rest = bloom == this ? other : this;
+        long[] bits = bloom.bloomBits.clone();
+        if (rest.isExact()) {
+            for (BytesRef value : rest.values) {
+                addToBloom(bits, bloom.bloomNumHashes, value);
+            }
+        } else {
+            if (rest.bloomBits.length != bits.length || rest.bloomNumHashes != bloom.bloomNumHashes) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < bits.length; i++) {
+                bits[i] |= rest.bloomBits[i];
+            }
+        }
+        return Optional.of(
+            new KeywordTermsFieldDomain(field, null, bits, bloom.bloomNumHashes, mergedCount, mergedFinalized, mergedSource)
+        );
+    }
+
+    long[] bloomBits() {
+        return bloomBits == null ? null : bloomBits.clone();
+    }
+
+    int bloomNumHashes() {
+        return bloomNumHashes;
+    }
+
+    private static boolean fitsExact(Collection<BytesRef> values) {
+        if (values.size() > MAX_EXACT_VALUES) {
+            return false;
+        }
+        long encodedBytes = 0;
+        for (BytesRef value : values) {
+            // Base64 without padding plus one separator per value.
+            encodedBytes += (value.length * 4L + 2) / 3 + 1;
+        }
+        return encodedBytes <= MAX_EXACT_VALUES_BYTES;
+    }
+
+    private static void addToBloom(long[] bits, int numHashes, BytesRef value) {
+        MurmurHash3.Hash128 hash = MurmurHash3.hash128(value.bytes, value.offset, value.length, 0, new MurmurHash3.Hash128());
+        long combined = hash.h1;
+        for (int i = 0; i < numHashes; i++) {
+            int bit = (int) Long.remainderUnsigned(combined, (long) bits.length * Long.SIZE);
+            bits[bit >>> 6] |= 1L << bit;
+            combined += hash.h2;
+        }
+    }
+}
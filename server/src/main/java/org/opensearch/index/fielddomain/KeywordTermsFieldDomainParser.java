@@ -0,0 +1,182 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reader and writer for {@link KeywordTermsFieldDomain} custom metadata.
+ *
+ * Exact value sets are stored as a comma-separated list of URL-safe base64 encoded values; the separately stored value
+ * count disambiguates an empty set from a set holding only the empty string. Bloom filters are stored as the URL-safe
+ * base64 encoding of their little-endian bit words.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class KeywordTermsFieldDomainParser implements FieldDomainParser<KeywordTermsFieldDomain> {
+    private static final String KEY_VALUES = "values";
+    private static final String KEY_VALUE_COUNT = "value_count";
+    private static final String KEY_BLOOM_BITS = "bloom_bits";
+    private static final String KEY_BLOOM_HASHES = "bloom_hashes";
+    private static final String KEY_FINALIZED = "finalized";
+    private static final String KEY_SOURCE = "source";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    /**
+     * Returns {@link KeywordTermsFieldDomain#TYPE}.
+     */
+    @Override
+    public String type() {
+        return KeywordTermsFieldDomain.TYPE;
+    }
+
+    /**
+     * Reads one field's keyword terms from a flat custom metadata map.
+     */
+    @Override
+    public Optional<KeywordTermsFieldDomain> fromCustomData(String field, Map<String, String> customData, String prefix) {
+        String values = customData.get(prefix + KEY_VALUES);
+        String valueCount = customData.get(prefix + KEY_VALUE_COUNT);
+        String bloomBits = customData.get(prefix + KEY_BLOOM_BITS);
+        String bloomHashes = customData.get(prefix + KEY_BLOOM_HASHES);
+        String finalized = customData.get(prefix + KEY_FINALIZED);
+        String source = customData.get(prefix + KEY_SOURCE);
+
+        if (valueCount == null || finalized == null || (values == null) == (bloomBits == null)) {
+            return Optional.empty();
+        }
+
+        Optional<Boolean> parsedFinalized = parseBoolean(finalized);
+        if (parsedFinalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            int count = Integer.parseInt(valueCount);
+            if (values != null) {
+                return Optional.of(KeywordTermsFieldDomain.exact(field, decodeValues(values, count), parsedFinalized.get(), source));
+            }
+            if (bloomHashes == null) {
+                return Optional.empty();
+            }
+            return Optional.of(
+                KeywordTermsFieldDomain.bloom(
+                    field,
+                    decodeBits(bloomBits),
+                    Integer.parseInt(bloomHashes),
+                    count,
+                    parsedFinalized.get(),
+                    source
+                )
+            );
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes keyword terms into a flat custom metadata map.
+     */
+    @Override
+    public void writeToCustomData(KeywordTermsFieldDomain domain, Map<String, String> targetCustomData, String prefix) {
+        targetCustomData.put(prefix + KEY_VALUE_COUNT, Integer.toString(domain.valueCount()));
+        if (domain.isExact()) {
+            targetCustomData.put(prefix + KEY_VALUES, encodeValues(domain.values()));
+        } else {
+            targetCustomData.put(prefix + KEY_BLOOM_BITS, encodeBits(domain.bloomBits()));
+            targetCustomData.put(prefix + KEY_BLOOM_HASHES, Integer.toString(domain.bloomNumHashes()));
+        }
+        targetCustomData.put(prefix + KEY_FINALIZED, Boolean.toString(domain.finalized()));
+
+        if (domain.source() != null) {
+            targetCustomData.put(prefix + KEY_SOURCE, domain.source());
+        }
+    }
+
+    /**
+     * Removes all keyword terms keys for a field prefix.
+     */
+    @Override
+    public void removeFieldKeys(Map<String, String> target, String prefix) {
+        target.remove(prefix + KEY_VALUES);
+        target.remove(prefix + KEY_VALUE_COUNT);
+        target.remove(prefix + KEY_BLOOM_BITS);
+        target.remove(prefix + KEY_BLOOM_HASHES);
+        target.remove(prefix + KEY_FINALIZED);
+        target.remove(prefix + KEY_SOURCE);
+    }
+
+    private static String encodeValues(List<BytesRef> values) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            BytesRef value = values.get(i);
+            builder.append(ENCODER.encodeToString(BytesRef.deepCopyOf(value).bytes));
+        }
+        return builder.toString();
+    }
+
+    private static List<BytesRef> decodeValues(String encoded, int count) {
+        if (count == 0) {
+            if (encoded.isEmpty() == false) {
+                throw new IllegalArgumentException("keyword terms value count does not match the stored values");
+            }
+            return List.of();
+        }
+        String[] parts = encoded.split(",", -1);
+        if (parts.length != count) {
+            throw new IllegalArgumentException("keyword terms value count does not match the stored values");
+        }
+        List<BytesRef> values = new ArrayList<>(parts.length);
+        for (String part : parts) {
+            values.add(new BytesRef(DECODER.decode(part)));
+        }
+        return values;
+    }
+
+    private static String encodeBits(long[] bits) {
+        ByteBuffer buffer = ByteBuffer.allocate(bits.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asLongBuffer().put(bits);
+        return ENCODER.encodeToString(buffer.array());
+    }
+
+    private static long[] decodeBits(String encoded) {
+        byte[] bytes = DECODER.decode(encoded);
+        if (bytes.length == 0 || bytes.length % Long.BYTES != 0) {
+            throw new IllegalArgumentException("keyword terms bloom filter has an invalid size");
+        }
+        long[] bits = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(bits);
+        return bits;
+    }
+
+    private static Optional<Boolean> parseBoolean(String value) {
+        if ("true".equals(value)) {
+            return Optional.of(Boolean.TRUE);
+        }
+        if ("false".equals(value)) {
+            return Optional.of(Boolean.FALSE);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Field domain implementation for integral numeric range metadata.
+ *
+ * The stored min/max values are serialized as decimal strings so values of every integral numeric type, including
+ * {@code unsigned_long}, can be represented without loss. The evaluator compares query values as {@link BigDecimal}s.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class NumericRangeFieldDomain implements FieldDomain {
+    /**
+     * Metadata type for numeric range field domains.
+     */
+    public static final String TYPE = "numeric_range";
+
+    private final String field;
+    private final String min;
+    private final String max;
+    private final BigDecimal minValue;
+    private final BigDecimal maxValue;
+    private final boolean finalized;
+    private final String source;
+
+    /**
+     * Creates numeric range bounds.
+     *
+     * @param field field name this domain describes
+     * @param min inclusive lower index bound
+     * @param max inclusive upper index bound
+     * @param finalized whether this domain is trusted as complete for consumers that require finalized metadata
+     * @param source optional producer identifier
+     */
+    public NumericRangeFieldDomain(String field, String min, String max, boolean finalized, String source) {
+        this.field = requireNonEmpty(field, "field");
+        this.min = requireNonEmpty(min, "min");
+        this.max = requireNonEmpty(max, "max");
+        this.minValue = parseBound(this.min);
+        this.maxValue = parseBound(this.max);
+        if (minValue.compareTo(maxValue) > 0) {
+            throw new IllegalArgumentException("numeric range field domain min must be less than or equal to max");
+        }
+        this.finalized = finalized;
+        this.source = source;
+    }
+
+    @Override
+    public String field() {
+        return field;
+    }
+
+    /**
+     * Returns {@link #TYPE}.
+     */
+    @Override
+    public String type() {
+        return TYPE;
+    }
+
+    /**
+     * Inclusive lower index bound, serialized as metadata.
+     */
+    public String min() {
+        return min;
+    }
+
+    /**
+     * Inclusive upper index bound, serialized as metadata.
+     */
+    public String max() {
+        return max;
+    }
+
+    /**
+     * Inclusive lower index bound as a decimal value.
+     */
+    public BigDecimal minValue() {
+        return minValue;
+    }
+
+    /**
+     * Inclusive upper index bound as a decimal value.
+     */
+    public BigDecimal maxValue() {
+        return maxValue;
+    }
+
+    @Override
+    public boolean finalized() {
+        return finalized;
+    }
+
+    /**
+     * Optional identifier for the component that produced these bounds.
+     */
+    @Override
+    public String source() {
+        return source;
+    }
+
+    /**
+     * Returns a domain covering the bounds of both this domain and {@code other}.
+     *
+     * The merged domain is finalized only when both inputs are finalized, and keeps the source only when both inputs
+     * agree on it.
+     */
+    public NumericRangeFieldDomain merge(NumericRangeFieldDomain other) {
+        Objects.requireNonNull(other, "other must not be null");
+        if (field.equals(other.field) == false) {
+            throw new IllegalArgumentException("cannot merge field domains of fields [" + field + "] and [" + other.field + "]");
+        }
+        return new NumericRangeFieldDomain(
+            field,
+            minValue.compareTo(other.minValue) <= 0 ? min : other.min,
+            maxValue.compareTo(other.maxValue) >= 0 ? max : other.max,
+            finalized && other.finalized,
+            Objects.equals(source, other.source) ? source : null
+        );
+    }
+
+    private static String requireNonEmpty(String value, String name) {
+        Objects.requireNonNull(value, name + " must not be null");
+        if (value.isEmpty()) {
+            throw new IllegalArgumentException(name + " must not be empty");
+        }
+        return value;
+    }
+
+    private static BigDecimal parseBound(String value) {
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("numeric range field domain bounds must be decimal values", e);
+        }
+    }
+}
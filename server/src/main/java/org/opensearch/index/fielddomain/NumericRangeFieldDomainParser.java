@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.opensearch.common.annotation.ExperimentalApi;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reader and writer for {@link NumericRangeFieldDomain} custom metadata.
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public final class NumericRangeFieldDomainParser implements FieldDomainParser<NumericRangeFieldDomain> {
+    private static final String KEY_MIN = "min";
+    private static final String KEY_MAX = "max";
+    private static final String KEY_FINALIZED = "finalized";
+    private static final String KEY_SOURCE = "source";
+
+    /**
+     * Returns {@link NumericRangeFieldDomain#TYPE}.
+     */
+    @Override
+    public String type() {
+        return NumericRangeFieldDomain.TYPE;
+    }
+
+    /**
+     * Reads one field's numeric range bounds from a flat custom metadata map.
+     */
+    @Override
+    public Optional<NumericRangeFieldDomain> fromCustomData(String field, Map<String, String> customData, String prefix) {
+        String min = customData.get(prefix + KEY_MIN);
+        String max = customData.get(prefix + KEY_MAX);
+        String finalized = customData.get(prefix + KEY_FINALIZED);
+        String source = customData.get(prefix + KEY_SOURCE);
+
+        if (min == null || max == null || finalized == null) {
+            return Optional.empty();
+        }
+
+        Optional<Boolean> parsedFinalized = parseBoolean(finalized);
+        if (parsedFinalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new NumericRangeFieldDomain(field, min, max, parsedFinalized.get(), source));
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Writes numeric range bounds into a flat custom metadata map.
+     */
+    @Override
+    public void writeToCustomData(NumericRangeFieldDomain domain, Map<String, String> targetCustomData, String prefix) {
+        targetCustomData.put(prefix + KEY_MIN, domain.min());
+        targetCustomData.put(prefix + KEY_MAX, domain.max());
+        targetCustomData.put(prefix + KEY_FINALIZED, Boolean.toString(domain.finalized()));
+
+        if (domain.source() != null) {
+            targetCustomData.put(prefix + KEY_SOURCE, domain.source());
+        }
+    }
+
+    /**
+     * Removes all numeric range keys for a field prefix.
+     */
+    @Override
+    public void removeFieldKeys(Map<String, String> target, String prefix) {
+        target.remove(prefix + KEY_MIN);
+        target.remove(prefix + KEY_MAX);
+        target.remove(prefix + KEY_FINALIZED);
+        target.remove(prefix + KEY_SOURCE);
+    }
+
+    private static Optional<Boolean> parseBoolean(String value) {
+        if ("true".equals(value)) {
+            return Optional.of(Boolean.TRUE);
+        }
+        if ("false".equals(value)) {
+            return Optional.of(Boolean.FALSE);
+        }
+        return Optional.empty();
+    }
+}
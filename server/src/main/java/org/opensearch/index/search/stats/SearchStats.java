@@ -131,6 +131,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
 
         RequestStatsLongHolder() {
             requestStatsHolder.put(Fields.TOOK, new PhaseStatsLongHolder());
+            requestStatsHolder.put(Fields.REDUCE, new PhaseStatsLongHolder());
             for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
                 requestStatsHolder.put(searchPhaseName.getName(), new PhaseStatsLongHolder());
             }
@@ -652,6 +653,15 @@ public class SearchStats implements Writeable, ToXContentFragment {
                     builder.endObject();
                 }
 
+                PhaseStatsLongHolder reduceStatsLongHolder = requestStatsLongHolder.requestStatsHolder.get(Fields.REDUCE);
+                if (reduceStatsLongHolder != null) {
+                    builder.startObject(Fields.REDUCE);
+                    builder.humanReadableField(Fields.TIME_IN_MILLIS, Fields.TIME, new TimeValue(reduceStatsLongHolder.timeInMillis));
+                    builder.field(Fields.CURRENT, reduceStatsLongHolder.current);
+                    builder.field(Fields.TOTAL, reduceStatsLongHolder.total);
+                    builder.endObject();
+                }
+
                 for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
                     PhaseStatsLongHolder statsLongHolder = requestStatsLongHolder.requestStatsHolder.get(searchPhaseName.getName());
                     if (statsLongHolder == null) {
@@ -864,6 +874,16 @@ public class SearchStats implements Writeable, ToXContentFragment {
             )
         );
 
+        // Set coordinator reduce stats
+        totalStats.requestStatsLongHolder.requestStatsHolder.put(
+            Fields.REDUCE,
+            new PhaseStatsLongHolder(
+                searchRequestStats.getReduceCurrent(),
+                searchRequestStats.getReduceTotal(),
+                searchRequestStats.getReduceMetric()
+            )
+        );
+
         // Set phase stats
         for (SearchPhaseName searchPhaseName : SearchPhaseName.values()) {
             totalStats.requestStatsLongHolder.requestStatsHolder.put(
@@ -1005,6 +1025,7 @@ public class SearchStats implements Writeable, ToXContentFragment {
         static final String TOTAL = "total";
         static final String SEARCH_IDLE_REACTIVATE_COUNT_TOTAL = "search_idle_reactivate_count_total";
         static final String TOOK = "took";
+        static final String REDUCE = "reduce";
 
     }
 
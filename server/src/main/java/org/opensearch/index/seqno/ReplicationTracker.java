@@ -59,6 +59,7 @@ import org.opensearch.index.shard.IndexShard;
 import org.opensearch.index.shard.ReplicationGroup;
 import org.opensearch.index.store.Store;
 import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.SegmentReplicationTopology;
 import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
 import org.opensearch.indices.replication.common.SegmentReplicationLagTimer;
 
@@ -1363,6 +1364,9 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             cps.visibleReplicationCheckpoint != null ? cps.visibleReplicationCheckpoint.getMetadataMap() : Collections.emptyMap()
         );
         final long bytesBehind = diff.missing.stream().mapToLong(StoreFileMetadata::length).sum();
+        final int hops = routingTable == null
+            ? 1
+            : SegmentReplicationTopology.hops(routingTable, allocationId, indexSettings.getSegmentReplicationFanout());
         return new SegmentReplicationShardStats(
             allocationId,
             cps.checkpointTimers.size(),
@@ -1371,7 +1375,8 @@ public class ReplicationTracker extends AbstractIndexShardComponent implements L
             bytesBehind > 0L
                 ? cps.checkpointTimers.values().stream().mapToLong(SegmentReplicationLagTimer::totalElapsedTime).max().orElse(0)
                 : 0,
-            cps.lastCompletedReplicationLag
+            cps.lastCompletedReplicationLag,
+            hops
         );
     }
 
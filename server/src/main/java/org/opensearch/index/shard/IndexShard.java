@@ -483,8 +483,10 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             logger,
             threadPool,
             this::getIndexer,
-            indexSettings.isAssignedOnRemoteNode(),
-            () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+            indexSettings.isAssignedOnRemoteNode() || indexSettings.isTranslogGroupCommitEnabled(),
+            indexSettings.isAssignedOnRemoteNode()
+                ? () -> getRemoteTranslogUploadBufferInterval(remoteStoreSettings::getClusterRemoteTranslogBufferInterval)
+                : indexSettings::getTranslogGroupCommitInterval
         );
         this.mergedSegmentTransferTracker = new MergedSegmentTransferTracker();
         this.mapperService = mapperService;
@@ -1196,6 +1198,78 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         );
     }
 
+    /**
+     * Parses the given source against the current mapping into an index operation that can be executed later on with
+     * {@link #applyPreparedIndexOperationOnPrimary(Engine.Index)}. Nothing is written and this method may be called concurrently
+     * from several threads.
+     *
+     * @return the prepared operation, or {@code null} if the document could not be parsed or requires a mapping update, in which
+     *         case it has to go through {@link #applyIndexOperationOnPrimary} so that the failure or the update is handled there
+     */
+    @Nullable
+    public Engine.Index prepareIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry
+    ) {
+        assert versionType.validateVersionForWrites(version);
+        try {
+            final Engine.Index operation = getIndexer().prepareIndex(
+                docMapper(),
+                sourceToParse,
+                UNASSIGNED_SEQ_NO,
+                getOperationPrimaryTerm(),
+                version,
+                versionType,
+                Engine.Operation.Origin.PRIMARY,
+                autoGeneratedTimestamp,
+                isRetry,
+                ifSeqNo,
+                ifPrimaryTerm
+            );
+            return operation.parsedDoc().dynamicMappingsUpdate() == null ? operation : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Executes an index operation created by {@link #prepareIndexOperationOnPrimary}. The caller is responsible for making sure
+     * that the mapping the operation was parsed with is still the current one. The start time of the operation is reset to the
+     * time of execution.
+     */
+    public Engine.IndexResult applyPreparedIndexOperationOnPrimary(Engine.Index operation) throws IOException {
+        assert operation.origin() == Engine.Operation.Origin.PRIMARY : operation.origin();
+        assert operation.parsedDoc().dynamicMappingsUpdate() == null : "prepared operation requires a mapping update";
+        assert operation.primaryTerm() == getOperationPrimaryTerm() : "op term [ "
+            + operation.primaryTerm()
+            + " ] != shard term ["
+            + getOperationPrimaryTerm()
+            + "]";
+        ensureWriteAllowed(operation.origin());
+        // the operation may have been parsed long before, while other items of the bulk request were parsed, so took and
+        // indexing latency are measured from now on, like for operations parsed right before they are executed
+        final Engine.Index index = new Engine.Index(
+            operation.uid(),
+            operation.parsedDoc(),
+            operation.seqNo(),
+            operation.primaryTerm(),
+            operation.version(),
+            operation.versionType(),
+            operation.origin(),
+            System.nanoTime(),
+            operation.getAutoGeneratedIdTimestamp(),
+            operation.isRetry(),
+            operation.getIfSeqNo(),
+            operation.getIfPrimaryTerm()
+        );
+        return index(getIndexer(), index);
+    }
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         String id,
         long seqNo,
@@ -5312,7 +5386,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
      * actually fsyncing the location until the sync listener is called. Yet, unless there is already another thread fsyncing
      * the transaction log the caller thread will be hijacked to run the fsync for all pending fsync operations.
      * This method allows indexing threads to continue indexing without blocking on fsync calls. We ensure that there is only
-     * one thread blocking on the sync an all others can continue indexing.
+     * one thread blocking on the sync an all others can continue indexing. If translog group commit is enabled, or the shard is
+     * on a remote store node, callers are never hijacked: the fsync runs on the translog sync thread pool for all pending locations.
      * NOTE: if the syncListener throws an exception when it's processed the exception will only be logged. Users should make sure that the
      * listener handles all exception cases internally.
      */
@@ -18,14 +18,19 @@ import org.apache.lucene.store.NoLockFactory;
 import org.opensearch.common.lucene.store.ByteArrayIndexInput;
 import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
+import org.opensearch.index.store.remote.filecache.FileCache;
 import org.opensearch.index.store.remote.utils.TransferManager;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
+import org.opensearch.storage.indexinput.OnDemandPrefetchBlockSnapshotIndexInput;
+import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -41,13 +46,34 @@ public final class RemoteSnapshotDirectory extends Directory {
     private final Map<String, BlobStoreIndexShardSnapshot.FileInfo> fileInfoMap;
     private final FSDirectory localStoreDir;
     private final TransferManager transferManager;
+    private final ThreadPool threadPool;
+    private final FileCache fileCache;
+    private final Supplier<TieredStoragePrefetchSettings> prefetchSettingsSupplier;
 
     public RemoteSnapshotDirectory(BlobStoreIndexShardSnapshot snapshot, FSDirectory localStoreDir, TransferManager transferManager) {
+        this(snapshot, localStoreDir, transferManager, null, null, () -> null);
+    }
+
+    /**
+     * Creates a directory whose files read ahead the blocks following a sequential reader, as per the tiered storage
+     * prefetch settings. Files are read block by block without any read-ahead while the supplier returns null.
+     */
+    public RemoteSnapshotDirectory(
+        BlobStoreIndexShardSnapshot snapshot,
+        FSDirectory localStoreDir,
+        TransferManager transferManager,
+        ThreadPool threadPool,
+        FileCache fileCache,
+        Supplier<TieredStoragePrefetchSettings> prefetchSettingsSupplier
+    ) {
         this.fileInfoMap = snapshot.indexFiles()
             .stream()
             .collect(Collectors.toMap(BlobStoreIndexShardSnapshot.FileInfo::physicalName, f -> f));
         this.localStoreDir = localStoreDir;
         this.transferManager = transferManager;
+        this.threadPool = threadPool;
+        this.fileCache = fileCache;
+        this.prefetchSettingsSupplier = prefetchSettingsSupplier;
     }
 
     @Override
@@ -70,6 +96,26 @@ public final class RemoteSnapshotDirectory extends Directory {
         if (fileInfo.name().startsWith(VIRTUAL_FILE_PREFIX)) {
             return new ByteArrayIndexInput(fileInfo.physicalName(), fileInfo.metadata().hash().bytes);
         }
+        if (prefetchSettingsSupplier.get() != null) {
+            return new OnDemandPrefetchBlockSnapshotIndexInput(
+                "BlockedSnapshotIndexInput(path=\""
+                    + localStoreDir.getDirectory().toString()
+                    + "/"
+                    + fileInfo.physicalName()
+                    + "\", offset=0, length= "
+                    + fileInfo.length()
+                    + ")",
+                fileInfo,
+                0L,
+                fileInfo.length(),
+                false,
+                localStoreDir,
+                transferManager,
+                threadPool,
+                fileCache,
+                prefetchSettingsSupplier
+            );
+        }
         return new OnDemandBlockSnapshotIndexInput(fileInfo, localStoreDir, transferManager);
     }
 
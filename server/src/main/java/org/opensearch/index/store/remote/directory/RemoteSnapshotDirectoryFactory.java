@@ -25,6 +25,7 @@ import org.opensearch.repositories.RepositoriesService;
 import org.opensearch.repositories.Repository;
 import org.opensearch.repositories.blobstore.BlobStoreRepository;
 import org.opensearch.snapshots.SnapshotId;
+import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
 import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
@@ -48,14 +49,26 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
 
     private final FileCache remoteStoreFileCache;
 
+    private final Supplier<TieredStoragePrefetchSettings> prefetchSettingsSupplier;
+
     public RemoteSnapshotDirectoryFactory(
         Supplier<RepositoriesService> repositoriesService,
         ThreadPool threadPool,
         FileCache remoteStoreFileCache
+    ) {
+        this(repositoriesService, threadPool, remoteStoreFileCache, () -> null);
+    }
+
+    public RemoteSnapshotDirectoryFactory(
+        Supplier<RepositoriesService> repositoriesService,
+        ThreadPool threadPool,
+        FileCache remoteStoreFileCache,
+        Supplier<TieredStoragePrefetchSettings> prefetchSettingsSupplier
     ) {
         this.repositoriesService = repositoriesService;
         this.threadPool = threadPool;
         this.remoteStoreFileCache = remoteStoreFileCache;
+        this.prefetchSettingsSupplier = prefetchSettingsSupplier;
     }
 
     @Override
@@ -108,7 +121,14 @@ public final class RemoteSnapshotDirectoryFactory implements IndexStorePlugin.Di
                 : "indexShardSnapshot should be an instance of BlobStoreIndexShardSnapshot";
             final BlobStoreIndexShardSnapshot snapshot = (BlobStoreIndexShardSnapshot) indexShardSnapshot;
             TransferManager transferManager = new TransferManager(blobContainer::readBlob, remoteStoreFileCache, threadPool);
-            return new RemoteSnapshotDirectory(snapshot, localStoreDir, transferManager);
+            return new RemoteSnapshotDirectory(
+                snapshot,
+                localStoreDir,
+                transferManager,
+                threadPool,
+                remoteStoreFileCache,
+                prefetchSettingsSupplier
+            );
         });
     }
 }
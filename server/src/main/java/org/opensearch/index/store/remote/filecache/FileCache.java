@@ -28,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.RecursiveAction;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -195,6 +196,13 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
         return theCache.stats();
     }
 
+    /**
+     * Returns the combined size of the cached files per index UUID.
+     */
+    public Map<String, Long> usageByIndex() {
+        return theCache.usageByGroup();
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         logger.trace("CURRENT STATE OF FILE CACHE \n");
@@ -260,7 +268,8 @@ public class FileCache implements RefCountedCache<Path, CachedIndexInput> {
                 overallCacheStats.removeWeight(),
                 overallCacheStats.hitCount(),
                 overallCacheStats.missCount(),
-                FileCacheStatsType.OVER_ALL_STATS
+                FileCacheStatsType.OVER_ALL_STATS,
+                usageByIndex()
             ),
             new FileCacheStats(
                 fullFileCacheStats.activeUsage(),
@@ -9,6 +9,7 @@
 package org.opensearch.index.store.remote.filecache;
 
 import org.opensearch.common.cache.RemovalReason;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.index.store.remote.utils.cache.SegmentedCache;
 
 import java.nio.file.Files;
@@ -44,10 +45,31 @@ public class FileCacheFactory {
         return new FileCache(createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).build());
     }
 
+    public static FileCache createConcurrentFileCache(long capacity, EvictionPolicy evictionPolicy) {
+        return new FileCache(createDefaultBuilder().capacity(capacity).evictionPolicy(evictionPolicy).build());
+    }
+
+    public static FileCache createConcurrentFileCache(long capacity, int concurrencyLevel, EvictionPolicy evictionPolicy) {
+        return new FileCache(
+            createDefaultBuilder().capacity(capacity).concurrencyLevel(concurrencyLevel).evictionPolicy(evictionPolicy).build()
+        );
+    }
+
+    /**
+     * Returns the UUID of the index that a cached file belongs to. Cached files live in
+     * {@code <cache path>/<index uuid>/<shard id>/<store directory>/<file name>}, see
+     * {@link org.opensearch.env.NodeEnvironment#resolveFileCacheLocation}.
+     */
+    static String indexUUID(Path filePath) {
+        final int nameCount = filePath.getNameCount();
+        return nameCount < 4 ? null : filePath.getName(nameCount - 4).toString();
+    }
+
     private static SegmentedCache.Builder<Path, CachedIndexInput> createDefaultBuilder() {
         return SegmentedCache.<Path, CachedIndexInput>builder()
             // use length in bytes as the weight of the file item
             .weigher(CachedIndexInput::length)
+            .usageGroup(FileCacheFactory::indexUUID)
             .listener((removalNotification) -> {
                 RemovalReason removalReason = removalNotification.getRemovalReason();
                 CachedIndexInput value = removalNotification.getValue();
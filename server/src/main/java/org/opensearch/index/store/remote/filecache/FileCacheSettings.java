@@ -11,6 +11,7 @@ package org.opensearch.index.store.remote.filecache;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 
 /**
  * Settings relate to file cache
@@ -32,6 +33,18 @@ public class FileCacheSettings {
         Setting.Property.Dynamic
     );
 
+    /**
+     * Order in which files that are not in use are evicted from the file cache. With {@code slru}, files are only protected
+     * from eviction by scans once they are requested again after being released, so that a query reading a lot of cold data
+     * once does not flush the files that other queries keep reading.
+     */
+    public static final Setting<EvictionPolicy> EVICTION_POLICY_SETTING = new Setting<>(
+        "node.search.cache.eviction_policy",
+        EvictionPolicy.LRU.toString(),
+        EvictionPolicy::fromString,
+        Setting.Property.NodeScope
+    );
+
     private volatile double remoteDataRatio;
 
     public FileCacheSettings(Settings settings, ClusterSettings clusterSettings) {
@@ -20,6 +20,8 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.store.remote.filecache.AggregateFileCacheStats.FileCacheStatsType;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
 
 import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStats.calculatePercentage;
 
@@ -29,6 +31,7 @@ import static org.opensearch.index.store.remote.filecache.AggregateFileCacheStat
  * - Memory usage: active and used bytes.
  * - Cache performance: hit counts and eviction counts.
  * - Utilization: active percentage of total used memory.
+ * - Usage per index, keyed by index UUID, for the overall stats only.
  * The statistics are exposed as part of {@link AggregateFileCacheStats} and via {@link org.opensearch.action.admin.cluster.node.stats.NodeStats}
  * to provide visibility into cache behavior and performance.
  *
@@ -46,6 +49,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
     private final long hits;
     private final long misses;
     private final FileCacheStatsType statsType;
+    private final Map<String, Long> usageByIndex;
 
     @InternalApi
     public FileCacheStats(
@@ -58,6 +62,22 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         final long hits,
         long misses,
         FileCacheStatsType statsType
+    ) {
+        this(active, total, used, pinned, evicted, removed, hits, misses, statsType, Map.of());
+    }
+
+    @InternalApi
+    public FileCacheStats(
+        final long active,
+        long total,
+        final long used,
+        final long pinned,
+        final long evicted,
+        final long removed,
+        final long hits,
+        long misses,
+        FileCacheStatsType statsType,
+        Map<String, Long> usageByIndex
     ) {
         this.active = active;
         this.total = total;
@@ -68,6 +88,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         this.hits = hits;
         this.misses = misses;
         this.statsType = statsType;
+        this.usageByIndex = usageByIndex;
     }
 
     @InternalApi
@@ -87,6 +108,11 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             this.removed = 0L;
             this.misses = 0L;
         }
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            this.usageByIndex = in.readMap(StreamInput::readString, StreamInput::readVLong);
+        } else {
+            this.usageByIndex = Map.of();
+        }
     }
 
     @Override
@@ -103,6 +129,9 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
             out.writeLong(removed);
             out.writeLong(misses);
         }
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeMap(usageByIndex, StreamOutput::writeString, StreamOutput::writeVLong);
+        }
     }
 
     public long getActive() {
@@ -149,6 +178,13 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         return misses;
     }
 
+    /**
+     * Returns the combined size of the cached files per index UUID.
+     */
+    public Map<String, Long> getUsageByIndex() {
+        return usageByIndex;
+    }
+
     static final class Fields {
         static final String ACTIVE = "active";
         static final String ACTIVE_IN_BYTES = "active_in_bytes";
@@ -163,6 +199,7 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         static final String ACTIVE_PERCENT = "active_percent";
         static final String HIT_COUNT = "hit_count";
         static final String MISS_COUNT = "miss_count";
+        static final String INDICES = "indices";
     }
 
     @Override
@@ -180,6 +217,15 @@ public class FileCacheStats implements Writeable, ToXContentFragment {
         builder.field(FileCacheStats.Fields.ACTIVE_PERCENT, getActivePercent());
         builder.field(FileCacheStats.Fields.HIT_COUNT, getHits());
         builder.field(FileCacheStats.Fields.MISS_COUNT, getCacheMisses());
+        if (usageByIndex.isEmpty() == false) {
+            builder.startObject(Fields.INDICES);
+            for (Map.Entry<String, Long> entry : new TreeMap<>(usageByIndex).entrySet()) {
+                builder.startObject(entry.getKey());
+                builder.humanReadableField(Fields.USED_IN_BYTES, Fields.USED, new ByteSizeValue(entry.getValue()));
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -123,7 +123,10 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             provider.setReservedCapacityBytes(reserved);
         }
 
-        FileCache fileCache = FileCacheFactory.createConcurrentLRUFileCache(fileCacheBytes);
+        FileCache fileCache = FileCacheFactory.createConcurrentFileCache(
+            fileCacheBytes,
+            FileCacheSettings.EVICTION_POLICY_SETTING.get(settings)
+        );
         fileCacheNodePath.fileCacheReservedSize = new ByteSizeValue(fileCacheBytes, ByteSizeUnit.BYTES);
         restoreFileCacheFromDisk(settings, fileCacheNodePath, fileCache);
 
@@ -361,7 +364,8 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
                 merged.getRemoved().getBytes(),
                 merged.getCacheHits(),
                 merged.getCacheMisses(),
-                AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS
+                AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS,
+                merged.getOverallFileCacheStats().getUsageByIndex()
             ),
             merged.getFullFileCacheStats(),
             merged.getBlockFileCacheStats(),
@@ -415,7 +419,8 @@ public class NodeCacheService implements Closeable, BlockCacheRegistry {
             fc.getRemoved().getBytes() + bc.removedBytes(),
             fc.getCacheHits() + bc.hits(),
             fc.getCacheMisses() + bc.misses(),
-            AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS
+            AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS,
+            fc.getOverallFileCacheStats().getUsageByIndex()
         );
         FileCacheStats fcBlock = fc.getBlockFileCacheStats();
         FileCacheStats mergedBlock = new FileCacheStats(
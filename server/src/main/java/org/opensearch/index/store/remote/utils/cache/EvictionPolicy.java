@@ -0,0 +1,37 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.Locale;
+
+/**
+ * Order in which a {@link RefCountedCache} evicts entries that are not referenced once it exceeds its capacity.
+ *
+ * @opensearch.internal
+ */
+public enum EvictionPolicy {
+    /**
+     * Evicts the least recently used entry first.
+     */
+    LRU,
+    /**
+     * Segmented LRU: new entries start in a probation segment and are only moved to a protected segment when they are
+     * requested again after all previous references were released. Entries are evicted from the probation segment first,
+     * so that a scan over data that is read once cannot flush the entries that are read over and over again.
+     */
+    SLRU;
+
+    public static EvictionPolicy fromString(String policy) {
+        try {
+            return EvictionPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown file cache eviction policy [" + policy + "]", e);
+        }
+    }
+}
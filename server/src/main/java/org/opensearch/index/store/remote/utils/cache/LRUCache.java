@@ -25,6 +25,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -42,6 +43,8 @@ import java.util.function.Predicate;
  * <li>Supports RemovalListener</li>
  * <li>Supports Cache Pinning.</li>
  * <li>Cache maintains it's capacity using LRU Eviction while ignoring entries with {@link Node#refCount} greater than 0 from eviction</li>
+ * <li>Optionally, the LRU list is split in a probation and a protected segment to resist scans, see {@link EvictionPolicy#SLRU}</li>
+ * <li>Optionally, usage is accounted per group of keys, e.g. per index</li>
  * </ul>
  * @see RefCountedCache
  *
@@ -49,13 +52,30 @@ import java.util.function.Predicate;
  */
 class LRUCache<K, V> implements RefCountedCache<K, V> {
     private static final Logger logger = LogManager.getLogger(LRUCache.class);
+
+    /** share of the capacity that entries of the protected segment may use before being demoted back to probation */
+    static final double PROTECTED_RATIO = 0.8;
+
     private final long capacity;
 
     private final HashMap<K, Node<K, V>> data;
 
-    /** the LRU list */
+    /** the LRU list, only holds the probation segment with the {@link EvictionPolicy#SLRU} policy */
     private final LinkedHashMap<K, Node<K, V>> lru;
 
+    /** the LRU list of the protected segment, null unless the {@link EvictionPolicy#SLRU} policy is used */
+    private final LinkedHashMap<K, Node<K, V>> protectedLru;
+
+    private final long protectedCapacity;
+
+    /** the combined weight of all entries of the protected segment, whether they are evictable or not */
+    private long protectedWeight;
+
+    /** maps keys to the group their usage is accounted to, null if usage is not accounted per group */
+    private final Function<K, String> usageGroup;
+
+    private final Map<String, Long> usageByGroup;
+
     private final RemovalListener<K, V> listener;
 
     private final Weigher<V> weigher;
@@ -75,6 +95,8 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
         boolean pinned;
 
+        boolean inProtectedSegment;
+
         Node(K key, V value, long weight) {
             this.key = key;
             this.value = value;
@@ -89,11 +111,29 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
     }
 
     public LRUCache(long capacity, RemovalListener<K, V> listener, Weigher<V> weigher) {
+        this(capacity, listener, weigher, EvictionPolicy.LRU, null);
+    }
+
+    /**
+     * @param usageGroup maps keys to the group their usage is accounted to, or returns null if a key belongs to no group.
+     *                   May be null if usage is not accounted per group.
+     */
+    public LRUCache(
+        long capacity,
+        RemovalListener<K, V> listener,
+        Weigher<V> weigher,
+        EvictionPolicy evictionPolicy,
+        Function<K, String> usageGroup
+    ) {
         this.capacity = capacity;
         this.listener = listener;
         this.weigher = weigher;
         this.data = new HashMap<>();
         this.lru = new LinkedHashMap<>();
+        this.protectedLru = evictionPolicy == EvictionPolicy.SLRU ? new LinkedHashMap<>() : null;
+        this.protectedCapacity = (long) (capacity * PROTECTED_RATIO);
+        this.usageGroup = usageGroup;
+        this.usageByGroup = new HashMap<>();
         this.lock = new ReentrantLock();
         this.statsCounter = new FileStatsCounter<>();
 
@@ -111,7 +151,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 return null;
             }
             // hit
+            final boolean released = node.refCount == 0;
             incRef(key);
+            if (released) {
+                promote(node);
+            }
             statsCounter.recordHits(key, node.value, node.pinned, 1);
             return node.value;
         } finally {
@@ -129,7 +173,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             Node<K, V> node = data.get(key);
             if (node != null) {
                 final V oldValue = node.value;
+                final boolean released = node.refCount == 0;
                 replaceNode(node, value);
+                if (released) {
+                    promote(node);
+                }
                 return oldValue;
             } else {
                 addNode(key, false, value);
@@ -164,7 +212,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                     return null;
                 } else {
                     statsCounter.recordHits(key, node.value, node.pinned, 1);
+                    final boolean released = node.refCount == 0;
                     replaceNode(node, newValue);
+                    if (released) {
+                        promote(node);
+                    }
                     return newValue;
                 }
             }
@@ -207,6 +259,11 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         lock.lock();
         try {
             lru.clear();
+            if (protectedLru != null) {
+                protectedLru.clear();
+            }
+            protectedWeight = 0;
+            usageByGroup.clear();
             final Iterator<Node<K, V>> iterator = data.values().iterator();
             while (iterator.hasNext()) {
                 Node<K, V> node = iterator.next();
@@ -241,7 +298,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since it become active, we should remove it from eviction list
-                    lru.remove(node.key);
+                    removeFromEvictionList(node);
                 }
 
                 node.refCount++;
@@ -263,7 +320,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                     evict(); // If cache usage is already overflowing trigger evictions
                 }
 
@@ -295,7 +352,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // since its pinned, we should remove it from eviction list
-                    lru.remove(node.key, node);
+                    removeFromEvictionList(node);
                 }
 
                 node.pinned = true;
@@ -323,7 +380,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
                 if (node.evictable()) {
                     // if it becomes evictable, we should add it to eviction list
-                    lru.put(node.key, node);
+                    addToEvictionList(node);
                 }
 
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -354,17 +411,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         long sum = 0L;
         lock.lock();
         try {
-            final Iterator<Node<K, V>> iterator = lru.values().iterator();
-            while (iterator.hasNext()) {
-                final Node<K, V> node = iterator.next();
-                if (keyPredicate != null && !keyPredicate.test(node.key)) {
-                    continue;
-                }
-                iterator.remove();
-                data.remove(node.key, node);
-                sum += node.weight;
-                statsCounter.recordRemoval(node.value, node.pinned, node.weight);
-                listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+            sum += prune(lru, keyPredicate);
+            if (protectedLru != null) {
+                sum += prune(protectedLru, keyPredicate);
             }
         } finally {
             lock.unlock();
@@ -372,6 +421,24 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         return sum;
     }
 
+    private long prune(LinkedHashMap<K, Node<K, V>> evictionList, Predicate<K> keyPredicate) {
+        long sum = 0L;
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
+        while (iterator.hasNext()) {
+            final Node<K, V> node = iterator.next();
+            if (keyPredicate != null && !keyPredicate.test(node.key)) {
+                continue;
+            }
+            iterator.remove();
+            data.remove(node.key, node);
+            untrack(node);
+            sum += node.weight;
+            statsCounter.recordRemoval(node.value, node.pinned, node.weight);
+            listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.EXPLICIT));
+        }
+        return sum;
+    }
+
     @Override
     public long usage() {
         lock.lock();
@@ -417,6 +484,18 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         }
     }
 
+    /**
+     * Returns the combined weight of the values in this cache per group of keys, empty if usage is not accounted per group.
+     */
+    public Map<String, Long> usageByGroup() {
+        lock.lock();
+        try {
+            return new HashMap<>(usageByGroup);
+        } finally {
+            lock.unlock();
+        }
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         lock.lock();
@@ -444,6 +523,7 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
         final long weight = weigher.weightOf(value);
         Node<K, V> newNode = new Node<>(key, value, weight);
         data.put(key, newNode);
+        recordGroupUsage(key, weight);
         statsCounter.recordUsage(value, weight, pinned, false);
         incRef(key);
         evict();
@@ -457,6 +537,10 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
             // update the value and weight
             node.value = newValue;
             node.weight = newWeight;
+            if (node.inProtectedSegment) {
+                protectedWeight += newWeight - oldWeight;
+            }
+            recordGroupUsage(node.key, newWeight - oldWeight);
 
             // update stats
             statsCounter.recordReplacement(oldValue, newValue, oldWeight, newWeight, node.refCount > 0, node.pinned);
@@ -473,8 +557,9 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
                 statsCounter.recordActiveUsage(node.value, node.weight, node.pinned, true);
             }
             if (node.evictable()) {
-                lru.remove(node.key);
+                removeFromEvictionList(node);
             }
+            untrack(node);
 
             if (node.pinned) {
                 statsCounter.recordPinnedUsage(node.value, node.weight, true);
@@ -491,15 +576,74 @@ class LRUCache<K, V> implements RefCountedCache<K, V> {
 
     private void evict() {
         // Attempts to evict entries from the cache if it exceeds the maximum
-        // capacity.
-        final Iterator<Node<K, V>> iterator = lru.values().iterator();
+        // capacity, probation entries go first.
+        evict(lru);
+        if (protectedLru != null) {
+            evict(protectedLru);
+        }
+    }
+
+    private void evict(LinkedHashMap<K, Node<K, V>> evictionList) {
+        final Iterator<Node<K, V>> iterator = evictionList.values().iterator();
         while (hasOverflowed() && iterator.hasNext()) {
             final Node<K, V> node = iterator.next();
             iterator.remove();
             // Notify the listener only if the entry was evicted
             data.remove(node.key, node);
+            untrack(node);
             statsCounter.recordEviction(node.value, node.weight);
             listener.onRemoval(new RemovalNotification<>(node.key, node.value, RemovalReason.CAPACITY));
         }
     }
+
+    private void addToEvictionList(Node<K, V> node) {
+        (node.inProtectedSegment ? protectedLru : lru).put(node.key, node);
+    }
+
+    private void removeFromEvictionList(Node<K, V> node) {
+        (node.inProtectedSegment ? protectedLru : lru).remove(node.key, node);
+    }
+
+    /**
+     * Moves a referenced entry that is requested again to the protected segment. Entries only get here once all previous
+     * references were released, so that the many references a single reader takes on the same file in a short time don't
+     * count as reuse.
+     */
+    private void promote(Node<K, V> node) {
+        assert node.refCount > 0 : "only referenced entries, which are not on any eviction list, can be promoted";
+        if (protectedLru == null || node.inProtectedSegment) {
+            return;
+        }
+        node.inProtectedSegment = true;
+        protectedWeight += node.weight;
+        // demote the least recently used protected entries to the most recently used end of the probation segment
+        final Iterator<Node<K, V>> iterator = protectedLru.values().iterator();
+        while (protectedWeight > protectedCapacity && iterator.hasNext()) {
+            final Node<K, V> demoted = iterator.next();
+            iterator.remove();
+            demoted.inProtectedSegment = false;
+            protectedWeight -= demoted.weight;
+            lru.put(demoted.key, demoted);
+        }
+    }
+
+    /**
+     * Updates the accounting of an entry that is no longer in the cache.
+     */
+    private void untrack(Node<K, V> node) {
+        if (node.inProtectedSegment) {
+            protectedWeight -= node.weight;
+        }
+        recordGroupUsage(node.key, -node.weight);
+    }
+
+    private void recordGroupUsage(K key, long delta) {
+        if (usageGroup == null || delta == 0) {
+            return;
+        }
+        final String group = usageGroup.apply(key);
+        if (group != null) {
+            usageByGroup.merge(group, delta, (usage, d) -> usage + d == 0 ? null : usage + d);
+        }
+    }
 }
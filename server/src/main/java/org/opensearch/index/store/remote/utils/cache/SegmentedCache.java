@@ -17,8 +17,11 @@ import org.opensearch.index.store.remote.utils.cache.stats.AggregateRefCountedCa
 import org.opensearch.index.store.remote.utils.cache.stats.IRefCountedCacheStats;
 import org.opensearch.index.store.remote.utils.cache.stats.RefCountedCacheStats;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 /**
@@ -60,7 +63,13 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         this.perSegmentCapacity = (builder.capacity + (segments - 1)) / segments;
         this.weigher = builder.weigher;
         for (int i = 0; i < table.length; i++) {
-            table[i] = new LRUCache<>(perSegmentCapacity, builder.listener, builder.weigher);
+            table[i] = new LRUCache<>(
+                perSegmentCapacity,
+                builder.listener,
+                builder.weigher,
+                builder.evictionPolicy,
+                builder.usageGroup
+            );
         }
         this.capacity = perSegmentCapacity * segments;
     }
@@ -231,6 +240,17 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
         );
     }
 
+    /**
+     * Returns the combined weight of the values in this cache per group of keys, see {@link Builder#usageGroup(Function)}.
+     */
+    public Map<String, Long> usageByGroup() {
+        final Map<String, Long> usageByGroup = new HashMap<>();
+        for (RefCountedCache<K, V> cache : table) {
+            ((LRUCache<K, V>) cache).usageByGroup().forEach((group, usage) -> usageByGroup.merge(group, usage, Long::sum));
+        }
+        return usageByGroup;
+    }
+
     // To be used only for debugging purposes
     public void logCurrentState() {
         int i = 0;
@@ -302,12 +322,17 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
 
         long capacity;
 
+        EvictionPolicy evictionPolicy;
+
+        Function<K, String> usageGroup;
+
         @SuppressWarnings("unchecked")
         Builder() {
             capacity = -1;
             weigher = (Weigher<V>) SingletonWeigher.INSTANCE;
             concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
             listener = (RemovalListener<K, V>) DiscardingListener.INSTANCE;
+            evictionPolicy = EvictionPolicy.LRU;
         }
 
         /**
@@ -367,6 +392,31 @@ public class SegmentedCache<K, V> implements RefCountedCache<K, V> {
             return this;
         }
 
+        /**
+         * Specifies the order in which entries that are not referenced are evicted (default {@link EvictionPolicy#LRU}).
+         *
+         * @param evictionPolicy the eviction policy of every segment
+         * @throws NullPointerException if the eviction policy is null
+         */
+        public Builder<K, V> evictionPolicy(EvictionPolicy evictionPolicy) {
+            Objects.requireNonNull(evictionPolicy);
+            this.evictionPolicy = evictionPolicy;
+            return this;
+        }
+
+        /**
+         * Specifies an optional function that maps keys to the group their usage is accounted to, see
+         * {@link SegmentedCache#usageByGroup()}. The function may return null for keys that belong to no group.
+         *
+         * @param usageGroup the function to group keys by
+         * @throws NullPointerException if the function is null
+         */
+        public Builder<K, V> usageGroup(Function<K, String> usageGroup) {
+            Objects.requireNonNull(usageGroup);
+            this.usageGroup = usageGroup;
+            return this;
+        }
+
         /**
          * Ensures that the argument expression is true.
          */
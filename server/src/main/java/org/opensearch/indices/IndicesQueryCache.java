@@ -47,6 +47,7 @@ import org.apache.lucene.search.ScorerSupplier;
 import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.search.Weight;
 import org.opensearch.common.annotation.PublicApi;
+import org.opensearch.common.cache.FrequencySketch;
 import org.opensearch.common.lucene.ShardCoreKeyMap;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Setting;
@@ -61,6 +62,8 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -123,7 +126,22 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         Property.Dynamic
     );
 
+    /**
+     * Policy that decides whether a query that the shard's caching policy wants to cache may actually go into the cache once
+     * the cache is full. {@code none} always lets it in, evicting the least recently used query. {@code tinylfu} only lets it
+     * in if it has been used more often recently than the query it would evict, so that one-off filters can't push out
+     * filters that keep being reused.
+     */
+    public static final Setting<AdmissionPolicy> INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING = new Setting<>(
+        "indices.queries.cache.admission_policy",
+        AdmissionPolicy.NONE.toString(),
+        AdmissionPolicy::fromString,
+        Property.NodeScope
+    );
+
     private final LRUQueryCache cache;
+    // null if queries are admitted as soon as the caching policy wants them cached
+    private final TinyLfuAdmission admission;
     private final ShardCoreKeyMap shardKeyMap = new ShardCoreKeyMap();
     private final Map<ShardId, Stats> shardStats = new ConcurrentHashMap<>();
     private volatile long sharedRamBytesUsed;
@@ -142,7 +160,14 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         final ByteSizeValue size = INDICES_CACHE_QUERY_SIZE_SETTING.get(settings);
         final int count = INDICES_CACHE_QUERY_COUNT_SETTING.get(settings);
         float skipCacheFactor = INDICES_QUERIES_CACHE_SKIP_CACHE_FACTOR.get(settings);
-        logger.debug("using [node] query cache with size [{}] max filter count [{}] skipCacheFactor [{}]", size, count, skipCacheFactor);
+        final AdmissionPolicy admissionPolicy = INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.get(settings);
+        logger.debug(
+            "using [node] query cache with size [{}] max filter count [{}] skipCacheFactor [{}] admission policy [{}]",
+            size,
+            count,
+            skipCacheFactor,
+            admissionPolicy
+        );
         if (INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.get(settings)) {
             cache = new OpenSearchLRUQueryCache(count, size.getBytes(), context -> true, 1f);
         } else {
@@ -155,6 +180,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             }
         }
         sharedRamBytesUsed = 0;
+        admission = admissionPolicy == AdmissionPolicy.TINYLFU ? new TinyLfuAdmission(count, size.getBytes()) : null;
     }
 
     public void setSkipCacheFactor(float skipCacheFactor) {
@@ -210,19 +236,22 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         while (weight instanceof CachingWeightWrapper cachingWeightWrapper) {
             weight = cachingWeightWrapper.in;
         }
-        final Weight in = cache.doCache(weight, policy);
+        final AdmittingQueryCachingPolicy admittingPolicy = admission == null ? null : new AdmittingQueryCachingPolicy(policy);
+        final Weight in = cache.doCache(weight, admittingPolicy == null ? policy : admittingPolicy);
         // We wrap the weight to track the readers it sees and map them with
         // the shards they belong to
-        return new CachingWeightWrapper(in);
+        return new CachingWeightWrapper(in, admittingPolicy);
     }
 
     private class CachingWeightWrapper extends Weight {
 
         private final Weight in;
+        private final AdmittingQueryCachingPolicy admittingPolicy;
 
-        protected CachingWeightWrapper(Weight in) {
+        protected CachingWeightWrapper(Weight in, AdmittingQueryCachingPolicy admittingPolicy) {
             super(in.getQuery());
             this.in = in;
+            this.admittingPolicy = admittingPolicy;
         }
 
         @Override
@@ -234,6 +263,13 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         @Override
         public ScorerSupplier scorerSupplier(LeafReaderContext context) throws IOException {
             shardKeyMap.add(context.reader());
+            if (admittingPolicy != null && admittingPolicy.stats == null) {
+                // all leaves of a weight belong to the same shard, so the first one tells where to account rejections
+                final ShardId shardId = shardKeyMap.getShardId(context.reader().getCoreCacheHelper().getKey());
+                if (shardId != null) {
+                    admittingPolicy.stats = shardStats.computeIfAbsent(shardId, Stats::new);
+                }
+            }
             return in.scorerSupplier(context);
         }
 
@@ -290,6 +326,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         volatile long missCount;
         volatile long cacheCount;
         volatile long cacheSize;
+        volatile long admissionRejectedCount;
 
         Stats(ShardId shardId) {
             this.shardId = shardId;
@@ -301,6 +338,7 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 .missCount(missCount)
                 .cacheCount(cacheCount)
                 .cacheSize(cacheSize)
+                .admissionRejectedCount(admissionRejectedCount)
                 .build();
         }
 
@@ -318,6 +356,8 @@ public class IndicesQueryCache implements QueryCache, Closeable {
                 + cacheCount
                 + ", cacheSize="
                 + cacheSize
+                + ", admissionRejectedCount="
+                + admissionRejectedCount
                 + "}";
         }
     }
@@ -394,18 +434,27 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             }
             stats2.clear();
             sharedRamBytesUsed = 0;
+            if (admission != null) {
+                admission.onClear();
+            }
         }
 
         @Override
         protected void onQueryCache(Query filter, long ramBytesUsed) {
             super.onQueryCache(filter, ramBytesUsed);
             sharedRamBytesUsed += ramBytesUsed;
+            if (admission != null) {
+                admission.onQueryCache(filter);
+            }
         }
 
         @Override
         protected void onQueryEviction(Query filter, long ramBytesUsed) {
             super.onQueryEviction(filter, ramBytesUsed);
             sharedRamBytesUsed -= ramBytesUsed;
+            if (admission != null) {
+                admission.onQueryEviction(filter);
+            }
         }
 
         @Override
@@ -452,6 +501,9 @@ public class IndicesQueryCache implements QueryCache, Closeable {
             super.onHit(readerCoreKey, filter);
             final Stats shardStats = getStats(readerCoreKey);
             shardStats.hitCount += 1;
+            if (admission != null) {
+                admission.onHit(filter);
+            }
         }
 
         @Override
@@ -462,6 +514,129 @@ public class IndicesQueryCache implements QueryCache, Closeable {
         }
     }
 
+    /**
+     * Policies that decide whether a query may go into a full cache.
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.9.0")
+    public enum AdmissionPolicy {
+        /**
+         * Every query that the caching policy wants cached is admitted.
+         */
+        NONE,
+        /**
+         * Queries are only admitted if they are used more often than the least recently used query.
+         */
+        TINYLFU;
+
+        public static AdmissionPolicy fromString(String policy) {
+            try {
+                return AdmissionPolicy.valueOf(policy.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("unknown query cache admission policy [" + policy + "]", e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * TinyLFU admission for the node query cache. Usage of all queries is recorded in a {@link FrequencySketch}, which
+     * remembers far more queries than the cache can hold and ages out old history. A mirror of the cache's LRU order of
+     * queries, maintained through the cache's callbacks, tells which query would be evicted next, so that a candidate
+     * can be compared with it.
+     *
+     * @opensearch.internal
+     */
+    private static class TinyLfuAdmission {
+        // start comparing with the next victim a little before the memory budget is exhausted, since we don't know how
+        // large the candidate's doc id sets will be
+        private static final double FULL_RAM_RATIO = 0.95;
+
+        private final int maxSize;
+        private final long fullRamBytes;
+        private final FrequencySketch sketch;
+        // access-ordered, the first query is the next one to be evicted
+        private final LinkedHashMap<Query, Boolean> cachedQueries = new LinkedHashMap<>(16, 0.75f, true);
+
+        TinyLfuAdmission(int maxSize, long maxRamBytesUsed) {
+            this.maxSize = maxSize;
+            this.fullRamBytes = (long) (maxRamBytesUsed * FULL_RAM_RATIO);
+            this.sketch = new FrequencySketch(maxSize);
+        }
+
+        synchronized void onUse(Query query) {
+            sketch.increment(query.hashCode());
+        }
+
+        /**
+         * Returns whether the query may be cached, counting a rejection against the given stats if not.
+         */
+        synchronized boolean admit(Query query, long ramBytesUsed, Stats stats) {
+            if (cachedQueries.size() < maxSize && ramBytesUsed < fullRamBytes) {
+                return true;
+            }
+            if (cachedQueries.containsKey(query)) {
+                // caching the query on another segment doesn't evict it
+                return true;
+            }
+            final Query victim = cachedQueries.keySet().iterator().next();
+            if (sketch.frequency(query.hashCode()) > sketch.frequency(victim.hashCode())) {
+                return true;
+            }
+            if (stats != null) {
+                stats.admissionRejectedCount += 1;
+            }
+            return false;
+        }
+
+        synchronized void onQueryCache(Query query) {
+            cachedQueries.put(query, Boolean.TRUE);
+        }
+
+        synchronized void onQueryEviction(Query query) {
+            cachedQueries.remove(query);
+        }
+
+        synchronized void onHit(Query query) {
+            cachedQueries.get(query);
+        }
+
+        synchronized void onClear() {
+            cachedQueries.clear();
+        }
+    }
+
+    /**
+     * Wraps the caching policy of a shard to additionally run candidates through {@link TinyLfuAdmission}. A new instance is
+     * created for every weight, which lets it account rejections to the shard that the weight searches.
+     *
+     * @opensearch.internal
+     */
+    private class AdmittingQueryCachingPolicy implements QueryCachingPolicy {
+        private final QueryCachingPolicy in;
+        volatile Stats stats;
+
+        AdmittingQueryCachingPolicy(QueryCachingPolicy in) {
+            this.in = in;
+        }
+
+        @Override
+        public void onUse(Query query) {
+            in.onUse(query);
+            admission.onUse(query);
+        }
+
+        @Override
+        public boolean shouldCache(Query query) throws IOException {
+            return in.shouldCache(query) && admission.admit(query, cache.ramBytesUsed(), stats);
+        }
+    }
+
     /**
      * Custom caching policy for Opensearch.
      */
@@ -120,6 +120,7 @@ public class DefaultStreamPoller implements StreamPoller {
         int pollTimeout,
         int numProcessorThreads,
         int blockingQueueSize,
+        int maxDrainSize,
         long pointerBasedLagUpdateIntervalMs,
         IngestionMessageMapper.MapperType mapperType,
         Map<String, Object> mapperSettings,
@@ -139,6 +140,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 ingestionEngine,
                 errorStrategy,
                 blockingQueueSize,
+                maxDrainSize,
                 pipelineExecutor
             ),
             resetState,
@@ -572,6 +574,18 @@ public class DefaultStreamPoller implements StreamPoller {
         builder.setTotalProcessorFailedCount(processorMetrics.failedMessageCounter().count());
         builder.setTotalProcessorFailuresDroppedCount(processorMetrics.failedMessageDroppedCounter().count());
         builder.setTotalProcessorThreadInterruptCount(processorMetrics.processorThreadInterruptCounter().count());
+        builder.setDrainStats(
+            new PollingIngestStats.DrainStats(
+                processorMetrics.drainCounter().count(),
+                processorMetrics.drainedMessageCounter().count(),
+                TimeUnit.NANOSECONDS.toMillis(processorMetrics.drainTimeNanosCounter().count()),
+                new PollingIngestStats.Histogram(
+                    processorMetrics.drainSizeHistogram().upperBounds(),
+                    processorMetrics.drainSizeHistogram().counts()
+                ),
+                new PollingIngestStats.Histogram(processorMetrics.lagHistogram().upperBounds(), processorMetrics.lagHistogram().counts())
+            )
+        );
         // set consumer stats
         builder.setTotalPolledCount(totalPolledCount.count());
         builder.setTotalConsumerErrorCount(totalConsumerErrorCount.count());
@@ -800,6 +814,7 @@ public class DefaultStreamPoller implements StreamPoller {
         private int pollTimeout = 1000;
         private int numProcessorThreads = 1;
         private int blockingQueueSize = 100;
+        private int maxDrainSize = 1;
         private long pointerBasedLagUpdateIntervalMs = 10000;
         private IngestionMessageMapper.MapperType mapperType = IngestionMessageMapper.MapperType.DEFAULT;
         private Map<String, Object> mapperSettings = Collections.emptyMap();
@@ -891,6 +906,14 @@ public class DefaultStreamPoller implements StreamPoller {
             return this;
         }
 
+        /**
+         * Set the maximum number of queued messages a processor thread takes at once
+         */
+        public Builder maxDrainSize(int maxDrainSize) {
+            this.maxDrainSize = maxDrainSize;
+            return this;
+        }
+
         /**
          * Set pointer-based lag update interval in milliseconds
          */
@@ -965,6 +988,7 @@ public class DefaultStreamPoller implements StreamPoller {
                 pollTimeout,
                 numProcessorThreads,
                 blockingQueueSize,
+                maxDrainSize,
                 pointerBasedLagUpdateIntervalMs,
                 mapperType,
                 mapperSettings,
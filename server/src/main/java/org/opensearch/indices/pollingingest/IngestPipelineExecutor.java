@@ -90,6 +90,13 @@ public class IngestPipelineExecutor {
         }
     }
 
+    /**
+     * Returns whether a final_pipeline is currently configured for the index.
+     */
+    public boolean hasPipelines() {
+        return resolvedFinalPipeline != null;
+    }
+
     /**
      * Executes final_pipeline on the source map synchronously on the calling thread.
      *
@@ -16,7 +16,9 @@ import org.opensearch.action.DocWriteRequest;
 import org.opensearch.common.Nullable;
 import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.metrics.CounterMetric;
+import org.opensearch.common.metrics.HistogramMetric;
 import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.index.IngestionShardPointer;
@@ -35,6 +37,7 @@ import org.opensearch.index.mapper.VersionFieldMapper;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -57,9 +60,18 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     private static final int MIN_RETRY_COUNT = 2;
     private static final int WAIT_BEFORE_RETRY_DURATION_MS = 2000;
 
+    /** Upper bounds of the buckets of the drain size histogram. */
+    static final long[] DRAIN_SIZE_BUCKETS = { 1, 2, 4, 8, 16, 32, 64, 128, 256, 512, 1024 };
+    /** Upper bounds, in milliseconds, of the buckets of the end-to-end lag histogram. */
+    static final long[] LAG_MILLIS_BUCKETS = { 10, 50, 100, 500, 1000, 5000, 10000, 30000, 60000, 300000 };
+
     private final BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue;
     private final MessageProcessor messageProcessor;
     private final MessageProcessorMetrics messageProcessorMetrics = MessageProcessorMetrics.create();
+    private final int maxDrainSize;
+    // messages taken from the blocking queue that are not processed yet, only accessed by the processor thread
+    private final ArrayDeque<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> pendingMessages = new ArrayDeque<>();
+    private long drainStartNanos;
 
     // currentShardPointer tracks the most recent pointer that is being processed
     @Nullable
@@ -83,13 +95,33 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         IngestionEngine engine,
         IngestionErrorStrategy errorStrategy,
         IngestPipelineExecutor pipelineExecutor
+    ) {
+        this(blockingQueue, engine, errorStrategy, pipelineExecutor, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param blockingQueue    the blocking queue to poll messages from
+     * @param engine           the ingestion engine
+     * @param errorStrategy    the error strategy/policy to use
+     * @param pipelineExecutor the pipeline executor for ingest pipeline execution
+     * @param maxDrainSize     the maximum number of messages to take from the blocking queue at once
+     */
+    public MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        IngestionEngine engine,
+        IngestionErrorStrategy errorStrategy,
+        IngestPipelineExecutor pipelineExecutor,
+        int maxDrainSize
     ) {
         this(
             blockingQueue,
             new MessageProcessor(engine, pipelineExecutor),
             errorStrategy,
             engine.config().getShardId().getIndexName(),
-            engine.config().getShardId().getId()
+            engine.config().getShardId().getId(),
+            maxDrainSize
         );
     }
 
@@ -109,11 +141,34 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         String indexName,
         int shardId
     ) {
+        this(blockingQueue, messageProcessor, errorStrategy, indexName, shardId, 1);
+    }
+
+    /**
+     * Constructor visible for testing.
+     *
+     * @param blockingQueue    the blocking queue to poll messages from
+     * @param messageProcessor the message processor
+     * @param errorStrategy    the error strategy/policy to use
+     * @param indexName        the index name
+     * @param shardId          the shard ID
+     * @param maxDrainSize     the maximum number of messages to take from the blocking queue at once
+     */
+    MessageProcessorRunnable(
+        BlockingQueue<ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message>> blockingQueue,
+        MessageProcessor messageProcessor,
+        IngestionErrorStrategy errorStrategy,
+        String indexName,
+        int shardId,
+        int maxDrainSize
+    ) {
+        assert maxDrainSize > 0 : "max drain size must be greater than 0";
         this.blockingQueue = Objects.requireNonNull(blockingQueue);
         this.messageProcessor = messageProcessor;
         this.errorStrategy = errorStrategy;
         this.indexName = indexName;
         this.shardId = shardId;
+        this.maxDrainSize = maxDrainSize;
     }
 
     static class MessageProcessor {
@@ -230,37 +285,45 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                         logger.error(errorMessage);
                         throw new IllegalArgumentException(errorMessage);
                     }
-                    if (!(payloadMap.get(SOURCE) instanceof Map)) {
+                    Object sourceValue = payloadMap.get(SOURCE);
+                    if (!(sourceValue instanceof Map) && !(sourceValue instanceof BytesReference)) {
                         messageProcessorMetrics.invalidMessageCounter.inc();
                         String errorMessage = "_source field does not contain a map. Invalid message";
                         logger.error(errorMessage);
                         throw new IllegalArgumentException(errorMessage);
                     }
 
-                    Map<String, Object> sourceMap = (Map<String, Object>) payloadMap.get(SOURCE);
-
-                    // Execute ingest pipelines
-                    try {
-                        Map<String, Object> transformedSource = pipelineExecutor.executePipelines(id, sourceMap);
-                        if (transformedSource == null) {
-                            // Document dropped by pipeline
-                            operation = new Engine.NoOp(
-                                0,
-                                1,
-                                Engine.Operation.Origin.PRIMARY,
-                                System.nanoTime(),
-                                "Document dropped by ingest pipeline"
-                            );
-                            return new MessageOperation(operation, opType);
+                    BytesReference source;
+                    if (sourceValue instanceof BytesReference rawSource && pipelineExecutor.hasPipelines() == false) {
+                        // source streamed as raw bytes by the decoder is parsed directly, without building a map
+                        source = rawSource;
+                    } else {
+                        Map<String, Object> sourceMap = sourceValue instanceof BytesReference streamedSource
+                            ? XContentHelper.convertToMap(streamedSource, false, MediaTypeRegistry.xContentType(streamedSource)).v2()
+                            : (Map<String, Object>) sourceValue;
+
+                        // Execute ingest pipelines
+                        try {
+                            Map<String, Object> transformedSource = pipelineExecutor.executePipelines(id, sourceMap);
+                            if (transformedSource == null) {
+                                // Document dropped by pipeline
+                                operation = new Engine.NoOp(
+                                    0,
+                                    1,
+                                    Engine.Operation.Origin.PRIMARY,
+                                    System.nanoTime(),
+                                    "Document dropped by ingest pipeline"
+                                );
+                                return new MessageOperation(operation, opType);
+                            }
+                            sourceMap = transformedSource;
+                        } catch (IllegalStateException e) {
+                            throw e; // guardrail violations (e.g., _id mutation) — don't wrap, allow skip-retry
+                        } catch (Exception e) {
+                            throw new RuntimeException("Ingest pipeline execution failed", e);
                         }
-                        sourceMap = transformedSource;
-                    } catch (IllegalStateException e) {
-                        throw e; // guardrail violations (e.g., _id mutation) — don't wrap, allow skip-retry
-                    } catch (Exception e) {
-                        throw new RuntimeException("Ingest pipeline execution failed", e);
+                        source = convertToBytes(sourceMap);
                     }
-
-                    BytesReference source = convertToBytes(sourceMap);
                     SourceToParse sourceToParse = new SourceToParse(index, id, source, MediaTypeRegistry.xContentType(source), null);
                     ParsedDocument doc = engine.getDocumentMapperForType().getDocumentMapper().parse(sourceToParse);
                     ParseContext.Document document = doc.rootDoc();
@@ -334,35 +397,32 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
     /**
      * Polls messages from the blocking queue and processes messages. If message processing fails, the failed message
      * is retried indefinitely after a retry wait time, unless a DROP error policy is used to skip the failed message.
+     * Messages already waiting in the queue are drained together, up to {@code maxDrainSize} at once, so that the
+     * processor thread does not go back to the blocking queue for every message when it falls behind the poller. The
+     * drained messages are still processed and written to the engine one at a time.
      */
     @Override
     public void run() {
-        ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = null;
         int retryCount = 0;
 
         while (Thread.currentThread().isInterrupted() == false && closed == false) {
-            try {
-                if (shardUpdateMessage == null) {
-                    shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
-                }
-            } catch (InterruptedException e) {
-                messageProcessorMetrics.processorThreadInterruptCounter.inc();
-                logger.debug("MessageProcessorRunnable poll interruptedException", e);
-                Thread.currentThread().interrupt(); // Restore interrupt status
+            if (pendingMessages.isEmpty()) {
+                pollAndDrain();
             }
+            final ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = pendingMessages.peek();
             if (shardUpdateMessage != null) {
                 try {
                     messageProcessorMetrics.processedCounter.inc();
                     currentShardPointer = shardUpdateMessage.pointer();
                     messageProcessor.process(shardUpdateMessage, messageProcessorMetrics);
-                    shardUpdateMessage = null;
+                    completeMessage();
                     retryCount = 0;
                 } catch (VersionConflictEngineException e) {
                     // Messages with version conflicts will be dropped. This should not have any impact to data
                     // correctness as pull-based ingestion does not support partial updates.
                     messageProcessorMetrics.versionConflictCounter.inc();
                     logger.debug("Dropping message due to version conflict. ShardPointer: " + shardUpdateMessage.pointer().asString(), e);
-                    shardUpdateMessage = null;
+                    completeMessage();
                 } catch (Exception e) {
                     logger.error("[Message Processor] Error processing message. Index={}, Shard={}, error={}", indexName, shardId, e);
                     messageProcessorMetrics.failedMessageCounter.inc();
@@ -370,7 +430,7 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                     boolean retriesExhausted = hasExhaustedRetries(e, retryCount);
                     if (retriesExhausted && errorStrategy.shouldIgnoreError(e, IngestionErrorStrategy.ErrorStage.PROCESSING)) {
                         logDroppedMessage(shardUpdateMessage);
-                        shardUpdateMessage = null;
+                        completeMessage();
                         retryCount = 0;
                         messageProcessorMetrics.failedMessageDroppedCounter.inc();
                     } else {
@@ -383,6 +443,48 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
         }
     }
 
+    /**
+     * Waits for the next message and takes it from the blocking queue together with up to {@code maxDrainSize - 1} messages
+     * that are already queued behind it.
+     */
+    private void pollAndDrain() {
+        final ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage;
+        try {
+            shardUpdateMessage = blockingQueue.poll(1000, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            messageProcessorMetrics.processorThreadInterruptCounter.inc();
+            logger.debug("MessageProcessorRunnable poll interruptedException", e);
+            Thread.currentThread().interrupt(); // Restore interrupt status
+            return;
+        }
+        if (shardUpdateMessage == null) {
+            return;
+        }
+        pendingMessages.add(shardUpdateMessage);
+        if (maxDrainSize > 1) {
+            blockingQueue.drainTo(pendingMessages, maxDrainSize - 1);
+        }
+        drainStartNanos = System.nanoTime();
+        messageProcessorMetrics.drainCounter.inc();
+        messageProcessorMetrics.drainedMessageCounter.inc(pendingMessages.size());
+        messageProcessorMetrics.drainSizeHistogram.inc(pendingMessages.size());
+    }
+
+    /**
+     * Removes the processed or dropped message at the head of the drained messages and records its end-to-end lag, which is
+     * the time from the message timestamp of the streaming source until now.
+     */
+    private void completeMessage() {
+        final ShardUpdateMessage<? extends IngestionShardPointer, ? extends Message> shardUpdateMessage = pendingMessages.poll();
+        final Long timestamp = shardUpdateMessage.originalMessage() == null ? null : shardUpdateMessage.originalMessage().getTimestamp();
+        if (timestamp != null && timestamp > 0) {
+            messageProcessorMetrics.lagHistogram.inc(Math.max(0, System.currentTimeMillis() - timestamp));
+        }
+        if (pendingMessages.isEmpty()) {
+            messageProcessorMetrics.drainTimeNanosCounter.inc(System.nanoTime() - drainStartNanos);
+        }
+    }
+
     private void waitBeforeRetry() {
         try {
             Thread.sleep(WAIT_BEFORE_RETRY_DURATION_MS);
@@ -447,7 +549,8 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
      */
     public record MessageProcessorMetrics(CounterMetric processedCounter, CounterMetric invalidMessageCounter,
         CounterMetric versionConflictCounter, CounterMetric failedMessageCounter, CounterMetric failedMessageDroppedCounter,
-        CounterMetric processorThreadInterruptCounter) {
+        CounterMetric processorThreadInterruptCounter, CounterMetric drainCounter, CounterMetric drainedMessageCounter,
+        CounterMetric drainTimeNanosCounter, HistogramMetric drainSizeHistogram, HistogramMetric lagHistogram) {
         public static MessageProcessorMetrics create() {
             return new MessageProcessorMetrics(
                 new CounterMetric(),
@@ -455,7 +558,12 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
                 new CounterMetric(),
                 new CounterMetric(),
                 new CounterMetric(),
-                new CounterMetric()
+                new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
+                new CounterMetric(),
+                new HistogramMetric(DRAIN_SIZE_BUCKETS),
+                new HistogramMetric(LAG_MILLIS_BUCKETS)
             );
         }
 
@@ -471,6 +579,13 @@ public class MessageProcessorRunnable implements Runnable, Closeable {
             combinedMetrics.processorThreadInterruptCounter.inc(
                 this.processorThreadInterruptCounter.count() + other.processorThreadInterruptCounter.count()
             );
+            combinedMetrics.drainCounter.inc(this.drainCounter.count() + other.drainCounter.count());
+            combinedMetrics.drainedMessageCounter.inc(this.drainedMessageCounter.count() + other.drainedMessageCounter.count());
+            combinedMetrics.drainTimeNanosCounter.inc(this.drainTimeNanosCounter.count() + other.drainTimeNanosCounter.count());
+            combinedMetrics.drainSizeHistogram.inc(this.drainSizeHistogram);
+            combinedMetrics.drainSizeHistogram.inc(other.drainSizeHistogram);
+            combinedMetrics.lagHistogram.inc(this.lagHistogram);
+            combinedMetrics.lagHistogram.inc(other.lagHistogram);
 
             return combinedMetrics;
         }
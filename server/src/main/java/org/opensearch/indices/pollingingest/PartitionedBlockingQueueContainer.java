@@ -51,6 +51,7 @@ public class PartitionedBlockingQueueContainer {
         IngestionEngine ingestionEngine,
         IngestionErrorStrategy errorStrategy,
         int blockingQueueSize,
+        int maxDrainSize,
         IngestPipelineExecutor pipelineExecutor
     ) {
         assert numPartitions > 0 : "Number of processor threads / partitions must be greater than 0";
@@ -80,7 +81,8 @@ public class PartitionedBlockingQueueContainer {
                 partitionToQueueMap.get(partition),
                 ingestionEngine,
                 errorStrategy,
-                pipelineExecutor
+                pipelineExecutor,
+                maxDrainSize
             );
             partitionToMessageProcessorMap.put(partition, messageProcessorRunnable);
         }
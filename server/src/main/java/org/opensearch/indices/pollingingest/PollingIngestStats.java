@@ -17,6 +17,7 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -27,15 +28,26 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
     private final MessageProcessorStats messageProcessorStats;
     private final ConsumerStats consumerStats;
     private final PipelineStats pipelineStats;
+    private final DrainStats drainStats;
 
     public PollingIngestStats(MessageProcessorStats messageProcessorStats, ConsumerStats consumerStats) {
         this(messageProcessorStats, consumerStats, new PipelineStats(0, 0, 0, 0));
     }
 
     public PollingIngestStats(MessageProcessorStats messageProcessorStats, ConsumerStats consumerStats, PipelineStats pipelineStats) {
+        this(messageProcessorStats, consumerStats, pipelineStats, DrainStats.EMPTY);
+    }
+
+    public PollingIngestStats(
+        MessageProcessorStats messageProcessorStats,
+        ConsumerStats consumerStats,
+        PipelineStats pipelineStats,
+        DrainStats drainStats
+    ) {
         this.messageProcessorStats = messageProcessorStats;
         this.consumerStats = consumerStats;
         this.pipelineStats = pipelineStats;
+        this.drainStats = drainStats;
     }
 
     public PollingIngestStats(StreamInput in) throws IOException {
@@ -80,6 +92,12 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         } else {
             this.pipelineStats = new PipelineStats(0, 0, 0, 0);
         }
+
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            this.drainStats = new DrainStats(in.readLong(), in.readLong(), in.readLong(), new Histogram(in), new Histogram(in));
+        } else {
+            this.drainStats = DrainStats.EMPTY;
+        }
     }
 
     @Override
@@ -107,6 +125,14 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             out.writeLong(pipelineStats.totalFailedCount);
             out.writeLong(pipelineStats.totalDroppedCount);
         }
+
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeLong(drainStats.totalDrainCount);
+            out.writeLong(drainStats.totalDrainedMessageCount);
+            out.writeLong(drainStats.totalDrainTimeInMillis);
+            drainStats.drainSizeHistogram.writeTo(out);
+            drainStats.lagHistogramInMillis.writeTo(out);
+        }
     }
 
     @Override
@@ -135,6 +161,13 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         builder.field("total_failed_count", pipelineStats.totalFailedCount);
         builder.field("total_dropped_count", pipelineStats.totalDroppedCount);
         builder.endObject();
+        builder.startObject("drain_stats");
+        builder.field("total_drain_count", drainStats.totalDrainCount);
+        builder.field("total_drained_message_count", drainStats.totalDrainedMessageCount);
+        builder.field("total_drain_time_in_millis", drainStats.totalDrainTimeInMillis);
+        drainStats.drainSizeHistogram.toXContent("drain_size_histogram", builder);
+        drainStats.lagHistogramInMillis.toXContent("end_to_end_lag_histogram_in_millis", builder);
+        builder.endObject();
         builder.endObject();
         return builder;
     }
@@ -151,6 +184,10 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         return pipelineStats;
     }
 
+    public DrainStats getDrainStats() {
+        return drainStats;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -158,12 +195,13 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         PollingIngestStats that = (PollingIngestStats) o;
         return Objects.equals(messageProcessorStats, that.messageProcessorStats)
             && Objects.equals(consumerStats, that.consumerStats)
-            && Objects.equals(pipelineStats, that.pipelineStats);
+            && Objects.equals(pipelineStats, that.pipelineStats)
+            && Objects.equals(drainStats, that.drainStats);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(messageProcessorStats, consumerStats, pipelineStats);
+        return Objects.hash(messageProcessorStats, consumerStats, pipelineStats, drainStats);
     }
 
     /**
@@ -191,6 +229,93 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
     public record PipelineStats(long totalExecutionCount, long totalExecutionTimeInMillis, long totalFailedCount, long totalDroppedCount) {
     }
 
+    /**
+     * Stats for the messages drained from the blocking queue by the processor threads in pull-based ingestion, with
+     * histograms of the number of messages drained at once and of the end-to-end lag of the processed messages, which is
+     * the time from the message timestamp of the streaming source until the message was processed.
+     */
+    @PublicApi(since = "3.9.0")
+    public record DrainStats(long totalDrainCount, long totalDrainedMessageCount, long totalDrainTimeInMillis, Histogram drainSizeHistogram,
+        Histogram lagHistogramInMillis) {
+
+        public static final DrainStats EMPTY = new DrainStats(0, 0, 0);
+
+        public DrainStats(long totalDrainCount, long totalDrainedMessageCount, long totalDrainTimeInMillis) {
+            this(totalDrainCount, totalDrainedMessageCount, totalDrainTimeInMillis, Histogram.EMPTY, Histogram.EMPTY);
+        }
+    }
+
+    /**
+     * A histogram with fixed buckets. Bucket {@code i} counts the values that are greater than the upper bound of the
+     * previous bucket and at most {@code upperBounds[i]}, the last bucket counts the values greater than all upper bounds.
+     */
+    @PublicApi(since = "3.9.0")
+    public static final class Histogram implements Writeable {
+        public static final Histogram EMPTY = new Histogram(new long[0], new long[] { 0 });
+
+        private final long[] upperBounds;
+        private final long[] counts;
+
+        public Histogram(long[] upperBounds, long[] counts) {
+            if (counts.length != upperBounds.length + 1) {
+                throw new IllegalArgumentException(
+                    "expected [" + (upperBounds.length + 1) + "] bucket counts for [" + upperBounds.length + "] upper bounds"
+                );
+            }
+            this.upperBounds = upperBounds;
+            this.counts = counts;
+        }
+
+        public Histogram(StreamInput in) throws IOException {
+            this(in.readVLongArray(), in.readVLongArray());
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLongArray(upperBounds);
+            out.writeVLongArray(counts);
+        }
+
+        public long[] getUpperBounds() {
+            return upperBounds.clone();
+        }
+
+        public long[] getCounts() {
+            return counts.clone();
+        }
+
+        void toXContent(String name, XContentBuilder builder) throws IOException {
+            builder.startArray(name);
+            for (int i = 0; i < counts.length; i++) {
+                builder.startObject();
+                if (i < upperBounds.length) {
+                    builder.field("upper_bound", upperBounds[i]);
+                }
+                builder.field("count", counts[i]);
+                builder.endObject();
+            }
+            builder.endArray();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Histogram)) return false;
+            Histogram that = (Histogram) o;
+            return Arrays.equals(upperBounds, that.upperBounds) && Arrays.equals(counts, that.counts);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Arrays.hashCode(upperBounds) + Arrays.hashCode(counts);
+        }
+
+        @Override
+        public String toString() {
+            return "Histogram{upperBounds=" + Arrays.toString(upperBounds) + ", counts=" + Arrays.toString(counts) + "}";
+        }
+    }
+
     /**
      * Builder for {@link PollingIngestStats}
      */
@@ -213,6 +338,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
         private long pipelineExecutionTimeInMillis;
         private long pipelineFailedCount;
         private long pipelineDroppedCount;
+        private DrainStats drainStats = DrainStats.EMPTY;
 
         public Builder() {}
 
@@ -293,6 +419,11 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder setDrainStats(DrainStats drainStats) {
+            this.drainStats = drainStats;
+            return this;
+        }
+
         public PollingIngestStats build() {
             MessageProcessorStats messageProcessorStats = new MessageProcessorStats(
                 totalProcessedCount,
@@ -317,7 +448,7 @@ public class PollingIngestStats implements Writeable, ToXContentFragment {
                 pipelineFailedCount,
                 pipelineDroppedCount
             );
-            return new PollingIngestStats(messageProcessorStats, consumerStats, pipelineStats);
+            return new PollingIngestStats(messageProcessorStats, consumerStats, pipelineStats, drainStats);
         }
     }
 
@@ -0,0 +1,112 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.DeprecationHandler;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.IngestionPayloadDecoder;
+import org.opensearch.index.IngestionPayloadDecoderFactory;
+import org.opensearch.index.IngestionPayloadDecodingException;
+import org.opensearch.index.Message;
+import org.opensearch.indices.pollingingest.mappers.IngestionMessageMapper;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.opensearch.indices.pollingingest.MessageProcessorRunnable.SOURCE;
+
+/**
+ * Built-in decoder for JSON (or any XContent format) payloads that streams the {@code _source} object of each message
+ * into raw JSON bytes instead of materializing it as a map. When no ingest pipeline is configured, the message processor
+ * hands these bytes straight to the document parser, so the source is parsed into document fields only once.
+ *
+ * <p>Only the {@code default} mapper is supported, as the other mappers need the source fields as a map. Used when
+ * {@code index.ingestion_source.decoder_type} is {@code xcontent_streaming}.
+ */
+public class StreamingXContentIngestionPayloadDecoder implements IngestionPayloadDecoder {
+
+    /**
+     * The name this decoder is registered under in the {@link IngestionPayloadDecoderRegistry}.
+     */
+    public static final String NAME = "xcontent_streaming";
+
+    @Override
+    public Map<String, Object> decode(Message<?> message) {
+        BytesReference payload = new BytesArray((byte[]) message.getPayload());
+        try (
+            XContentParser parser = XContentHelper.createParser(
+                NamedXContentRegistry.EMPTY,
+                DeprecationHandler.THROW_UNSUPPORTED_OPERATION,
+                payload,
+                MediaTypeRegistry.xContentType(payload)
+            )
+        ) {
+            if (parser.nextToken() != XContentParser.Token.START_OBJECT) {
+                throw new IllegalArgumentException("payload is not an object");
+            }
+            Map<String, Object> decodedPayload = new HashMap<>();
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                XContentParser.Token token = parser.nextToken();
+                if (SOURCE.equals(fieldName) && token == XContentParser.Token.START_OBJECT) {
+                    try (XContentBuilder builder = XContentFactory.jsonBuilder()) {
+                        builder.copyCurrentStructure(parser);
+                        decodedPayload.put(SOURCE, BytesReference.bytes(builder));
+                    }
+                } else if (token == XContentParser.Token.START_OBJECT) {
+                    decodedPayload.put(fieldName, parser.map());
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    decodedPayload.put(fieldName, parser.list());
+                } else {
+                    decodedPayload.put(fieldName, parser.objectText());
+                }
+            }
+            return decodedPayload;
+        } catch (Exception e) {
+            throw new IngestionPayloadDecodingException("Failed to decode XContent payload: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Factory for the built-in {@code xcontent_streaming} decoder. Registered under the name
+     * {@link #NAME} in the {@link IngestionPayloadDecoderRegistry}.
+     */
+    public static class Factory implements IngestionPayloadDecoderFactory {
+
+        public static final Factory INSTANCE = new Factory();
+
+        @Override
+        public void validate(Map<String, Object> settings) {
+            if (settings.isEmpty() == false) {
+                throw new IllegalArgumentException(
+                    "The [" + NAME + "] decoder does not accept decoder_settings, but found: " + settings.keySet()
+                );
+            }
+        }
+
+        @Override
+        public IngestionPayloadDecoder create(IndexMetadata indexMetadata, int shardId, Map<String, Object> settings) {
+            IngestionMessageMapper.MapperType mapperType = indexMetadata.getIngestionSource().getMapperType();
+            if (mapperType != IngestionMessageMapper.MapperType.DEFAULT) {
+                throw new IllegalArgumentException(
+                    "The [" + NAME + "] decoder requires mapper_type [default], but found [" + mapperType.getName() + "]"
+                );
+            }
+            return new StreamingXContentIngestionPayloadDecoder();
+        }
+    }
+}
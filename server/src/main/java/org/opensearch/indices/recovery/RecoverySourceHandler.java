@@ -42,6 +42,7 @@ import org.apache.lucene.util.ArrayUtil;
 import org.opensearch.action.ActionRunnable;
 import org.opensearch.action.StepListener;
 import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.action.support.PlainActionFuture;
 import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.action.support.replication.ReplicationResponse;
@@ -121,6 +122,7 @@ public abstract class RecoverySourceHandler {
     private final int chunkSizeInBytes;
     private final RecoveryTargetHandler recoveryTarget;
     private final int maxConcurrentOperations;
+    private final int maxConcurrentFiles;
     private final ThreadPool threadPool;
     protected final CancellableThreads cancellableThreads = new CancellableThreads();
     protected final List<Closeable> resources = new CopyOnWriteArrayList<>();
@@ -136,6 +138,19 @@ public abstract class RecoverySourceHandler {
         int fileChunkSizeInBytes,
         int maxConcurrentFileChunks,
         int maxConcurrentOperations
+    ) {
+        this(shard, recoveryTarget, threadPool, request, fileChunkSizeInBytes, maxConcurrentFileChunks, maxConcurrentOperations, 1);
+    }
+
+    RecoverySourceHandler(
+        IndexShard shard,
+        RecoveryTargetHandler recoveryTarget,
+        ThreadPool threadPool,
+        StartRecoveryRequest request,
+        int fileChunkSizeInBytes,
+        int maxConcurrentFileChunks,
+        int maxConcurrentOperations,
+        int maxConcurrentFiles
     ) {
         this.logger = Loggers.getLogger(RecoverySourceHandler.class, request.shardId(), "recover to " + request.targetNode().getName());
         this.transferHandler = new SegmentFileTransferHandler(
@@ -156,6 +171,7 @@ public abstract class RecoverySourceHandler {
         this.chunkSizeInBytes = fileChunkSizeInBytes;
         // if the target is on an old version, it won't be able to handle out-of-order file chunks.
         this.maxConcurrentOperations = maxConcurrentOperations;
+        this.maxConcurrentFiles = maxConcurrentFiles;
     }
 
     public StartRecoveryRequest getRequest() {
@@ -600,14 +616,70 @@ public abstract class RecoverySourceHandler {
     }
 
     void sendFiles(Store store, StoreFileMetadata[] files, IntSupplier translogOps, ActionListener<Void> listener) {
-        final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
-            store,
-            files,
-            translogOps,
-            listener
+        final List<StoreFileMetadata[]> groups = partitionFiles(files, maxConcurrentFiles);
+        if (groups.size() <= 1) {
+            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
+                store,
+                files,
+                translogOps,
+                listener
+            );
+            resources.add(transfer);
+            transfer.start();
+            return;
+        }
+        // each group is streamed by its own transfer so that a large file does not hold back the smaller ones behind it; the target
+        // already writes every file through its own writer so interleaved chunks of different files are fine
+        final GroupedActionListener<Void> groupListener = new GroupedActionListener<>(
+            ActionListener.map(listener, r -> null),
+            groups.size()
         );
-        resources.add(transfer);
-        transfer.start();
+        final List<MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk>> transfers = new ArrayList<>(groups.size());
+        for (StoreFileMetadata[] group : groups) {
+            final MultiChunkTransfer<StoreFileMetadata, SegmentFileTransferHandler.FileChunk> transfer = transferHandler.createTransfer(
+                store,
+                group,
+                translogOps,
+                groupListener
+            );
+            resources.add(transfer);
+            transfers.add(transfer);
+        }
+        logger.trace("sending [{}] files in [{}] concurrent streams", files.length, transfers.size());
+        transfers.forEach(MultiChunkTransfer::start);
+    }
+
+    /**
+     * Splits the given files into at most {@code maxGroups} groups of roughly equal total size, assigning the largest files first to
+     * the currently lightest group.
+     */
+    static List<StoreFileMetadata[]> partitionFiles(StoreFileMetadata[] files, int maxGroups) {
+        final int numGroups = Math.min(maxGroups, files.length);
+        if (numGroups <= 1) {
+            return Collections.singletonList(files);
+        }
+        final StoreFileMetadata[] sorted = files.clone();
+        ArrayUtil.timSort(sorted, Comparator.comparingLong(StoreFileMetadata::length).reversed());
+        final List<List<StoreFileMetadata>> groups = new ArrayList<>(numGroups);
+        final long[] groupBytes = new long[numGroups];
+        for (int i = 0; i < numGroups; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (StoreFileMetadata file : sorted) {
+            int lightest = 0;
+            for (int i = 1; i < numGroups; i++) {
+                if (groupBytes[i] < groupBytes[lightest]) {
+                    lightest = i;
+                }
+            }
+            groups.get(lightest).add(file);
+            groupBytes[lightest] += file.length();
+        }
+        final List<StoreFileMetadata[]> result = new ArrayList<>(numGroups);
+        for (List<StoreFileMetadata> group : groups) {
+            result.add(group.toArray(new StoreFileMetadata[0]));
+        }
+        return result;
     }
 
     void createRetentionLease(final long startingSeqNo, ActionListener<RetentionLease> listener) {
@@ -32,7 +32,8 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
-                recoverySettings.getMaxConcurrentOperations()
+                recoverySettings.getMaxConcurrentOperations(),
+                recoverySettings.getMaxConcurrentFiles()
             );
         } else {
             return new LocalStorePeerRecoverySourceHandler(
@@ -42,7 +43,8 @@ public class RecoverySourceHandlerFactory {
                 request,
                 Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
                 recoverySettings.getMaxConcurrentFileChunks(),
-                recoverySettings.getMaxConcurrentOperations()
+                recoverySettings.getMaxConcurrentOperations(),
+                recoverySettings.getMaxConcurrentFiles()
             );
         }
     }
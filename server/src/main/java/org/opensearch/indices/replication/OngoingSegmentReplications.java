@@ -165,6 +165,19 @@ class OngoingSegmentReplications {
         );
     }
 
+    /**
+     * Cancel the replications of a shard to every target that is not an active copy of the shard anymore. Used by
+     * replicas that serve other replicas of a segment replication fan-out, since they do not track in-sync copies.
+     * @param shardId             {@link ShardId}
+     * @param activeAllocationIds {@link List} of active allocation Ids.
+     */
+    void clearInactiveIds(ShardId shardId, Set<String> activeAllocationIds) {
+        cancelHandlers(
+            (handler) -> handler.shardId().equals(shardId) && activeAllocationIds.contains(handler.getAllocationId()) == false,
+            "Shard is no longer an active copy"
+        );
+    }
+
     /**
      * Remove handlers from allocationIdToHandlers map based on a filter predicate.
      */
@@ -0,0 +1,175 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.action.bulk.BackoffPolicy;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Implementation of a {@link SegmentReplicationSource} that copies segments from another replica of the shard, as laid out by
+ * {@link SegmentReplicationTopology}, and falls back to the primary when that replica does not have the requested checkpoint yet.
+ * This code executes on the target node.
+ *
+ * @opensearch.internal
+ */
+public class ReplicaShardReplicationSource implements SegmentReplicationSource {
+
+    private static final Logger logger = LogManager.getLogger(ReplicaShardReplicationSource.class);
+
+    static final BackoffPolicy UPSTREAM_BACKOFF_POLICY = BackoffPolicy.exponentialBackoff(TimeValue.timeValueMillis(50), 8);
+
+    private final SegmentReplicationSource upstream;
+    private final SegmentReplicationSource primary;
+    private final ThreadPool threadPool;
+    private volatile SegmentReplicationSource selected;
+
+    public ReplicaShardReplicationSource(SegmentReplicationSource upstream, SegmentReplicationSource primary, ThreadPool threadPool) {
+        this.upstream = upstream;
+        this.primary = primary;
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    public void getCheckpointMetadata(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        ActionListener<CheckpointInfoResponse> listener
+    ) {
+        getCheckpointMetadata(replicationId, checkpoint, UPSTREAM_BACKOFF_POLICY.iterator(), listener);
+    }
+
+    private void getCheckpointMetadata(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        Iterator<TimeValue> backoff,
+        ActionListener<CheckpointInfoResponse> listener
+    ) {
+        upstream.getCheckpointMetadata(replicationId, checkpoint, new ActionListener<>() {
+            @Override
+            public void onResponse(CheckpointInfoResponse response) {
+                if (checkpoint == null || checkpoint.isAheadOf(response.getCheckpoint()) == false) {
+                    selected = upstream;
+                    listener.onResponse(response);
+                    return;
+                }
+                // the upstream replica is still copying this checkpoint itself; release the copy state it just acquired for us
+                // and either wait for it to catch up or take the checkpoint from the primary.
+                releaseUpstream(replicationId, response.getCheckpoint(), () -> {
+                    if (backoff.hasNext()) {
+                        threadPool.schedule(
+                            () -> getCheckpointMetadata(replicationId, checkpoint, backoff, listener),
+                            backoff.next(),
+                            ThreadPool.Names.GENERIC
+                        );
+                    } else {
+                        logger.debug(
+                            "[replication id {}] upstream [{}] is behind checkpoint {}, copying from primary",
+                            replicationId,
+                            upstream.getDescription(),
+                            checkpoint
+                        );
+                        getCheckpointMetadataFromPrimary(replicationId, checkpoint, listener);
+                    }
+                });
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.debug(
+                    () -> new ParameterizedMessage(
+                        "[replication id {}] failed to get checkpoint metadata from upstream [{}], copying from primary",
+                        replicationId,
+                        upstream.getDescription()
+                    ),
+                    e
+                );
+                getCheckpointMetadataFromPrimary(replicationId, checkpoint, listener);
+            }
+        });
+    }
+
+    private void getCheckpointMetadataFromPrimary(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        ActionListener<CheckpointInfoResponse> listener
+    ) {
+        selected = primary;
+        primary.getCheckpointMetadata(replicationId, checkpoint, listener);
+    }
+
+    private void releaseUpstream(long replicationId, ReplicationCheckpoint checkpoint, Runnable next) {
+        upstream.getSegmentFiles(
+            replicationId,
+            checkpoint,
+            Collections.emptyList(),
+            null,
+            (file, bytes) -> {},
+            ActionListener.wrap(r -> next.run(), e -> next.run())
+        );
+    }
+
+    @Override
+    public void getSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        final SegmentReplicationSource source = selected;
+        assert source != null : "checkpoint metadata must be fetched before segment files";
+        (source == null ? primary : source).getSegmentFiles(
+            replicationId,
+            checkpoint,
+            filesToFetch,
+            indexShard,
+            fileProgressTracker,
+            listener
+        );
+    }
+
+    @Override
+    public void getMergedSegmentFiles(
+        long replicationId,
+        ReplicationCheckpoint checkpoint,
+        List<StoreFileMetadata> filesToFetch,
+        IndexShard indexShard,
+        BiConsumer<String, Long> fileProgressTracker,
+        ActionListener<GetSegmentFilesResponse> listener
+    ) {
+        // merged segments are only pre-copied by the primary
+        primary.getMergedSegmentFiles(replicationId, checkpoint, filesToFetch, indexShard, fileProgressTracker, listener);
+    }
+
+    @Override
+    public String getDescription() {
+        final SegmentReplicationSource source = selected;
+        return (source == null ? upstream : source).getDescription();
+    }
+
+    @Override
+    public void cancel() {
+        upstream.cancel();
+        primary.cancel();
+    }
+}
@@ -41,16 +41,42 @@ public class SegmentReplicationSourceFactory {
         if (shard.indexSettings().isAssignedOnRemoteNode()) {
             return new RemoteStoreReplicationSource(shard);
         } else {
-            return new PrimaryShardReplicationSource(
-                shard.recoveryState().getTargetNode(),
-                shard.routingEntry().allocationId().getId(),
-                transportService,
-                recoverySettings,
-                getPrimaryNode(shard.shardId())
-            );
+            final PrimaryShardReplicationSource primarySource = newNodeSource(shard, getPrimaryNode(shard.shardId()));
+            final DiscoveryNode upstreamNode = getUpstreamNode(shard);
+            if (upstreamNode == null) {
+                return primarySource;
+            }
+            return new ReplicaShardReplicationSource(newNodeSource(shard, upstreamNode), primarySource, transportService.getThreadPool());
         }
     }
 
+    private PrimaryShardReplicationSource newNodeSource(IndexShard shard, DiscoveryNode sourceNode) {
+        return new PrimaryShardReplicationSource(
+            shard.recoveryState().getTargetNode(),
+            shard.routingEntry().allocationId().getId(),
+            transportService,
+            recoverySettings,
+            sourceNode
+        );
+    }
+
+    /**
+     * Returns the node of the replica this shard should copy segments from according to {@link SegmentReplicationTopology}, or
+     * {@code null} if it should copy from the primary.
+     */
+    private DiscoveryNode getUpstreamNode(IndexShard shard) {
+        final int fanout = shard.indexSettings().getSegmentReplicationFanout();
+        if (fanout == 0 || shard.routingEntry().primary()) {
+            return null;
+        }
+        final ShardRouting upstream = SegmentReplicationTopology.upstreamReplica(
+            clusterService.state().routingTable().shardRoutingTable(shard.shardId()),
+            shard.routingEntry().allocationId().getId(),
+            fanout
+        );
+        return upstream == null ? null : clusterService.state().nodes().get(upstream.currentNodeId());
+    }
+
     private DiscoveryNode getPrimaryNode(ShardId shardId) {
         ShardRouting primaryShard = clusterService.state().routingTable().shardRoutingTable(shardId).primaryShard();
         DiscoveryNode node = clusterService.state().nodes().get(primaryShard.currentNodeId());
@@ -14,9 +14,12 @@ import org.apache.logging.log4j.message.ParameterizedMessage;
 import org.apache.lucene.store.RateLimiter;
 import org.opensearch.action.support.ChannelActionListener;
 import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Nullable;
@@ -45,11 +48,13 @@ import org.opensearch.transport.TransportRequestHandler;
 import org.opensearch.transport.TransportService;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Service class that handles segment replication requests from replica shards.
@@ -257,6 +262,8 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         }
         // if a replica for one of the primary shards on this node has closed,
         // we need to ensure its state has cleared up in ongoing replications.
+        // Replicas serve the replicas below them in a segment replication fan-out,
+        // so their copies to targets that are no longer active are cleared up too.
         if (event.routingTableChanged()) {
             for (IndexService indexService : indicesService) {
                 if (indexService.getIndexSettings().isSegRepEnabledOrRemoteNode()) {
@@ -271,6 +278,11 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
                                 inSyncAllocationIds.addAll(shardTrackerInSyncIds);
                             }
                             ongoingSegmentReplications.clearOutOfSyncIds(indexShard.shardId(), inSyncAllocationIds);
+                        } else {
+                            ongoingSegmentReplications.clearInactiveIds(
+                                indexShard.shardId(),
+                                activeAllocationIds(event.state(), indexShard.shardId())
+                            );
                         }
                     }
                 }
@@ -278,6 +290,18 @@ public class SegmentReplicationSourceService extends AbstractLifecycleComponent
         }
     }
 
+    private static Set<String> activeAllocationIds(ClusterState state, ShardId shardId) {
+        final IndexRoutingTable indexRoutingTable = state.routingTable().index(shardId.getIndex());
+        if (indexRoutingTable == null) {
+            return Collections.emptySet();
+        }
+        final IndexShardRoutingTable shardRoutingTable = indexRoutingTable.shard(shardId.id());
+        if (shardRoutingTable == null) {
+            return Collections.emptySet();
+        }
+        return shardRoutingTable.activeShards().stream().map(shard -> shard.allocationId().getId()).collect(Collectors.toSet());
+    }
+
     @Override
     protected void doStart() {
         final ClusterService clusterService = indicesService.clusterService();
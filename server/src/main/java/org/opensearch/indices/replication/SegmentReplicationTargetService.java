@@ -434,8 +434,10 @@ public class SegmentReplicationTargetService extends AbstractLifecycleComponent
 
     protected void updateVisibleCheckpoint(long replicationId, IndexShard replicaShard) {
         // Update replication checkpoint on source via transport call only supported for remote store integration. For node-
-        // node communication, checkpoint update is piggy-backed to GET_SEGMENT_FILES transport call
-        if (replicaShard.indexSettings().isAssignedOnRemoteNode() == false) {
+        // node communication, checkpoint update is piggy-backed to GET_SEGMENT_FILES transport call, unless segments may have been
+        // copied from another replica
+        if (replicaShard.indexSettings().isAssignedOnRemoteNode() == false
+            && replicaShard.indexSettings().getSegmentReplicationFanout() == 0) {
             return;
         }
         ShardRouting primaryShard = clusterService.state().routingTable().shardRoutingTable(replicaShard.shardId()).primaryShard();
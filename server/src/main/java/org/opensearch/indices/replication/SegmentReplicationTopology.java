@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.common.Nullable;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Arranges the active replicas of a segment replication shard in a tree rooted at the primary, so that new segments can fan out
+ * through replicas that already copied them instead of every replica copying from the primary.
+ * <p>
+ * Active, non search-only replicas are ordered by allocation id. With a fanout of {@code n} the first {@code n} replicas copy from
+ * the primary and replica {@code i} copies from replica {@code i / n - 1}. The layout only depends on the routing table, so the
+ * primary and every replica agree on it without any coordination.
+ *
+ * @opensearch.internal
+ */
+public final class SegmentReplicationTopology {
+
+    private SegmentReplicationTopology() {}
+
+    /**
+     * Returns the replica the given shard copy should copy segments from, or {@code null} if it should copy from the primary.
+     *
+     * @param routingTable routing table of the shard
+     * @param allocationId allocation id of the copying replica
+     * @param fanout       maximum number of replicas copying directly from one shard copy, {@code 0} to always use the primary
+     */
+    @Nullable
+    public static ShardRouting upstreamReplica(IndexShardRoutingTable routingTable, String allocationId, int fanout) {
+        if (fanout <= 0) {
+            return null;
+        }
+        final List<ShardRouting> replicas = orderedReplicas(routingTable);
+        final int position = indexOf(replicas, allocationId);
+        if (position < 0) {
+            return null;
+        }
+        final int parent = position / fanout - 1;
+        return parent < 0 ? null : replicas.get(parent);
+    }
+
+    /**
+     * Returns the number of copy hops between the primary and the given shard copy: {@code 0} for the primary, {@code 1} for a
+     * replica copying from the primary and so on.
+     */
+    public static int hops(IndexShardRoutingTable routingTable, String allocationId, int fanout) {
+        final ShardRouting primary = routingTable.primaryShard();
+        if (primary != null && primary.allocationId() != null && primary.allocationId().getId().equals(allocationId)) {
+            return 0;
+        }
+        if (fanout <= 0) {
+            return 1;
+        }
+        int position = indexOf(orderedReplicas(routingTable), allocationId);
+        if (position < 0) {
+            return 1;
+        }
+        int hops = 1;
+        while ((position = position / fanout - 1) >= 0) {
+            hops++;
+        }
+        return hops;
+    }
+
+    private static List<ShardRouting> orderedReplicas(IndexShardRoutingTable routingTable) {
+        return routingTable.replicaShards()
+            .stream()
+            .filter(ShardRouting::active)
+            .filter(shardRouting -> shardRouting.isSearchOnly() == false)
+            .sorted(Comparator.comparing(shardRouting -> shardRouting.allocationId().getId()))
+            .collect(Collectors.toList());
+    }
+
+    private static int indexOf(List<ShardRouting> replicas, String allocationId) {
+        for (int i = 0; i < replicas.size(); i++) {
+            if (replicas.get(i).allocationId().getId().equals(allocationId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
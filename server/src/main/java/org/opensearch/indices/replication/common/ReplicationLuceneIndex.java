@@ -267,6 +267,17 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         return reused;
     }
 
+    /**
+     * average number of bytes recovered per second since the start of this stage, or {@code 0} if no time has elapsed yet
+     */
+    public synchronized long recoveredBytesPerSecond() {
+        final long timeInMillis = time();
+        if (timeInMillis <= 0) {
+            return 0L;
+        }
+        return recoveredBytes() * 1000L / timeInMillis;
+    }
+
     @Override
     public synchronized XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
         // stream size first, as it matters more and the files section can be long
@@ -275,6 +286,7 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         builder.humanReadableField(Fields.REUSED_IN_BYTES, Fields.REUSED, new ByteSizeValue(reusedBytes()));
         builder.humanReadableField(Fields.RECOVERED_IN_BYTES, Fields.RECOVERED, new ByteSizeValue(recoveredBytes()));
         builder.field(Fields.PERCENT, String.format(Locale.ROOT, "%1.1f%%", recoveredBytesPercent()));
+        builder.humanReadableField(Fields.RECOVERED_PER_SEC_IN_BYTES, Fields.RECOVERED_PER_SEC, new ByteSizeValue(recoveredBytesPerSecond()));
         builder.endObject();
 
         builder.startObject(Fields.FILES);
@@ -510,6 +522,8 @@ public final class ReplicationLuceneIndex extends ReplicationTimer implements To
         static final String NAME = "name";
         static final String RECOVERED = "recovered";
         static final String RECOVERED_IN_BYTES = "recovered_in_bytes";
+        static final String RECOVERED_PER_SEC = "recovered_per_sec";
+        static final String RECOVERED_PER_SEC_IN_BYTES = "recovered_per_sec_in_bytes";
         static final String LENGTH = "length";
         static final String LENGTH_IN_BYTES = "length_in_bytes";
         static final String FILES = "files";
@@ -193,6 +193,7 @@ import org.opensearch.indices.breaker.BreakerSettings;
 import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.indices.cluster.IndicesClusterStateService;
 import org.opensearch.indices.pollingingest.IngestionPayloadDecoderRegistry;
+import org.opensearch.indices.pollingingest.StreamingXContentIngestionPayloadDecoder;
 import org.opensearch.indices.pollingingest.XContentIngestionPayloadDecoder;
 import org.opensearch.indices.recovery.PeerRecoverySourceService;
 import org.opensearch.indices.recovery.PeerRecoveryTargetService;
@@ -964,7 +965,8 @@ public class Node implements Closeable {
 
             // build ingestion payload decoder registry
             final IngestionPayloadDecoderRegistry.Builder registryBuilder = IngestionPayloadDecoderRegistry.builder()
-                .register(XContentIngestionPayloadDecoder.NAME, XContentIngestionPayloadDecoder.Factory.INSTANCE);
+                .register(XContentIngestionPayloadDecoder.NAME, XContentIngestionPayloadDecoder.Factory.INSTANCE)
+                .register(StreamingXContentIngestionPayloadDecoder.NAME, StreamingXContentIngestionPayloadDecoder.Factory.INSTANCE);
             pluginsService.filterPlugins(IngestionConsumerPlugin.class)
                 .forEach(plugin -> plugin.getIngestionPayloadDecoderFactories().forEach(registryBuilder::register));
             final IngestionPayloadDecoderRegistry payloadDecoderRegistry = registryBuilder.build();
@@ -986,7 +988,8 @@ public class Node implements Closeable {
             final Map<String, IndexStorePlugin.DirectoryFactory> builtInDirectoryFactories = IndexModule.createBuiltInDirectoryFactories(
                 repositoriesServiceReference::get,
                 threadPool,
-                fileCache()
+                fileCache(),
+                tieredStoragePrefetchSettingsSupplier
             );
 
             final Map<String, IndexStorePlugin.DirectoryFactory> directoryFactories = new HashMap<>();
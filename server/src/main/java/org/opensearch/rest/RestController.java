@@ -45,6 +45,7 @@ import org.opensearch.common.util.RequestUtils;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.io.Streams;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.Strings;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.bytes.BytesArray;
@@ -741,6 +742,11 @@ public class RestController implements HttpServerTransport.Dispatcher {
             delegate.sendChunk(chunk);
         }
 
+        @Override
+        public void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
+            delegate.sendChunk(chunk, listener);
+        }
+
         @Override
         public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
             delegate.prepareResponse(status, headers);
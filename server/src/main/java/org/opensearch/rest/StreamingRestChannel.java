@@ -9,6 +9,7 @@
 package org.opensearch.rest;
 
 import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.http.HttpChunk;
 
@@ -30,6 +31,23 @@ public interface StreamingRestChannel extends RestChannel, Publisher<HttpChunk>
      */
     void sendChunk(HttpChunk chunk);
 
+    /**
+     * Sends the next {@link HttpChunk} to the response stream, notifying the listener once the transport is ready to
+     * accept more response data. Producers that wait for the listener before sending the next chunk follow the pace of
+     * the client instead of buffering the response.
+     * @param chunk response chunk
+     * @param listener listener notified once the transport is ready for the next chunk
+     */
+    default void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
+        try {
+            sendChunk(chunk);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(null);
+    }
+
     /**
      * Prepares response before kicking of content streaming
      * @param status response status
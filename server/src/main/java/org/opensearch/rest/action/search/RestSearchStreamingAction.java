@@ -0,0 +1,374 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.message.ParameterizedMessage;
+import org.opensearch.OpenSearchException;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.annotation.ExperimentalApi;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.support.XContentHttpChunk;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.rest.action.RestCancellableNodeClient;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ShardDocSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.transport.client.Client;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+import reactor.core.publisher.Flux;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+import static org.opensearch.action.ValidateActions.addValidationError;
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+
+/**
+ * Streams all hits matching a search request to the client over a chunked response.
+ *
+ * The request is executed against a point in time and paged with {@code search_after}, so the coordinating node only
+ * holds a single page of at most {@code chunk_size} hits at a time. Each page is sent as its own chunk of the form
+ * {@code {"hits":[...]}} as soon as it has been fetched, and the next page is only requested once the channel is ready
+ * to accept more data, so a slow client slows down the paging instead of growing the response buffer. The stream is
+ * terminated by a summary chunk {@code {"took":...,"total":...}}.
+ *
+ * <pre>
+ * POST /my_index/_search/stream?chunk_size=1000&amp;keep_alive=1m
+ * { "query" : { "match_all" : {} }, "sort" : [ { "timestamp" : "asc" } ] }
+ * </pre>
+ *
+ * @opensearch.experimental
+ */
+@ExperimentalApi
+public class RestSearchStreamingAction extends BaseRestHandler {
+    private static final Logger logger = LogManager.getLogger(RestSearchStreamingAction.class);
+
+    static final int DEFAULT_CHUNK_SIZE = 1000;
+    static final TimeValue DEFAULT_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    @Override
+    public List<Route> routes() {
+        return unmodifiableList(
+            asList(
+                new Route(GET, "/_search/stream"),
+                new Route(POST, "/_search/stream"),
+                new Route(GET, "/{index}/_search/stream"),
+                new Route(POST, "/{index}/_search/stream")
+            )
+        );
+    }
+
+    @Override
+    public String getName() {
+        return "streaming_search_action";
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final int chunkSize = request.paramAsInt("chunk_size", DEFAULT_CHUNK_SIZE);
+        final TimeValue keepAlive = request.paramAsTime("keep_alive", DEFAULT_KEEP_ALIVE);
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("The chunk_size value should be positive [" + chunkSize + "].");
+        }
+
+        // The body of a streaming request is not part of the dispatched request, it is received through the channel. The
+        // parameters are parsed upfront anyway, so that they are consumed and a bad request is rejected before any reading.
+        validateOrThrow(parseSearchRequest(request, null, client));
+
+        return channel -> {
+            if (channel instanceof StreamingRestChannel) {
+                final StreamingRestChannel streamingChannel = (StreamingRestChannel) channel;
+                Flux.from(streamingChannel).map(chunk -> {
+                    try (chunk) {
+                        // the chunk is released once consumed, so its content has to be copied
+                        return (BytesReference) new BytesArray(BytesReference.toBytes(chunk.content()));
+                    }
+                }).collectList().subscribe(contents -> {
+                    final SearchRequest searchRequest;
+                    try {
+                        final BytesReference content = CompositeBytesReference.of(contents.toArray(new BytesReference[0]));
+                        searchRequest = parseSearchRequest(request, content, client);
+                        validateOrThrow(searchRequest);
+                    } catch (Exception e) {
+                        sendFailure(channel, e);
+                        return;
+                    }
+                    final RestCancellableNodeClient cancelClient = new RestCancellableNodeClient(client, request.getHttpChannel());
+                    new HitsStreamer(streamingChannel, cancelClient, searchRequest, chunkSize, keepAlive).start();
+                }, e -> sendFailure(channel, e instanceof Exception ? (Exception) e : new OpenSearchException(e)));
+            } else {
+                final ActionRequestValidationException validationError = new ActionRequestValidationException();
+                validationError.addValidationError("Unable to initiate response streaming over non-streaming channel");
+                channel.sendResponse(new BytesRestResponse(channel, validationError));
+            }
+        };
+    }
+
+    @Override
+    public boolean supportsStreaming() {
+        return true;
+    }
+
+    /**
+     * Parses the search request from the parameters and the given body. Without a body the {@code source} parameter is
+     * used instead, if present.
+     */
+    static SearchRequest parseSearchRequest(RestRequest request, @Nullable BytesReference content, NodeClient client) throws IOException {
+        final SearchRequest searchRequest = new SearchRequest();
+        final IntConsumer setSize = size -> searchRequest.source().size(size);
+        if (content == null || content.length() == 0) {
+            request.withContentOrSourceParamParserOrNull(
+                parser -> RestSearchAction.parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize)
+            );
+            return searchRequest;
+        }
+        MediaType mediaType = request.getMediaType();
+        if (mediaType == null) {
+            mediaType = MediaTypeRegistry.xContentType(content);
+            if (mediaType == null) {
+                throw new IllegalArgumentException("unknown content type");
+            }
+        }
+        try (
+            XContentParser parser = mediaType.xContent()
+                .createParser(request.getXContentRegistry(), LoggingDeprecationHandler.INSTANCE, content.streamInput())
+        ) {
+            RestSearchAction.parseSearchRequest(searchRequest, request, parser, client.getNamedWriteableRegistry(), setSize);
+        }
+        return searchRequest;
+    }
+
+    private static void validateOrThrow(SearchRequest searchRequest) {
+        final ActionRequestValidationException validationException = validate(searchRequest);
+        if (validationException != null) {
+            throw validationException;
+        }
+    }
+
+    private static void sendFailure(RestChannel channel, Exception e) {
+        try {
+            channel.sendResponse(new BytesRestResponse(channel, e));
+        } catch (Exception inner) {
+            inner.addSuppressed(e);
+            logger.warn("failed to send failure response for streaming search", inner);
+        }
+    }
+
+    /**
+     * Rejects the search features that cannot be combined with paging through a point in time.
+     */
+    static ActionRequestValidationException validate(SearchRequest searchRequest) {
+        ActionRequestValidationException validationException = null;
+        final SearchSourceBuilder source = searchRequest.source();
+        if (searchRequest.scroll() != null) {
+            validationException = addValidationError("[scroll] cannot be used with a streaming search", validationException);
+        }
+        if (source.pointInTimeBuilder() != null) {
+            validationException = addValidationError("[point in time] cannot be used with a streaming search", validationException);
+        }
+        if (source.searchAfter() != null) {
+            validationException = addValidationError("[search_after] cannot be used with a streaming search", validationException);
+        }
+        if (source.from() > 0) {
+            validationException = addValidationError("[from] cannot be used with a streaming search", validationException);
+        }
+        if (source.aggregations() != null || source.suggest() != null) {
+            validationException = addValidationError(
+                "aggregations and suggestions cannot be used with a streaming search",
+                validationException
+            );
+        }
+        if (source.collapse() != null) {
+            validationException = addValidationError("[collapse] cannot be used with a streaming search", validationException);
+        }
+        return validationException;
+    }
+
+    /**
+     * Builds the source all pages are derived from: the requested sort followed by a {@code _shard_doc} tiebreaker, which
+     * makes the sort values of the last hit of a page a unique cursor for the next one.
+     */
+    static SearchSourceBuilder pageTemplate(SearchSourceBuilder source) {
+        final SearchSourceBuilder template = source.shallowCopy();
+        template.trackTotalHits(false);
+        final List<SortBuilder<?>> sorts = source.sorts();
+        if (sorts == null || sorts.stream().noneMatch(RestSearchStreamingAction::isShardDocSort)) {
+            template.sort(new ShardDocSortBuilder());
+        }
+        return template;
+    }
+
+    private static boolean isShardDocSort(SortBuilder<?> sort) {
+        return sort instanceof ShardDocSortBuilder
+            || (sort instanceof FieldSortBuilder && ShardDocSortBuilder.NAME.equals(((FieldSortBuilder) sort).getFieldName()));
+    }
+
+    /**
+     * Drives the point in time, fetching one page at a time and writing each page as a chunk.
+     */
+    static class HitsStreamer {
+        private final StreamingRestChannel channel;
+        private final Client client;
+        private final MediaType mediaType;
+        private final SearchRequest searchRequest;
+        private final SearchSourceBuilder template;
+        private final int chunkSize;
+        private final TimeValue keepAlive;
+        // the maximum number of hits to stream, or -1 to stream all matching hits
+        private final long limit;
+        private final long startNanos = System.nanoTime();
+
+        private String pitId;
+        private long streamed;
+
+        HitsStreamer(StreamingRestChannel channel, Client client, SearchRequest searchRequest, int chunkSize, TimeValue keepAlive) {
+            this.channel = channel;
+            this.client = client;
+            this.mediaType = channel.request().getMediaType() != null ? channel.request().getMediaType() : XContentType.JSON;
+            this.searchRequest = searchRequest;
+            this.template = pageTemplate(searchRequest.source());
+            this.chunkSize = chunkSize;
+            this.keepAlive = keepAlive;
+            this.limit = searchRequest.source().size();
+        }
+
+        void start() {
+            final CreatePitRequest createPitRequest = new CreatePitRequest(keepAlive, false, searchRequest.indices());
+            createPitRequest.setIndicesOptions(searchRequest.indicesOptions());
+            createPitRequest.setRouting(searchRequest.routing());
+            createPitRequest.setPreference(searchRequest.preference());
+            client.createPit(createPitRequest, ActionListener.wrap((CreatePitResponse response) -> {
+                pitId = response.getId();
+                channel.prepareResponse(RestStatus.OK, Map.of("Content-Type", List.of(mediaType.mediaTypeWithoutParameters())));
+                nextPage(null);
+            }, this::onFailure));
+        }
+
+        SearchRequest pageRequest(Object[] searchAfter) {
+            final SearchSourceBuilder source = template.shallowCopy();
+            source.pointInTimeBuilder(new PointInTimeBuilder(pitId).setKeepAlive(keepAlive));
+            source.size(limit < 0 ? chunkSize : (int) Math.min(chunkSize, limit - streamed));
+            if (searchAfter != null) {
+                source.searchAfter(searchAfter);
+            }
+            final SearchRequest pageRequest = new SearchRequest(Strings.EMPTY_ARRAY, source);
+            pageRequest.searchType(searchRequest.searchType());
+            pageRequest.requestCache(searchRequest.requestCache());
+            pageRequest.setMaxConcurrentShardRequests(searchRequest.getMaxConcurrentShardRequests());
+            pageRequest.allowPartialSearchResults(false);
+            return pageRequest;
+        }
+
+        private void nextPage(Object[] searchAfter) {
+            client.search(pageRequest(searchAfter), ActionListener.wrap(this::onPage, this::onFailure));
+        }
+
+        private void onPage(SearchResponse response) throws IOException {
+            if (response.pointInTimeId() != null) {
+                pitId = response.pointInTimeId();
+            }
+            final SearchHits hits = response.getHits();
+            final SearchHit[] page = hits.getHits();
+            if (page.length == 0) {
+                finish();
+                return;
+            }
+            streamed += page.length;
+            final boolean last = page.length < chunkSize || (limit >= 0 && streamed >= limit);
+            final Object[] searchAfter = page[page.length - 1].getSortValues();
+            try (XContentBuilder builder = newBuilder()) {
+                builder.startObject();
+                builder.startArray(SearchHits.Fields.HITS);
+                for (SearchHit hit : page) {
+                    hit.toXContent(builder, channel.request());
+                }
+                builder.endArray();
+                builder.endObject();
+                // only fetch the next page once the channel is ready for more data
+                channel.sendChunk(XContentHttpChunk.from(builder), ActionListener.wrap(r -> {
+                    if (last) {
+                        finish();
+                    } else {
+                        nextPage(searchAfter);
+                    }
+                }, this::onFailure));
+            }
+        }
+
+        private void finish() throws IOException {
+            deletePit();
+            try (XContentBuilder builder = newBuilder()) {
+                builder.startObject();
+                builder.field("took", TimeValue.nsecToMSec(System.nanoTime() - startNanos));
+                builder.field("total", streamed);
+                builder.endObject();
+                channel.sendChunk(XContentHttpChunk.from(builder));
+            }
+            channel.sendChunk(XContentHttpChunk.last());
+        }
+
+        private void onFailure(Exception e) {
+            deletePit();
+            sendFailure(channel, e);
+        }
+
+        private XContentBuilder newBuilder() throws IOException {
+            return channel.newBuilder(mediaType, mediaType, true);
+        }
+
+        private void deletePit() {
+            if (pitId == null) {
+                return;
+            }
+            final String id = pitId;
+            pitId = null;
+            client.deletePits(
+                new DeletePitRequest(id),
+                ActionListener.wrap(
+                    r -> {},
+                    e -> logger.debug(() -> new ParameterizedMessage("failed to delete point in time [{}] of streaming search", id), e)
+                )
+            );
+        }
+    }
+}
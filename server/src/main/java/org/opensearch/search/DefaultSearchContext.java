@@ -231,6 +231,8 @@ final class DefaultSearchContext extends SearchContext {
     private final int filterRewriteSegmentThreshold;
     private final int cardinalityAggregationPruningThreshold;
     private final long termsAggregationMaxPrecomputeCardinality;
+    private final boolean concurrentFetchEnabled;
+    private final int concurrentFetchMinDocs;
     private final CardinalityAggregationContext cardinalityAggregationContext;
     private final int bucketSelectionStrategyFactor;
     private final boolean keywordIndexOrDocValuesEnabled;
@@ -300,6 +302,8 @@ final class DefaultSearchContext extends SearchContext {
         this.filterRewriteSegmentThreshold = evaluateAggRewriteFilterSegThreshold();
         this.cardinalityAggregationPruningThreshold = evaluateCardinalityAggregationPruningThreshold();
         this.termsAggregationMaxPrecomputeCardinality = evaluateTermsAggregationMaxPrecomputeCardinality();
+        this.concurrentFetchEnabled = evaluateConcurrentFetchEnabled();
+        this.concurrentFetchMinDocs = evaluateConcurrentFetchMinDocs();
         this.cardinalityAggregationContext = evaluateCardinalityAggregationContext();
         this.bucketSelectionStrategyFactor = evaluateBucketSelectionStrategyFactor();
         this.concurrentSearchDeciderFactories = concurrentSearchDeciderFactories;
@@ -1267,6 +1271,16 @@ final class DefaultSearchContext extends SearchContext {
         return termsAggregationMaxPrecomputeCardinality;
     }
 
+    @Override
+    public boolean concurrentFetchEnabled() {
+        return concurrentFetchEnabled;
+    }
+
+    @Override
+    public int concurrentFetchMinDocs() {
+        return concurrentFetchMinDocs;
+    }
+
     @Override
     public CardinalityAggregationContext cardinalityAggregationContext() {
         return cardinalityAggregationContext;
@@ -1296,6 +1310,20 @@ final class DefaultSearchContext extends SearchContext {
         return 30_000L;
     }
 
+    private boolean evaluateConcurrentFetchEnabled() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(SearchService.CONCURRENT_FETCH_ENABLED_SETTING);
+        }
+        return false;
+    }
+
+    private int evaluateConcurrentFetchMinDocs() {
+        if (clusterService != null) {
+            return clusterService.getClusterSettings().get(SearchService.CONCURRENT_FETCH_MIN_DOCS_SETTING);
+        }
+        return SearchService.DEFAULT_CONCURRENT_FETCH_MIN_DOCS;
+    }
+
     private CardinalityAggregationContext evaluateCardinalityAggregationContext() {
         if (clusterService != null) {
             boolean hybridCollectorEnabled = clusterService.getClusterSettings()
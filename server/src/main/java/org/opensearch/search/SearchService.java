@@ -451,6 +451,24 @@ public class SearchService extends AbstractLifecycleComponent implements IndexEv
         Property.NodeScope
     );
 
+    // Fetches the hits of different segments in parallel on the index searcher's executor
+    public static final Setting<Boolean> CONCURRENT_FETCH_ENABLED_SETTING = Setting.boolSetting(
+        "search.concurrent_fetch.enabled",
+        false,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    public static final int DEFAULT_CONCURRENT_FETCH_MIN_DOCS = 100;
+    // Minimum number of hits to fetch before the fetch phase is split across segments
+    public static final Setting<Integer> CONCURRENT_FETCH_MIN_DOCS_SETTING = Setting.intSetting(
+        "search.concurrent_fetch.min_docs",
+        DEFAULT_CONCURRENT_FETCH_MIN_DOCS,
+        1,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
     public static final int DEFAULT_BUCKET_SELECTION_STRATEGY_FACTOR = 5;
     public static final Setting<Integer> BUCKET_SELECTION_STRATEGY_FACTOR_SETTING = Setting.intSetting(
         "search.aggregation.bucket_selection_strategy_factor",
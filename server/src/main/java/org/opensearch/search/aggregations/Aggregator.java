@@ -217,15 +217,27 @@ public abstract class Aggregator extends BucketCollector implements Releasable {
 
     /**
      * For streaming aggregation, build the aggregation batch result and
-     * reset so this aggregator can continue with a clean state
+     * reset so this aggregator can continue with a clean state. Aggregators
+     * that flush their collected buckets over several batches are only reset
+     * once the last one is built, see {@link #hasPendingBatch()}.
      */
     public final InternalAggregation buildTopLevelBatch() throws IOException {
         assert parent() == null;
         InternalAggregation batch = buildAggregations(new long[] { 0 })[0];
-        reset();
+        if (hasPendingBatch() == false) {
+            reset();
+        }
         return batch;
     }
 
+    /**
+     * For streaming aggregation, whether buckets collected for the current
+     * batch are still waiting to be built by another {@link #buildTopLevelBatch()}.
+     */
+    public boolean hasPendingBatch() {
+        return false;
+    }
+
     /**
      * Build an empty aggregation.
      */
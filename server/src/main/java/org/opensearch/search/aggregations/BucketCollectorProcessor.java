@@ -92,7 +92,33 @@ public class BucketCollectorProcessor {
     @ExperimentalApi
     public List<InternalAggregation> buildAggBatch(Collector collectorTree) throws IOException {
         final List<InternalAggregation> aggregations = new ArrayList<>();
+        for (Aggregator aggregator : streamingAggregators(collectorTree)) {
+            // Call postCollection() before building to ensure collectors finalize their data
+            // This is critical for aggregators like CardinalityAggregator that defer processing until postCollect()
+            aggregator.postCollection();
+            aggregations.add(aggregator.buildTopLevelBatch());
+        }
+        return aggregations;
+    }
 
+    /**
+     * For streaming aggregation, build the next batch of the aggregators that still hold buckets
+     * after {@link #buildAggBatch}, see {@link Aggregator#hasPendingBatch()}. Returns an empty list
+     * once every aggregator has been flushed.
+     */
+    @ExperimentalApi
+    public List<InternalAggregation> buildPendingAggBatch(Collector collectorTree) throws IOException {
+        final List<InternalAggregation> aggregations = new ArrayList<>();
+        for (Aggregator aggregator : streamingAggregators(collectorTree)) {
+            if (aggregator.hasPendingBatch()) {
+                aggregations.add(aggregator.buildTopLevelBatch());
+            }
+        }
+        return aggregations;
+    }
+
+    private static List<Aggregator> streamingAggregators(Collector collectorTree) {
+        final List<Aggregator> aggregators = new ArrayList<>();
         final Queue<Collector> collectors = new LinkedList<>();
         collectors.offer(collectorTree);
         while (!collectors.isEmpty()) {
@@ -105,13 +131,10 @@ public class BucketCollectorProcessor {
                 for (Collector innerCollector : multiCollector.getCollectors()) {
                     collectors.offer(innerCollector);
                 }
-            } else if (currentCollector instanceof BucketCollector bucketCollector) {
+            } else if (currentCollector instanceof BucketCollector) {
                 // Perform build aggregation during post collection
                 if (currentCollector instanceof Aggregator aggregator) {
-                    // Call postCollection() before building to ensure collectors finalize their data
-                    // This is critical for aggregators like CardinalityAggregator that defer processing until postCollect()
-                    bucketCollector.postCollection();
-                    aggregations.add(aggregator.buildTopLevelBatch());
+                    aggregators.add(aggregator);
                 } else if (currentCollector instanceof MultiBucketCollector multiBucketCollector) {
                     for (Collector innerCollector : multiBucketCollector.getCollectors()) {
                         collectors.offer(innerCollector);
@@ -119,7 +142,7 @@ public class BucketCollectorProcessor {
                 }
             }
         }
-        return aggregations;
+        return aggregators;
     }
 
     /**
@@ -74,6 +74,8 @@ import org.opensearch.search.startree.filter.DimensionFilter;
 import org.opensearch.search.startree.filter.MatchAllFilter;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
@@ -189,7 +191,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             : null;
         this.fieldIndexSort = this.fieldName == null ? false : context.getQueryShardContext().indexSortedOnField(fieldName);
         this.starTreeDateDimension = (context.getQueryShardContext().getStarTreeQueryContext() != null)
-            ? fetchStarTreeCalendarUnit()
+            ? fetchStarTreeCalendarUnit(valuesSourceConfig.timezone() == null ? ZoneOffset.UTC : valuesSourceConfig.timezone())
             : null;
     }
 
@@ -306,7 +308,7 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
         }
     }
 
-    private String fetchStarTreeCalendarUnit() {
+    private String fetchStarTreeCalendarUnit(ZoneId timeZone) {
         if (this.rounding.unit() == null) {
             return null;
         }
@@ -322,9 +324,14 @@ class DateHistogramAggregator extends BucketsAggregator implements SizedBucketAg
             .orElseThrow(() -> new AssertionError(String.format(Locale.ROOT, "Date dimension '%s' not found", fieldName)));
 
         DateTimeUnitAdapter dateTimeUnitRounding = new DateTimeUnitAdapter(this.rounding.unit());
-        DateTimeUnitRounding rounding = starTreeDateDimension.findClosestValidInterval(dateTimeUnitRounding);
+        DateTimeUnitRounding rounding = starTreeDateDimension.findClosestValidInterval(
+            dateTimeUnitRounding,
+            timeZone,
+            this.rounding.offset()
+        );
         String dimensionName = fieldName + "_" + rounding.shortName();
-        if (rounding.shortName().equals(this.rounding.unit().shortName())) {
+        // star-tree values are rounded in UTC, so they are the buckets only for the same unit in UTC without offset
+        if (rounding.shortName().equals(this.rounding.unit().shortName()) && this.rounding.isUTC() && this.rounding.offset() == 0) {
             this.starTreeDateRoundingRequired = false;
         }
         return dimensionName;
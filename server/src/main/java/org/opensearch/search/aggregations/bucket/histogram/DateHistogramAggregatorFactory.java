@@ -47,6 +47,8 @@ import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
 
@@ -166,4 +168,18 @@ public final class DateHistogramAggregatorFactory extends ValuesSourceAggregator
     public Rounding.DateTimeUnit getRounding() {
         return this.rounding.unit();
     }
+
+    /**
+     * Returns the time zone of the rounding.
+     */
+    public ZoneId getTimeZone() {
+        return config.timezone() == null ? ZoneOffset.UTC : config.timezone();
+    }
+
+    /**
+     * Returns the offset of the rounding, in milliseconds.
+     */
+    public long getOffset() {
+        return this.rounding.offset();
+    }
 }
@@ -94,6 +94,10 @@ public class AbstractRangeAggregatorFactory<R extends Range> extends ValuesSourc
         this.registryKey = registryKey;
     }
 
+    public R[] getRanges() {
+        return ranges;
+    }
+
     @Override
     protected Aggregator createUnmapped(SearchContext searchContext, Aggregator parent, Map<String, Object> metadata) throws IOException {
         return new Unmapped<>(name, factories, ranges, keyed, config.format(), searchContext, parent, rangeFactory, metadata);
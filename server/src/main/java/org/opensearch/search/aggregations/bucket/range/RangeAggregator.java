@@ -47,11 +47,14 @@ import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
+import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.mapper.NumberFieldMapper;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.Aggregator;
@@ -269,6 +272,11 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
 
     private final FilterRewriteOptimizationContext filterRewriteOptimizationContext;
 
+    /**
+     * The star-tree sub-dimension holding the values of a date field, rounded to an interval the ranges are aligned to
+     */
+    private final String starTreeSubDimension;
+
     public RangeAggregator(
         String name,
         AggregatorFactories factories,
@@ -317,6 +325,21 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
         this.fieldName = (valuesSource instanceof ValuesSource.Numeric.FieldData)
             ? ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName()
             : null;
+        this.starTreeSubDimension = (context.getQueryShardContext().getStarTreeQueryContext() != null)
+            ? fetchStarTreeSubDimension()
+            : null;
+    }
+
+    private String fetchStarTreeSubDimension() {
+        CompositeDataCubeFieldType compositeMappedFieldType = (CompositeDataCubeFieldType) context.mapperService()
+            .getCompositeFieldTypes()
+            .iterator()
+            .next();
+        Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(fieldName, compositeMappedFieldType.getDimensions());
+        if (dimension instanceof DateDimension dateDimension) {
+            return StarTreeQueryHelper.getDateRangeSubDimension(dateDimension, ranges);
+        }
+        return null;
     }
 
     @Override
@@ -398,7 +421,7 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
 
     @Override
     public List<DimensionFilter> getDimensionFilters() {
-        return StarTreeQueryHelper.collectDimensionFilters(new MatchAllFilter(fieldName), subAggregators);
+        return StarTreeQueryHelper.collectDimensionFilters(new MatchAllFilter(fieldName, starTreeSubDimension), subAggregators);
     }
 
     @Override
@@ -424,7 +447,7 @@ public class RangeAggregator extends BucketsAggregator implements StarTreePreCom
             }
 
             SortedNumericStarTreeValuesIterator valuesIterator = (SortedNumericStarTreeValuesIterator) starTreeValues
-                .getDimensionValuesIterator(fieldName);
+                .getDimensionValuesIterator(starTreeSubDimension == null ? fieldName : starTreeSubDimension);
 
             String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
                 starTree.getField(),
@@ -54,8 +54,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -321,7 +323,11 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         }
     }
 
-    private List<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
+    /**
+     * Merges buckets that are sorted by key lazily: each call to {@link Iterator#next()} reduces the buckets of the next key
+     * across all aggregations, so callers that only keep the top buckets never hold more than one reduced bucket per key.
+     */
+    private Iterator<B> reduceMergeSort(List<InternalAggregation> aggregations, BucketOrder thisReduceOrder, ReduceContext reduceContext) {
         assert isKeyOrder(thisReduceOrder);
         final Comparator<MultiBucketsAggregation.Bucket> cmp = thisReduceOrder.comparator();
         final PriorityQueue<IteratorAndCurrent<B>> pq = new PriorityQueue<IteratorAndCurrent<B>>(aggregations.size()) {
@@ -338,38 +344,41 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
                 pq.add(new IteratorAndCurrent(terms.getBuckets().iterator()));
             }
         }
-        List<B> reducedBuckets = new ArrayList<>();
-        // list of buckets coming from different shards that have the same key
-        List<B> currentBuckets = new ArrayList<>();
-        B lastBucket = null;
-        while (pq.size() > 0) {
-            final IteratorAndCurrent<B> top = pq.top();
-            assert lastBucket == null || cmp.compare(top.current(), lastBucket) >= 0;
-
-            if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
-                // the key changes, reduce what we already buffered and reset the buffer for current buckets
-                final B reduced = reduceBucket(currentBuckets, reduceContext);
-                reducedBuckets.add(reduced);
-                currentBuckets.clear();
+        return new Iterator<B>() {
+            @Override
+            public boolean hasNext() {
+                return pq.size() > 0;
             }
 
-            lastBucket = top.current();
-            currentBuckets.add(top.current());
+            @Override
+            public B next() {
+                if (pq.size() == 0) {
+                    throw new NoSuchElementException();
+                }
+                // list of buckets coming from different shards that have the same key
+                List<B> currentBuckets = new ArrayList<>();
+                B lastBucket = null;
+                while (pq.size() > 0) {
+                    final IteratorAndCurrent<B> top = pq.top();
+                    if (lastBucket != null && cmp.compare(top.current(), lastBucket) != 0) {
+                        // the key changes, reduce what we already buffered
+                        break;
+                    }
 
-            if (top.hasNext()) {
-                top.next();
-                assert cmp.compare(top.current(), lastBucket) > 0 : "shards must return data sorted by key";
-                pq.updateTop();
-            } else {
-                pq.pop();
-            }
-        }
+                    lastBucket = top.current();
+                    currentBuckets.add(top.current());
 
-        if (currentBuckets.isEmpty() == false) {
-            final B reduced = reduceBucket(currentBuckets, reduceContext);
-            reducedBuckets.add(reduced);
-        }
-        return reducedBuckets;
+                    if (top.hasNext()) {
+                        top.next();
+                        assert cmp.compare(top.current(), lastBucket) > 0 : "shards must return data sorted by key";
+                        pq.updateTop();
+                    } else {
+                        pq.pop();
+                    }
+                }
+                return reduceBucket(currentBuckets, reduceContext);
+            }
+        };
     }
 
     private List<B> reduceLegacy(List<InternalAggregation> aggregations, ReduceContext reduceContext) {
@@ -447,7 +456,7 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             }
         }
 
-        final List<B> reducedBuckets;
+        final Iterator<B> reducedBuckets;
         /*
           Buckets returned by a partial reduce or a shard response are sorted by key.
           That allows to perform a merge sort when reducing multiple aggregations together.
@@ -460,15 +469,22 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
             thisReduceOrder = InternalOrder.key(isKeyAsc(thisReduceOrder) ? true : false);
             reducedBuckets = reduceMergeSort(aggregations, thisReduceOrder, reduceContext);
         } else {
-            reducedBuckets = reduceLegacy(aggregations, reduceContext);
+            reducedBuckets = reduceLegacy(aggregations, reduceContext).iterator();
         }
 
         final B[] list;
         if (reduceContext.isFinalReduce() || reduceContext.isSliceLevel()) {
-            final int size = Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size());
+            // The merged buckets are fed straight into the queue so only the top buckets are retained, which keeps the
+            // final reduce of high cardinality terms bounded by the requested size rather than by the number of terms.
+            int maxBucketCount = 0;
+            for (InternalAggregation aggregation : aggregations) {
+                maxBucketCount += ((InternalTerms<?, ?>) aggregation).getBuckets().size();
+            }
+            final int size = Math.min(localBucketCountThresholds.getRequiredSize(), maxBucketCount);
             // final comparator
             final BucketPriorityQueue<B> ordered = new BucketPriorityQueue<>(size, order.comparator());
-            for (B bucket : reducedBuckets) {
+            while (reducedBuckets.hasNext()) {
+                final B bucket = reducedBuckets.next();
                 if (sumDocCountError == -1) {
                     bucket.setDocCountError(-1);
                 } else {
@@ -494,13 +510,16 @@ public abstract class InternalTerms<A extends InternalTerms<A, B>, B extends Int
         } else {
             // we can prune the list on partial reduce if the aggregation is ordered by key
             // and not filtered (minDocCount == 0)
-            int size = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0
-                ? Math.min(localBucketCountThresholds.getRequiredSize(), reducedBuckets.size())
-                : reducedBuckets.size();
+            final boolean prune = isKeyOrder(order) && localBucketCountThresholds.getMinDocCount() == 0;
+            final List<B> partialBuckets = new ArrayList<>();
+            while (reducedBuckets.hasNext() && (prune == false || partialBuckets.size() < localBucketCountThresholds.getRequiredSize())) {
+                partialBuckets.add(reducedBuckets.next());
+            }
+            int size = partialBuckets.size();
             list = createBucketsArray(size);
             for (int i = 0; i < size; i++) {
                 reduceContext.consumeBucketsAndMaybeBreak(1);
-                list[i] = reducedBuckets.get(i);
+                list[i] = partialBuckets.get(i);
                 if (sumDocCountError == -1) {
                     list[i].setDocCountError(-1);
                 } else {
@@ -57,6 +57,8 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
     private LongKeyedBucketOrds bucketOrds;
     private final CardinalityUpperBound cardinality;
     private final int segmentTopN;
+    private final int flushBatchSize;
+    private long nextFlushOrd;
 
     public StreamNumericTermsAggregator(
         String name,
@@ -72,6 +74,7 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
         IncludeExclude.LongFilter longFilter,
         CardinalityUpperBound cardinality,
         int segmentTopN,
+        int flushBatchSize,
         Map<String, Object> metadata
     ) throws IOException {
         super(name, factories, aggregationContext, parent, bucketCountThresholds, order, format, subAggCollectMode, metadata);
@@ -80,6 +83,7 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
         this.longFilter = longFilter;
         this.cardinality = cardinality;
         this.segmentTopN = segmentTopN;
+        this.flushBatchSize = flushBatchSize;
     }
 
     @Override
@@ -87,6 +91,7 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
         super.doReset();
         Releasables.close(bucketOrds);
         bucketOrds = null;
+        nextFlushOrd = 0;
     }
 
     @Override
@@ -127,6 +132,11 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
         return resultStrategy.buildAggregationsBatch(owningBucketOrds);
     }
 
+    @Override
+    public boolean hasPendingBatch() {
+        return flushBatchSize > 0 && bucketOrds != null && nextFlushOrd < bucketOrds.size();
+    }
+
     /**
      * Strategy for building results.
      */
@@ -152,18 +162,16 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
 
             for (int ordIdx = 0; ordIdx < owningBucketOrds.length; ordIdx++) {
                 checkCancelled();
-                collectZeroDocEntriesIfNeeded(owningBucketOrds[ordIdx]);
+                if (nextFlushOrd == 0) {
+                    collectZeroDocEntriesIfNeeded(owningBucketOrds[ordIdx]);
+                }
                 LongKeyedBucketOrds.BucketOrdsEnum ordsEnum = bucketOrds.ordsEnum(owningBucketOrds[ordIdx]);
                 long bucketsInOrd = bucketOrds.bucketsInOrd(owningBucketOrds[ordIdx]);
                 logger.debug("Cardinality post collection for ordIdx {}: {}", ordIdx, bucketsInOrd);
 
-                SelectionResult<B> selectionResult = selectTopBuckets(
-                    ordsEnum,
-                    bucketsInOrd,
-                    segmentTopN,
-                    bucketCountThresholds,
-                    owningBucketOrds[ordIdx]
-                );
+                SelectionResult<B> selectionResult = flushBatchSize > 0
+                    ? selectNextBatch(flushBatchSize, bucketCountThresholds, owningBucketOrds[ordIdx])
+                    : selectTopBuckets(ordsEnum, bucketsInOrd, segmentTopN, bucketCountThresholds, owningBucketOrds[ordIdx]);
 
                 otherDocCount[ordIdx] = selectionResult.otherDocCount;
                 topBucketsPerOrd[ordIdx] = buildBuckets(selectionResult.buckets.size());
@@ -204,6 +212,30 @@ public class StreamNumericTermsAggregator extends TermsAggregator {
             }
         }
 
+        /**
+         * Select the next batch of buckets without cutting the segment to its topN. Every bucket of the segment
+         * is flushed exactly once across the batches, so the counts the coordinator merges stay exact while only
+         * {@code batchSize} buckets are built at a time. The batch is sorted by key in {@link #buildResult}.
+         * Only used by top level aggregators, whose bucket ordinals are dense.
+         */
+        private SelectionResult<B> selectNextBatch(int batchSize, BucketCountThresholds thresholds, long owningBucketOrd)
+            throws IOException {
+            // min_doc_count applies to the merged counts, a batch only skips the terms this segment did not collect
+            final long minDocCount = Math.min(thresholds.getMinDocCount(), 1);
+            List<B> result = new ArrayList<>();
+            for (; nextFlushOrd < bucketOrds.size(); nextFlushOrd++) {
+                long docCount = StreamNumericTermsAggregator.this.bucketDocCount(nextFlushOrd);
+                if (docCount < minDocCount) {
+                    continue;
+                }
+                if (result.size() == batchSize) {
+                    break;
+                }
+                result.add(buildFinalBucket(nextFlushOrd, bucketOrds.get(nextFlushOrd), docCount, owningBucketOrd));
+            }
+            return new SelectionResult<>(result, 0);
+        }
+
         private SelectionResult<B> selectTopBuckets(
             LongKeyedBucketOrds.BucketOrdsEnum ordsEnum,
             long totalBuckets,
@@ -55,6 +55,8 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
     protected final ResultStrategy<?, ?> resultStrategy;
     private boolean leafCollectorCreated = false;
     private final int segmentTopN;
+    private final int flushBatchSize;
+    private long nextFlushOrd;
 
     private Aggregator.BucketComparator ordinalComparator;
     private StringTerms.Bucket tempBucket1;
@@ -73,12 +75,14 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
         SubAggCollectionMode collectionMode,
         boolean showTermDocCountError,
         int segmentTopN,
+        int flushBatchSize,
         Map<String, Object> metadata
     ) throws IOException {
         super(name, factories, context, parent, order, format, bucketCountThresholds, collectionMode, showTermDocCountError, metadata);
         this.valuesSource = valuesSource;
         this.resultStrategy = resultStrategy.apply(this);
         this.segmentTopN = segmentTopN;
+        this.flushBatchSize = flushBatchSize;
     }
 
     @Override
@@ -86,6 +90,7 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
         super.doReset();
         valueCount = 0;
         sortedDocValuesPerBatch = null;
+        nextFlushOrd = 0;
         this.leafCollectorCreated = false;
         this.ordinalComparator = null;
         this.tempBucket1 = null;
@@ -131,6 +136,11 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
         return resultStrategy.buildAggregationsBatch(owningBucketOrds);
     }
 
+    @Override
+    public boolean hasPendingBatch() {
+        return flushBatchSize > 0 && nextFlushOrd < valueCount;
+    }
+
     @Override
     public InternalAggregation buildEmptyAggregation() {
         return resultStrategy.buildEmptyResult();
@@ -233,7 +243,9 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
                 logger.debug("Cardinality post collection for ordIdx {}: {}", ordIdx, valueCount);
                 // using bucketCountThresholds since we don't do reduce across slice
                 // and send results per segment to coordinator
-                SelectionResult<B> selectionResult = selectTopBuckets(segmentTopN, bucketCountThresholds);
+                SelectionResult<B> selectionResult = flushBatchSize > 0
+                    ? selectNextSortedBatch(flushBatchSize, bucketCountThresholds)
+                    : selectTopBuckets(segmentTopN, bucketCountThresholds);
 
                 topBucketsPerOwningOrd[ordIdx] = buildBuckets(selectionResult.buckets.size());
                 for (int i = 0; i < topBucketsPerOwningOrd[ordIdx].length; i++) {
@@ -261,6 +273,28 @@ public class StreamStringTermsAggregator extends AbstractStringTermsAggregator {
             }
         }
 
+        /**
+         * Select the next batch of buckets in ordinal, and so key, order without cutting the segment to its topN.
+         * Every bucket of the segment is flushed exactly once across the batches, so the counts the coordinator
+         * merges stay exact while only {@code batchSize} buckets are built at a time.
+         */
+        private SelectionResult<B> selectNextSortedBatch(int batchSize, BucketCountThresholds thresholds) throws IOException {
+            // min_doc_count applies to the merged counts, a batch only skips the terms this segment did not collect
+            final long minDocCount = Math.min(thresholds.getMinDocCount(), 1);
+            List<B> result = new ArrayList<>();
+            for (; nextFlushOrd < valueCount; nextFlushOrd++) {
+                long docCount = bucketDocCount(nextFlushOrd);
+                if (docCount < minDocCount) {
+                    continue;
+                }
+                if (result.size() == batchSize) {
+                    break;
+                }
+                result.add(buildFinalBucket(nextFlushOrd, docCount));
+            }
+            return new SelectionResult<>(result, 0);
+        }
+
         private SelectionResult<B> selectTopBuckets(int segmentSize, BucketCountThresholds thresholds) throws IOException {
             prepareIndicesArray(valueCount);
 
@@ -139,6 +139,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                             parent,
                             showTermDocCountError,
                             computeSegmentTopN(context, bucketCountThresholds, order),
+                            computeFlushBatchSize(context, parent),
                             metadata
                         );
                     }
@@ -252,6 +253,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                         showTermDocCountError,
                         cardinality,
                         computeSegmentTopN(context, bucketCountThresholds, order),
+                        computeFlushBatchSize(context, parent),
                         metadata
                     );
                 }
@@ -613,6 +615,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
         Aggregator parent,
         boolean showTermDocCountError,
         int segmentTopN,
+        int flushBatchSize,
         Map<String, Object> metadata
     ) throws IOException {
         {
@@ -631,6 +634,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
                 SubAggCollectionMode.DEPTH_FIRST,
                 showTermDocCountError,
                 segmentTopN,
+                flushBatchSize,
                 metadata
             );
         }
@@ -650,6 +654,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
         boolean showTermDocCountError,
         CardinalityUpperBound cardinality,
         int segmentTopN,
+        int flushBatchSize,
         Map<String, Object> metadata
     ) throws IOException {
         Function<StreamNumericTermsAggregator, StreamNumericTermsAggregator.ResultStrategy<?, ?>> resultStrategy;
@@ -683,6 +688,7 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
             longFilter,
             cardinality,
             segmentTopN,
+            flushBatchSize,
             metadata
         );
     }
@@ -704,6 +710,17 @@ public class TermsAggregatorFactory extends ValuesSourceAggregatorFactory implem
         return Math.max(minSegmentSize, effectiveShardSize);
     }
 
+    /**
+     * Computes the flush batch size for use in streaming aggregation. Only top level aggregations flush
+     * their buckets over several batches, sub-aggregations are built with the buckets of their parent.
+     */
+    private static int computeFlushBatchSize(SearchContext context, Aggregator parent) {
+        if (parent != null) {
+            return 0;
+        }
+        return context.getQueryShardContext().getIndexSettings().getStreamingAggregationTermsFlushBatchSize();
+    }
+
     @Override
     public StreamingCostMetrics estimateStreamingCost(SearchContext searchContext) {
         ValuesSource valuesSource = config.getValuesSource();
@@ -130,6 +130,7 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBlock block = DoubleValuesBlock.isEnabled() ? new DoubleValuesBlock(true, false, false) : null;
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -150,17 +151,24 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 setKahanSummation(bucket);
-                final int[] count = { 0 };
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        int valueCount = values.docValueCount();
-                        count[0] += valueCount;
-                        for (int i = 0; i < valueCount; i++) {
-                            kahanSummation.add(values.nextValue());
+                if (block != null) {
+                    block.reset(kahanSummation, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                    stream.forEach((doc) -> block.add(values, doc));
+                    block.flush();
+                    counts.increment(bucket, block.count());
+                } else {
+                    final int[] count = { 0 };
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            int valueCount = values.docValueCount();
+                            count[0] += valueCount;
+                            for (int i = 0; i < valueCount; i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
-                    }
-                });
-                counts.increment(bucket, count[0]);
+                    });
+                    counts.increment(bucket, count[0]);
+                }
                 sums.set(bucket, kahanSummation.value());
                 compensations.set(bucket, kahanSummation.delta());
             }
@@ -168,17 +176,26 @@ class AvgAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collectRange(int min, int max) throws IOException {
                 setKahanSummation(0);
-                int count = 0;
-                for (int docId = min; docId < max; docId++) {
-                    if (values.advanceExact(docId)) {
-                        int valueCount = values.docValueCount();
-                        count += valueCount;
-                        for (int i = 0; i < valueCount; i++) {
-                            kahanSummation.add(values.nextValue());
+                if (block != null) {
+                    block.reset(kahanSummation, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                    for (int docId = min; docId < max; docId++) {
+                        block.add(values, docId);
+                    }
+                    block.flush();
+                    counts.increment(0, block.count());
+                } else {
+                    int count = 0;
+                    for (int docId = min; docId < max; docId++) {
+                        if (values.advanceExact(docId)) {
+                            int valueCount = values.docValueCount();
+                            count += valueCount;
+                            for (int i = 0; i < valueCount; i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
                     }
+                    counts.increment(0, count);
                 }
-                counts.increment(0, count);
                 sums.set(0, kahanSummation.value());
                 compensations.set(0, kahanSummation.delta());
             }
@@ -32,6 +32,8 @@
 
 package org.opensearch.search.aggregations.metrics;
 
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
 import org.opensearch.index.fielddata.IndexFieldData;
 import org.opensearch.index.fielddata.plain.HllFieldData;
 import org.opensearch.index.mapper.HllFieldMapper;
@@ -43,7 +45,6 @@ import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.CardinalityUpperBound;
 import org.opensearch.search.aggregations.support.CoreValuesSourceType;
 import org.opensearch.search.aggregations.support.ValuesSource;
-import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
 import org.opensearch.search.aggregations.support.ValuesSourceConfig;
 import org.opensearch.search.aggregations.support.ValuesSourceRegistry;
 import org.opensearch.search.internal.SearchContext;
@@ -60,7 +61,7 @@ import java.util.Map;
  *
  * @opensearch.internal
  */
-class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory implements StreamingCostEstimable {
+class CardinalityAggregatorFactory extends MetricAggregatorFactory implements StreamingCostEstimable {
 
     /**
      * Execution mode for cardinality agg
@@ -157,6 +158,19 @@ class CardinalityAggregatorFactory extends ValuesSourceAggregatorFactory impleme
         return StreamingCostMetrics.nonStreamable();
     }
 
+    @Override
+    public MetricStat getMetricStat() {
+        return MetricStat.CARDINALITY;
+    }
+
+    /**
+     * Star-tree cardinality sketches are built with the default precision, and sketches can only be merged at equal precision.
+     */
+    @Override
+    public boolean supportsStarTree() {
+        return precision() == SketchValueAggregator.CARDINALITY_PRECISION;
+    }
+
     @Override
     protected boolean supportsConcurrentSegmentSearch() {
         return true;
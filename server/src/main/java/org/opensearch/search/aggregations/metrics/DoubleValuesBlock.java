@@ -0,0 +1,139 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.numeric.DoubleBlockKernel;
+import org.opensearch.common.numeric.DoubleBlockKernelFactory;
+import org.opensearch.index.fielddata.NumericDoubleValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+
+import java.io.IOException;
+
+/**
+ * Buffers the doc values of a run of documents into fixed size blocks and aggregates each full block at once with a
+ * {@link DoubleBlockKernel}. Used by numeric metric aggregators when collecting a {@link org.apache.lucene.search.DocIdStream}
+ * or a range of doc ids, where the per value work would otherwise dominate.
+ * <p>
+ * This is not a columnar execution engine: documents are still matched by the query's {@code DocIdSetIterator} and
+ * their values read one document at a time through the doc values iterators. Only the window of matches the query hands
+ * to the leaf collector at once is buffered, and only the arithmetic over the buffered values is vectorized.
+ *
+ * @opensearch.internal
+ */
+final class DoubleValuesBlock {
+    static final int BLOCK_SIZE = 256;
+
+    private static final DoubleBlockKernel KERNEL = DoubleBlockKernelFactory.create();
+
+    // tests enable block collection with the scalar kernel too, to compare it against the per value paths
+    private static volatile boolean enabled = DoubleBlockKernelFactory.isVectorized();
+
+    private final double[] values = new double[BLOCK_SIZE];
+    private final boolean needsSum;
+    private final boolean needsMin;
+    private final boolean needsMax;
+
+    private int length;
+    private CompensatedSum sum;
+    private long count;
+    private double min;
+    private double max;
+
+    DoubleValuesBlock(boolean needsSum, boolean needsMin, boolean needsMax) {
+        this.needsSum = needsSum;
+        this.needsMin = needsMin;
+        this.needsMax = needsMax;
+    }
+
+    /**
+     * Returns {@code true} if block collection is enabled, which is the case when a vectorized kernel is available.
+     * The scalar fallback is no faster than collecting value by value, so aggregators keep their per value loops then.
+     */
+    static boolean isEnabled() {
+        return enabled;
+    }
+
+    static void setEnabled(boolean enabled) {
+        DoubleValuesBlock.enabled = enabled;
+    }
+
+    /**
+     * Starts aggregating a new run of documents into {@code sum}, {@code min} and {@code max}.
+     */
+    void reset(CompensatedSum sum, double min, double max) {
+        assert length == 0 : "pending values must be flushed before reset";
+        this.sum = sum;
+        this.min = min;
+        this.max = max;
+        this.count = 0;
+    }
+
+    /**
+     * Adds all values of {@code doc}.
+     */
+    void add(SortedNumericDoubleValues docValues, int doc) throws IOException {
+        if (docValues.advanceExact(doc)) {
+            final int valueCount = docValues.docValueCount();
+            for (int i = 0; i < valueCount; i++) {
+                add(docValues.nextValue());
+            }
+        }
+    }
+
+    /**
+     * Adds the single value of {@code doc}.
+     */
+    void add(NumericDoubleValues docValues, int doc) throws IOException {
+        if (docValues.advanceExact(doc)) {
+            add(docValues.doubleValue());
+        }
+    }
+
+    private void add(double value) {
+        values[length++] = value;
+        if (length == BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Aggregates the buffered values. Must be called once the run of documents has been consumed.
+     */
+    void flush() {
+        if (length == 0) {
+            return;
+        }
+        if (needsSum) {
+            sum.add(KERNEL.sum(values, length));
+        }
+        if (needsMin) {
+            min = Math.min(min, KERNEL.min(values, length));
+        }
+        if (needsMax) {
+            max = Math.max(max, KERNEL.max(values, length));
+        }
+        count += length;
+        length = 0;
+    }
+
+    /**
+     * The number of values aggregated since the last {@link #reset}.
+     */
+    long count() {
+        return count;
+    }
+
+    double min() {
+        return min;
+    }
+
+    double max() {
+        return max;
+    }
+}
@@ -154,6 +154,7 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MAX.select(allValues);
+        final DoubleValuesBlock block = DoubleValuesBlock.isEnabled() ? new DoubleValuesBlock(false, false, true) : null;
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -169,6 +170,13 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growMaxes(bucket);
+                if (block != null) {
+                    block.reset(null, maxes.get(bucket), maxes.get(bucket));
+                    stream.forEach((doc) -> block.add(values, doc));
+                    block.flush();
+                    maxes.set(bucket, block.max());
+                    return;
+                }
                 final double[] max = { maxes.get(bucket) };
                 stream.forEach((doc) -> {
                     if (values.advanceExact(doc)) {
@@ -181,6 +189,15 @@ class MaxAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collectRange(int min, int max) throws IOException {
                 growMaxes(0);
+                if (block != null) {
+                    block.reset(null, maxes.get(0), maxes.get(0));
+                    for (int doc = min; doc < max; doc++) {
+                        block.add(values, doc);
+                    }
+                    block.flush();
+                    maxes.set(0, block.max());
+                    return;
+                }
                 double maximum = maxes.get(0);
                 for (int doc = min; doc < max; doc++) {
                     if (values.advanceExact(doc)) {
@@ -34,4 +34,12 @@ public abstract class MetricAggregatorFactory extends ValuesSourceAggregatorFact
     }
 
     public abstract MetricStat getMetricStat();
+
+    /**
+     * Returns whether the aggregation, as configured, can be answered from the pre-aggregated star-tree metric. Sketch
+     * metrics are pre-aggregated with fixed parameters, so aggregations asking for others fall back to the documents.
+     */
+    public boolean supportsStarTree() {
+        return true;
+    }
 }
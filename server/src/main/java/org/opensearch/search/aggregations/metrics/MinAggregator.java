@@ -154,6 +154,7 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues allValues = valuesSource.doubleValues(ctx);
         final NumericDoubleValues values = MultiValueMode.MIN.select(allValues);
+        final DoubleValuesBlock block = DoubleValuesBlock.isEnabled() ? new DoubleValuesBlock(false, true, false) : null;
         return new LeafBucketCollectorBase(sub, allValues) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -169,6 +170,13 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growMins(bucket);
+                if (block != null) {
+                    block.reset(null, mins.get(bucket), mins.get(bucket));
+                    stream.forEach((doc) -> block.add(values, doc));
+                    block.flush();
+                    mins.set(bucket, block.min());
+                    return;
+                }
                 final double[] min = { mins.get(bucket) };
                 stream.forEach((doc) -> {
                     if (values.advanceExact(doc)) {
@@ -181,6 +189,15 @@ class MinAggregator extends NumericMetricsAggregator.SingleValue implements Star
             @Override
             public void collectRange(int min, int max) throws IOException {
                 growMins(0);
+                if (block != null) {
+                    block.reset(null, mins.get(0), mins.get(0));
+                    for (int doc = min; doc < max; doc++) {
+                        block.add(values, doc);
+                    }
+                    block.flush();
+                    mins.set(0, block.min());
+                    return;
+                }
                 double minimum = mins.get(0);
                 for (int doc = min; doc < max; doc++) {
                     if (values.advanceExact(doc)) {
@@ -0,0 +1,295 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Single bucket HLL++ sketch backed by plain java arrays, for sketches that are kept in large numbers, such as one per
+ * star-tree document. Unlike {@link HyperLogLogPlusPlus}, which reserves the full register array of each bucket up front,
+ * the linear counting hash set starts small and grows with the number of distinct values, and the registers are only
+ * allocated once the sketch switches to HyperLogLog. The serialized form is the one of {@link AbstractHyperLogLogPlusPlus},
+ * so sketches can be merged into any other HLL++ implementation of the same precision.
+ *
+ * @opensearch.internal
+ */
+public final class OnHeapHyperLogLogPlusPlus extends AbstractHyperLogLogPlusPlus {
+
+    private static final float MAX_LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final LinearCounting lc;
+    private HyperLogLog hll;
+
+    public OnHeapHyperLogLogPlusPlus(int precision) {
+        super(precision);
+        this.lc = new LinearCounting(precision);
+    }
+
+    private OnHeapHyperLogLogPlusPlus(OnHeapHyperLogLogPlusPlus other) {
+        super(other.precision());
+        this.lc = other.hll == null ? new LinearCounting(other.lc) : new LinearCounting(other.precision());
+        this.hll = other.hll == null ? null : new HyperLogLog(other.hll);
+    }
+
+    /**
+     * Returns a deep copy of this sketch.
+     */
+    public OnHeapHyperLogLogPlusPlus copy() {
+        return new OnHeapHyperLogLogPlusPlus(this);
+    }
+
+    @Override
+    public long maxOrd() {
+        return 1;
+    }
+
+    @Override
+    public long cardinality(long bucketOrd) {
+        assert bucketOrd == 0;
+        return hll == null ? lc.cardinality(0) : hll.cardinality(0);
+    }
+
+    @Override
+    protected boolean getAlgorithm(long bucketOrd) {
+        assert bucketOrd == 0;
+        return hll == null ? LINEAR_COUNTING : HYPERLOGLOG;
+    }
+
+    @Override
+    protected AbstractLinearCounting.HashesIterator getLinearCounting(long bucketOrd) {
+        assert bucketOrd == 0;
+        return lc.values(0);
+    }
+
+    @Override
+    protected AbstractHyperLogLog.RunLenIterator getHyperLogLog(long bucketOrd) {
+        assert bucketOrd == 0;
+        return hll.getRunLens(0);
+    }
+
+    @Override
+    public void collect(long bucketOrd, long hash) {
+        assert bucketOrd == 0;
+        if (hll == null) {
+            if (lc.collect(0, hash) > lc.threshold) {
+                upgradeToHll();
+            }
+        } else {
+            hll.collect(0, hash);
+        }
+    }
+
+    /**
+     * Merges the given bucket of another sketch of the same precision into this sketch.
+     */
+    public void merge(AbstractHyperLogLogPlusPlus other, long otherBucket) {
+        if (precision() != other.precision()) {
+            throw new IllegalArgumentException(
+                "Cannot merge HLL++ sketches with different precision: " + precision() + " vs " + other.precision()
+            );
+        }
+        if (other.getAlgorithm(otherBucket) == LINEAR_COUNTING) {
+            final AbstractLinearCounting.HashesIterator values = other.getLinearCounting(otherBucket);
+            while (values.next()) {
+                addEncoded(values.value());
+            }
+        } else {
+            if (hll == null) {
+                upgradeToHll();
+            }
+            final AbstractHyperLogLog.RunLenIterator runLens = other.getHyperLogLog(otherBucket);
+            for (int i = 0; i < hll.m; ++i) {
+                runLens.next();
+                hll.addRunLen(0, i, runLens.value());
+            }
+        }
+    }
+
+    private void addEncoded(int encoded) {
+        if (hll == null) {
+            if (lc.addEncoded(0, encoded) > lc.threshold) {
+                upgradeToHll();
+            }
+        } else {
+            hll.collectEncoded(0, encoded);
+        }
+    }
+
+    private void upgradeToHll() {
+        hll = new HyperLogLog(precision());
+        final AbstractLinearCounting.HashesIterator hashes = lc.values(0);
+        while (hashes.next()) {
+            hll.collectEncoded(0, hashes.value());
+        }
+        lc.clear();
+    }
+
+    @Override
+    public void close() {}
+
+    /**
+     * Reads a sketch written by {@link #writeTo}.
+     */
+    public static OnHeapHyperLogLogPlusPlus readFrom(StreamInput in) throws IOException {
+        final int precision = in.readVInt();
+        final OnHeapHyperLogLogPlusPlus counts = new OnHeapHyperLogLogPlusPlus(precision);
+        final boolean algorithm = in.readBoolean();
+        if (algorithm == LINEAR_COUNTING) {
+            final long size = in.readVLong();
+            for (long i = 0; i < size; ++i) {
+                counts.addEncoded(in.readInt());
+            }
+        } else {
+            counts.hll = new HyperLogLog(precision);
+            for (int i = 0; i < counts.hll.m; ++i) {
+                counts.hll.addRunLen(0, i, in.readByte());
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Open addressing hash set of encoded hashes that grows with the number of distinct values, up to the same
+     * threshold as the linear counting of {@link HyperLogLogPlusPlus}.
+     */
+    private static class LinearCounting extends AbstractLinearCounting implements AbstractLinearCounting.HashesIterator {
+
+        private final int threshold;
+        private int[] hashes;
+        private int size;
+        private int pos;
+
+        LinearCounting(int p) {
+            super(p);
+            this.threshold = (int) (((1 << p) / 4) * MAX_LOAD_FACTOR);
+            this.hashes = new int[INITIAL_CAPACITY];
+        }
+
+        LinearCounting(LinearCounting other) {
+            super(other.precision());
+            this.threshold = other.threshold;
+            this.hashes = other.hashes.clone();
+            this.size = other.size;
+        }
+
+        @Override
+        protected int addEncoded(long bucketOrd, int encoded) {
+            assert encoded != 0;
+            if (add(hashes, encoded) == false) {
+                return -1;
+            }
+            if (++size > hashes.length * MAX_LOAD_FACTOR) {
+                final int[] grown = new int[hashes.length << 1];
+                for (int hash : hashes) {
+                    if (hash != 0) {
+                        add(grown, hash);
+                    }
+                }
+                hashes = grown;
+            }
+            return size;
+        }
+
+        private static boolean add(int[] table, int encoded) {
+            final int mask = table.length - 1;
+            for (int i = encoded & mask;; i = (i + 1) & mask) {
+                if (table[i] == 0) {
+                    table[i] = encoded;
+                    return true;
+                } else if (table[i] == encoded) {
+                    return false;
+                }
+            }
+        }
+
+        void clear() {
+            hashes = new int[0];
+            size = 0;
+        }
+
+        @Override
+        protected int size(long bucketOrd) {
+            return size;
+        }
+
+        @Override
+        protected HashesIterator values(long bucketOrd) {
+            pos = 0;
+            return this;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean next() {
+            while (pos < hashes.length) {
+                if (hashes[pos++] != 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int value() {
+            return hashes[pos - 1];
+        }
+    }
+
+    /**
+     * HyperLogLog registers of a single bucket.
+     */
+    private static class HyperLogLog extends AbstractHyperLogLog implements AbstractHyperLogLog.RunLenIterator {
+
+        private final byte[] runLens;
+        private int pos;
+
+        HyperLogLog(int p) {
+            super(p);
+            this.runLens = new byte[m];
+        }
+
+        HyperLogLog(HyperLogLog other) {
+            super(other.precision());
+            this.runLens = Arrays.copyOf(other.runLens, other.runLens.length);
+        }
+
+        @Override
+        protected void addRunLen(long bucketOrd, int register, int runLen) {
+            runLens[register] = (byte) Math.max(runLen, runLens[register]);
+        }
+
+        @Override
+        protected RunLenIterator getRunLens(long bucketOrd) {
+            pos = 0;
+            return this;
+        }
+
+        @Override
+        public boolean next() {
+            if (pos < m) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public byte value() {
+            return runLens[pos - 1];
+        }
+    }
+}
@@ -103,6 +103,7 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBlock block = DoubleValuesBlock.isEnabled() ? new DoubleValuesBlock(true, true, true) : null;
 
         return new LeafBucketCollectorBase(sub, values) {
             @Override
@@ -132,6 +133,14 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 growStats(bucket);
 
+                if (block != null) {
+                    block.reset(kahanSummation, mins.get(bucket), maxes.get(bucket));
+                    stream.forEach((doc) -> block.add(values, doc));
+                    block.flush();
+                    setBlockStats(bucket);
+                    return;
+                }
+
                 double[] min = { mins.get(bucket) };
                 double[] max = { maxes.get(bucket) };
                 stream.forEach((doc) -> {
@@ -157,6 +166,16 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
             public void collectRange(int min, int max) throws IOException {
                 growStats(0);
 
+                if (block != null) {
+                    block.reset(kahanSummation, mins.get(0), maxes.get(0));
+                    for (int doc = min; doc < max; doc++) {
+                        block.add(values, doc);
+                    }
+                    block.flush();
+                    setBlockStats(0);
+                    return;
+                }
+
                 double minimum = mins.get(0);
                 double maximum = maxes.get(0);
                 for (int doc = min; doc < max; doc++) {
@@ -178,6 +197,14 @@ class StatsAggregator extends NumericMetricsAggregator.MultiValue {
                 maxes.set(0, maximum);
             }
 
+            private void setBlockStats(long bucket) {
+                counts.increment(bucket, block.count());
+                sums.set(bucket, kahanSummation.value());
+                compensations.set(bucket, kahanSummation.delta());
+                mins.set(bucket, block.min());
+                maxes.set(bucket, block.max());
+            }
+
             private void growStats(long bucket) {
                 if (bucket >= counts.size()) {
                     final long from = counts.size();
@@ -120,6 +120,7 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
         final BigArrays bigArrays = context.bigArrays();
         final SortedNumericDoubleValues values = valuesSource.doubleValues(ctx);
         final CompensatedSum kahanSummation = new CompensatedSum(0, 0);
+        final DoubleValuesBlock block = DoubleValuesBlock.isEnabled() ? new DoubleValuesBlock(true, false, false) : null;
         return new LeafBucketCollectorBase(sub, values) {
             @Override
             public void collect(int doc, long bucket) throws IOException {
@@ -137,13 +138,19 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
             @Override
             public void collect(DocIdStream stream, long bucket) throws IOException {
                 setKahanSummation(bucket);
-                stream.forEach((doc) -> {
-                    if (values.advanceExact(doc)) {
-                        for (int i = 0; i < values.docValueCount(); i++) {
-                            kahanSummation.add(values.nextValue());
+                if (block != null) {
+                    block.reset(kahanSummation, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                    stream.forEach((doc) -> block.add(values, doc));
+                    block.flush();
+                } else {
+                    stream.forEach((doc) -> {
+                        if (values.advanceExact(doc)) {
+                            for (int i = 0; i < values.docValueCount(); i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
-                    }
-                });
+                    });
+                }
                 compensations.set(bucket, kahanSummation.delta());
                 sums.set(bucket, kahanSummation.value());
             }
@@ -151,10 +158,18 @@ public class SumAggregator extends NumericMetricsAggregator.SingleValue implemen
             @Override
             public void collectRange(int min, int max) throws IOException {
                 setKahanSummation(0);
-                for (int docId = min; docId < max; docId++) {
-                    if (values.advanceExact(docId)) {
-                        for (int i = 0; i < values.docValueCount(); i++) {
-                            kahanSummation.add(values.nextValue());
+                if (block != null) {
+                    block.reset(kahanSummation, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+                    for (int docId = min; docId < max; docId++) {
+                        block.add(values, docId);
+                    }
+                    block.flush();
+                } else {
+                    for (int docId = min; docId < max; docId++) {
+                        if (values.advanceExact(docId)) {
+                            for (int i = 0; i < values.docValueCount(); i++) {
+                                kahanSummation.add(values.nextValue());
+                            }
                         }
                     }
                 }
@@ -0,0 +1,158 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import com.tdunning.math.stats.Centroid;
+import com.tdunning.math.stats.TDigest;
+
+/**
+ * Compact t-digest for digests that are kept in large numbers, such as one per star-tree document. A {@link TDigestState}
+ * allocates its merge buffers up front, which costs kilobytes even for a digest of a handful of values, while this only
+ * keeps the centroids in two arrays sized to their number. Centroids are appended as they come, and the digest is
+ * compressed through a {@link TDigestState} once they exceed a small multiple of the compression.
+ *
+ * @opensearch.internal
+ */
+public final class TDigestSketch {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private final double compression;
+    private final int maxCentroids;
+    private double[] means;
+    private int[] counts;
+    private int size;
+
+    public TDigestSketch(double compression) {
+        this(compression, INITIAL_CAPACITY);
+    }
+
+    private TDigestSketch(double compression, int capacity) {
+        this.compression = compression;
+        this.maxCentroids = Math.max(INITIAL_CAPACITY, (int) Math.ceil(4 * compression));
+        this.means = new double[capacity];
+        this.counts = new int[capacity];
+    }
+
+    public double compression() {
+        return compression;
+    }
+
+    /**
+     * Returns the number of centroids of this digest.
+     */
+    public int centroidCount() {
+        return size;
+    }
+
+    /**
+     * Returns the number of values added to this digest.
+     */
+    public long size() {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            total += counts[i];
+        }
+        return total;
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    /**
+     * Adds a centroid with the given mean and number of values.
+     */
+    public void add(double mean, int count) {
+        if (size == means.length) {
+            if (size >= maxCentroids) {
+                compress();
+            }
+            if (size == means.length) {
+                final int capacity = Math.min(maxCentroids, size << 1);
+                means = Arrays.copyOf(means, capacity);
+                counts = Arrays.copyOf(counts, capacity);
+            }
+        }
+        means[size] = mean;
+        counts[size] = count;
+        size++;
+    }
+
+    /**
+     * Adds the centroids of another digest to this digest.
+     */
+    public void merge(TDigestSketch other) {
+        for (int i = 0; i < other.size; i++) {
+            add(other.means[i], other.counts[i]);
+        }
+    }
+
+    /**
+     * Adds the centroids of this digest to the given digest.
+     */
+    public void addTo(TDigest digest) {
+        for (int i = 0; i < size; i++) {
+            digest.add(means[i], counts[i]);
+        }
+    }
+
+    /**
+     * Returns a deep copy of this digest.
+     */
+    public TDigestSketch copy() {
+        final TDigestSketch copy = new TDigestSketch(compression, Math.max(INITIAL_CAPACITY, size));
+        System.arraycopy(means, 0, copy.means, 0, size);
+        System.arraycopy(counts, 0, copy.counts, 0, size);
+        copy.size = size;
+        return copy;
+    }
+
+    private void compress() {
+        final TDigestState digest = new TDigestState(compression);
+        addTo(digest);
+        digest.compress();
+        size = 0;
+        for (Centroid centroid : digest.centroids()) {
+            means[size] = centroid.mean();
+            counts[size] = centroid.count();
+            size++;
+        }
+    }
+
+    public void writeTo(StreamOutput out) throws IOException {
+        if (size > compression) {
+            compress();
+        }
+        out.writeDouble(compression);
+        out.writeVInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeDouble(means[i]);
+            out.writeVInt(counts[i]);
+        }
+    }
+
+    public static TDigestSketch readFrom(StreamInput in) throws IOException {
+        final double compression = in.readDouble();
+        final int size = in.readVInt();
+        final TDigestSketch sketch = new TDigestSketch(compression, Math.max(INITIAL_CAPACITY, size));
+        for (int i = 0; i < size; i++) {
+            sketch.means[i] = in.readDouble();
+            sketch.counts[i] = in.readVInt();
+        }
+        sketch.size = size;
+        return sketch;
+    }
+}
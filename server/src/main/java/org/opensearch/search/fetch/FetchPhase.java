@@ -90,6 +90,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -105,6 +106,11 @@ import static java.util.Collections.emptyMap;
 public class FetchPhase {
     private static final Logger LOGGER = LogManager.getLogger(FetchPhase.class);
 
+    // minimum number of docs to fetch from a segment before we use the stored fields reader optimized for sequential access
+    private static final int MIN_DOCS_FOR_SEQUENTIAL_READER = 10;
+    // maximum average gap between the docs to fetch from a segment for them to be considered neighbours
+    private static final int MAX_AVERAGE_DOC_GAP = 4;
+
     private final FetchSubPhase[] fetchSubPhases;
 
     public FetchPhase(List<FetchSubPhase> fetchSubPhases) {
@@ -130,9 +136,7 @@ public class FetchPhase {
             LOGGER.trace("{}", new SearchContextSourcePrinter(context));
         }
 
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-        }
+        ensureNotCancelled(context);
 
         if (context.docIdsToLoadSize() == 0) {
             // no individual hits to process, so we shortcut
@@ -155,112 +159,314 @@ public class FetchPhase {
             () -> createStoredFieldsVisitor(context, storedToRequestedFields)
         );
 
-        FetchContext fetchContext = new FetchContext(context);
-
         SearchHit[] hits = new SearchHit[context.docIdsToLoadSize()];
 
+        if (canFetchConcurrently(context, docs)) {
+            executeConcurrently(context, profileDescription, docs, fieldsVisitor, storedToRequestedFields, hits);
+        } else {
+            executeSequentially(context, profileDescription, breakdown, docs, fieldsVisitor, storedToRequestedFields, hits);
+        }
+        ensureNotCancelled(context);
+
+        TotalHits totalHits = context.queryResult().getTotalHits();
+        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+
+        if (fetchProfiler != null) {
+            fetchProfiler.endFetchPhase(profileDescription);
+        }
+    }
+
+    private void executeSequentially(
+        SearchContext context,
+        String profileDescription,
+        FetchProfileBreakdown breakdown,
+        DocIdToIndex[] docs,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        FetchContext fetchContext = new FetchContext(context);
+
         List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
             breakdown,
             FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
             () -> getProcessors(context.shardTarget(), fetchContext)
         );
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = startSubPhases(
+            context,
+            breakdown,
+            processors,
+            profileDescription
+        );
 
-        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
-        if (breakdown != null) {
-            for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                if (p.v2() instanceof InnerHitsPhase == false) {
-                    FetchProfileBreakdown pb = context.getProfilers()
-                        .getFetchProfiler()
-                        .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
-                    processorProfiles.put(p.v1(), pb);
-                }
-            }
-        }
-
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
         int currentReaderIndex = -1;
         LeafReaderContext currentReaderContext = null;
         CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader = null;
-        boolean hasSequentialDocs = hasSequentialDocs(docs);
-        for (int index = 0; index < context.docIdsToLoadSize(); index++) {
-            if (context.isCancelled()) {
-                throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
-            }
+        boolean hasSequentialDocs = hasSequentialDocs(docs) && docs.length >= MIN_DOCS_FOR_SEQUENTIAL_READER;
+        for (int index = 0; index < docs.length; index++) {
+            ensureNotCancelled(context);
             int docId = docs[index].docId;
             try {
-                int readerIndex = ReaderUtil.subIndex(docId, context.searcher().getIndexReader().leaves());
+                int readerIndex = ReaderUtil.subIndex(docId, leaves);
                 if (currentReaderIndex != readerIndex) {
-                    currentReaderContext = profile(
-                        breakdown,
-                        FetchTimingType.GET_NEXT_READER,
-                        () -> context.searcher().getIndexReader().leaves().get(readerIndex)
-                    );
+                    currentReaderContext = profile(breakdown, FetchTimingType.GET_NEXT_READER, () -> leaves.get(readerIndex));
                     currentReaderIndex = readerIndex;
-                    if (currentReaderContext.reader() instanceof SequentialStoredFieldsLeafReader lf
-                        && hasSequentialDocs
-                        && docs.length >= 10) {
-                        // All the docs to fetch are adjacent but Lucene stored fields are optimized
-                        // for random access and don't optimize for sequential access - except for merging.
-                        // So we do a little hack here and pretend we're going to do merges in order to
-                        // get better sequential access.
-                        StoredFieldsReader sequentialReader;
-                        // For scroll queries, try to get cached reader
-                        if (context.scrollContext() != null) {
-                            // To get a unique identifier for this segment to use as a cache key
-                            Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : currentReaderContext;
-                            sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
-                            if (sequentialReader == null) {
-                                sequentialReader = lf.getSequentialStoredFieldsReader();
-                                context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
-                            }
-                        } else {
-                            sequentialReader = lf.getSequentialStoredFieldsReader();
-                        }
-                        fieldReader = sequentialReader::document;
-                    } else {
-                        fieldReader = currentReaderContext.reader().storedFields()::document;
-                    }
-                    for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                        FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                        LeafReaderContext readerCtx = currentReaderContext;
-                        profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
-                            p.v1().setNextReader(readerCtx);
-                            return null;
-                        });
-                    }
+                    boolean sequentialAccess = hasSequentialDocs
+                        || hasNeighbouringDocs(docs, index, leafEnd(docs, index, currentReaderContext));
+                    fieldReader = storedFieldsReader(context, currentReaderContext, sequentialAccess);
+                    setNextReader(processors, processorProfiles, currentReaderContext);
                 }
                 assert currentReaderContext != null;
-                HitContext hit = prepareHitContext(
+                hits[docs[index].index] = fetchHit(
                     context,
-                    fetchContext.searchLookup(),
+                    fetchContext,
                     fieldsVisitor,
                     docId,
                     storedToRequestedFields,
                     currentReaderContext,
                     fieldReader,
-                    breakdown
+                    breakdown,
+                    processors,
+                    processorProfiles
                 );
-
-                for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
-                    FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
-                    profile(pbd, FetchTimingType.PROCESS, () -> {
-                        p.v1().process(hit);
-                        return null;
-                    });
-                }
-                hits[docs[index].index] = hit.hit();
             } catch (Exception e) {
                 throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
             }
         }
-        if (context.isCancelled()) {
-            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
+    }
+
+    /**
+     * Fetches the hits of each segment in a separate task on the executor of the index searcher, the way concurrent segment
+     * search runs the query phase. Each task builds its own sub-phase processors and stored fields visitor, as those hold
+     * per-segment state.
+     */
+    private void executeConcurrently(
+        SearchContext context,
+        String profileDescription,
+        DocIdToIndex[] docs,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        List<Callable<Void>> tasks = new ArrayList<>();
+        int from = 0;
+        while (from < docs.length) {
+            LeafReaderContext leaf = leaves.get(ReaderUtil.subIndex(docs[from].docId, leaves));
+            int to = leafEnd(docs, from, leaf);
+            int leafFrom = from;
+            FieldsVisitor leafFieldsVisitor = tasks.isEmpty() || fieldsVisitor == null
+                ? fieldsVisitor
+                : createStoredFieldsVisitor(context, storedToRequestedFields);
+            tasks.add(() -> {
+                executeLeaf(context, profileDescription, leaf, docs, leafFrom, to, leafFieldsVisitor, storedToRequestedFields, hits);
+                return null;
+            });
+            from = to;
         }
+        try {
+            context.searcher().getTaskExecutor().invokeAll(tasks);
+        } catch (IOException e) {
+            throw new FetchPhaseExecutionException(context.shardTarget(), "Error running concurrent fetch phase", e);
+        }
+    }
 
-        TotalHits totalHits = context.queryResult().getTotalHits();
-        context.fetchResult().hits(new SearchHits(hits, totalHits, context.queryResult().getMaxScore()));
+    private void executeLeaf(
+        SearchContext context,
+        String profileDescription,
+        LeafReaderContext leaf,
+        DocIdToIndex[] docs,
+        int from,
+        int to,
+        FieldsVisitor fieldsVisitor,
+        Map<String, Set<String>> storedToRequestedFields,
+        SearchHit[] hits
+    ) {
+        // the fetch profiler keeps a separate tree per thread, so timers are never shared between tasks
+        FetchProfiler fetchProfiler = context.getProfilers() != null ? context.getProfilers().getFetchProfiler() : null;
+        FetchProfileBreakdown breakdown = fetchProfiler != null ? fetchProfiler.startFetchPhase(profileDescription) : null;
+        try {
+            FetchContext fetchContext = new FetchContext(context);
+            List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors = profile(
+                breakdown,
+                FetchTimingType.BUILD_SUB_PHASE_PROCESSORS,
+                () -> getProcessors(context.shardTarget(), fetchContext)
+            );
+            Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = startSubPhases(
+                context,
+                breakdown,
+                processors,
+                profileDescription
+            );
+            CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader;
+            try {
+                fieldReader = storedFieldsReader(context, leaf, hasNeighbouringDocs(docs, from, to));
+                setNextReader(processors, processorProfiles, leaf);
+            } catch (Exception e) {
+                throw new FetchPhaseExecutionException(
+                    context.shardTarget(),
+                    "Error running fetch phase for segment [" + leaf.ord + "]",
+                    e
+                );
+            }
+            for (int index = from; index < to; index++) {
+                ensureNotCancelled(context);
+                int docId = docs[index].docId;
+                try {
+                    hits[docs[index].index] = fetchHit(
+                        context,
+                        fetchContext,
+                        fieldsVisitor,
+                        docId,
+                        storedToRequestedFields,
+                        leaf,
+                        fieldReader,
+                        breakdown,
+                        processors,
+                        processorProfiles
+                    );
+                } catch (Exception e) {
+                    throw new FetchPhaseExecutionException(context.shardTarget(), "Error running fetch phase for doc [" + docId + "]", e);
+                }
+            }
+        } finally {
+            if (fetchProfiler != null) {
+                fetchProfiler.endFetchPhase(profileDescription);
+            }
+        }
+    }
 
-        if (fetchProfiler != null) {
-            fetchProfiler.endFetchPhase(profileDescription);
+    /**
+     * Returns <code>true</code> if the hits can be fetched with one task per segment. Inner hits are excluded because they run
+     * a nested fetch phase on a shared sub-context, and scrolls because they cache stored fields readers across requests.
+     */
+    private static boolean canFetchConcurrently(SearchContext context, DocIdToIndex[] docs) {
+        if (context.concurrentFetchEnabled() == false
+            || docs.length < context.concurrentFetchMinDocs()
+            || context.scrollContext() != null
+            || context.innerHits().getInnerHits().isEmpty() == false) {
+            return false;
+        }
+        List<LeafReaderContext> leaves = context.searcher().getIndexReader().leaves();
+        // docs are sorted, so they span several segments if the first and the last one are in different segments
+        return ReaderUtil.subIndex(docs[0].docId, leaves) != ReaderUtil.subIndex(docs[docs.length - 1].docId, leaves);
+    }
+
+    private SearchHit fetchHit(
+        SearchContext context,
+        FetchContext fetchContext,
+        FieldsVisitor fieldsVisitor,
+        int docId,
+        Map<String, Set<String>> storedToRequestedFields,
+        LeafReaderContext readerContext,
+        CheckedBiConsumer<Integer, FieldsVisitor, IOException> fieldReader,
+        FetchProfileBreakdown breakdown,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles
+    ) throws IOException {
+        HitContext hit = prepareHitContext(
+            context,
+            fetchContext.searchLookup(),
+            fieldsVisitor,
+            docId,
+            storedToRequestedFields,
+            readerContext,
+            fieldReader,
+            breakdown
+        );
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
+            profile(pbd, FetchTimingType.PROCESS, () -> {
+                p.v1().process(hit);
+                return null;
+            });
+        }
+        return hit.hit();
+    }
+
+    private static Map<FetchSubPhaseProcessor, FetchProfileBreakdown> startSubPhases(
+        SearchContext context,
+        FetchProfileBreakdown breakdown,
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        String profileDescription
+    ) {
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles = new HashMap<>();
+        if (breakdown != null) {
+            for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+                if (p.v2() instanceof InnerHitsPhase == false) {
+                    FetchProfileBreakdown pb = context.getProfilers()
+                        .getFetchProfiler()
+                        .startSubPhase(p.v2().getClass().getSimpleName(), profileDescription);
+                    processorProfiles.put(p.v1(), pb);
+                }
+            }
+        }
+        return processorProfiles;
+    }
+
+    private static void setNextReader(
+        List<Tuple<FetchSubPhaseProcessor, FetchSubPhase>> processors,
+        Map<FetchSubPhaseProcessor, FetchProfileBreakdown> processorProfiles,
+        LeafReaderContext readerContext
+    ) throws IOException {
+        for (Tuple<FetchSubPhaseProcessor, FetchSubPhase> p : processors) {
+            FetchProfileBreakdown pbd = processorProfiles.get(p.v1());
+            profile(pbd, FetchTimingType.SET_NEXT_READER, () -> {
+                p.v1().setNextReader(readerContext);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * Returns the stored fields reader for the given segment. If the docs to fetch are close to each other we use the
+     * reader that is optimized for sequential access, which decompresses each stored fields block once and reuses it for
+     * all the docs of the block, instead of decompressing the block up to each doc.
+     */
+    private static CheckedBiConsumer<Integer, FieldsVisitor, IOException> storedFieldsReader(
+        SearchContext context,
+        LeafReaderContext readerContext,
+        boolean sequentialAccess
+    ) throws IOException {
+        if (sequentialAccess && readerContext.reader() instanceof SequentialStoredFieldsLeafReader lf) {
+            // Lucene stored fields are optimized for random access and don't optimize for sequential access - except for
+            // merging. So we do a little hack here and pretend we're going to do merges in order to get better sequential
+            // access.
+            StoredFieldsReader sequentialReader;
+            // For scroll queries, try to get cached reader
+            if (context.scrollContext() != null) {
+                // To get a unique identifier for this segment to use as a cache key
+                Object segmentKey = lf.getCoreCacheHelper() != null ? lf.getCoreCacheHelper().getKey() : readerContext;
+                sequentialReader = context.scrollContext().getCachedSequentialReader(segmentKey);
+                if (sequentialReader == null) {
+                    sequentialReader = lf.getSequentialStoredFieldsReader();
+                    context.scrollContext().cacheSequentialReader(segmentKey, sequentialReader);
+                }
+            } else {
+                sequentialReader = lf.getSequentialStoredFieldsReader();
+            }
+            return sequentialReader::document;
+        }
+        return readerContext.reader().storedFields()::document;
+    }
+
+    /**
+     * Returns the index after the last doc in <code>docs</code>, starting at <code>from</code>, that belongs to the given
+     * segment.
+     */
+    private static int leafEnd(DocIdToIndex[] docs, int from, LeafReaderContext readerContext) {
+        int maxDoc = readerContext.docBase + readerContext.reader().maxDoc();
+        int to = from;
+        while (to < docs.length && docs[to].docId < maxDoc) {
+            to++;
+        }
+        return to;
+    }
+
+    private static void ensureNotCancelled(SearchContext context) {
+        if (context.isCancelled()) {
+            throw new TaskCancelledException("cancelled task with reason: " + context.getTask().getReasonCancelled());
         }
     }
 
@@ -803,6 +1009,15 @@ public class FetchPhase {
         }
     }
 
+    /**
+     * Returns <code>true</code> if the docs in <code>[from, to)</code> are
+     * close enough to each other that most of them share a stored fields block.
+     */
+    static boolean hasNeighbouringDocs(DocIdToIndex[] docs, int from, int to) {
+        int count = to - from;
+        return count >= MIN_DOCS_FOR_SEQUENTIAL_READER && docs[to - 1].docId - docs[from].docId < (long) count * MAX_AVERAGE_DOC_GAP;
+    }
+
     /**
      * Returns <code>true</code> if the provided <code>docs</code> are
      * stored sequentially (Dn = Dn-1 + 1).
@@ -412,8 +412,10 @@ public class ContextIndexSearcher extends IndexSearcher implements Releasable {
                 searchContext.shardTarget().getShardId().id()
             );
             List<InternalAggregation> internalAggregation = searchContext.bucketCollectorProcessor().buildAggBatch(collector);
-            if (!internalAggregation.isEmpty()) {
+            // aggregators bounded by a flush batch size may need several batches for one segment
+            while (internalAggregation.isEmpty() == false) {
                 sendBatch(internalAggregation);
+                internalAggregation = searchContext.bucketCollectorProcessor().buildPendingAggBatch(collector);
             }
         }
 
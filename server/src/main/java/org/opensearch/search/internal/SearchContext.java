@@ -565,6 +565,22 @@ public abstract class SearchContext implements Releasable {
         return 30_000L;
     }
 
+    /**
+     * Returns whether the fetch phase may fetch the hits of different segments in parallel
+     */
+    @ExperimentalApi
+    public boolean concurrentFetchEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns the minimum number of hits to fetch before the fetch phase is split across segments
+     */
+    @ExperimentalApi
+    public int concurrentFetchMinDocs() {
+        return SearchService.DEFAULT_CONCURRENT_FETCH_MIN_DOCS;
+    }
+
     public CardinalityAggregationContext cardinalityAggregationContext() {
         return new CardinalityAggregationContext(false, Runtime.getRuntime().maxMemory() / 100);
     }
@@ -134,6 +134,11 @@ public class ProfilingAggregator extends Aggregator implements ProfilingWrapper<
         super.reset();
     }
 
+    @Override
+    public boolean hasPendingBatch() {
+        return delegate.hasPendingBatch();
+    }
+
     @Override
     public void preCollection() throws IOException {
         this.profileBreakdown = profiler.getQueryBreakdown(delegate);
@@ -18,6 +18,7 @@ import java.util.Set;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Simplified profiling tree for fetch phase operations. Each fetch phase is
@@ -59,7 +60,8 @@ class FlatFetchProfileTree {
         }
     }
 
-    private final List<Node> roots = new ArrayList<>();
+    // fetch phases that run concurrently on different threads each add their own root
+    private final List<Node> roots = new CopyOnWriteArrayList<>();
     private final ConcurrentMap<String, Node> rootsMap = new ConcurrentHashMap<>();
     private final ConcurrentMap<String, Node> phaseMap = new ConcurrentHashMap<>();
 
@@ -22,7 +22,7 @@ import org.opensearch.index.mapper.CompositeDataCubeFieldType;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramAggregatorFactory;
-import org.opensearch.search.aggregations.bucket.range.RangeAggregatorFactory;
+import org.opensearch.search.aggregations.bucket.range.AbstractRangeAggregatorFactory;
 import org.opensearch.search.aggregations.bucket.terms.MultiTermsAggregationFactory;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
@@ -145,7 +145,10 @@ public class StarTreeQueryContext {
             MetricStat metricStat = metricAggregatorFactory.getMetricStat();
             field = metricAggregatorFactory.getField();
 
-            return field != null && supportedMetrics.containsKey(field) && supportedMetrics.get(field).contains(metricStat);
+            return field != null
+                && supportedMetrics.containsKey(field)
+                && supportedMetrics.get(field).contains(metricStat)
+                && metricAggregatorFactory.supportsStarTree();
         }
         return false;
     }
@@ -163,13 +166,18 @@ public class StarTreeQueryContext {
 
     private static boolean validateRangeAggregationSupport(
         CompositeDataCubeFieldType compositeIndexFieldInfo,
-        RangeAggregatorFactory rangeAggregatorFactory
+        AbstractRangeAggregatorFactory<?> rangeAggregatorFactory
     ) {
-        // Validate request field is part of dimensions & is a numeric field
-        // TODO: Add support for date type ranges
-        return compositeIndexFieldInfo.getDimensions()
-            .stream()
-            .anyMatch(dimension -> rangeAggregatorFactory.getField().equals(dimension.getField()) && dimension instanceof NumericDimension);
+        // Validate request field is part of dimensions & is a numeric field, or a date field whose ranges can be
+        // resolved on one of its intervals
+        Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(
+            rangeAggregatorFactory.getField(),
+            compositeIndexFieldInfo.getDimensions()
+        );
+        if (dimension instanceof DateDimension dateDimension) {
+            return StarTreeQueryHelper.getDateRangeSubDimension(dateDimension, rangeAggregatorFactory.getRanges()) != null;
+        }
+        return dimension instanceof NumericDimension;
     }
 
     private StarTreeFilter getStarTreeFilter(
@@ -197,19 +205,17 @@ public class StarTreeQueryContext {
             return false;
         }
 
-        // Find the DateDimension in the dimensions list
-        DateDimension starTreeDateDimension = null;
-        for (Dimension dimension : compositeIndexFieldInfo.getDimensions()) {
-            if (dimension instanceof DateDimension dateDimension) {
-                starTreeDateDimension = dateDimension;
-                break;
-            }
-        }
+        // Find the DateDimension of the histogram field in the dimensions list
+        Dimension dimension = StarTreeQueryHelper.getMatchingDimensionOrNull(
+            dateHistogramAggregatorFactory.getField(),
+            compositeIndexFieldInfo.getDimensions()
+        );
 
         // If no DateDimension is found, validation fails
-        if (starTreeDateDimension == null) {
+        if (dimension instanceof DateDimension == false) {
             return false;
         }
+        DateDimension starTreeDateDimension = (DateDimension) dimension;
 
         // Ensure the rounding is not null
         if (dateHistogramAggregatorFactory.getRounding() == null) {
@@ -218,7 +224,9 @@ public class StarTreeQueryContext {
 
         // Find the closest valid interval in the DateTimeUnitRounding class associated with star tree
         DateTimeUnitRounding rounding = starTreeDateDimension.findClosestValidInterval(
-            new DateTimeUnitAdapter(dateHistogramAggregatorFactory.getRounding())
+            new DateTimeUnitAdapter(dateHistogramAggregatorFactory.getRounding()),
+            dateHistogramAggregatorFactory.getTimeZone(),
+            dateHistogramAggregatorFactory.getOffset()
         );
         if (rounding == null) {
             return false;
@@ -253,7 +261,7 @@ public class StarTreeQueryContext {
                 compositeIndexFieldInfo,
                 dateHistogramAggregatorFactory
             );
-            case RangeAggregatorFactory rangeAggregatorFactory -> isValid = validateRangeAggregationSupport(
+            case AbstractRangeAggregatorFactory<?> rangeAggregatorFactory -> isValid = validateRangeAggregationSupport(
                 compositeIndexFieldInfo,
                 rangeAggregatorFactory
             );
@@ -11,20 +11,27 @@ package org.opensearch.search.startree;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SegmentReader;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.FixedBitSet;
+import org.opensearch.common.CheckedBiConsumer;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
 import org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitRounding;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
 import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
 import org.opensearch.index.mapper.DocCountFieldMapper;
 import org.opensearch.index.query.QueryShardContext;
 import org.opensearch.search.aggregations.Aggregator;
 import org.opensearch.search.aggregations.StarTreeBucketCollector;
 import org.opensearch.search.aggregations.StarTreePreComputeCollector;
+import org.opensearch.search.aggregations.bucket.range.RangeAggregator;
 import org.opensearch.search.aggregations.support.ValuesSource;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.startree.filter.DimensionFilter;
@@ -114,6 +121,38 @@ public class StarTreeQueryHelper {
         finalConsumer.run();
     }
 
+    /**
+     * Precomputes a sketch metric, such as cardinality or percentiles, from the star-tree: the serialized sketch of every
+     * matching star-tree entry is handed to the consumer, which merges it into the aggregator's own sketch.
+     */
+    public static void precomputeLeafUsingStarTreeSketch(
+        SearchContext context,
+        ValuesSource.Numeric valuesSource,
+        LeafReaderContext ctx,
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        CheckedConsumer<BytesRef, IOException> sketchConsumer
+    ) throws IOException {
+        StarTreeValues starTreeValues = getStarTreeValues(ctx, starTree);
+        assert starTreeValues != null;
+        String fieldName = ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName();
+        String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(starTree.getField(), fieldName, metric);
+
+        BinaryStarTreeValuesIterator valuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(metricName);
+        FixedBitSet filteredValues = getStarTreeFilteredValues(context, ctx, starTreeValues);
+
+        int numBits = filteredValues.length();
+        if (numBits > 0) {
+            for (int bit = filteredValues.nextSetBit(0); bit != DocIdSetIterator.NO_MORE_DOCS; bit = (bit + 1 < numBits)
+                ? filteredValues.nextSetBit(bit + 1)
+                : DocIdSetIterator.NO_MORE_DOCS) {
+                if (valuesIterator.advanceExact(bit)) {
+                    sketchConsumer.accept(valuesIterator.binaryValue());
+                }
+            }
+        }
+    }
+
     /**
      * Get the filtered values for the star-tree query
      * Cache the results in case of multiple aggregations (if cache is initialized)
@@ -149,6 +188,34 @@ public class StarTreeQueryHelper {
         return matchingDimensions.get(0);
     }
 
+    /**
+     * Returns the sub-dimension of the date dimension that range buckets can be resolved on: the one of the coarsest
+     * interval that all range bounds are aligned to, as its values are then within a range exactly when the unrounded
+     * timestamps are. Returns null if the bounds are not aligned to any interval of the dimension.
+     */
+    public static String getDateRangeSubDimension(DateDimension dateDimension, RangeAggregator.Range[] ranges) {
+        long[] bounds = new long[ranges.length * 2];
+        for (int i = 0; i < ranges.length; i++) {
+            Long from = toEpochMillisBound(ranges[i].getFrom(), Long.MIN_VALUE);
+            Long to = toEpochMillisBound(ranges[i].getTo(), Long.MAX_VALUE);
+            if (from == null || to == null) {
+                return null;
+            }
+            bounds[2 * i] = from;
+            bounds[2 * i + 1] = to;
+        }
+        DateTimeUnitRounding interval = dateDimension.findCoarsestAlignedInterval(bounds);
+        return interval == null ? null : dateDimension.getField() + "_" + interval.shortName();
+    }
+
+    private static Long toEpochMillisBound(double bound, long unbounded) {
+        if (Double.isInfinite(bound)) {
+            return unbounded;
+        }
+        long millis = (long) bound;
+        return millis == bound ? millis : null;
+    }
+
     public static StarTreeBucketCollector getStarTreeBucketMetricCollector(
         CompositeIndexFieldInfo starTree,
         String metric,
@@ -180,6 +247,40 @@ public class StarTreeQueryHelper {
         };
     }
 
+    /**
+     * Like {@link #getStarTreeBucketMetricCollector} for sketch metrics, handing the serialized sketch of each matching
+     * star-tree entry to the bucket update.
+     */
+    public static StarTreeBucketCollector getStarTreeBucketSketchCollector(
+        CompositeIndexFieldInfo starTree,
+        String metric,
+        ValuesSource.Numeric valuesSource,
+        StarTreeBucketCollector parentCollector,
+        Consumer<Long> growArrays,
+        CheckedBiConsumer<Long, BytesRef, IOException> updateBucket
+    ) throws IOException {
+        assert parentCollector != null;
+        return new StarTreeBucketCollector(parentCollector) {
+            String metricName = StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues(
+                starTree.getField(),
+                ((ValuesSource.Numeric.FieldData) valuesSource).getIndexFieldName(),
+                metric
+            );
+            BinaryStarTreeValuesIterator metricValuesIterator = (BinaryStarTreeValuesIterator) starTreeValues.getMetricValuesIterator(
+                metricName
+            );
+
+            @Override
+            public void collectStarTreeEntry(int starTreeEntryBit, long bucket) throws IOException {
+                growArrays.accept(bucket);
+                if (metricValuesIterator.advanceExact(starTreeEntryBit) == false) {
+                    return;
+                }
+                updateBucket.accept(bucket, metricValuesIterator.binaryValue());
+            }
+        };
+    }
+
     /**
      * Fetches the metric values iterator for document counts from StarTreeValues.
      */
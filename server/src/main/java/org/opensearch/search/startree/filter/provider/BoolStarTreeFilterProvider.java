@@ -55,6 +55,9 @@ public class BoolStarTreeFilterProvider implements StarTreeFilterProvider {
         if (boolQuery.minimumShouldMatch() != null) {
             return null; // We cannot support this yet and would need special handling while processing SHOULD clause
         }
+        if (boolQuery.mustNot().isEmpty() == false) {
+            return null; // Excluding values is not supported, and ignoring the clause alongside MUST clauses would over-match
+        }
         if (boolQuery.must().isEmpty() == false || boolQuery.filter().isEmpty() == false) {
             return processMustClauses(getCombinedMustAndFilterClauses(boolQuery), context, compositeFieldType);
         }
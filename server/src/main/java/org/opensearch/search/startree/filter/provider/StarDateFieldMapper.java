@@ -101,30 +101,11 @@ class StarDateFieldMapper implements DimensionFilterMapper {
         }
 
         // Find the matching interval - preferring the highest possible interval for query optimization
-        List<DateTimeUnitRounding> intervals = dateDimension.getSortedCalendarIntervals().reversed();
-        DateTimeUnitRounding matchingInterval = null;
-
-        for (DateTimeUnitRounding interval : intervals) {
-            // OpenSearch rounds up to the last millisecond in the rounding interval.
-            // So for example, closed-interval [l=2022-05-31T23:00:00.000, u=2022-05-31T23:59:59.999]
-            // (equivalent to half-open interval [l=2022-05-31T23:00:00.000, u+1=2022-06-01T00:00:00.000))
-            // can be resolved by star-tree 'hour' interval.
-            // To verify the above case, we check whether:
-            // 1/ l = 2022-05-31T23:00:00.000 is to the nearest 'hour' or not
-            // 2/ u+1 = 2022-06-01T00:00:00.000 is to the nearest 'hour' or not.
-
-            // Check if l is start of star-tree interval
-            boolean roundedLowMatches = l == Long.MIN_VALUE || interval.roundFloor(l) == l;
-
-            // Check if u+1 is the start of star-tree interval compared to u
-            boolean roundedHighMatches = u == Long.MAX_VALUE || interval.roundFloor(u + 1) == u + 1;
-
-            // If both bounds can be resolved by this star-tree interval, we have an exact match for this interval
-            if (roundedLowMatches && roundedHighMatches) {
-                matchingInterval = interval;
-                break; // Found the most granular matching interval
-            }
-        }
+        // OpenSearch rounds up to the last millisecond in the rounding interval.
+        // So for example, closed-interval [l=2022-05-31T23:00:00.000, u=2022-05-31T23:59:59.999]
+        // (equivalent to half-open interval [l=2022-05-31T23:00:00.000, u+1=2022-06-01T00:00:00.000))
+        // can be resolved by star-tree 'hour' interval, as both l and u+1 are to the nearest 'hour'.
+        DateTimeUnitRounding matchingInterval = dateDimension.findCoarsestAlignedInterval(l, u == Long.MAX_VALUE ? u : u + 1);
 
         if (matchingInterval == null) {
             return null; // No matching interval found, fall back to default implementation
@@ -43,6 +43,20 @@ public final class FlushModeResolver {
         Setting.Property.IndexScope
     );
 
+    /**
+     * Maximum number of buckets a streaming terms aggregation builds per flushed batch.
+     * When greater than 0, streaming terms aggregations skip the per-segment topN cut and flush every
+     * bucket of a segment, sorted by key, in batches of at most this many buckets, so the coordinator
+     * can merge exact counts. Default is 0, which keeps the per-segment topN.
+     */
+    public static final Setting<Integer> STREAMING_AGGREGATION_TERMS_FLUSH_BATCH_SIZE_SETTING = Setting.intSetting(
+        "index.aggregation.streaming.terms_flush_batch_size",
+        0,
+        0,
+        Setting.Property.Dynamic,
+        Setting.Property.IndexScope
+    );
+
     /**
      * Maximum estimated bucket count allowed for streaming aggregations.
      * If an aggregation is estimated to produce more buckets than this threshold,
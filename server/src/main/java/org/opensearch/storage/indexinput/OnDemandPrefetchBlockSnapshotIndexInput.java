@@ -41,6 +41,15 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
     protected final String resourceDescription;
     private static final Logger logger = LogManager.getLogger(OnDemandPrefetchBlockSnapshotIndexInput.class);
 
+    /** Block last fetched through this input, used to tell sequential from random access */
+    private int lastFetchedBlockId = -1;
+    /** Current read-ahead window in blocks, doubled on every sequential fetch up to the configured block count */
+    private int readAheadWindow = 0;
+    /** Number of consecutive non-sequential fetches, access is only taken as random from the second one */
+    private int numRandomFetches = 0;
+    /** Highest block already requested by read-ahead, so overlapping windows are not requested twice */
+    private int readAheadLimit = -1;
+
     public OnDemandPrefetchBlockSnapshotIndexInput(
         String resourceDescription,
         BlobStoreIndexShardSnapshot.FileInfo fileInfo,
@@ -108,19 +117,40 @@ public class OnDemandPrefetchBlockSnapshotIndexInput extends OnDemandBlockSnapsh
         );
     }
 
+    /**
+     * Reads ahead the blocks following {@code blockId}. The first fetch, and a single jump elsewhere, read ahead the
+     * configured read-ahead block count, as a reader often jumps to the start of the next range it scans. Access is
+     * only taken as random once two fetches in a row are not sequential, which shrinks the window to a single block;
+     * from there it doubles on every sequential block fetch back up to the configured block count. Blocks already
+     * requested by an earlier window are not requested again.
+     *
+     * @param blockId the id of the block being fetched
+     */
     protected void fetchNextNBlocks(int blockId) {
         // check if read ahead was enabled and file type was doc values
         if (!checkIfFileEnabledReadAhead()) {
             return;
         }
-        int readAheadBlockCount = tieredStoragePrefetchSettingsSupplier.get().getReadAheadBlockCount();
-        readAheadBlockCount = Math.min(readAheadBlockCount, getTotalBlocks() - 1 - blockId);
-        if (readAheadBlockCount <= 0) {
-            logger.trace("read ahead block is <=0, for File: {} and Block ID: {}", fileName, blockId);
+        final int readAheadBlockCount = tieredStoragePrefetchSettingsSupplier.get().getReadAheadBlockCount();
+        if (lastFetchedBlockId >= 0 && blockId == lastFetchedBlockId + 1) {
+            numRandomFetches = 0;
+            readAheadWindow = Math.max(1, readAheadWindow << 1);
+        } else {
+            numRandomFetches++;
+            readAheadWindow = numRandomFetches > 1 ? 1 : readAheadBlockCount;
+            readAheadLimit = blockId;
+        }
+        lastFetchedBlockId = blockId;
+        readAheadWindow = Math.min(readAheadWindow, readAheadBlockCount);
+        final int startBlock = Math.max(blockId + 1, readAheadLimit + 1);
+        final int endBlock = Math.min(blockId + readAheadWindow, getTotalBlocks() - 1);
+        if (startBlock > endBlock) {
+            logger.trace("No blocks to read ahead for File: {} and Block ID: {}", fileName, blockId);
             return;
         }
-        logger.trace("Prefetching Read Ahead Block Count: {} from Block ID: {} for File: {}", readAheadBlockCount, blockId, fileName);
-        downloadBlocksAsync(blockId + 1, blockId + readAheadBlockCount, true);
+        logger.trace("Prefetching Read Ahead Blocks {} to {} from Block ID: {} for File: {}", startBlock, endBlock, blockId, fileName);
+        downloadBlocksAsync(startBlock, endBlock, true);
+        readAheadLimit = endBlock;
         TieredStorageQueryMetricService.getInstance().recordDocValuesPrefetch(true);
     }
 
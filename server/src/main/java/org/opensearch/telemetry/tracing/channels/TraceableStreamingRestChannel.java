@@ -8,6 +8,7 @@
 
 package org.opensearch.telemetry.tracing.channels;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.http.HttpChunk;
 import org.opensearch.rest.StreamingRestChannel;
@@ -58,6 +59,17 @@ class TraceableStreamingRestChannel extends TraceableRestChannel<StreamingRestCh
         }
     }
 
+    @Override
+    public void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
+        try (SpanScope ignored = tracer.withSpanInScope(span)) {
+            delegate.sendChunk(chunk, listener);
+        }
+
+        if (chunk.isLast()) {
+            span.endSpan();
+        }
+    }
+
     @Override
     public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
         // Prepare response within span scope to ensure proper trace context
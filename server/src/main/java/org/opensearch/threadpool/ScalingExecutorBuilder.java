@@ -56,6 +56,7 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
     private final Setting<Integer> coreSetting;
     private final Setting<Integer> maxSetting;
     private final Setting<TimeValue> keepAliveSetting;
+    private final Setting<Boolean> virtualThreadsSetting;
 
     /**
      * Construct a scaling executor builder; the settings will have the
@@ -71,6 +72,29 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
         this(name, core, max, keepAlive, "thread_pool." + name);
     }
 
+    /**
+     * Construct a scaling executor builder; the settings will have the
+     * key prefix "thread_pool." followed by the executor name.
+     *
+     * @param name                the name of the executor
+     * @param core                the minimum number of threads in the pool
+     * @param max                 the maximum number of threads in the pool
+     * @param keepAlive           the time that spare threads above {@code core}
+     *                            threads will be kept alive
+     * @param allowVirtualThreads whether the pool may be configured to run
+     *                            each task on a virtual thread instead, with
+     *                            at most {@code max} tasks running at once
+     */
+    public ScalingExecutorBuilder(
+        final String name,
+        final int core,
+        final int max,
+        final TimeValue keepAlive,
+        final boolean allowVirtualThreads
+    ) {
+        this(name, core, max, keepAlive, "thread_pool." + name, allowVirtualThreads);
+    }
+
     /**
      * Construct a scaling executor builder; the settings will have the
      * specified key prefix.
@@ -83,14 +107,31 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
      * @param prefix    the prefix for the settings keys
      */
     public ScalingExecutorBuilder(final String name, final int core, final int max, final TimeValue keepAlive, final String prefix) {
+        this(name, core, max, keepAlive, prefix, false);
+    }
+
+    private ScalingExecutorBuilder(
+        final String name,
+        final int core,
+        final int max,
+        final TimeValue keepAlive,
+        final String prefix,
+        final boolean allowVirtualThreads
+    ) {
         super(name);
         this.coreSetting = Setting.intSetting(settingsKey(prefix, "core"), core, Setting.Property.NodeScope);
         this.maxSetting = Setting.intSetting(settingsKey(prefix, "max"), max, Setting.Property.NodeScope);
         this.keepAliveSetting = Setting.timeSetting(settingsKey(prefix, "keep_alive"), keepAlive, Setting.Property.NodeScope);
+        this.virtualThreadsSetting = allowVirtualThreads
+            ? Setting.boolSetting(settingsKey(prefix, "virtual_threads"), false, Setting.Property.NodeScope)
+            : null;
     }
 
     @Override
     public List<Setting<?>> getRegisteredSettings() {
+        if (virtualThreadsSetting != null) {
+            return Arrays.asList(coreSetting, maxSetting, keepAliveSetting, virtualThreadsSetting);
+        }
         return Arrays.asList(coreSetting, maxSetting, keepAliveSetting);
     }
 
@@ -100,13 +141,25 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
         final int coreThreads = coreSetting.get(settings);
         final int maxThreads = maxSetting.get(settings);
         final TimeValue keepAlive = keepAliveSetting.get(settings);
-        return new ScalingExecutorSettings(nodeName, coreThreads, maxThreads, keepAlive);
+        final boolean virtualThreads = virtualThreadsSetting != null && virtualThreadsSetting.get(settings);
+        return new ScalingExecutorSettings(nodeName, coreThreads, maxThreads, keepAlive, virtualThreads);
     }
 
     ThreadPool.ExecutorHolder build(final ScalingExecutorSettings settings, final ThreadContext threadContext) {
         TimeValue keepAlive = settings.keepAlive;
         int core = settings.core;
         int max = settings.max;
+        if (settings.virtualThreads) {
+            // tasks that mostly block on I/O get a cheap virtual thread each, while max still bounds how many run at once
+            final ExecutorService executor = OpenSearchExecutors.newVirtualThreadPerTaskExecutor(
+                settings.nodeName,
+                name(),
+                max,
+                threadContext
+            );
+            final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.VIRTUAL, -1, max, null, null);
+            return new ThreadPool.ExecutorHolder(executor, info);
+        }
         final ThreadPool.Info info = new ThreadPool.Info(name(), ThreadPool.ThreadPoolType.SCALING, core, max, keepAlive, null);
         final ThreadFactory threadFactory = OpenSearchExecutors.daemonThreadFactory(
             OpenSearchExecutors.threadName(settings.nodeName, name())
@@ -125,6 +178,9 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
 
     @Override
     String formatInfo(ThreadPool.Info info) {
+        if (info.getThreadPoolType() == ThreadPool.ThreadPoolType.VIRTUAL) {
+            return String.format(Locale.ROOT, "name [%s], virtual thread per task, max concurrency [%d]", info.getName(), info.getMax());
+        }
         return String.format(
             Locale.ROOT,
             "name [%s], core [%d], max [%d], keep alive [%s]",
@@ -140,12 +196,24 @@ public final class ScalingExecutorBuilder extends ExecutorBuilder<ScalingExecuto
         private final int core;
         private final int max;
         private final TimeValue keepAlive;
+        private final boolean virtualThreads;
 
         ScalingExecutorSettings(final String nodeName, final int core, final int max, final TimeValue keepAlive) {
+            this(nodeName, core, max, keepAlive, false);
+        }
+
+        ScalingExecutorSettings(
+            final String nodeName,
+            final int core,
+            final int max,
+            final TimeValue keepAlive,
+            final boolean virtualThreads
+        ) {
             super(nodeName);
             this.core = core;
             this.max = max;
             this.keepAlive = keepAlive;
+            this.virtualThreads = virtualThreads;
         }
     }
 
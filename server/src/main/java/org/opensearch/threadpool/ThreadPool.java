@@ -230,6 +230,9 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     private final ScheduledThreadPoolExecutor scheduler;
 
+    @Nullable
+    private final VirtualThreadPinningMonitor pinningMonitor;
+
     public Collection<ExecutorBuilder> builders() {
         return Collections.unmodifiableCollection(builders.values());
     }
@@ -241,6 +244,16 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         Setting.Property.NodeScope
     );
 
+    /**
+     * Whether to count how often the threads of virtual thread pools get pinned to their carrier thread. Requires the
+     * flight recorder, so it is off by default.
+     */
+    public static final Setting<Boolean> VIRTUAL_THREAD_PINNING_MONITOR_ENABLED_SETTING = Setting.boolSetting(
+        "thread_pool.virtual_threads.pinning_monitor.enabled",
+        false,
+        Setting.Property.NodeScope
+    );
+
     public static final Setting<Settings> CLUSTER_THREAD_POOL_SIZE_SETTING = Setting.groupSetting(
         "cluster.thread_pool.",
         Setting.Property.Dynamic,
@@ -293,7 +306,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.FLUSH, new ScalingExecutorBuilder(Names.FLUSH, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
         builders.put(Names.REFRESH, new ScalingExecutorBuilder(Names.REFRESH, 1, halfProcMaxAt10, TimeValue.timeValueMinutes(5)));
         builders.put(Names.WARMER, new ScalingExecutorBuilder(Names.WARMER, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
-        builders.put(Names.SNAPSHOT, new ScalingExecutorBuilder(Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5)));
+        // pools whose threads mostly block on blob store calls may opt in to virtual threads via thread_pool.<name>.virtual_threads
+        builders.put(Names.SNAPSHOT, new ScalingExecutorBuilder(Names.SNAPSHOT, 1, halfProcMaxAt5, TimeValue.timeValueMinutes(5), true));
         builders.put(
             Names.SNAPSHOT_DELETION,
             new ScalingExecutorBuilder(Names.SNAPSHOT_DELETION, 1, snapshotDeletionPoolMax, TimeValue.timeValueMinutes(5))
@@ -309,13 +323,13 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         builders.put(Names.MERGE, new ScalingExecutorBuilder(Names.MERGE, 1, allocatedProcessors, TimeValue.timeValueMinutes(5)));
         builders.put(
             Names.FETCH_SHARD_STORE,
-            new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5))
+            new ScalingExecutorBuilder(Names.FETCH_SHARD_STORE, 1, 2 * allocatedProcessors, TimeValue.timeValueMinutes(5), true)
         );
         builders.put(Names.SYSTEM_READ, new FixedExecutorBuilder(settings, Names.SYSTEM_READ, halfProcMaxAt5, 2000, false));
         builders.put(Names.SYSTEM_WRITE, new FixedExecutorBuilder(settings, Names.SYSTEM_WRITE, halfProcMaxAt5, 1000, false));
         builders.put(
             Names.TRANSLOG_TRANSFER,
-            new ScalingExecutorBuilder(Names.TRANSLOG_TRANSFER, 1, halfProc, TimeValue.timeValueMinutes(5))
+            new ScalingExecutorBuilder(Names.TRANSLOG_TRANSFER, 1, halfProc, TimeValue.timeValueMinutes(5), true)
         );
         builders.put(Names.TRANSLOG_SYNC, new FixedExecutorBuilder(settings, Names.TRANSLOG_SYNC, allocatedProcessors * 4, 10000));
         builders.put(Names.REMOTE_PURGE, new ScalingExecutorBuilder(Names.REMOTE_PURGE, 1, halfProc, TimeValue.timeValueMinutes(5)));
@@ -329,7 +343,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 Names.REMOTE_RECOVERY,
                 1,
                 twiceAllocatedProcessors(allocatedProcessors),
-                TimeValue.timeValueMinutes(5)
+                TimeValue.timeValueMinutes(5),
+                true
             )
         );
         builders.put(
@@ -338,7 +353,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                 Names.REMOTE_DOWNLOAD,
                 1,
                 twiceAllocatedProcessors(allocatedProcessors),
-                TimeValue.timeValueMinutes(5)
+                TimeValue.timeValueMinutes(5),
+                true
             )
         );
         builders.put(
@@ -390,6 +406,17 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             .map(holder -> holder.info)
             .collect(Collectors.toList());
         this.threadPoolInfo = new ThreadPoolInfo(infos);
+        if (VIRTUAL_THREAD_PINNING_MONITOR_ENABLED_SETTING.get(settings)) {
+            this.pinningMonitor = VirtualThreadPinningMonitor.start(
+                executors.values()
+                    .stream()
+                    .filter(holder -> holder.executor() instanceof VirtualThreadPerTaskExecutorService)
+                    .map(holder -> (VirtualThreadPerTaskExecutorService) holder.executor())
+                    .collect(Collectors.toList())
+            );
+        } else {
+            this.pinningMonitor = null;
+        }
         this.scheduler = Scheduler.initScheduler(settings);
         TimeValue estimatedTimeInterval = ESTIMATED_TIME_INTERVAL_SETTING.get(settings);
         this.cachedTimeThread = new CachedTimeThread(OpenSearchExecutors.threadName(settings, "[timer]"), estimatedTimeInterval.millis());
@@ -584,6 +611,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             long completed = -1;
             long waitTimeNanos = -1;
             int parallelism = -1;
+            int inFlight = -1;
+            long pinned = -1;
 
             // Executor types that do not expose pool metrics fall through with the -1 "unavailable" defaults set above.
             // A virtual thread-per-task pool has neither a bounded set of worker threads nor a queue, so threads,
@@ -591,6 +620,16 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             if (holder.executor() instanceof VirtualThreadPerTaskExecutorService virtualExecutor) {
                 active = virtualExecutor.getActiveCount();
                 completed = virtualExecutor.getCompletedTaskCount();
+                inFlight = virtualExecutor.getInFlightCount();
+                if (virtualExecutor.getMaxConcurrency() != -1) {
+                    // tasks over the concurrency limit wait for a permit, which is the closest thing to a queue, so only
+                    // the tasks that hold a permit are active
+                    active = inFlight;
+                    queue = virtualExecutor.getWaitingCount();
+                }
+                if (pinningMonitor != null) {
+                    pinned = virtualExecutor.getPinnedCount();
+                }
             } else if (holder.executor() instanceof OpenSearchThreadPoolExecutor threadPoolExecutor) {
                 threads = threadPoolExecutor.getPoolSize();
                 queue = threadPoolExecutor.getQueue().size();
@@ -614,6 +653,8 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
                     .completed(completed)
                     .waitTimeNanos(waitTimeNanos)
                     .parallelism(parallelism)
+                    .inFlight(inFlight)
+                    .pinned(pinned)
                     .build()
             );
         }
@@ -712,8 +753,15 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
         cachedTimeThread.interrupt();
     }
 
+    private void closePinningMonitor() {
+        if (pinningMonitor != null) {
+            pinningMonitor.close();
+        }
+    }
+
     public void shutdown() {
         stopCachedTimeThread();
+        closePinningMonitor();
         scheduler.shutdown();
         for (ExecutorHolder executor : executors.values()) {
             // the direct executor runs tasks on the calling thread and does not support being shut down
@@ -725,6 +773,7 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
 
     public void shutdownNow() {
         stopCachedTimeThread();
+        closePinningMonitor();
         scheduler.shutdownNow();
         for (ExecutorHolder executor : executors.values()) {
             // the direct executor runs tasks on the calling thread and does not support being shut down
@@ -1086,7 +1135,10 @@ public class ThreadPool implements ReportingService<ThreadPoolInfo>, Scheduler {
             } else if (type == ThreadPoolType.FORK_JOIN) {
                 builder.field("parallelism", max);
             } else if (type == ThreadPoolType.VIRTUAL) {
-                // an unbounded virtual thread-per-task pool has no size, keep alive, or queue to report
+                // a virtual thread-per-task pool has no size, keep alive, or queue to report, only an optional concurrency limit
+                if (max != -1) {
+                    builder.field("max", max);
+                }
             } else {
                 assert max != -1;
                 builder.field("size", max);
@@ -72,6 +72,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         private final long completed;
         private final long waitTimeNanos;
         private final int parallelism;
+        private final int inFlight;
+        private final long pinned;
 
         /**
          * Private constructor that takes a builder.
@@ -88,6 +90,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = builder.completed;
             this.waitTimeNanos = builder.waitTimeNanos;
             this.parallelism = builder.parallelism;
+            this.inFlight = builder.inFlight;
+            this.pinned = builder.pinned;
         }
 
         /**
@@ -105,6 +109,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = -1;
+            this.inFlight = -1;
+            this.pinned = -1;
         }
 
         /**
@@ -132,6 +138,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             this.completed = completed;
             this.waitTimeNanos = waitTimeNanos;
             this.parallelism = parallelism;
+            this.inFlight = -1;
+            this.pinned = -1;
         }
 
         public Stats(StreamInput in) throws IOException {
@@ -144,6 +152,13 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             completed = in.readLong();
             waitTimeNanos = in.getVersion().onOrAfter(Version.V_2_11_0) ? in.readLong() : -1;
             parallelism = in.getVersion().onOrAfter(Version.V_3_4_0) ? in.readInt() : -1;
+            if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+                inFlight = in.readInt();
+                pinned = in.readLong();
+            } else {
+                inFlight = -1;
+                pinned = -1;
+            }
         }
 
         @Override
@@ -161,6 +176,10 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             if (out.getVersion().onOrAfter(Version.V_3_4_0)) {
                 out.writeInt(parallelism);
             }
+            if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+                out.writeInt(inFlight);
+                out.writeLong(pinned);
+            }
         }
 
         public String getName() {
@@ -203,6 +222,20 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             return parallelism;
         }
 
+        /**
+         * Returns the number of tasks of a virtual thread pool that are running, or {@code -1} for other pools.
+         */
+        public int getInFlight() {
+            return inFlight;
+        }
+
+        /**
+         * Returns how often a virtual thread of the pool was pinned to its carrier thread, or {@code -1} if not tracked.
+         */
+        public long getPinned() {
+            return pinned;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject(name);
@@ -233,6 +266,12 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
                 }
                 builder.field(Fields.WAIT_TIME_NANOS, getWaitTimeNanos());
             }
+            if (inFlight != -1) {
+                builder.field(Fields.IN_FLIGHT, inFlight);
+            }
+            if (pinned != -1) {
+                builder.field(Fields.PINNED, pinned);
+            }
             builder.endObject();
             return builder;
         }
@@ -268,6 +307,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
             private long completed = 0;
             private long waitTimeNanos = 0;
             private int parallelism = 0;
+            private int inFlight = -1;
+            private long pinned = -1;
 
             public Builder() {}
 
@@ -316,6 +357,16 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
                 return this;
             }
 
+            public Builder inFlight(int inFlight) {
+                this.inFlight = inFlight;
+                return this;
+            }
+
+            public Builder pinned(long pinned) {
+                this.pinned = pinned;
+                return this;
+            }
+
             /**
              * Creates a {@link Stats} object from the builder's current state.
              * @return A new Stats instance.
@@ -358,6 +409,8 @@ public class ThreadPoolStats implements Writeable, ToXContentFragment, Iterable<
         static final String WAIT_TIME = "total_wait_time";
         static final String WAIT_TIME_NANOS = "total_wait_time_in_nanos";
         static final String PARALLELISM = "parallelism";
+        static final String IN_FLIGHT = "in_flight";
+        static final String PINNED = "pinned";
     }
 
     @Override
@@ -0,0 +1,114 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.threadpool;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.Nullable;
+import org.opensearch.common.util.concurrent.VirtualThreadPerTaskExecutorService;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+/**
+ * Counts how often the virtual threads of the node's virtual thread pools get pinned to their carrier thread, which
+ * happens when a virtual thread blocks in native code or, before JDK 24, inside a synchronized block. A pinned virtual
+ * thread holds on to one of the few carrier threads, so frequent pinning defeats the purpose of a virtual pool.
+ * <p>
+ * The JVM only reports pinning through the {@code jdk.VirtualThreadPinned} flight recorder event, so this streams that
+ * event and attributes it to a pool by the name of the pinned thread.
+ *
+ * @opensearch.internal
+ */
+final class VirtualThreadPinningMonitor implements Closeable {
+
+    private static final Logger logger = LogManager.getLogger(VirtualThreadPinningMonitor.class);
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * Pinning shorter than this is not reported, the default threshold of the flight recorder event.
+     */
+    static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+
+    private final Map<String, VirtualThreadPerTaskExecutorService> executorsByThreadNamePrefix;
+    private final RecordingStream stream;
+
+    private VirtualThreadPinningMonitor(
+        Map<String, VirtualThreadPerTaskExecutorService> executorsByThreadNamePrefix,
+        RecordingStream stream
+    ) {
+        this.executorsByThreadNamePrefix = executorsByThreadNamePrefix;
+        this.stream = stream;
+    }
+
+    /**
+     * Starts monitoring the given executors, returning {@code null} if there are none or the flight recorder is unavailable.
+     */
+    @Nullable
+    static VirtualThreadPinningMonitor start(Collection<VirtualThreadPerTaskExecutorService> executors) {
+        final Map<String, VirtualThreadPerTaskExecutorService> executorsByThreadNamePrefix = new HashMap<>();
+        for (VirtualThreadPerTaskExecutorService executor : executors) {
+            if (executor.getThreadNamePrefix() != null) {
+                executorsByThreadNamePrefix.put(executor.getThreadNamePrefix(), executor);
+            }
+        }
+        if (executorsByThreadNamePrefix.isEmpty()) {
+            return null;
+        }
+        final RecordingStream stream;
+        try {
+            stream = new RecordingStream();
+        } catch (IllegalStateException | SecurityException e) {
+            logger.warn("unable to track pinning of virtual threads, the flight recorder is not available", e);
+            return null;
+        }
+        final VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(executorsByThreadNamePrefix, stream);
+        stream.enable(PINNED_EVENT).withThreshold(PINNED_THRESHOLD);
+        stream.onEvent(PINNED_EVENT, monitor::onPinned);
+        stream.startAsync();
+        return monitor;
+    }
+
+    void onPinned(RecordedEvent event) {
+        final RecordedThread thread = event.getThread();
+        if (thread == null) {
+            return;
+        }
+        final VirtualThreadPerTaskExecutorService executor = executorFor(thread.getJavaName());
+        if (executor != null) {
+            executor.onPinned();
+        }
+    }
+
+    @Nullable
+    VirtualThreadPerTaskExecutorService executorFor(@Nullable String threadName) {
+        if (threadName == null) {
+            return null;
+        }
+        // virtual threads are named by their executor's prefix followed by a sequence number
+        final int index = threadName.lastIndexOf('#');
+        if (index < 0) {
+            return null;
+        }
+        return executorsByThreadNamePrefix.get(threadName.substring(0, index + 1));
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
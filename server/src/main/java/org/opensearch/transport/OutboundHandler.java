@@ -59,10 +59,23 @@ public final class OutboundHandler {
 
     private final StatsTracker statsTracker;
     private final ThreadPool threadPool;
+    private final TransportCompressionScheme compressionScheme;
 
     public OutboundHandler(StatsTracker statsTracker, ThreadPool threadPool) {
+        this(statsTracker, threadPool, TransportCompressionScheme.DEFLATE);
+    }
+
+    public OutboundHandler(StatsTracker statsTracker, ThreadPool threadPool, TransportCompressionScheme compressionScheme) {
         this.statsTracker = statsTracker;
         this.threadPool = threadPool;
+        this.compressionScheme = compressionScheme;
+    }
+
+    /**
+     * The scheme used to compress messages that are sent compressed.
+     */
+    public TransportCompressionScheme getCompressionScheme() {
+        return compressionScheme;
     }
 
     void sendBytes(TcpChannel channel, BytesReference bytes, ActionListener<Void> listener) {
@@ -35,6 +35,9 @@ package org.opensearch.transport;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.common.metrics.MeanMetric;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.LongAdder;
 
 /**
@@ -48,6 +51,7 @@ public final class StatsTracker {
     private final LongAdder bytesRead = new LongAdder();
     private final LongAdder messagesReceived = new LongAdder();
     private final MeanMetric writeBytesMetric = new MeanMetric();
+    private final Map<String, CompressionCounter> compressionByAction = new ConcurrentHashMap<>();
 
     public void markBytesRead(long bytesReceived) {
         bytesRead.add(bytesReceived);
@@ -80,4 +84,35 @@ public final class StatsTracker {
     public long getMessagesSent() {
         return writeBytesMetric.count();
     }
+
+    /**
+     * Records that a message for the given action was sent compressed.
+     */
+    public void markCompressed(String action, long uncompressedBytes, long compressedBytes) {
+        final CompressionCounter counter = compressionByAction.computeIfAbsent(action, a -> new CompressionCounter());
+        counter.count.increment();
+        counter.uncompressedBytes.add(uncompressedBytes);
+        counter.compressedBytes.add(compressedBytes);
+    }
+
+    /**
+     * Returns the compression stats of the messages sent so far, keyed by action.
+     */
+    public Map<String, TransportStats.CompressionStats> getCompressionStats() {
+        final Map<String, TransportStats.CompressionStats> stats = new HashMap<>(compressionByAction.size());
+        for (Map.Entry<String, CompressionCounter> entry : compressionByAction.entrySet()) {
+            final CompressionCounter counter = entry.getValue();
+            stats.put(
+                entry.getKey(),
+                new TransportStats.CompressionStats(counter.count.sum(), counter.uncompressedBytes.sum(), counter.compressedBytes.sum())
+            );
+        }
+        return stats;
+    }
+
+    private static final class CompressionCounter {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+    }
 }
@@ -190,7 +190,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
         }
         BigArrays bigArrays = new BigArrays(pageCacheRecycler, circuitBreakerService, CircuitBreaker.IN_FLIGHT_REQUESTS);
 
-        this.outboundHandler = new OutboundHandler(statsTracker, threadPool);
+        this.outboundHandler = new OutboundHandler(statsTracker, threadPool, TransportSettings.TRANSPORT_COMPRESSION_SCHEME.get(settings));
         this.handshakerHandler = new NativeOutboundHandler(
             nodeName,
             version,
@@ -976,6 +976,7 @@ public abstract class TcpTransport extends AbstractLifecycleComponent implements
             .rxSize(bytesRead)
             .txCount(messagesSent)
             .txSize(bytesWritten)
+            .compressionStats(statsTracker.getCompressionStats())
             .build();
     }
 
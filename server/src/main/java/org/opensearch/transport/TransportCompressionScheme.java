@@ -0,0 +1,57 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.transport;
+
+import org.opensearch.Version;
+import org.opensearch.compress.ZstdCompressor;
+import org.opensearch.core.compress.Compressor;
+import org.opensearch.core.compress.CompressorRegistry;
+
+import java.util.Locale;
+
+/**
+ * Algorithm used to compress transport messages. The receiving node detects the algorithm from the header of the
+ * compressed content, so nodes of the same cluster may use different schemes.
+ *
+ * @opensearch.internal
+ */
+public enum TransportCompressionScheme {
+    /**
+     * Compresses with DEFLATE, which every node can decompress.
+     */
+    DEFLATE,
+    /**
+     * Compresses with streaming Zstandard, which compresses small messages better than DEFLATE at a lower CPU cost.
+     * Messages to nodes that cannot decompress Zstandard are compressed with DEFLATE instead.
+     */
+    ZSTD;
+
+    /**
+     * The first version that can decompress transport messages compressed with {@link #ZSTD}.
+     */
+    public static final Version ZSTD_MIN_VERSION = Version.V_3_9_0;
+
+    /**
+     * Returns the compressor to use for messages written with the given wire version.
+     */
+    public Compressor compressor(Version version) {
+        if (this == ZSTD && version.onOrAfter(ZSTD_MIN_VERSION)) {
+            return CompressorRegistry.getCompressor(ZstdCompressor.NAME);
+        }
+        return CompressorRegistry.defaultCompressor();
+    }
+
+    public static TransportCompressionScheme fromString(String scheme) {
+        try {
+            return TransportCompressionScheme.valueOf(scheme.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("unknown transport compression scheme [" + scheme + "]", e);
+        }
+    }
+}
@@ -32,8 +32,12 @@
 
 package org.opensearch.transport;
 
+import com.github.luben.zstd.ZstdDecompressCtx;
+import com.github.luben.zstd.ZstdException;
+
 import org.apache.lucene.util.BytesRef;
 import org.apache.lucene.util.BytesRefIterator;
+import org.opensearch.Version;
 import org.opensearch.common.bytes.ReleasableBytesReference;
 import org.opensearch.common.recycler.Recycler;
 import org.opensearch.common.util.PageCacheRecycler;
@@ -44,18 +48,36 @@ import org.opensearch.core.compress.CompressorRegistry;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.zip.DataFormatException;
 import java.util.zip.Inflater;
 
 /**
- * Decompresses data over the transport wire
+ * Decompresses data over the transport wire. The compression algorithm is detected from the header of the content, see
+ * {@link TransportCompressionScheme}.
  *
  * @opensearch.internal
  */
 public class TransportDecompressor implements Closeable {
 
-    private final Inflater inflater;
+    private static final Compressor ZSTD = TransportCompressionScheme.ZSTD.compressor(Version.CURRENT);
+    private static final int MAX_HEADER_LENGTH = Math.max(CompressorRegistry.defaultCompressor().headerLength(), ZSTD.headerLength());
+
+    /**
+     * Direct buffers that zstd reads the compressed bytes from and writes the decompressed bytes to. They don't hold any
+     * state between calls to {@link #decompress}, so they are shared by all the decompressors of a thread.
+     */
+    private static final ThreadLocal<ByteBuffer> ZSTD_INPUT = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocateDirect(PageCacheRecycler.BYTE_PAGE_SIZE)
+    );
+    private static final ThreadLocal<ByteBuffer> ZSTD_OUTPUT = ThreadLocal.withInitial(
+        () -> ByteBuffer.allocateDirect(PageCacheRecycler.BYTE_PAGE_SIZE)
+    );
+
+    private Inflater inflater;
+    private ZstdDecompressCtx zstdContext;
+    private boolean zstdFinished = false;
     private final PageCacheRecycler recycler;
     private final ArrayDeque<Recycler.V<byte[]>> pages;
     private int pageOffset = PageCacheRecycler.BYTE_PAGE_SIZE;
@@ -63,15 +85,20 @@ public class TransportDecompressor implements Closeable {
 
     public TransportDecompressor(PageCacheRecycler recycler) {
         this.recycler = recycler;
-        inflater = new Inflater(true);
         pages = new ArrayDeque<>(4);
     }
 
     public int decompress(BytesReference bytesReference) throws IOException {
         int bytesConsumed = 0;
         if (hasReadHeader == false) {
-            final Compressor compressor = CompressorRegistry.defaultCompressor();
-            if (compressor.isCompressed(bytesReference) == false) {
+            final Compressor compressor;
+            if (CompressorRegistry.defaultCompressor().isCompressed(bytesReference)) {
+                compressor = CompressorRegistry.defaultCompressor();
+                inflater = new Inflater(true);
+            } else if (ZSTD.isCompressed(bytesReference)) {
+                compressor = ZSTD;
+                zstdContext = new ZstdDecompressCtx();
+            } else {
                 int maxToRead = Math.min(bytesReference.length(), 10);
                 StringBuilder sb = new StringBuilder("stream marked as compressed, but no compressor found, first [").append(maxToRead)
                     .append("] content bytes out of [")
@@ -92,6 +119,10 @@ public class TransportDecompressor implements Closeable {
             bytesConsumed += headerLength;
         }
 
+        if (zstdContext != null) {
+            return bytesConsumed + zstdDecompress(bytesReference);
+        }
+
         BytesRefIterator refIterator = bytesReference.iterator();
         BytesRef ref;
         while ((ref = refIterator.next()) != null) {
@@ -136,12 +167,65 @@ public class TransportDecompressor implements Closeable {
         return bytesConsumed;
     }
 
+    private int zstdDecompress(BytesReference bytesReference) throws IOException {
+        final ByteBuffer input = ZSTD_INPUT.get();
+        final ByteBuffer output = ZSTD_OUTPUT.get();
+        int bytesConsumed = 0;
+        BytesRefIterator refIterator = bytesReference.iterator();
+        BytesRef ref;
+        while (zstdFinished == false && (ref = refIterator.next()) != null) {
+            int offset = 0;
+            while (zstdFinished == false && offset < ref.length) {
+                final int length = Math.min(input.capacity(), ref.length - offset);
+                input.clear();
+                input.put(ref.bytes, ref.offset + offset, length);
+                input.flip();
+                offset += length;
+                bytesConsumed += length;
+                boolean outputFull;
+                do {
+                    output.clear();
+                    try {
+                        zstdFinished = zstdContext.decompressDirectByteBufferStream(output, input);
+                    } catch (ZstdException e) {
+                        throw new IOException("Exception while decompressing zstd bytes", e);
+                    }
+                    output.flip();
+                    // zstd may hold back decompressed bytes that didn't fit into the output buffer
+                    outputFull = output.remaining() == output.capacity();
+                    copyToPages(output);
+                } while (zstdFinished == false && (input.hasRemaining() || outputFull));
+                bytesConsumed -= input.remaining();
+            }
+        }
+        return bytesConsumed;
+    }
+
+    private void copyToPages(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            final Recycler.V<byte[]> page;
+            if (pageOffset == PageCacheRecycler.BYTE_PAGE_SIZE) {
+                page = recycler.bytePage(false);
+                pages.add(page);
+                pageOffset = 0;
+            } else {
+                page = pages.getLast();
+            }
+            final int length = Math.min(buffer.remaining(), PageCacheRecycler.BYTE_PAGE_SIZE - pageOffset);
+            buffer.get(page.v(), pageOffset, length);
+            pageOffset += length;
+        }
+    }
+
     public boolean canDecompress(int bytesAvailable) {
-        return hasReadHeader || bytesAvailable >= CompressorRegistry.defaultCompressor().headerLength();
+        return hasReadHeader || bytesAvailable >= MAX_HEADER_LENGTH;
     }
 
     public boolean isEOS() {
-        return inflater.finished();
+        if (zstdContext != null) {
+            return zstdFinished;
+        }
+        return inflater != null && inflater.finished();
     }
 
     public ReleasableBytesReference pollDecompressedPage() {
@@ -164,7 +248,12 @@ public class TransportDecompressor implements Closeable {
 
     @Override
     public void close() {
-        inflater.end();
+        if (inflater != null) {
+            inflater.end();
+        }
+        if (zstdContext != null) {
+            zstdContext.close();
+        }
         for (Recycler.V<byte[]> page : pages) {
             page.close();
         }
@@ -32,6 +32,7 @@
 
 package org.opensearch.transport;
 
+import org.opensearch.Version;
 import org.opensearch.common.annotation.PublicApi;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
@@ -41,6 +42,9 @@ import org.opensearch.core.xcontent.ToXContentFragment;
 import org.opensearch.core.xcontent.XContentBuilder;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
 
 /**
  * Stats for transport activity
@@ -56,6 +60,7 @@ public class TransportStats implements Writeable, ToXContentFragment {
     private final long rxSize;
     private final long txCount;
     private final long txSize;
+    private final Map<String, CompressionStats> compressionStats;
 
     /**
      * Private constructor that takes a builder.
@@ -69,6 +74,7 @@ public class TransportStats implements Writeable, ToXContentFragment {
         this.rxSize = builder.rxSize;
         this.txCount = builder.txCount;
         this.txSize = builder.txSize;
+        this.compressionStats = builder.compressionStats;
     }
 
     /**
@@ -83,6 +89,7 @@ public class TransportStats implements Writeable, ToXContentFragment {
         this.rxSize = rxSize;
         this.txCount = txCount;
         this.txSize = txSize;
+        this.compressionStats = Map.of();
     }
 
     public TransportStats(StreamInput in) throws IOException {
@@ -92,6 +99,11 @@ public class TransportStats implements Writeable, ToXContentFragment {
         rxSize = in.readVLong();
         txCount = in.readVLong();
         txSize = in.readVLong();
+        if (in.getVersion().onOrAfter(Version.V_3_9_0)) {
+            compressionStats = in.readMap(StreamInput::readString, CompressionStats::new);
+        } else {
+            compressionStats = Map.of();
+        }
     }
 
     @Override
@@ -102,6 +114,9 @@ public class TransportStats implements Writeable, ToXContentFragment {
         out.writeVLong(rxSize);
         out.writeVLong(txCount);
         out.writeVLong(txSize);
+        if (out.getVersion().onOrAfter(Version.V_3_9_0)) {
+            out.writeMap(compressionStats, StreamOutput::writeString, (o, stats) -> stats.writeTo(o));
+        }
     }
 
     public long serverOpen() {
@@ -144,6 +159,13 @@ public class TransportStats implements Writeable, ToXContentFragment {
         return txSize();
     }
 
+    /**
+     * Returns the compression stats of the messages sent compressed, keyed by action.
+     */
+    public Map<String, CompressionStats> getCompressionStats() {
+        return compressionStats;
+    }
+
     /**
      * Builder for the {@link TransportStats} class.
      * Provides a fluent API for constructing a TransportStats object.
@@ -155,6 +177,7 @@ public class TransportStats implements Writeable, ToXContentFragment {
         private long rxSize = 0;
         private long txCount = 0;
         private long txSize = 0;
+        private Map<String, CompressionStats> compressionStats = Map.of();
 
         public Builder() {}
 
@@ -188,6 +211,11 @@ public class TransportStats implements Writeable, ToXContentFragment {
             return this;
         }
 
+        public Builder compressionStats(Map<String, CompressionStats> compressionStats) {
+            this.compressionStats = compressionStats;
+            return this;
+        }
+
         /**
          * Creates a {@link TransportStats} object from the builder's current state.
          * @return A new TransportStats instance.
@@ -206,6 +234,15 @@ public class TransportStats implements Writeable, ToXContentFragment {
         builder.humanReadableField(Fields.RX_SIZE_IN_BYTES, Fields.RX_SIZE, new ByteSizeValue(rxSize));
         builder.field(Fields.TX_COUNT, txCount);
         builder.humanReadableField(Fields.TX_SIZE_IN_BYTES, Fields.TX_SIZE, new ByteSizeValue(txSize));
+        if (compressionStats.isEmpty() == false) {
+            builder.startObject(Fields.COMPRESSION);
+            for (Map.Entry<String, CompressionStats> entry : new TreeMap<>(compressionStats).entrySet()) {
+                builder.startObject(entry.getKey());
+                entry.getValue().toXContent(builder, params);
+                builder.endObject();
+            }
+            builder.endObject();
+        }
         builder.endObject();
         return builder;
     }
@@ -220,5 +257,75 @@ public class TransportStats implements Writeable, ToXContentFragment {
         static final String TX_COUNT = "tx_count";
         static final String TX_SIZE = "tx_size";
         static final String TX_SIZE_IN_BYTES = "tx_size_in_bytes";
+        static final String COMPRESSION = "compression";
+        static final String UNCOMPRESSED_SIZE = "uncompressed_size";
+        static final String UNCOMPRESSED_SIZE_IN_BYTES = "uncompressed_size_in_bytes";
+        static final String COMPRESSED_SIZE = "compressed_size";
+        static final String COMPRESSED_SIZE_IN_BYTES = "compressed_size_in_bytes";
+    }
+
+    /**
+     * Compression stats of the messages of one action that were sent compressed
+     *
+     * @opensearch.api
+     */
+    @PublicApi(since = "3.9.0")
+    public static class CompressionStats implements Writeable, ToXContentFragment {
+
+        private final long txCount;
+        private final long uncompressedSize;
+        private final long compressedSize;
+
+        public CompressionStats(long txCount, long uncompressedSize, long compressedSize) {
+            this.txCount = txCount;
+            this.uncompressedSize = uncompressedSize;
+            this.compressedSize = compressedSize;
+        }
+
+        public CompressionStats(StreamInput in) throws IOException {
+            txCount = in.readVLong();
+            uncompressedSize = in.readVLong();
+            compressedSize = in.readVLong();
+        }
+
+        @Override
+        public void writeTo(StreamOutput out) throws IOException {
+            out.writeVLong(txCount);
+            out.writeVLong(uncompressedSize);
+            out.writeVLong(compressedSize);
+        }
+
+        public long getTxCount() {
+            return txCount;
+        }
+
+        public ByteSizeValue getUncompressedSize() {
+            return new ByteSizeValue(uncompressedSize);
+        }
+
+        public ByteSizeValue getCompressedSize() {
+            return new ByteSizeValue(compressedSize);
+        }
+
+        @Override
+        public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+            builder.field(Fields.TX_COUNT, txCount);
+            builder.humanReadableField(Fields.UNCOMPRESSED_SIZE_IN_BYTES, Fields.UNCOMPRESSED_SIZE, getUncompressedSize());
+            builder.humanReadableField(Fields.COMPRESSED_SIZE_IN_BYTES, Fields.COMPRESSED_SIZE, getCompressedSize());
+            return builder;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            CompressionStats that = (CompressionStats) o;
+            return txCount == that.txCount && uncompressedSize == that.uncompressedSize && compressedSize == that.compressedSize;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(txCount, uncompressedSize, compressedSize);
+        }
     }
 }
@@ -115,10 +115,11 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             action,
             requestId,
             isHandshake,
-            compressRequest
+            compressRequest,
+            handler.getCompressionScheme()
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onRequestSent(node, requestId, action, request, options));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, action, channel, message, listener);
     }
 
     /**
@@ -146,10 +147,11 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             version,
             requestId,
             isHandshake,
-            compress
+            compress,
+            handler.getCompressionScheme()
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, response));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, action, channel, message, listener);
     }
 
     /**
@@ -177,12 +179,17 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
             false
         );
         ActionListener<Void> listener = ActionListener.wrap(() -> messageListener.onResponseSent(requestId, action, error));
-        sendMessage(requestId, channel, message, listener);
+        sendMessage(requestId, action, channel, message, listener);
     }
 
-    private void sendMessage(long requestId, TcpChannel channel, NativeOutboundMessage networkMessage, ActionListener<Void> listener)
-        throws IOException {
-        MessageSerializer serializer = new MessageSerializer(networkMessage, bigArrays);
+    private void sendMessage(
+        long requestId,
+        String action,
+        TcpChannel channel,
+        NativeOutboundMessage networkMessage,
+        ActionListener<Void> listener
+    ) throws IOException {
+        MessageSerializer serializer = new MessageSerializer(networkMessage, action, bigArrays, statsTracker);
         OutboundHandler.SendContext sendContext = new OutboundHandler.SendContext(statsTracker, channel, serializer, listener, serializer);
         handler.sendBytes(requestId, channel, sendContext);
     }
@@ -204,18 +211,26 @@ public final class NativeOutboundHandler extends ProtocolOutboundHandler {
     private static class MessageSerializer implements CheckedSupplier<BytesReference, IOException>, Releasable {
 
         private final NativeOutboundMessage message;
+        private final String action;
         private final BigArrays bigArrays;
+        private final StatsTracker statsTracker;
         private volatile ReleasableBytesStreamOutput bytesStreamOutput;
 
-        private MessageSerializer(NativeOutboundMessage message, BigArrays bigArrays) {
+        private MessageSerializer(NativeOutboundMessage message, String action, BigArrays bigArrays, StatsTracker statsTracker) {
             this.message = message;
+            this.action = action;
             this.bigArrays = bigArrays;
+            this.statsTracker = statsTracker;
         }
 
         @Override
         public BytesReference get() throws IOException {
             bytesStreamOutput = new ReleasableBytesStreamOutput(bigArrays);
-            return message.serialize(bytesStreamOutput);
+            final BytesReference reference = message.serialize(bytesStreamOutput);
+            if (message.isCompress()) {
+                statsTracker.markCompressed(action, message.uncompressedSize(), message.compressedSize());
+            }
+            return reference;
         }
 
         @Override
@@ -40,9 +40,11 @@ import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.compress.Compressor;
 import org.opensearch.transport.BytesTransportRequest;
 import org.opensearch.transport.RemoteTransportException;
 import org.opensearch.transport.TcpHeader;
+import org.opensearch.transport.TransportCompressionScheme;
 import org.opensearch.transport.TransportStatus;
 
 import java.io.IOException;
@@ -57,10 +59,21 @@ import java.util.Set;
 public abstract class NativeOutboundMessage extends NetworkMessage {
 
     private final Writeable message;
+    private final TransportCompressionScheme compressionScheme;
+    private long uncompressedSize = -1;
+    private long compressedSize = -1;
 
-    NativeOutboundMessage(ThreadContext threadContext, Version version, byte status, long requestId, Writeable message) {
+    NativeOutboundMessage(
+        ThreadContext threadContext,
+        Version version,
+        byte status,
+        long requestId,
+        Writeable message,
+        TransportCompressionScheme compressionScheme
+    ) {
         super(threadContext, version, status, requestId);
         this.message = message;
+        this.compressionScheme = compressionScheme;
     }
 
     public BytesReference serialize(BytesStreamOutput bytesStream) throws IOException {
@@ -74,7 +87,9 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
         writeVariableHeader(bytesStream);
         variableHeaderLength = Math.toIntExact(bytesStream.position() - preHeaderPosition);
 
-        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, TransportStatus.isCompress(status))) {
+        final boolean compress = TransportStatus.isCompress(status);
+        final Compressor compressor = compress ? compressionScheme.compressor(version) : null;
+        try (CompressibleBytesOutputStream stream = new CompressibleBytesOutputStream(bytesStream, compressor)) {
             stream.setVersion(version);
             stream.setFeatures(bytesStream.getFeatures());
 
@@ -82,10 +97,12 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
                 writeVariableHeader(stream);
             }
             reference = writeMessage(stream);
+            uncompressedSize = compress ? stream.uncompressedBytes() : -1;
         }
 
         bytesStream.seek(0);
         final int contentSize = reference.length() - TcpHeader.headerSize(version);
+        compressedSize = compress ? contentSize - variableHeaderLength : -1;
         TcpHeader.writeHeader(bytesStream, requestId, status, version, contentSize, variableHeaderLength);
         return reference;
     }
@@ -94,6 +111,20 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
         threadContext.writeTo(stream);
     }
 
+    /**
+     * Returns the size of the message body before compression, or {@code -1} if it was not serialized compressed.
+     */
+    long uncompressedSize() {
+        return uncompressedSize;
+    }
+
+    /**
+     * Returns the size of the compressed message body, or {@code -1} if it was not serialized compressed.
+     */
+    long compressedSize() {
+        return compressedSize;
+    }
+
     protected BytesReference writeMessage(CompressibleBytesOutputStream stream) throws IOException {
         final BytesReference zeroCopyBuffer;
         if (message instanceof BytesTransportRequest bytesTransportRequest) {
@@ -139,7 +170,21 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, action, requestId, isHandshake, compress, TransportCompressionScheme.DEFLATE);
+        }
+
+        Request(
+            ThreadContext threadContext,
+            String[] features,
+            Writeable message,
+            Version version,
+            String action,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
             this.action = action;
         }
@@ -183,7 +228,20 @@ public abstract class NativeOutboundMessage extends NetworkMessage {
             boolean isHandshake,
             boolean compress
         ) {
-            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message);
+            this(threadContext, features, message, version, requestId, isHandshake, compress, TransportCompressionScheme.DEFLATE);
+        }
+
+        public Response(
+            ThreadContext threadContext,
+            Set<String> features,
+            Writeable message,
+            Version version,
+            long requestId,
+            boolean isHandshake,
+            boolean compress,
+            TransportCompressionScheme compressionScheme
+        ) {
+            super(threadContext, version, setStatus(compress, isHandshake, message), requestId, message, compressionScheme);
             this.features = features;
         }
 
@@ -354,6 +354,10 @@ public class NodeStatsTests extends OpenSearchTestCase {
                     assertEquals(nodeStats.getTransport().getServerOpen(), deserializedNodeStats.getTransport().getServerOpen());
                     assertEquals(nodeStats.getTransport().getTxCount(), deserializedNodeStats.getTransport().getTxCount());
                     assertEquals(nodeStats.getTransport().getTxSize(), deserializedNodeStats.getTransport().getTxSize());
+                    assertEquals(
+                        nodeStats.getTransport().getCompressionStats(),
+                        deserializedNodeStats.getTransport().getCompressionStats()
+                    );
                 }
                 if (nodeStats.getHttp() == null) {
                     assertNull(deserializedNodeStats.getHttp());
@@ -829,6 +833,14 @@ public class NodeStatsTests extends OpenSearchTestCase {
                 .rxSize(randomNonNegativeLong())
                 .txCount(randomNonNegativeLong())
                 .txSize(randomNonNegativeLong())
+                .compressionStats(
+                    randomBoolean()
+                        ? Map.of()
+                        : Map.of(
+                            randomAlphaOfLength(10),
+                            new TransportStats.CompressionStats(randomNonNegativeLong(), randomNonNegativeLong(), randomNonNegativeLong())
+                        )
+                )
                 .build()
             : null;
         HttpStats httpStats = frequently()
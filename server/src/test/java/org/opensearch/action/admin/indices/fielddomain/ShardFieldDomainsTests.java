@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.admin.indices.fielddomain;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.DoublePoint;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.index.fielddomain.DateRangeFieldDomain;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.index.fielddomain.KeywordTermsFieldDomain;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.index.mapper.DateFieldMapper;
+import org.opensearch.index.mapper.KeywordFieldMapper;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class ShardFieldDomainsTests extends OpenSearchTestCase {
+    private static final Map<String, MappedFieldType> FIELD_TYPES = Map.of(
+        "@timestamp",
+        new DateFieldMapper.DateFieldType("@timestamp"),
+        "bytes",
+        new NumberFieldMapper.NumberFieldType("bytes", NumberFieldMapper.NumberType.LONG),
+        "ratio",
+        new NumberFieldMapper.NumberFieldType("ratio", NumberFieldMapper.NumberType.DOUBLE),
+        "service.name",
+        new KeywordFieldMapper.KeywordFieldType("service.name"),
+        "host.name",
+        new KeywordFieldMapper.KeywordFieldType("host.name")
+    );
+
+    public void testCollectComputesDomainsFromIndexStructures() throws IOException {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(directory, newIndexWriterConfig())) {
+                writer.addDocument(document(1_000L, 10L, 0.5, "api"));
+                writer.commit();
+                writer.addDocument(document(2_000L, -3L, 1.5, "web"));
+            }
+            try (DirectoryReader reader = DirectoryReader.open(directory)) {
+                ShardFieldDomains result = ShardFieldDomains.collect(
+                    reader,
+                    FIELD_TYPES::get,
+                    List.of("@timestamp", "bytes", "ratio", "service.name", "host.name", "unmapped")
+                );
+
+                DateRangeFieldDomain timestamp = (DateRangeFieldDomain) result.domains().get("@timestamp");
+                assertThat(timestamp.min(), equalTo("1000"));
+                assertThat(timestamp.max(), equalTo("2000"));
+                assertThat(timestamp.source(), equalTo(IndexFieldDomainMetadata.AUTO_SOURCE));
+
+                NumericRangeFieldDomain bytes = (NumericRangeFieldDomain) result.domains().get("bytes");
+                assertThat(bytes.min(), equalTo("-3"));
+                assertThat(bytes.max(), equalTo("10"));
+                assertTrue(bytes.finalized());
+
+                KeywordTermsFieldDomain service = (KeywordTermsFieldDomain) result.domains().get("service.name");
+                assertThat(service.values(), equalTo(List.of(new BytesRef("api"), new BytesRef("web"))));
+
+                assertNull(result.domains().get("ratio"));
+                assertThat(result.emptyFields(), equalTo(Set.of("host.name", "unmapped")));
+            }
+        }
+    }
+
+    public void testMergeRequiresEveryShardToDescribeTheField() {
+        ShardFieldDomains first = new ShardFieldDomains(
+            Map.of("bytes", numeric("1", "10"), "service.name", keyword("api")),
+            Set.of("host.name")
+        );
+        ShardFieldDomains second = new ShardFieldDomains(Map.of("bytes", numeric("5", "20")), Set.of("service.name", "host.name"));
+        ShardFieldDomains third = new ShardFieldDomains(Map.of("service.name", keyword("web")), Set.of("host.name"));
+
+        List<FieldDomain> merged = ShardFieldDomains.merge(List.of("bytes", "service.name", "host.name"), List.of(first, second));
+
+        assertThat(merged.size(), equalTo(2));
+        NumericRangeFieldDomain bytes = (NumericRangeFieldDomain) merged.get(0);
+        assertThat(bytes.min(), equalTo("1"));
+        assertThat(bytes.max(), equalTo("20"));
+        assertThat(((KeywordTermsFieldDomain) merged.get(1)).values(), equalTo(List.of(new BytesRef("api"))));
+
+        List<FieldDomain> incomplete = ShardFieldDomains.merge(List.of("bytes", "service.name"), List.of(first, third));
+        assertThat(incomplete.size(), equalTo(1));
+        assertThat(incomplete.get(0).field(), equalTo("service.name"));
+    }
+
+    public void testSerialization() throws IOException {
+        ShardFieldDomains original = new ShardFieldDomains(
+            Map.of("bytes", numeric("1", "10"), "service.name", keyword("api")),
+            Set.of("host.name")
+        );
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            original.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                ShardFieldDomains read = new ShardFieldDomains(in);
+
+                assertThat(read.domains().keySet(), equalTo(Set.of("bytes", "service.name")));
+                assertThat(read.domains().get("bytes"), instanceOf(NumericRangeFieldDomain.class));
+                assertThat(((NumericRangeFieldDomain) read.domains().get("bytes")).max(), equalTo("10"));
+                assertThat(((KeywordTermsFieldDomain) read.domains().get("service.name")).values(), equalTo(List.of(new BytesRef("api"))));
+                assertThat(read.emptyFields(), equalTo(Set.of("host.name")));
+            }
+        }
+    }
+
+    private static Document document(long timestamp, long bytes, double ratio, String service) {
+        Document document = new Document();
+        document.add(new LongPoint("@timestamp", timestamp));
+        document.add(new LongPoint("bytes", bytes));
+        document.add(new DoublePoint("ratio", ratio));
+        document.add(new StringField("service.name", service, Field.Store.NO));
+        return document;
+    }
+
+    private static NumericRangeFieldDomain numeric(String min, String max) {
+        return new NumericRangeFieldDomain("bytes", min, max, true, IndexFieldDomainMetadata.AUTO_SOURCE);
+    }
+
+    private static KeywordTermsFieldDomain keyword(String value) {
+        return KeywordTermsFieldDomain.exact("service.name", List.of(new BytesRef(value)), true, IndexFieldDomainMetadata.AUTO_SOURCE);
+    }
+}
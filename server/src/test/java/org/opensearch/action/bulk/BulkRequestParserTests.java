@@ -34,11 +34,14 @@ package org.opensearch.action.bulk;
 
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.xcontent.MediaTypeRegistry;
 import org.opensearch.test.OpenSearchTestCase;
 import org.hamcrest.Matchers;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -194,6 +197,40 @@ public class BulkRequestParserTests extends OpenSearchTestCase {
         assertSame(first.routing(), second.routing());
     }
 
+    public void testParseBodySplitAcrossPages() throws IOException {
+        final StringBuilder body = new StringBuilder();
+        final int numItems = randomIntBetween(1, 50);
+        for (int i = 0; i < numItems; i++) {
+            body.append("{ \"index\":{ \"_index\": \"idx-").append(i % 3).append("\", \"_id\": \"").append(i).append("\" } }\n");
+            body.append("{ \"field\": \"value-").append(i).append("\" }\n");
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        // split the body into small pages that aren't plain arrays as a whole, like the pages of a network buffer
+        final List<BytesReference> pages = new ArrayList<>();
+        int offset = 0;
+        while (offset < bytes.length) {
+            final int length = Math.min(bytes.length - offset, randomIntBetween(1, 16));
+            pages.add(new BytesArray(bytes, offset, length));
+            offset += length;
+        }
+        final BytesReference paged = CompositeBytesReference.of(pages.toArray(new BytesReference[0]));
+
+        final List<IndexRequest> expected = new ArrayList<>();
+        final List<IndexRequest> actual = new ArrayList<>();
+        final BulkRequestParser parser = new BulkRequestParser();
+        for (BytesReference data : List.of(new BytesArray(bytes), paged)) {
+            final List<IndexRequest> target = data == paged ? actual : expected;
+            parser.parse(data, null, null, null, null, null, true, MediaTypeRegistry.JSON, target::add, r -> fail(), r -> fail());
+        }
+
+        assertThat(actual, Matchers.hasSize(numItems));
+        for (int i = 0; i < numItems; i++) {
+            assertEquals(expected.get(i).index(), actual.get(i).index());
+            assertEquals(expected.get(i).id(), actual.get(i).id());
+            assertEquals(expected.get(i).source(), actual.get(i).source());
+        }
+    }
+
     public void testFailOnUnsupportedAction() {
         BytesArray request = new BytesArray("{ \"baz\":{ \"_id\": \"bar\" } }\n{}\n");
         BulkRequestParser parser = new BulkRequestParser();
@@ -1075,6 +1075,58 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testBatchedParsingOnPrimary() throws Exception {
+        final IndexShard shard = spy(newStartedShard(true));
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(2, 50)];
+        for (int i = 0; i < items.length - 1; i++) {
+            DocWriteRequest<IndexRequest> writeRequest = new IndexRequest("index").id("id_" + i)
+                .source(Requests.INDEX_CONTENT_TYPE)
+                .create(randomBoolean());
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        // conflicts with the first item, which is only detected when executing and not when parsing
+        final int last = items.length - 1;
+        items[last] = new BulkItemRequest(last, new IndexRequest("index").id("id_0").source(Requests.INDEX_CONTENT_TYPE).create(true));
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        final BulkShardRequest[] completedRequest = new BulkShardRequest[1];
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            listener -> {},
+            new LatchedActionListener<>(
+                ActionTestUtils.assertNoFailureListener(result -> completedRequest[0] = result.replicaRequest()),
+                latch
+            ),
+            threadPool,
+            Names.WRITE,
+            randomIntBetween(1, 4)
+        );
+        latch.await();
+
+        // all documents fit the existing mapping, so none of them had to be parsed again
+        verify(shard, times(items.length)).applyPreparedIndexOperationOnPrimary(any());
+        verify(shard, times(0)).applyIndexOperationOnPrimary(anyLong(), any(), any(), anyLong(), anyLong(), anyLong(), anyBoolean());
+
+        for (int i = 0; i < last; i++) {
+            BulkItemResponse primaryResponse = completedRequest[0].items()[i].primaryResponse();
+            assertThat(primaryResponse.getItemId(), equalTo(i));
+            assertThat(primaryResponse.getId(), equalTo("id_" + i));
+            assertFalse(primaryResponse.isFailed());
+        }
+        BulkItemResponse conflict = completedRequest[0].items()[last].primaryResponse();
+        assertTrue(conflict.isFailed());
+        assertThat(conflict.getFailure().getCause(), instanceOf(VersionConflictEngineException.class));
+
+        assertDocCount(shard, last);
+        closeShards(shard);
+    }
+
     public void testNoOpReplicationOnPrimaryDocumentFailure() throws Exception {
         final IndexShard shard = spy(newStartedShard(false));
         final String failureMessage = "simulated primary failure";
@@ -38,6 +38,8 @@ import org.apache.lucene.search.TotalHits;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.common.breaker.TestCircuitBreaker;
 import org.opensearch.common.lucene.search.TopDocsAndMaxScore;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.BigArrays;
 import org.opensearch.common.util.concurrent.OpenSearchExecutors;
 import org.opensearch.common.util.concurrent.OpenSearchThreadPoolExecutor;
@@ -45,6 +47,7 @@ import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.CircuitBreakingException;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
 import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.SearchShardTarget;
 import org.opensearch.search.aggregations.AggregationBuilders;
@@ -68,6 +71,9 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+
 public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
 
     private SearchPhaseController searchPhaseController;
@@ -187,6 +193,184 @@ public class QueryPhaseResultConsumerTests extends OpenSearchTestCase {
         assertThrows(CircuitBreakingException.class, queryPhaseResultConsumer::reduce);
     }
 
+    public void testParallelReduceCombinesAllShardResults() throws Exception {
+        OpenSearchThreadPoolExecutor parallelExecutor = OpenSearchExecutors.newFixed(
+            "test_parallel",
+            4,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("test_parallel"),
+            threadPool.getThreadContext()
+        );
+        try {
+            SearchRequest searchRequest = new SearchRequest("index");
+            searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(1));
+            searchRequest.setBatchedReduceSize(3);
+            int numShards = randomIntBetween(20, 100);
+            AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+            QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                parallelExecutor,
+                new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                numShards,
+                onPartialMergeFailure::set,
+                () -> false,
+                4,
+                null
+            );
+            assertTrue(consumer.isParallelReduce());
+
+            CountDownLatch latch = new CountDownLatch(numShards);
+            for (int i = 0; i < numShards; i++) {
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+                consumer.consumeResult(querySearchResult, latch::countDown);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertNull(onPartialMergeFailure.get());
+
+            SearchPhaseController.ReducedQueryPhase reducePhase = consumer.reduce();
+            InternalMax max = reducePhase.aggregations.get("test");
+            assertEquals(numShards - 1, max.getValue(), 0d);
+            assertTrue(reducePhase.numReducePhases > 1);
+            consumer.close();
+        } finally {
+            parallelExecutor.shutdownNow();
+        }
+    }
+
+    public void testParallelReduceIsDisabledWhenProgressIsObserved() {
+        QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+            new SearchRequest("index"),
+            executor,
+            new NoopCircuitBreaker(CircuitBreaker.REQUEST),
+            searchPhaseController,
+            new ThrowingSearchProgressListener(),
+            writableRegistry(),
+            10,
+            e -> {},
+            () -> false,
+            4,
+            null
+        );
+
+        assertFalse(consumer.isParallelReduce());
+    }
+
+    public void testParallelReduceReleasesCircuitBreaker() throws Exception {
+        CircuitBreaker breaker = newRequestBreaker("100mb");
+        OpenSearchThreadPoolExecutor parallelExecutor = newParallelExecutor();
+        try {
+            SearchRequest searchRequest = new SearchRequest("index");
+            searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(1));
+            searchRequest.setBatchedReduceSize(3);
+            int numShards = randomIntBetween(20, 100);
+            AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+            QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                parallelExecutor,
+                breaker,
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                numShards,
+                onPartialMergeFailure::set,
+                () -> false,
+                4,
+                null
+            );
+            assertTrue(consumer.isParallelReduce());
+
+            CountDownLatch latch = new CountDownLatch(numShards);
+            for (int i = 0; i < numShards; i++) {
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+                consumer.consumeResult(querySearchResult, latch::countDown);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            assertNull(onPartialMergeFailure.get());
+            assertThat(breaker.getUsed(), greaterThan(0L));
+
+            SearchPhaseController.ReducedQueryPhase reducePhase = consumer.reduce();
+            InternalMax max = reducePhase.aggregations.get("test");
+            assertEquals(numShards - 1, max.getValue(), 0d);
+            consumer.close();
+            assertEquals(0L, breaker.getUsed());
+        } finally {
+            parallelExecutor.shutdownNow();
+        }
+    }
+
+    public void testParallelReduceFailsWhenCircuitBreakerTrips() throws Exception {
+        // small enough to trip before all the shard results are reduced, wherever that happens
+        CircuitBreaker breaker = newRequestBreaker(randomIntBetween(64, 256) + "b");
+        OpenSearchThreadPoolExecutor parallelExecutor = newParallelExecutor();
+        try {
+            SearchRequest searchRequest = new SearchRequest("index");
+            searchRequest.source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("test").field("value")).size(1));
+            searchRequest.setBatchedReduceSize(3);
+            int numShards = randomIntBetween(20, 100);
+            AtomicReference<Exception> onPartialMergeFailure = new AtomicReference<>();
+            QueryPhaseResultConsumer consumer = new QueryPhaseResultConsumer(
+                searchRequest,
+                parallelExecutor,
+                breaker,
+                searchPhaseController,
+                SearchProgressListener.NOOP,
+                writableRegistry(),
+                numShards,
+                onPartialMergeFailure::set,
+                () -> false,
+                4,
+                null
+            );
+            assertTrue(consumer.isParallelReduce());
+
+            CountDownLatch latch = new CountDownLatch(numShards);
+            for (int i = 0; i < numShards; i++) {
+                QuerySearchResult querySearchResult = getQuerySearchResult(i);
+                querySearchResult.aggregations(InternalAggregations.from(List.of(new InternalMax("test", i, DocValueFormat.RAW, null))));
+                consumer.consumeResult(querySearchResult, latch::countDown);
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+            if (onPartialMergeFailure.get() != null) {
+                assertThat(onPartialMergeFailure.get(), instanceOf(CircuitBreakingException.class));
+                assertEquals(0L, breaker.getUsed());
+            }
+
+            expectThrows(CircuitBreakingException.class, consumer::reduce);
+            consumer.close();
+            assertEquals(0L, breaker.getUsed());
+            assertThat(breaker.getTrippedCount(), greaterThan(0L));
+        } finally {
+            parallelExecutor.shutdownNow();
+        }
+    }
+
+    private OpenSearchThreadPoolExecutor newParallelExecutor() {
+        return OpenSearchExecutors.newFixed(
+            "test_parallel",
+            4,
+            100,
+            OpenSearchExecutors.daemonThreadFactory("test_parallel"),
+            threadPool.getThreadContext()
+        );
+    }
+
+    private static CircuitBreaker newRequestBreaker(String limit) {
+        Settings settings = Settings.builder()
+            .put(HierarchyCircuitBreakerService.USE_REAL_MEMORY_USAGE_SETTING.getKey(), false)
+            .put(HierarchyCircuitBreakerService.REQUEST_CIRCUIT_BREAKER_LIMIT_SETTING.getKey(), limit)
+            .build();
+        return new HierarchyCircuitBreakerService(
+            settings,
+            Collections.emptyList(),
+            new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        ).getBreaker(CircuitBreaker.REQUEST);
+    }
+
     private static QuerySearchResult getQuerySearchResult(int i) {
         SearchShardTarget searchShardTarget = new SearchShardTarget("node", new ShardId("index", "uuid", i), null, OriginalIndices.NONE);
 
@@ -8,6 +8,7 @@
 
 package org.opensearch.action.search;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.action.OriginalIndices;
 import org.opensearch.action.search.pruning.FieldDomainEvaluationContext;
@@ -30,6 +31,7 @@ import org.opensearch.index.fielddomain.DateRangeFieldDomain;
 import org.opensearch.index.fielddomain.FieldDomain;
 import org.opensearch.index.fielddomain.FieldDomainProvider;
 import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.index.fielddomain.KeywordTermsFieldDomain;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.PointInTimeBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
@@ -278,6 +280,49 @@ public class SearchIndexPruningServiceTests extends OpenSearchTestCase {
         assertFalse(result.isPrunedShardGroup(1));
     }
 
+    public void testPrunesTermQueriesOnlyWithTrustedAutomaticKeywordDomains() {
+        Settings settings = Settings.builder()
+            .put(SearchIndexPruningSettings.ENABLED.getKey(), true)
+            .put(SearchIndexPruningSettings.MIN_SHARDS.getKey(), 1)
+            .putList(SearchIndexPruningSettings.FIELDS.getKey(), "service.name")
+            .build();
+        SearchIndexPruningService service = new SearchIndexPruningService(clusterSettings(settings), new ClusterStateFieldDomainProvider());
+
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.exact(
+            "service.name",
+            List.of(new BytesRef("api")),
+            true,
+            IndexFieldDomainMetadata.AUTO_SOURCE
+        );
+        IndexMetadata blocked = IndexFieldDomainMetadata.getInstance()
+            .putAutoFieldDomains(
+                indexMetadataBuilder("logs-000001").settings(
+                    Settings.builder()
+                        .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                        .put(IndexMetadata.SETTING_INDEX_UUID, "_na_")
+                        .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                ).build(),
+                List.of(domain)
+            );
+        // Lifting the block bumps the settings version, which invalidates the automatically computed domain.
+        IndexMetadata unblocked = IndexMetadata.builder(blocked)
+            .index("logs-000002")
+            .settings(Settings.builder().put(blocked.getSettings()).put(IndexMetadata.SETTING_BLOCKS_WRITE, false))
+            .settingsVersion(blocked.getSettingsVersion() + 1)
+            .build();
+
+        SearchIndexPruningResult result = service.prune(
+            new SearchRequest().source(new SearchSourceBuilder().query(QueryBuilders.termQuery("service.name", "web"))),
+            new GroupShardsIterator<>(List.of(shardIterator("logs-000001", 0), shardIterator("logs-000002", 0))),
+            clusterState(blocked, unblocked),
+            evaluationContext()
+        );
+
+        assertTrue(result.pruned());
+        assertTrue(result.isPrunedShardGroup(0));
+        assertFalse(result.isPrunedShardGroup(1));
+    }
+
     private static SearchRequest searchRequest() {
         return new SearchRequest().source(new SearchSourceBuilder());
     }
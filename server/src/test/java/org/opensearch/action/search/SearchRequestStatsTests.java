@@ -77,6 +77,20 @@ public class SearchRequestStatsTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSearchRequestReduceStats() {
+        ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        SearchRequestStats testRequestStats = new SearchRequestStats(clusterSettings);
+        SearchRequestContext searchRequestContext = mock(SearchRequestContext.class);
+        long tookTimeInMillis = randomIntBetween(1, 10);
+
+        testRequestStats.onReduceStart(searchRequestContext);
+        assertEquals(1, testRequestStats.getReduceCurrent());
+        testRequestStats.onReduceEnd(searchRequestContext, TimeUnit.MILLISECONDS.toNanos(tookTimeInMillis));
+        assertEquals(0, testRequestStats.getReduceCurrent());
+        assertEquals(1, testRequestStats.getReduceTotal());
+        assertEquals(tookTimeInMillis, testRequestStats.getReduceMetric());
+    }
+
     public void testSearchRequestStats() {
         ClusterSettings clusterSettings = new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
         SearchRequestStats testRequestStats = new SearchRequestStats(clusterSettings);
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.fielddomain.KeywordTermsFieldDomain;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class KeywordTermsFieldDomainEvaluatorTests extends OpenSearchTestCase {
+    private final FieldDomainEvaluators evaluators = FieldDomainEvaluators.defaultEvaluators();
+    private final FieldDomainEvaluationContext context = new FieldDomainEvaluationContext(() -> 0L);
+
+    public void testCanMatchEvaluatesTermsAgainstExactDomains() {
+        KeywordTermsFieldDomain domain = exact(true, "api", "web");
+
+        assertTrue(evaluators.canMatch(domain, terms("api"), context));
+        assertTrue(evaluators.canMatch(domain, terms("db", new BytesRef("web")), context));
+        assertFalse(evaluators.canMatch(domain, terms("db", "cache"), context));
+    }
+
+    public void testCanMatchEvaluatesTermsAgainstBloomDomains() {
+        List<BytesRef> values = new ArrayList<>();
+        for (int i = 0; i <= KeywordTermsFieldDomain.MAX_EXACT_VALUES; i++) {
+            values.add(new BytesRef("service-" + i));
+        }
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.of("service.name", values, true, "test").orElseThrow();
+
+        assertFalse(domain.isExact());
+        assertTrue(evaluators.canMatch(domain, terms("service-7"), context));
+        assertFalse(evaluators.canMatch(domain, terms("other"), context));
+    }
+
+    public void testCanMatchEvaluatesRangesAgainstExactDomains() {
+        KeywordTermsFieldDomain domain = exact(true, "b", "d");
+
+        assertTrue(evaluators.canMatch(domain, range("a", "b", true, true), context));
+        assertFalse(evaluators.canMatch(domain, range("a", "b", true, false), context));
+        assertFalse(evaluators.canMatch(domain, range("e", null, true, true), context));
+        assertTrue(evaluators.canMatch(domain, range("c", null, true, true), context));
+        assertFalse(evaluators.canMatch(domain, range("b", "d", false, false), context));
+    }
+
+    public void testCanMatchReturnsTrueWhenEvaluationIsUnsupportedOrUnsafe() {
+        assertTrue(evaluators.canMatch(exact(false, "api"), terms("db"), context));
+        assertTrue(
+            evaluators.canMatch(
+                exact(true, "b"),
+                new RangeQueryConstraint("service.name", "x", null, true, true, "strict_date", null, null),
+                context
+            )
+        );
+    }
+
+    private static KeywordTermsFieldDomain exact(boolean finalized, String... values) {
+        List<BytesRef> terms = new ArrayList<>();
+        for (String value : values) {
+            terms.add(new BytesRef(value));
+        }
+        return KeywordTermsFieldDomain.exact("service.name", terms, finalized, "test");
+    }
+
+    private static RangeQueryConstraint range(Object lower, Object upper, boolean includeLower, boolean includeUpper) {
+        return new RangeQueryConstraint("service.name", lower, upper, includeLower, includeUpper, null, null, null);
+    }
+
+    private static TermsQueryConstraint terms(Object... values) {
+        return new TermsQueryConstraint("service.name", List.of(values));
+    }
+}
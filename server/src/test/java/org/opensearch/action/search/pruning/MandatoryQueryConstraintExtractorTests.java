@@ -10,6 +10,7 @@ package org.opensearch.action.search.pruning;
 
 import org.opensearch.common.geo.ShapeRelation;
 import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.indices.TermsLookup;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 
@@ -121,4 +122,35 @@ public class MandatoryQueryConstraintExtractorTests extends OpenSearchTestCase {
 
         assertTrue(extractor.extractMandatoryConstraints(source, Set.of("event.ingested")).isEmpty());
     }
+
+    public void testExtractsTermAndTermsConstraintsFromMandatoryBranches() {
+        SearchSourceBuilder source = new SearchSourceBuilder().query(
+            QueryBuilders.boolQuery()
+                .must(QueryBuilders.termQuery("service.name", "api"))
+                .filter(QueryBuilders.termsQuery("bytes", 1, 2))
+                .should(QueryBuilders.termQuery("service.name", "web"))
+        );
+
+        List<QueryConstraint> constraints = extractor.extractMandatoryConstraints(source, Set.of("service.name", "bytes"));
+
+        assertThat(constraints.size(), equalTo(2));
+        assertThat(constraints.get(0), instanceOf(TermsQueryConstraint.class));
+        assertThat(constraints.get(0).field(), equalTo("service.name"));
+        assertThat(((TermsQueryConstraint) constraints.get(0)).values(), equalTo(List.of("api")));
+        assertThat(constraints.get(1), instanceOf(TermsQueryConstraint.class));
+        assertThat(constraints.get(1).field(), equalTo("bytes"));
+        assertThat(((TermsQueryConstraint) constraints.get(1)).values(), equalTo(List.of(1, 2)));
+    }
+
+    public void testDoesNotExtractCaseInsensitiveTermOrTermsLookup() {
+        SearchSourceBuilder caseInsensitive = new SearchSourceBuilder().query(
+            QueryBuilders.termQuery("service.name", "api").caseInsensitive(true)
+        );
+        SearchSourceBuilder lookup = new SearchSourceBuilder().query(
+            QueryBuilders.termsLookupQuery("service.name", new TermsLookup("services", "1", "names"))
+        );
+
+        assertTrue(extractor.extractMandatoryConstraints(caseInsensitive, Set.of("service.name")).isEmpty());
+        assertTrue(extractor.extractMandatoryConstraints(lookup, Set.of("service.name")).isEmpty());
+    }
 }
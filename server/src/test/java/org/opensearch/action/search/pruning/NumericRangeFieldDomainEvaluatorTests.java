@@ -0,0 +1,80 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.action.search.pruning;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.common.geo.ShapeRelation;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.List;
+
+public class NumericRangeFieldDomainEvaluatorTests extends OpenSearchTestCase {
+    private final FieldDomainEvaluators evaluators = FieldDomainEvaluators.defaultEvaluators();
+    private final FieldDomainEvaluationContext context = new FieldDomainEvaluationContext(() -> 0L);
+
+    public void testCanMatchReturnsFalseForDisjointRanges() {
+        assertFalse(evaluators.canMatch(bounds("100", "200", true), range(300L, 400L, true, true), context));
+        assertFalse(evaluators.canMatch(bounds("100", "200", true), range(200L, 400L, false, true), context));
+        assertFalse(evaluators.canMatch(bounds("100", "200", true), range(null, 100L, true, false), context));
+        assertFalse(evaluators.canMatch(bounds("100", "200", true), range(null, 99.5, true, true), context));
+    }
+
+    public void testCanMatchReturnsTrueForIntersectingRanges() {
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), range(200L, 400L, true, true), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), range(null, 100L, true, true), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), range("150", null, true, true), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), range(199.5, 300L, true, true), context));
+    }
+
+    public void testCanMatchComparesUnsignedLongBoundsExactly() {
+        NumericRangeFieldDomain domain = bounds("9223372036854775808", "18446744073709551615", true);
+
+        assertFalse(evaluators.canMatch(domain, range(null, Long.MAX_VALUE, true, true), context));
+        assertTrue(evaluators.canMatch(domain, range("18446744073709551615", null, true, true), context));
+    }
+
+    public void testCanMatchEvaluatesTermsConstraints() {
+        assertFalse(evaluators.canMatch(bounds("100", "200", true), terms(1, 99L, "300"), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), terms(1, 150), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), terms(new BytesRef("200")), context));
+    }
+
+    public void testCanMatchReturnsTrueWhenEvaluationIsUnsupportedOrUnsafe() {
+        assertTrue(evaluators.canMatch(bounds("100", "200", false), range(300L, 400L, true, true), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), range("not-a-number", null, true, true), context));
+        assertTrue(evaluators.canMatch(bounds("100", "200", true), terms("not-a-number"), context));
+        assertTrue(
+            evaluators.canMatch(
+                bounds("100", "200", true),
+                new RangeQueryConstraint("bytes", 300L, 400L, true, true, null, null, ShapeRelation.INTERSECTS),
+                context
+            )
+        );
+        assertTrue(
+            evaluators.canMatch(
+                bounds("100", "200", true),
+                new RangeQueryConstraint("bytes", 300L, 400L, true, true, "strict_date", null, null),
+                context
+            )
+        );
+    }
+
+    private static NumericRangeFieldDomain bounds(String min, String max, boolean finalized) {
+        return new NumericRangeFieldDomain("bytes", min, max, finalized, "test");
+    }
+
+    private static RangeQueryConstraint range(Object lower, Object upper, boolean includeLower, boolean includeUpper) {
+        return new RangeQueryConstraint("bytes", lower, upper, includeLower, includeUpper, null, null, null);
+    }
+
+    private static TermsQueryConstraint terms(Object... values) {
+        return new TermsQueryConstraint("bytes", List.of(values));
+    }
+}
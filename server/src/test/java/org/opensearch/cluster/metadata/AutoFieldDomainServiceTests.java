@@ -0,0 +1,308 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.metadata;
+
+import org.opensearch.Version;
+import org.opensearch.action.admin.indices.fielddomain.ComputeIndexFieldDomainsAction;
+import org.opensearch.action.admin.indices.fielddomain.ComputeIndexFieldDomainsRequest;
+import org.opensearch.action.admin.indices.fielddomain.ComputeIndexFieldDomainsResponse;
+import org.opensearch.action.search.pruning.SearchIndexPruningSettings;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.coordination.DeterministicTaskQueue;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.fielddomain.FieldDomain;
+import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.transport.client.Client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AutoFieldDomainServiceTests extends OpenSearchTestCase {
+    private static final IndexFieldDomainMetadata FIELD_DOMAIN_METADATA = IndexFieldDomainMetadata.getInstance();
+
+    private DeterministicTaskQueue deterministicTaskQueue;
+    private ClusterService clusterService;
+    private List<ComputeRequest> computeRequests;
+    private List<Long> publishedSettingsVersions;
+    private List<Collection<Index>> removedIndices;
+    private ClusterState currentState;
+    private AutoFieldDomainService service;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        Settings settings = Settings.builder()
+            .put(SearchIndexPruningSettings.ENABLED.getKey(), true)
+            .putList(SearchIndexPruningSettings.FIELDS.getKey(), "bytes", "host")
+            .build();
+        deterministicTaskQueue = new DeterministicTaskQueue(settings, random());
+        clusterService = mock(ClusterService.class);
+        when(clusterService.getSettings()).thenReturn(settings);
+        when(clusterService.getClusterSettings()).thenReturn(new ClusterSettings(settings, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS));
+        when(clusterService.state()).thenAnswer(invocation -> currentState);
+
+        computeRequests = new ArrayList<>();
+        Client client = mock(Client.class);
+        doAnswer(invocation -> {
+            computeRequests.add(new ComputeRequest(invocation.getArgument(1), invocation.getArgument(2)));
+            return null;
+        }).when(client).execute(eq(ComputeIndexFieldDomainsAction.INSTANCE), any(), any());
+
+        publishedSettingsVersions = new ArrayList<>();
+        removedIndices = new ArrayList<>();
+        MetadataIndexFieldDomainService fieldDomainService = mock(MetadataIndexFieldDomainService.class);
+        doAnswer(invocation -> {
+            publishedSettingsVersions.add(invocation.getArgument(1));
+            invocation.<ActionListener<Void>>getArgument(3).onResponse(null);
+            return null;
+        }).when(fieldDomainService).putAutoFieldDomains(any(), anyLong(), any(), any());
+        doAnswer(invocation -> {
+            removedIndices.add(invocation.getArgument(0));
+            return null;
+        }).when(fieldDomainService).removeAutoFieldDomains(any(), any());
+
+        service = new AutoFieldDomainService(clusterService, deterministicTaskQueue.getThreadPool(), client, fieldDomainService);
+    }
+
+    public void testComputesOnlyForWriteBlockedIndices() {
+        IndexMetadata blocked = writeBlocked(indexMetadata("logs-000001"), true);
+        IndexMetadata unblocked = indexMetadata("logs-000002");
+        applyState(true, blocked, unblocked);
+
+        assertThat(computeRequests.size(), equalTo(1));
+        assertThat(computeRequests.get(0).request.indices(), equalTo(new String[] { "logs-000001" }));
+        assertThat(computeRequests.get(0).request.fields(), contains("bytes", "host"));
+
+        computeRequests.get(0).respond(List.of(autoDomain()));
+        assertThat(publishedSettingsVersions, contains(blocked.getSettingsVersion()));
+
+        // the computed index is not computed again on further cluster state updates
+        applyState(true, blocked, unblocked, indexMetadata("logs-000003"));
+        assertThat(computeRequests.size(), equalTo(1));
+    }
+
+    public void testSkipsFieldsWithExternalDomains() {
+        IndexMetadata blocked = IndexMetadata.builder(writeBlocked(indexMetadata("logs-000001"), true))
+            .putCustom(
+                IndexFieldDomainMetadata.CUSTOM_KEY,
+                FIELD_DOMAIN_METADATA.toCustomData(new NumericRangeFieldDomain("bytes", "1", "10", true, "test"))
+            )
+            .build();
+        applyState(true, blocked);
+
+        assertThat(computeRequests.size(), equalTo(1));
+        assertThat(computeRequests.get(0).request.fields(), contains("host"));
+    }
+
+    public void testRecomputesOnSettingsVersionChange() {
+        IndexMetadata blocked = writeBlocked(indexMetadata("logs-000001"), true);
+        applyState(true, blocked);
+        computeRequests.get(0).respond(List.of(autoDomain()));
+
+        IndexMetadata updated = IndexMetadata.builder(blocked).settingsVersion(blocked.getSettingsVersion() + 1).build();
+        applyState(true, updated);
+
+        assertThat(computeRequests.size(), equalTo(2));
+        computeRequests.get(1).respond(List.of(autoDomain()));
+        assertThat(publishedSettingsVersions, contains(blocked.getSettingsVersion(), updated.getSettingsVersion()));
+    }
+
+    public void testRemovesDomainsWhenBlockIsLifted() {
+        IndexMetadata withDomains = FIELD_DOMAIN_METADATA.putAutoFieldDomains(
+            writeBlocked(indexMetadata("logs-000001"), true),
+            List.of(autoDomain())
+        );
+        applyState(true, withDomains);
+        assertThat(computeRequests, empty());
+        assertThat(removedIndices, empty());
+
+        IndexMetadata unblocked = writeBlocked(withDomains, false);
+        applyState(true, unblocked, indexMetadata("logs-000002"));
+
+        assertThat(computeRequests, empty());
+        assertThat(removedIndices.size(), equalTo(1));
+        assertThat(removedIndices.get(0), contains(unblocked.getIndex()));
+    }
+
+    public void testStopsAfterMaxAttempts() {
+        IndexMetadata blocked = writeBlocked(indexMetadata("logs-000001"), true);
+        applyState(true, blocked);
+
+        for (int attempt = 1; attempt <= AutoFieldDomainService.MAX_ATTEMPTS; attempt++) {
+            assertThat(computeRequests.size(), equalTo(attempt));
+            computeRequests.get(attempt - 1).fail();
+            // failed attempts are retried after a delay
+            runRetries();
+        }
+
+        assertThat(computeRequests.size(), equalTo(AutoFieldDomainService.MAX_ATTEMPTS));
+        applyState(true, blocked, indexMetadata("logs-000002"));
+        assertThat(computeRequests.size(), equalTo(AutoFieldDomainService.MAX_ATTEMPTS));
+        assertThat(publishedSettingsVersions, empty());
+    }
+
+    public void testResetsOnClusterManagerFailover() {
+        IndexMetadata blocked = writeBlocked(indexMetadata("logs-000001"), true);
+        applyState(true, blocked);
+        computeRequests.get(0).respond(List.of(autoDomain()));
+
+        // another node is elected, which does not compute anything
+        applyState(false, blocked, indexMetadata("logs-000002"));
+        assertThat(computeRequests.size(), equalTo(1));
+
+        // once elected again, the domains that are not in the cluster state yet are computed again
+        applyState(true, blocked);
+        assertThat(computeRequests.size(), equalTo(2));
+    }
+
+    public void testThrottlesConcurrentComputations() {
+        int numIndices = AutoFieldDomainService.MAX_CONCURRENT_COMPUTATIONS + randomIntBetween(1, 5);
+        IndexMetadata[] indices = new IndexMetadata[numIndices];
+        for (int i = 0; i < numIndices; i++) {
+            indices[i] = writeBlocked(indexMetadata("logs-00000" + i), true);
+        }
+        applyState(true, indices);
+        assertThat(computeRequests.size(), equalTo(AutoFieldDomainService.MAX_CONCURRENT_COMPUTATIONS));
+
+        // further cluster state updates do not start more computations while the permits are taken
+        applyState(true, indices);
+        assertThat(computeRequests.size(), equalTo(AutoFieldDomainService.MAX_CONCURRENT_COMPUTATIONS));
+
+        // each completed computation lets the next index in, whether it succeeded or failed
+        for (int completed = 0; completed < numIndices; completed++) {
+            ComputeRequest request = computeRequests.get(completed);
+            if (randomBoolean()) {
+                request.respond(List.of(autoDomain()));
+            } else {
+                request.respond(List.of());
+            }
+            deterministicTaskQueue.runAllRunnableTasks();
+            int started = Math.min(numIndices, completed + 1 + AutoFieldDomainService.MAX_CONCURRENT_COMPUTATIONS);
+            assertThat(computeRequests.size(), equalTo(started));
+        }
+        assertThat(computeRequests.stream().map(r -> r.request.indices()[0]).distinct().count(), equalTo((long) numIndices));
+    }
+
+    private void applyState(boolean localNodeElected, IndexMetadata... indices) {
+        DiscoveryNode localNode = new DiscoveryNode("local", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode otherNode = new DiscoveryNode("other", buildNewFakeTransportAddress(), Version.CURRENT);
+        Metadata.Builder metadata = Metadata.builder();
+        RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (IndexMetadata indexMetadata : indices) {
+            metadata.put(indexMetadata, false);
+            ShardId shardId = new ShardId(indexMetadata.getIndex(), 0);
+            routingTable.add(
+                IndexRoutingTable.builder(indexMetadata.getIndex())
+                    .addIndexShard(
+                        new IndexShardRoutingTable.Builder(shardId).addShard(
+                            TestShardRouting.newShardRouting(shardId, localNode.getId(), true, ShardRoutingState.STARTED)
+                        ).build()
+                    )
+            );
+        }
+        ClusterState previousState = currentState == null ? ClusterState.builder(ClusterName.DEFAULT).build() : currentState;
+        currentState = ClusterState.builder(ClusterName.DEFAULT)
+            .nodes(
+                DiscoveryNodes.builder()
+                    .add(localNode)
+                    .add(otherNode)
+                    .localNodeId(localNode.getId())
+                    .clusterManagerNodeId(localNodeElected ? localNode.getId() : otherNode.getId())
+            )
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .build();
+        service.clusterChanged(new ClusterChangedEvent("test", currentState, previousState));
+        deterministicTaskQueue.runAllRunnableTasks();
+    }
+
+    private void runRetries() {
+        deterministicTaskQueue.runAllRunnableTasks();
+        while (deterministicTaskQueue.hasDeferredTasks()) {
+            deterministicTaskQueue.advanceTime();
+            deterministicTaskQueue.runAllRunnableTasks();
+        }
+    }
+
+    private static NumericRangeFieldDomain autoDomain() {
+        return new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE);
+    }
+
+    private static IndexMetadata writeBlocked(IndexMetadata indexMetadata, boolean blocked) {
+        return IndexMetadata.builder(indexMetadata)
+            .settings(Settings.builder().put(indexMetadata.getSettings()).put(IndexMetadata.SETTING_BLOCKS_WRITE, blocked))
+            .settingsVersion(indexMetadata.getSettingsVersion() + 1)
+            .build();
+    }
+
+    private static IndexMetadata indexMetadata(String index) {
+        return IndexMetadata.builder(index)
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, index + "-uuid")
+                    .build()
+            )
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+
+    /**
+     * A captured compute request with the listener to complete it.
+     */
+    private static class ComputeRequest {
+        private final ComputeIndexFieldDomainsRequest request;
+        private final ActionListener<ComputeIndexFieldDomainsResponse> listener;
+
+        ComputeRequest(ComputeIndexFieldDomainsRequest request, ActionListener<ComputeIndexFieldDomainsResponse> listener) {
+            this.request = request;
+            this.listener = listener;
+        }
+
+        void respond(List<FieldDomain> fieldDomains) {
+            ComputeIndexFieldDomainsResponse response = mock(ComputeIndexFieldDomainsResponse.class);
+            when(response.getTotalShards()).thenReturn(1);
+            when(response.getSuccessfulShards()).thenReturn(1);
+            when(response.getFieldDomains()).thenReturn(fieldDomains);
+            listener.onResponse(response);
+        }
+
+        void fail() {
+            listener.onFailure(new IllegalStateException("failed to compute field domains"));
+        }
+    }
+}
@@ -66,6 +66,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -74,6 +75,7 @@ import static org.opensearch.cluster.metadata.IndexMetadata.parseIndexNameCounte
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 
 public class IndexMetadataTests extends OpenSearchTestCase {
 
@@ -856,6 +858,62 @@ public class IndexMetadataTests extends OpenSearchTestCase {
         }
     }
 
+    public void testSettingsDiffRoundTrip() throws IOException {
+        IndexMetadata before = IndexMetadata.builder("test-diff")
+            .settings(
+                Settings.builder()
+                    .put("index.version.created", 1 ^ MASK)
+                    .put("index.number_of_shards", 2)
+                    .put("index.number_of_replicas", 0)
+                    .put("index.refresh_interval", "1s")
+                    .putList("index.routing.allocation.include._name", "node1", "node2")
+                    .put("index.max_result_window", 500)
+                    .build()
+            )
+            .creationDate(randomLong())
+            .build();
+        Settings.Builder afterSettings = Settings.builder()
+            .put(before.getSettings())
+            .put("index.number_of_replicas", 1)
+            .putList("index.routing.allocation.include._name", "node1", "node3")
+            .put("index.blocks.write", true)
+            .putNull("index.max_result_window");
+        afterSettings.remove("index.refresh_interval");
+        IndexMetadata after = IndexMetadata.builder(before)
+            .settings(afterSettings)
+            .settingsVersion(before.getSettingsVersion() + 1)
+            .version(before.getVersion() + 1)
+            .build();
+
+        Diff<IndexMetadata> diff = new IndexMetadata.IndexMetadataDiff(before, after);
+        final BytesStreamOutput out = new BytesStreamOutput();
+        diff.writeTo(out);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(), writableRegistry())) {
+            IndexMetadata applied = IndexMetadata.readDiffFrom(in).apply(before);
+            assertEquals(after, applied);
+            assertEquals(after.getSettings(), applied.getSettings());
+            assertEquals(List.of("node1", "node3"), applied.getSettings().getAsList("index.routing.allocation.include._name"));
+            assertFalse(applied.getSettings().keySet().contains("index.refresh_interval"));
+            assertTrue(applied.getSettings().keySet().contains("index.max_result_window"));
+        }
+
+        // unchanged settings are not serialized
+        final BytesStreamOutput unchangedSettingsOut = new BytesStreamOutput();
+        new IndexMetadata.IndexMetadataDiff(before, IndexMetadata.builder(before).version(before.getVersion() + 1).build()).writeTo(
+            unchangedSettingsOut
+        );
+        assertThat(unchangedSettingsOut.bytes().length(), lessThan(out.bytes().length()));
+
+        // older nodes get the complete settings
+        final BytesStreamOutput bwcOut = new BytesStreamOutput();
+        bwcOut.setVersion(Version.V_3_8_0);
+        diff.writeTo(bwcOut);
+        try (StreamInput in = new NamedWriteableAwareStreamInput(bwcOut.bytes().streamInput(), writableRegistry())) {
+            in.setVersion(Version.V_3_8_0);
+            assertEquals(after.getSettings(), IndexMetadata.readDiffFrom(in).apply(before).getSettings());
+        }
+    }
+
     public void testLegacyCreatedVersion() {
         Index index = new Index("test-index", UUIDs.randomBase64UUID());
         final Settings settings = Settings.builder()
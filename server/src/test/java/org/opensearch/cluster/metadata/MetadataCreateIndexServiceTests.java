@@ -93,6 +93,7 @@ import org.opensearch.indices.RemoteStoreSettings;
 import org.opensearch.indices.ShardLimitValidator;
 import org.opensearch.indices.SystemIndexDescriptor;
 import org.opensearch.indices.SystemIndices;
+import org.opensearch.indices.pollingingest.StreamingXContentIngestionPayloadDecoder;
 import org.opensearch.indices.replication.common.ReplicationType;
 import org.opensearch.node.remotestore.RemoteStoreNodeService;
 import org.opensearch.repositories.RepositoriesService;
@@ -4431,6 +4432,26 @@ public class MetadataCreateIndexServiceTests extends OpenSearchTestCase {
         MetadataCreateIndexService.validateIngestionSourceSettings(settings, state);
     }
 
+    public void testValidateIngestionSourceSettingsStreamingDecoderRequiresDefaultMapper() {
+        DiscoveryNodes nodes = DiscoveryNodes.builder().add(newNode("node1")).build();
+        ClusterState state = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY)).nodes(nodes).build();
+
+        Settings settings = Settings.builder()
+            .put(IndexMetadata.SETTING_INGESTION_SOURCE_DECODER_TYPE, StreamingXContentIngestionPayloadDecoder.NAME)
+            .build();
+        MetadataCreateIndexService.validateIngestionSourceSettings(settings, state);
+
+        Settings rawPayloadSettings = Settings.builder()
+            .put(IndexMetadata.SETTING_INGESTION_SOURCE_DECODER_TYPE, StreamingXContentIngestionPayloadDecoder.NAME)
+            .put(IndexMetadata.SETTING_INGESTION_SOURCE_MAPPER_TYPE, "raw_payload")
+            .build();
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> MetadataCreateIndexService.validateIngestionSourceSettings(rawPayloadSettings, state)
+        );
+        assertTrue(e.getMessage().contains("requires mapper_type [default]"));
+    }
+
     public void testValidateIngestionSourceSettingsWithUnknownMapperSettingsKey() {
         // field_mapping with an unrecognized mapper_settings key — should fail
         DiscoveryNodes nodes = DiscoveryNodes.builder().add(newNode("node1")).build();
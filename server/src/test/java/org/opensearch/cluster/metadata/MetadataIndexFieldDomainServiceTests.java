@@ -17,9 +17,11 @@ import org.opensearch.core.index.Index;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.fielddomain.DateRangeFieldDomain;
 import org.opensearch.index.fielddomain.IndexFieldDomainMetadata;
+import org.opensearch.index.fielddomain.NumericRangeFieldDomain;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.Matchers.containsString;
@@ -99,6 +101,96 @@ public class MetadataIndexFieldDomainServiceTests extends OpenSearchTestCase {
         assertThat(exception.getMessage(), equalTo("field domain metadata is required"));
     }
 
+    public void testApplyAutoFieldDomainsPublishesDomainsForWriteBlockedIndex() {
+        IndexMetadata indexMetadata = writeBlocked(indexMetadata("logs-000001", "index-uuid", Map.of()), true);
+        ClusterState state = clusterState(indexMetadata);
+
+        ClusterState updated = MetadataIndexFieldDomainService.applyAutoFieldDomains(
+            state,
+            indexMetadata.getIndex(),
+            indexMetadata.getSettingsVersion(),
+            List.of(autoDomain())
+        );
+
+        IndexMetadata updatedIndexMetadata = updated.metadata().index("logs-000001");
+        Map<String, String> customData = updatedIndexMetadata.getCustomData(IndexFieldDomainMetadata.CUSTOM_KEY);
+        assertThat(customData.get("fields.bytes.type"), equalTo("numeric_range"));
+        assertTrue(FIELD_DOMAIN_METADATA.hasCurrentAutoFieldDomains(updatedIndexMetadata));
+    }
+
+    public void testApplyAutoFieldDomainsSkipsStaleOrUnblockedIndices() {
+        IndexMetadata blocked = writeBlocked(indexMetadata("logs-000001", "index-uuid", Map.of()), true);
+        IndexMetadata unblocked = indexMetadata("logs-000001", "index-uuid", Map.of());
+
+        ClusterState state = clusterState(blocked);
+        assertSame(
+            state,
+            MetadataIndexFieldDomainService.applyAutoFieldDomains(
+                state,
+                blocked.getIndex(),
+                blocked.getSettingsVersion() - 1,
+                List.of(autoDomain())
+            )
+        );
+        assertSame(
+            state,
+            MetadataIndexFieldDomainService.applyAutoFieldDomains(
+                state,
+                new Index("logs-000001", "other-uuid"),
+                blocked.getSettingsVersion(),
+                List.of(autoDomain())
+            )
+        );
+
+        ClusterState unblockedState = clusterState(unblocked);
+        assertSame(
+            unblockedState,
+            MetadataIndexFieldDomainService.applyAutoFieldDomains(
+                unblockedState,
+                unblocked.getIndex(),
+                unblocked.getSettingsVersion(),
+                List.of(autoDomain())
+            )
+        );
+    }
+
+    public void testRemoveAutoFieldDomainsOnlyFromIndicesWithoutWriteBlock() {
+        IndexMetadata blocked = FIELD_DOMAIN_METADATA.putAutoFieldDomains(
+            writeBlocked(indexMetadata("logs-000001", "uuid-1", Map.of()), true),
+            List.of(autoDomain())
+        );
+        IndexMetadata unblocked = writeBlocked(
+            FIELD_DOMAIN_METADATA.putAutoFieldDomains(
+                writeBlocked(indexMetadata("logs-000002", "uuid-2", Map.of()), true),
+                List.of(autoDomain())
+            ),
+            false
+        );
+        ClusterState state = ClusterState.builder(ClusterName.DEFAULT)
+            .metadata(Metadata.builder().put(blocked, false).put(unblocked, false))
+            .build();
+
+        ClusterState updated = MetadataIndexFieldDomainService.removeAutoFieldDomains(
+            state,
+            List.of(blocked.getIndex(), unblocked.getIndex())
+        );
+
+        assertTrue(FIELD_DOMAIN_METADATA.hasAutoFieldDomains(updated.metadata().index("logs-000001")));
+        assertFalse(FIELD_DOMAIN_METADATA.hasAutoFieldDomains(updated.metadata().index("logs-000002")));
+        assertSame(updated, MetadataIndexFieldDomainService.removeAutoFieldDomains(updated, List.of(unblocked.getIndex())));
+    }
+
+    private static NumericRangeFieldDomain autoDomain() {
+        return new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE);
+    }
+
+    private static IndexMetadata writeBlocked(IndexMetadata indexMetadata, boolean blocked) {
+        return IndexMetadata.builder(indexMetadata)
+            .settings(Settings.builder().put(indexMetadata.getSettings()).put(IndexMetadata.SETTING_BLOCKS_WRITE, blocked))
+            .settingsVersion(indexMetadata.getSettingsVersion() + 1)
+            .build();
+    }
+
     private static PutIndexFieldDomainsClusterStateUpdateRequest request(String index, String indexUUID, DateRangeFieldDomain domain) {
         return new PutIndexFieldDomainsClusterStateUpdateRequest().targetIndex(new Index(index, indexUUID))
             .fieldDomainCustomData(FIELD_DOMAIN_METADATA.toCustomData(domain));
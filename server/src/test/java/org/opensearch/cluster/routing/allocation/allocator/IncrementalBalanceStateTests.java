@@ -0,0 +1,249 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.cluster.routing.allocation.allocator;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.OpenSearchAllocationTestCase;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.RoutingNode;
+import org.opensearch.cluster.routing.RoutingNodes;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.allocation.AllocationService;
+import org.opensearch.cluster.routing.allocation.decider.ClusterRebalanceAllocationDecider;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class IncrementalBalanceStateTests extends OpenSearchAllocationTestCase {
+
+    private static final long NO_BUDGET = -1;
+    private static final long FULL_BALANCE_INTERVAL = TimeUnit.MINUTES.toNanos(10);
+
+    public void testOnlyChangedIndicesNeedBalancing() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final IncrementalBalanceState state = new IncrementalBalanceState(nanoTime::get);
+        final ClusterState clusterState = clusterState(2, "index-1", "index-2");
+        final IndexMetadata index1 = clusterState.metadata().index("index-1");
+        final IndexMetadata index2 = clusterState.metadata().index("index-2");
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertTrue(state.needsBalancing(index1, Set.of()));
+        assertTrue(state.needsBalancing(index2, Set.of()));
+        state.markBalanced(index1);
+        state.markBalanced(index2);
+        assertFalse(state.endRound(Set.of(), 0));
+        assertEquals(2, state.balancedIndexCount());
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertFalse(state.needsBalancing(index1, Set.of()));
+        assertTrue(state.needsBalancing(index2, Set.of("index-2")));
+        assertFalse(state.endRound(Set.of("index-2"), 0));
+        assertEquals(1, state.balancedIndexCount());
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertFalse(state.needsBalancing(index1, Set.of()));
+        assertTrue(state.needsBalancing(index2, Set.of()));
+    }
+
+    public void testIndexSettingsOrUuidChangeNeedsBalancing() {
+        final IncrementalBalanceState state = new IncrementalBalanceState(() -> 0L);
+        final ClusterState clusterState = clusterState(2, "index-1");
+        final IndexMetadata index = clusterState.metadata().index("index-1");
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        state.markBalanced(index);
+        assertFalse(state.needsBalancing(index, Set.of()));
+
+        final IndexMetadata updatedSettings = IndexMetadata.builder(index).settingsVersion(index.getSettingsVersion() + 1).build();
+        assertTrue(state.needsBalancing(updatedSettings, Set.of()));
+
+        final IndexMetadata recreated = indexMetadata("index-1");
+        assertNotEquals(index.getIndexUUID(), recreated.getIndexUUID());
+        assertTrue(state.needsBalancing(recreated, Set.of()));
+    }
+
+    public void testDeletedIndicesAreForgotten() {
+        final IncrementalBalanceState state = new IncrementalBalanceState(() -> 0L);
+        final ClusterState clusterState = clusterState(2, "index-1", "index-2");
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        state.markBalanced(clusterState.metadata().index("index-1"));
+        state.markBalanced(clusterState.metadata().index("index-2"));
+        state.endRound(Set.of(), 0);
+
+        final ClusterState withoutIndex2 = ClusterState.builder(clusterState)
+            .metadata(Metadata.builder(clusterState.metadata()).remove("index-2"))
+            .build();
+        state.startRound(routingNodes(withoutIndex2), withoutIndex2.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(1, state.balancedIndexCount());
+    }
+
+    public void testGlobalChangesForgetAllIndices() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final IncrementalBalanceState state = new IncrementalBalanceState(nanoTime::get);
+        final ClusterState clusterState = clusterState(2, "index-1");
+        final IndexMetadata index = clusterState.metadata().index("index-1");
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        state.markBalanced(index);
+        state.endRound(Set.of(), 0);
+
+        // a node joined
+        final ClusterState moreNodes = clusterState(3, "index-1");
+        state.startRound(routingNodes(moreNodes), moreNodes.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(0, state.balancedIndexCount());
+        state.markBalanced(index);
+        state.endRound(Set.of(), 0);
+
+        // the balancer configuration changed
+        state.startRound(routingNodes(moreNodes), moreNodes.metadata(), "other-config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(0, state.balancedIndexCount());
+        state.markBalanced(index);
+        state.endRound(Set.of(), 0);
+
+        // the cluster settings changed
+        final Metadata updatedSettings = Metadata.builder(moreNodes.metadata())
+            .persistentSettings(Settings.builder().put("cluster.routing.allocation.awareness.attributes", "zone").build())
+            .build();
+        state.startRound(routingNodes(moreNodes), updatedSettings, "other-config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(0, state.balancedIndexCount());
+        state.markBalanced(index);
+        state.endRound(Set.of(), 0);
+
+        // the shard counts of the nodes spread further apart
+        state.startRound(routingNodes(moreNodes), updatedSettings, "other-config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(1, state.balancedIndexCount());
+        state.onNodeShardSpread(1);
+        assertEquals(0, state.balancedIndexCount());
+        state.markBalanced(index);
+        state.endRound(Set.of(), 1);
+
+        // the full balance interval elapsed
+        state.startRound(routingNodes(moreNodes), updatedSettings, "other-config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(1, state.balancedIndexCount());
+        state.endRound(Set.of(), 1);
+        nanoTime.addAndGet(FULL_BALANCE_INTERVAL);
+        state.startRound(routingNodes(moreNodes), updatedSettings, "other-config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        assertEquals(0, state.balancedIndexCount());
+    }
+
+    public void testTimeBudget() {
+        final AtomicLong nanoTime = new AtomicLong();
+        final IncrementalBalanceState state = new IncrementalBalanceState(nanoTime::get);
+        final ClusterState clusterState = clusterState(2, "index-1");
+        final long budget = TimeUnit.SECONDS.toNanos(5);
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", budget, FULL_BALANCE_INTERVAL);
+        nanoTime.addAndGet(budget);
+        assertFalse(state.budgetExhausted());
+        nanoTime.incrementAndGet();
+        assertTrue(state.budgetExhausted());
+        assertTrue(state.endRound(Set.of(), 0));
+
+        // a new round gets a new budget
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", budget, FULL_BALANCE_INTERVAL);
+        assertFalse(state.budgetExhausted());
+        assertFalse(state.endRound(Set.of(), 0));
+
+        state.startRound(routingNodes(clusterState), clusterState.metadata(), "config", NO_BUDGET, FULL_BALANCE_INTERVAL);
+        nanoTime.addAndGet(TimeUnit.DAYS.toNanos(1));
+        assertFalse(state.budgetExhausted());
+    }
+
+    public void testIncrementalBalanceConvergesLikeFullBalance() {
+        final Settings settings = Settings.builder()
+            .put(
+                ClusterRebalanceAllocationDecider.CLUSTER_ROUTING_ALLOCATION_ALLOW_REBALANCE_SETTING.getKey(),
+                ClusterRebalanceAllocationDecider.ClusterRebalanceType.ALWAYS.toString()
+            )
+            .put(BalancedShardsAllocator.INCREMENTAL_BALANCE_ENABLED_SETTING.getKey(), true)
+            .put(BalancedShardsAllocator.INCREMENTAL_BALANCE_TIME_BUDGET_SETTING.getKey(), TimeValue.MINUS_ONE)
+            .build();
+        final AllocationService strategy = createAllocationService(settings);
+
+        final Metadata.Builder metadata = Metadata.builder();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (int i = 0; i < 10; i++) {
+            final IndexMetadata index = IndexMetadata.builder("index-" + i)
+                .settings(settings(Version.CURRENT))
+                .numberOfShards(3)
+                .numberOfReplicas(1)
+                .build();
+            metadata.put(index, false);
+            routingTable.addAsNew(index);
+        }
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < 3; i++) {
+            nodes.add(newNode("node-" + i));
+        }
+        ClusterState clusterState = ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+        clusterState = applyStartedShardsUntilNoChange(clusterState, strategy);
+        assertNodeShardCounts(clusterState, 19, 21);
+
+        // the new nodes only get shards moved to them if the balancer looks at the already balanced indices again
+        nodes = DiscoveryNodes.builder(clusterState.nodes());
+        for (int i = 3; i < 5; i++) {
+            nodes.add(newNode("node-" + i));
+        }
+        clusterState = ClusterState.builder(clusterState).nodes(nodes).build();
+        clusterState = strategy.reroute(clusterState, "reroute");
+        clusterState = applyStartedShardsUntilNoChange(clusterState, strategy);
+        assertNodeShardCounts(clusterState, 11, 13);
+    }
+
+    private static void assertNodeShardCounts(ClusterState clusterState, int min, int max) {
+        assertTrue(clusterState.getRoutingNodes().unassigned().isEmpty());
+        for (RoutingNode node : clusterState.getRoutingNodes()) {
+            final int shards = node.numberOfShardsWithState(ShardRoutingState.STARTED);
+            assertTrue(node.nodeId() + " has " + shards + " shards", shards >= min && shards <= max);
+        }
+    }
+
+    private static RoutingNodes routingNodes(ClusterState clusterState) {
+        return new RoutingNodes(clusterState, false);
+    }
+
+    private static IndexMetadata indexMetadata(String name) {
+        return IndexMetadata.builder(name)
+            .settings(settings(Version.CURRENT).put(IndexMetadata.SETTING_INDEX_UUID, randomAlphaOfLength(10)))
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+
+    private static ClusterState clusterState(int numberOfNodes, String... indices) {
+        final Metadata.Builder metadata = Metadata.builder();
+        final RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (String name : indices) {
+            final IndexMetadata index = indexMetadata(name);
+            metadata.put(index, false);
+            routingTable.addAsNew(index);
+        }
+        final DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes.add(newNode("node-" + i));
+        }
+        return ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+            .metadata(metadata)
+            .routingTable(routingTable.build())
+            .nodes(nodes)
+            .build();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.common.cache;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+public class FrequencySketchTests extends OpenSearchTestCase {
+
+    public void testFrequencyNeverUnderestimates() {
+        final FrequencySketch sketch = new FrequencySketch(between(1, 1024));
+        final int hash = randomInt();
+        final int times = between(0, FrequencySketch.MAX_FREQUENCY);
+        for (int i = 0; i < times; i++) {
+            sketch.increment(hash);
+        }
+        assertTrue(sketch.frequency(hash) >= times);
+    }
+
+    public void testFrequencyIsCapped() {
+        final FrequencySketch sketch = new FrequencySketch(16);
+        final int hash = randomInt();
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(FrequencySketch.MAX_FREQUENCY, sketch.frequency(hash));
+    }
+
+    public void testHotItemsAreMoreFrequentThanColdItems() {
+        final int expectedItems = 512;
+        final FrequencySketch sketch = new FrequencySketch(expectedItems);
+        final int hot = randomInt();
+        for (int i = 0; i < expectedItems; i++) {
+            sketch.increment(hot);
+            sketch.increment(randomInt());
+        }
+        final int cold = randomValueOtherThan(hot, OpenSearchTestCase::randomInt);
+        sketch.increment(cold);
+        assertTrue(sketch.frequency(hot) > sketch.frequency(cold));
+    }
+
+    public void testCountersAgeOut() {
+        final int expectedItems = 64;
+        final FrequencySketch sketch = new FrequencySketch(expectedItems);
+        final int hash = randomInt();
+        for (int i = 0; i < FrequencySketch.MAX_FREQUENCY; i++) {
+            sketch.increment(hash);
+        }
+        // enough distinct additions to trigger several resets
+        for (int i = 0; i < 50 * expectedItems; i++) {
+            sketch.increment(randomInt());
+        }
+        assertTrue(sketch.frequency(hash) < FrequencySketch.MAX_FREQUENCY);
+    }
+}
@@ -16,9 +16,12 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTime
 import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.opensearch.index.compositeindex.datacube.DateDimension.DateTimeUnitComparator.ORDERED_DATE_TIME_UNIT;
@@ -362,4 +365,40 @@ public class DateDimensionTests extends OpenSearchTestCase {
             )
         );
     }
+
+    public void testFindClosestValidIntervalWithTimeZoneAndOffset() {
+        List<DateTimeUnitRounding> intervals = Arrays.asList(
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.MINUTES_OF_HOUR),
+            DataCubeDateTimeUnit.HALF_HOUR_OF_DAY,
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY),
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH)
+        );
+        DateDimension dateDimension = new DateDimension("timestamp", intervals, DateFieldMapper.Resolution.MILLISECONDS);
+        DateTimeUnitRounding day = new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH);
+
+        assertEquals("day", dateDimension.findClosestValidInterval(day, ZoneOffset.UTC, 0).shortName());
+        // buckets of a day in a whole hour time zone are made of whole UTC hours
+        assertEquals("hour", dateDimension.findClosestValidInterval(day, ZoneOffset.ofHours(-5), 0).shortName());
+        assertEquals("hour", dateDimension.findClosestValidInterval(day, ZoneId.of("America/New_York"), 0).shortName());
+        assertEquals("half-hour", dateDimension.findClosestValidInterval(day, ZoneId.of("Asia/Kolkata"), 0).shortName());
+        assertEquals("minute", dateDimension.findClosestValidInterval(day, ZoneId.of("Asia/Kathmandu"), 0).shortName());
+        assertEquals("half-hour", dateDimension.findClosestValidInterval(day, ZoneOffset.UTC, TimeUnit.MINUTES.toMillis(90)).shortName());
+        assertNull(dateDimension.findClosestValidInterval(day, ZoneOffset.UTC, 1234));
+    }
+
+    public void testFindCoarsestAlignedInterval() {
+        List<DateTimeUnitRounding> intervals = Arrays.asList(
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.MINUTES_OF_HOUR),
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY),
+            new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH)
+        );
+        DateDimension dateDimension = new DateDimension("timestamp", intervals, DateFieldMapper.Resolution.MILLISECONDS);
+        long day = 1609459200000L; // 2021-01-01 00:00:00 UTC
+
+        assertEquals("day", dateDimension.findCoarsestAlignedInterval(day, day + TimeUnit.DAYS.toMillis(1)).shortName());
+        assertEquals("day", dateDimension.findCoarsestAlignedInterval(Long.MIN_VALUE, day, Long.MAX_VALUE).shortName());
+        assertEquals("hour", dateDimension.findCoarsestAlignedInterval(day, day + TimeUnit.HOURS.toMillis(5)).shortName());
+        assertEquals("minute", dateDimension.findCoarsestAlignedInterval(day + TimeUnit.MINUTES.toMillis(1)).shortName());
+        assertNull(dateDimension.findCoarsestAlignedInterval(day, day + 1));
+    }
 }
@@ -9,6 +9,9 @@
 package org.opensearch.index.compositeindex.datacube.startree;
 
 import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.Metric;
 import org.opensearch.index.compositeindex.datacube.MetricStat;
@@ -22,8 +25,11 @@ import org.opensearch.index.compositeindex.datacube.startree.utils.SequentialDoc
 import org.opensearch.index.mapper.CompositeMappedFieldType;
 import org.opensearch.index.mapper.FieldValueConverter;
 import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.OnHeapHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.TDigestSketch;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -111,7 +117,13 @@ public class StarTreeTestUtils {
         Object[] metrics = new Object[metricReaders.size()];
         for (SequentialDocValuesIterator metricDocValuesIterator : metricReaders) {
             metricDocValuesIterator.nextEntry(currentDocId);
-            metrics[i] = toAggregatorValueType(metricDocValuesIterator.value(currentDocId), fieldValueConverters.get(i));
+            if (fieldValueConverters.get(i) == null) {
+                // sketch metrics have no converter, and are read as the serialized sketch
+                BytesRef sketch = metricDocValuesIterator.binaryValue(currentDocId);
+                metrics[i] = sketch == null ? null : BytesRef.deepCopyOf(sketch);
+            } else {
+                metrics[i] = toAggregatorValueType(metricDocValuesIterator.value(currentDocId), fieldValueConverters.get(i));
+            }
             i++;
         }
         return new StarTreeDocument(dims, metrics);
@@ -163,6 +175,8 @@ public class StarTreeTestUtils {
                     } else {
                         assertEquals(((CompensatedSum) expectedStarTreeDocument.metrics[mi]).value(), resultStarTreeDocument.metrics[mi]);
                     }
+                } else if (resultStarTreeDocument.metrics[mi] instanceof BytesRef sketch) {
+                    assertSketch(expectedStarTreeDocument.metrics[mi], sketch);
                 } else {
                     assertEquals(expectedStarTreeDocument.metrics[mi], resultStarTreeDocument.metrics[mi]);
                 }
@@ -170,6 +184,24 @@ public class StarTreeTestUtils {
         }
     }
 
+    /**
+     * Sketches are compared by what they estimate, as their serialized form depends on the order the values were added in
+     */
+    public static void assertSketch(Object expectedSketch, BytesRef sketch) {
+        try (StreamInput in = new BytesArray(sketch.bytes, sketch.offset, sketch.length).streamInput()) {
+            if (expectedSketch instanceof OnHeapHyperLogLogPlusPlus expectedHll) {
+                assertEquals(expectedHll.cardinality(0), OnHeapHyperLogLogPlusPlus.readFrom(in).cardinality(0));
+            } else {
+                TDigestSketch expectedDigest = (TDigestSketch) expectedSketch;
+                TDigestSketch digest = TDigestSketch.readFrom(in);
+                assertEquals(expectedDigest.size(), digest.size());
+                assertEquals(expectedDigest.centroidCount(), digest.centroidCount());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     public static void validateFileFormats(
         IndexInput dataIn,
         IndexInput metaIn,
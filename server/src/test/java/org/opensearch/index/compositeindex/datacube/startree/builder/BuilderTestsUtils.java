@@ -10,6 +10,7 @@ package org.opensearch.index.compositeindex.datacube.startree.builder;
 
 import org.apache.lucene.codecs.DocValuesProducer;
 import org.apache.lucene.codecs.lucene104.Lucene104Codec;
+import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValuesSkipIndexType;
 import org.apache.lucene.index.DocValuesType;
 import org.apache.lucene.index.FieldInfo;
@@ -36,6 +37,8 @@ import org.opensearch.index.compositeindex.datacube.MetricStat;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
 import org.opensearch.index.compositeindex.datacube.startree.StarTreeTestUtils;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.NumericValueAggregator;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
 import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.StarTreeMetadata;
 import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
@@ -154,6 +157,46 @@ public class BuilderTestsUtils {
         };
     }
 
+    public static BinaryDocValues getBinaryMock(List<BytesRef> valueList, List<Integer> docsWithField) {
+        return new BinaryDocValues() {
+            int index = -1;
+
+            @Override
+            public BytesRef binaryValue() {
+                return valueList.get(index);
+            }
+
+            @Override
+            public boolean advanceExact(int target) {
+                return false;
+            }
+
+            @Override
+            public int docID() {
+                return index;
+            }
+
+            @Override
+            public int nextDoc() {
+                if (index == docsWithField.size() - 1) {
+                    return NO_MORE_DOCS;
+                }
+                index++;
+                return docsWithField.get(index);
+            }
+
+            @Override
+            public int advance(int target) {
+                return 0;
+            }
+
+            @Override
+            public long cost() {
+                return 0;
+            }
+        };
+    }
+
     public static SortedSetDocValues getSortedSetMock(List<Long> dimList, List<Integer> docsWithField) {
         return getSortedSetMock(dimList, docsWithField, 1);
     }
@@ -428,9 +471,14 @@ public class BuilderTestsUtils {
         StarTreeValues starTreeValues = new StarTreeValues(expectedStarTreeMetadata, dataIn, compositeDocValuesProducer, readState);
         assertEquals(expectedStarTreeMetadata.getStarTreeDocCount(), starTreeValues.getStarTreeDocumentCount());
         List<FieldValueConverter> fieldValueConverters = new ArrayList<>();
-        builder.metricAggregatorInfos.forEach(
-            metricAggregatorInfo -> fieldValueConverters.add(metricAggregatorInfo.getValueAggregators().getAggregatedValueType())
-        );
+        for (MetricAggregatorInfo metricAggregatorInfo : builder.metricAggregatorInfos) {
+            if (metricAggregatorInfo.getValueAggregators() instanceof NumericValueAggregator<?> numericValueAggregator) {
+                fieldValueConverters.add(numericValueAggregator.getAggregatedValueType());
+            } else {
+                // sketch metrics are read back as the serialized sketches
+                fieldValueConverters.add(null);
+            }
+        }
         StarTreeDocument[] starTreeDocuments = StarTreeTestUtils.getSegmentsStarTreeDocuments(
             List.of(starTreeValues),
             fieldValueConverters,
@@ -501,8 +549,8 @@ public class BuilderTestsUtils {
                     false,
                     true,
                     IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS,
-                    DocValuesType.SORTED_NUMERIC,
-                    DocValuesSkipIndexType.RANGE,
+                    metricStat.isSketch() ? DocValuesType.BINARY : DocValuesType.SORTED_NUMERIC,
+                    metricStat.isSketch() ? DocValuesSkipIndexType.NONE : DocValuesSkipIndexType.RANGE,
                     -1,
                     Collections.emptyMap(),
                     0,
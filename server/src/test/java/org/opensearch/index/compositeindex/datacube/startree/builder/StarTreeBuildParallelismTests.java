@@ -0,0 +1,206 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.builder;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.test.IndexSettingsModule;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.opensearch.index.compositeindex.datacube.startree.StarTreeIndexSettings.STAR_TREE_BUILD_PARALLELISM_SETTING;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getDimensionIterators;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getMetricIterators;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getSortedNumericMock;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that sorting the star-tree documents in concurrent partitions builds and merges the same documents as sorting
+ * them on the calling thread.
+ */
+public class StarTreeBuildParallelismTests extends StarTreeBuilderTestCase {
+
+    public StarTreeBuildParallelismTests(StarTreeFieldConfiguration.StarTreeBuildMode buildMode) {
+        super(buildMode);
+    }
+
+    public void testFlushWithParallelism() throws IOException {
+        compositeField = getStarTreeFieldWithDocCount(1000, true);
+        int numDocs = randomIntBetween(2, 4) * BaseStarTreeBuilder.MIN_DOCS_PER_SORT_PARTITION + randomIntBetween(0, 100);
+        StarTreeDocument[] segmentDocuments = randomDocuments(numDocs).toArray(new StarTreeDocument[0]);
+        writeState = getWriteState(numDocs, UUID.randomUUID().toString().substring(0, 16).getBytes(StandardCharsets.UTF_8));
+
+        List<StarTreeDocument> expected = flush(segmentDocuments, 1);
+        List<StarTreeDocument> actual = flush(segmentDocuments, randomIntBetween(2, 4));
+        assertSameDocuments(expected, actual);
+    }
+
+    public void testMergeSortedSegmentsWithParallelism() throws IOException {
+        testMergeWithParallelism(true);
+    }
+
+    public void testMergeUnsortedSegmentsWithParallelism() throws IOException {
+        testMergeWithParallelism(false);
+    }
+
+    /**
+     * The aggregated documents of each segment are usually sorted, in which case the off-heap builder merges the
+     * segments with a k-way merge, and falls back to sorting all the documents otherwise.
+     */
+    private void testMergeWithParallelism(boolean sortedSegments) throws IOException {
+        compositeField = getStarTreeFieldWithDocCount(1000, true);
+        int numSegments = randomIntBetween(2, 4);
+        List<List<StarTreeDocument>> segments = new ArrayList<>(numSegments);
+        for (int i = 0; i < numSegments; i++) {
+            List<StarTreeDocument> segmentDocuments = randomDocuments(
+                randomIntBetween(BaseStarTreeBuilder.MIN_DOCS_PER_SORT_PARTITION, 2 * BaseStarTreeBuilder.MIN_DOCS_PER_SORT_PARTITION)
+            );
+            if (sortedSegments) {
+                segmentDocuments.sort((document1, document2) -> Arrays.compare(document1.dimensions, document2.dimensions));
+            }
+            segments.add(segmentDocuments);
+        }
+
+        List<StarTreeDocument> expected = merge(segments, 1);
+        List<StarTreeDocument> actual = merge(segments, randomIntBetween(2, 4));
+        assertSameDocuments(expected, actual);
+    }
+
+    private List<StarTreeDocument> flush(StarTreeDocument[] segmentDocuments, int buildParallelism) throws IOException {
+        setBuildParallelism(buildParallelism);
+        try (BaseStarTreeBuilder starTreeBuilder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService)) {
+            return toList(
+                starTreeBuilder.sortAndAggregateSegmentDocuments(
+                    getDimensionIterators(segmentDocuments),
+                    getMetricIterators(segmentDocuments)
+                )
+            );
+        }
+    }
+
+    private List<StarTreeDocument> merge(List<List<StarTreeDocument>> segments, int buildParallelism) throws IOException {
+        setBuildParallelism(buildParallelism);
+        List<StarTreeValues> starTreeValuesSubs = new ArrayList<>(segments.size());
+        for (List<StarTreeDocument> segmentDocuments : segments) {
+            starTreeValuesSubs.add(getStarTreeValues(segmentDocuments));
+        }
+        try (BaseStarTreeBuilder starTreeBuilder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService)) {
+            List<StarTreeDocument> starTreeDocuments = toList(starTreeBuilder.mergeStarTrees(starTreeValuesSubs));
+            if (getBuildMode() == StarTreeFieldConfiguration.StarTreeBuildMode.OFF_HEAP) {
+                assertTrue(starTreeBuilder.getNumBytesSpilled() > 0);
+            }
+            return starTreeDocuments;
+        }
+    }
+
+    private void setBuildParallelism(int buildParallelism) {
+        Settings settings = Settings.builder().put(STAR_TREE_BUILD_PARALLELISM_SETTING.getKey(), buildParallelism).build();
+        when(mapperService.getIndexSettings()).thenReturn(IndexSettingsModule.newIndexSettings("test", settings));
+    }
+
+    /**
+     * Returns documents with few distinct dimension values, so that they are aggregated, and integral metric values, so
+     * that the sums do not depend on the order in which the documents are aggregated.
+     */
+    private List<StarTreeDocument> randomDocuments(int numDocs) {
+        List<StarTreeDocument> documents = new ArrayList<>(numDocs);
+        for (int i = 0; i < numDocs; i++) {
+            Long[] dimensions = new Long[compositeField.getDimensionsOrder().size()];
+            for (int j = 0; j < dimensions.length; j++) {
+                dimensions[j] = randomLongBetween(0, 9);
+            }
+            documents.add(
+                new StarTreeDocument(dimensions, new Long[] { getLongFromDouble(randomIntBetween(0, 100)), randomLongBetween(1, 5) })
+            );
+        }
+        return documents;
+    }
+
+    private StarTreeValues getStarTreeValues(List<StarTreeDocument> segmentDocuments) {
+        List<Integer> docsWithField = new ArrayList<>(segmentDocuments.size());
+        for (int i = 0; i < segmentDocuments.size(); i++) {
+            docsWithField.add(i);
+        }
+        Map<String, Supplier<StarTreeValuesIterator>> dimDocIdSetIterators = new LinkedHashMap<>();
+        List<Dimension> dimensions = compositeField.getDimensionsOrder();
+        for (int i = 0; i < dimensions.size(); i++) {
+            List<Long> values = new ArrayList<>(segmentDocuments.size());
+            for (StarTreeDocument document : segmentDocuments) {
+                values.add(document.dimensions[i]);
+            }
+            dimDocIdSetIterators.put(
+                dimensions.get(i).getField(),
+                () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(values, docsWithField))
+            );
+        }
+        List<Long> sums = new ArrayList<>(segmentDocuments.size());
+        List<Long> docCounts = new ArrayList<>(segmentDocuments.size());
+        for (StarTreeDocument document : segmentDocuments) {
+            sums.add((Long) document.metrics[0]);
+            docCounts.add((Long) document.metrics[1]);
+        }
+        Map<String, Supplier<StarTreeValuesIterator>> metricDocIdSetIterators = new LinkedHashMap<>();
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(compositeField.getName(), "field2", MetricStat.SUM.getTypeName()),
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(sums, docsWithField))
+        );
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues(compositeField.getName(), "_doc_count", MetricStat.DOC_COUNT.getTypeName()),
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(docCounts, docsWithField))
+        );
+        return new StarTreeValues(
+            compositeField,
+            null,
+            dimDocIdSetIterators,
+            metricDocIdSetIterators,
+            getAttributes(segmentDocuments.size()),
+            null
+        );
+    }
+
+    private static List<StarTreeDocument> toList(Iterator<StarTreeDocument> starTreeDocumentIterator) {
+        List<StarTreeDocument> starTreeDocuments = new ArrayList<>();
+        while (starTreeDocumentIterator.hasNext()) {
+            StarTreeDocument starTreeDocument = starTreeDocumentIterator.next();
+            Object[] metrics = new Object[starTreeDocument.metrics.length];
+            for (int i = 0; i < metrics.length; i++) {
+                metrics[i] = starTreeDocument.metrics[i] instanceof CompensatedSum compensatedSum
+                    ? compensatedSum.value()
+                    : starTreeDocument.metrics[i];
+            }
+            starTreeDocuments.add(new StarTreeDocument(starTreeDocument.dimensions.clone(), metrics));
+        }
+        return starTreeDocuments;
+    }
+
+    private static void assertSameDocuments(List<StarTreeDocument> expected, List<StarTreeDocument> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertArrayEquals(expected.get(i).dimensions, actual.get(i).dimensions);
+            assertArrayEquals(expected.get(i).metrics, actual.get(i).metrics);
+        }
+    }
+}
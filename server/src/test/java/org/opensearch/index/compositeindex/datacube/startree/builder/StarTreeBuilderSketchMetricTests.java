@@ -0,0 +1,378 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.compositeindex.datacube.startree.builder;
+
+import org.apache.lucene.index.DocValuesType;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.codec.composite.LuceneDocValuesConsumerFactory;
+import org.opensearch.index.codec.composite.composite912.Composite912DocValuesFormat;
+import org.opensearch.index.compositeindex.CompositeIndexConstants;
+import org.opensearch.index.compositeindex.datacube.Dimension;
+import org.opensearch.index.compositeindex.datacube.DimensionDataType;
+import org.opensearch.index.compositeindex.datacube.Metric;
+import org.opensearch.index.compositeindex.datacube.MetricStat;
+import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeDocument;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeField;
+import org.opensearch.index.compositeindex.datacube.startree.StarTreeFieldConfiguration;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.MetricAggregatorInfo;
+import org.opensearch.index.compositeindex.datacube.startree.aggregators.SketchValueAggregator;
+import org.opensearch.index.compositeindex.datacube.startree.fileformats.meta.DimensionConfig;
+import org.opensearch.index.compositeindex.datacube.startree.index.StarTreeValues;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.BinaryStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.SortedNumericStarTreeValuesIterator;
+import org.opensearch.index.compositeindex.datacube.startree.utils.iterator.StarTreeValuesIterator;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.search.aggregations.metrics.CompensatedSum;
+import org.opensearch.search.aggregations.metrics.OnHeapHyperLogLogPlusPlus;
+import org.opensearch.search.aggregations.metrics.TDigestSketch;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getBinaryMock;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getDimensionIterators;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getMetricIterators;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.getSortedNumericMock;
+import static org.opensearch.index.compositeindex.datacube.startree.builder.BuilderTestsUtils.validateStarTree;
+import static org.opensearch.index.compositeindex.datacube.startree.fileformats.node.FixedLengthStarTreeNode.SERIALIZABLE_DATA_SIZE_IN_BYTES;
+import static org.opensearch.index.compositeindex.datacube.startree.utils.StarTreeUtils.fullyQualifiedFieldNameForStarTreeMetricsDocValues;
+
+public class StarTreeBuilderSketchMetricTests extends StarTreeBuilderTestCase {
+
+    public StarTreeBuilderSketchMetricTests(StarTreeFieldConfiguration.StarTreeBuildMode buildMode) {
+        super(buildMode);
+    }
+
+    public void testFlushFlowWithSketchMetrics() throws IOException {
+        int numSegmentDocs = randomIntBetween(10, 100);
+        StarTreeDocument[] segmentStarTreeDocuments = new StarTreeDocument[numSegmentDocs];
+        List<Long[]> segmentDimensions = new ArrayList<>();
+        List<Double> segmentValues = new ArrayList<>();
+        for (int i = 0; i < numSegmentDocs; i++) {
+            Long[] dimensions = new Long[] { (long) randomIntBetween(0, 3), (long) randomIntBetween(0, 3) };
+            Double value = i > 0 && rarely() ? null : (double) randomIntBetween(0, 20);
+            Long metric = value == null ? null : getLongFromDouble(value);
+            segmentStarTreeDocuments[i] = new StarTreeDocument(dimensions, new Object[] { metric, metric, metric });
+            segmentDimensions.add(dimensions);
+            segmentValues.add(value);
+        }
+
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        writeState = getWriteState(numSegmentDocs, writeState.segmentInfo.getId());
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        Iterator<StarTreeDocument> starTreeDocumentIterator = builder.sortAndAggregateSegmentDocuments(
+            getDimensionIterators(segmentStarTreeDocuments),
+            getMetricIterators(segmentStarTreeDocuments)
+        );
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder.build(starTreeDocumentIterator, new AtomicInteger(), docValuesConsumer);
+
+        assertAggregatedMetrics(builder.getStarTreeDocuments(), segmentDimensions, segmentValues);
+        validateStarTree(builder.getRootNode(), 2, 1, builder.getStarTreeDocuments());
+        validateSketchStarTreeFileFormats(new HashSet<>(segmentDimensions.stream().map(Arrays::asList).toList()).size());
+    }
+
+    public void testMergeFlowWithSketchMetrics() throws IOException {
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        List<Long[]> segmentDimensions = new ArrayList<>();
+        List<Double> segmentValues = new ArrayList<>();
+        StarTreeValues starTreeValues = getStarTreeValuesWithSketches(segmentDimensions, segmentValues);
+        StarTreeValues starTreeValues2 = getStarTreeValuesWithSketches(segmentDimensions, segmentValues);
+
+        int numSegmentStarTreeDocs = new HashSet<>(segmentDimensions.stream().map(Arrays::asList).toList()).size();
+        writeState = getWriteState(numSegmentStarTreeDocs, writeState.segmentInfo.getId());
+        this.docValuesConsumer = LuceneDocValuesConsumerFactory.getDocValuesConsumerForCompositeCodec(
+            writeState,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.DATA_DOC_VALUES_EXTENSION,
+            Composite912DocValuesFormat.META_DOC_VALUES_CODEC,
+            Composite912DocValuesFormat.META_DOC_VALUES_EXTENSION
+        );
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        builder.build(builder.mergeStarTrees(List.of(starTreeValues, starTreeValues2)), new AtomicInteger(), docValuesConsumer);
+
+        // the sketches of the segments are merged, so the merged cardinality only counts the values seen in both once
+        assertAggregatedMetrics(builder.getStarTreeDocuments(), segmentDimensions, segmentValues);
+        validateStarTree(builder.getRootNode(), 2, 1, builder.getStarTreeDocuments());
+        validateSketchStarTreeFileFormats(numSegmentStarTreeDocs);
+    }
+
+    public void testSegmentDocsFileManagerWithSketchMetrics() throws IOException {
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        List<StarTreeDocument> starTreeDocuments = getAggregatedStarTreeDocuments(builder.metricAggregatorInfos);
+
+        try (
+            SegmentDocsFileManager segmentDocsFileManager = new SegmentDocsFileManager(
+                writeState,
+                compositeField,
+                builder.metricAggregatorInfos,
+                builder.numDimensions
+            )
+        ) {
+            for (StarTreeDocument starTreeDocument : starTreeDocuments) {
+                segmentDocsFileManager.writeStarTreeDocument(starTreeDocument, true);
+            }
+            IntFunction<Long[]> dimensionsReader = segmentDocsFileManager.newDimensionsReader();
+            // documents are of variable size, so they must be found by their own offsets whatever the order they are read in
+            for (int docId : shuffledDocIds(starTreeDocuments.size())) {
+                assertStarTreeDocument(starTreeDocuments.get(docId), segmentDocsFileManager.readStarTreeDocument(docId, true));
+                assertArrayEquals(starTreeDocuments.get(docId).dimensions, segmentDocsFileManager.readDimensions(docId));
+                assertArrayEquals(starTreeDocuments.get(docId).dimensions, dimensionsReader.apply(docId));
+            }
+        }
+    }
+
+    public void testStarTreeDocsFileManagerWithSketchMetrics() throws IOException {
+        compositeField = getStarTreeFieldWithSketchMetrics();
+        builder = getStarTreeBuilder(metaOut, dataOut, compositeField, writeState, mapperService);
+        List<StarTreeDocument> starTreeDocuments = getAggregatedStarTreeDocuments(builder.metricAggregatorInfos);
+
+        try (
+            StarTreeDocsFileManager starTreeDocsFileManager = new StarTreeDocsFileManager(
+                writeState,
+                compositeField,
+                builder.metricAggregatorInfos,
+                2,
+                builder.numDimensions
+            )
+        ) {
+            for (int docId = 0; docId < starTreeDocuments.size(); docId++) {
+                starTreeDocsFileManager.writeStarTreeDocument(starTreeDocuments.get(docId), true);
+                if (rarely()) {
+                    // reading the documents being written rolls over to a new file, and merges the files past the threshold
+                    assertStarTreeDocument(starTreeDocuments.get(docId), starTreeDocsFileManager.readStarTreeDocument(docId, true));
+                }
+            }
+            for (int docId : shuffledDocIds(starTreeDocuments.size())) {
+                assertStarTreeDocument(starTreeDocuments.get(docId), starTreeDocsFileManager.readStarTreeDocument(docId, true));
+                assertArrayEquals(starTreeDocuments.get(docId).dimensions, starTreeDocsFileManager.readDimensions(docId));
+            }
+        }
+    }
+
+    private StarTreeField getStarTreeFieldWithSketchMetrics() {
+        Dimension d1 = new NumericDimension("field1");
+        Dimension d2 = new NumericDimension("field3");
+        Metric m1 = new Metric("field2", List.of(MetricStat.SUM, MetricStat.CARDINALITY, MetricStat.PERCENTILES));
+        List<Dimension> dims = List.of(d1, d2);
+        List<Metric> metrics = List.of(m1);
+        StarTreeFieldConfiguration c = new StarTreeFieldConfiguration(1, new HashSet<>(), getBuildMode());
+        return new StarTreeField("sf", dims, metrics, c);
+    }
+
+    /**
+     * Asserts the metrics of the star-tree documents against the segment values they aggregate, star-tree documents
+     * aggregating the values of all the segment documents that match their non-star dimensions
+     */
+    private static void assertAggregatedMetrics(
+        List<StarTreeDocument> starTreeDocuments,
+        List<Long[]> segmentDimensions,
+        List<Double> segmentValues
+    ) {
+        for (StarTreeDocument starTreeDocument : starTreeDocuments) {
+            double sum = 0;
+            long count = 0;
+            Set<Double> distinctValues = new HashSet<>();
+            for (int i = 0; i < segmentDimensions.size(); i++) {
+                if (segmentValues.get(i) != null && matches(starTreeDocument.dimensions, segmentDimensions.get(i))) {
+                    sum += segmentValues.get(i);
+                    count++;
+                    distinctValues.add(segmentValues.get(i));
+                }
+            }
+            if (count == 0) {
+                assertNull(starTreeDocument.metrics[1]);
+                assertNull(starTreeDocument.metrics[2]);
+                continue;
+            }
+            assertEquals(sum, ((CompensatedSum) starTreeDocument.metrics[0]).value(), 0);
+            // small cardinalities are counted exactly
+            assertEquals(distinctValues.size(), ((OnHeapHyperLogLogPlusPlus) starTreeDocument.metrics[1]).cardinality(0));
+            assertEquals(count, ((TDigestSketch) starTreeDocument.metrics[2]).size());
+        }
+    }
+
+    private static boolean matches(Long[] starTreeDimensions, Long[] segmentDimensions) {
+        for (int i = 0; i < starTreeDimensions.length; i++) {
+            if (starTreeDimensions[i] != null && starTreeDimensions[i].equals(segmentDimensions[i]) == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void validateSketchStarTreeFileFormats(int numSegmentStarTreeDocs) throws IOException {
+        metaOut.close();
+        dataOut.close();
+        docValuesConsumer.close();
+        LinkedHashMap<String, DimensionConfig> map = new LinkedHashMap<>();
+        map.put("field1", new DimensionConfig(DocValuesType.SORTED_NUMERIC, DimensionDataType.LONG));
+        map.put("field3", new DimensionConfig(DocValuesType.SORTED_NUMERIC, DimensionDataType.LONG));
+        int dataLength = (int) (builder.numStarTreeNodes * SERIALIZABLE_DATA_SIZE_IN_BYTES);
+
+        // the sketches are read back from the binary doc values of the star-tree
+        validateStarTreeFileFormats(
+            builder.getRootNode(),
+            builder.getStarTreeDocuments().size(),
+            getStarTreeMetadata(map, numSegmentStarTreeDocs, 1, dataLength),
+            builder.getStarTreeDocuments()
+        );
+    }
+
+    /**
+     * Returns the star-tree values of a segment with a star-tree document for some of the dimension combinations, whose
+     * sketches aggregate several random values, recording the dimensions and values of the documents aggregated
+     */
+    private StarTreeValues getStarTreeValuesWithSketches(List<Long[]> segmentDimensions, List<Double> segmentValues) {
+        SketchValueAggregator<?> cardinalityAggregator = getSketchAggregator(MetricStat.CARDINALITY);
+        SketchValueAggregator<?> percentilesAggregator = getSketchAggregator(MetricStat.PERCENTILES);
+        List<Long> dimList = new ArrayList<>();
+        List<Long> dimList2 = new ArrayList<>();
+        List<Long> sumList = new ArrayList<>();
+        List<BytesRef> cardinalityList = new ArrayList<>();
+        List<BytesRef> percentilesList = new ArrayList<>();
+        List<Integer> docsWithField = new ArrayList<>();
+        for (long d1 = 0; d1 < 4; d1++) {
+            for (long d2 = 0; d2 < 4; d2++) {
+                if (d1 + d2 > 0 && randomBoolean()) {
+                    continue;
+                }
+                double sum = 0;
+                List<Long> values = new ArrayList<>();
+                for (int i = randomIntBetween(1, 10); i > 0; i--) {
+                    double value = randomIntBetween(0, 20);
+                    segmentDimensions.add(new Long[] { d1, d2 });
+                    segmentValues.add(value);
+                    sum += value;
+                    values.add(getLongFromDouble(value));
+                }
+                dimList.add(d1);
+                dimList2.add(d2);
+                sumList.add(getLongFromDouble(sum));
+                cardinalityList.add(toSketch(cardinalityAggregator, values));
+                percentilesList.add(toSketch(percentilesAggregator, values));
+                docsWithField.add(docsWithField.size());
+            }
+        }
+
+        Map<String, Supplier<StarTreeValuesIterator>> dimDocIdSetIterators = Map.of(
+            "field1",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList, docsWithField)),
+            "field3",
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(dimList2, docsWithField))
+        );
+        Map<String, Supplier<StarTreeValuesIterator>> metricDocIdSetIterators = new LinkedHashMap<>();
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues("sf", "field2", MetricStat.SUM.getTypeName()),
+            () -> new SortedNumericStarTreeValuesIterator(getSortedNumericMock(sumList, docsWithField))
+        );
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues("sf", "field2", MetricStat.CARDINALITY.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(getBinaryMock(cardinalityList, docsWithField))
+        );
+        metricDocIdSetIterators.put(
+            fullyQualifiedFieldNameForStarTreeMetricsDocValues("sf", "field2", MetricStat.PERCENTILES.getTypeName()),
+            () -> new BinaryStarTreeValuesIterator(getBinaryMock(percentilesList, docsWithField))
+        );
+        return new StarTreeValues(
+            compositeField,
+            null,
+            dimDocIdSetIterators,
+            metricDocIdSetIterators,
+            Map.of(CompositeIndexConstants.SEGMENT_DOCS_COUNT, String.valueOf(docsWithField.size())),
+            null
+        );
+    }
+
+    private static SketchValueAggregator<?> getSketchAggregator(MetricStat metricStat) {
+        return (SketchValueAggregator<?>) new MetricAggregatorInfo(metricStat, "field2", "sf", NumberFieldMapper.NumberType.DOUBLE)
+            .getValueAggregators();
+    }
+
+    private static <A> BytesRef toSketch(SketchValueAggregator<A> sketchAggregator, List<Long> segmentDocValues) {
+        return sketchAggregator.toBytesRef(toSketchValue(sketchAggregator, segmentDocValues));
+    }
+
+    private static <A> A toSketchValue(SketchValueAggregator<A> sketchAggregator, List<Long> segmentDocValues) {
+        A sketch = null;
+        for (Long segmentDocValue : segmentDocValues) {
+            sketch = sketchAggregator.mergeAggregatedValueAndSegmentValue(sketch, segmentDocValue);
+        }
+        return sketch;
+    }
+
+    /**
+     * Returns aggregated star-tree documents with sketches of varying sizes, some of them empty
+     */
+    private List<StarTreeDocument> getAggregatedStarTreeDocuments(List<MetricAggregatorInfo> metricAggregatorInfos) {
+        SketchValueAggregator<?> cardinalityAggregator = (SketchValueAggregator<?>) metricAggregatorInfos.get(1).getValueAggregators();
+        SketchValueAggregator<?> percentilesAggregator = (SketchValueAggregator<?>) metricAggregatorInfos.get(2).getValueAggregators();
+        List<StarTreeDocument> starTreeDocuments = new ArrayList<>();
+        for (int docId = randomIntBetween(10, 100); docId > 0; docId--) {
+            List<Long> values = new ArrayList<>();
+            double sum = 0;
+            for (int i = rarely() ? 0 : randomIntBetween(1, 50); i > 0; i--) {
+                double value = randomIntBetween(0, 1000);
+                sum += value;
+                values.add(getLongFromDouble(value));
+            }
+            Long[] dimensions = new Long[] { randomBoolean() ? null : randomLong(), randomBoolean() ? null : randomLong() };
+            Object[] metrics = new Object[] {
+                new CompensatedSum(sum, 0),
+                toSketchValue(cardinalityAggregator, values),
+                toSketchValue(percentilesAggregator, values) };
+            starTreeDocuments.add(new StarTreeDocument(dimensions, metrics));
+        }
+        return starTreeDocuments;
+    }
+
+    private static List<Integer> shuffledDocIds(int numDocs) {
+        List<Integer> docIds = new ArrayList<>();
+        for (int docId = 0; docId < numDocs; docId++) {
+            docIds.add(docId);
+        }
+        Collections.shuffle(docIds, random());
+        return docIds;
+    }
+
+    private static void assertStarTreeDocument(StarTreeDocument expected, StarTreeDocument actual) {
+        assertArrayEquals(expected.dimensions, actual.dimensions);
+        assertEquals(((CompensatedSum) expected.metrics[0]).value(), ((CompensatedSum) actual.metrics[0]).value(), 0);
+        if (expected.metrics[1] == null) {
+            assertNull(actual.metrics[1]);
+            assertNull(actual.metrics[2]);
+            return;
+        }
+        assertEquals(
+            ((OnHeapHyperLogLogPlusPlus) expected.metrics[1]).cardinality(0),
+            ((OnHeapHyperLogLogPlusPlus) actual.metrics[1]).cardinality(0)
+        );
+        assertEquals(((TDigestSketch) expected.metrics[2]).size(), ((TDigestSketch) actual.metrics[2]).size());
+        assertEquals(((TDigestSketch) expected.metrics[2]).centroidCount(), ((TDigestSketch) actual.metrics[2]).centroidCount());
+    }
+}
@@ -30,11 +30,14 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.opensearch.index.compositeindex.CompositeIndexConstants.STAR_TREE_BUILD_TIME_MILLIS;
+import static org.opensearch.index.compositeindex.CompositeIndexConstants.STAR_TREE_SPILL_BYTES;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -149,6 +152,15 @@ public class StarTreesBuilderTests extends OpenSearchTestCase {
         verifyNoInteractions(docValuesProducer);
     }
 
+    public void test_buildDuringMergeRecordsBuildStats() throws IOException {
+        when(mapperService.getCompositeFieldTypes()).thenReturn(Set.of(starTreeFieldType));
+        StarTreesBuilder starTreesBuilder = new StarTreesBuilder(segmentWriteState, mapperService, new AtomicInteger());
+        starTreesBuilder.buildDuringMerge(metaOut, dataOut, Map.of("star_tree", List.of()), mock(DocValuesConsumer.class));
+
+        assertTrue(Long.parseLong(segmentWriteState.segmentInfo.getAttribute(STAR_TREE_BUILD_TIME_MILLIS)) >= 0);
+        assertEquals("0", segmentWriteState.segmentInfo.getAttribute(STAR_TREE_SPILL_BYTES));
+    }
+
     @Override
     public void tearDown() throws Exception {
         super.tearDown();
@@ -195,6 +195,90 @@ public class StarTreeDocumentsSorterTests extends OpenSearchTestCase {
         assertArrayEquals(new int[] { 3, 4, 2, 1, 0 }, sortedDocIds);
     }
 
+    public void testParallelSortDocumentsOffHeap() {
+        int[] docIds = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+        int numPartitions = randomIntBetween(1, 10);
+
+        int[] sortedDocIds = StarTreeDocumentsSorter.parallelSort(
+            docIds,
+            -1,
+            10,
+            numPartitions,
+            () -> testData::get,
+            comparatorList
+        );
+        assertArrayEquals(new int[] { 7, 4, 1, 5, 2, 3, 9, 6, 0, 8 }, sortedDocIds);
+    }
+
+    public void testMergeSortedRuns() {
+        // three sorted runs, of which one is empty
+        int[] docIds = { 4, 5, 3, 9, 7, 1, 2, 6, 0, 8 };
+        int[] runStarts = { 0, 4, 4, 10 };
+
+        int[] sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(docIds, runStarts, -1, testData::get, comparatorList);
+        assertArrayEquals(new int[] { 7, 4, 1, 5, 2, 3, 9, 6, 0, 8 }, sortedDocIds);
+    }
+
+    public void testMergeSortedRuns_NoRuns() {
+        int[] sortedDocIds = StarTreeDocumentsSorter.mergeSortedRuns(new int[0], new int[] { 0 }, -1, testData::get, comparatorList);
+        assertEquals(0, sortedDocIds.length);
+    }
+
+    public void testTheRandomParallelSort() {
+        int numDocs = randomIntBetween(1, 5000);
+        Random random = Randomness.get();
+        int numDimensions = randomIntBetween(2, 10);
+        List<Long[]> testData = new ArrayList<>();
+        for (int i = 0; i < numDocs; i++) {
+            Long[] dimensions = new Long[numDimensions];
+            for (int j = 0; j < numDimensions; j++) {
+                if (random.nextFloat() < 0.5) {
+                    dimensions[j] = random.nextBoolean() ? Long.valueOf(random.nextInt(3)) : null;
+                } else {
+                    dimensions[j] = random.nextLong();
+                }
+            }
+            testData.add(dimensions);
+        }
+        List<Comparator<Long>> comparatorList = new ArrayList<>();
+        for (int i = 0; i < numDimensions; i++) {
+            comparatorList.add(
+                random.nextBoolean() ? new NumericDimension("fieldName").comparator() : new UnsignedLongDimension("fieldName").comparator()
+            );
+        }
+        int dimensionId = random.nextInt(numDimensions) - 1;
+
+        int[] expectedDocIds = new int[numDocs];
+        int[] docIds = new int[numDocs];
+        for (int i = 0; i < numDocs; i++) {
+            expectedDocIds[i] = i;
+            docIds[i] = i;
+        }
+        StarTreeDocumentsSorter.sort(expectedDocIds, dimensionId, numDocs, i -> testData.get(expectedDocIds[i]), comparatorList);
+        int[] sortedDocIds = StarTreeDocumentsSorter.parallelSort(
+            docIds,
+            dimensionId,
+            numDocs,
+            randomIntBetween(1, Math.min(numDocs, 8)),
+            () -> testData::get,
+            comparatorList
+        );
+
+        // ties may be ordered differently, hence the dimension values are compared
+        assertEquals(numDocs, sortedDocIds.length);
+        for (int i = 0; i < numDocs; i++) {
+            assertEquals(
+                0,
+                StarTreeDocumentsSorter.compare(
+                    testData.get(expectedDocIds[i]),
+                    testData.get(sortedDocIds[i]),
+                    dimensionId,
+                    comparatorList
+                )
+            );
+        }
+    }
+
     public void testTheRandomSort() {
         int i = 0;
         while (i < 10) {
@@ -0,0 +1,72 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.engine;
+
+import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.index.translog.Translog;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class PackedVersionMapTests extends OpenSearchTestCase {
+
+    public void testRandomOperationsMatchHashMap() {
+        final PackedVersionMap map = new PackedVersionMap(1 << between(0, 4), between(0, 100));
+        final Map<BytesRef, VersionValue> expected = new HashMap<>();
+        final List<BytesRef> uids = new ArrayList<>();
+        final int numUids = between(1, 2000);
+        for (int i = 0; i < numUids; i++) {
+            uids.add(new BytesRef(TestUtil.randomSimpleString(random(), 1, 20)));
+        }
+        final int iterations = between(1000, 20000);
+        for (int i = 0; i < iterations; i++) {
+            final BytesRef uid = randomFrom(uids);
+            if (randomInt(3) == 0) {
+                assertEquals(expected.remove(uid), map.remove(uid));
+            } else {
+                final IndexVersionValue value = new IndexVersionValue(
+                    randomBoolean() ? null : new Translog.Location(randomNonNegativeLong(), randomNonNegativeLong(), randomInt()),
+                    randomLong(),
+                    randomLong(),
+                    randomLong()
+                );
+                assertEquals(expected.put(uid, value), map.put(uid, value));
+            }
+            assertEquals(expected.size(), map.size());
+            assertEquals(expected.isEmpty(), map.isEmpty());
+        }
+        for (BytesRef uid : uids) {
+            assertEquals(expected.get(uid), map.get(uid));
+        }
+        assertEquals(expected, new HashMap<>(map));
+    }
+
+    public void testLookupWithSlicedKey() {
+        final PackedVersionMap map = new PackedVersionMap(4, 0);
+        final IndexVersionValue value = new IndexVersionValue(null, 1, 2, 3);
+        map.put(new BytesRef("abc"), value);
+        final BytesRef sliced = new BytesRef(new byte[] { 'x', 'a', 'b', 'c', 'y' }, 1, 3);
+        assertEquals(value, map.get(sliced));
+        assertEquals(value, map.remove(sliced));
+        assertNull(map.get(new BytesRef("abc")));
+
+        map.put(sliced, value);
+        assertEquals(value, map.get(new BytesRef("abc")));
+    }
+
+    public void testRejectsDeletes() {
+        final PackedVersionMap map = new PackedVersionMap(1, 0);
+        expectThrows(IllegalArgumentException.class, () -> map.put(new BytesRef("1"), new DeleteVersionValue(1, 1, 1, 1)));
+        expectThrows(IllegalArgumentException.class, () -> new PackedVersionMap(3, 0));
+    }
+}
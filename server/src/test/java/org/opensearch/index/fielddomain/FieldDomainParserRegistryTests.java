@@ -24,6 +24,11 @@ public class FieldDomainParserRegistryTests extends OpenSearchTestCase {
         assertTrue(FieldDomainParserRegistry.defaultRegistry().contains(DateRangeFieldDomain.TYPE));
     }
 
+    public void testDefaultRegistryContainsNumericAndKeywordParsers() {
+        assertTrue(FieldDomainParserRegistry.defaultRegistry().contains(NumericRangeFieldDomain.TYPE));
+        assertTrue(FieldDomainParserRegistry.defaultRegistry().contains(KeywordTermsFieldDomain.TYPE));
+    }
+
     public void testReturnsCorrectType() {
         FieldDomainParserRegistry registry = new FieldDomainParserRegistry(
             List.of(FieldDomainParserRegistry.entry(FieldDomain.class, new TestParser("test")))
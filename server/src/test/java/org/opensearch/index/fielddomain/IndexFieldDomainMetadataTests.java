@@ -8,15 +8,18 @@
 
 package org.opensearch.index.fielddomain;
 
+import org.apache.lucene.util.BytesRef;
 import org.opensearch.Version;
 import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.test.OpenSearchTestCase;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -559,6 +562,111 @@ public class IndexFieldDomainMetadataTests extends OpenSearchTestCase {
         expectThrows(NullPointerException.class, () -> METADATA.putFieldDomains(metadata, (Map<String, String>) null));
     }
 
+    public void testPutAutoFieldDomainsRecordsSettingsVersionAndKeepsExternalDomains() {
+        DateRangeFieldDomain external = new DateRangeFieldDomain("@timestamp", 100L, 200L, true, "ism_rollover");
+        IndexMetadata metadata = writeBlockedIndexMetadataBuilder(7).putCustom(
+            IndexFieldDomainMetadata.CUSTOM_KEY,
+            METADATA.toCustomData(external)
+        ).build();
+
+        IndexMetadata updated = METADATA.putAutoFieldDomains(
+            metadata,
+            List.of(
+                new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE),
+                new DateRangeFieldDomain("@timestamp", 0L, 300L, true, IndexFieldDomainMetadata.AUTO_SOURCE)
+            )
+        );
+
+        Map<String, String> customData = updated.getCustomData(IndexFieldDomainMetadata.CUSTOM_KEY);
+        assertThat(customData.get("auto.settings_version"), equalTo("7"));
+        assertThat(customData.get("fields.bytes.type"), equalTo("numeric_range"));
+        assertThat(customData.get("fields.@timestamp.min"), equalTo("100"));
+        assertThat(customData.get("fields.@timestamp.source"), equalTo("ism_rollover"));
+        assertTrue(METADATA.hasCurrentAutoFieldDomains(updated));
+        assertThat(METADATA.fieldsWithExternalDomains(updated), equalTo(Set.of("@timestamp")));
+    }
+
+    public void testPutAutoFieldDomainsRejectsDomainsFromOtherSources() {
+        IndexMetadata metadata = writeBlockedIndexMetadataBuilder(1).build();
+
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> METADATA.putAutoFieldDomains(metadata, List.of(new NumericRangeFieldDomain("bytes", "1", "10", true, "test")))
+        );
+    }
+
+    public void testPutAutoFieldDomainsSkipsDomainsExceedingSizeLimit() {
+        List<BytesRef> values = new ArrayList<>();
+        for (int i = 0; i < KeywordTermsFieldDomain.MAX_BLOOM_VALUES; i++) {
+            values.add(new BytesRef("value-" + i));
+        }
+        List<FieldDomain> domains = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            domains.add(KeywordTermsFieldDomain.of("field" + i, values, true, IndexFieldDomainMetadata.AUTO_SOURCE).orElseThrow());
+        }
+        domains.add(new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE));
+
+        IndexMetadata updated = METADATA.putAutoFieldDomains(writeBlockedIndexMetadataBuilder(1).build(), domains);
+
+        Map<String, String> customData = updated.getCustomData(IndexFieldDomainMetadata.CUSTOM_KEY);
+        assertThat(customData.get("fields.bytes.type"), equalTo("numeric_range"));
+        assertNull(customData.get("fields.field15.type"));
+    }
+
+    public void testAutoFieldDomainsAreTrustedOnlyWhileCurrentAndWriteBlocked() {
+        NumericRangeFieldDomain domain = new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE);
+        IndexMetadata metadata = METADATA.putAutoFieldDomains(writeBlockedIndexMetadataBuilder(3).build(), List.of(domain));
+
+        assertTrue(METADATA.isTrusted(metadata, domain));
+        assertTrue(METADATA.isTrusted(metadata, new NumericRangeFieldDomain("bytes", "1", "10", true, "test")));
+
+        IndexMetadata newerSettings = IndexMetadata.builder(metadata).settingsVersion(4).build();
+        assertFalse(METADATA.isTrusted(newerSettings, domain));
+
+        IndexMetadata unblocked = IndexMetadata.builder(metadata)
+            .settings(Settings.builder().put(metadata.getSettings()).put(IndexMetadata.SETTING_BLOCKS_WRITE, false))
+            .build();
+        assertFalse(METADATA.isTrusted(unblocked, domain));
+    }
+
+    public void testRemoveAutoFieldDomainsKeepsExternalDomains() {
+        DateRangeFieldDomain external = new DateRangeFieldDomain("@timestamp", 100L, 200L, true, "ism_rollover");
+        IndexMetadata metadata = METADATA.putAutoFieldDomains(
+            writeBlockedIndexMetadataBuilder(1).putCustom(IndexFieldDomainMetadata.CUSTOM_KEY, METADATA.toCustomData(external)).build(),
+            List.of(new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE))
+        );
+        assertTrue(METADATA.hasAutoFieldDomains(metadata));
+
+        IndexMetadata updated = METADATA.removeAutoFieldDomains(metadata);
+
+        assertFalse(METADATA.hasAutoFieldDomains(updated));
+        assertThat(updated.getCustomData(IndexFieldDomainMetadata.CUSTOM_KEY), equalTo(METADATA.toCustomData(external)));
+        assertThat(METADATA.removeAutoFieldDomains(updated), sameInstance(updated));
+    }
+
+    public void testRemoveAutoFieldDomainsDropsEmptyCustomData() {
+        IndexMetadata metadata = METADATA.putAutoFieldDomains(
+            writeBlockedIndexMetadataBuilder(1).build(),
+            List.of(new NumericRangeFieldDomain("bytes", "1", "10", true, IndexFieldDomainMetadata.AUTO_SOURCE))
+        );
+
+        assertNull(METADATA.removeAutoFieldDomains(metadata).getCustomData(IndexFieldDomainMetadata.CUSTOM_KEY));
+    }
+
+    private static IndexMetadata.Builder writeBlockedIndexMetadataBuilder(long settingsVersion) {
+        return IndexMetadata.builder("logs-000001")
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INDEX_UUID, "_na_")
+                    .put(IndexMetadata.SETTING_BLOCKS_WRITE, true)
+                    .build()
+            )
+            .settingsVersion(settingsVersion)
+            .numberOfShards(1)
+            .numberOfReplicas(0);
+    }
+
     private static IndexMetadata.Builder indexMetadataBuilder(String index) {
         return IndexMetadata.builder(index)
             .settings(
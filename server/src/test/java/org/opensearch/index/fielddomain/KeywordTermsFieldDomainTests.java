@@ -0,0 +1,145 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.apache.lucene.util.BytesRef;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class KeywordTermsFieldDomainTests extends OpenSearchTestCase {
+    private static final IndexFieldDomainMetadata METADATA = IndexFieldDomainMetadata.getInstance();
+
+    public void testExactDomainSortsAndDeduplicatesValues() {
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.exact(
+            "service.name",
+            List.of(new BytesRef("web"), new BytesRef("api"), new BytesRef("web")),
+            true,
+            "test"
+        );
+
+        assertTrue(domain.isExact());
+        assertThat(domain.values(), equalTo(List.of(new BytesRef("api"), new BytesRef("web"))));
+        assertThat(domain.valueCount(), equalTo(2));
+        assertTrue(domain.mightContain(new BytesRef("api")));
+        assertFalse(domain.mightContain(new BytesRef("db")));
+    }
+
+    public void testOfFallsBackToBloomFilterForManyValues() {
+        List<BytesRef> values = values(KeywordTermsFieldDomain.MAX_EXACT_VALUES + 1);
+
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.of("service.name", values, true, "test").orElseThrow();
+
+        assertFalse(domain.isExact());
+        assertThat(domain.valueCount(), equalTo(values.size()));
+        for (BytesRef value : values) {
+            assertTrue(domain.mightContain(value));
+        }
+        expectThrows(IllegalStateException.class, domain::values);
+    }
+
+    public void testOfReturnsEmptyAboveBloomLimit() {
+        assertThat(
+            KeywordTermsFieldDomain.of("service.name", values(KeywordTermsFieldDomain.MAX_BLOOM_VALUES + 1), true, "test"),
+            equalTo(Optional.empty())
+        );
+    }
+
+    public void testBloomDomainRejectsInvalidFilters() {
+        expectThrows(IllegalArgumentException.class, () -> KeywordTermsFieldDomain.bloom("f", new long[0], 1, 0, true, null));
+        expectThrows(IllegalArgumentException.class, () -> KeywordTermsFieldDomain.bloom("f", new long[1], 0, 0, true, null));
+        expectThrows(IllegalArgumentException.class, () -> KeywordTermsFieldDomain.bloom("f", new long[1], 1, -1, true, null));
+    }
+
+    public void testMergeExactDomains() {
+        KeywordTermsFieldDomain left = KeywordTermsFieldDomain.exact("service.name", List.of(new BytesRef("api")), true, "auto");
+        KeywordTermsFieldDomain right = KeywordTermsFieldDomain.exact("service.name", List.of(new BytesRef("web")), false, "auto");
+
+        KeywordTermsFieldDomain merged = left.merge(right).orElseThrow();
+
+        assertTrue(merged.isExact());
+        assertThat(merged.values(), equalTo(List.of(new BytesRef("api"), new BytesRef("web"))));
+        assertFalse(merged.finalized());
+        assertThat(merged.source(), equalTo("auto"));
+    }
+
+    public void testMergeExactAndBloomDomainsKeepsAllValues() {
+        List<BytesRef> values = values(KeywordTermsFieldDomain.MAX_EXACT_VALUES + 1);
+        KeywordTermsFieldDomain bloom = KeywordTermsFieldDomain.of("service.name", values, true, "test").orElseThrow();
+        KeywordTermsFieldDomain exact = KeywordTermsFieldDomain.exact("service.name", List.of(new BytesRef("extra")), true, "other");
+
+        KeywordTermsFieldDomain merged = exact.merge(bloom).orElseThrow();
+
+        assertFalse(merged.isExact());
+        assertTrue(merged.mightContain(new BytesRef("extra")));
+        for (BytesRef value : values) {
+            assertTrue(merged.mightContain(value));
+        }
+        assertNull(merged.source());
+    }
+
+    public void testExactDomainRoundTripsThroughCustomData() {
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.exact(
+            "service.name",
+            List.of(new BytesRef("api"), new BytesRef("a,b"), new BytesRef("")),
+            true,
+            "auto"
+        );
+
+        Map<String, String> customData = METADATA.toCustomData(domain);
+        FieldDomain parsed = METADATA.fromCustomData(customData, "service.name").orElseThrow();
+
+        assertThat(parsed, instanceOf(KeywordTermsFieldDomain.class));
+        KeywordTermsFieldDomain keywordDomain = (KeywordTermsFieldDomain) parsed;
+        assertThat(keywordDomain.values(), equalTo(domain.values()));
+        assertTrue(keywordDomain.finalized());
+        assertThat(keywordDomain.source(), equalTo("auto"));
+    }
+
+    public void testEmptyExactDomainRoundTripsThroughCustomData() {
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.exact("service.name", List.of(), true, null);
+
+        KeywordTermsFieldDomain parsed = (KeywordTermsFieldDomain) METADATA.fromCustomData(
+            METADATA.toCustomData(domain),
+            "service.name"
+        ).orElseThrow();
+
+        assertTrue(parsed.isExact());
+        assertTrue(parsed.values().isEmpty());
+    }
+
+    public void testBloomDomainRoundTripsThroughCustomData() {
+        List<BytesRef> values = values(KeywordTermsFieldDomain.MAX_EXACT_VALUES + 1);
+        KeywordTermsFieldDomain domain = KeywordTermsFieldDomain.of("service.name", values, true, "auto").orElseThrow();
+
+        KeywordTermsFieldDomain parsed = (KeywordTermsFieldDomain) METADATA.fromCustomData(
+            METADATA.toCustomData(domain),
+            "service.name"
+        ).orElseThrow();
+
+        assertFalse(parsed.isExact());
+        assertThat(parsed.valueCount(), equalTo(domain.valueCount()));
+        assertArrayEquals(domain.bloomBits(), parsed.bloomBits());
+        assertThat(parsed.bloomNumHashes(), equalTo(domain.bloomNumHashes()));
+    }
+
+    private static List<BytesRef> values(int count) {
+        List<BytesRef> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(new BytesRef("value-" + i));
+        }
+        return values;
+    }
+}
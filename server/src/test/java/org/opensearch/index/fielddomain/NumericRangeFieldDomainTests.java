@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.fielddomain;
+
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+public class NumericRangeFieldDomainTests extends OpenSearchTestCase {
+    private static final IndexFieldDomainMetadata METADATA = IndexFieldDomainMetadata.getInstance();
+
+    public void testRejectsInvalidBounds() {
+        expectThrows(IllegalArgumentException.class, () -> new NumericRangeFieldDomain("bytes", "10", "1", true, null));
+        expectThrows(IllegalArgumentException.class, () -> new NumericRangeFieldDomain("bytes", "one", "10", true, null));
+        expectThrows(NullPointerException.class, () -> new NumericRangeFieldDomain("bytes", null, "10", true, null));
+    }
+
+    public void testExposesBoundsAsBigDecimals() {
+        NumericRangeFieldDomain domain = new NumericRangeFieldDomain("bytes", "-5", "18446744073709551615", true, "auto");
+
+        assertThat(domain.minValue(), equalTo(new BigDecimal(-5)));
+        assertThat(domain.maxValue(), equalTo(new BigDecimal("18446744073709551615")));
+    }
+
+    public void testMergeWidensBounds() {
+        NumericRangeFieldDomain left = new NumericRangeFieldDomain("bytes", "1", "10", true, "auto");
+        NumericRangeFieldDomain right = new NumericRangeFieldDomain("bytes", "5", "20", true, "auto");
+
+        NumericRangeFieldDomain merged = left.merge(right);
+
+        assertThat(merged.min(), equalTo("1"));
+        assertThat(merged.max(), equalTo("20"));
+        assertTrue(merged.finalized());
+        assertThat(merged.source(), equalTo("auto"));
+    }
+
+    public void testMergeKeepsFinalizedAndSourceOnlyWhenBothAgree() {
+        NumericRangeFieldDomain left = new NumericRangeFieldDomain("bytes", "1", "10", true, "auto");
+        NumericRangeFieldDomain right = new NumericRangeFieldDomain("bytes", "5", "20", false, "other");
+
+        NumericRangeFieldDomain merged = left.merge(right);
+
+        assertFalse(merged.finalized());
+        assertNull(merged.source());
+    }
+
+    public void testRoundTripsThroughCustomData() {
+        NumericRangeFieldDomain domain = new NumericRangeFieldDomain("bytes", "1", "10", true, "auto");
+
+        Map<String, String> customData = METADATA.toCustomData(domain);
+        FieldDomain parsed = METADATA.fromCustomData(customData, "bytes").orElseThrow();
+
+        assertThat(customData.get("fields.bytes.type"), equalTo("numeric_range"));
+        assertThat(parsed, instanceOf(NumericRangeFieldDomain.class));
+        NumericRangeFieldDomain numericDomain = (NumericRangeFieldDomain) parsed;
+        assertThat(numericDomain.min(), equalTo("1"));
+        assertThat(numericDomain.max(), equalTo("10"));
+        assertTrue(numericDomain.finalized());
+        assertThat(numericDomain.source(), equalTo("auto"));
+    }
+}
@@ -79,12 +79,14 @@ import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.lease.Releasables;
+import org.opensearch.common.lucene.uid.Versions;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.IndexScopedSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.AbstractRunnable;
 import org.opensearch.common.util.concurrent.AtomicArray;
+import org.opensearch.common.util.concurrent.BufferedAsyncIOProcessor;
 import org.opensearch.common.util.concurrent.ConcurrentCollections;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.core.Assertions;
@@ -99,6 +101,7 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.IndexSettings;
 import org.opensearch.index.SegmentReplicationShardStats;
+import org.opensearch.index.VersionType;
 import org.opensearch.index.codec.CodecService;
 import org.opensearch.index.engine.CommitStats;
 import org.opensearch.index.engine.DocIdSeqNoAndSource;
@@ -1678,6 +1681,27 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testAsyncFsyncWithGroupCommit() throws Exception {
+        final Settings settings = Settings.builder().put(IndexSettings.INDEX_TRANSLOG_GROUP_COMMIT_ENABLED_SETTING.getKey(), true).build();
+        final IndexShard shard = newStartedShard(true, settings);
+        assertThat(shard.getTranslogSyncProcessor(), instanceOf(BufferedAsyncIOProcessor.class));
+        final int numDocs = randomIntBetween(1, 20);
+        final CountDownLatch latch = new CountDownLatch(numDocs);
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        for (int i = 0; i < numDocs; i++) {
+            final Translog.Location location = indexDoc(shard, "_doc", Integer.toString(i)).getTranslogLocation();
+            shard.sync(location, ex -> {
+                if (ex != null) {
+                    failure.set(ex);
+                }
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        assertNull(failure.get());
+        closeShards(shard);
+    }
+
     public void testMinimumCompatVersion() throws IOException {
         Version versionCreated = VersionUtils.randomVersion(random());
         Settings settings = Settings.builder()
@@ -2049,6 +2073,39 @@ public class IndexShardTests extends IndexShardTestCase {
         closeShards(shard);
     }
 
+    public void testPreparedIndexOperationIsTimedFromExecution() throws IOException {
+        AtomicLong executedStartTime = new AtomicLong();
+        IndexShard shard = newShard(new ShardId("index", "_na_", 0), true, new IndexingOperationListener() {
+            @Override
+            public void postIndex(ShardId shardId, Engine.Index index, Engine.IndexResult result) {
+                executedStartTime.set(index.startTime());
+            }
+        });
+        recoverShardFromStore(shard);
+        // introduces the mapping of the field so that the next document can be parsed upfront
+        indexDoc(shard, "_doc", "0", "{\"foo\" : \"bar\"}");
+
+        Engine.Index prepared = shard.prepareIndexOperationOnPrimary(
+            Versions.MATCH_ANY,
+            VersionType.INTERNAL,
+            new SourceToParse(shard.shardId().getIndexName(), "1", new BytesArray("{\"foo\" : \"baz\"}"), MediaTypeRegistry.JSON),
+            SequenceNumbers.UNASSIGNED_SEQ_NO,
+            0,
+            IndexRequest.UNSET_AUTO_GENERATED_TIMESTAMP,
+            false
+        );
+        assertNotNull(prepared);
+        long beforeExecution = System.nanoTime();
+        while (beforeExecution == prepared.startTime()) {
+            beforeExecution = System.nanoTime();
+        }
+        Engine.IndexResult result = shard.applyPreparedIndexOperationOnPrimary(prepared);
+        assertEquals(Engine.Result.Type.SUCCESS, result.getResultType());
+        assertThat(executedStartTime.get(), greaterThanOrEqualTo(beforeExecution));
+
+        closeShards(shard);
+    }
+
     public void testLockingBeforeAndAfterRelocated() throws Exception {
         final IndexShard shard = newStartedShard(true);
         final ShardRouting routing = ShardRoutingHelper.relocate(shard.routingEntry(), "other_node");
@@ -23,8 +23,11 @@ import org.opensearch.index.snapshots.blobstore.BlobStoreIndexShardSnapshot.File
 import org.opensearch.index.store.StoreFileMetadata;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.file.OnDemandBlockSnapshotIndexInput;
+import org.opensearch.index.store.remote.filecache.FileCacheFactory;
 import org.opensearch.index.store.remote.utils.BlobFetchRequest;
 import org.opensearch.index.store.remote.utils.TransferManager;
+import org.opensearch.storage.indexinput.OnDemandPrefetchBlockSnapshotIndexInput;
+import org.opensearch.storage.prefetch.TieredStoragePrefetchSettings;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
 
@@ -35,6 +38,7 @@ import java.util.Collections;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @ThreadLeakFilters(filters = CleanerDaemonThreadLeakFilter.class)
 public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
@@ -70,6 +74,32 @@ public class RemoteSnapshotDirectoryTests extends OpenSearchTestCase {
         dir.close();
     }
 
+    public void testOpenInputWithPrefetchSettingsReturnsPrefetchIndexInput() throws IOException {
+        initBlockFile(1024);
+        TieredStoragePrefetchSettings prefetchSettings = mock(TieredStoragePrefetchSettings.class);
+        when(prefetchSettings.getReadAheadBlockCount()).thenReturn(TieredStoragePrefetchSettings.DEFAULT_READ_AHEAD_BLOCK_COUNT);
+        when(prefetchSettings.getReadAheadEnableFileFormats()).thenReturn(TieredStoragePrefetchSettings.READ_AHEAD_ENABLE_FILE_FORMATS);
+        FileInfo fileInfo = new FileInfo(FILE_NAME, new StoreFileMetadata(FILE_NAME, 1024, "", Version.LATEST), null);
+        BlobStoreIndexShardSnapshot snapshot = new BlobStoreIndexShardSnapshot("snap", 1, Collections.singletonList(fileInfo), 0, 0, 0, 0);
+        RemoteSnapshotDirectory dir = new RemoteSnapshotDirectory(
+            snapshot,
+            fsDirectory,
+            transferManager,
+            null,
+            FileCacheFactory.createConcurrentLRUFileCache(10000000, 1),
+            () -> prefetchSettings
+        );
+
+        IndexInput input = dir.openInput(FILE_NAME, IOContext.DEFAULT);
+        assertTrue(input instanceof OnDemandPrefetchBlockSnapshotIndexInput);
+        assertEquals(1024, input.length());
+        byte[] readBack = new byte[1024];
+        input.readBytes(readBack, 0, 1024);
+        assertArrayEquals(new byte[1024], readBack);
+        input.close();
+        dir.close();
+    }
+
     public void testOpenInputVirtualFileReturnsByteArrayIndexInput() throws IOException {
         byte[] content = new byte[] { 1, 2, 3, 4, 5 };
         RemoteSnapshotDirectory dir = createDirectoryWithVirtualFile(content);
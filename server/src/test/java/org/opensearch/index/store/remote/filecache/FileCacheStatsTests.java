@@ -8,11 +8,14 @@
 
 package org.opensearch.index.store.remote.filecache;
 
+import org.opensearch.Version;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.test.OpenSearchTestCase;
 
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
 
 public class FileCacheStatsTests extends OpenSearchTestCase {
 
@@ -27,6 +30,10 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         final long removed = randomLongBetween(0, 10);
         final long hits = randomLongBetween(0, 10);
         final long misses = randomLongBetween(0, 10);
+        final Map<String, Long> usageByIndex = new HashMap<>();
+        for (int i = between(0, 5); i > 0; i--) {
+            usageByIndex.put(randomAlphaOfLength(10), randomLongBetween(1, BYTES_IN_GB));
+        }
 
         return new FileCacheStats(
             active,
@@ -37,7 +44,8 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
             removed,
             hits,
             misses,
-            AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS
+            AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS,
+            usageByIndex
         );
     }
 
@@ -49,6 +57,7 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         assertEquals(expected.getHits(), actual.getHits());
         assertEquals(expected.getCacheMisses(), actual.getCacheMisses());
         assertEquals(expected.getActivePercent(), actual.getActivePercent());
+        assertEquals(expected.getUsageByIndex(), actual.getUsageByIndex());
     }
 
     public void testFullFileCacheStatsSerialization() throws IOException {
@@ -62,4 +71,30 @@ public class FileCacheStatsTests extends OpenSearchTestCase {
         }
 
     }
+
+    public void testUsageByIndexIsNotSentToOlderNodes() throws IOException {
+        final FileCacheStats fileCacheStats = new FileCacheStats(
+            1,
+            2,
+            3,
+            4,
+            5,
+            6,
+            7,
+            8,
+            AggregateFileCacheStats.FileCacheStatsType.OVER_ALL_STATS,
+            Map.of("index-uuid", 3L)
+        );
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            out.setVersion(Version.V_3_4_0);
+            fileCacheStats.writeTo(out);
+            try (StreamInput in = out.bytes().streamInput()) {
+                in.setVersion(Version.V_3_4_0);
+                final FileCacheStats deserialized = new FileCacheStats(in);
+                assertEquals(fileCacheStats.getCacheMisses(), deserialized.getCacheMisses());
+                assertTrue(deserialized.getUsageByIndex().isEmpty());
+            }
+        }
+    }
 }
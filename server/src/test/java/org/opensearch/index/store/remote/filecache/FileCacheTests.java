@@ -20,6 +20,7 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.index.store.remote.directory.RemoteSnapshotDirectoryFactory;
 import org.opensearch.index.store.remote.file.CleanerDaemonThreadLeakFilter;
 import org.opensearch.index.store.remote.utils.FileTypeUtils;
+import org.opensearch.index.store.remote.utils.cache.EvictionPolicy;
 import org.opensearch.node.Node;
 import org.opensearch.test.OpenSearchTestCase;
 import org.junit.Before;
@@ -30,6 +31,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermissions;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinTask;
 
@@ -390,6 +392,45 @@ public class FileCacheTests extends OpenSearchTestCase {
         assertEquals(53.75, fileCache.fileCacheStats().getOverallActivePercent(), 0.0);
     }
 
+    public void testScanResistantEviction() {
+        FileCache fileCache = FileCacheFactory.createConcurrentFileCache(10 * BLOCK_SIZE, 1, EvictionPolicy.SLRU);
+        // blocks that are read again once released are protected
+        for (int i = 0; i < 4; i++) {
+            putAndDecRef(fileCache, i, BLOCK_SIZE);
+            fileCache.get(createPath(Integer.toString(i)));
+            fileCache.decRef(createPath(Integer.toString(i)));
+        }
+        // a scan that reads many more blocks than fit in the cache only once
+        for (int i = 100; i < 200; i++) {
+            putAndDecRef(fileCache, i, BLOCK_SIZE);
+        }
+        for (int i = 0; i < 4; i++) {
+            assertNotNull(fileCache.getRef(createPath(Integer.toString(i))));
+        }
+        assertTrue(fileCache.stats().evictionCount() >= 90);
+    }
+
+    public void testUsageByIndex() {
+        FileCache fileCache = createFileCache(10 * BLOCK_SIZE);
+        final Path index1 = path.resolve(NodeEnvironment.CACHE_FOLDER).resolve("index-uuid-1");
+        final Path index2 = path.resolve(NodeEnvironment.CACHE_FOLDER).resolve("index-uuid-2");
+        final Path file1 = index1.resolve("0").resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION).resolve("_0.cfs");
+        final Path file2 = index1.resolve("1").resolve(RemoteSnapshotDirectoryFactory.LOCAL_STORE_LOCATION).resolve("_0.cfs");
+        final Path file3 = index2.resolve("0").resolve(FileTypeUtils.INDICES_FOLDER_IDENTIFIER).resolve("_1.cfs_block_0");
+        fileCache.put(file1, new StubCachedIndexInput(MEGA_BYTES));
+        fileCache.put(file2, new StubCachedIndexInput(2 * MEGA_BYTES));
+        fileCache.put(file3, new StubCachedIndexInput(BLOCK_SIZE));
+
+        assertEquals(Map.of("index-uuid-1", 3L * MEGA_BYTES, "index-uuid-2", (long) BLOCK_SIZE), fileCache.usageByIndex());
+        assertEquals(fileCache.usageByIndex(), fileCache.fileCacheStats().getOverallFileCacheStats().getUsageByIndex());
+
+        fileCache.remove(file3);
+        assertEquals(Map.of("index-uuid-1", 3L * MEGA_BYTES), fileCache.usageByIndex());
+
+        fileCache.clear();
+        assertTrue(fileCache.usageByIndex().isEmpty());
+    }
+
     public void testCacheRestore() throws IOException {
         String indexName = "test-index";
         String shardId = "0";
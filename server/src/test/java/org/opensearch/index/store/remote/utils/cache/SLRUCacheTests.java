@@ -0,0 +1,105 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.index.store.remote.utils.cache;
+
+import java.util.List;
+import java.util.Map;
+
+public class SLRUCacheTests extends RefCountedCacheTestCase {
+    public SLRUCacheTests() {
+        super(new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.SLRU, null));
+    }
+
+    public void testScanDoesNotEvictReusedEntries() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.SLRU, null);
+        final LRUCache<String, Long> lruCache = new LRUCache<>(CAPACITY, n -> {}, value -> value);
+        for (LRUCache<String, Long> c : List.of(cache, lruCache)) {
+            for (String key : new String[] { "hot1", "hot2" }) {
+                putAndDecRef(c, key, 25L);
+                c.get(key);
+                c.decRef(key);
+            }
+            for (int i = 0; i < 10; i++) {
+                putAndDecRef(c, "scan" + i, 25L);
+            }
+        }
+        assertNotNull(cache.getRef("hot1"));
+        assertNotNull(cache.getRef("hot2"));
+        assertNull(lruCache.getRef("hot1"));
+        assertNull(lruCache.getRef("hot2"));
+    }
+
+    public void testReferencesTakenWhileInUseDoNotPromote() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.SLRU, null);
+        cache.put("1", 25L);
+        // references taken while the entry is still referenced don't count as reuse
+        cache.get("1");
+        cache.decRef("1");
+        cache.decRef("1");
+        for (int i = 0; i < 4; i++) {
+            putAndDecRef(cache, "scan" + i, 25L);
+        }
+        assertNull(cache.getRef("1"));
+    }
+
+    public void testProtectedSegmentOverflowDemotesToProbation() {
+        final LRUCache<String, Long> cache = new LRUCache<>(CAPACITY, n -> {}, value -> value, EvictionPolicy.SLRU, null);
+        for (String key : new String[] { "1", "2", "3" }) {
+            putAndDecRef(cache, key, 30L);
+        }
+        // promoting all three exceeds the protected capacity, so the least recently used protected entry is demoted
+        for (String key : new String[] { "1", "2", "3" }) {
+            cache.get(key);
+            cache.decRef(key);
+        }
+        putAndDecRef(cache, "4", 30L);
+        assertNull(cache.getRef("1"));
+        assertNotNull(cache.getRef("2"));
+        assertNotNull(cache.getRef("3"));
+        assertNotNull(cache.getRef("4"));
+    }
+
+    public void testUsageByGroup() {
+        final LRUCache<String, Long> cache = new LRUCache<>(
+            CAPACITY,
+            n -> {},
+            value -> value,
+            EvictionPolicy.SLRU,
+            key -> key.startsWith("none") ? null : key.substring(0, 1)
+        );
+        cache.put("a1", 10L);
+        cache.put("a2", 20L);
+        cache.put("b1", 30L);
+        cache.put("none", 5L);
+        assertEquals(Map.of("a", 30L, "b", 30L), cache.usageByGroup());
+
+        cache.remove("a1");
+        cache.put("b1", 35L);
+        assertEquals(Map.of("a", 20L, "b", 35L), cache.usageByGroup());
+
+        cache.decRef("a2");
+        cache.decRef("a2");
+        cache.prune();
+        assertEquals(Map.of("b", 35L), cache.usageByGroup());
+
+        // evicted entries are no longer accounted
+        cache.decRef("b1");
+        cache.decRef("b1");
+        cache.put("c1", 70L);
+        assertEquals(Map.of("c", 70L), cache.usageByGroup());
+
+        cache.clear();
+        assertTrue(cache.usageByGroup().isEmpty());
+    }
+
+    private static void putAndDecRef(RefCountedCache<String, Long> cache, String key, long value) {
+        cache.put(key, value);
+        cache.decRef(key);
+    }
+}
@@ -413,6 +413,76 @@ public class IndicesQueryCacheTests extends OpenSearchTestCase {
         cache.close(); // this triggers some assertions
     }
 
+    public void testTinyLfuAdmissionKeepsReusedQueries() throws IOException {
+        Directory dir = newDirectory();
+        IndexWriter w = new IndexWriter(dir, newIndexWriterConfig());
+        w.addDocument(new Document());
+        DirectoryReader r = DirectoryReader.open(w);
+        w.close();
+        ShardId shard = new ShardId("index", "_na_", 0);
+        r = OpenSearchDirectoryReader.wrap(r, shard);
+        IndexSearcher s = new IndexSearcher(r);
+        s.setQueryCachingPolicy(alwaysCachePolicy());
+
+        Settings settings = Settings.builder()
+            .put(IndicesQueryCache.INDICES_CACHE_QUERY_COUNT_SETTING.getKey(), 10)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true)
+            .put(IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.getKey(), "tinylfu")
+            .build();
+        IndicesQueryCache cache = new IndicesQueryCache(settings);
+        s.setQueryCache(cache);
+
+        // fill the cache with queries that are used over and over
+        for (int round = 0; round < 5; ++round) {
+            for (int i = 0; i < 10; ++i) {
+                assertEquals(1, s.count(new DummyQuery(i)));
+            }
+        }
+        QueryCacheStats stats = cache.getStats(shard);
+        assertEquals(10L, stats.getCacheSize());
+        assertEquals(10L, stats.getCacheCount());
+        assertEquals(0L, stats.getAdmissionRejectedCount());
+
+        // one-off queries don't get to evict them
+        for (int i = 100; i < 120; ++i) {
+            assertEquals(1, s.count(new DummyQuery(i)));
+        }
+        stats = cache.getStats(shard);
+        assertEquals(10L, stats.getCacheSize());
+        assertEquals(10L, stats.getCacheCount());
+        assertTrue(stats.getAdmissionRejectedCount() >= 20L);
+
+        final long hitCount = stats.getHitCount();
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(1, s.count(new DummyQuery(i)));
+        }
+        assertTrue(cache.getStats(shard).getHitCount() >= hitCount + 10);
+
+        IOUtils.close(r, dir);
+        cache.onClose(shard);
+        cache.close(); // this triggers some assertions
+    }
+
+    public void testAdmissionPolicySetting() {
+        assertEquals(
+            IndicesQueryCache.AdmissionPolicy.NONE,
+            IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.get(Settings.EMPTY)
+        );
+        assertEquals(
+            IndicesQueryCache.AdmissionPolicy.TINYLFU,
+            IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.get(
+                Settings.builder().put(IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.getKey(), "TinyLFU").build()
+            )
+        );
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.get(
+                Settings.builder().put(IndicesQueryCache.INDICES_QUERIES_CACHE_ADMISSION_POLICY_SETTING.getKey(), "lfu").build()
+            )
+        );
+        assertEquals("unknown query cache admission policy [lfu]", e.getMessage());
+    }
+
     private static class DummyWeight extends Weight {
 
         private final Weight weight;
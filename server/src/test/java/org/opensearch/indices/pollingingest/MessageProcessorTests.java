@@ -26,7 +26,9 @@ import org.junit.Before;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
@@ -110,6 +112,29 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         assertEquals("1", captor.getValue().id());
     }
 
+    public void testGetIndexOperationWithStreamedSource() throws IOException {
+        byte[] payload = "{\"_id\":\"1\",\"_source\":{\"name\":\"bob\", \"age\": 24}}".getBytes(StandardCharsets.UTF_8);
+        FakeIngestionSource.FakeIngestionShardPointer pointer = new FakeIngestionSource.FakeIngestionShardPointer(0);
+
+        ParsedDocument parsedDocument = mock(ParsedDocument.class);
+        when(documentMapper.parse(any())).thenReturn(parsedDocument);
+        when(parsedDocument.rootDoc()).thenReturn(new ParseContext.Document());
+
+        Map<String, Object> payloadMap = new StreamingXContentIngestionPayloadDecoder().decode(
+            new FakeIngestionSource.FakeIngestionMessage(payload)
+        );
+        MessageProcessorRunnable.MessageOperation operation = processor.getOperation(
+            new ShardUpdateMessage(pointer, mock(Message.class), payloadMap, 0),
+            MessageProcessorRunnable.MessageProcessorMetrics.create()
+        );
+
+        assertTrue(operation.engineOperation() instanceof Engine.Index);
+        ArgumentCaptor<SourceToParse> captor = ArgumentCaptor.forClass(SourceToParse.class);
+        verify(documentMapper).parse(captor.capture());
+        assertSame(payloadMap.get("_source"), captor.getValue().source());
+        assertEquals("1", captor.getValue().id());
+    }
+
     public void testGetDeleteOperation() throws IOException {
         byte[] payload = "{\"_id\":\"1\",\"_op_type\":\"delete\"}".getBytes(StandardCharsets.UTF_8);
         FakeIngestionSource.FakeIngestionShardPointer pointer = new FakeIngestionSource.FakeIngestionShardPointer(0);
@@ -284,6 +309,93 @@ public class MessageProcessorTests extends OpenSearchTestCase {
         thread.interrupt();
     }
 
+    public void testDrainQueuedMessages() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        DropIngestionErrorStrategy errorStrategy = new DropIngestionErrorStrategy("ingestion_source");
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(10),
+            processor,
+            errorStrategy,
+            "test_index",
+            0,
+            5
+        );
+        for (int i = 0; i < 7; i++) {
+            messageProcessorRunnable.getBlockingQueue()
+                .put(new ShardUpdateMessage(mock(IngestionShardPointer.class), null, Collections.emptyMap(), 0));
+        }
+        doThrow(new RuntimeException()).doNothing().when(processor).process(any(), any());
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        assertBusy(() -> {
+            verify(processor, times(8)).process(any(), any());
+            MessageProcessorRunnable.MessageProcessorMetrics metrics = messageProcessorRunnable.getMessageProcessorMetrics();
+            assertEquals(1, metrics.failedMessageCounter().count());
+            assertEquals(2, metrics.drainCounter().count());
+            assertEquals(7, metrics.drainedMessageCounter().count());
+            // a drain of the 5 messages queued at first and a drain of the remaining 2
+            long[] drainSizes = metrics.drainSizeHistogram().counts();
+            assertEquals(1, drainSizes[1]);
+            assertEquals(1, drainSizes[3]);
+            assertEquals(2, Arrays.stream(drainSizes).sum());
+        }, 1, TimeUnit.MINUTES);
+
+        messageProcessorRunnable.close();
+        thread.interrupt();
+    }
+
+    public void testRecordsEndToEndLag() throws Exception {
+        MessageProcessorRunnable.MessageProcessor processor = mock(MessageProcessorRunnable.MessageProcessor.class);
+        MessageProcessorRunnable messageProcessorRunnable = new MessageProcessorRunnable(
+            new ArrayBlockingQueue<>(5),
+            processor,
+            new DropIngestionErrorStrategy("ingestion_source"),
+            "test_index",
+            0
+        );
+        Message message = mock(Message.class);
+        when(message.getTimestamp()).thenReturn(System.currentTimeMillis() - 2000);
+        messageProcessorRunnable.getBlockingQueue().put(new ShardUpdateMessage(mock(IngestionShardPointer.class), message, Map.of(), 0));
+        // messages without a timestamp are not recorded
+        messageProcessorRunnable.getBlockingQueue().put(new ShardUpdateMessage(mock(IngestionShardPointer.class), null, Map.of(), 0));
+
+        Thread thread = new Thread(messageProcessorRunnable::run);
+        thread.start();
+        assertBusy(() -> {
+            verify(processor, times(2)).process(any(), any());
+            long[] lag = messageProcessorRunnable.getMessageProcessorMetrics().lagHistogram().counts();
+            assertEquals(1, Arrays.stream(lag).sum());
+            // the lag is more than 1 second and at most 5 seconds
+            assertEquals(1, lag[5]);
+        }, 1, TimeUnit.MINUTES);
+
+        messageProcessorRunnable.close();
+        thread.interrupt();
+    }
+
+    public void testDocumentMapperLookedUpPerMessage() throws IOException {
+        ParsedDocument parsedDocument = mock(ParsedDocument.class);
+        when(documentMapper.parse(any())).thenReturn(parsedDocument);
+        when(parsedDocument.rootDoc()).thenReturn(new ParseContext.Document());
+
+        // a message retried after a mapping update must be parsed with the updated mapping
+        for (int i = 0; i < 3; i++) {
+            byte[] payload = ("{\"_id\":\"" + i + "\",\"_source\":{\"name\":\"bob\"}}").getBytes(StandardCharsets.UTF_8);
+            processor.getOperation(
+                new ShardUpdateMessage(
+                    new FakeIngestionSource.FakeIngestionShardPointer(i),
+                    mock(Message.class),
+                    IngestionUtils.getParsedPayloadMap(payload),
+                    0
+                ),
+                MessageProcessorRunnable.MessageProcessorMetrics.create()
+            );
+        }
+        verify(ingestionEngine, times(3)).getDocumentMapperForType();
+        verify(documentMapper, times(3)).parse(any());
+    }
+
     // --- Pipeline execution tests ---
 
     /**
@@ -62,6 +62,16 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
             + stats.getPipelineStats().totalFailedCount()
             + ",\"total_dropped_count\":"
             + stats.getPipelineStats().totalDroppedCount()
+            + "},\"drain_stats\":{\"total_drain_count\":"
+            + stats.getDrainStats().totalDrainCount()
+            + ",\"total_drained_message_count\":"
+            + stats.getDrainStats().totalDrainedMessageCount()
+            + ",\"total_drain_time_in_millis\":"
+            + stats.getDrainStats().totalDrainTimeInMillis()
+            + ",\"drain_size_histogram\":"
+            + histogramToJson(stats.getDrainStats().drainSizeHistogram())
+            + ",\"end_to_end_lag_histogram_in_millis\":"
+            + histogramToJson(stats.getDrainStats().lagHistogramInMillis())
             + "}}}";
 
         assertEquals(expected, builder.toString());
@@ -103,6 +113,9 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
                 assertEquals(0, deserialized.getPipelineStats().totalExecutionTimeInMillis());
                 assertEquals(0, deserialized.getPipelineStats().totalFailedCount());
                 assertEquals(0, deserialized.getPipelineStats().totalDroppedCount());
+
+                // Drain stats should be zeroed out (not serialized to older nodes)
+                assertEquals(PollingIngestStats.DrainStats.EMPTY, deserialized.getDrainStats());
             }
         }
     }
@@ -153,7 +166,43 @@ public class PollingIngestStatsTests extends OpenSearchTestCase {
                 randomNonNegativeLong(),
                 randomNonNegativeLong(),
                 randomNonNegativeLong()
+            ),
+            new PollingIngestStats.DrainStats(
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomNonNegativeLong(),
+                randomHistogram(),
+                randomHistogram()
             )
         );
     }
+
+    private PollingIngestStats.Histogram randomHistogram() {
+        long[] upperBounds = new long[randomIntBetween(0, 5)];
+        for (int i = 0; i < upperBounds.length; i++) {
+            upperBounds[i] = (i == 0 ? 0 : upperBounds[i - 1]) + randomIntBetween(1, 100);
+        }
+        long[] counts = new long[upperBounds.length + 1];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = randomNonNegativeLong();
+        }
+        return new PollingIngestStats.Histogram(upperBounds, counts);
+    }
+
+    private static String histogramToJson(PollingIngestStats.Histogram histogram) {
+        long[] upperBounds = histogram.getUpperBounds();
+        long[] counts = histogram.getCounts();
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < counts.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append('{');
+            if (i < upperBounds.length) {
+                json.append("\"upper_bound\":").append(upperBounds[i]).append(',');
+            }
+            json.append("\"count\":").append(counts[i]).append('}');
+        }
+        return json.append(']').toString();
+    }
 }
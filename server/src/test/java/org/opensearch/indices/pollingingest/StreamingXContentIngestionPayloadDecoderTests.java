@@ -0,0 +1,97 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.pollingingest;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.index.IngestionPayloadDecodingException;
+import org.opensearch.index.Message;
+import org.opensearch.index.engine.FakeIngestionSource;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class StreamingXContentIngestionPayloadDecoderTests extends OpenSearchTestCase {
+
+    public void testValidateRejectsNonEmptySettings() {
+        StreamingXContentIngestionPayloadDecoder.Factory.INSTANCE.validate(Collections.emptyMap());
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> StreamingXContentIngestionPayloadDecoder.Factory.INSTANCE.validate(Map.of("some_key", "some_value"))
+        );
+        assertTrue(e.getMessage().contains("some_key"));
+    }
+
+    public void testCreateRequiresDefaultMapper() {
+        StreamingXContentIngestionPayloadDecoder.Factory factory = StreamingXContentIngestionPayloadDecoder.Factory.INSTANCE;
+        assertNotNull(factory.create(indexMetadata("default"), 0, Collections.emptyMap()));
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> factory.create(indexMetadata("raw_payload"), 0, Collections.emptyMap())
+        );
+        assertTrue(e.getMessage().contains("raw_payload"));
+    }
+
+    public void testDecodeKeepsSourceAsBytes() {
+        StreamingXContentIngestionPayloadDecoder decoder = new StreamingXContentIngestionPayloadDecoder();
+        byte[] payload = "{\"_id\":\"1\",\"_op_type\":\"index\",\"_source\":{\"name\":\"alice\",\"age\":30,\"tags\":[\"a\",\"b\"]}}"
+            .getBytes(StandardCharsets.UTF_8);
+        Message<?> message = new FakeIngestionSource.FakeIngestionMessage(payload);
+
+        Map<String, Object> result = decoder.decode(message);
+
+        assertEquals("1", result.get("_id"));
+        assertEquals("index", result.get("_op_type"));
+        assertTrue(result.get("_source") instanceof BytesReference);
+        BytesReference source = (BytesReference) result.get("_source");
+        Map<String, Object> sourceMap = XContentHelper.convertToMap(source, false, MediaTypeRegistry.xContentType(source)).v2();
+        assertEquals(Map.of("name", "alice", "age", 30, "tags", List.of("a", "b")), sourceMap);
+    }
+
+    public void testDecodeMatchesXContentDecoderForOtherFields() {
+        byte[] payload = "{\"_id\":\"1\",\"_version\":\"3\",\"meta\":{\"k\":\"v\"},\"list\":[1,2],\"flag\":true,\"none\":null}"
+            .getBytes(StandardCharsets.UTF_8);
+        Message<?> message = new FakeIngestionSource.FakeIngestionMessage(payload);
+
+        assertEquals(new XContentIngestionPayloadDecoder().decode(message), new StreamingXContentIngestionPayloadDecoder().decode(message));
+    }
+
+    public void testDecodeInvalidPayloadThrows() {
+        StreamingXContentIngestionPayloadDecoder decoder = new StreamingXContentIngestionPayloadDecoder();
+        expectThrows(
+            IngestionPayloadDecodingException.class,
+            () -> decoder.decode(new FakeIngestionSource.FakeIngestionMessage("not a json".getBytes(StandardCharsets.UTF_8)))
+        );
+        expectThrows(
+            IngestionPayloadDecodingException.class,
+            () -> decoder.decode(new FakeIngestionSource.FakeIngestionMessage("[1,2]".getBytes(StandardCharsets.UTF_8)))
+        );
+    }
+
+    private IndexMetadata indexMetadata(String mapperType) {
+        return IndexMetadata.builder("index")
+            .settings(
+                Settings.builder()
+                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                    .put(IndexMetadata.SETTING_INGESTION_SOURCE_TYPE, "fake")
+                    .put(IndexMetadata.SETTING_INGESTION_SOURCE_MAPPER_TYPE, mapperType)
+                    .put(IndexMetadata.SETTING_INGESTION_SOURCE_DECODER_TYPE, StreamingXContentIngestionPayloadDecoder.NAME)
+            )
+            .numberOfShards(1)
+            .numberOfReplicas(0)
+            .build();
+    }
+}
@@ -140,6 +140,7 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyBoolean;
 import static org.mockito.Mockito.anyString;
@@ -231,7 +232,8 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
             request,
             Math.toIntExact(recoverySettings.getChunkSize().getBytes()),
             between(1, 5),
-            between(1, 5)
+            between(1, 5),
+            between(1, 4)
         );
         PlainActionFuture<Void> sendFilesFuture = new PlainActionFuture<>();
         handler.sendFiles(store, metas.toArray(new StoreFileMetadata[0]), () -> 0, sendFilesFuture);
@@ -246,6 +248,36 @@ public class LocalStorePeerRecoverySourceHandlerTests extends OpenSearchTestCase
         IOUtils.close(reader, store, multiFileWriter, targetStore);
     }
 
+    public void testPartitionFiles() {
+        final int numFiles = randomIntBetween(1, 50);
+        final StoreFileMetadata[] files = new StoreFileMetadata[numFiles];
+        long maxLength = 0;
+        for (int i = 0; i < numFiles; i++) {
+            files[i] = new StoreFileMetadata("file-" + i, randomLongBetween(1, 1 << 20), "0", org.apache.lucene.util.Version.LATEST);
+            maxLength = Math.max(maxLength, files[i].length());
+        }
+        final int maxGroups = randomIntBetween(1, 8);
+        final List<StoreFileMetadata[]> groups = RecoverySourceHandler.partitionFiles(files, maxGroups);
+        assertThat(groups, hasSize(Math.min(maxGroups, numFiles)));
+
+        final Set<String> seen = new HashSet<>();
+        long minGroupBytes = Long.MAX_VALUE;
+        long maxGroupBytes = 0;
+        for (StoreFileMetadata[] group : groups) {
+            assertTrue(group.length > 0);
+            long groupBytes = 0;
+            for (StoreFileMetadata file : group) {
+                assertTrue("file [" + file.name() + "] assigned twice", seen.add(file.name()));
+                groupBytes += file.length();
+            }
+            minGroupBytes = Math.min(minGroupBytes, groupBytes);
+            maxGroupBytes = Math.max(maxGroupBytes, groupBytes);
+        }
+        assertEquals(numFiles, seen.size());
+        // greedy largest-first assignment keeps groups within one file of each other
+        assertThat(maxGroupBytes - minGroupBytes, lessThanOrEqualTo(maxLength));
+    }
+
     public StartRecoveryRequest getStartRecoveryRequest() throws IOException {
         Store.MetadataSnapshot metadataSnapshot = randomBoolean()
             ? Store.MetadataSnapshot.EMPTY
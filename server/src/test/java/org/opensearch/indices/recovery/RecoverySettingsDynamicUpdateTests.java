@@ -67,6 +67,15 @@ public class RecoverySettingsDynamicUpdateTests extends OpenSearchTestCase {
         assertNull(recoverySettings.mergedSegmentReplicationRateLimiter());
     }
 
+    public void testMaxConcurrentFiles() {
+        assertEquals(1, recoverySettings.getMaxConcurrentFiles());
+        int maxConcurrentFiles = randomIntBetween(1, 8);
+        clusterSettings.applySettings(
+            Settings.builder().put(RecoverySettings.INDICES_RECOVERY_MAX_CONCURRENT_FILES_SETTING.getKey(), maxConcurrentFiles).build()
+        );
+        assertEquals(maxConcurrentFiles, recoverySettings.getMaxConcurrentFiles());
+    }
+
     public void testSetReplicationMaxBytesPerSec() {
         assertEquals(40, (int) recoverySettings.replicationRateLimiter().getMBPerSec());
         clusterSettings.applySettings(
@@ -0,0 +1,254 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.apache.lucene.codecs.Codec;
+import org.apache.lucene.util.Version;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.store.StoreFileMetadata;
+import org.opensearch.indices.replication.checkpoint.ReplicationCheckpoint;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ReplicaShardReplicationSourceTests extends OpenSearchTestCase {
+
+    private static final ShardId SHARD_ID = new ShardId("index", "uuid", 0);
+    private static final List<StoreFileMetadata> FILES = List.of(new StoreFileMetadata("_0.si", 20, "checksum", Version.LATEST));
+
+    private final List<TimeValue> scheduledDelays = new ArrayList<>();
+    private ThreadPool threadPool;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+        // run the retries right away, recording the backoff
+        threadPool = mock(ThreadPool.class);
+        when(threadPool.schedule(any(Runnable.class), any(TimeValue.class), anyString())).thenAnswer(invocation -> {
+            scheduledDelays.add(invocation.getArgument(1));
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        });
+    }
+
+    public void testCopiesFromUpstreamThatHasCheckpoint() {
+        final StubSource upstream = new StubSource("upstream", checkpoint(2));
+        final StubSource primary = new StubSource("primary", checkpoint(2));
+        final ReplicaShardReplicationSource source = new ReplicaShardReplicationSource(upstream, primary, threadPool);
+
+        final CheckpointInfoResponse response = getCheckpointMetadata(source, checkpoint(2));
+        assertEquals(checkpoint(2), response.getCheckpoint());
+        assertEquals("upstream", source.getDescription());
+        assertEquals(1, upstream.checkpointRequests);
+        assertEquals(0, primary.checkpointRequests);
+        assertTrue(scheduledDelays.isEmpty());
+
+        getSegmentFiles(source, checkpoint(2));
+        assertEquals(List.of(FILES), upstream.segmentFileRequests);
+        assertTrue(primary.segmentFileRequests.isEmpty());
+    }
+
+    public void testReleasesUpstreamAndBacksOffWhileItIsBehind() {
+        final int behind = randomIntBetween(1, 8);
+        final List<ReplicationCheckpoint> upstreamCheckpoints = new ArrayList<>();
+        for (int i = 0; i < behind; i++) {
+            upstreamCheckpoints.add(checkpoint(1));
+        }
+        upstreamCheckpoints.add(checkpoint(2));
+        final StubSource upstream = new StubSource("upstream", upstreamCheckpoints.toArray(new ReplicationCheckpoint[0]));
+        final StubSource primary = new StubSource("primary", checkpoint(2));
+        final ReplicaShardReplicationSource source = new ReplicaShardReplicationSource(upstream, primary, threadPool);
+
+        final CheckpointInfoResponse response = getCheckpointMetadata(source, checkpoint(2));
+        assertEquals(checkpoint(2), response.getCheckpoint());
+        assertEquals(behind + 1, upstream.checkpointRequests);
+        assertEquals(0, primary.checkpointRequests);
+
+        // every response that was behind released the copy state acquired on the upstream with an empty file request
+        assertEquals(behind, upstream.segmentFileRequests.size());
+        for (int i = 0; i < behind; i++) {
+            assertTrue(upstream.segmentFileRequests.get(i).isEmpty());
+            assertEquals(checkpoint(1), upstream.segmentFileCheckpoints.get(i));
+        }
+        final Iterator<TimeValue> backoff = ReplicaShardReplicationSource.UPSTREAM_BACKOFF_POLICY.iterator();
+        for (TimeValue delay : scheduledDelays) {
+            assertEquals(backoff.next(), delay);
+        }
+        assertEquals(behind, scheduledDelays.size());
+
+        getSegmentFiles(source, checkpoint(2));
+        assertEquals(FILES, upstream.segmentFileRequests.get(behind));
+        assertTrue(primary.segmentFileRequests.isEmpty());
+    }
+
+    public void testFallsBackToPrimaryWhenUpstreamStaysBehind() {
+        final StubSource upstream = new StubSource("upstream", checkpoint(1));
+        final StubSource primary = new StubSource("primary", checkpoint(2));
+        final ReplicaShardReplicationSource source = new ReplicaShardReplicationSource(upstream, primary, threadPool);
+
+        final CheckpointInfoResponse response = getCheckpointMetadata(source, checkpoint(2));
+        assertEquals(checkpoint(2), response.getCheckpoint());
+        assertEquals("primary", source.getDescription());
+        assertEquals(1, primary.checkpointRequests);
+
+        int retries = 0;
+        for (Iterator<TimeValue> backoff = ReplicaShardReplicationSource.UPSTREAM_BACKOFF_POLICY.iterator(); backoff.hasNext();) {
+            backoff.next();
+            retries++;
+        }
+        assertEquals(retries + 1, upstream.checkpointRequests);
+        assertEquals(retries + 1, upstream.segmentFileRequests.size());
+        assertTrue(upstream.segmentFileRequests.stream().allMatch(List::isEmpty));
+        assertEquals(retries, scheduledDelays.size());
+
+        getSegmentFiles(source, checkpoint(2));
+        assertEquals(List.of(FILES), primary.segmentFileRequests);
+        assertEquals(retries + 1, upstream.segmentFileRequests.size());
+    }
+
+    public void testFallsBackToPrimaryOnUpstreamFailure() {
+        final StubSource upstream = new StubSource("upstream");
+        upstream.failure = new IllegalStateException("upstream is gone");
+        final StubSource primary = new StubSource("primary", checkpoint(2));
+        final ReplicaShardReplicationSource source = new ReplicaShardReplicationSource(upstream, primary, threadPool);
+
+        final CheckpointInfoResponse response = getCheckpointMetadata(source, checkpoint(2));
+        assertEquals(checkpoint(2), response.getCheckpoint());
+        assertEquals("primary", source.getDescription());
+        assertEquals(1, upstream.checkpointRequests);
+        assertTrue(upstream.segmentFileRequests.isEmpty());
+        assertTrue(scheduledDelays.isEmpty());
+
+        getSegmentFiles(source, checkpoint(2));
+        assertEquals(List.of(FILES), primary.segmentFileRequests);
+    }
+
+    public void testMergedSegmentFilesAreCopiedFromPrimary() {
+        final StubSource upstream = new StubSource("upstream", checkpoint(2));
+        final StubSource primary = new StubSource("primary", checkpoint(2));
+        final ReplicaShardReplicationSource source = new ReplicaShardReplicationSource(upstream, primary, threadPool);
+        getCheckpointMetadata(source, checkpoint(2));
+
+        final List<GetSegmentFilesResponse> responses = new ArrayList<>();
+        source.getMergedSegmentFiles(1L, checkpoint(2), FILES, mock(IndexShard.class), (file, bytes) -> {}, failOnError(responses));
+        assertEquals(1, responses.size());
+        assertEquals(1, primary.mergedSegmentFileRequests);
+        assertEquals(0, upstream.mergedSegmentFileRequests);
+
+        source.cancel();
+        assertTrue(upstream.cancelled);
+        assertTrue(primary.cancelled);
+    }
+
+    private static ReplicationCheckpoint checkpoint(long segmentInfosVersion) {
+        return new ReplicationCheckpoint(SHARD_ID, 1L, 1L, segmentInfosVersion, Codec.getDefault().getName());
+    }
+
+    private static CheckpointInfoResponse getCheckpointMetadata(ReplicaShardReplicationSource source, ReplicationCheckpoint checkpoint) {
+        final List<CheckpointInfoResponse> responses = new ArrayList<>();
+        source.getCheckpointMetadata(1L, checkpoint, failOnError(responses));
+        assertEquals(1, responses.size());
+        return responses.get(0);
+    }
+
+    private static void getSegmentFiles(ReplicaShardReplicationSource source, ReplicationCheckpoint checkpoint) {
+        final List<GetSegmentFilesResponse> responses = new ArrayList<>();
+        source.getSegmentFiles(1L, checkpoint, FILES, mock(IndexShard.class), (file, bytes) -> {}, failOnError(responses));
+        assertEquals(1, responses.size());
+    }
+
+    private static <T> ActionListener<T> failOnError(List<T> responses) {
+        return ActionListener.wrap(responses::add, e -> { throw new AssertionError(e); });
+    }
+
+    /**
+     * A source that answers checkpoint metadata requests with the given checkpoints in order, repeating the last one,
+     * and records the segment file requests it receives.
+     */
+    private static class StubSource implements SegmentReplicationSource {
+        private final String description;
+        private final ReplicationCheckpoint[] checkpoints;
+        private final List<List<StoreFileMetadata>> segmentFileRequests = new ArrayList<>();
+        private final List<ReplicationCheckpoint> segmentFileCheckpoints = new ArrayList<>();
+        private Exception failure;
+        private int checkpointRequests;
+        private int mergedSegmentFileRequests;
+        private boolean cancelled;
+
+        StubSource(String description, ReplicationCheckpoint... checkpoints) {
+            this.description = description;
+            this.checkpoints = checkpoints;
+        }
+
+        @Override
+        public void getCheckpointMetadata(
+            long replicationId,
+            ReplicationCheckpoint checkpoint,
+            ActionListener<CheckpointInfoResponse> listener
+        ) {
+            final int request = checkpointRequests++;
+            if (failure != null) {
+                listener.onFailure(failure);
+                return;
+            }
+            final ReplicationCheckpoint current = checkpoints[Math.min(request, checkpoints.length - 1)];
+            listener.onResponse(new CheckpointInfoResponse(current, Map.of(), new byte[0]));
+        }
+
+        @Override
+        public void getSegmentFiles(
+            long replicationId,
+            ReplicationCheckpoint checkpoint,
+            List<StoreFileMetadata> filesToFetch,
+            IndexShard indexShard,
+            BiConsumer<String, Long> fileProgressTracker,
+            ActionListener<GetSegmentFilesResponse> listener
+        ) {
+            segmentFileRequests.add(filesToFetch);
+            segmentFileCheckpoints.add(checkpoint);
+            listener.onResponse(new GetSegmentFilesResponse(filesToFetch));
+        }
+
+        @Override
+        public void getMergedSegmentFiles(
+            long replicationId,
+            ReplicationCheckpoint checkpoint,
+            List<StoreFileMetadata> filesToFetch,
+            IndexShard indexShard,
+            BiConsumer<String, Long> fileProgressTracker,
+            ActionListener<GetSegmentFilesResponse> listener
+        ) {
+            mergedSegmentFileRequests++;
+            listener.onResponse(new GetSegmentFilesResponse(filesToFetch));
+        }
+
+        @Override
+        public String getDescription() {
+            return description;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+}
@@ -11,8 +11,15 @@ package org.opensearch.indices.replication;
 import org.apache.lucene.codecs.Codec;
 import org.opensearch.Version;
 import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
@@ -44,11 +51,13 @@ import org.junit.Assert;
 import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.cluster.metadata.IndexMetadata.INDEX_REPLICATION_TYPE_SETTING;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -265,6 +274,35 @@ public class SegmentReplicationSourceServiceTests extends OpenSearchTestCase {
         verify(ongoingSegmentReplications, times(1)).clearOutOfSyncIds(any(), any());
     }
 
+    public void testReplicaClearsInactiveIds() {
+        final ShardId shardId = mockIndexShard.shardId();
+        final ShardRouting replicaRouting = mock(ShardRouting.class);
+        when(replicaRouting.primary()).thenReturn(false);
+        when(mockIndexShard.routingEntry()).thenReturn(replicaRouting);
+
+        final ShardRouting primary = TestShardRouting.newShardRouting(shardId, "node1", true, ShardRoutingState.STARTED);
+        final ShardRouting activeReplica = TestShardRouting.newShardRouting(shardId, "node2", false, ShardRoutingState.STARTED);
+        final ShardRouting initializingReplica = TestShardRouting.newShardRouting(shardId, "node3", false, ShardRoutingState.INITIALIZING);
+        final IndexShardRoutingTable shardRoutingTable = new IndexShardRoutingTable.Builder(shardId).addShard(primary)
+            .addShard(activeReplica)
+            .addShard(initializingReplica)
+            .build();
+        final RoutingTable routingTable = RoutingTable.builder()
+            .add(IndexRoutingTable.builder(shardId.getIndex()).addIndexShard(shardRoutingTable))
+            .build();
+        final ClusterState state = ClusterState.builder(ClusterName.DEFAULT).routingTable(routingTable).build();
+        final ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        when(event.routingTableChanged()).thenReturn(true);
+        when(event.state()).thenReturn(state);
+
+        segmentReplicationSourceService.clusterChanged(event);
+        verify(ongoingSegmentReplications, times(1)).clearInactiveIds(
+            shardId,
+            Set.of(primary.allocationId().getId(), activeReplica.allocationId().getId())
+        );
+        verify(ongoingSegmentReplications, never()).clearOutOfSyncIds(any(), any());
+    }
+
     private void executeGetCheckpointInfo(ActionListener<CheckpointInfoResponse> listener) {
         final CheckpointInfoRequest request = new CheckpointInfoRequest(1L, "testAllocationId", localNode, testCheckpoint);
         transportService.sendRequest(
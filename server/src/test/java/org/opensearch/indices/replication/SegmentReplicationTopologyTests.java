@@ -0,0 +1,101 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.indices.replication;
+
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SegmentReplicationTopologyTests extends OpenSearchTestCase {
+
+    private final ShardId shardId = new ShardId(new Index("index", "_na_"), 0);
+
+    public void testNoFanoutCopiesFromPrimary() {
+        final IndexShardRoutingTable routingTable = buildRoutingTable(randomIntBetween(1, 10), 0);
+        for (ShardRouting replica : routingTable.replicaShards()) {
+            final String allocationId = replica.allocationId().getId();
+            assertNull(SegmentReplicationTopology.upstreamReplica(routingTable, allocationId, 0));
+            assertEquals(1, SegmentReplicationTopology.hops(routingTable, allocationId, 0));
+        }
+        assertEquals(0, SegmentReplicationTopology.hops(routingTable, routingTable.primaryShard().allocationId().getId(), 0));
+    }
+
+    public void testChain() {
+        final IndexShardRoutingTable routingTable = buildRoutingTable(5, 0);
+        final List<ShardRouting> ordered = orderedReplicas(routingTable);
+        assertNull(SegmentReplicationTopology.upstreamReplica(routingTable, ordered.get(0).allocationId().getId(), 1));
+        for (int i = 1; i < ordered.size(); i++) {
+            final String allocationId = ordered.get(i).allocationId().getId();
+            assertEquals(ordered.get(i - 1), SegmentReplicationTopology.upstreamReplica(routingTable, allocationId, 1));
+            assertEquals(i + 1, SegmentReplicationTopology.hops(routingTable, allocationId, 1));
+        }
+    }
+
+    public void testTree() {
+        final int fanout = randomIntBetween(1, 4);
+        final IndexShardRoutingTable routingTable = buildRoutingTable(randomIntBetween(1, 20), 0);
+        final Map<String, Integer> children = new HashMap<>();
+        for (ShardRouting replica : routingTable.replicaShards()) {
+            final String allocationId = replica.allocationId().getId();
+            final ShardRouting upstream = SegmentReplicationTopology.upstreamReplica(routingTable, allocationId, fanout);
+            final String upstreamId = upstream == null ? "primary" : upstream.allocationId().getId();
+            assertNotEquals(allocationId, upstreamId);
+            children.merge(upstreamId, 1, Integer::sum);
+            final int hops = SegmentReplicationTopology.hops(routingTable, allocationId, fanout);
+            if (upstream == null) {
+                assertEquals(1, hops);
+            } else {
+                assertEquals(SegmentReplicationTopology.hops(routingTable, upstreamId, fanout) + 1, hops);
+            }
+        }
+        for (int count : children.values()) {
+            assertTrue(count <= fanout);
+        }
+    }
+
+    public void testInactiveReplicasCopyFromPrimary() {
+        final IndexShardRoutingTable routingTable = buildRoutingTable(3, 2);
+        for (ShardRouting replica : routingTable.replicaShards()) {
+            final ShardRouting upstream = SegmentReplicationTopology.upstreamReplica(routingTable, replica.allocationId().getId(), 1);
+            if (replica.active() == false) {
+                assertNull(upstream);
+            } else if (upstream != null) {
+                assertTrue(upstream.active());
+            }
+        }
+    }
+
+    private List<ShardRouting> orderedReplicas(IndexShardRoutingTable routingTable) {
+        final List<ShardRouting> replicas = new ArrayList<>(routingTable.replicaShards());
+        replicas.sort(Comparator.comparing(shardRouting -> shardRouting.allocationId().getId()));
+        return replicas;
+    }
+
+    private IndexShardRoutingTable buildRoutingTable(int startedReplicas, int initializingReplicas) {
+        final IndexShardRoutingTable.Builder builder = new IndexShardRoutingTable.Builder(shardId);
+        builder.addShard(TestShardRouting.newShardRouting(shardId, "node_p", true, ShardRoutingState.STARTED));
+        for (int i = 0; i < startedReplicas; i++) {
+            builder.addShard(TestShardRouting.newShardRouting(shardId, "node_s" + i, false, ShardRoutingState.STARTED));
+        }
+        for (int i = 0; i < initializingReplicas; i++) {
+            builder.addShard(TestShardRouting.newShardRouting(shardId, "node_i" + i, false, ShardRoutingState.INITIALIZING));
+        }
+        return builder.build();
+    }
+}
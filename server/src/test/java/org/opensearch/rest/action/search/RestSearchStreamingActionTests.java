@@ -0,0 +1,377 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.rest.action.search;
+
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.action.search.CreatePitRequest;
+import org.opensearch.action.search.CreatePitResponse;
+import org.opensearch.action.search.DeletePitRequest;
+import org.opensearch.action.search.DeletePitResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.ShardSearchFailure;
+import org.opensearch.common.SetOnce;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.http.HttpChunk;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.rest.AbstractRestChannel;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestResponse;
+import org.opensearch.rest.StreamingRestChannel;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.builder.PointInTimeBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.internal.InternalSearchResponse;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ShardDocSortBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.client.NoOpNodeClient;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.transport.client.node.NodeClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.mockito.ArgumentCaptor;
+import org.reactivestreams.Subscriber;
+import reactor.core.publisher.Flux;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for {@link RestSearchStreamingAction}.
+ */
+public class RestSearchStreamingActionTests extends OpenSearchTestCase {
+    public void testRejectsNonStreamingChannel() throws Exception {
+        SetOnce<Boolean> pitCreated = new SetOnce<>();
+        try (NodeClient verifyingClient = new NoOpNodeClient(this.getTestName()) {
+            @Override
+            public void createPit(CreatePitRequest request, ActionListener<CreatePitResponse> listener) {
+                pitCreated.set(true);
+            }
+        }) {
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_search/stream")
+                .withMethod(RestRequest.Method.GET)
+                .build();
+            request.param("error_trace", "false");
+            request.param("rest.exception.stacktrace.skip", "false");
+
+            final RestChannel channel = mock(RestChannel.class);
+            when(channel.request()).thenReturn(request);
+            when(channel.newErrorBuilder()).thenReturn(XContentType.YAML.contentBuilder());
+            when(channel.detailedErrorsEnabled()).thenReturn(true);
+
+            new RestSearchStreamingAction().handleRequest(request, channel, verifyingClient);
+
+            final ArgumentCaptor<RestResponse> responseCaptor = ArgumentCaptor.captor();
+            verify(channel).sendResponse(responseCaptor.capture());
+
+            // The default HTTP transport (netty4) does not support streaming, so no point in time should be opened
+            assertThat(pitCreated.get(), equalTo(null));
+            assertThat(responseCaptor.getValue().status(), equalTo(RestStatus.BAD_REQUEST));
+            assertThat(responseCaptor.getValue().content().utf8ToString(), containsString("Unable to initiate response streaming"));
+        }
+    }
+
+    public void testValidate() {
+        assertNull(RestSearchStreamingAction.validate(new SearchRequest().source(new SearchSourceBuilder().size(10))));
+
+        SearchRequest scroll = new SearchRequest().source(new SearchSourceBuilder()).scroll(TimeValue.timeValueMinutes(1));
+        assertValidationError(scroll, "[scroll] cannot be used with a streaming search");
+
+        SearchRequest pit = new SearchRequest().source(new SearchSourceBuilder().pointInTimeBuilder(new PointInTimeBuilder("id")));
+        assertValidationError(pit, "[point in time] cannot be used with a streaming search");
+
+        SearchRequest searchAfter = new SearchRequest().source(new SearchSourceBuilder().searchAfter(new Object[] { 1L }));
+        assertValidationError(searchAfter, "[search_after] cannot be used with a streaming search");
+
+        SearchRequest from = new SearchRequest().source(new SearchSourceBuilder().from(10));
+        assertValidationError(from, "[from] cannot be used with a streaming search");
+
+        SearchRequest aggs = new SearchRequest().source(new SearchSourceBuilder().aggregation(AggregationBuilders.max("max").field("f")));
+        assertValidationError(aggs, "aggregations and suggestions cannot be used with a streaming search");
+    }
+
+    public void testPageTemplateAddsShardDocTiebreaker() {
+        SearchSourceBuilder unsorted = RestSearchStreamingAction.pageTemplate(new SearchSourceBuilder());
+        assertEquals(1, unsorted.sorts().size());
+        assertThat(unsorted.sorts().get(0), instanceOf(ShardDocSortBuilder.class));
+        assertEquals(Integer.valueOf(SearchContext.TRACK_TOTAL_HITS_DISABLED), unsorted.trackTotalHitsUpTo());
+
+        FieldSortBuilder timestamp = new FieldSortBuilder("timestamp").order(SortOrder.DESC);
+        SearchSourceBuilder sorted = RestSearchStreamingAction.pageTemplate(new SearchSourceBuilder().sort(timestamp));
+        assertEquals(2, sorted.sorts().size());
+        assertSame(timestamp, sorted.sorts().get(0));
+        assertThat(sorted.sorts().get(1), instanceOf(ShardDocSortBuilder.class));
+
+        ShardDocSortBuilder shardDoc = new ShardDocSortBuilder();
+        SearchSourceBuilder explicit = RestSearchStreamingAction.pageTemplate(new SearchSourceBuilder().sort(timestamp).sort(shardDoc));
+        assertThat(explicit.sorts(), contains(timestamp, shardDoc));
+    }
+
+    public void testStreamsAllHitsInChunks() throws Exception {
+        final int numDocs = randomIntBetween(1, 20);
+        final int chunkSize = randomIntBetween(1, 5);
+        try (FakeSearchClient client = new FakeSearchClient(getTestName(), numDocs)) {
+            final FakeStreamingChannel channel = new FakeStreamingChannel(newRequest());
+            final SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder());
+            new RestSearchStreamingAction.HitsStreamer(channel, client, searchRequest, chunkSize, TimeValue.timeValueMinutes(1)).start();
+
+            int expectedPages = 1;
+            while (channel.pendingWrites.isEmpty() == false) {
+                // the next page is only fetched once the channel is ready for more data
+                assertEquals(expectedPages, client.pages.size());
+                channel.completeWrite();
+                expectedPages++;
+            }
+
+            // the last page is either short or empty
+            assertEquals(numDocs / chunkSize + 1, client.pages.size());
+            for (int page = 0; page < client.pages.size(); page++) {
+                final SearchSourceBuilder source = client.pages.get(page).source();
+                assertEquals("pit", source.pointInTimeBuilder().getId());
+                assertEquals(chunkSize, source.size());
+                if (page == 0) {
+                    assertNull(source.searchAfter());
+                } else {
+                    assertArrayEquals(new Object[] { page * chunkSize - 1 }, source.searchAfter());
+                }
+            }
+
+            final int hitChunks = (numDocs + chunkSize - 1) / chunkSize;
+            assertEquals(hitChunks + 1, channel.chunks.size());
+            for (int chunk = 0; chunk < hitChunks; chunk++) {
+                assertThat(channel.chunks.get(chunk), containsString("\"_id\":\"" + chunk * chunkSize + "\""));
+            }
+            assertThat(channel.chunks.get(hitChunks), containsString("\"total\":" + numDocs));
+            assertTrue(channel.lastChunkSent);
+            assertEquals(RestStatus.OK, channel.status);
+            assertNull(channel.response);
+            assertThat(client.deletedPits, contains("pit"));
+        }
+    }
+
+    public void testSizeLimitsStreamedHits() throws Exception {
+        try (FakeSearchClient client = new FakeSearchClient(getTestName(), 10)) {
+            final FakeStreamingChannel channel = new FakeStreamingChannel(newRequest());
+            final SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder().size(3));
+            new RestSearchStreamingAction.HitsStreamer(channel, client, searchRequest, 2, TimeValue.timeValueMinutes(1)).start();
+            while (channel.pendingWrites.isEmpty() == false) {
+                channel.completeWrite();
+            }
+
+            assertEquals(2, client.pages.size());
+            assertEquals(2, client.pages.get(0).source().size());
+            assertEquals(1, client.pages.get(1).source().size());
+            assertEquals(3, channel.chunks.size());
+            assertThat(channel.chunks.get(2), containsString("\"total\":3"));
+            assertTrue(channel.lastChunkSent);
+            assertThat(client.deletedPits, contains("pit"));
+        }
+    }
+
+    public void testDeletesPitOnFailure() throws Exception {
+        try (FakeSearchClient client = new FakeSearchClient(getTestName(), 10)) {
+            final FakeStreamingChannel channel = new FakeStreamingChannel(newRequest());
+            final SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder());
+            new RestSearchStreamingAction.HitsStreamer(channel, client, searchRequest, 2, TimeValue.timeValueMinutes(1)).start();
+            client.failure = new IllegalStateException("boom");
+            channel.completeWrite();
+
+            assertEquals(2, client.pages.size());
+            assertEquals(1, channel.chunks.size());
+            assertFalse(channel.lastChunkSent);
+            assertNotNull(channel.response);
+            assertThat(channel.response.content().utf8ToString(), containsString("boom"));
+            assertThat(client.deletedPits, contains("pit"));
+        }
+    }
+
+    public void testDeletesPitWhenChannelFails() throws Exception {
+        try (FakeSearchClient client = new FakeSearchClient(getTestName(), 10)) {
+            final FakeStreamingChannel channel = new FakeStreamingChannel(newRequest());
+            final SearchRequest searchRequest = new SearchRequest("index").source(new SearchSourceBuilder());
+            new RestSearchStreamingAction.HitsStreamer(channel, client, searchRequest, 2, TimeValue.timeValueMinutes(1)).start();
+            channel.pendingWrites.remove(0).onFailure(new IllegalStateException("The response stream was cancelled"));
+
+            assertEquals(1, client.pages.size());
+            assertThat(client.deletedPits, contains("pit"));
+        }
+    }
+
+    public void testParsesStreamedBody() throws Exception {
+        try (NodeClient client = new NoOpNodeClient(getTestName())) {
+            final FakeRestRequest request = new FakeRestRequest.Builder(xContentRegistry()).withPath("my_index/_search/stream")
+                .withMethod(RestRequest.Method.POST)
+                .withParams(new HashMap<>(Map.of("index", "my_index")))
+                .build();
+            final BytesReference body = new BytesArray(
+                "{\"query\":{\"term\":{\"field\":\"value\"}},\"sort\":[{\"timestamp\":\"asc\"}],\"_source\":false}"
+            );
+
+            final SearchRequest searchRequest = RestSearchStreamingAction.parseSearchRequest(request, body, client);
+            assertArrayEquals(new String[] { "my_index" }, searchRequest.indices());
+            assertThat(searchRequest.source().query(), equalTo(new TermQueryBuilder("field", "value")));
+            assertThat(searchRequest.source().sorts(), contains(new FieldSortBuilder("timestamp").order(SortOrder.ASC)));
+            assertFalse(searchRequest.source().fetchSource().fetchSource());
+
+            final SearchRequest withoutBody = RestSearchStreamingAction.parseSearchRequest(request, BytesArray.EMPTY, client);
+            assertNull(withoutBody.source().query());
+        }
+    }
+
+    private FakeRestRequest newRequest() {
+        return new FakeRestRequest.Builder(xContentRegistry()).withPath("index/_search/stream").withMethod(RestRequest.Method.POST).build();
+    }
+
+    /**
+     * A streaming channel that records the sent chunks and holds on to their listeners until the test completes them.
+     */
+    private static class FakeStreamingChannel extends AbstractRestChannel implements StreamingRestChannel {
+        private final List<String> chunks = new ArrayList<>();
+        private final List<ActionListener<Void>> pendingWrites = new ArrayList<>();
+        private RestStatus status;
+        private RestResponse response;
+        private boolean lastChunkSent;
+
+        FakeStreamingChannel(RestRequest request) {
+            super(request, true);
+        }
+
+        void completeWrite() {
+            pendingWrites.remove(0).onResponse(null);
+        }
+
+        @Override
+        public void sendResponse(RestResponse response) {
+            this.response = response;
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk) {
+            sendChunk(chunk, ActionListener.wrap(() -> {}));
+        }
+
+        @Override
+        public void sendChunk(HttpChunk chunk, ActionListener<Void> listener) {
+            try (chunk) {
+                if (chunk.isLast()) {
+                    lastChunkSent = true;
+                    listener.onResponse(null);
+                    return;
+                }
+                chunks.add(chunk.content().utf8ToString());
+            }
+            if (chunks.get(chunks.size() - 1).contains("\"hits\"")) {
+                pendingWrites.add(listener);
+            } else {
+                listener.onResponse(null);
+            }
+        }
+
+        @Override
+        public void prepareResponse(RestStatus status, Map<String, List<String>> headers) {
+            this.status = status;
+        }
+
+        @Override
+        public boolean isReadable() {
+            return true;
+        }
+
+        @Override
+        public boolean isWritable() {
+            return pendingWrites.isEmpty();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super HttpChunk> subscriber) {
+            Flux.<HttpChunk>empty().subscribe(subscriber);
+        }
+    }
+
+    /**
+     * A client that serves the documents {@code 0..numDocs-1}, sorted by their number, through a single point in time.
+     */
+    private static class FakeSearchClient extends NoOpNodeClient {
+        private final int numDocs;
+        private final List<SearchRequest> pages = new ArrayList<>();
+        private final List<String> deletedPits = new ArrayList<>();
+        private Exception failure;
+
+        FakeSearchClient(String testName, int numDocs) {
+            super(testName);
+            this.numDocs = numDocs;
+        }
+
+        @Override
+        public void createPit(CreatePitRequest request, ActionListener<CreatePitResponse> listener) {
+            listener.onResponse(new CreatePitResponse("pit", 0, 1, 1, 0, 0, ShardSearchFailure.EMPTY_ARRAY));
+        }
+
+        @Override
+        public void search(SearchRequest request, ActionListener<SearchResponse> listener) {
+            pages.add(request);
+            if (failure != null) {
+                listener.onFailure(failure);
+                return;
+            }
+            final Object[] searchAfter = request.source().searchAfter();
+            final int from = searchAfter == null ? 0 : ((Number) searchAfter[0]).intValue() + 1;
+            final int to = Math.min(numDocs, from + request.source().size());
+            final SearchHit[] hits = new SearchHit[Math.max(0, to - from)];
+            for (int i = 0; i < hits.length; i++) {
+                hits[i] = new SearchHit(from + i, Integer.toString(from + i), Map.of(), Map.of());
+                hits[i].sortValues(new Object[] { from + i }, new DocValueFormat[] { DocValueFormat.RAW });
+            }
+            final InternalSearchResponse internalResponse = new InternalSearchResponse(
+                new SearchHits(hits, null, Float.NaN),
+                null,
+                null,
+                null,
+                false,
+                null,
+                1
+            );
+            listener.onResponse(
+                new SearchResponse(internalResponse, null, 1, 1, 0, 1, ShardSearchFailure.EMPTY_ARRAY, SearchResponse.Clusters.EMPTY, "pit")
+            );
+        }
+
+        @Override
+        public void deletePits(DeletePitRequest request, ActionListener<DeletePitResponse> listener) {
+            deletedPits.addAll(request.getPitIds());
+        }
+    }
+
+    private static void assertValidationError(SearchRequest searchRequest, String message) {
+        ActionRequestValidationException e = RestSearchStreamingAction.validate(searchRequest);
+        assertNotNull(e);
+        assertThat(e.validationErrors(), contains(message));
+    }
+}
@@ -62,6 +62,8 @@ import java.util.function.BiConsumer;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
 
 public class StreamNumericTermsAggregatorTests extends AggregatorTestCase {
@@ -2971,4 +2973,98 @@ public class StreamNumericTermsAggregatorTests extends AggregatorTestCase {
             }
         }
     }
+
+    public void testFlushBatchSizeFlushesEveryBucketInSortedBatches() throws Exception {
+        try (Directory directory = newDirectory()) {
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig())) {
+                Map<Long, Long> expectedCounts = new HashMap<>();
+                int numDocs = randomIntBetween(50, 200);
+                for (int i = 0; i < numDocs; i++) {
+                    long value = randomLongBetween(0, 30);
+                    Document document = new Document();
+                    document.add(new NumericDocValuesField("field", value));
+                    indexWriter.addDocument(document);
+                    expectedCounts.merge(value, 1L, Long::sum);
+                }
+
+                try (IndexReader indexReader = maybeWrapReaderEs(DirectoryReader.open(indexWriter))) {
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType("field", NumberFieldMapper.NumberType.LONG);
+
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("test").field("field").size(3).shardSize(3);
+
+                    int flushBatchSize = randomIntBetween(1, 5);
+                    IndexSettings indexSettings = new IndexSettings(
+                        IndexMetadata.builder("_index")
+                            .settings(
+                                Settings.builder()
+                                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                                    .put("index.aggregation.streaming.min_segment_size", 1)
+                                    .put("index.aggregation.streaming.terms_flush_batch_size", flushBatchSize)
+                            )
+                            .numberOfShards(1)
+                            .numberOfReplicas(0)
+                            .creationDate(System.currentTimeMillis())
+                            .build(),
+                        Settings.EMPTY
+                    );
+
+                    StreamNumericTermsAggregator aggregator = createStreamAggregator(
+                        null,
+                        aggregationBuilder,
+                        indexSearcher,
+                        indexSettings,
+                        new MultiBucketConsumerService.MultiBucketConsumer(
+                            DEFAULT_MAX_BUCKETS,
+                            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                        ),
+                        fieldType
+                    );
+
+                    aggregator.preCollection();
+                    assertEquals("strictly single segment", 1, indexSearcher.getIndexReader().leaves().size());
+                    indexSearcher.search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+
+                    List<InternalAggregation> batches = new ArrayList<>();
+                    do {
+                        batches.add(aggregator.buildTopLevelBatch());
+                    } while (aggregator.hasPendingBatch());
+                    assertEquals((expectedCounts.size() + flushBatchSize - 1) / flushBatchSize, batches.size());
+
+                    // every bucket is flushed exactly once, each batch sorted by key and bounded by the batch size
+                    Map<Long, Long> flushedCounts = new HashMap<>();
+                    for (InternalAggregation batch : batches) {
+                        List<LongTerms.Bucket> buckets = ((LongTerms) batch).getBuckets();
+                        assertThat(buckets.size(), lessThanOrEqualTo(flushBatchSize));
+                        for (int i = 0; i < buckets.size(); i++) {
+                            long key = buckets.get(i).getKeyAsNumber().longValue();
+                            if (i > 0) {
+                                assertThat(buckets.get(i - 1).getKeyAsNumber().longValue(), lessThan(key));
+                            }
+                            assertNull(flushedCounts.put(key, buckets.get(i).getDocCount()));
+                        }
+                    }
+                    assertEquals(expectedCounts, flushedCounts);
+
+                    InternalAggregation.ReduceContext ctx = InternalAggregation.ReduceContext.forFinalReduction(
+                        new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService()),
+                        getMockScriptService(),
+                        b -> {},
+                        PipelineTree.EMPTY
+                    );
+                    LongTerms reduced = (LongTerms) batches.get(0).reduce(batches, ctx);
+
+                    List<Map.Entry<Long, Long>> expectedTop = new ArrayList<>(expectedCounts.entrySet());
+                    expectedTop.sort(Map.Entry.<Long, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+                    expectedTop = expectedTop.subList(0, Math.min(3, expectedTop.size()));
+                    assertThat(reduced.getBuckets().size(), equalTo(expectedTop.size()));
+                    for (int i = 0; i < expectedTop.size(); i++) {
+                        assertThat(reduced.getBuckets().get(i).getKeyAsNumber().longValue(), equalTo(expectedTop.get(i).getKey()));
+                        assertThat(reduced.getBuckets().get(i).getDocCount(), equalTo(expectedTop.get(i).getValue()));
+                    }
+                }
+            }
+        }
+    }
 }
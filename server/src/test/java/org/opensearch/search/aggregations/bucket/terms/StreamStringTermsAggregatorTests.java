@@ -15,6 +15,7 @@ import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.store.Directory;
@@ -71,8 +72,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.BiConsumer;
 
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
@@ -2150,4 +2153,128 @@ public class StreamStringTermsAggregatorTests extends AggregatorTestCase {
             }
         }
     }
+
+    public void testFlushBatchSizeStreamsEverySegmentInSortedBatches() throws Exception {
+        try (Directory directory = newDirectory()) {
+            int flushBatchSize = randomIntBetween(1, 4);
+            Map<String, Long> expectedCounts = new HashMap<>();
+            int expectedBatches = 0;
+            try (IndexWriter indexWriter = new IndexWriter(directory, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                int numSegments = randomIntBetween(2, 4);
+                for (int segment = 0; segment < numSegments; segment++) {
+                    Set<String> segmentTerms = new HashSet<>();
+                    int numDocs = randomIntBetween(1, 30);
+                    for (int i = 0; i < numDocs; i++) {
+                        String term = "term_" + randomIntBetween(10, 25);
+                        Document document = new Document();
+                        document.add(new SortedSetDocValuesField("field", new BytesRef(term)));
+                        indexWriter.addDocument(document);
+                        expectedCounts.merge(term, 1L, Long::sum);
+                        segmentTerms.add(term);
+                    }
+                    indexWriter.flush();
+                    expectedBatches += (segmentTerms.size() + flushBatchSize - 1) / flushBatchSize;
+                }
+
+                try (IndexReader indexReader = maybeWrapReaderEs(DirectoryReader.open(indexWriter))) {
+                    assertEquals(numSegments, indexReader.leaves().size());
+                    IndexSearcher indexSearcher = newIndexSearcher(indexReader);
+                    IndexSettings indexSettings = new IndexSettings(
+                        IndexMetadata.builder("_index")
+                            .settings(
+                                Settings.builder()
+                                    .put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                                    .put("index.aggregation.streaming.min_segment_size", 1)
+                                    .put("index.aggregation.streaming.terms_flush_batch_size", flushBatchSize)
+                            )
+                            .numberOfShards(1)
+                            .numberOfReplicas(0)
+                            .creationDate(System.currentTimeMillis())
+                            .build(),
+                        Settings.EMPTY
+                    );
+                    MappedFieldType fieldType = new KeywordFieldMapper.KeywordFieldType("field");
+                    SearchContext searchContext = createSearchContext(
+                        indexSearcher,
+                        indexSettings,
+                        null,
+                        new MultiBucketConsumerService.MultiBucketConsumer(
+                            MultiBucketConsumerService.DEFAULT_MAX_BUCKETS,
+                            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                        ),
+                        fieldType
+                    );
+                    when(searchContext.isStreamSearch()).thenReturn(true);
+                    when(searchContext.getFlushMode()).thenReturn(FlushMode.PER_SEGMENT);
+                    when(searchContext.shardTarget()).thenReturn(
+                        new SearchShardTarget("node_1", new ShardId("foo", "_na_", 1), null, OriginalIndices.NONE)
+                    );
+                    searchContext.setTask(new SearchShardTask(0, "n/a", "n/a", "test-kind", null, null));
+                    when(searchContext.queryResult()).thenReturn(new QuerySearchResult());
+                    when(searchContext.fetchResult()).thenReturn(new FetchSearchResult());
+                    StreamSearchChannelListener listenerMock = mock(StreamSearchChannelListener.class);
+                    final List<InternalAggregations> batches = new ArrayList<>();
+                    when(searchContext.getStreamChannelListener()).thenReturn(listenerMock);
+                    doAnswer((invok) -> {
+                        QuerySearchResult querySearchResult = ((QueryFetchSearchResult) invok.getArgument(0, TransportResponse.class))
+                            .queryResult();
+                        batches.add(querySearchResult.aggregations().expand());
+                        return null;
+                    }).when(listenerMock).onStreamResponse(any(), anyBoolean());
+
+                    TermsAggregationBuilder aggregationBuilder = new TermsAggregationBuilder("test").field("field").size(3).shardSize(3);
+                    Aggregator aggregator = createStreamAggregator(
+                        null,
+                        aggregationBuilder,
+                        indexSearcher,
+                        indexSettings,
+                        new MultiBucketConsumerService.MultiBucketConsumer(
+                            DEFAULT_MAX_BUCKETS,
+                            new NoneCircuitBreakerService().getBreaker(CircuitBreaker.REQUEST)
+                        ),
+                        fieldType
+                    );
+                    if (randomBoolean()) {
+                        aggregator = wrapByProfilingAgg(aggregator);
+                    }
+
+                    aggregator.preCollection();
+                    searchContext.searcher().search(new MatchAllDocsQuery(), aggregator);
+                    aggregator.postCollection();
+
+                    // no segment is cut to its top buckets, each batch is sorted by key and bounded by the batch size
+                    assertEquals(expectedBatches, batches.size());
+                    Map<String, Long> flushedCounts = new HashMap<>();
+                    for (InternalAggregations batch : batches) {
+                        List<StringTerms.Bucket> buckets = ((StringTerms) batch.get("test")).getBuckets();
+                        assertThat(buckets.size(), lessThanOrEqualTo(flushBatchSize));
+                        for (int i = 0; i < buckets.size(); i++) {
+                            if (i > 0) {
+                                assertThat(buckets.get(i - 1).getKeyAsString().compareTo(buckets.get(i).getKeyAsString()), lessThan(0));
+                            }
+                            flushedCounts.merge(buckets.get(i).getKeyAsString(), buckets.get(i).getDocCount(), Long::sum);
+                        }
+                    }
+                    assertEquals(expectedCounts, flushedCounts);
+
+                    InternalAggregation.ReduceContext ctx = InternalAggregation.ReduceContext.forFinalReduction(
+                        new MockBigArrays(new MockPageCacheRecycler(Settings.EMPTY), new NoneCircuitBreakerService()),
+                        getMockScriptService(),
+                        b -> {},
+                        PipelineTree.EMPTY
+                    );
+                    StringTerms reduced = InternalAggregations.reduce(batches, ctx).get("test");
+
+                    List<Map.Entry<String, Long>> expectedTop = new ArrayList<>(expectedCounts.entrySet());
+                    expectedTop.sort(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()));
+                    expectedTop = expectedTop.subList(0, Math.min(3, expectedTop.size()));
+                    assertThat(reduced.getBuckets().size(), equalTo(expectedTop.size()));
+                    for (int i = 0; i < expectedTop.size(); i++) {
+                        assertThat(reduced.getBuckets().get(i).getKeyAsString(), equalTo(expectedTop.get(i).getKey()));
+                        assertThat(reduced.getBuckets().get(i).getDocCount(), equalTo(expectedTop.get(i).getValue()));
+                    }
+                }
+            }
+        }
+    }
 }
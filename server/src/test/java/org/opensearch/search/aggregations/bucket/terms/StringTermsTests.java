@@ -35,6 +35,7 @@ package org.opensearch.search.aggregations.bucket.terms;
 import org.apache.lucene.util.BytesRef;
 import org.opensearch.search.DocValueFormat;
 import org.opensearch.search.aggregations.BucketOrder;
+import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.InternalAggregations;
 import org.opensearch.search.aggregations.ParsedMultiBucketAggregation;
 
@@ -180,6 +181,45 @@ public class StringTermsTests extends InternalTermsTestCase {
         }
     }
 
+    public void testFinalReduceOfKeySortedResultsKeepsExactTopCounts() {
+        List<InternalAggregation> shardResults = List.of(
+            keySortedTerms(new String[] { "a", "b", "c" }, new long[] { 5, 1, 4 }),
+            keySortedTerms(new String[] { "a", "b", "d" }, new long[] { 1, 7, 2 }),
+            keySortedTerms(new String[] { "c", "d" }, new long[] { 3, 1 })
+        );
+
+        StringTerms reduced = (StringTerms) shardResults.get(0).reduce(shardResults, emptyReduceContextBuilder().forFinalReduction());
+
+        assertEquals(2, reduced.getBuckets().size());
+        assertEquals("b", reduced.getBuckets().get(0).getKeyAsString());
+        assertEquals(8, reduced.getBuckets().get(0).getDocCount());
+        assertEquals("c", reduced.getBuckets().get(1).getKeyAsString());
+        assertEquals(7, reduced.getBuckets().get(1).getDocCount());
+        assertEquals(9, reduced.getSumOfOtherDocCounts());
+        assertEquals(0, reduced.getDocCountError());
+    }
+
+    private static StringTerms keySortedTerms(String[] terms, long[] docCounts) {
+        List<StringTerms.Bucket> buckets = new ArrayList<>();
+        for (int i = 0; i < terms.length; i++) {
+            BytesRef term = new BytesRef(terms[i]);
+            buckets.add(new StringTerms.Bucket(term, docCounts[i], InternalAggregations.EMPTY, false, 0, DocValueFormat.RAW));
+        }
+        return new StringTerms(
+            "terms",
+            BucketOrder.key(true),
+            BucketOrder.count(false),
+            null,
+            DocValueFormat.RAW,
+            10,
+            false,
+            0,
+            buckets,
+            0,
+            new TermsAggregator.BucketCountThresholds(1, 0, 2, 10)
+        );
+    }
+
     private BytesRef[] generateRandomDict() {
         Set<BytesRef> terms = new HashSet<>();
         int numTerms = randomIntBetween(2, 100);
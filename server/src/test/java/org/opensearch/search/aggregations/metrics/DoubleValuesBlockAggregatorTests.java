@@ -0,0 +1,216 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CheckedIntConsumer;
+import org.apache.lucene.search.DocIdStream;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.tests.index.RandomIndexWriter;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.index.mapper.MappedFieldType;
+import org.opensearch.index.mapper.NumberFieldMapper;
+import org.opensearch.index.mapper.NumberFieldMapper.NumberType;
+import org.opensearch.search.aggregations.AggregationBuilder;
+import org.opensearch.search.aggregations.Aggregator;
+import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.InternalAggregation;
+import org.opensearch.search.aggregations.LeafBucketCollector;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.opensearch.search.aggregations.AggregationBuilders.avg;
+import static org.opensearch.search.aggregations.AggregationBuilders.max;
+import static org.opensearch.search.aggregations.AggregationBuilders.min;
+import static org.opensearch.search.aggregations.AggregationBuilders.stats;
+import static org.opensearch.search.aggregations.AggregationBuilders.sum;
+
+/**
+ * Compares the block collection of the numeric metric aggregators, which is only enabled by default when a vectorized
+ * kernel is available, against their per value collection.
+ */
+public class DoubleValuesBlockAggregatorTests extends AggregatorTestCase {
+    private static final String FIELD_NAME = "field";
+
+    public void testLongValues() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(FIELD_NAME, NumberType.LONG);
+        // sums of integral values are exact, so both paths agree to the last bit
+        testCase(fieldType, () -> randomLongBetween(-1000, 1000), 0d);
+    }
+
+    public void testDoubleValues() throws IOException {
+        MappedFieldType fieldType = new NumberFieldMapper.NumberFieldType(FIELD_NAME, NumberType.DOUBLE);
+        testCase(fieldType, () -> NumericUtils.doubleToSortableLong(randomDoubleBetween(-1000, 1000, true)), 1e-6);
+    }
+
+    private void testCase(MappedFieldType fieldType, LongSupplier values, double delta) throws IOException {
+        try (Directory directory = newDirectory(); RandomIndexWriter indexWriter = new RandomIndexWriter(random(), directory)) {
+            int numDocs = randomIntBetween(DoubleValuesBlock.BLOCK_SIZE, DoubleValuesBlock.BLOCK_SIZE * 4);
+            for (int i = 0; i < numDocs; i++) {
+                Document document = new Document();
+                // multi-valued, including documents without values
+                int numValues = randomIntBetween(0, 3);
+                for (int j = 0; j < numValues; j++) {
+                    document.add(new SortedNumericDocValuesField(FIELD_NAME, values.getAsLong()));
+                }
+                indexWriter.addDocument(document);
+            }
+            try (IndexReader reader = indexWriter.getReader()) {
+                IndexSearcher searcher = newIndexSearcher(reader);
+                int numBuckets = randomIntBetween(2, 5);
+                AggregationBuilder[] builders = {
+                    sum("_name").field(FIELD_NAME),
+                    avg("_name").field(FIELD_NAME),
+                    min("_name").field(FIELD_NAME),
+                    max("_name").field(FIELD_NAME),
+                    stats("_name").field(FIELD_NAME) };
+                for (AggregationBuilder builder : builders) {
+                    int[] splits = new int[reader.leaves().size()];
+                    for (LeafReaderContext leaf : reader.leaves()) {
+                        splits[leaf.ord] = randomIntBetween(0, leaf.reader().maxDoc());
+                    }
+                    InternalAggregation[] expected = collectPerValue(builder, searcher, reader, splits, numBuckets, fieldType);
+                    InternalAggregation[] actual = collectBlocks(builder, searcher, reader, splits, numBuckets, fieldType);
+                    for (int bucket = 0; bucket < numBuckets; bucket++) {
+                        assertMetricEquals(expected[bucket], actual[bucket], delta);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Collects the documents of each leaf below its split into bucket 0 and the others into buckets by doc id, one
+     * document at a time.
+     */
+    private InternalAggregation[] collectPerValue(
+        AggregationBuilder builder,
+        IndexSearcher searcher,
+        IndexReader reader,
+        int[] splits,
+        int numBuckets,
+        MappedFieldType fieldType
+    ) throws IOException {
+        boolean enabled = DoubleValuesBlock.isEnabled();
+        DoubleValuesBlock.setEnabled(false);
+        try {
+            Aggregator aggregator = createAggregator(builder, searcher, fieldType);
+            aggregator.preCollection();
+            for (LeafReaderContext leaf : reader.leaves()) {
+                LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                int split = splits[leaf.ord];
+                for (int doc = 0; doc < leaf.reader().maxDoc(); doc++) {
+                    leafCollector.collect(doc, doc < split ? 0 : doc % numBuckets);
+                }
+            }
+            aggregator.postCollection();
+            return aggregator.buildAggregations(bucketOrds(numBuckets));
+        } finally {
+            DoubleValuesBlock.setEnabled(enabled);
+        }
+    }
+
+    /**
+     * Collects the same documents into the same buckets as {@link #collectPerValue}, in blocks: a range of doc ids below
+     * the split, and a {@link DocIdStream} per bucket above it.
+     */
+    private InternalAggregation[] collectBlocks(
+        AggregationBuilder builder,
+        IndexSearcher searcher,
+        IndexReader reader,
+        int[] splits,
+        int numBuckets,
+        MappedFieldType fieldType
+    ) throws IOException {
+        boolean enabled = DoubleValuesBlock.isEnabled();
+        DoubleValuesBlock.setEnabled(true);
+        try {
+            Aggregator aggregator = createAggregator(builder, searcher, fieldType);
+            aggregator.preCollection();
+            for (LeafReaderContext leaf : reader.leaves()) {
+                LeafBucketCollector leafCollector = aggregator.getLeafCollector(leaf);
+                int split = splits[leaf.ord];
+                int maxDoc = leaf.reader().maxDoc();
+                leafCollector.collectRange(0, split);
+                for (int bucket = 0; bucket < numBuckets; bucket++) {
+                    List<Integer> docs = new ArrayList<>();
+                    for (int doc = split; doc < maxDoc; doc++) {
+                        if (doc % numBuckets == bucket) {
+                            docs.add(doc);
+                        }
+                    }
+                    leafCollector.collect(stream(docs), bucket);
+                }
+            }
+            aggregator.postCollection();
+            return aggregator.buildAggregations(bucketOrds(numBuckets));
+        } finally {
+            DoubleValuesBlock.setEnabled(enabled);
+        }
+    }
+
+    private static void assertMetricEquals(InternalAggregation expected, InternalAggregation actual, double delta) {
+        if (expected instanceof InternalStats expectedStats) {
+            InternalStats actualStats = (InternalStats) actual;
+            assertEquals(expectedStats.getCount(), actualStats.getCount());
+            assertEquals(expectedStats.getSum(), actualStats.getSum(), delta);
+            assertEquals(expectedStats.getMin(), actualStats.getMin(), 0d);
+            assertEquals(expectedStats.getMax(), actualStats.getMax(), 0d);
+        } else {
+            assertEquals(
+                ((InternalNumericMetricsAggregation.SingleValue) expected).value(),
+                ((InternalNumericMetricsAggregation.SingleValue) actual).value(),
+                delta
+            );
+        }
+    }
+
+    private static long[] bucketOrds(int numBuckets) {
+        long[] bucketOrds = new long[numBuckets];
+        for (int i = 0; i < numBuckets; i++) {
+            bucketOrds[i] = i;
+        }
+        return bucketOrds;
+    }
+
+    private static DocIdStream stream(List<Integer> docs) {
+        return new DocIdStream() {
+            private int index;
+
+            @Override
+            public void forEach(int upTo, CheckedIntConsumer<IOException> consumer) throws IOException {
+                while (index < docs.size() && docs.get(index) < upTo) {
+                    consumer.accept(docs.get(index++));
+                }
+            }
+
+            @Override
+            public int count(int upTo) throws IOException {
+                int count = 0;
+                while (index < docs.size() && docs.get(index) < upTo) {
+                    index++;
+                    count++;
+                }
+                return count;
+            }
+
+            @Override
+            public boolean mayHaveRemaining() {
+                return index < docs.size();
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+public class DoubleValuesBlockTests extends OpenSearchTestCase {
+
+    public void testAggregatesAcrossBlocks() throws IOException {
+        int numDocs = randomIntBetween(1, DoubleValuesBlock.BLOCK_SIZE * 4);
+        double[][] docValues = new double[numDocs][];
+        long expectedCount = 0;
+        double expectedSum = 0;
+        double expectedMin = Double.POSITIVE_INFINITY;
+        double expectedMax = Double.NEGATIVE_INFINITY;
+        for (int doc = 0; doc < numDocs; doc++) {
+            docValues[doc] = new double[randomIntBetween(0, 3)];
+            for (int i = 0; i < docValues[doc].length; i++) {
+                double value = randomDoubleBetween(-1000, 1000, true);
+                docValues[doc][i] = value;
+                expectedCount++;
+                expectedSum += value;
+                expectedMin = Math.min(expectedMin, value);
+                expectedMax = Math.max(expectedMax, value);
+            }
+        }
+
+        CompensatedSum sum = new CompensatedSum(0, 0);
+        DoubleValuesBlock block = new DoubleValuesBlock(true, true, true);
+        block.reset(sum, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY);
+        SortedNumericDoubleValues values = values(docValues);
+        for (int doc = 0; doc < numDocs; doc++) {
+            block.add(values, doc);
+        }
+        block.flush();
+
+        assertEquals(expectedCount, block.count());
+        assertEquals(expectedSum, sum.value(), 1e-6);
+        assertEquals(expectedMin, block.min(), 0d);
+        assertEquals(expectedMax, block.max(), 0d);
+    }
+
+    public void testResetKeepsPreviousResults() throws IOException {
+        SortedNumericDoubleValues values = values(new double[][] { { 1, 2 }, { 3 } });
+        CompensatedSum sum = new CompensatedSum(10, 0);
+        DoubleValuesBlock block = new DoubleValuesBlock(true, true, true);
+        block.reset(sum, 0, 2);
+        block.add(values, 0);
+        block.add(values, 1);
+        block.flush();
+
+        assertEquals(3, block.count());
+        assertEquals(16, sum.value(), 0d);
+        assertEquals(0, block.min(), 0d);
+        assertEquals(3, block.max(), 0d);
+    }
+
+    private static SortedNumericDoubleValues values(double[][] docValues) {
+        return new SortedNumericDoubleValues() {
+            private double[] current;
+            private int index;
+
+            @Override
+            public boolean advanceExact(int target) {
+                current = docValues[target];
+                index = 0;
+                return current.length > 0;
+            }
+
+            @Override
+            public double nextValue() {
+                return current[index++];
+            }
+
+            @Override
+            public int docValueCount() {
+                return current.length;
+            }
+        };
+    }
+}
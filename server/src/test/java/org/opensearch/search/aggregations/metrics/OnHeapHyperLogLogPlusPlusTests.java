@@ -0,0 +1,100 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.util.BigArrays;
+import org.opensearch.common.util.BitMixer;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MAX_PRECISION;
+import static org.opensearch.search.aggregations.metrics.AbstractHyperLogLog.MIN_PRECISION;
+
+public class OnHeapHyperLogLogPlusPlusTests extends OpenSearchTestCase {
+
+    public void testSameCardinalityAsHyperLogLogPlusPlus() {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final int numValues = randomFrom(randomIntBetween(1, 100), randomIntBetween(1, 1 << p), randomIntBetween(1, 100000));
+        final OnHeapHyperLogLogPlusPlus onHeap = new OnHeapHyperLogLogPlusPlus(p);
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (int i = 0; i < numValues; i++) {
+                final long hash = BitMixer.mix64(randomIntBetween(0, numValues));
+                onHeap.collect(0, hash);
+                counts.collect(0, hash);
+            }
+            assertEquals(counts.getAlgorithm(0), onHeap.getAlgorithm(0));
+            assertEquals(counts.cardinality(0), onHeap.cardinality(0));
+        }
+    }
+
+    public void testMerge() {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final OnHeapHyperLogLogPlusPlus merged = new OnHeapHyperLogLogPlusPlus(p);
+        try (HyperLogLogPlusPlus counts = new HyperLogLogPlusPlus(p, BigArrays.NON_RECYCLING_INSTANCE, 1)) {
+            for (int i = 0; i < 10; i++) {
+                final OnHeapHyperLogLogPlusPlus sketch = new OnHeapHyperLogLogPlusPlus(p);
+                final int numValues = randomIntBetween(0, 1000);
+                for (int j = 0; j < numValues; j++) {
+                    final long hash = BitMixer.mix64(randomIntBetween(0, 5000));
+                    sketch.collect(0, hash);
+                    counts.collect(0, hash);
+                }
+                merged.merge(sketch, 0);
+            }
+            assertEquals(counts.cardinality(0), merged.cardinality(0));
+        }
+    }
+
+    public void testMergeDifferentPrecision() {
+        final OnHeapHyperLogLogPlusPlus sketch = new OnHeapHyperLogLogPlusPlus(14);
+        expectThrows(IllegalArgumentException.class, () -> sketch.merge(new OnHeapHyperLogLogPlusPlus(12), 0));
+    }
+
+    public void testCopy() {
+        final OnHeapHyperLogLogPlusPlus sketch = new OnHeapHyperLogLogPlusPlus(randomIntBetween(MIN_PRECISION, MAX_PRECISION));
+        final int numValues = randomIntBetween(1, 10000);
+        for (int i = 0; i < numValues; i++) {
+            sketch.collect(0, BitMixer.mix64(i));
+        }
+        final OnHeapHyperLogLogPlusPlus copy = sketch.copy();
+        final long cardinality = sketch.cardinality(0);
+        assertEquals(cardinality, copy.cardinality(0));
+        for (int i = numValues; i < 2 * numValues; i++) {
+            copy.collect(0, BitMixer.mix64(i));
+        }
+        assertEquals(cardinality, sketch.cardinality(0));
+    }
+
+    public void testSerialization() throws IOException {
+        final int p = randomIntBetween(MIN_PRECISION, MAX_PRECISION);
+        final OnHeapHyperLogLogPlusPlus sketch = new OnHeapHyperLogLogPlusPlus(p);
+        final int numValues = randomFrom(randomIntBetween(0, 100), randomIntBetween(1, 100000));
+        for (int i = 0; i < numValues; i++) {
+            sketch.collect(0, BitMixer.mix64(randomIntBetween(0, numValues)));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            sketch.writeTo(0, out);
+            // the serialized sketch is readable by both implementations
+            try (StreamInput in = out.bytes().streamInput()) {
+                final OnHeapHyperLogLogPlusPlus read = OnHeapHyperLogLogPlusPlus.readFrom(in);
+                assertEquals(sketch.getAlgorithm(0), read.getAlgorithm(0));
+                assertEquals(sketch.cardinality(0), read.cardinality(0));
+            }
+            try (
+                StreamInput in = out.bytes().streamInput();
+                AbstractHyperLogLogPlusPlus read = AbstractHyperLogLogPlusPlus.readFrom(in, BigArrays.NON_RECYCLING_INSTANCE)
+            ) {
+                assertEquals(sketch.cardinality(0), read.cardinality(0));
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.search.aggregations.metrics;
+
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.test.OpenSearchTestCase;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TDigestSketchTests extends OpenSearchTestCase {
+
+    public void testQuantiles() {
+        final double compression = randomFrom(50.0, 100.0, 200.0);
+        final TDigestSketch sketch = new TDigestSketch(compression);
+        final int numValues = randomIntBetween(1000, 100000);
+        for (int i = 0; i < numValues; i++) {
+            sketch.add(i);
+        }
+        assertEquals(numValues, sketch.size());
+        assertThat(sketch.centroidCount(), lessThanOrEqualTo((int) Math.ceil(4 * compression)));
+
+        final TDigestState state = new TDigestState(compression);
+        sketch.addTo(state);
+        assertEquals(numValues, state.size());
+        assertThat(state.quantile(0.5), closeTo(numValues / 2.0, numValues * 0.01));
+        assertThat(state.quantile(0.99), closeTo(numValues * 0.99, numValues * 0.01));
+    }
+
+    public void testMerge() {
+        final TDigestSketch merged = new TDigestSketch(100);
+        final TDigestState expected = new TDigestState(100);
+        long count = 0;
+        for (int i = 0; i < 10; i++) {
+            final TDigestSketch sketch = new TDigestSketch(100);
+            final int numValues = randomIntBetween(0, 1000);
+            for (int j = 0; j < numValues; j++) {
+                final double value = randomDouble();
+                sketch.add(value);
+                expected.add(value);
+            }
+            count += numValues;
+            merged.merge(sketch);
+        }
+        assertEquals(count, merged.size());
+        final TDigestState state = new TDigestState(100);
+        merged.addTo(state);
+        if (count > 0) {
+            assertThat(state.quantile(0.5), closeTo(expected.quantile(0.5), 0.05));
+        }
+    }
+
+    public void testCopy() {
+        final TDigestSketch sketch = new TDigestSketch(100);
+        final int numValues = randomIntBetween(1, 1000);
+        for (int i = 0; i < numValues; i++) {
+            sketch.add(randomDouble());
+        }
+        final TDigestSketch copy = sketch.copy();
+        assertEquals(sketch.size(), copy.size());
+        copy.add(randomDouble());
+        assertEquals(numValues, sketch.size());
+        assertEquals(numValues + 1, copy.size());
+    }
+
+    public void testSerialization() throws IOException {
+        final TDigestSketch sketch = new TDigestSketch(randomFrom(50.0, 100.0));
+        final int numValues = randomIntBetween(0, 10000);
+        for (int i = 0; i < numValues; i++) {
+            sketch.add(randomDoubleBetween(-1000, 1000, true));
+        }
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            sketch.writeTo(out);
+            assertThat(sketch.centroidCount(), lessThanOrEqualTo(numValues));
+            try (StreamInput in = out.bytes().streamInput()) {
+                final TDigestSketch read = TDigestSketch.readFrom(in);
+                assertEquals(sketch.compression(), read.compression(), 0d);
+                assertEquals(sketch.centroidCount(), read.centroidCount());
+                assertEquals(numValues, read.size());
+            }
+        }
+    }
+}
@@ -1335,6 +1335,17 @@ public class BoolStarTreeFilterProviderTests extends OpenSearchTestCase {
         assertNull("Filter should be null for same dimension in MUST", filter);
     }
 
+    public void testMustNotClauseWithMustClauseReturnsNull() throws IOException {
+        BoolQueryBuilder boolQuery = new BoolQueryBuilder().must(new TermQueryBuilder(METHOD, "GET"))
+            .mustNot(new TermQueryBuilder(STATUS, 200));
+
+        StarTreeFilterProvider provider = StarTreeFilterProvider.SingletonFactory.getProvider(boolQuery);
+        StarTreeFilter filter = provider.getFilter(searchContext, boolQuery, compositeFieldType);
+
+        // ignoring the must not clause would match documents it excludes
+        assertNull("Filter should be null when MUST NOT is combined with MUST", filter);
+    }
+
     // Helper methods for assertions
     private void assertExactMatchValue(ExactMatchDimFilter filter, String expectedValue) {
         assertEquals(new BytesRef(expectedValue), filter.getRawValues().getFirst());
@@ -33,6 +33,7 @@ import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
 import org.opensearch.index.codec.composite.composite104.Composite104Codec;
 import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.DataCubeDateTimeUnit;
 import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
@@ -50,10 +51,13 @@ import org.opensearch.search.aggregations.bucket.histogram.InternalDateHistogram
 import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.opensearch.index.codec.composite912.datacube.startree.AbstractStarTreeDVFormatTests.topMapping;
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
@@ -74,11 +78,19 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         NumberFieldMapper.NumberType.LONG
     );
 
+    private static final String[] DEFAULT_CALENDAR_INTERVALS = { "month", "day" };
+    // fixed length intervals that zoned and offset roundings can be served from
+    static final String[] ZONED_CALENDAR_INTERVALS = { "month", "day", "hour", "half-hour" };
+
     protected Codec getCodec() {
+        return getCodec(DEFAULT_CALENDAR_INTERVALS);
+    }
+
+    protected Codec getCodec(String... calendarIntervals) {
         final Logger testLogger = LogManager.getLogger(MetricAggregatorTests.class);
         MapperService mapperService;
         try {
-            mapperService = StarTreeDocValuesFormatTests.createMapperService(getExpandedMapping(1, false));
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(getExpandedMapping(1, false, calendarIntervals));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -211,6 +223,130 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
         directory.close();
     }
 
+    public void testStarTreeZonedDateHistogram() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getCodec(ZONED_CALENDAR_INTERVALS));
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        final String STATUS = "status";
+        final String SIZE = "size";
+        final long halfHour = 30 * 60 * 1000L;
+
+        // Index 100 random documents on half hour boundaries, so that local days and months straddle UTC days
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(STATUS, random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(SIZE, random.nextInt(100)));
+            }
+            long date = random.nextInt(180 * 48) * halfHour; // Random half hour within 180 days
+            doc.add(new SortedNumericDocValuesField(TIMESTAMP_FIELD, date));
+            doc.add(new LongPoint(TIMESTAMP_FIELD, date));
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        initValuesSourceRegistry();
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        DateDimension dateDimension = new DateDimension(
+            TIMESTAMP_FIELD,
+            List.of(
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.MONTH_OF_YEAR),
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH),
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY),
+                DataCubeDateTimeUnit.HALF_HOUR_OF_DAY
+            ),
+            DateFieldMapper.Resolution.MILLISECONDS
+        );
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(
+            new NumericDimension(STATUS),
+            new NumberFieldMapper.NumberFieldType(STATUS, NumberFieldMapper.NumberType.INTEGER)
+        );
+        supportedDimensions.put(
+            new NumericDimension(SIZE),
+            new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.INTEGER)
+        );
+        supportedDimensions.put(dateDimension, new DateFieldMapper.DateFieldType(TIMESTAMP_FIELD));
+
+        DateTimeUnitAdapter day = new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH);
+        DateTimeUnitAdapter month = new DateTimeUnitAdapter(Rounding.DateTimeUnit.MONTH_OF_YEAR);
+        DateTimeUnitAdapter hour = new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY);
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneId kolkata = ZoneId.of("Asia/Kolkata");
+        ZoneId plusFive = ZoneOffset.ofHours(5);
+        long sixHours = TimeUnit.HOURS.toMillis(6);
+        long thirtyMinutes = TimeUnit.MINUTES.toMillis(30);
+
+        // the histogram is served from the coarsest fixed length interval that cannot straddle its local buckets
+        assertEquals("hour", dateDimension.findClosestValidInterval(day, newYork, 0).shortName());
+        assertEquals("half-hour", dateDimension.findClosestValidInterval(day, kolkata, 0).shortName());
+        assertEquals("hour", dateDimension.findClosestValidInterval(month, plusFive, 0).shortName());
+        assertEquals("hour", dateDimension.findClosestValidInterval(day, ZoneOffset.UTC, sixHours).shortName());
+        assertEquals("half-hour", dateDimension.findClosestValidInterval(hour, ZoneOffset.UTC, thirtyMinutes).shortName());
+        // and falls back to doc values when there is none
+        assertNull(dateDimension.findClosestValidInterval(day, ZoneId.of("Asia/Kathmandu"), 0));
+        assertNull(dateDimension.findClosestValidInterval(day, ZoneOffset.UTC, TimeUnit.MINUTES.toMillis(15)));
+
+        ValuesSourceAggregationBuilder[] aggBuilders = {
+            sum("_name").field(FIELD_NAME),
+            max("_name").field(FIELD_NAME),
+            min("_name").field(FIELD_NAME),
+            count("_name").field(FIELD_NAME),
+            avg("_name").field(FIELD_NAME) };
+
+        for (ValuesSourceAggregationBuilder aggregationBuilder : aggBuilders) {
+            List<DateHistogramAggregationBuilder> dateHistogramAggregationBuilders = List.of(
+                dateHistogram("by_day").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.DAY).timeZone(newYork),
+                dateHistogram("by_day").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.DAY).timeZone(kolkata),
+                dateHistogram("by_month").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.MONTH).timeZone(plusFive),
+                dateHistogram("by_month").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.MONTH).timeZone(newYork),
+                dateHistogram("by_day").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.DAY).offset(sixHours),
+                dateHistogram("by_day").field(TIMESTAMP_FIELD)
+                    .calendarInterval(DateHistogramInterval.DAY)
+                    .timeZone(newYork)
+                    .offset("-3h"),
+                dateHistogram("by_hour").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.HOUR).offset(thirtyMinutes),
+                // year not present in star-tree, but should be able to compute using @timestamp_hour dimension
+                dateHistogram("by_year").field(TIMESTAMP_FIELD).calendarInterval(DateHistogramInterval.YEAR).timeZone(newYork)
+            );
+            for (DateHistogramAggregationBuilder dateHistogramAggregationBuilder : dateHistogramAggregationBuilders) {
+                dateHistogramAggregationBuilder.subAggregation(aggregationBuilder);
+                testCase(indexSearcher, new MatchAllDocsQuery(), null, dateHistogramAggregationBuilder, starTree, supportedDimensions);
+
+                // Numeric-terms query with zoned date histogram
+                long queryValue = random.nextInt(10);
+                testCase(
+                    indexSearcher,
+                    SortedNumericDocValuesField.newSlowExactQuery(STATUS, queryValue),
+                    new TermQueryBuilder(STATUS, queryValue),
+                    dateHistogramAggregationBuilder,
+                    starTree,
+                    supportedDimensions
+                );
+            }
+        }
+        ir.close();
+        directory.close();
+    }
+
     private void testCase(
         IndexSearcher indexSearcher,
         Query query,
@@ -258,6 +394,14 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
     }
 
     public static XContentBuilder getExpandedMapping(int maxLeafDocs, boolean skipStarNodeCreationForStatusDimension) throws IOException {
+        return getExpandedMapping(maxLeafDocs, skipStarNodeCreationForStatusDimension, DEFAULT_CALENDAR_INTERVALS);
+    }
+
+    public static XContentBuilder getExpandedMapping(
+        int maxLeafDocs,
+        boolean skipStarNodeCreationForStatusDimension,
+        String... calendarIntervals
+    ) throws IOException {
         return topMapping(b -> {
             b.startObject("composite");
             b.startObject("startree1"); // Use the same name as the provided mapping
@@ -279,8 +423,9 @@ public class DateHistogramAggregatorTests extends DateHistogramAggregatorTestCas
             b.startObject();
             b.field("name", TIMESTAMP_FIELD);
             b.startArray("calendar_intervals");
-            b.value("month");
-            b.value("day");
+            for (String calendarInterval : calendarIntervals) {
+                b.value(calendarInterval);
+            }
             b.endArray();
             b.endObject();
             b.endArray();
@@ -67,14 +67,20 @@ import org.opensearch.search.aggregations.AggregatorFactory;
 import org.opensearch.search.aggregations.AggregatorTestCase;
 import org.opensearch.search.aggregations.InternalAggregation;
 import org.opensearch.search.aggregations.metrics.AvgAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.CardinalityAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.InternalAvg;
+import org.opensearch.search.aggregations.metrics.InternalCardinality;
+import org.opensearch.search.aggregations.metrics.InternalHDRPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalMax;
 import org.opensearch.search.aggregations.metrics.InternalMin;
 import org.opensearch.search.aggregations.metrics.InternalSum;
+import org.opensearch.search.aggregations.metrics.InternalTDigestPercentiles;
 import org.opensearch.search.aggregations.metrics.InternalValueCount;
 import org.opensearch.search.aggregations.metrics.MaxAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.MetricAggregatorFactory;
 import org.opensearch.search.aggregations.metrics.MinAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.PercentilesConfig;
 import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
 import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregatorFactory;
@@ -97,9 +103,11 @@ import java.util.stream.Stream;
 
 import static org.opensearch.index.mapper.NumberFieldMapper.NumberType.objectToUnsignedLong;
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
+import static org.opensearch.search.aggregations.AggregationBuilders.cardinality;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
 import static org.opensearch.search.aggregations.AggregationBuilders.min;
+import static org.opensearch.search.aggregations.AggregationBuilders.percentiles;
 import static org.opensearch.search.aggregations.AggregationBuilders.sum;
 import static org.opensearch.test.InternalAggregationTestCase.DEFAULT_MAX_BUCKETS;
 import static org.mockito.Mockito.mock;
@@ -235,6 +243,8 @@ public class MetricAggregatorTests extends AggregatorTestCase {
         MinAggregationBuilder minAggregationBuilder = min("_name").field(FIELD_NAME);
         ValueCountAggregationBuilder valueCountAggregationBuilder = count("_name").field(FIELD_NAME);
         AvgAggregationBuilder avgAggregationBuilder = avg("_name").field(FIELD_NAME);
+        CardinalityAggregationBuilder cardinalityAggregationBuilder = cardinality("_name").field(FIELD_NAME);
+        PercentilesAggregationBuilder percentilesAggregationBuilder = percentiles("_name").field(FIELD_NAME);
 
         LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = dimensionFieldData.stream()
             .collect(
@@ -300,6 +310,16 @@ public class MetricAggregatorTests extends AggregatorTestCase {
                     supportedDimensions,
                     verifyAggregation(InternalAvg::getValue)
                 );
+                testCase(
+                    indexSearcher,
+                    query,
+                    qb,
+                    cardinalityAggregationBuilder,
+                    starTree,
+                    supportedDimensions,
+                    verifyAggregation(InternalCardinality::getValue)
+                );
+                testCase(indexSearcher, query, qb, percentilesAggregationBuilder, starTree, supportedDimensions, verifyPercentiles());
             }
         }
 
@@ -397,6 +417,77 @@ public class MetricAggregatorTests extends AggregatorTestCase {
             false
         );
 
+        // Cases when the sketch metrics are supported by star tree, and when the aggregation asks for a precision or compression
+        // other than the ones the star tree sketches are built with, in which case the aggregation is computed from the documents.
+        when(mapperService.fieldType(FIELD_NAME)).thenReturn(DEFAULT_MAPPED_FIELD);
+        when(mapperService.getIndexSettings()).thenReturn(createIndexSettings());
+        List<Metric> sketchMetrics = List.of(new Metric(FIELD_NAME, List.of(MetricStat.CARDINALITY, MetricStat.PERCENTILES)));
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            cardinalityAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            sketchMetrics,
+            verifyAggregation(InternalCardinality::getValue),
+            cardinalityAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+        CardinalityAggregationBuilder preciseCardinalityAggregationBuilder = cardinality("_name").field(FIELD_NAME).precisionThreshold(100);
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            preciseCardinalityAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            sketchMetrics,
+            verifyAggregation(InternalCardinality::getValue),
+            preciseCardinalityAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            percentilesAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            sketchMetrics,
+            verifyPercentiles(),
+            percentilesAggregationBuilder.build(queryShardContext, null),
+            true
+        );
+        PercentilesAggregationBuilder preciseTDigestAggregationBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentilesConfig(new PercentilesConfig.TDigest(200));
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            preciseTDigestAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            sketchMetrics,
+            verifyPercentiles(),
+            preciseTDigestAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+        PercentilesAggregationBuilder hdrAggregationBuilder = percentiles("_name").field(FIELD_NAME)
+            .percentilesConfig(new PercentilesConfig.Hdr());
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            hdrAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            sketchMetrics,
+            verifyAggregation((InternalHDRPercentiles percentiles) -> percentiles.percentile(50)),
+            hdrAggregationBuilder.build(queryShardContext, null),
+            false
+        );
+
         // Keyword Range query with missing Low Ordinal
         RangeQueryBuilder rangeQueryBuilder = new RangeQueryBuilder("keyword_field");
         rangeQueryBuilder.from(Long.MAX_VALUE).includeLower(random().nextBoolean());
@@ -425,6 +516,18 @@ public class MetricAggregatorTests extends AggregatorTestCase {
         );
     }
 
+    /**
+     * The star tree merges the t-digests of the star tree documents rather than adding the values of the documents one by one,
+     * so the estimated percentiles may slightly differ.
+     */
+    BiConsumer<InternalTDigestPercentiles, InternalTDigestPercentiles> verifyPercentiles() {
+        return (expectedAggregation, actualAggregation) -> {
+            for (double percent : new double[] { 1, 25, 50, 75, 99 }) {
+                assertEquals(expectedAggregation.percentile(percent), actualAggregation.percentile(percent), 5.0);
+            }
+        };
+    }
+
     private <T extends AggregationBuilder, V extends InternalAggregation> void testCase(
         IndexSearcher searcher,
         Query query,
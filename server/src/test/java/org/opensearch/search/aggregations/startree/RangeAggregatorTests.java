@@ -15,6 +15,7 @@ import org.apache.logging.log4j.Logger;
 import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.lucene104.Lucene104Codec;
 import org.apache.lucene.document.Document;
+import org.apache.lucene.document.LongPoint;
 import org.apache.lucene.document.SortedNumericDocValuesField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexWriterConfig;
@@ -26,13 +27,18 @@ import org.apache.lucene.search.Query;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.apache.lucene.util.NumericUtils;
+import org.opensearch.common.Rounding;
 import org.opensearch.common.lucene.Lucene;
 import org.opensearch.index.codec.composite.CompositeIndexFieldInfo;
 import org.opensearch.index.codec.composite.CompositeIndexReader;
 import org.opensearch.index.codec.composite.composite104.Composite104Codec;
 import org.opensearch.index.codec.composite912.datacube.startree.StarTreeDocValuesFormatTests;
+import org.opensearch.index.compositeindex.datacube.DataCubeDateTimeUnit;
+import org.opensearch.index.compositeindex.datacube.DateDimension;
 import org.opensearch.index.compositeindex.datacube.Dimension;
 import org.opensearch.index.compositeindex.datacube.NumericDimension;
+import org.opensearch.index.compositeindex.datacube.startree.utils.date.DateTimeUnitAdapter;
+import org.opensearch.index.mapper.DateFieldMapper;
 import org.opensearch.index.mapper.MappedFieldType;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.mapper.NumberFieldMapper;
@@ -40,18 +46,26 @@ import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.RangeQueryBuilder;
 import org.opensearch.index.query.TermQueryBuilder;
 import org.opensearch.search.aggregations.AggregatorTestCase;
+import org.opensearch.search.aggregations.bucket.range.AbstractRangeBuilder;
+import org.opensearch.search.aggregations.bucket.range.DateRangeAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.range.InternalRange;
 import org.opensearch.search.aggregations.bucket.range.RangeAggregationBuilder;
 import org.opensearch.search.aggregations.support.ValuesSourceAggregationBuilder;
 
 import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import static org.opensearch.search.aggregations.AggregationBuilders.avg;
 import static org.opensearch.search.aggregations.AggregationBuilders.count;
+import static org.opensearch.search.aggregations.AggregationBuilders.dateRange;
 import static org.opensearch.search.aggregations.AggregationBuilders.max;
 import static org.opensearch.search.aggregations.AggregationBuilders.min;
 import static org.opensearch.search.aggregations.AggregationBuilders.range;
@@ -66,6 +80,8 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         NumberFieldMapper.NumberType.LONG
     );
     private static final MappedFieldType SIZE_FIELD_NAME = new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.FLOAT);
+    final static String TIMESTAMP = "@timestamp";
+    private static final MappedFieldType TIMESTAMP_FIELD_TYPE = new DateFieldMapper.DateFieldType(TIMESTAMP);
 
     protected Codec getCodec() {
         final Logger testLogger = LogManager.getLogger(NumericTermsAggregatorTests.class);
@@ -78,6 +94,19 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         return new Composite104Codec(Lucene104Codec.Mode.BEST_SPEED, mapperService, testLogger);
     }
 
+    protected Codec getDateCodec() {
+        final Logger testLogger = LogManager.getLogger(DateHistogramAggregatorTests.class);
+        MapperService mapperService;
+        try {
+            mapperService = StarTreeDocValuesFormatTests.createMapperService(
+                DateHistogramAggregatorTests.getExpandedMapping(1, false, DateHistogramAggregatorTests.ZONED_CALENDAR_INTERVALS)
+            );
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return new Composite104Codec(Lucene104Codec.Mode.BEST_SPEED, mapperService, testLogger);
+    }
+
     public void testRangeAggregation() throws IOException {
         Directory directory = newDirectory();
         IndexWriterConfig conf = newIndexWriterConfig(null);
@@ -165,6 +194,132 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         directory.close();
     }
 
+    public void testDateRangeAggregation() throws IOException {
+        Directory directory = newDirectory();
+        IndexWriterConfig conf = newIndexWriterConfig(null);
+        conf.setCodec(getDateCodec());
+        conf.setMergePolicy(newLogMergePolicy());
+        RandomIndexWriter iw = new RandomIndexWriter(random(), directory, conf);
+
+        Random random = RandomizedTest.getRandom();
+        int totalDocs = 100;
+        final long halfHour = TimeUnit.MINUTES.toMillis(30);
+
+        // Index 100 random documents on half hour boundaries within 180 days
+        for (int i = 0; i < totalDocs; i++) {
+            Document doc = new Document();
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(STATUS, random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                doc.add(new SortedNumericDocValuesField(SIZE, random.nextInt(100)));
+            }
+            long date = random.nextInt(180 * 48) * halfHour;
+            doc.add(new SortedNumericDocValuesField(TIMESTAMP, date));
+            doc.add(new LongPoint(TIMESTAMP, date));
+            iw.addDocument(doc);
+        }
+
+        if (randomBoolean()) {
+            iw.forceMerge(1);
+        }
+        iw.close();
+
+        DirectoryReader ir = DirectoryReader.open(directory);
+        LeafReaderContext context = ir.leaves().get(0);
+
+        SegmentReader reader = Lucene.segmentReader(context.reader());
+        IndexSearcher indexSearcher = newSearcher(reader, false, false);
+        CompositeIndexReader starTreeDocValuesReader = (CompositeIndexReader) reader.getDocValuesReader();
+        CompositeIndexFieldInfo starTree = starTreeDocValuesReader.getCompositeIndexFields().get(0);
+
+        DateDimension dateDimension = new DateDimension(
+            TIMESTAMP,
+            List.of(
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.MONTH_OF_YEAR),
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.DAY_OF_MONTH),
+                new DateTimeUnitAdapter(Rounding.DateTimeUnit.HOUR_OF_DAY),
+                DataCubeDateTimeUnit.HALF_HOUR_OF_DAY
+            ),
+            DateFieldMapper.Resolution.MILLISECONDS
+        );
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions = new LinkedHashMap<>();
+        supportedDimensions.put(
+            new NumericDimension(STATUS),
+            new NumberFieldMapper.NumberFieldType(STATUS, NumberFieldMapper.NumberType.INTEGER)
+        );
+        supportedDimensions.put(
+            new NumericDimension(SIZE),
+            new NumberFieldMapper.NumberFieldType(SIZE, NumberFieldMapper.NumberType.INTEGER)
+        );
+        supportedDimensions.put(dateDimension, TIMESTAMP_FIELD_TYPE);
+
+        long day = TimeUnit.DAYS.toMillis(1);
+        long february = ZonedDateTime.of(1970, 2, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        long april = ZonedDateTime.of(1970, 4, 1, 0, 0, 0, 0, ZoneOffset.UTC).toInstant().toEpochMilli();
+        ZonedDateTime newYorkMarch = ZonedDateTime.of(1970, 3, 1, 0, 0, 0, 0, ZoneId.of("America/New_York"));
+        ZonedDateTime kolkataMarch = ZonedDateTime.of(1970, 3, 1, 0, 0, 0, 0, ZoneId.of("Asia/Kolkata"));
+
+        // the ranges are served from the coarsest interval that every bound is aligned to
+        assertEquals("month", dateDimension.findCoarsestAlignedInterval(february, april, Long.MAX_VALUE).shortName());
+        assertEquals("day", dateDimension.findCoarsestAlignedInterval(Long.MIN_VALUE, 10 * day, 45 * day).shortName());
+        assertEquals("hour", dateDimension.findCoarsestAlignedInterval(newYorkMarch.toInstant().toEpochMilli()).shortName());
+        assertEquals("half-hour", dateDimension.findCoarsestAlignedInterval(kolkataMarch.toInstant().toEpochMilli()).shortName());
+        // and fall back to doc values when there is none
+        assertNull(dateDimension.findCoarsestAlignedInterval(10 * day + TimeUnit.MINUTES.toMillis(15)));
+
+        List<Supplier<DateRangeAggregationBuilder>> dateRangeAggregationBuilders = List.of(
+            () -> dateRange("month_ranges").field(TIMESTAMP).addRange(february, april).addUnboundedFrom(april),
+            () -> dateRange("day_ranges").field(TIMESTAMP)
+                .addUnboundedTo(10 * day)
+                .addRange(10 * day, 45 * day)
+                .addRange(30 * day, 100 * day),
+            () -> dateRange("new_york_ranges").field(TIMESTAMP)
+                .timeZone(ZoneId.of("America/New_York"))
+                .addUnboundedTo(newYorkMarch)
+                .addRange(newYorkMarch, newYorkMarch.plusMonths(2)),
+            () -> dateRange("kolkata_ranges").field(TIMESTAMP)
+                .timeZone(ZoneId.of("Asia/Kolkata"))
+                .addRange(kolkataMarch, kolkataMarch.plusDays(20))
+                .addUnboundedFrom(kolkataMarch.plusDays(20))
+        );
+
+        ValuesSourceAggregationBuilder[] aggBuilders = {
+            sum("_sum").field(STATUS),
+            max("_max").field(STATUS),
+            min("_min").field(STATUS),
+            count("_count").field(STATUS),
+            avg("_avg").field(STATUS) };
+
+        for (Supplier<DateRangeAggregationBuilder> dateRangeAggregationBuilder : dateRangeAggregationBuilders) {
+            // no sub-aggregation
+            testCase(indexSearcher, new MatchAllDocsQuery(), null, dateRangeAggregationBuilder.get(), starTree, supportedDimensions);
+        }
+        for (ValuesSourceAggregationBuilder aggregationBuilder : aggBuilders) {
+            for (Supplier<DateRangeAggregationBuilder> dateRangeAggregationBuilderSupplier : dateRangeAggregationBuilders) {
+                DateRangeAggregationBuilder dateRangeAggregationBuilder = dateRangeAggregationBuilderSupplier.get()
+                    .subAggregation(aggregationBuilder);
+                // sub-aggregation, no top level query
+                testCase(indexSearcher, new MatchAllDocsQuery(), null, dateRangeAggregationBuilder, starTree, supportedDimensions);
+
+                // Numeric-terms query with date range aggregation
+                long queryValue = random.nextInt(10);
+                testCase(
+                    indexSearcher,
+                    SortedNumericDocValuesField.newSlowExactQuery(STATUS, queryValue),
+                    new TermQueryBuilder(STATUS, queryValue),
+                    dateRangeAggregationBuilder,
+                    starTree,
+                    supportedDimensions
+                );
+            }
+        }
+
+        ir.close();
+        reader.close();
+        directory.close();
+    }
+
     private void testCase(
         IndexSearcher indexSearcher,
         Query query,
@@ -173,7 +328,48 @@ public class RangeAggregatorTests extends AggregatorTestCase {
         CompositeIndexFieldInfo starTree,
         LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
     ) throws IOException {
-        InternalRange starTreeAggregation = searchAndReduceStarTree(
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            rangeAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            STATUS_FIELD_TYPE,
+            SIZE_FIELD_NAME
+        );
+    }
+
+    private void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        DateRangeAggregationBuilder dateRangeAggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions
+    ) throws IOException {
+        testCase(
+            indexSearcher,
+            query,
+            queryBuilder,
+            dateRangeAggregationBuilder,
+            starTree,
+            supportedDimensions,
+            TIMESTAMP_FIELD_TYPE,
+            STATUS_FIELD_TYPE
+        );
+    }
+
+    private void testCase(
+        IndexSearcher indexSearcher,
+        Query query,
+        QueryBuilder queryBuilder,
+        AbstractRangeBuilder<?, ?> rangeAggregationBuilder,
+        CompositeIndexFieldInfo starTree,
+        LinkedHashMap<Dimension, MappedFieldType> supportedDimensions,
+        MappedFieldType... fieldTypes
+    ) throws IOException {
+        InternalRange<?, ?> starTreeAggregation = searchAndReduceStarTree(
             createIndexSettings(),
             indexSearcher,
             query,
@@ -186,11 +382,10 @@ public class RangeAggregatorTests extends AggregatorTestCase {
             false,
             null,
             true,
-            STATUS_FIELD_TYPE,
-            SIZE_FIELD_NAME
+            fieldTypes
         );
 
-        InternalRange defaultAggregation = searchAndReduceStarTree(
+        InternalRange<?, ?> defaultAggregation = searchAndReduceStarTree(
             createIndexSettings(),
             indexSearcher,
             query,
@@ -203,8 +398,7 @@ public class RangeAggregatorTests extends AggregatorTestCase {
             false,
             null,
             false,
-            STATUS_FIELD_TYPE,
-            SIZE_FIELD_NAME
+            fieldTypes
         );
 
         assertEquals(defaultAggregation.getBuckets().size(), starTreeAggregation.getBuckets().size());
@@ -439,6 +439,8 @@ public class StarTreeFilterTests extends AggregatorTestCase {
             b.value("avg");
             b.value("min");
             b.value("max");
+            b.value("cardinality");
+            b.value("percentiles");
             b.endArray();
             b.endObject();
             b.startObject();
@@ -81,6 +81,24 @@ public class FetchPhaseTests extends OpenSearchTestCase {
         assertFalse(FetchPhase.hasSequentialDocs(docs));
     }
 
+    public void testNeighbouringDocs() {
+        FetchPhase.DocIdToIndex[] docs = new FetchPhase.DocIdToIndex[20];
+        int start = randomIntBetween(0, Short.MAX_VALUE);
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(1, 3);
+        }
+        assertTrue(FetchPhase.hasNeighbouringDocs(docs, 0, docs.length));
+        assertFalse(FetchPhase.hasNeighbouringDocs(docs, 0, randomIntBetween(1, 9)));
+
+        start = docs[0].docId;
+        for (int i = 0; i < docs.length; i++) {
+            docs[i] = new FetchPhase.DocIdToIndex(start, i);
+            start += randomIntBetween(100, 1000);
+        }
+        assertFalse(FetchPhase.hasNeighbouringDocs(docs, 0, docs.length));
+    }
+
     public void testFieldsVisitorsInFetchPhase() {
 
         FetchPhase fetchPhase = new FetchPhase(new ArrayList<>());
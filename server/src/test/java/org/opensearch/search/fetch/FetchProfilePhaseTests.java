@@ -15,7 +15,9 @@ import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.DirectoryReader;
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.NoMergePolicy;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
@@ -79,6 +81,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -179,6 +184,8 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
         private SearchHighlightContext highlightContext = null;
         private QueryShardContext externalQueryShardContext = null;
 
+        private Executor concurrentFetchExecutor = null;
+
         SearchContextBuilder(IndexReader reader, int[] docIds, IndexShard indexShard) {
             this.reader = reader;
             this.docIds = docIds;
@@ -254,6 +261,11 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
             return this;
         }
 
+        SearchContextBuilder withConcurrentFetch(Executor executor) {
+            this.concurrentFetchExecutor = executor;
+            return this;
+        }
+
         SearchContext build() throws IOException {
             SearchContext context = mock(SearchContext.class);
 
@@ -357,6 +369,14 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
             when(mapperService.documentMapper()).thenReturn(documentMapper);
             when(context.mapperService()).thenReturn(mapperService);
 
+            // Concurrent fetch setup, the real lookup hands out a source lookup per thread
+            if (concurrentFetchExecutor != null) {
+                when(context.concurrentFetchEnabled()).thenReturn(true);
+                when(context.concurrentFetchMinDocs()).thenReturn(1);
+                when(context.innerHits()).thenReturn(new InnerHitsContext());
+                when(queryShardContext.newFetchLookup()).thenReturn(new SearchLookup(mapperService, (fieldType, lookup) -> null));
+            }
+
             // Index searcher setup
             ContextIndexSearcher searcher = new ContextIndexSearcher(
                 reader,
@@ -364,7 +384,7 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
                 IndexSearcher.getDefaultQueryCache(),
                 IndexSearcher.getDefaultQueryCachingPolicy(),
                 true,
-                null,
+                concurrentFetchExecutor,
                 context
             );
             when(context.searcher()).thenReturn(searcher);
@@ -463,6 +483,59 @@ public class FetchProfilePhaseTests extends IndexShardTestCase {
         }
     }
 
+    public void testConcurrentFetch() throws Exception {
+        try (Directory dir = newDirectory()) {
+            int numDocs = randomIntBetween(20, 50);
+            List<Document> docs = new TestDocumentBuilder().addDocuments(numDocs, true).build();
+            IndexWriterConfig config = new IndexWriterConfig(new StandardAnalyzer()).setMergePolicy(NoMergePolicy.INSTANCE);
+            try (IndexWriter w = new IndexWriter(dir, config)) {
+                for (int i = 0; i < docs.size(); i++) {
+                    w.addDocument(docs.get(i));
+                    if (i % 7 == 6) {
+                        w.commit();
+                    }
+                }
+            }
+
+            ExecutorService executor = Executors.newFixedThreadPool(randomIntBetween(2, 4));
+            try (IndexReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), greaterThan(1));
+                List<Integer> shuffled = new ArrayList<>();
+                for (int i = 0; i < reader.maxDoc(); i++) {
+                    shuffled.add(i);
+                }
+                Collections.shuffle(shuffled, random());
+                int[] docIds = shuffled.stream().mapToInt(Integer::intValue).toArray();
+
+                SearchContext context = new SearchContextBuilder(reader, docIds, indexShard).withSourceLoading()
+                    .withStoredFields("_source")
+                    .withConcurrentFetch(executor)
+                    .build();
+
+                new FetchPhase(Collections.singletonList(new FetchSourcePhase())).execute(context);
+
+                SearchHit[] hits = context.fetchResult().hits().getHits();
+                assertEquals(docIds.length, hits.length);
+                for (int i = 0; i < hits.length; i++) {
+                    assertEquals(docIds[i], hits[i].docId());
+                    String expectedId = reader.storedFields().document(docIds[i]).get("id");
+                    assertEquals(expectedId, String.valueOf(hits[i].getSourceAsMap().get("id")));
+                }
+
+                // the calling thread and every fetch task report their own root
+                List<ProfileResult> profileResults = context.getProfilers().getFetchProfiler().getTree();
+                assertThat(profileResults, hasSize(greaterThan(1)));
+                long loadStoredFieldsCount = 0;
+                for (ProfileResult profile : profileResults) {
+                    loadStoredFieldsCount += profile.getTimeBreakdown().getOrDefault(FetchTimingType.LOAD_STORED_FIELDS + "_count", 0L);
+                }
+                assertEquals(docIds.length, loadStoredFieldsCount);
+            } finally {
+                executor.shutdown();
+            }
+        }
+    }
+
     public void testExplainPhaseProfiling() throws Exception {
         try (Directory dir = newDirectory()) {
             List<Document> docs = new TestDocumentBuilder().addDocuments(1, true).build();
@@ -43,6 +43,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -57,6 +58,7 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
     private static final long BLOCK_SNAPSHOT_FILE_OFFSET = 0;
     private static final String FILE_NAME = "File_Name";
     private static final String BLOCK_FILE_PREFIX = FILE_NAME;
+    private static final String DVD_FILE_NAME = "_0_Lucene90_0.dvd";
     private static final boolean IS_CLONE = false;
     private static final int FILE_SIZE = 29360128;
     private static final int FILE_CACHE_CAPACITY = 10000000;
@@ -68,12 +70,10 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
     private ThreadPool threadPool;
     private FileCache fileCache;
 
+    private TieredStoragePrefetchSettings prefetchSettings;
+
     private Supplier<TieredStoragePrefetchSettings> getPrefetchSettingsSupplier() {
-        TieredStoragePrefetchSettings settings = mock(TieredStoragePrefetchSettings.class);
-        when(settings.getReadAheadBlockCount()).thenReturn(TieredStoragePrefetchSettings.DEFAULT_READ_AHEAD_BLOCK_COUNT);
-        when(settings.getReadAheadEnableFileFormats()).thenReturn(TieredStoragePrefetchSettings.READ_AHEAD_ENABLE_FILE_FORMATS);
-        when(settings.isStoredFieldsPrefetchEnabled()).thenReturn(true);
-        return () -> settings;
+        return () -> prefetchSettings;
     }
 
     @Before
@@ -85,6 +85,10 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         path = createTempDir("TestOnDemandPrefetchBlockSnapshotIndexInputTests");
         int concurrencyLevel = randomIntBetween(1, 2);
         fileCache = FileCacheFactory.createConcurrentLRUFileCache(FILE_CACHE_CAPACITY, concurrencyLevel);
+        prefetchSettings = mock(TieredStoragePrefetchSettings.class);
+        when(prefetchSettings.getReadAheadBlockCount()).thenReturn(TieredStoragePrefetchSettings.DEFAULT_READ_AHEAD_BLOCK_COUNT);
+        when(prefetchSettings.getReadAheadEnableFileFormats()).thenReturn(TieredStoragePrefetchSettings.READ_AHEAD_ENABLE_FILE_FORMATS);
+        when(prefetchSettings.isStoredFieldsPrefetchEnabled()).thenReturn(true);
     }
 
     @Override
@@ -151,6 +155,67 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
         input.fetchNextNBlocks(totalBlocks - 1);
     }
 
+    public void testReadAheadKeepsWindowOnSingleJump() throws Exception {
+        final OnDemandPrefetchBlockSnapshotIndexInput input = createIndexInput(20, DVD_FILE_NAME);
+
+        // the first fetch reads ahead the configured count, never requesting a block twice
+        input.fetchNextNBlocks(0);
+        verifyReadAhead(1, 2, 3, 4);
+        input.fetchNextNBlocks(1);
+        verifyReadAhead(5);
+        verify(transferManager, times(5)).fetchBlobAsync(any(BlobFetchRequest.class));
+
+        // a single jump is not taken as random access
+        input.fetchNextNBlocks(15);
+        verifyReadAhead(16, 17, 18, 19);
+        verify(transferManager, times(9)).fetchBlobAsync(any(BlobFetchRequest.class));
+
+        // clones track their own access pattern
+        final OnDemandPrefetchBlockSnapshotIndexInput clone = input.clone();
+        clone.fetchNextNBlocks(8);
+        verifyReadAhead(9, 10, 11, 12);
+        verify(transferManager, times(13)).fetchBlobAsync(any(BlobFetchRequest.class));
+    }
+
+    public void testReadAheadWindowGrowsAfterRandomAccess() throws Exception {
+        final OnDemandPrefetchBlockSnapshotIndexInput input = createIndexInput(20, DVD_FILE_NAME);
+
+        input.fetchNextNBlocks(10);
+        verifyReadAhead(11, 12, 13, 14);
+
+        // a second jump in a row shrinks the window to a single block
+        input.fetchNextNBlocks(20);
+        verifyReadAhead(21);
+
+        // which doubles on every sequential fetch up to the configured count
+        input.fetchNextNBlocks(21);
+        verifyReadAhead(22, 23);
+        input.fetchNextNBlocks(22);
+        verifyReadAhead(24, 25, 26);
+        input.fetchNextNBlocks(23);
+        verifyReadAhead(27);
+        verify(transferManager, times(11)).fetchBlobAsync(any(BlobFetchRequest.class));
+    }
+
+    public void testReadAheadDisabled() throws Exception {
+        final OnDemandPrefetchBlockSnapshotIndexInput input = createIndexInput(20);
+        input.fetchNextNBlocks(0);
+        input.fetchNextNBlocks(1);
+        verify(transferManager, never()).fetchBlobAsync(any(BlobFetchRequest.class));
+
+        when(prefetchSettings.getReadAheadBlockCount()).thenReturn(0);
+        final OnDemandPrefetchBlockSnapshotIndexInput dvdInput = createIndexInput(20, DVD_FILE_NAME);
+        dvdInput.fetchNextNBlocks(0);
+        dvdInput.fetchNextNBlocks(1);
+        verify(transferManager, never()).fetchBlobAsync(any(BlobFetchRequest.class));
+    }
+
+    private void verifyReadAhead(int... blockIds) {
+        for (int blockId : blockIds) {
+            verify(transferManager).fetchBlobAsync(argThat(request -> request.getFileName().equals(DVD_FILE_NAME + "_block_" + blockId)));
+        }
+    }
+
     public void testDownloadBlocksAsync() throws Exception {
         final OnDemandPrefetchBlockSnapshotIndexInput input = createIndexInput(23);
         input.downloadBlocksAsync(0, 1, false);
@@ -249,9 +314,13 @@ public class OnDemandPrefetchBlockSnapshotIndexInputTests extends OpenSearchTest
     }
 
     private OnDemandPrefetchBlockSnapshotIndexInput createIndexInput(int blockSizeShift) throws IOException {
+        return createIndexInput(blockSizeShift, FILE_NAME);
+    }
+
+    private OnDemandPrefetchBlockSnapshotIndexInput createIndexInput(int blockSizeShift, String fileName) throws IOException {
         fileInfo = new BlobStoreIndexShardSnapshot.FileInfo(
-            FILE_NAME,
-            new StoreFileMetadata(FILE_NAME, FILE_SIZE, "", Version.LATEST),
+            fileName,
+            new StoreFileMetadata(fileName, FILE_SIZE, "", Version.LATEST),
             null
         );
 
@@ -153,6 +153,47 @@ public class ThreadPoolStatsTests extends OpenSearchTestCase {
         assertEquals(-1, statsIn.getParallelism());
     }
 
+    public void testStatsSerializationVirtualThreadVersion() throws IOException {
+        ThreadPoolStats.Stats statsOut = new ThreadPoolStats.Stats.Builder().name("test")
+            .threads(-1)
+            .queue(2)
+            .active(5)
+            .rejected(-1L)
+            .largest(-1)
+            .completed(6L)
+            .waitTimeNanos(-1L)
+            .parallelism(-1)
+            .inFlight(3)
+            .pinned(7L)
+            .build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_9_0);
+        statsOut.writeTo(out);
+        StreamInput in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_9_0);
+        ThreadPoolStats.Stats statsIn = new ThreadPoolStats.Stats(in);
+        assertEquals(3, statsIn.getInFlight());
+        assertEquals(7L, statsIn.getPinned());
+
+        XContentBuilder builder = XContentFactory.jsonBuilder();
+        builder.startObject();
+        statsIn.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        String json = builder.toString();
+        assertTrue(json.contains("\"in_flight\":3"));
+        assertTrue(json.contains("\"pinned\":7"));
+
+        // older nodes neither send nor receive the virtual thread counters
+        out = new BytesStreamOutput();
+        out.setVersion(Version.V_3_8_0);
+        statsOut.writeTo(out);
+        in = out.bytes().streamInput();
+        in.setVersion(Version.V_3_8_0);
+        statsIn = new ThreadPoolStats.Stats(in);
+        assertEquals(-1, statsIn.getInFlight());
+        assertEquals(-1L, statsIn.getPinned());
+    }
+
     public void testStatsCompareToWithParallelism() {
         ThreadPoolStats.Stats.Builder builder = new ThreadPoolStats.Stats.Builder().name("a")
             .threads(1)
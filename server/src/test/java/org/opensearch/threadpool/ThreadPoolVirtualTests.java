@@ -9,6 +9,7 @@
 package org.opensearch.threadpool;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.xcontent.XContentHelper;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.core.common.bytes.BytesReference;
@@ -23,6 +24,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.Matchers.is;
@@ -206,6 +208,127 @@ public class ThreadPoolVirtualTests extends OpenSearchTestCase {
         throw new AssertionError("no stats for thread pool [" + POOL_NAME + "]");
     }
 
+    public void testScalingPoolOptsInToVirtualThreads() throws Exception {
+        final String name = randomFrom(
+            ThreadPool.Names.REMOTE_DOWNLOAD,
+            ThreadPool.Names.REMOTE_RECOVERY,
+            ThreadPool.Names.TRANSLOG_TRANSFER,
+            ThreadPool.Names.SNAPSHOT,
+            ThreadPool.Names.FETCH_SHARD_STORE
+        );
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put("thread_pool." + name + ".virtual_threads", true)
+            .put("thread_pool." + name + ".max", 3)
+            .build();
+        ThreadPool threadPool = new ThreadPool(settings);
+        try {
+            ThreadPool.Info info = threadPool.info(name);
+            assertThat(info.getThreadPoolType(), is(ThreadPool.ThreadPoolType.VIRTUAL));
+            // the max setting now bounds the number of tasks that run at once
+            assertEquals(3, info.getMax());
+            assertTrue(threadPool.executor(name).submit(() -> Thread.currentThread().isVirtual()).get(10, TimeUnit.SECONDS));
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testScalingPoolDefaultsToPlatformThreads() {
+        ThreadPool threadPool = new ThreadPool(Settings.builder().put("node.name", "testnode").build());
+        try {
+            assertThat(threadPool.info(ThreadPool.Names.REMOTE_DOWNLOAD).getThreadPoolType(), is(ThreadPool.ThreadPoolType.SCALING));
+        } finally {
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testVirtualThreadPoolBoundsConcurrency() throws Exception {
+        final int maxConcurrency = randomIntBetween(1, 4);
+        final int taskCount = maxConcurrency + randomIntBetween(1, 4);
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put("thread_pool." + POOL_NAME + ".virtual_threads", true)
+            .build();
+        ScalingExecutorBuilder builder = new ScalingExecutorBuilder(POOL_NAME, 1, maxConcurrency, TimeValue.timeValueMinutes(5), true);
+        ThreadPool threadPool = new ThreadPool(settings, builder);
+        final CountDownLatch block = new CountDownLatch(1);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        try {
+            for (int i = 0; i < taskCount; i++) {
+                threadPool.executor(POOL_NAME).execute(() -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        block.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                });
+            }
+            assertBusy(() -> {
+                ThreadPoolStats.Stats stats = statsFor(threadPool);
+                assertEquals("only tasks holding a permit are active", maxConcurrency, stats.getActive());
+                assertEquals(maxConcurrency, stats.getInFlight());
+                assertEquals("tasks over the limit wait for a permit", taskCount - maxConcurrency, stats.getQueue());
+            });
+            assertEquals(maxConcurrency, running.get());
+
+            block.countDown();
+            assertBusy(() -> {
+                ThreadPoolStats.Stats stats = statsFor(threadPool);
+                assertEquals(taskCount, stats.getCompleted());
+                assertEquals(0, stats.getInFlight());
+                assertEquals(0, stats.getQueue());
+            });
+            assertEquals(maxConcurrency, maxRunning.get());
+            // pinning is only tracked when the monitor is enabled
+            assertEquals(-1L, statsFor(threadPool).getPinned());
+        } finally {
+            block.countDown();
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
+    public void testShutdownNowDropsTasksWaitingForPermit() throws Exception {
+        final int waitingCount = randomIntBetween(1, 4);
+        Settings settings = Settings.builder()
+            .put("node.name", "testnode")
+            .put("thread_pool." + POOL_NAME + ".virtual_threads", true)
+            .build();
+        ScalingExecutorBuilder builder = new ScalingExecutorBuilder(POOL_NAME, 1, 1, TimeValue.timeValueMinutes(5), true);
+        ThreadPool threadPool = new ThreadPool(settings, builder);
+        final CountDownLatch block = new CountDownLatch(1);
+        final AtomicBoolean interrupted = new AtomicBoolean();
+        final AtomicInteger ranWaiting = new AtomicInteger();
+        try {
+            threadPool.executor(POOL_NAME).execute(() -> {
+                try {
+                    block.await();
+                } catch (InterruptedException e) {
+                    interrupted.set(true);
+                }
+            });
+            for (int i = 0; i < waitingCount; i++) {
+                threadPool.executor(POOL_NAME).execute(ranWaiting::incrementAndGet);
+            }
+            assertBusy(() -> assertEquals(waitingCount, statsFor(threadPool).getQueue()));
+
+            threadPool.executor(POOL_NAME).shutdownNow();
+            assertTrue(threadPool.executor(POOL_NAME).awaitTermination(10, TimeUnit.SECONDS));
+            assertTrue("the running task should have been interrupted", interrupted.get());
+            assertEquals("tasks waiting for a permit should have been dropped", 0, ranWaiting.get());
+            ThreadPoolStats.Stats stats = statsFor(threadPool);
+            assertEquals(0, stats.getActive());
+            assertEquals(0, stats.getQueue());
+            assertEquals(1L, stats.getCompleted());
+        } finally {
+            block.countDown();
+            assertTrue(ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS));
+        }
+    }
+
     public void testVirtualThreadPoolRegistersNoSettings() {
         assertTrue(new VirtualExecutorBuilder(POOL_NAME).getRegisteredSettings().isEmpty());
     }
@@ -46,6 +46,7 @@ import org.opensearch.common.util.io.Streams;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.breaker.CircuitBreaker;
 import org.opensearch.core.common.breaker.NoopCircuitBreaker;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.transport.TransportResponse;
@@ -186,6 +187,49 @@ public class NativeOutboundHandlerTests extends OpenSearchTestCase {
         assertEquals("header_value", header.getHeaders().v1().get("header"));
     }
 
+    public void testSendRequestCompressedWithZstd() throws IOException {
+        StatsTracker statsTracker = new StatsTracker();
+        NativeOutboundHandler zstdOutboundHandler = new NativeOutboundHandler(
+            "node",
+            Version.CURRENT,
+            new String[0],
+            statsTracker,
+            threadPool,
+            BigArrays.NON_RECYCLING_INSTANCE,
+            new OutboundHandler(statsTracker, threadPool, TransportCompressionScheme.ZSTD)
+        );
+        Version version = randomFrom(Version.CURRENT, Version.CURRENT.minimumCompatibilityVersion());
+        String action = "internal:test/action";
+        String value = randomAlphaOfLength(1000);
+        TestRequest request = new TestRequest(value);
+        zstdOutboundHandler.sendRequest(node, channel, randomLongBetween(0, 300), action, request, options, version, true, false);
+
+        BytesReference reference = channel.getMessageCaptor().get();
+        boolean zstdCompressed = containsZstdHeader(reference);
+        assertEquals(version.onOrAfter(TransportCompressionScheme.ZSTD_MIN_VERSION), zstdCompressed);
+
+        pipeline.handleBytes(channel, new ReleasableBytesReference(reference, () -> {}));
+        final Tuple<Header, BytesReference> tuple = message.get();
+        assertTrue(tuple.v1().isCompressed());
+        assertEquals(value, new TestRequest(tuple.v2().streamInput()).getValue());
+
+        TransportStats.CompressionStats compressionStats = statsTracker.getCompressionStats().get(action);
+        assertEquals(1, compressionStats.getTxCount());
+        assertTrue(compressionStats.getUncompressedSize().getBytes() > value.length());
+        assertTrue(compressionStats.getCompressedSize().getBytes() > 0);
+        assertTrue(compressionStats.getCompressedSize().getBytes() < reference.length());
+    }
+
+    private static boolean containsZstdHeader(BytesReference reference) {
+        final BytesReference header = new BytesArray(new byte[] { 'Z', 'S', 'T', 'D', '\0' });
+        for (int i = 0; i + header.length() <= reference.length(); i++) {
+            if (reference.slice(i, header.length()).equals(header)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public void testSendResponse() throws IOException {
         ThreadContext threadContext = threadPool.getThreadContext();
         Version version = randomFrom(Version.CURRENT, Version.CURRENT.minimumCompatibilityVersion());
@@ -37,6 +37,7 @@ import org.opensearch.common.io.Streams;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.common.lease.Releasables;
 import org.opensearch.common.util.PageCacheRecycler;
+import org.opensearch.compress.ZstdCompressor;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.common.bytes.CompositeBytesReference;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -150,5 +151,74 @@ public class TransportDecompressorTests extends OpenSearchTestCase {
 
         }
     }
+    public void testZstdCompression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput zstdStream = new OutputStreamStreamOutput(
+                    CompressorRegistry.getCompressor(ZstdCompressor.NAME).threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 10000; ++i) {
+                    zstdStream.writeInt(i);
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int headerLength = CompressorRegistry.getCompressor(ZstdCompressor.NAME).headerLength();
+            assertFalse(decompressor.canDecompress(headerLength - 1));
+            assertTrue(decompressor.canDecompress(headerLength));
+            int bytesConsumed = decompressor.decompress(bytes);
+            assertEquals(bytes.length(), bytesConsumed);
+            assertTrue(decompressor.isEOS());
+            ReleasableBytesReference reference1 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference2 = decompressor.pollDecompressedPage();
+            ReleasableBytesReference reference3 = decompressor.pollDecompressedPage();
+            assertNull(decompressor.pollDecompressedPage());
+            BytesReference composite = CompositeBytesReference.of(reference1, reference2, reference3);
+            assertEquals(4 * 10000, composite.length());
+            StreamInput streamInput = composite.streamInput();
+            for (int i = 0; i < 10000; ++i) {
+                assertEquals(i, streamInput.readInt());
+            }
+            Releasables.close(reference1, reference2, reference3);
+            decompressor.close();
+        }
+    }
+
+    public void testIncrementalZstdCompression() throws IOException {
+        try (BytesStreamOutput output = new BytesStreamOutput()) {
+            try (
+                StreamOutput zstdStream = new OutputStreamStreamOutput(
+                    CompressorRegistry.getCompressor(ZstdCompressor.NAME).threadLocalOutputStream(Streams.flushOnCloseStream(output))
+                )
+            ) {
+                for (int i = 0; i < 100000; ++i) {
+                    zstdStream.writeInt(randomInt());
+                }
+            }
+
+            BytesReference bytes = output.bytes();
+
+            TransportDecompressor decompressor = new TransportDecompressor(PageCacheRecycler.NON_RECYCLING_INSTANCE);
+            int offset = 0;
+            while (offset < bytes.length()) {
+                assertFalse(decompressor.isEOS());
+                int length = Math.min(bytes.length() - offset, randomIntBetween(8, 50000));
+                assertEquals(length, decompressor.decompress(bytes.slice(offset, length)));
+                offset += length;
+            }
+            assertTrue(decompressor.isEOS());
+            long decompressed = 0;
+            ReleasableBytesReference reference;
+            while ((reference = decompressor.pollDecompressedPage()) != null) {
+                decompressed += reference.length();
+                reference.close();
+            }
+            assertEquals(4 * 100000, decompressed);
+            decompressor.close();
+        }
+    }
 
 }